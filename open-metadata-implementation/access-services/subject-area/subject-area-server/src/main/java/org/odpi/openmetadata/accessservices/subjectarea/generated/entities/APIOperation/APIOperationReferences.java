@@ -0,0 +1,755 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.accessservices.subjectarea.generated.entities.APIOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.line.Line;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.APIOperationToSchemaType.ApiResponseReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIResponse.APIResponse;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIResponse.APIResponseMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.APIOperationToAPISchemaType.UsedInReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIOperations.APIOperations;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIOperations.APIOperationsMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.APIOperationToSchemaType.ApiHeaderReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIHeader.APIHeader;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIHeader.APIHeaderMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.APIOperationToSchemaType.ApiRequestReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIRequest.APIRequest;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIRequest.APIRequestMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToPerson.StaffReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.StaffAssignment.StaffAssignment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.StaffAssignment.StaffAssignmentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToExternalId.ManagedResourcesReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdScope.ExternalIdScope;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdScope.ExternalIdScopeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToRating.StarRatingsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedRating.AttachedRating;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedRating.AttachedRatingMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToComment.CommentsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedComment.AttachedComment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedComment.AttachedCommentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToExternalId.AlsoKnownAsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdLink.ExternalIdLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdLink.ExternalIdLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToCertificationType.CertificationsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Certification.Certification;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Certification.CertificationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToRelatedMedia.RelatedMediaReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MediaReference.MediaReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MediaReference.MediaReferenceMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToActorProfile.ContributorsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Contributor.Contributor;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Contributor.ContributorMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToInformalTag.TagsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedTag.AttachedTag;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedTag.AttachedTagMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToLicenseType.LicensesReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.License.License;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.License.LicenseMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToCommunity.CommunityUsesReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CommunityResources.CommunityResources;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CommunityResources.CommunityResourcesMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToProject.ProjectsImpactingAssetsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectScope.ProjectScope;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectScope.ProjectScopeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToPropertyFacet.FacetsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ReferenceableFacet.ReferenceableFacet;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ReferenceableFacet.ReferenceableFacetMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToNoteLog.NoteLogsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedNoteLog.AttachedNoteLog;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedNoteLog.AttachedNoteLogMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToProject.ProjectUseReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectResources.ProjectResources;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectResources.ProjectResourcesMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToToDo.ActionsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoSource.ToDoSource;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoSource.ToDoSourceMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToToDo.TodosReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoOnReferenceable.ToDoOnReferenceable;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoOnReferenceable.ToDoOnReferenceableMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToGlossaryTerm.MeaningReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SemanticAssignment.SemanticAssignment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SemanticAssignment.SemanticAssignmentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToExternalReference.ExternalReferenceReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalReferenceLink.ExternalReferenceLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalReferenceLink.ExternalReferenceLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToMeeting.MeetingsReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MeetingOnReferenceable.MeetingOnReferenceable;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MeetingOnReferenceable.MeetingOnReferenceableMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.references.ReferenceableToLike.LikesReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedLike.AttachedLike;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedLike.AttachedLikeMapper;
+
+import java.io.Serializable;
+import java.util.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ *
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class APIOperationReferences implements Serializable {
+    private static final Logger log = LoggerFactory.getLogger(APIOperationReferences.class);
+    private static final String className = APIOperationReferences.class.getName();
+
+    public static final String[] REFERENCE_NAMES_SET_VALUES = new String[] {
+             "apiResponse",
+             "usedIn",
+             "apiHeader",
+             "apiRequest",
+             "staff",
+             "managedResources",
+             "starRatings",
+             "comments",
+             "alsoKnownAs",
+             "certifications",
+             "relatedMedia",
+             "contributors",
+             "tags",
+             "licenses",
+             "communityUses",
+             "projectsImpactingAssets",
+             "facets",
+             "noteLogs",
+             "projectUse",
+             "actions",
+             "todos",
+             "meaning",
+             "externalReference",
+             "meetings",
+             "likes",
+             // Terminate the list
+             null
+    };
+
+     public static final String[] RELATIONSHIP_NAMES_SET_VALUES = new String[] {
+             "APIResponse",
+             "APIOperations",
+             "APIHeader",
+             "APIRequest",
+             "StaffAssignment",
+             "ExternalIdScope",
+             "AttachedRating",
+             "AttachedComment",
+             "ExternalIdLink",
+             "Certification",
+             "MediaReference",
+             "Contributor",
+             "AttachedTag",
+             "License",
+             "CommunityResources",
+             "ProjectScope",
+             "ReferenceableFacet",
+             "AttachedNoteLog",
+             "ProjectResources",
+             "ToDoSource",
+             "ToDoOnReferenceable",
+             "SemanticAssignment",
+             "ExternalReferenceLink",
+             "MeetingOnReferenceable",
+             "AttachedLike",
+              // Terminate the list
+              null
+     };
+     /**
+       * We are passed a set of omrs relationships that are associated with a entity APIOperation
+       * Each of these relationships should map to a reference (a uniquely named attribute in APIOperation).
+       *
+       * Relationships have cardinality. There are 2 sorts of cardinality relevant here, whether the relationship can be related to one or many
+       * entities.
+       *
+       * @param lines
+       * @param entityGuid
+       * @throws InvalidParameterException
+       */
+     public APIOperationReferences(String entityGuid, Set<Line> lines) throws InvalidParameterException {
+
+        if (lines !=null) {
+         for (Line relationship: lines) {
+            for (int i=0;i< RELATIONSHIP_NAMES_SET_VALUES.length; i++) {
+               if (relationship.getName().equals(RELATIONSHIP_NAMES_SET_VALUES[i])) {
+                    String referenceName = REFERENCE_NAMES_SET_VALUES[i];
+
+                    if ("usedIn".equals(referenceName)) {
+                         APIOperations aPIOperations_relationship = (APIOperations)relationship;
+                         UsedInReference usedInReference = new UsedInReference(entityGuid,aPIOperations_relationship);
+                         if ( usedIn== null ) {
+                              usedIn = new HashSet();
+                         }
+                          usedIn.add(usedInReference);
+                    }
+                    if ("apiHeader".equals(referenceName)) {
+                         APIHeader aPIHeader_relationship = (APIHeader)relationship;
+                         ApiHeaderReference apiHeaderReference = new ApiHeaderReference(entityGuid,aPIHeader_relationship);
+                         if ( apiHeader== null ) {
+                              apiHeader = new HashSet();
+                         }
+                          apiHeader.add(apiHeaderReference);
+                    }
+                    if ("staff".equals(referenceName)) {
+                         StaffAssignment staffAssignment_relationship = (StaffAssignment)relationship;
+                         StaffReference staffReference = new StaffReference(entityGuid,staffAssignment_relationship);
+                         if ( staff== null ) {
+                              staff = new HashSet();
+                         }
+                          staff.add(staffReference);
+                    }
+                    if ("managedResources".equals(referenceName)) {
+                         ExternalIdScope externalIdScope_relationship = (ExternalIdScope)relationship;
+                         ManagedResourcesReference managedResourcesReference = new ManagedResourcesReference(entityGuid,externalIdScope_relationship);
+                         if ( managedResources== null ) {
+                              managedResources = new HashSet();
+                         }
+                          managedResources.add(managedResourcesReference);
+                    }
+                    if ("starRatings".equals(referenceName)) {
+                         AttachedRating attachedRating_relationship = (AttachedRating)relationship;
+                         StarRatingsReference starRatingsReference = new StarRatingsReference(entityGuid,attachedRating_relationship);
+                         if ( starRatings== null ) {
+                              starRatings = new HashSet();
+                         }
+                          starRatings.add(starRatingsReference);
+                    }
+                    if ("comments".equals(referenceName)) {
+                         AttachedComment attachedComment_relationship = (AttachedComment)relationship;
+                         CommentsReference commentsReference = new CommentsReference(entityGuid,attachedComment_relationship);
+                         if ( comments== null ) {
+                              comments = new HashSet();
+                         }
+                          comments.add(commentsReference);
+                    }
+                    if ("alsoKnownAs".equals(referenceName)) {
+                         ExternalIdLink externalIdLink_relationship = (ExternalIdLink)relationship;
+                         AlsoKnownAsReference alsoKnownAsReference = new AlsoKnownAsReference(entityGuid,externalIdLink_relationship);
+                         if ( alsoKnownAs== null ) {
+                              alsoKnownAs = new HashSet();
+                         }
+                          alsoKnownAs.add(alsoKnownAsReference);
+                    }
+                    if ("certifications".equals(referenceName)) {
+                         Certification certification_relationship = (Certification)relationship;
+                         CertificationsReference certificationsReference = new CertificationsReference(entityGuid,certification_relationship);
+                         if ( certifications== null ) {
+                              certifications = new HashSet();
+                         }
+                          certifications.add(certificationsReference);
+                    }
+                    if ("relatedMedia".equals(referenceName)) {
+                         MediaReference mediaReference_relationship = (MediaReference)relationship;
+                         RelatedMediaReference relatedMediaReference = new RelatedMediaReference(entityGuid,mediaReference_relationship);
+                         if ( relatedMedia== null ) {
+                              relatedMedia = new HashSet();
+                         }
+                          relatedMedia.add(relatedMediaReference);
+                    }
+                    if ("contributors".equals(referenceName)) {
+                         Contributor contributor_relationship = (Contributor)relationship;
+                         ContributorsReference contributorsReference = new ContributorsReference(entityGuid,contributor_relationship);
+                         if ( contributors== null ) {
+                              contributors = new HashSet();
+                         }
+                          contributors.add(contributorsReference);
+                    }
+                    if ("tags".equals(referenceName)) {
+                         AttachedTag attachedTag_relationship = (AttachedTag)relationship;
+                         TagsReference tagsReference = new TagsReference(entityGuid,attachedTag_relationship);
+                         if ( tags== null ) {
+                              tags = new HashSet();
+                         }
+                          tags.add(tagsReference);
+                    }
+                    if ("licenses".equals(referenceName)) {
+                         License license_relationship = (License)relationship;
+                         LicensesReference licensesReference = new LicensesReference(entityGuid,license_relationship);
+                         if ( licenses== null ) {
+                              licenses = new HashSet();
+                         }
+                          licenses.add(licensesReference);
+                    }
+                    if ("communityUses".equals(referenceName)) {
+                         CommunityResources communityResources_relationship = (CommunityResources)relationship;
+                         CommunityUsesReference communityUsesReference = new CommunityUsesReference(entityGuid,communityResources_relationship);
+                         if ( communityUses== null ) {
+                              communityUses = new HashSet();
+                         }
+                          communityUses.add(communityUsesReference);
+                    }
+                    if ("projectsImpactingAssets".equals(referenceName)) {
+                         ProjectScope projectScope_relationship = (ProjectScope)relationship;
+                         ProjectsImpactingAssetsReference projectsImpactingAssetsReference = new ProjectsImpactingAssetsReference(entityGuid,projectScope_relationship);
+                         if ( projectsImpactingAssets== null ) {
+                              projectsImpactingAssets = new HashSet();
+                         }
+                          projectsImpactingAssets.add(projectsImpactingAssetsReference);
+                    }
+                    if ("facets".equals(referenceName)) {
+                         ReferenceableFacet referenceableFacet_relationship = (ReferenceableFacet)relationship;
+                         FacetsReference facetsReference = new FacetsReference(entityGuid,referenceableFacet_relationship);
+                         if ( facets== null ) {
+                              facets = new HashSet();
+                         }
+                          facets.add(facetsReference);
+                    }
+                    if ("noteLogs".equals(referenceName)) {
+                         AttachedNoteLog attachedNoteLog_relationship = (AttachedNoteLog)relationship;
+                         NoteLogsReference noteLogsReference = new NoteLogsReference(entityGuid,attachedNoteLog_relationship);
+                         if ( noteLogs== null ) {
+                              noteLogs = new HashSet();
+                         }
+                          noteLogs.add(noteLogsReference);
+                    }
+                    if ("projectUse".equals(referenceName)) {
+                         ProjectResources projectResources_relationship = (ProjectResources)relationship;
+                         ProjectUseReference projectUseReference = new ProjectUseReference(entityGuid,projectResources_relationship);
+                         if ( projectUse== null ) {
+                              projectUse = new HashSet();
+                         }
+                          projectUse.add(projectUseReference);
+                    }
+                    if ("actions".equals(referenceName)) {
+                         ToDoSource toDoSource_relationship = (ToDoSource)relationship;
+                         ActionsReference actionsReference = new ActionsReference(entityGuid,toDoSource_relationship);
+                         if ( actions== null ) {
+                              actions = new HashSet();
+                         }
+                          actions.add(actionsReference);
+                    }
+                    if ("todos".equals(referenceName)) {
+                         ToDoOnReferenceable toDoOnReferenceable_relationship = (ToDoOnReferenceable)relationship;
+                         TodosReference todosReference = new TodosReference(entityGuid,toDoOnReferenceable_relationship);
+                         if ( todos== null ) {
+                              todos = new HashSet();
+                         }
+                          todos.add(todosReference);
+                    }
+                    if ("meaning".equals(referenceName)) {
+                         SemanticAssignment semanticAssignment_relationship = (SemanticAssignment)relationship;
+                         MeaningReference meaningReference = new MeaningReference(entityGuid,semanticAssignment_relationship);
+                         if ( meaning== null ) {
+                              meaning = new HashSet();
+                         }
+                          meaning.add(meaningReference);
+                    }
+                    if ("externalReference".equals(referenceName)) {
+                         ExternalReferenceLink externalReferenceLink_relationship = (ExternalReferenceLink)relationship;
+                         ExternalReferenceReference externalReferenceReference = new ExternalReferenceReference(entityGuid,externalReferenceLink_relationship);
+                         if ( externalReference== null ) {
+                              externalReference = new HashSet();
+                         }
+                          externalReference.add(externalReferenceReference);
+                    }
+                    if ("meetings".equals(referenceName)) {
+                         MeetingOnReferenceable meetingOnReferenceable_relationship = (MeetingOnReferenceable)relationship;
+                         MeetingsReference meetingsReference = new MeetingsReference(entityGuid,meetingOnReferenceable_relationship);
+                         if ( meetings== null ) {
+                              meetings = new HashSet();
+                         }
+                          meetings.add(meetingsReference);
+                    }
+                    if ("likes".equals(referenceName)) {
+                         AttachedLike attachedLike_relationship = (AttachedLike)relationship;
+                         LikesReference likesReference = new LikesReference(entityGuid,attachedLike_relationship);
+                         if ( likes== null ) {
+                              likes = new HashSet();
+                         }
+                          likes.add(likesReference);
+                    }
+
+                    if ("apiResponse".equals(referenceName)) {
+                         APIResponse aPIResponse_relationship = (APIResponse)relationship;
+                         apiResponse = new ApiResponseReference(entityGuid, aPIResponse_relationship);
+                    }
+                    if ("apiRequest".equals(referenceName)) {
+                         APIRequest aPIRequest_relationship = (APIRequest)relationship;
+                         apiRequest = new ApiRequestReference(entityGuid, aPIRequest_relationship);
+                    }
+                 }
+             }
+         }
+        }
+     }
+
+    public static final Set<String> REFERENCE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(REFERENCE_NAMES_SET_VALUES)));
+    // there may be duplicate strings in RELATIONSHIP_NAMES_SET_VALUES, the following line deduplicates the Strings into a Set.
+    public static final Set<String> RELATIONSHIP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(RELATIONSHIP_NAMES_SET_VALUES)));
+// Singular properties
+    private ApiResponseReference apiResponse;
+    private ApiRequestReference apiRequest;
+// Set properties
+
+    private Set<UsedInReference> usedIn;
+    private Set<ApiHeaderReference> apiHeader;
+    private Set<StaffReference> staff;
+    private Set<ManagedResourcesReference> managedResources;
+    private Set<StarRatingsReference> starRatings;
+    private Set<CommentsReference> comments;
+    private Set<AlsoKnownAsReference> alsoKnownAs;
+    private Set<CertificationsReference> certifications;
+    private Set<RelatedMediaReference> relatedMedia;
+    private Set<ContributorsReference> contributors;
+    private Set<TagsReference> tags;
+    private Set<LicensesReference> licenses;
+    private Set<CommunityUsesReference> communityUses;
+    private Set<ProjectsImpactingAssetsReference> projectsImpactingAssets;
+    private Set<FacetsReference> facets;
+    private Set<NoteLogsReference> noteLogs;
+    private Set<ProjectUseReference> projectUse;
+    private Set<ActionsReference> actions;
+    private Set<TodosReference> todos;
+    private Set<MeaningReference> meaning;
+    private Set<ExternalReferenceReference> externalReference;
+    private Set<MeetingsReference> meetings;
+    private Set<LikesReference> likes;
+
+// List properties
+
+    // setters and setters
+    public ApiResponseReference getApiResponseReference() {
+        return apiResponse;   }
+
+    public void setApiResponseReference(ApiResponseReference apiResponse) {
+        this.apiResponse = apiResponse; }
+    public ApiRequestReference getApiRequestReference() {
+        return apiRequest;   }
+
+    public void setApiRequestReference(ApiRequestReference apiRequest) {
+        this.apiRequest = apiRequest; }
+
+// Sets
+    public Set<UsedInReference> getUsedInReferences() {
+        return usedIn;
+    }
+
+    public void setUsedInReferences(Set<UsedInReference> usedIn) {
+        this.usedIn =usedIn;
+    }
+    public Set<ApiHeaderReference> getApiHeaderReferences() {
+        return apiHeader;
+    }
+
+    public void setApiHeaderReferences(Set<ApiHeaderReference> apiHeader) {
+        this.apiHeader =apiHeader;
+    }
+    public Set<StaffReference> getStaffReferences() {
+        return staff;
+    }
+
+    public void setStaffReferences(Set<StaffReference> staff) {
+        this.staff =staff;
+    }
+    public Set<ManagedResourcesReference> getManagedResourcesReferences() {
+        return managedResources;
+    }
+
+    public void setManagedResourcesReferences(Set<ManagedResourcesReference> managedResources) {
+        this.managedResources =managedResources;
+    }
+    public Set<StarRatingsReference> getStarRatingsReferences() {
+        return starRatings;
+    }
+
+    public void setStarRatingsReferences(Set<StarRatingsReference> starRatings) {
+        this.starRatings =starRatings;
+    }
+    public Set<CommentsReference> getCommentsReferences() {
+        return comments;
+    }
+
+    public void setCommentsReferences(Set<CommentsReference> comments) {
+        this.comments =comments;
+    }
+    public Set<AlsoKnownAsReference> getAlsoKnownAsReferences() {
+        return alsoKnownAs;
+    }
+
+    public void setAlsoKnownAsReferences(Set<AlsoKnownAsReference> alsoKnownAs) {
+        this.alsoKnownAs =alsoKnownAs;
+    }
+    public Set<CertificationsReference> getCertificationsReferences() {
+        return certifications;
+    }
+
+    public void setCertificationsReferences(Set<CertificationsReference> certifications) {
+        this.certifications =certifications;
+    }
+    public Set<RelatedMediaReference> getRelatedMediaReferences() {
+        return relatedMedia;
+    }
+
+    public void setRelatedMediaReferences(Set<RelatedMediaReference> relatedMedia) {
+        this.relatedMedia =relatedMedia;
+    }
+    public Set<ContributorsReference> getContributorsReferences() {
+        return contributors;
+    }
+
+    public void setContributorsReferences(Set<ContributorsReference> contributors) {
+        this.contributors =contributors;
+    }
+    public Set<TagsReference> getTagsReferences() {
+        return tags;
+    }
+
+    public void setTagsReferences(Set<TagsReference> tags) {
+        this.tags =tags;
+    }
+    public Set<LicensesReference> getLicensesReferences() {
+        return licenses;
+    }
+
+    public void setLicensesReferences(Set<LicensesReference> licenses) {
+        this.licenses =licenses;
+    }
+    public Set<CommunityUsesReference> getCommunityUsesReferences() {
+        return communityUses;
+    }
+
+    public void setCommunityUsesReferences(Set<CommunityUsesReference> communityUses) {
+        this.communityUses =communityUses;
+    }
+    public Set<ProjectsImpactingAssetsReference> getProjectsImpactingAssetsReferences() {
+        return projectsImpactingAssets;
+    }
+
+    public void setProjectsImpactingAssetsReferences(Set<ProjectsImpactingAssetsReference> projectsImpactingAssets) {
+        this.projectsImpactingAssets =projectsImpactingAssets;
+    }
+    public Set<FacetsReference> getFacetsReferences() {
+        return facets;
+    }
+
+    public void setFacetsReferences(Set<FacetsReference> facets) {
+        this.facets =facets;
+    }
+    public Set<NoteLogsReference> getNoteLogsReferences() {
+        return noteLogs;
+    }
+
+    public void setNoteLogsReferences(Set<NoteLogsReference> noteLogs) {
+        this.noteLogs =noteLogs;
+    }
+    public Set<ProjectUseReference> getProjectUseReferences() {
+        return projectUse;
+    }
+
+    public void setProjectUseReferences(Set<ProjectUseReference> projectUse) {
+        this.projectUse =projectUse;
+    }
+    public Set<ActionsReference> getActionsReferences() {
+        return actions;
+    }
+
+    public void setActionsReferences(Set<ActionsReference> actions) {
+        this.actions =actions;
+    }
+    public Set<TodosReference> getTodosReferences() {
+        return todos;
+    }
+
+    public void setTodosReferences(Set<TodosReference> todos) {
+        this.todos =todos;
+    }
+    public Set<MeaningReference> getMeaningReferences() {
+        return meaning;
+    }
+
+    public void setMeaningReferences(Set<MeaningReference> meaning) {
+        this.meaning =meaning;
+    }
+    public Set<ExternalReferenceReference> getExternalReferenceReferences() {
+        return externalReference;
+    }
+
+    public void setExternalReferenceReferences(Set<ExternalReferenceReference> externalReference) {
+        this.externalReference =externalReference;
+    }
+    public Set<MeetingsReference> getMeetingsReferences() {
+        return meetings;
+    }
+
+    public void setMeetingsReferences(Set<MeetingsReference> meetings) {
+        this.meetings =meetings;
+    }
+    public Set<LikesReference> getLikesReferences() {
+        return likes;
+    }
+
+    public void setLikesReferences(Set<LikesReference> likes) {
+        this.likes =likes;
+    }
+
+// Lists
+
+ public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("APIOperationReferences{");
+        sb.append("usedInReference='").append(usedIn.toString());
+        sb.append("apiHeaderReference='").append(apiHeader.toString());
+        sb.append("staffReference='").append(staff.toString());
+        sb.append("managedResourcesReference='").append(managedResources.toString());
+        sb.append("starRatingsReference='").append(starRatings.toString());
+        sb.append("commentsReference='").append(comments.toString());
+        sb.append("alsoKnownAsReference='").append(alsoKnownAs.toString());
+        sb.append("certificationsReference='").append(certifications.toString());
+        sb.append("relatedMediaReference='").append(relatedMedia.toString());
+        sb.append("contributorsReference='").append(contributors.toString());
+        sb.append("tagsReference='").append(tags.toString());
+        sb.append("licensesReference='").append(licenses.toString());
+        sb.append("communityUsesReference='").append(communityUses.toString());
+        sb.append("projectsImpactingAssetsReference='").append(projectsImpactingAssets.toString());
+        sb.append("facetsReference='").append(facets.toString());
+        sb.append("noteLogsReference='").append(noteLogs.toString());
+        sb.append("projectUseReference='").append(projectUse.toString());
+        sb.append("actionsReference='").append(actions.toString());
+        sb.append("todosReference='").append(todos.toString());
+        sb.append("meaningReference='").append(meaning.toString());
+        sb.append("externalReferenceReference='").append(externalReference.toString());
+        sb.append("meetingsReference='").append(meetings.toString());
+        sb.append("likesReference='").append(likes.toString());
+        sb.append("apiResponseReference='").append(apiResponse.toString());
+        sb.append("apiRequestReference='").append(apiRequest.toString());
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        if (!super.equals(o)) { return false; }
+         APIOperationReferences typedThat = (APIOperationReferences) o;
+      // compare single cardinality attributes
+         if (this.apiResponse != null && !Objects.equals(this.apiResponse,typedThat.apiResponse)) {
+                            return false;
+                 }
+         if (this.usedIn != null && !Objects.equals(this.usedIn,typedThat.usedIn)) {
+                            return false;
+                 }
+         if (this.apiHeader != null && !Objects.equals(this.apiHeader,typedThat.apiHeader)) {
+                            return false;
+                 }
+         if (this.apiRequest != null && !Objects.equals(this.apiRequest,typedThat.apiRequest)) {
+                            return false;
+                 }
+         if (this.staff != null && !Objects.equals(this.staff,typedThat.staff)) {
+                            return false;
+                 }
+         if (this.managedResources != null && !Objects.equals(this.managedResources,typedThat.managedResources)) {
+                            return false;
+                 }
+         if (this.starRatings != null && !Objects.equals(this.starRatings,typedThat.starRatings)) {
+                            return false;
+                 }
+         if (this.comments != null && !Objects.equals(this.comments,typedThat.comments)) {
+                            return false;
+                 }
+         if (this.alsoKnownAs != null && !Objects.equals(this.alsoKnownAs,typedThat.alsoKnownAs)) {
+                            return false;
+                 }
+         if (this.certifications != null && !Objects.equals(this.certifications,typedThat.certifications)) {
+                            return false;
+                 }
+         if (this.relatedMedia != null && !Objects.equals(this.relatedMedia,typedThat.relatedMedia)) {
+                            return false;
+                 }
+         if (this.contributors != null && !Objects.equals(this.contributors,typedThat.contributors)) {
+                            return false;
+                 }
+         if (this.tags != null && !Objects.equals(this.tags,typedThat.tags)) {
+                            return false;
+                 }
+         if (this.licenses != null && !Objects.equals(this.licenses,typedThat.licenses)) {
+                            return false;
+                 }
+         if (this.communityUses != null && !Objects.equals(this.communityUses,typedThat.communityUses)) {
+                            return false;
+                 }
+         if (this.projectsImpactingAssets != null && !Objects.equals(this.projectsImpactingAssets,typedThat.projectsImpactingAssets)) {
+                            return false;
+                 }
+         if (this.facets != null && !Objects.equals(this.facets,typedThat.facets)) {
+                            return false;
+                 }
+         if (this.noteLogs != null && !Objects.equals(this.noteLogs,typedThat.noteLogs)) {
+                            return false;
+                 }
+         if (this.projectUse != null && !Objects.equals(this.projectUse,typedThat.projectUse)) {
+                            return false;
+                 }
+         if (this.actions != null && !Objects.equals(this.actions,typedThat.actions)) {
+                            return false;
+                 }
+         if (this.todos != null && !Objects.equals(this.todos,typedThat.todos)) {
+                            return false;
+                 }
+         if (this.meaning != null && !Objects.equals(this.meaning,typedThat.meaning)) {
+                            return false;
+                 }
+         if (this.externalReference != null && !Objects.equals(this.externalReference,typedThat.externalReference)) {
+                            return false;
+                 }
+         if (this.meetings != null && !Objects.equals(this.meetings,typedThat.meetings)) {
+                            return false;
+                 }
+         if (this.likes != null && !Objects.equals(this.likes,typedThat.likes)) {
+                            return false;
+                 }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode()
+    ,this.apiResponse
+    ,this.usedIn
+    ,this.apiHeader
+    ,this.apiRequest
+    ,this.staff
+    ,this.managedResources
+    ,this.starRatings
+    ,this.comments
+    ,this.alsoKnownAs
+    ,this.certifications
+    ,this.relatedMedia
+    ,this.contributors
+    ,this.tags
+    ,this.licenses
+    ,this.communityUses
+    ,this.projectsImpactingAssets
+    ,this.facets
+    ,this.noteLogs
+    ,this.projectUse
+    ,this.actions
+    ,this.todos
+    ,this.meaning
+    ,this.externalReference
+    ,this.meetings
+    ,this.likes
+       );
+    }
+
+    @Override
+    public String toString() {
+        return toString(new StringBuilder()).toString();
+    }
+}
@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIHeader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.enums.*;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+//omrs beans
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.line.Line;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.line.LineType;
+
+/**
+ * APIHeader is a relationship between an entity of type APIOperation and an entity of type SchemaType.
+ * The ends of the relationship are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has usedAsAPIHeader as the proxy name for entity type APIOperation.
+ * The second entity proxy has apiHeader as the proxy name for entity type SchemaType.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Link between an API operation and its header.
+ */
+public class APIHeader extends Line {
+    private static final Logger log = LoggerFactory.getLogger(APIHeader.class);
+    private static final String className = APIHeader.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      public static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+
+      // Terminate the list
+          null
+      };
+      public static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+
+       // Terminate the list
+          null
+      };
+      public static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      public static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      public static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      public static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      public static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      public static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    
+    public APIHeader() {
+       name = "APIHeader";
+       // set the LineType if this is a LineType enum value.
+       try {
+           lineType = LineType.valueOf(name);
+        }
+        catch (IllegalArgumentException e) {
+           lineType = LineType.Other;
+        }
+        entity1Name = "usedAsAPIHeader";
+        entity1Type = "APIOperation";
+        entity2Name = "apiHeader";
+        entity2Type = "SchemaType";
+        typeDefGuid = "e8fb46d1-5f75-481b-aa66-f43ad44e2cc6";
+    }
+
+    public APIHeader(Relationship omrsRelationship) {
+        super(omrsRelationship);
+        name = "APIHeader";
+       // set the LineType if this is a LineType enum value.
+       try {
+           lineType = LineType.valueOf(name);
+        }
+        catch (IllegalArgumentException e) {
+           lineType = LineType.Other;
+        }
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+}
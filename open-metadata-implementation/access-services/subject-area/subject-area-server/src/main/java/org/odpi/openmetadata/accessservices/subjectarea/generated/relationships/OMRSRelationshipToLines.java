@@ -0,0 +1,684 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.accessservices.subjectarea.generated.relationships;
+
+import org.odpi.openmetadata.accessservices.subjectarea.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.accessservices.subjectarea.properties.objects.line.Line;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.UsedInContext.UsedInContext;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.UsedInContext.UsedInContextMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Leadership.Leadership;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Leadership.LeadershipMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedComment.AttachedComment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedComment.AttachedCommentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ContactThrough.ContactThrough;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ContactThrough.ContactThroughMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.License.License;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.License.LicenseMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ZoneGovernance.ZoneGovernance;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ZoneGovernance.ZoneGovernanceMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.FolderHierarchy.FolderHierarchy;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.FolderHierarchy.FolderHierarchyMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostClusterMember.HostClusterMember;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostClusterMember.HostClusterMemberMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LibraryCategoryReference.LibraryCategoryReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LibraryCategoryReference.LibraryCategoryReferenceMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectCharterLink.ProjectCharterLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectCharterLink.ProjectCharterLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProfileIdentity.ProfileIdentity;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProfileIdentity.ProfileIdentityMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoSource.ToDoSource;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoSource.ToDoSourceMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Translation.Translation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Translation.TranslationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaLinkToType.SchemaLinkToType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaLinkToType.SchemaLinkToTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CommunityResources.CommunityResources;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CommunityResources.CommunityResourcesMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.DataContentForDataSet.DataContentForDataSet;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.DataContentForDataSet.DataContentForDataSetMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ServerEndpoint.ServerEndpoint;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ServerEndpoint.ServerEndpointMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdLink.ExternalIdLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdLink.ExternalIdLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CategoryHierarchyLink.CategoryHierarchyLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CategoryHierarchyLink.CategoryHierarchyLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.PreferredTerm.PreferredTerm;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.PreferredTerm.PreferredTermMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectHierarchy.ProjectHierarchy;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectHierarchy.ProjectHierarchyMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.DeployedVirtualContainer.DeployedVirtualContainer;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.DeployedVirtualContainer.DeployedVirtualContainerMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectMeeting.ProjectMeeting;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectMeeting.ProjectMeetingMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceResults.GovernanceResults;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceResults.GovernanceResultsMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIResponse.APIResponse;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIResponse.APIResponseMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ServerSupportedCapability.ServerSupportedCapability;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ServerSupportedCapability.ServerSupportedCapabilityMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostNetwork.HostNetwork;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostNetwork.HostNetworkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttributeForSchema.AttributeForSchema;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttributeForSchema.AttributeForSchemaMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AssetLocation.AssetLocation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AssetLocation.AssetLocationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaAttributeType.SchemaAttributeType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaAttributeType.SchemaAttributeTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceImplementation.GovernanceImplementation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceImplementation.GovernanceImplementationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LinkedMedia.LinkedMedia;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LinkedMedia.LinkedMediaMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MapToElementType.MapToElementType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MapToElementType.MapToElementTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternallySourcedGlossary.ExternallySourcedGlossary;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternallySourcedGlossary.ExternallySourcedGlossaryMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalReferenceLink.ExternalReferenceLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalReferenceLink.ExternalReferenceLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MediaReference.MediaReference;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MediaReference.MediaReferenceMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CommunityMembership.CommunityMembership;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CommunityMembership.CommunityMembershipMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdScope.ExternalIdScope;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ExternalIdScope.ExternalIdScopeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ValidValue.ValidValue;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ValidValue.ValidValueMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AcceptedAnswer.AcceptedAnswer;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AcceptedAnswer.AcceptedAnswerMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceDefinitionMetric.GovernanceDefinitionMetric;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceDefinitionMetric.GovernanceDefinitionMetricMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaQueryImplementation.SchemaQueryImplementation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaQueryImplementation.SchemaQueryImplementationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AssetSchemaType.AssetSchemaType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AssetSchemaType.AssetSchemaTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectDependency.ProjectDependency;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectDependency.ProjectDependencyMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TopicSubscribers.TopicSubscribers;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TopicSubscribers.TopicSubscribersMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ReplacementTerm.ReplacementTerm;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ReplacementTerm.ReplacementTermMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.OrganizationalCapability.OrganizationalCapability;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.OrganizationalCapability.OrganizationalCapabilityMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MetadataCohortPeer.MetadataCohortPeer;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MetadataCohortPeer.MetadataCohortPeerMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedNoteLogEntry.AttachedNoteLogEntry;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedNoteLogEntry.AttachedNoteLogEntryMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AssetServerUse.AssetServerUse;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AssetServerUse.AssetServerUseMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.RuntimeForProcess.RuntimeForProcess;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.RuntimeForProcess.RuntimeForProcessMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.NestedLocation.NestedLocation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.NestedLocation.NestedLocationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.StaffAssignment.StaffAssignment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.StaffAssignment.StaffAssignmentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LinkedFile.LinkedFile;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LinkedFile.LinkedFileMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermCategorization.TermCategorization;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermCategorization.TermCategorizationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIEndpoint.APIEndpoint;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIEndpoint.APIEndpointMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ConnectionEndpoint.ConnectionEndpoint;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ConnectionEndpoint.ConnectionEndpointMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CategoryAnchor.CategoryAnchor;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CategoryAnchor.CategoryAnchorMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectTeam.ProjectTeam;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectTeam.ProjectTeamMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProcessOutput.ProcessOutput;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProcessOutput.ProcessOutputMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIOperations.APIOperations;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIOperations.APIOperationsMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernancePolicyLink.GovernancePolicyLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernancePolicyLink.GovernancePolicyLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ResponsibilityStaffContact.ResponsibilityStaffContact;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ResponsibilityStaffContact.ResponsibilityStaffContactMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Peer.Peer;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Peer.PeerMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermTYPEDBYRelationship.TermTYPEDBYRelationship;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermTYPEDBYRelationship.TermTYPEDBYRelationshipMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MapFromElementType.MapFromElementType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MapFromElementType.MapFromElementTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Certification.Certification;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Certification.CertificationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.NetworkGatewayLink.NetworkGatewayLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.NetworkGatewayLink.NetworkGatewayLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ConnectionConnectorType.ConnectionConnectorType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ConnectionConnectorType.ConnectionConnectorTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Synonym.Synonym;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Synonym.SynonymMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Antonym.Antonym;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Antonym.AntonymMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GraphEdgeLink.GraphEdgeLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GraphEdgeLink.GraphEdgeLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoOnReferenceable.ToDoOnReferenceable;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ToDoOnReferenceable.ToDoOnReferenceableMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectScope.ProjectScope;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectScope.ProjectScopeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ISARelationship.ISARelationship;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ISARelationship.ISARelationshipMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermISATypeOFRelationship.TermISATypeOFRelationship;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermISATypeOFRelationship.TermISATypeOFRelationshipMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Contributor.Contributor;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.Contributor.ContributorMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.EmbeddedConnection.EmbeddedConnection;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.EmbeddedConnection.EmbeddedConnectionMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceControlLink.GovernanceControlLink;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceControlLink.GovernanceControlLinkMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedRating.AttachedRating;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedRating.AttachedRatingMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedNoteLog.AttachedNoteLog;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedNoteLog.AttachedNoteLogMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ConnectionToAsset.ConnectionToAsset;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ConnectionToAsset.ConnectionToAssetMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.RegulationCertificationType.RegulationCertificationType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.RegulationCertificationType.RegulationCertificationTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LinkedType.LinkedType;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.LinkedType.LinkedTypeMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceRuleImplementation.GovernanceRuleImplementation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceRuleImplementation.GovernanceRuleImplementationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AdjacentLocation.AdjacentLocation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AdjacentLocation.AdjacentLocationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SemanticAssignment.SemanticAssignment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SemanticAssignment.SemanticAssignmentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostLocation.HostLocation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostLocation.HostLocationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ServerDeployment.ServerDeployment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ServerDeployment.ServerDeploymentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.RelatedTerm.RelatedTerm;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.RelatedTerm.RelatedTermMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaTypeImplementation.SchemaTypeImplementation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SchemaTypeImplementation.SchemaTypeImplementationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProcessInput.ProcessInput;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProcessInput.ProcessInputMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIHeader.APIHeader;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIHeader.APIHeaderMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MeetingOnReferenceable.MeetingOnReferenceable;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.MeetingOnReferenceable.MeetingOnReferenceableMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedTag.AttachedTag;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedTag.AttachedTagMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermHASARelationship.TermHASARelationship;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermHASARelationship.TermHASARelationshipMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceProcessImplementation.GovernanceProcessImplementation;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceProcessImplementation.GovernanceProcessImplementationMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GroupedMedia.GroupedMedia;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GroupedMedia.GroupedMediaMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceResponse.GovernanceResponse;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.GovernanceResponse.GovernanceResponseMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.NestedFile.NestedFile;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.NestedFile.NestedFileMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostOperatingPlatform.HostOperatingPlatform;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.HostOperatingPlatform.HostOperatingPlatformMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ActorCollection.ActorCollection;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ActorCollection.ActorCollectionMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermAnchor.TermAnchor;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.TermAnchor.TermAnchorMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectResources.ProjectResources;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ProjectResources.ProjectResourcesMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIRequest.APIRequest;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.APIRequest.APIRequestMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SoftwareComponentDeployment.SoftwareComponentDeployment;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.SoftwareComponentDeployment.SoftwareComponentDeploymentMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CohortMemberMetadataCollection.CohortMemberMetadataCollection;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.CohortMemberMetadataCollection.CohortMemberMetadataCollectionMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ReferenceableFacet.ReferenceableFacet;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.ReferenceableFacet.ReferenceableFacetMapper;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedLike.AttachedLike;
+import org.odpi.openmetadata.accessservices.subjectarea.generated.relationships.AttachedLike.AttachedLikeMapper;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * OMRS Relationship to Lines converter
+ */
+public class OMRSRelationshipToLines {
+    /**
+     * convert omrs Relationships into Lines
+     * @param omrsRelationships
+     * @return a set of Lines which can be used by the Subject Area OMAS API
+     * @throws InvalidParameterException
+     */
+    public static Set<Line> convert(List<Relationship> omrsRelationships) throws InvalidParameterException {
+        Set<Line> lines = new HashSet<>();
+        for (Relationship omrsRelationship:omrsRelationships){
+            String name = omrsRelationship.getType().getTypeDefName();
+            if (name.equals("UsedInContext")) {
+                UsedInContext usedInContext= UsedInContextMapper.mapOmrsRelationshipToUsedInContext(omrsRelationship);
+                lines.add(usedInContext);
+            }
+            if (name.equals("Leadership")) {
+                Leadership leadership= LeadershipMapper.mapOmrsRelationshipToLeadership(omrsRelationship);
+                lines.add(leadership);
+            }
+            if (name.equals("AttachedComment")) {
+                AttachedComment attachedComment= AttachedCommentMapper.mapOmrsRelationshipToAttachedComment(omrsRelationship);
+                lines.add(attachedComment);
+            }
+            if (name.equals("ContactThrough")) {
+                ContactThrough contactThrough= ContactThroughMapper.mapOmrsRelationshipToContactThrough(omrsRelationship);
+                lines.add(contactThrough);
+            }
+            if (name.equals("License")) {
+                License license= LicenseMapper.mapOmrsRelationshipToLicense(omrsRelationship);
+                lines.add(license);
+            }
+            if (name.equals("ZoneGovernance")) {
+                ZoneGovernance zoneGovernance= ZoneGovernanceMapper.mapOmrsRelationshipToZoneGovernance(omrsRelationship);
+                lines.add(zoneGovernance);
+            }
+            if (name.equals("FolderHierarchy")) {
+                FolderHierarchy folderHierarchy= FolderHierarchyMapper.mapOmrsRelationshipToFolderHierarchy(omrsRelationship);
+                lines.add(folderHierarchy);
+            }
+            if (name.equals("HostClusterMember")) {
+                HostClusterMember hostClusterMember= HostClusterMemberMapper.mapOmrsRelationshipToHostClusterMember(omrsRelationship);
+                lines.add(hostClusterMember);
+            }
+            if (name.equals("LibraryCategoryReference")) {
+                LibraryCategoryReference libraryCategoryReference= LibraryCategoryReferenceMapper.mapOmrsRelationshipToLibraryCategoryReference(omrsRelationship);
+                lines.add(libraryCategoryReference);
+            }
+            if (name.equals("ProjectCharterLink")) {
+                ProjectCharterLink projectCharterLink= ProjectCharterLinkMapper.mapOmrsRelationshipToProjectCharterLink(omrsRelationship);
+                lines.add(projectCharterLink);
+            }
+            if (name.equals("ProfileIdentity")) {
+                ProfileIdentity profileIdentity= ProfileIdentityMapper.mapOmrsRelationshipToProfileIdentity(omrsRelationship);
+                lines.add(profileIdentity);
+            }
+            if (name.equals("ToDoSource")) {
+                ToDoSource toDoSource= ToDoSourceMapper.mapOmrsRelationshipToToDoSource(omrsRelationship);
+                lines.add(toDoSource);
+            }
+            if (name.equals("Translation")) {
+                Translation translation= TranslationMapper.mapOmrsRelationshipToTranslation(omrsRelationship);
+                lines.add(translation);
+            }
+            if (name.equals("SchemaLinkToType")) {
+                SchemaLinkToType schemaLinkToType= SchemaLinkToTypeMapper.mapOmrsRelationshipToSchemaLinkToType(omrsRelationship);
+                lines.add(schemaLinkToType);
+            }
+            if (name.equals("CommunityResources")) {
+                CommunityResources communityResources= CommunityResourcesMapper.mapOmrsRelationshipToCommunityResources(omrsRelationship);
+                lines.add(communityResources);
+            }
+            if (name.equals("DataContentForDataSet")) {
+                DataContentForDataSet dataContentForDataSet= DataContentForDataSetMapper.mapOmrsRelationshipToDataContentForDataSet(omrsRelationship);
+                lines.add(dataContentForDataSet);
+            }
+            if (name.equals("ServerEndpoint")) {
+                ServerEndpoint serverEndpoint= ServerEndpointMapper.mapOmrsRelationshipToServerEndpoint(omrsRelationship);
+                lines.add(serverEndpoint);
+            }
+            if (name.equals("ExternalIdLink")) {
+                ExternalIdLink externalIdLink= ExternalIdLinkMapper.mapOmrsRelationshipToExternalIdLink(omrsRelationship);
+                lines.add(externalIdLink);
+            }
+            if (name.equals("CategoryHierarchyLink")) {
+                CategoryHierarchyLink categoryHierarchyLink= CategoryHierarchyLinkMapper.mapOmrsRelationshipToCategoryHierarchyLink(omrsRelationship);
+                lines.add(categoryHierarchyLink);
+            }
+            if (name.equals("PreferredTerm")) {
+                PreferredTerm preferredTerm= PreferredTermMapper.mapOmrsRelationshipToPreferredTerm(omrsRelationship);
+                lines.add(preferredTerm);
+            }
+            if (name.equals("ProjectHierarchy")) {
+                ProjectHierarchy projectHierarchy= ProjectHierarchyMapper.mapOmrsRelationshipToProjectHierarchy(omrsRelationship);
+                lines.add(projectHierarchy);
+            }
+            if (name.equals("DeployedVirtualContainer")) {
+                DeployedVirtualContainer deployedVirtualContainer= DeployedVirtualContainerMapper.mapOmrsRelationshipToDeployedVirtualContainer(omrsRelationship);
+                lines.add(deployedVirtualContainer);
+            }
+            if (name.equals("ProjectMeeting")) {
+                ProjectMeeting projectMeeting= ProjectMeetingMapper.mapOmrsRelationshipToProjectMeeting(omrsRelationship);
+                lines.add(projectMeeting);
+            }
+            if (name.equals("GovernanceResults")) {
+                GovernanceResults governanceResults= GovernanceResultsMapper.mapOmrsRelationshipToGovernanceResults(omrsRelationship);
+                lines.add(governanceResults);
+            }
+            if (name.equals("APIResponse")) {
+                APIResponse aPIResponse= APIResponseMapper.mapOmrsRelationshipToAPIResponse(omrsRelationship);
+                lines.add(aPIResponse);
+            }
+            if (name.equals("ServerSupportedCapability")) {
+                ServerSupportedCapability serverSupportedCapability= ServerSupportedCapabilityMapper.mapOmrsRelationshipToServerSupportedCapability(omrsRelationship);
+                lines.add(serverSupportedCapability);
+            }
+            if (name.equals("HostNetwork")) {
+                HostNetwork hostNetwork= HostNetworkMapper.mapOmrsRelationshipToHostNetwork(omrsRelationship);
+                lines.add(hostNetwork);
+            }
+            if (name.equals("AttributeForSchema")) {
+                AttributeForSchema attributeForSchema= AttributeForSchemaMapper.mapOmrsRelationshipToAttributeForSchema(omrsRelationship);
+                lines.add(attributeForSchema);
+            }
+            if (name.equals("AssetLocation")) {
+                AssetLocation assetLocation= AssetLocationMapper.mapOmrsRelationshipToAssetLocation(omrsRelationship);
+                lines.add(assetLocation);
+            }
+            if (name.equals("SchemaAttributeType")) {
+                SchemaAttributeType schemaAttributeType= SchemaAttributeTypeMapper.mapOmrsRelationshipToSchemaAttributeType(omrsRelationship);
+                lines.add(schemaAttributeType);
+            }
+            if (name.equals("GovernanceImplementation")) {
+                GovernanceImplementation governanceImplementation= GovernanceImplementationMapper.mapOmrsRelationshipToGovernanceImplementation(omrsRelationship);
+                lines.add(governanceImplementation);
+            }
+            if (name.equals("LinkedMedia")) {
+                LinkedMedia linkedMedia= LinkedMediaMapper.mapOmrsRelationshipToLinkedMedia(omrsRelationship);
+                lines.add(linkedMedia);
+            }
+            if (name.equals("MapToElementType")) {
+                MapToElementType mapToElementType= MapToElementTypeMapper.mapOmrsRelationshipToMapToElementType(omrsRelationship);
+                lines.add(mapToElementType);
+            }
+            if (name.equals("ExternallySourcedGlossary")) {
+                ExternallySourcedGlossary externallySourcedGlossary= ExternallySourcedGlossaryMapper.mapOmrsRelationshipToExternallySourcedGlossary(omrsRelationship);
+                lines.add(externallySourcedGlossary);
+            }
+            if (name.equals("ExternalReferenceLink")) {
+                ExternalReferenceLink externalReferenceLink= ExternalReferenceLinkMapper.mapOmrsRelationshipToExternalReferenceLink(omrsRelationship);
+                lines.add(externalReferenceLink);
+            }
+            if (name.equals("MediaReference")) {
+                MediaReference mediaReference= MediaReferenceMapper.mapOmrsRelationshipToMediaReference(omrsRelationship);
+                lines.add(mediaReference);
+            }
+            if (name.equals("CommunityMembership")) {
+                CommunityMembership communityMembership= CommunityMembershipMapper.mapOmrsRelationshipToCommunityMembership(omrsRelationship);
+                lines.add(communityMembership);
+            }
+            if (name.equals("ExternalIdScope")) {
+                ExternalIdScope externalIdScope= ExternalIdScopeMapper.mapOmrsRelationshipToExternalIdScope(omrsRelationship);
+                lines.add(externalIdScope);
+            }
+            if (name.equals("ValidValue")) {
+                ValidValue validValue= ValidValueMapper.mapOmrsRelationshipToValidValue(omrsRelationship);
+                lines.add(validValue);
+            }
+            if (name.equals("AcceptedAnswer")) {
+                AcceptedAnswer acceptedAnswer= AcceptedAnswerMapper.mapOmrsRelationshipToAcceptedAnswer(omrsRelationship);
+                lines.add(acceptedAnswer);
+            }
+            if (name.equals("GovernanceDefinitionMetric")) {
+                GovernanceDefinitionMetric governanceDefinitionMetric= GovernanceDefinitionMetricMapper.mapOmrsRelationshipToGovernanceDefinitionMetric(omrsRelationship);
+                lines.add(governanceDefinitionMetric);
+            }
+            if (name.equals("SchemaQueryImplementation")) {
+                SchemaQueryImplementation schemaQueryImplementation= SchemaQueryImplementationMapper.mapOmrsRelationshipToSchemaQueryImplementation(omrsRelationship);
+                lines.add(schemaQueryImplementation);
+            }
+            if (name.equals("AssetSchemaType")) {
+                AssetSchemaType assetSchemaType= AssetSchemaTypeMapper.mapOmrsRelationshipToAssetSchemaType(omrsRelationship);
+                lines.add(assetSchemaType);
+            }
+            if (name.equals("ProjectDependency")) {
+                ProjectDependency projectDependency= ProjectDependencyMapper.mapOmrsRelationshipToProjectDependency(omrsRelationship);
+                lines.add(projectDependency);
+            }
+            if (name.equals("TopicSubscribers")) {
+                TopicSubscribers topicSubscribers= TopicSubscribersMapper.mapOmrsRelationshipToTopicSubscribers(omrsRelationship);
+                lines.add(topicSubscribers);
+            }
+            if (name.equals("ReplacementTerm")) {
+                ReplacementTerm replacementTerm= ReplacementTermMapper.mapOmrsRelationshipToReplacementTerm(omrsRelationship);
+                lines.add(replacementTerm);
+            }
+            if (name.equals("OrganizationalCapability")) {
+                OrganizationalCapability organizationalCapability= OrganizationalCapabilityMapper.mapOmrsRelationshipToOrganizationalCapability(omrsRelationship);
+                lines.add(organizationalCapability);
+            }
+            if (name.equals("MetadataCohortPeer")) {
+                MetadataCohortPeer metadataCohortPeer= MetadataCohortPeerMapper.mapOmrsRelationshipToMetadataCohortPeer(omrsRelationship);
+                lines.add(metadataCohortPeer);
+            }
+            if (name.equals("AttachedNoteLogEntry")) {
+                AttachedNoteLogEntry attachedNoteLogEntry= AttachedNoteLogEntryMapper.mapOmrsRelationshipToAttachedNoteLogEntry(omrsRelationship);
+                lines.add(attachedNoteLogEntry);
+            }
+            if (name.equals("AssetServerUse")) {
+                AssetServerUse assetServerUse= AssetServerUseMapper.mapOmrsRelationshipToAssetServerUse(omrsRelationship);
+                lines.add(assetServerUse);
+            }
+            if (name.equals("RuntimeForProcess")) {
+                RuntimeForProcess runtimeForProcess= RuntimeForProcessMapper.mapOmrsRelationshipToRuntimeForProcess(omrsRelationship);
+                lines.add(runtimeForProcess);
+            }
+            if (name.equals("NestedLocation")) {
+                NestedLocation nestedLocation= NestedLocationMapper.mapOmrsRelationshipToNestedLocation(omrsRelationship);
+                lines.add(nestedLocation);
+            }
+            if (name.equals("StaffAssignment")) {
+                StaffAssignment staffAssignment= StaffAssignmentMapper.mapOmrsRelationshipToStaffAssignment(omrsRelationship);
+                lines.add(staffAssignment);
+            }
+            if (name.equals("LinkedFile")) {
+                LinkedFile linkedFile= LinkedFileMapper.mapOmrsRelationshipToLinkedFile(omrsRelationship);
+                lines.add(linkedFile);
+            }
+            if (name.equals("TermCategorization")) {
+                TermCategorization termCategorization= TermCategorizationMapper.mapOmrsRelationshipToTermCategorization(omrsRelationship);
+                lines.add(termCategorization);
+            }
+            if (name.equals("APIEndpoint")) {
+                APIEndpoint aPIEndpoint= APIEndpointMapper.mapOmrsRelationshipToAPIEndpoint(omrsRelationship);
+                lines.add(aPIEndpoint);
+            }
+            if (name.equals("ConnectionEndpoint")) {
+                ConnectionEndpoint connectionEndpoint= ConnectionEndpointMapper.mapOmrsRelationshipToConnectionEndpoint(omrsRelationship);
+                lines.add(connectionEndpoint);
+            }
+            if (name.equals("CategoryAnchor")) {
+                CategoryAnchor categoryAnchor= CategoryAnchorMapper.mapOmrsRelationshipToCategoryAnchor(omrsRelationship);
+                lines.add(categoryAnchor);
+            }
+            if (name.equals("ProjectTeam")) {
+                ProjectTeam projectTeam= ProjectTeamMapper.mapOmrsRelationshipToProjectTeam(omrsRelationship);
+                lines.add(projectTeam);
+            }
+            if (name.equals("ProcessOutput")) {
+                ProcessOutput processOutput= ProcessOutputMapper.mapOmrsRelationshipToProcessOutput(omrsRelationship);
+                lines.add(processOutput);
+            }
+            if (name.equals("APIOperations")) {
+                APIOperations aPIOperations= APIOperationsMapper.mapOmrsRelationshipToAPIOperations(omrsRelationship);
+                lines.add(aPIOperations);
+            }
+            if (name.equals("GovernancePolicyLink")) {
+                GovernancePolicyLink governancePolicyLink= GovernancePolicyLinkMapper.mapOmrsRelationshipToGovernancePolicyLink(omrsRelationship);
+                lines.add(governancePolicyLink);
+            }
+            if (name.equals("ResponsibilityStaffContact")) {
+                ResponsibilityStaffContact responsibilityStaffContact= ResponsibilityStaffContactMapper.mapOmrsRelationshipToResponsibilityStaffContact(omrsRelationship);
+                lines.add(responsibilityStaffContact);
+            }
+            if (name.equals("Peer")) {
+                Peer peer= PeerMapper.mapOmrsRelationshipToPeer(omrsRelationship);
+                lines.add(peer);
+            }
+            if (name.equals("TermTYPEDBYRelationship")) {
+                TermTYPEDBYRelationship termTYPEDBYRelationship= TermTYPEDBYRelationshipMapper.mapOmrsRelationshipToTermTYPEDBYRelationship(omrsRelationship);
+                lines.add(termTYPEDBYRelationship);
+            }
+            if (name.equals("MapFromElementType")) {
+                MapFromElementType mapFromElementType= MapFromElementTypeMapper.mapOmrsRelationshipToMapFromElementType(omrsRelationship);
+                lines.add(mapFromElementType);
+            }
+            if (name.equals("Certification")) {
+                Certification certification= CertificationMapper.mapOmrsRelationshipToCertification(omrsRelationship);
+                lines.add(certification);
+            }
+            if (name.equals("NetworkGatewayLink")) {
+                NetworkGatewayLink networkGatewayLink= NetworkGatewayLinkMapper.mapOmrsRelationshipToNetworkGatewayLink(omrsRelationship);
+                lines.add(networkGatewayLink);
+            }
+            if (name.equals("ConnectionConnectorType")) {
+                ConnectionConnectorType connectionConnectorType= ConnectionConnectorTypeMapper.mapOmrsRelationshipToConnectionConnectorType(omrsRelationship);
+                lines.add(connectionConnectorType);
+            }
+            if (name.equals("Synonym")) {
+                Synonym synonym= SynonymMapper.mapOmrsRelationshipToSynonym(omrsRelationship);
+                lines.add(synonym);
+            }
+            if (name.equals("Antonym")) {
+                Antonym antonym= AntonymMapper.mapOmrsRelationshipToAntonym(omrsRelationship);
+                lines.add(antonym);
+            }
+            if (name.equals("GraphEdgeLink")) {
+                GraphEdgeLink graphEdgeLink= GraphEdgeLinkMapper.mapOmrsRelationshipToGraphEdgeLink(omrsRelationship);
+                lines.add(graphEdgeLink);
+            }
+            if (name.equals("ToDoOnReferenceable")) {
+                ToDoOnReferenceable toDoOnReferenceable= ToDoOnReferenceableMapper.mapOmrsRelationshipToToDoOnReferenceable(omrsRelationship);
+                lines.add(toDoOnReferenceable);
+            }
+            if (name.equals("ProjectScope")) {
+                ProjectScope projectScope= ProjectScopeMapper.mapOmrsRelationshipToProjectScope(omrsRelationship);
+                lines.add(projectScope);
+            }
+            if (name.equals("ISARelationship")) {
+                ISARelationship iSARelationship= ISARelationshipMapper.mapOmrsRelationshipToISARelationship(omrsRelationship);
+                lines.add(iSARelationship);
+            }
+            if (name.equals("TermISATypeOFRelationship")) {
+                TermISATypeOFRelationship termISATypeOFRelationship= TermISATypeOFRelationshipMapper.mapOmrsRelationshipToTermISATypeOFRelationship(omrsRelationship);
+                lines.add(termISATypeOFRelationship);
+            }
+            if (name.equals("Contributor")) {
+                Contributor contributor= ContributorMapper.mapOmrsRelationshipToContributor(omrsRelationship);
+                lines.add(contributor);
+            }
+            if (name.equals("EmbeddedConnection")) {
+                EmbeddedConnection embeddedConnection= EmbeddedConnectionMapper.mapOmrsRelationshipToEmbeddedConnection(omrsRelationship);
+                lines.add(embeddedConnection);
+            }
+            if (name.equals("GovernanceControlLink")) {
+                GovernanceControlLink governanceControlLink= GovernanceControlLinkMapper.mapOmrsRelationshipToGovernanceControlLink(omrsRelationship);
+                lines.add(governanceControlLink);
+            }
+            if (name.equals("AttachedRating")) {
+                AttachedRating attachedRating= AttachedRatingMapper.mapOmrsRelationshipToAttachedRating(omrsRelationship);
+                lines.add(attachedRating);
+            }
+            if (name.equals("AttachedNoteLog")) {
+                AttachedNoteLog attachedNoteLog= AttachedNoteLogMapper.mapOmrsRelationshipToAttachedNoteLog(omrsRelationship);
+                lines.add(attachedNoteLog);
+            }
+            if (name.equals("ConnectionToAsset")) {
+                ConnectionToAsset connectionToAsset= ConnectionToAssetMapper.mapOmrsRelationshipToConnectionToAsset(omrsRelationship);
+                lines.add(connectionToAsset);
+            }
+            if (name.equals("RegulationCertificationType")) {
+                RegulationCertificationType regulationCertificationType= RegulationCertificationTypeMapper.mapOmrsRelationshipToRegulationCertificationType(omrsRelationship);
+                lines.add(regulationCertificationType);
+            }
+            if (name.equals("LinkedType")) {
+                LinkedType linkedType= LinkedTypeMapper.mapOmrsRelationshipToLinkedType(omrsRelationship);
+                lines.add(linkedType);
+            }
+            if (name.equals("GovernanceRuleImplementation")) {
+                GovernanceRuleImplementation governanceRuleImplementation= GovernanceRuleImplementationMapper.mapOmrsRelationshipToGovernanceRuleImplementation(omrsRelationship);
+                lines.add(governanceRuleImplementation);
+            }
+            if (name.equals("AdjacentLocation")) {
+                AdjacentLocation adjacentLocation= AdjacentLocationMapper.mapOmrsRelationshipToAdjacentLocation(omrsRelationship);
+                lines.add(adjacentLocation);
+            }
+            if (name.equals("SemanticAssignment")) {
+                SemanticAssignment semanticAssignment= SemanticAssignmentMapper.mapOmrsRelationshipToSemanticAssignment(omrsRelationship);
+                lines.add(semanticAssignment);
+            }
+            if (name.equals("HostLocation")) {
+                HostLocation hostLocation= HostLocationMapper.mapOmrsRelationshipToHostLocation(omrsRelationship);
+                lines.add(hostLocation);
+            }
+            if (name.equals("ServerDeployment")) {
+                ServerDeployment serverDeployment= ServerDeploymentMapper.mapOmrsRelationshipToServerDeployment(omrsRelationship);
+                lines.add(serverDeployment);
+            }
+            if (name.equals("RelatedTerm")) {
+                RelatedTerm relatedTerm= RelatedTermMapper.mapOmrsRelationshipToRelatedTerm(omrsRelationship);
+                lines.add(relatedTerm);
+            }
+            if (name.equals("SchemaTypeImplementation")) {
+                SchemaTypeImplementation schemaTypeImplementation= SchemaTypeImplementationMapper.mapOmrsRelationshipToSchemaTypeImplementation(omrsRelationship);
+                lines.add(schemaTypeImplementation);
+            }
+            if (name.equals("ProcessInput")) {
+                ProcessInput processInput= ProcessInputMapper.mapOmrsRelationshipToProcessInput(omrsRelationship);
+                lines.add(processInput);
+            }
+            if (name.equals("APIHeader")) {
+                APIHeader aPIHeader= APIHeaderMapper.mapOmrsRelationshipToAPIHeader(omrsRelationship);
+                lines.add(aPIHeader);
+            }
+            if (name.equals("MeetingOnReferenceable")) {
+                MeetingOnReferenceable meetingOnReferenceable= MeetingOnReferenceableMapper.mapOmrsRelationshipToMeetingOnReferenceable(omrsRelationship);
+                lines.add(meetingOnReferenceable);
+            }
+            if (name.equals("AttachedTag")) {
+                AttachedTag attachedTag= AttachedTagMapper.mapOmrsRelationshipToAttachedTag(omrsRelationship);
+                lines.add(attachedTag);
+            }
+            if (name.equals("TermHASARelationship")) {
+                TermHASARelationship termHASARelationship= TermHASARelationshipMapper.mapOmrsRelationshipToTermHASARelationship(omrsRelationship);
+                lines.add(termHASARelationship);
+            }
+            if (name.equals("GovernanceProcessImplementation")) {
+                GovernanceProcessImplementation governanceProcessImplementation= GovernanceProcessImplementationMapper.mapOmrsRelationshipToGovernanceProcessImplementation(omrsRelationship);
+                lines.add(governanceProcessImplementation);
+            }
+            if (name.equals("GroupedMedia")) {
+                GroupedMedia groupedMedia= GroupedMediaMapper.mapOmrsRelationshipToGroupedMedia(omrsRelationship);
+                lines.add(groupedMedia);
+            }
+            if (name.equals("GovernanceResponse")) {
+                GovernanceResponse governanceResponse= GovernanceResponseMapper.mapOmrsRelationshipToGovernanceResponse(omrsRelationship);
+                lines.add(governanceResponse);
+            }
+            if (name.equals("NestedFile")) {
+                NestedFile nestedFile= NestedFileMapper.mapOmrsRelationshipToNestedFile(omrsRelationship);
+                lines.add(nestedFile);
+            }
+            if (name.equals("HostOperatingPlatform")) {
+                HostOperatingPlatform hostOperatingPlatform= HostOperatingPlatformMapper.mapOmrsRelationshipToHostOperatingPlatform(omrsRelationship);
+                lines.add(hostOperatingPlatform);
+            }
+            if (name.equals("ActorCollection")) {
+                ActorCollection actorCollection= ActorCollectionMapper.mapOmrsRelationshipToActorCollection(omrsRelationship);
+                lines.add(actorCollection);
+            }
+            if (name.equals("TermAnchor")) {
+                TermAnchor termAnchor= TermAnchorMapper.mapOmrsRelationshipToTermAnchor(omrsRelationship);
+                lines.add(termAnchor);
+            }
+            if (name.equals("ProjectResources")) {
+                ProjectResources projectResources= ProjectResourcesMapper.mapOmrsRelationshipToProjectResources(omrsRelationship);
+                lines.add(projectResources);
+            }
+            if (name.equals("APIRequest")) {
+                APIRequest aPIRequest= APIRequestMapper.mapOmrsRelationshipToAPIRequest(omrsRelationship);
+                lines.add(aPIRequest);
+            }
+            if (name.equals("SoftwareComponentDeployment")) {
+                SoftwareComponentDeployment softwareComponentDeployment= SoftwareComponentDeploymentMapper.mapOmrsRelationshipToSoftwareComponentDeployment(omrsRelationship);
+                lines.add(softwareComponentDeployment);
+            }
+            if (name.equals("CohortMemberMetadataCollection")) {
+                CohortMemberMetadataCollection cohortMemberMetadataCollection= CohortMemberMetadataCollectionMapper.mapOmrsRelationshipToCohortMemberMetadataCollection(omrsRelationship);
+                lines.add(cohortMemberMetadataCollection);
+            }
+            if (name.equals("ReferenceableFacet")) {
+                ReferenceableFacet referenceableFacet= ReferenceableFacetMapper.mapOmrsRelationshipToReferenceableFacet(omrsRelationship);
+                lines.add(referenceableFacet);
+            }
+            if (name.equals("AttachedLike")) {
+                AttachedLike attachedLike= AttachedLikeMapper.mapOmrsRelationshipToAttachedLike(omrsRelationship);
+                lines.add(attachedLike);
+            }
+        }
+        return lines;
+    }
+}
@@ -330,15 +330,32 @@ public class ConnectorConfigurationFactory
 
     /**
      * Return the local graph repository's connection.  This is using the GraphOMRSRepositoryConnector.
+     * The endpoint address is the name of the file that holds the graph store (localServerName.graph.db).
      *
      * @param localServerName   name of the local server
      * @return Connection object
      */
     public Connection getLocalGraphRepositoryLocalConnection(String localServerName)
     {
+        final String endpointGUID      = "e8b4f2a6-0fd1-4e4c-9c53-2f6b2bd4b8a7";
         final String connectorTypeGUID = "18530415-44a2-4bd0-95bb-8efd333e53fb";
         final String connectionGUID    = "3f1fd4fc-90f9-436a-8e2c-2120d590f5e4";
 
+        final String endpointDescription = "OMRS default local graph repository endpoint.";
+
+        String endpointAddress = localServerName + ".graph.db";
+        String endpointName    = "DefaultLocalGraphRepository.Endpoint." + endpointAddress;
+
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setType(this.getEndpointType());
+        endpoint.setGUID(endpointGUID);
+        endpoint.setQualifiedName(endpointName);
+        endpoint.setDisplayName(endpointName);
+        endpoint.setDescription(endpointDescription);
+        endpoint.setAddress(endpointAddress);
+
+
         final String connectorTypeDescription   = "OMRS default graph local repository connector type.";
         final String connectorTypeJavaClassName = GraphOMRSRepositoryConnectorProvider.class.getName();
 
@@ -365,6 +382,7 @@ public class ConnectorConfigurationFactory
         connection.setQualifiedName(connectionName);
         connection.setDisplayName(connectionName);
         connection.setDescription(connectionDescription);
+        connection.setEndpoint(endpoint);
         connection.setConnectorType(connectorType);
 
         return connection;
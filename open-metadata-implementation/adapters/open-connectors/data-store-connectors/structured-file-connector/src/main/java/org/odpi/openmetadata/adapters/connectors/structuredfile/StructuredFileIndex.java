@@ -0,0 +1,210 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * StructuredFileIndex records where each line of a structured file starts.  The file is memory mapped so
+ * a line can be read by going straight to its offset rather than scanning the file from the start.
+ * The index describes the file as it was when the index was built: it is no longer current once the
+ * file's length or last modified time changes.
+ * <p>
+ *     Lines end with a line feed, a carriage return, or a carriage return followed by a line feed.
+ *     Empty lines at the end of the file are not included in the index.
+ * </p>
+ */
+class StructuredFileIndex
+{
+    private static final int  mappingShift = 30;
+    private static final long mappingSize  = 1L << mappingShift;
+    private static final long mappingMask  = mappingSize - 1;
+
+    private long               fileLength;
+    private long               lastModified;
+    private Charset            charset;
+    private MappedByteBuffer[] mappings;
+    private long[]             lineStarts = new long[1024];
+    private int                lineCount  = 0;
+
+
+    /**
+     * Build the index for a file.
+     *
+     * @param file file to index
+     * @param charset character set of the file
+     * @throws IOException unable to map or read the file
+     */
+    StructuredFileIndex(File    file,
+                        Charset charset) throws IOException
+    {
+        this.lastModified = file.lastModified();
+        this.charset = charset;
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel      fileChannel      = randomAccessFile.getChannel())
+        {
+            fileLength = fileChannel.size();
+            mappings = new MappedByteBuffer[(int)((fileLength + mappingMask) >>> mappingShift)];
+
+            for (int i = 0; i < mappings.length; i++)
+            {
+                long mappingStart = (long)i << mappingShift;
+
+                mappings[i] = fileChannel.map(FileChannel.MapMode.READ_ONLY,
+                                              mappingStart,
+                                              Math.min(mappingSize, fileLength - mappingStart));
+            }
+        }
+
+        this.indexLines();
+    }
+
+
+    /**
+     * Scan the mapped file for the start of each line.
+     */
+    private void indexLines()
+    {
+        long lineStart = 0;
+        long position  = 0;
+
+        while (position < fileLength)
+        {
+            byte nextByte = this.getByte(position);
+
+            position++;
+
+            if ((nextByte == '\r') && (position < fileLength) && (this.getByte(position) == '\n'))
+            {
+                position++;
+            }
+
+            if ((nextByte == '\n') || (nextByte == '\r'))
+            {
+                this.addLine(lineStart);
+                lineStart = position;
+            }
+        }
+
+        if (lineStart < fileLength)
+        {
+            this.addLine(lineStart);
+        }
+
+        while ((lineCount > 0) && (this.getLineEnd(lineCount - 1) == lineStarts[lineCount - 1]))
+        {
+            lineCount--;
+        }
+    }
+
+
+    /**
+     * Add a line to the index.
+     *
+     * @param lineStart offset of the first byte of the line
+     */
+    private void addLine(long lineStart)
+    {
+        if (lineCount == lineStarts.length)
+        {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+        }
+
+        lineStarts[lineCount] = lineStart;
+        lineCount++;
+    }
+
+
+    /**
+     * Return a byte from the mapped file.
+     *
+     * @param position offset of the byte in the file
+     * @return byte
+     */
+    private byte getByte(long position)
+    {
+        return mappings[(int)(position >>> mappingShift)].get((int)(position & mappingMask));
+    }
+
+
+    /**
+     * Return the offset of the first byte after the content of a line (that is, its terminator or the end of
+     * the file).
+     *
+     * @param lineNumber line number starting at zero
+     * @return offset
+     */
+    private long getLineEnd(int lineNumber)
+    {
+        long position = lineStarts[lineNumber];
+
+        while (position < fileLength)
+        {
+            byte nextByte = this.getByte(position);
+
+            if ((nextByte == '\n') || (nextByte == '\r'))
+            {
+                break;
+            }
+
+            position++;
+        }
+
+        return position;
+    }
+
+
+    /**
+     * Return whether the index still describes the file.
+     *
+     * @param file file that was indexed
+     * @return boolean
+     */
+    boolean isCurrent(File file)
+    {
+        return (file.lastModified() == lastModified) && (file.length() == fileLength);
+    }
+
+
+    /**
+     * Return the number of lines in the file.
+     *
+     * @return count
+     */
+    int getLineCount()
+    {
+        return lineCount;
+    }
+
+
+    /**
+     * Return the content of a line without its terminator.
+     *
+     * @param lineNumber line number starting at zero
+     * @return characters of the line
+     */
+    CharSequence getLine(int lineNumber)
+    {
+        long   lineStart = lineStarts[lineNumber];
+        byte[] lineBytes = new byte[(int)(this.getLineEnd(lineNumber) - lineStart)];
+
+        for (int i = 0; i < lineBytes.length; i++)
+        {
+            lineBytes[i] = this.getByte(lineStart + i);
+        }
+
+        CharBuffer line = charset.decode(ByteBuffer.wrap(lineBytes));
+
+        return line;
+    }
+}
@@ -0,0 +1,179 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import org.odpi.openmetadata.adapters.connectors.structuredfile.ffdc.StructuredFileConnectorErrorCode;
+import org.odpi.openmetadata.adapters.connectors.structuredfile.ffdc.exception.FileReadException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * StructuredFileRecordCursor steps through the data records of a structured file from the start of the file
+ * to the end.  It reads the file once, through a buffer, and parses each record straight from a reused
+ * character buffer.  This makes it the cheapest way to process every record in a large file.
+ * Blank lines are skipped.  The cursor should be closed once it is no longer needed.
+ */
+public class StructuredFileRecordCursor implements AutoCloseable
+{
+    private static final String nextRecordMethodName = "nextRecord";
+
+    private String                     fileStoreName;
+    private BufferedReader             fileReader;
+    private StructuredFileRecordParser recordParser;
+    private StringBuilder              lineBuffer     = new StringBuilder();
+    private boolean                    skipLineFeed   = false;
+    private boolean                    endOfFile      = false;
+    private int                        nextLineNumber = 0;
+    private int                        recordNumber   = -1;
+    private int                        firstDataLine;
+
+
+    /**
+     * Constructor used by the connector.
+     *
+     * @param fileStoreName name of the file
+     * @param fileReader reader for the file
+     * @param recordParser parser for the records
+     * @param skipColumnNames is the first line of the file the column names
+     */
+    StructuredFileRecordCursor(String                     fileStoreName,
+                               Reader                     fileReader,
+                               StructuredFileRecordParser recordParser,
+                               boolean                    skipColumnNames)
+    {
+        this.fileStoreName = fileStoreName;
+        this.fileReader = new BufferedReader(fileReader);
+        this.recordParser = recordParser;
+        this.firstDataLine = skipColumnNames ? 1 : 0;
+    }
+
+
+    /**
+     * Return the next data record in the file.
+     *
+     * @return List of strings, each string is the value from the column; or null if there are no more records.
+     * @throws FileReadException unable to read the file.
+     */
+    public List<String> nextRecord() throws FileReadException
+    {
+        try
+        {
+            while (this.readLine())
+            {
+                int lineNumber = nextLineNumber;
+
+                nextLineNumber++;
+
+                if ((lineNumber >= firstDataLine) && (lineBuffer.length() > 0))
+                {
+                    recordNumber = lineNumber - firstDataLine;
+
+                    return recordParser.parseRecord(lineBuffer);
+                }
+            }
+
+            return null;
+        }
+        catch (IOException  error)
+        {
+            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
+            String                           errorMessage = errorCode.getErrorMessageId()
+                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
+                                                                                               error.getMessage());
+
+            throw new FileReadException(errorCode.getHTTPErrorCode(),
+                                        this.getClass().getName(),
+                                        nextRecordMethodName,
+                                        errorMessage,
+                                        errorCode.getSystemAction(),
+                                        errorCode.getUserAction(),
+                                        error,
+                                        fileStoreName);
+        }
+    }
+
+
+    /**
+     * Return the number of the record last returned by nextRecord.  This is the number that would be passed to
+     * readRecord to retrieve the same record.
+     *
+     * @return record number or -1 if no record has been returned
+     */
+    public int getRecordNumber()
+    {
+        return recordNumber;
+    }
+
+
+    /**
+     * Read the next line of the file into the line buffer without its terminator.
+     *
+     * @return boolean indicating whether a line was read
+     * @throws IOException problem reading the file
+     */
+    private boolean readLine() throws IOException
+    {
+        if (endOfFile)
+        {
+            return false;
+        }
+
+        lineBuffer.setLength(0);
+
+        int nextCharacter = fileReader.read();
+
+        if (skipLineFeed && (nextCharacter == '\n'))
+        {
+            nextCharacter = fileReader.read();
+        }
+
+        skipLineFeed = false;
+
+        if (nextCharacter == -1)
+        {
+            endOfFile = true;
+            return false;
+        }
+
+        while ((nextCharacter != -1) && (nextCharacter != '\n') && (nextCharacter != '\r'))
+        {
+            lineBuffer.append((char)nextCharacter);
+            nextCharacter = fileReader.read();
+        }
+
+        if (nextCharacter == -1)
+        {
+            endOfFile = true;
+        }
+        else if (nextCharacter == '\r')
+        {
+            skipLineFeed = true;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Close the file.
+     */
+    public void close()
+    {
+        endOfFile = true;
+
+        try
+        {
+            fileReader.close();
+        }
+        catch (IOException  error)
+        {
+            /*
+             * Nothing useful to do - the records have been read.
+             */
+        }
+    }
+}
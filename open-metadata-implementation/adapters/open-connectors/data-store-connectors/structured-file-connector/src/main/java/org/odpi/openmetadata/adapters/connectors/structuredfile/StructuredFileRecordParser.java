@@ -0,0 +1,125 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StructuredFileRecordParser splits a single record from a structured file into its column values.
+ * It works on any CharSequence so the record can be parsed straight from a reused buffer without
+ * first copying it into a String.
+ */
+class StructuredFileRecordParser
+{
+    private char delimiterChar;
+    private char quoteChar;
+
+
+    /**
+     * Constructor for the parser.
+     *
+     * @param delimiterChar character between the columns
+     * @param quoteChar character used to quote column values that include the delimiter
+     */
+    StructuredFileRecordParser(char delimiterChar,
+                               char quoteChar)
+    {
+        this.delimiterChar = delimiterChar;
+        this.quoteChar = quoteChar;
+    }
+
+
+    /**
+     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
+     * and other tricks found in CSV files are handled.
+     *
+     * @param fileRecord a single record from the CSV file store
+     * @return an array of column values extracted from the record
+     */
+    List<String> parseRecord(CharSequence fileRecord)
+    {
+        if ((fileRecord == null) || (fileRecord.length() == 0))
+        {
+            return null;
+        }
+
+        List<String>  result = new ArrayList<>();
+        StringBuilder currentValue = new StringBuilder();
+
+        boolean inQuotes = false;
+        boolean startCollectingCharacters = false;
+        boolean doubleQuotesInColumn = false;
+
+        char firstCharacter = fileRecord.charAt(0);
+        int  recordLength   = fileRecord.length();
+
+        for (int i = 0; i < recordLength; i++)
+        {
+            char character = fileRecord.charAt(i);
+
+            if (inQuotes)
+            {
+                startCollectingCharacters = true;
+                if (character == quoteChar)
+                {
+                    inQuotes = false;
+                    doubleQuotesInColumn = false;
+                }
+                else
+                {
+                    if (character == '\"')
+                    {
+                        if (!doubleQuotesInColumn)
+                        {
+                            currentValue.append(character);
+                            doubleQuotesInColumn = true;
+                        }
+                    }
+                    else
+                    {
+                        currentValue.append(character);
+                    }
+
+                }
+            } else {
+                if (character == quoteChar) {
+
+                    inQuotes = true;
+
+                    if (firstCharacter != '"' && quoteChar == '\"')
+                    {
+                        currentValue.append('"');
+                    }
+
+                    if (startCollectingCharacters)
+                    {
+                        currentValue.append('"');
+                    }
+                }
+                else if (character == delimiterChar)
+                {
+                    result.add(currentValue.toString());
+
+                    currentValue.setLength(0);
+                    startCollectingCharacters = false;
+
+                }
+                else if (character == '\n')
+                {
+                    break;
+                }
+                else if (character != '\r')
+                {
+                    currentValue.append(character);
+                }
+            }
+
+        }
+
+        result.add(currentValue.toString());
+
+        return result;
+    }
+}
@@ -38,8 +38,8 @@ public interface StructuredFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The first call scans the file to build an index of the
+     * lines in the file.  Later calls use the index until the file changes.
      *
      * @return count
      * @throws FileReadException unable to find, open or scan the file.
@@ -67,4 +67,14 @@ public interface StructuredFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileReadException;
+
+
+    /**
+     * Return a cursor that steps through the data records from the start of the file to the end.
+     * This reads the file once and so is the recommended way to process every record in a large file.
+     *
+     * @return cursor positioned before the first data record
+     * @throws FileReadException unable to find or open the file.
+     */
+    StructuredFileRecordCursor getRecordCursor() throws FileReadException;
 }
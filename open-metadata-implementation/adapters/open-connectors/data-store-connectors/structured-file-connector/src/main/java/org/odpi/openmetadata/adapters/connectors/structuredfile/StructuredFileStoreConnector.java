@@ -13,11 +13,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Scanner;
 
 
 /**
@@ -33,6 +35,11 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
 
+    /*
+     * Offsets of the lines in the file.  Built on first use and rebuilt when the file changes.
+     */
+    private StructuredFileIndex fileIndex    = null;
+
     /*
      * Variables used for logging and debug.
      */
@@ -133,8 +140,8 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The first call scans the file to build an index of the
+     * lines in the file.  Later calls use the index until the file changes.
      *
      * @return count
      * @throws FileReadException unable to find, open or scan the file.
@@ -143,40 +150,11 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
-
-        File fileStore = validateFileStore(fileStoreName, methodName);
-
-        try
-        {
-            Scanner scanner  = new Scanner(fileStore);
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-            scanner.close();
+        long    rowCount = getFileIndex(methodName).getLineCount();
 
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
+        if ((rowCount > 0) && (columnNames == null))
         {
-            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
-            String                           errorMessage = errorCode.getErrorMessageId()
-                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                               error.getMessage());
-
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -231,6 +209,33 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
     }
 
 
+    /**
+     * Return a cursor that steps through the data records from the start of the file to the end.
+     * This reads the file once and so is the recommended way to process every record in a large file.
+     *
+     * @return cursor positioned before the first data record
+     * @throws FileReadException unable to find or open the file.
+     */
+    public StructuredFileRecordCursor getRecordCursor() throws FileReadException
+    {
+        final String  methodName = "getRecordCursor";
+
+        File fileStore = validateFileStore(fileStoreName, methodName);
+
+        try
+        {
+            return new StructuredFileRecordCursor(fileStoreName,
+                                                  new InputStreamReader(new FileInputStream(fileStore), Charset.defaultCharset()),
+                                                  new StructuredFileRecordParser(delimiterChar, quoteChar),
+                                                  columnNames == null);
+        }
+        catch (IOException  error)
+        {
+            throw getIOException(error, methodName);
+        }
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -242,28 +247,10 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileReadException
     {
+        StructuredFileIndex index = getFileIndex(methodName);
 
-        File fileStore = validateFileStore(fileStoreName, methodName);
-
-        try
+        if ((recordLocation < 0) || (recordLocation >= index.getLineCount()))
         {
-            Scanner scanner        = new Scanner(fileStore);
-
-            int rowCounter = 0;
-            while (scanner.hasNext())
-            {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
-                {
-                    scanner.nextLine();
-                }
-                rowCounter ++;
-            }
-            scanner.close();
-
             StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.FILE_TOO_SHORT;
             String                           errorMessage = errorCode.getErrorMessageId()
                                                           + errorCode.getFormattedErrorMessage(fileStoreName,
@@ -276,114 +263,65 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
                                         errorCode.getSystemAction(),
                                         errorCode.getUserAction(),
                                         fileStoreName);
-
         }
-        catch (IOException  error)
-        {
-            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
-            String                           errorMessage = errorCode.getErrorMessageId()
-                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                               error.getMessage());
 
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        error,
-                                        fileStoreName);
-        }
+        return new StructuredFileRecordParser(delimiterChar, quoteChar).parseRecord(index.getLine(recordLocation));
     }
 
 
     /**
-     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
-     * and other tricks found in CSV files are handled.
+     * Return the index of the lines in the file, building it if this is the first request or the file has
+     * changed since the index was built.
      *
-     * @param fileRecord a single record from the CSV file store
-     * @return an array of column values extracted from the record
+     * @param methodName name of calling method
+     * @return index
+     * @throws FileReadException unable to find, open or map the file.
      */
-    private  List<String> parseRecord(String fileRecord)
+    private synchronized StructuredFileIndex getFileIndex(String  methodName) throws FileReadException
     {
-        if ((fileRecord == null) || (fileRecord.isEmpty()))
-        {
-            return null;
-        }
-
-        List<String> result = new ArrayList<>();
-        StringBuffer currentValue = new StringBuffer();
-
-        boolean inQuotes = false;
-        boolean startCollectingCharacters = false;
-        boolean doubleQuotesInColumn = false;
-
-        char[] characters = fileRecord.toCharArray();
+        File fileStore = validateFileStore(fileStoreName, methodName);
 
-        for (char character : characters)
+        if ((fileIndex == null) || (! fileIndex.isCurrent(fileStore)))
         {
-            if (inQuotes)
+            try
             {
-                startCollectingCharacters = true;
-                if (character == quoteChar)
-                {
-                    inQuotes = false;
-                    doubleQuotesInColumn = false;
-                }
-                else
-                {
-                    if (character == '\"')
-                    {
-                        if (!doubleQuotesInColumn)
-                        {
-                            currentValue.append(character);
-                            doubleQuotesInColumn = true;
-                        }
-                    }
-                    else
-                    {
-                        currentValue.append(character);
-                    }
-
-                }
-            } else {
-                if (character == quoteChar) {
-
-                    inQuotes = true;
-
-                    if (characters[0] != '"' && quoteChar == '\"')
-                    {
-                        currentValue.append('"');
-                    }
-
-                    if (startCollectingCharacters)
-                    {
-                        currentValue.append('"');
-                    }
-                }
-                else if (character == delimiterChar)
-                {
-                    result.add(currentValue.toString());
-
-                    currentValue = new StringBuffer();
-                    startCollectingCharacters = false;
-
-                }
-                else if (character == '\n')
-                {
-                    break;
-                }
-                else if (character != '\r')
-                {
-                    currentValue.append(character);
-                }
+                fileIndex = new StructuredFileIndex(fileStore, Charset.defaultCharset());
             }
+            catch (IOException  error)
+            {
+                fileIndex = null;
 
+                throw getIOException(error, methodName);
+            }
         }
 
-        result.add(currentValue.toString());
+        return fileIndex;
+    }
 
-        return result;
+
+    /**
+     * Return the exception to throw when the file can not be read.
+     *
+     * @param error exception from the file system
+     * @param methodName name of calling method
+     * @return exception
+     */
+    private FileReadException getIOException(IOException  error,
+                                             String       methodName)
+    {
+        StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
+        String                           errorMessage = errorCode.getErrorMessageId()
+                                                      + errorCode.getFormattedErrorMessage(fileStoreName,
+                                                                                           error.getMessage());
+
+        return new FileReadException(errorCode.getHTTPErrorCode(),
+                                     this.getClass().getName(),
+                                     methodName,
+                                     errorMessage,
+                                     errorCode.getSystemAction(),
+                                     errorCode.getUserAction(),
+                                     error,
+                                     fileStoreName);
     }
 
 
@@ -401,6 +339,11 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
             log.debug("Ignoring unexpected exception " + exec.getClass().getSimpleName() + " with message " + exec.getMessage());
         }
 
+        synchronized (this)
+        {
+            fileIndex = null;
+        }
+
         log.debug("Closing Structured File Store");
     }
 
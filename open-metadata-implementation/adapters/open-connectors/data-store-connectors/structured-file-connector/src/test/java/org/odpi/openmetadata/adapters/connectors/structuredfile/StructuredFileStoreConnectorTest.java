@@ -9,9 +9,13 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.FileWriter;
 import java.util.*;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -113,6 +117,19 @@ public class StructuredFileStoreConnectorTest
         {
             assertTrue(false);
         }
+
+        StructuredFileRecordCursor cursor = connector.getRecordCursor();
+        List<String>               record;
+        int                        recordCount = 0;
+
+        while ((record = cursor.nextRecord()) != null)
+        {
+            assertEquals(record, connector.readRecord(cursor.getRecordNumber()));
+            recordCount++;
+        }
+
+        cursor.close();
+        assertEquals(recordCount, connector.getRecordCount());
     }
 
     @Test public void testSimpleColumns()
@@ -356,4 +373,47 @@ public class StructuredFileStoreConnectorTest
             assertTrue(false);
         }
     }
+
+
+    @Test public void testFileChanged() throws Exception
+    {
+        File  testFile = new File(resourcesDirectory + "ChangingFile.csv");
+
+        try (FileWriter writer = new FileWriter(testFile))
+        {
+            writer.write("Name,Value\n\"First, record\",1\n");
+        }
+
+        StructuredFileStoreConnector connector = new StructuredFileStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getPath()));
+        connector.start();
+
+        assertEquals(connector.getRecordCount(), 1);
+        assertEquals(connector.readRecord(0), Arrays.asList("First, record", "1"));
+
+        long lastModified = testFile.lastModified();
+
+        try (FileWriter writer = new FileWriter(testFile, true))
+        {
+            writer.write("Second,2\r\nThird,3\r\n\r\n");
+        }
+
+        assertTrue(testFile.setLastModified(lastModified + 2000));
+
+        assertEquals(connector.getRecordCount(), 3);
+        assertEquals(connector.readRecord(2), Arrays.asList("Third", "3"));
+
+        StructuredFileRecordCursor cursor = connector.getRecordCursor();
+
+        assertEquals(cursor.nextRecord(), Arrays.asList("First, record", "1"));
+        assertEquals(cursor.nextRecord(), Arrays.asList("Second", "2"));
+        assertEquals(cursor.nextRecord(), Arrays.asList("Third", "3"));
+        assertEquals(cursor.getRecordNumber(), 2);
+        assertNull(cursor.nextRecord());
+
+        cursor.close();
+        connector.disconnect();
+        testFile.delete();
+    }
 }
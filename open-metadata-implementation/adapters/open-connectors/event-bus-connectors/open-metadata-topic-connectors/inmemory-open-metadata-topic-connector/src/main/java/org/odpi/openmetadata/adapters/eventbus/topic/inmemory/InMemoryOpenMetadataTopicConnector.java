@@ -5,49 +5,23 @@ package org.odpi.openmetadata.adapters.eventbus.topic.inmemory;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 
-import java.util.ArrayList;
-import java.util.List;
-
 
 /**
  * InMemoryOpenMetadataTopicConnector provides a concrete implementation of the OpenMetadataTopicConnector that
- * uses an in-memory list as the event/messaging infrastructure.  This connector is used internally
- * in the OMRS to pass events received on the OMRS Topic to the OMAS Topic Listeners.
+ * uses an in-memory queue as the event/messaging infrastructure.  This connector is used internally
+ * in the OMRS to pass events received on the OMRS Topic to the OMAS Topic Listeners.  Events are placed
+ * directly on the incoming event queue of the superclass so the listener thread processes them as soon
+ * as they are sent.  The queue is unbounded because the listeners often send events in response, and these
+ * are sent from the listener thread that drains the queue.
  */
 public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 {
-    private volatile List<String> inMemoryOMRSTopic = new ArrayList<>();
-
     /**
      * Constructor
      */
     public InMemoryOpenMetadataTopicConnector()
     {
-        super();
-    }
-
-    /**
-     * Supports putting events to the in memory OMRS Topic
-     *
-     * @param newEvent  event to publish
-     */
-    private synchronized void putEvent(String  newEvent)
-    {
-        inMemoryOMRSTopic.add(newEvent);
-    }
-
-
-    /**
-     * Returns all of the events found on the in memory OMRS Topic.
-     *
-     * @return list of received events.
-     */
-    private synchronized List<String> getEvents()
-    {
-        List<String>   receivedEvents = inMemoryOMRSTopic;
-        inMemoryOMRSTopic = new ArrayList<>();
-
-        return receivedEvents;
+        super(false);
     }
 
 
@@ -58,19 +32,7 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
      */
     public void sendEvent(String event)
     {
-        this.putEvent(event);
-
-    }
-
-
-    /**
-     * Look to see if there is one of more new events to process.
-     *
-     * @return a list of received events or null
-     */
-    protected List<String> checkForEvents()
-    {
-        return this.getEvents();
+        super.addIncomingEvent(event);
     }
 
 
@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.inmemory;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that sending to the InMemoryOpenMetadataTopicConnector never waits, even when the listener sends events
+ * in response from the listener thread.
+ */
+public class InMemoryOpenMetadataTopicConnectorTest
+{
+    private static final int eventCount = 100;
+
+
+    @Test public void testListenerRepublishesWhileQueueIsFull() throws Exception
+    {
+        Connection          connection           = new Connection();
+        Endpoint            endpoint             = new Endpoint();
+        Map<String, Object> additionalProperties = new HashMap<>();
+
+        /*
+         * A queue size of one would fill up after the first event if it were honoured.
+         */
+        endpoint.setAddress("TestInMemoryTopic");
+        connection.setEndpoint(endpoint);
+        additionalProperties.put(OpenMetadataTopicConnector.incomingEventQueueSizePropertyName, 1);
+        connection.setAdditionalProperties(additionalProperties);
+
+        InMemoryOpenMetadataTopicConnector connector = new InMemoryOpenMetadataTopicConnector();
+
+        connector.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+
+        List<String>   receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allReceived    = new CountDownLatch(eventCount * 2);
+        CountDownLatch allSent        = new CountDownLatch(1);
+
+        connector.registerListener((event) ->
+                                   {
+                                       receivedEvents.add(event);
+
+                                       if (! event.startsWith("response"))
+                                       {
+                                           connector.sendEvent("response" + event);
+                                       }
+
+                                       allReceived.countDown();
+                                   });
+
+        /*
+         * The events are sent before the listener thread starts so they are all queued when it begins to
+         * process them and sends its responses.
+         */
+        Thread sender = new Thread(() ->
+                                   {
+                                       for (int i = 0; i < eventCount; i++)
+                                       {
+                                           connector.sendEvent("event" + i);
+                                       }
+
+                                       allSent.countDown();
+                                   });
+        sender.start();
+
+        assertTrue(allSent.await(10, TimeUnit.SECONDS));
+
+        connector.start();
+
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+        assertEquals(receivedEvents.size(), eventCount * 2);
+
+        for (int i = 0; i < eventCount; i++)
+        {
+            assertEquals(receivedEvents.get(i), "event" + i);
+            assertEquals(receivedEvents.get(eventCount + i), "responseevent" + i);
+        }
+
+        connector.disconnect();
+    }
+}
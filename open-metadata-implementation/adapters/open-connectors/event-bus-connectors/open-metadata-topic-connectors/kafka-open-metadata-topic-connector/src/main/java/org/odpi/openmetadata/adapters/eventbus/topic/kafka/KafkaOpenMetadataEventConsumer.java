@@ -153,17 +153,6 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                                    auditCode.getUserAction());
                 recoverAfterError();
             }
-            finally
-            {
-                try
-                {
-                    Thread.sleep(1000);
-                }
-                catch (InterruptedException e)
-                {
-                    log.error(String.format("Interruption error: %s", e.getMessage()), e);
-                }
-            }
         }
     }
 
@@ -8,9 +8,12 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
@@ -24,6 +27,13 @@ import java.util.concurrent.ExecutionException;
 /**
  * KafkaOMRSTopicConnector provides a concrete implementation of the OMRSTopicConnector that
  * uses native Apache Kafka as the event/messaging infrastructure.
+ * <p>
+ *     Outbound events are sent through a single Apache Kafka producer that is created on the first call to
+ *     sendEvent() and shared by all of the threads sending events until the connector is disconnected.
+ *     By default, events are sent asynchronously so that the producer can batch and compress them.  Any event
+ *     that the producer fails to deliver is reported to the audit log.  Setting the asyncSend property to
+ *     false causes sendEvent() to wait for each event to be acknowledged and throw an exception if it fails.
+ * </p>
  */
 public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 {
@@ -37,8 +47,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     private Thread                         consumerThread = null;
     private String                         outTopic = null;
     private String                         serverId = null;
+    private boolean                        asyncSend = true;
     private KafkaOpenMetadataEventConsumer consumer = null;
-    private List<String>                   incomingEventsList = Collections.synchronizedList(new ArrayList<>());
+    private Producer<String, String>       producer = null;
 
 
     /**
@@ -54,8 +65,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         producerProperties.put("bootstrap.servers", "localhost:9092");
         producerProperties.put("acks", "all");
         producerProperties.put("retries", 1);
-        producerProperties.put("batch.size", 16384);
-        producerProperties.put("linger.ms", 0);
+        producerProperties.put("batch.size", 65536);
+        producerProperties.put("linger.ms", 5);
+        producerProperties.put("compression.type", "lz4");
         producerProperties.put("buffer.memory", 33554432);
         producerProperties.put("key.serializer", "org.apache.kafka.common.serialization.StringSerializer");
         producerProperties.put("value.serializer", "org.apache.kafka.common.serialization.StringSerializer");
@@ -107,6 +119,12 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                 serverId = (String) additionalProperties.getProperty(KafkaOpenMetadataTopicProvider.serverIdPropertyName);
                 consumerProperties.put("group.id", serverId);
 
+                Object asyncSendProperty = additionalProperties.getProperty(KafkaOpenMetadataTopicProvider.asyncSendPropertyName);
+                if (asyncSendProperty != null)
+                {
+                    asyncSend = Boolean.parseBoolean(asyncSendProperty.toString());
+                }
+
                 auditCode = KafkaOpenMetadataTopicConnectorAuditCode.SERVICE_INITIALIZING;
                 auditLog.logRecord(actionDescription,
                                    auditCode.getLogMessageId(),
@@ -223,7 +241,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
 
     /**
-     * Sends the supplied event to the topic.
+     * Sends the supplied event to the topic.  In asynchronous mode, the event is queued in the producer and any
+     * failure to deliver it is reported to the audit log.  In synchronous mode, this method waits for the event
+     * to be acknowledged.
      *
      * @param event object containing the event properties.
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
@@ -232,15 +252,21 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     {
         final String methodName = "sendEvent";
 
-        Producer<String, String> producer = new KafkaProducer<>(producerProperties);
-
         try
         {
             log.debug("Sending message {0}" + event);
             ProducerRecord<String, String> record = new ProducerRecord<>(outTopic, serverId, event);
-            producer.send(record).get();
+
+            if (asyncSend)
+            {
+                this.getProducer().send(record, new DeliveryCallback(event));
+            }
+            else
+            {
+                this.getProducer().send(record).get();
+            }
         }
-        catch (InterruptedException | ExecutionException error)
+        catch (InterruptedException | ExecutionException | KafkaException error)
         {
             log.error("Exception in sendEvent ", error);
             KafkaOpenMetadataTopicConnectorErrorCode errorCode = KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT;
@@ -257,51 +283,69 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                                                 errorCode.getUserAction(),
                                                 error);
         }
-        finally
+    }
+
+
+    /**
+     * Return the producer shared by all of the threads sending events.  It is created on first use.
+     * Apache Kafka producers are thread-safe and hold a buffer of outbound events and a background thread
+     * for sending them, so they are too expensive to create for each event.
+     *
+     * @return producer
+     */
+    private synchronized Producer<String, String> getProducer()
+    {
+        if (producer == null)
         {
-            /*
-             * Producers have a thread and an in memory buffer
-             */
-            producer.flush();
-            producer.close();
+            producer = this.createProducer(producerProperties);
         }
 
+        return producer;
     }
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * Create the Apache Kafka producer used to send events.
      *
-     * @return a list of received events or null
+     * @param producerProperties properties for the producer
+     * @return new producer
      */
-    protected List<String> checkForEvents()
+    Producer<String, String> createProducer(Properties producerProperties)
     {
-        List<String> newEvents = null;
+        return new KafkaProducer<>(producerProperties);
+    }
 
-        // This method is called periodically from a independent thread managed by OpenMetadataTopic
-        // (superclass) so it should not block.
 
-        if ((incomingEventsList != null) && (!incomingEventsList.isEmpty()))
+    /**
+     * Send any events held in the producer and release its resources.
+     */
+    private synchronized void closeProducer()
+    {
+        if (producer != null)
         {
-            log.debug("checking for events {0}" + incomingEventsList);
-            newEvents = new ArrayList<>(incomingEventsList);
-
-            // empty incomingEventsList otherwise same events will be sent again
-            incomingEventsList.removeAll(newEvents);
+            try
+            {
+                producer.flush();
+            }
+            finally
+            {
+                producer.close();
+                producer = null;
+            }
         }
-
-        return newEvents;
     }
 
+
     /**
-     * Distribute events to other listeners.
+     * Distribute events to other listeners.  The event is passed to the listener thread of the
+     * superclass.  This call blocks the consumer thread if the listener thread has fallen behind.
      *
      * @param event object containing the event properties.
      */
     void distributeToListeners(String event)
     {
         log.debug("distribute event to listeners" + event);
-        incomingEventsList.add(event);
+        super.addIncomingEvent(event);
     }
 
 
@@ -326,6 +370,57 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                            auditCode.getSystemAction(),
                            auditCode.getUserAction());
 
-        consumer.safeCloseConsumer();
+        this.closeProducer();
+
+        if (consumer != null)
+        {
+            consumer.safeCloseConsumer();
+        }
+    }
+
+
+    /**
+     * DeliveryCallback is called by the producer's send thread when an asynchronous send completes.
+     * Failures are logged to the audit log since the caller of sendEvent() has already returned.
+     */
+    private class DeliveryCallback implements Callback
+    {
+        private String event;
+
+
+        /**
+         * Constructor saves the event for the audit log.
+         *
+         * @param event event being sent
+         */
+        DeliveryCallback(String event)
+        {
+            this.event = event;
+        }
+
+
+        /**
+         * Called when the event has been acknowledged or the send failed.
+         *
+         * @param metadata details of where the event was stored or null if the send failed
+         * @param error exception if the send failed or null
+         */
+        public void onCompletion(RecordMetadata metadata, Exception error)
+        {
+            if (error != null)
+            {
+                final String actionDescription = "sendEvent";
+
+                log.error("Exception delivering event ", error);
+                KafkaOpenMetadataTopicConnectorAuditCode auditCode = KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_SENDING_EVENT;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(outTopic, error.getClass().getName(), event, error.getMessage()),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
+            }
+        }
     }
 }
@@ -77,6 +77,12 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode
              "An incoming event could not be processed by one or more components in the server.",
              "Use the information in the event and the exception message, along with other messages to determine the source of the error."),
 
+    EXCEPTION_SENDING_EVENT("OCF-KAFKA-TOPIC-CONNECTOR-0010",
+             OMRSAuditLogRecordSeverity.ERROR,
+             "The Apache Kafka connector for topic {0} received an unexpected exception {1} when delivering an event.  The event was {2} and the message in the exception was {3}",
+             "The event could not be delivered to Apache Kafka after the producer exhausted its retries.  The event has been discarded.",
+             "Use the information in the event and the exception message, along with other messages to determine the source of the error.  Check that the Apache Kafka brokers are available."),
+
     ;
 
     private String                     logMessageId;
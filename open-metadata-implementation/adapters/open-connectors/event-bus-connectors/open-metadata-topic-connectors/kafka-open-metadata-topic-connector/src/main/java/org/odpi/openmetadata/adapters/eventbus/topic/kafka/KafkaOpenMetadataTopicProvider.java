@@ -20,6 +20,7 @@ public class KafkaOpenMetadataTopicProvider extends OpenMetadataTopicProvider
     public static final String  producerPropertyName = "producer";
     public static final String  consumerPropertyName = "consumer";
     public static final String  serverIdPropertyName = "local.server.id";
+    public static final String  asyncSendPropertyName = "asyncSend";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -43,6 +44,7 @@ public class KafkaOpenMetadataTopicProvider extends OpenMetadataTopicProvider
         recognizedPropertyNames.add(producerPropertyName);
         recognizedPropertyNames.add(consumerPropertyName);
         recognizedPropertyNames.add(serverIdPropertyName);
+        recognizedPropertyNames.add(asyncSendPropertyName);
 
         connectorType.setRecognizedAdditionalProperties(recognizedPropertyNames);
 
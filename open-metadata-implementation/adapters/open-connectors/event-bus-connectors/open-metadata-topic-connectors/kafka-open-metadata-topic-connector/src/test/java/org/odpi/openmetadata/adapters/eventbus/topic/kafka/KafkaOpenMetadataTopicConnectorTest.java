@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the KafkaOpenMetadataTopicConnector sends its events through a single shared producer.
+ * The producer is replaced by Apache Kafka's MockProducer so no broker is needed.
+ */
+public class KafkaOpenMetadataTopicConnectorTest
+{
+    private static final String topicName = "TestOpenMetadataTopic";
+
+
+    /**
+     * MockProducer that records whether it was flushed and closed.
+     */
+    private static class TestProducer extends MockProducer<String, String>
+    {
+        private boolean flushed = false;
+        private boolean closed  = false;
+
+        TestProducer(boolean autoComplete)
+        {
+            super(autoComplete, new StringSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public synchronized void flush()
+        {
+            super.flush();
+            flushed = true;
+        }
+
+        @Override
+        public void close()
+        {
+            super.close();
+            closed = true;
+        }
+    }
+
+
+    /**
+     * Connector that hands out test producers in place of real Apache Kafka producers.
+     */
+    private static class TestConnector extends KafkaOpenMetadataTopicConnector
+    {
+        private boolean            autoComplete;
+        private List<TestProducer> producers = new ArrayList<>();
+
+        TestConnector(boolean autoComplete)
+        {
+            this.autoComplete = autoComplete;
+        }
+
+        @Override
+        Producer<String, String> createProducer(Properties producerProperties)
+        {
+            TestProducer producer = new TestProducer(autoComplete);
+
+            producers.add(producer);
+            return producer;
+        }
+    }
+
+
+    private TestConnector getConnector(boolean autoComplete)
+    {
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress(topicName);
+        connection.setEndpoint(endpoint);
+
+        TestConnector connector = new TestConnector(autoComplete);
+
+        connector.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    @Test public void testProducerIsShared() throws Exception
+    {
+        TestConnector connector = getConnector(true);
+
+        for (int i = 0; i < 100; i++)
+        {
+            connector.sendEvent("event" + i);
+        }
+
+        assertEquals(connector.producers.size(), 1);
+        assertEquals(connector.producers.get(0).history().size(), 100);
+        assertEquals(connector.producers.get(0).history().get(99).topic(), topicName);
+        assertEquals(connector.producers.get(0).history().get(99).value(), "event99");
+    }
+
+
+    @Test public void testFailedDeliveryIsNotThrown() throws Exception
+    {
+        TestConnector connector = getConnector(false);
+
+        connector.sendEvent("event1");
+        connector.sendEvent("event2");
+
+        assertTrue(connector.producers.get(0).errorNext(new RuntimeException("Broker not available")));
+        assertTrue(connector.producers.get(0).completeNext());
+    }
+
+
+    @Test public void testDisconnectFlushesAndClosesProducer() throws Exception
+    {
+        TestConnector connector = getConnector(false);
+
+        connector.sendEvent("event1");
+        connector.disconnect();
+
+        TestProducer producer = connector.producers.get(0);
+
+        assertTrue(producer.flushed);
+        assertTrue(producer.closed);
+        assertEquals(producer.history().size(), 1);
+    }
+}
@@ -0,0 +1,314 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * FileBasedAuditLogIndexBlock is one entry in the sparse index of an audit log segment.  It describes a
+ * contiguous run of log records in the segment file: where they are, the range of their time stamps, and the
+ * severities and components that occur in them.  A query only reads the blocks that could contain a match.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class FileBasedAuditLogIndexBlock
+{
+    private long        offset        = 0;
+    private long        length        = 0;
+    private int         recordCount   = 0;
+    private long        minTimeStamp  = Long.MAX_VALUE;
+    private long        maxTimeStamp  = Long.MIN_VALUE;
+    private Set<String> severities    = new HashSet<>();
+    private Set<String> components    = new HashSet<>();
+
+
+    /**
+     * Default constructor
+     */
+    public FileBasedAuditLogIndexBlock()
+    {
+    }
+
+
+    /**
+     * Constructor for a new block starting at the supplied position in the segment file.
+     *
+     * @param offset position of the first log record of the block in the segment file
+     */
+    FileBasedAuditLogIndexBlock(long offset)
+    {
+        this.offset = offset;
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    FileBasedAuditLogIndexBlock(FileBasedAuditLogIndexBlock template)
+    {
+        this.offset = template.offset;
+        this.length = template.length;
+        this.recordCount = template.recordCount;
+        this.minTimeStamp = template.minTimeStamp;
+        this.maxTimeStamp = template.maxTimeStamp;
+        this.severities = new HashSet<>(template.severities);
+        this.components = new HashSet<>(template.components);
+    }
+
+
+    /**
+     * Add the details of a log record that has been written to the end of the block.
+     *
+     * @param recordLength number of bytes written for the log record
+     * @param timeStamp time stamp of the log record
+     * @param severity severity of the log record
+     * @param component name of the component that wrote the log record
+     */
+    void addRecord(long   recordLength,
+                   Date   timeStamp,
+                   String severity,
+                   String component)
+    {
+        length = length + recordLength;
+        recordCount++;
+
+        if (timeStamp != null)
+        {
+            minTimeStamp = Math.min(minTimeStamp, timeStamp.getTime());
+            maxTimeStamp = Math.max(maxTimeStamp, timeStamp.getTime());
+        }
+
+        if (severity != null)
+        {
+            severities.add(severity);
+        }
+
+        if (component != null)
+        {
+            components.add(component);
+        }
+    }
+
+
+    /**
+     * Return whether any of the log records in the block may match the query.
+     *
+     * @param startTime start of the time period (inclusive) or null for no lower bound
+     * @param endTime end of the time period (inclusive) or null for no upper bound
+     * @param severity severity to match or null for any severity
+     * @param component component name to match or null for any component
+     * @return boolean
+     */
+    boolean mayMatch(Long   startTime,
+                     Long   endTime,
+                     String severity,
+                     String component)
+    {
+        if (recordCount == 0)
+        {
+            return false;
+        }
+
+        if ((startTime != null) && (maxTimeStamp < startTime))
+        {
+            return false;
+        }
+
+        if ((endTime != null) && (minTimeStamp > endTime))
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severities.contains(severity)))
+        {
+            return false;
+        }
+
+        return (component == null) || (components.contains(component));
+    }
+
+
+    /**
+     * Return the position of the first log record of the block in the segment file.
+     *
+     * @return byte offset
+     */
+    public long getOffset()
+    {
+        return offset;
+    }
+
+
+    /**
+     * Set up the position of the first log record of the block in the segment file.
+     *
+     * @param offset byte offset
+     */
+    public void setOffset(long offset)
+    {
+        this.offset = offset;
+    }
+
+
+    /**
+     * Return the number of bytes in the segment file covered by the block.
+     *
+     * @return byte count
+     */
+    public long getLength()
+    {
+        return length;
+    }
+
+
+    /**
+     * Set up the number of bytes in the segment file covered by the block.
+     *
+     * @param length byte count
+     */
+    public void setLength(long length)
+    {
+        this.length = length;
+    }
+
+
+    /**
+     * Return the number of log records in the block.
+     *
+     * @return count
+     */
+    public int getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of log records in the block.
+     *
+     * @param recordCount count
+     */
+    public void setRecordCount(int recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the earliest time stamp of the log records in the block.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getMinTimeStamp()
+    {
+        return minTimeStamp;
+    }
+
+
+    /**
+     * Set up the earliest time stamp of the log records in the block.
+     *
+     * @param minTimeStamp milliseconds since the epoch
+     */
+    public void setMinTimeStamp(long minTimeStamp)
+    {
+        this.minTimeStamp = minTimeStamp;
+    }
+
+
+    /**
+     * Return the latest time stamp of the log records in the block.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getMaxTimeStamp()
+    {
+        return maxTimeStamp;
+    }
+
+
+    /**
+     * Set up the latest time stamp of the log records in the block.
+     *
+     * @param maxTimeStamp milliseconds since the epoch
+     */
+    public void setMaxTimeStamp(long maxTimeStamp)
+    {
+        this.maxTimeStamp = maxTimeStamp;
+    }
+
+
+    /**
+     * Return the severities of the log records in the block.
+     *
+     * @return set of severity names
+     */
+    public Set<String> getSeverities()
+    {
+        return severities;
+    }
+
+
+    /**
+     * Set up the severities of the log records in the block.
+     *
+     * @param severities set of severity names
+     */
+    public void setSeverities(Set<String> severities)
+    {
+        this.severities = (severities == null) ? new HashSet<>() : severities;
+    }
+
+
+    /**
+     * Return the names of the components that wrote the log records in the block.
+     *
+     * @return set of component names
+     */
+    public Set<String> getComponents()
+    {
+        return components;
+    }
+
+
+    /**
+     * Set up the names of the components that wrote the log records in the block.
+     *
+     * @param components set of component names
+     */
+    public void setComponents(Set<String> components)
+    {
+        this.components = (components == null) ? new HashSet<>() : components;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "FileBasedAuditLogIndexBlock{" +
+                "offset=" + offset +
+                ", length=" + length +
+                ", recordCount=" + recordCount +
+                ", minTimeStamp=" + minTimeStamp +
+                ", maxTimeStamp=" + maxTimeStamp +
+                ", severities=" + severities +
+                ", components=" + components +
+                '}';
+    }
+}
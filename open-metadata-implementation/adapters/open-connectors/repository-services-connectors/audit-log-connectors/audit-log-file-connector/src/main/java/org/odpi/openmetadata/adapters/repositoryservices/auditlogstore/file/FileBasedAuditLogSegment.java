@@ -0,0 +1,435 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * FileBasedAuditLogSegment manages one segment file of the file based audit log store.  The segment file holds
+ * one log record per line, formatted in JSON, and is only ever appended to.  Alongside it is an index file that
+ * holds the sparse index of the segment: a list of FileBasedAuditLogIndexBlock entries each covering a run of
+ * log records.  The index file is written when the segment is sealed (it is full or the store is closed).
+ * If the index file is missing or out of date when the store restarts, it is rebuilt from the segment file.
+ */
+class FileBasedAuditLogSegment
+{
+    private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogSegment.class);
+
+    private static final String segmentFilePrefix    = "auditlog-";
+    private static final String segmentFileExtension = ".log";
+    private static final String indexFileExtension   = ".idx";
+
+    private long                              segmentNumber;
+    private File                              segmentFile;
+    private File                              indexFile;
+    private int                               recordsPerBlock;
+    private List<FileBasedAuditLogIndexBlock> blocks       = new ArrayList<>();
+    private FileBasedAuditLogIndexBlock       currentBlock = null;
+    private long                              size         = 0;
+    private FileOutputStream                  fileStream   = null;
+    private BufferedOutputStream              outputStream = null;
+
+
+    /**
+     * Constructor for a segment.
+     *
+     * @param directory directory of the audit log store
+     * @param segmentNumber sequence number of the segment
+     * @param recordsPerBlock number of log records covered by each index block
+     */
+    FileBasedAuditLogSegment(File directory,
+                             long segmentNumber,
+                             int  recordsPerBlock)
+    {
+        this.segmentNumber = segmentNumber;
+        this.segmentFile = new File(directory, String.format("%s%010d%s", segmentFilePrefix, segmentNumber, segmentFileExtension));
+        this.indexFile = new File(directory, String.format("%s%010d%s", segmentFilePrefix, segmentNumber, indexFileExtension));
+        this.recordsPerBlock = recordsPerBlock;
+    }
+
+
+    /**
+     * Return the sequence number of the segment from the name of a segment file.
+     *
+     * @param fileName name of a file in the audit log store directory
+     * @return segment number or -1 if this is not a segment file
+     */
+    static long getSegmentNumber(String fileName)
+    {
+        if ((fileName != null) && (fileName.startsWith(segmentFilePrefix)) && (fileName.endsWith(segmentFileExtension)))
+        {
+            try
+            {
+                return Long.parseLong(fileName.substring(segmentFilePrefix.length(),
+                                                         fileName.length() - segmentFileExtension.length()));
+            }
+            catch (NumberFormatException   notSegment)
+            {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Return the sequence number of the segment.
+     *
+     * @return segment number
+     */
+    long getSegmentNumber()
+    {
+        return segmentNumber;
+    }
+
+
+    /**
+     * Return the number of bytes in the segment file.
+     *
+     * @return byte count
+     */
+    long getSize()
+    {
+        return size;
+    }
+
+
+    /**
+     * Return the latest time stamp of the log records in the segment.
+     *
+     * @return milliseconds since the epoch (Long.MIN_VALUE if the segment is empty)
+     */
+    long getMaxTimeStamp()
+    {
+        long maxTimeStamp = Long.MIN_VALUE;
+
+        for (FileBasedAuditLogIndexBlock block : blocks)
+        {
+            maxTimeStamp = Math.max(maxTimeStamp, block.getMaxTimeStamp());
+        }
+
+        return maxTimeStamp;
+    }
+
+
+    /**
+     * Return a copy of the index of the segment.  The copy is not affected by log records added later.
+     *
+     * @return list of index blocks
+     */
+    List<FileBasedAuditLogIndexBlock> getBlocks()
+    {
+        List<FileBasedAuditLogIndexBlock> blocksCopy = new ArrayList<>(blocks.size());
+
+        for (FileBasedAuditLogIndexBlock block : blocks)
+        {
+            blocksCopy.add(new FileBasedAuditLogIndexBlock(block));
+        }
+
+        return blocksCopy;
+    }
+
+
+    /**
+     * Load the index of an existing segment.  The index file is used if it covers the whole segment file,
+     * otherwise the index is rebuilt by reading the segment file.  A partly written log record at the end
+     * of the segment file (from a crash) is removed.
+     *
+     * @throws IOException problem reading the segment
+     */
+    void load() throws IOException
+    {
+        size = segmentFile.length();
+
+        if (indexFile.exists())
+        {
+            try
+            {
+                byte[]                        indexContents = Files.readAllBytes(indexFile.toPath());
+                FileBasedAuditLogIndexBlock[] indexBlocks   = OMRSJSONMapper.readValue(new String(indexContents, StandardCharsets.UTF_8),
+                                                                                       FileBasedAuditLogIndexBlock[].class);
+                long                          indexedSize   = 0;
+
+                if (indexBlocks != null)
+                {
+                    for (FileBasedAuditLogIndexBlock block : indexBlocks)
+                    {
+                        indexedSize = indexedSize + block.getLength();
+                    }
+
+                    if (indexedSize == size)
+                    {
+                        blocks = new ArrayList<>(Arrays.asList(indexBlocks));
+                        return;
+                    }
+                }
+            }
+            catch (IOException   badIndex)
+            {
+                log.debug("Rebuilding unreadable index " + indexFile.getName(), badIndex);
+            }
+        }
+
+        this.rebuildIndex();
+    }
+
+
+    /**
+     * Rebuild the index by reading each log record in the segment file.
+     *
+     * @throws IOException problem reading the segment
+     */
+    private void rebuildIndex() throws IOException
+    {
+        log.debug("Rebuilding index for audit log segment " + segmentFile.getName());
+
+        blocks = new ArrayList<>();
+        currentBlock = null;
+        size = 0;
+
+        long completeLength = 0;
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(segmentFile)))
+        {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int                   nextByte;
+
+            while ((nextByte = inputStream.read()) != -1)
+            {
+                if (nextByte == '\n')
+                {
+                    long recordLength = line.size() + 1;
+
+                    this.indexRecord(recordLength, parseRecord(new String(line.toByteArray(), StandardCharsets.UTF_8)));
+                    completeLength = completeLength + recordLength;
+                    line.reset();
+                }
+                else
+                {
+                    line.write(nextByte);
+                }
+            }
+        }
+
+        if (completeLength < segmentFile.length())
+        {
+            log.debug("Removing incomplete log record from end of audit log segment " + segmentFile.getName());
+
+            try (RandomAccessFile file = new RandomAccessFile(segmentFile, "rw"))
+            {
+                file.setLength(completeLength);
+            }
+        }
+
+        size = completeLength;
+        this.writeIndex();
+    }
+
+
+    /**
+     * Open the segment file so that log records can be appended to it.  New log records are added to the
+     * last block of the index.
+     *
+     * @throws IOException problem opening the file
+     */
+    void openForAppend() throws IOException
+    {
+        fileStream = new FileOutputStream(segmentFile, true);
+        outputStream = new BufferedOutputStream(fileStream, 64 * 1024);
+        size = segmentFile.length();
+
+        if (! blocks.isEmpty())
+        {
+            currentBlock = blocks.get(blocks.size() - 1);
+        }
+    }
+
+
+    /**
+     * Append a log record to the segment file and add it to the index.  The log record is buffered until the
+     * next call to flush.
+     *
+     * @param logRecord log record
+     * @throws IOException problem writing to the file
+     */
+    void append(OMRSAuditLogRecord logRecord) throws IOException
+    {
+        byte[] recordBytes = OMRSJSONMapper.getWriter().writeValueAsBytes(logRecord);
+
+        outputStream.write(recordBytes);
+        outputStream.write('\n');
+
+        this.indexRecord(recordBytes.length + 1, logRecord);
+    }
+
+
+    /**
+     * Add a log record that has been written to the end of the segment file to the index.
+     *
+     * @param recordLength number of bytes used by the log record
+     * @param logRecord log record (null if it could not be parsed)
+     */
+    private void indexRecord(long               recordLength,
+                             OMRSAuditLogRecord logRecord)
+    {
+        if ((currentBlock == null) || (currentBlock.getRecordCount() >= recordsPerBlock))
+        {
+            currentBlock = new FileBasedAuditLogIndexBlock(size);
+            blocks.add(currentBlock);
+        }
+
+        if (logRecord == null)
+        {
+            currentBlock.addRecord(recordLength, null, null, null);
+        }
+        else
+        {
+            String component = null;
+
+            if (logRecord.getReportingComponent() != null)
+            {
+                component = logRecord.getReportingComponent().getComponentName();
+            }
+
+            currentBlock.addRecord(recordLength, logRecord.getTimeStamp(), logRecord.getSeverity(), component);
+        }
+
+        size = size + recordLength;
+    }
+
+
+    /**
+     * Write the buffered log records to the segment file.
+     *
+     * @param force also force the log records to the storage device
+     * @throws IOException problem writing to the file
+     */
+    void flush(boolean force) throws IOException
+    {
+        if (outputStream != null)
+        {
+            outputStream.flush();
+
+            if (force)
+            {
+                fileStream.getChannel().force(false);
+            }
+        }
+    }
+
+
+    /**
+     * Close the segment file and write the index file.  No more log records can be added to the segment.
+     *
+     * @throws IOException problem writing the files
+     */
+    void seal() throws IOException
+    {
+        if (outputStream != null)
+        {
+            this.flush(true);
+            outputStream.close();
+            outputStream = null;
+            fileStream = null;
+        }
+
+        currentBlock = null;
+        this.writeIndex();
+    }
+
+
+    /**
+     * Write the index of the segment to the index file.
+     *
+     * @throws IOException problem writing the file
+     */
+    private void writeIndex() throws IOException
+    {
+        try (FileOutputStream indexStream = new FileOutputStream(indexFile, false))
+        {
+            indexStream.write(OMRSJSONMapper.getWriter().writeValueAsBytes(blocks));
+        }
+    }
+
+
+    /**
+     * Read the lines of the segment file covered by an index block.
+     *
+     * @param block index block
+     * @return list of log records formatted in JSON
+     * @throws IOException problem reading the file
+     */
+    List<String> readLines(FileBasedAuditLogIndexBlock block) throws IOException
+    {
+        List<String> lines = new ArrayList<>(block.getRecordCount());
+        byte[]       blockBytes = new byte[(int)block.getLength()];
+
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile, "r"))
+        {
+            file.seek(block.getOffset());
+            file.readFully(blockBytes);
+        }
+
+        int lineStart = 0;
+
+        for (int i = 0; i < blockBytes.length; i++)
+        {
+            if (blockBytes[i] == '\n')
+            {
+                lines.add(new String(blockBytes, lineStart, i - lineStart, StandardCharsets.UTF_8));
+                lineStart = i + 1;
+            }
+        }
+
+        return lines;
+    }
+
+
+    /**
+     * Convert a line of the segment file into a log record.
+     *
+     * @param line log record formatted in JSON
+     * @return log record or null if the line is not a log record
+     */
+    static OMRSAuditLogRecord parseRecord(String line)
+    {
+        try
+        {
+            return OMRSJSONMapper.readValue(line, OMRSAuditLogRecord.class);
+        }
+        catch (IOException   badRecord)
+        {
+            log.debug("Ignoring unreadable audit log record: " + line, badRecord);
+            return null;
+        }
+    }
+
+
+    /**
+     * Remove the segment and its index from the audit log store.
+     */
+    void delete()
+    {
+        log.debug("Removing audit log segment " + segmentFile.getName());
+
+        if (! segmentFile.delete())
+        {
+            log.debug("Unable to remove audit log segment " + segmentFile.getName());
+        }
+
+        if (indexFile.exists() && (! indexFile.delete()))
+        {
+            log.debug("Unable to remove audit log index " + indexFile.getName());
+        }
+    }
+}
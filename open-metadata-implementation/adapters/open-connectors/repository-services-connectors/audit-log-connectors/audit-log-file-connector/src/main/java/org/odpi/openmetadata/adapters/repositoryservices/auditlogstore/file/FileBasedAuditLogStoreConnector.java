@@ -1,6 +1,9 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
@@ -10,19 +13,50 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorExcept
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
 
 /**
  * FileBasedAuditLogStoreConnector provides a connector implementation for a file based audit log.
- * The audit log is stored in a directory and each audit log record is stored as a file with a filename build
- * from the record's unique identifier (guid).
+ * The audit log is stored in a directory (named in the endpoint of the connection) as a series of segment files.
+ * Log records are appended to the newest segment, one JSON-formatted record per line.  When the segment reaches
+ * its maximum size it is sealed and a new segment is started.  Sealed segments are removed once there are more
+ * than the maximum number of segments or their log records are older than the retention period.
+ * <p>
+ *     Writes are buffered and committed to disk in groups: either when a number of log records are waiting or
+ *     when the flush interval passes.  Each segment has a sparse index of blocks of log records, recording the range
+ *     of time stamps and the severities and components in each block.  Queries use the index to read only the blocks
+ *     that could contain matching log records.
+ * </p>
  */
 public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
 {
     private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogStoreConnector.class);
 
+    private static final String defaultDirectoryName   = "omrs.auditlog";
+    private static final int    defaultMaxSegmentSize  = 16 * 1024 * 1024;
+    private static final int    defaultMaxSegments     = 64;
+    private static final int    defaultRetentionDays   = 0;
+    private static final int    defaultFlushInterval   = 1000;
+    private static final int    defaultGroupCommitSize = 100;
+    private static final int    recordsPerIndexBlock   = 256;
+    private static final long   millisecondsPerDay     = 24L * 60 * 60 * 1000;
+
+    private String                         directoryName   = defaultDirectoryName;
+    private int                            maxSegmentSize  = defaultMaxSegmentSize;
+    private int                            maxSegments     = defaultMaxSegments;
+    private int                            retentionDays   = defaultRetentionDays;
+    private int                            flushInterval   = defaultFlushInterval;
+    private int                            groupCommitSize = defaultGroupCommitSize;
+
+    private File                           directory       = null;
+    private List<FileBasedAuditLogSegment> sealedSegments  = new ArrayList<>();
+    private FileBasedAuditLogSegment       activeSegment   = null;
+    private int                            pendingRecords  = 0;
+    private Thread                         flushThread     = null;
+    private volatile boolean               storeOpen       = false;
+
 
     /**
      * Default constructor used by the connector provider.
@@ -33,7 +67,84 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Store the audit log record in the audit log store.
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId unique id for the connector instance useful for messages etc
+     * @param connectionProperties POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if ((endpoint != null) && (endpoint.getAddress() != null))
+        {
+            directoryName = endpoint.getAddress();
+        }
+
+        AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+        if (additionalProperties != null)
+        {
+            maxSegmentSize = this.getIntegerProperty(additionalProperties,
+                                                     FileBasedAuditLogStoreProvider.maxSegmentSizePropertyName,
+                                                     defaultMaxSegmentSize);
+            maxSegments = this.getIntegerProperty(additionalProperties,
+                                                  FileBasedAuditLogStoreProvider.maxSegmentsPropertyName,
+                                                  defaultMaxSegments);
+            retentionDays = this.getIntegerProperty(additionalProperties,
+                                                    FileBasedAuditLogStoreProvider.retentionDaysPropertyName,
+                                                    defaultRetentionDays);
+            flushInterval = this.getIntegerProperty(additionalProperties,
+                                                    FileBasedAuditLogStoreProvider.flushIntervalPropertyName,
+                                                    defaultFlushInterval);
+            groupCommitSize = this.getIntegerProperty(additionalProperties,
+                                                      FileBasedAuditLogStoreProvider.groupCommitSizePropertyName,
+                                                      defaultGroupCommitSize);
+        }
+
+        if (flushInterval <= 0)
+        {
+            flushInterval = defaultFlushInterval;
+        }
+    }
+
+
+    /**
+     * Extract an integer value from the additional properties.  The value may be a number or a string.
+     *
+     * @param additionalProperties additional properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return property value
+     */
+    private int getIntegerProperty(AdditionalProperties additionalProperties,
+                                   String               propertyName,
+                                   int                  defaultValue)
+    {
+        Object propertyValue = additionalProperties.getProperty(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                return Integer.parseInt(propertyValue.toString().trim());
+            }
+            catch (NumberFormatException   error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Store the audit log record in the audit log store.  The log record is appended to the active segment and
+     * is committed to disk with the next group of log records.
      *
      * @param logRecord  log record to store
      * @return unique identifier assigned to the log record
@@ -56,14 +167,42 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                 errorCode.getUserAction());
         }
 
-        log.debug("AuditLogRecord: " + logRecord.toString());
+        if (logRecord.getGUID() == null)
+        {
+            logRecord.setGUID(UUID.randomUUID().toString());
+        }
 
-        return null;
+        synchronized (this)
+        {
+            try
+            {
+                this.openStore();
+
+                activeSegment.append(logRecord);
+                pendingRecords++;
+
+                if (activeSegment.getSize() >= maxSegmentSize)
+                {
+                    this.rollSegment();
+                }
+                else if (pendingRecords >= groupCommitSize)
+                {
+                    this.commitPendingRecords();
+                }
+            }
+            catch (IOException   ioException)
+            {
+                log.error("Unable to write audit log record " + logRecord.getGUID() + " to " + directoryName, ioException);
+                return null;
+            }
+        }
+
+        return logRecord.getGUID();
     }
 
 
     /**
-     * Retrieve a specific audit log record.
+     * Retrieve a specific audit log record.  The segments are searched newest first.
      *
      * @param logRecordId  unique identifier for the log record
      * @return requested audit log record
@@ -71,6 +210,51 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
      */
     public OMRSAuditLogRecord  getAuditLogRecord(String     logRecordId) throws InvalidParameterException
     {
+        final String   methodName = "getAuditLogRecord";
+
+        if (logRecordId == null)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NULL_LOG_RECORD_ID;
+            String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
+                                                                                                            directoryName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        List<SegmentSnapshot> snapshots = this.getSegmentSnapshots();
+
+        Collections.reverse(snapshots);
+
+        for (SegmentSnapshot snapshot : snapshots)
+        {
+            List<FileBasedAuditLogIndexBlock> blocks = new ArrayList<>(snapshot.blocks);
+
+            Collections.reverse(blocks);
+
+            for (FileBasedAuditLogIndexBlock block : blocks)
+            {
+                for (String line : this.readLines(snapshot.segment, block))
+                {
+                    /*
+                     * Only lines that mention the guid are parsed.
+                     */
+                    if (line.contains(logRecordId))
+                    {
+                        OMRSAuditLogRecord logRecord = FileBasedAuditLogSegment.parseRecord(line);
+
+                        if ((logRecord != null) && (logRecordId.equals(logRecord.getGUID())))
+                        {
+                            return logRecord;
+                        }
+                    }
+                }
+            }
+        }
 
         return null;
     }
@@ -94,7 +278,9 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                        int     maximumRecords) throws InvalidParameterException,
                                                                                                       PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsByTimeStamp";
+
+        return this.findLogRecords(methodName, null, null, startDate, endDate, offset, maximumRecords);
     }
 
     /**
@@ -117,7 +303,12 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                       int      maximumRecords) throws InvalidParameterException,
                                                                                                       PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsBySeverity";
+        final String   parameterName = "severity";
+
+        this.validateSearchValue(severity, parameterName, methodName);
+
+        return this.findLogRecords(methodName, severity, null, startDate, endDate, offset, maximumRecords);
     }
 
 
@@ -141,7 +332,412 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
                                                                   int    maximumRecords) throws InvalidParameterException,
                                                                                                 PagingErrorException
     {
-        return null;
+        final String   methodName = "getAuditLogRecordsByComponent";
+        final String   parameterName = "component";
+
+        this.validateSearchValue(component, parameterName, methodName);
+
+        return this.findLogRecords(methodName, null, component, startDate, endDate, offset, maximumRecords);
+    }
+
+
+    /**
+     * Validate that a search value has been supplied.
+     *
+     * @param searchValue value to search for
+     * @param parameterName name of the parameter
+     * @param methodName name of the calling method
+     * @throws InvalidParameterException the search value is null
+     */
+    private void validateSearchValue(String searchValue,
+                                     String parameterName,
+                                     String methodName) throws InvalidParameterException
+    {
+        if (searchValue == null)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NULL_LOG_RECORD_SEARCH_VALUE;
+            String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(parameterName,
+                                                                                                            methodName,
+                                                                                                            directoryName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Return the log records that match the query in the order they were written.  Only the index blocks
+     * that may contain matching log records are read.
+     *
+     * @param methodName name of the calling method
+     * @param severity severity to match or null for any severity
+     * @param component component name to match or null for any component
+     * @param startDate start of time period or null for no lower bound
+     * @param endDate end of time period or null for no upper bound
+     * @param offset number of matching log records to skip
+     * @param maximumRecords maximum number of log records to return (zero means no limit)
+     * @return list of log records or null if none match
+     * @throws InvalidParameterException the time period is invalid
+     * @throws PagingErrorException the offset or the maximumRecords parameters are negative
+     */
+    private ArrayList<OMRSAuditLogRecord> findLogRecords(String methodName,
+                                                         String severity,
+                                                         String component,
+                                                         Date   startDate,
+                                                         Date   endDate,
+                                                         int    offset,
+                                                         int    maximumRecords) throws InvalidParameterException,
+                                                                                       PagingErrorException
+    {
+        if ((offset < 0) || (maximumRecords < 0))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.INVALID_LOG_RECORD_PAGING;
+            String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(Integer.toString(offset),
+                                                                                                            Integer.toString(maximumRecords),
+                                                                                                            methodName,
+                                                                                                            directoryName);
+
+            throw new PagingErrorException(errorCode.getHTTPErrorCode(),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           errorMessage,
+                                           errorCode.getSystemAction(),
+                                           errorCode.getUserAction());
+        }
+
+        if ((startDate != null) && (endDate != null) && (startDate.after(endDate)))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.INVALID_LOG_RECORD_TIME_PERIOD;
+            String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(startDate.toString(),
+                                                                                                            methodName,
+                                                                                                            directoryName,
+                                                                                                            endDate.toString());
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        Long                          startTime  = (startDate == null) ? null : startDate.getTime();
+        Long                          endTime    = (endDate == null) ? null : endDate.getTime();
+        ArrayList<OMRSAuditLogRecord> results    = new ArrayList<>();
+        int                           skipped    = 0;
+
+        for (SegmentSnapshot snapshot : this.getSegmentSnapshots())
+        {
+            for (FileBasedAuditLogIndexBlock block : snapshot.blocks)
+            {
+                if (block.mayMatch(startTime, endTime, severity, component))
+                {
+                    for (String line : this.readLines(snapshot.segment, block))
+                    {
+                        OMRSAuditLogRecord logRecord = FileBasedAuditLogSegment.parseRecord(line);
+
+                        if (this.isMatch(logRecord, startTime, endTime, severity, component))
+                        {
+                            if (skipped < offset)
+                            {
+                                skipped++;
+                            }
+                            else
+                            {
+                                results.add(logRecord);
+
+                                if ((maximumRecords != 0) && (results.size() >= maximumRecords))
+                                {
+                                    return results;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return whether a log record matches the query.
+     *
+     * @param logRecord log record read from a segment
+     * @param startTime start of the time period (inclusive) or null for no lower bound
+     * @param endTime end of the time period (inclusive) or null for no upper bound
+     * @param severity severity to match or null for any severity
+     * @param component component name to match or null for any component
+     * @return boolean
+     */
+    private boolean isMatch(OMRSAuditLogRecord logRecord,
+                            Long               startTime,
+                            Long               endTime,
+                            String             severity,
+                            String             component)
+    {
+        if (logRecord == null)
+        {
+            return false;
+        }
+
+        if ((startTime != null) || (endTime != null))
+        {
+            if (logRecord.getTimeStamp() == null)
+            {
+                return false;
+            }
+
+            long timeStamp = logRecord.getTimeStamp().getTime();
+
+            if (((startTime != null) && (timeStamp < startTime)) || ((endTime != null) && (timeStamp > endTime)))
+            {
+                return false;
+            }
+        }
+
+        if ((severity != null) && (! severity.equals(logRecord.getSeverity())))
+        {
+            return false;
+        }
+
+        return (component == null) ||
+               ((logRecord.getReportingComponent() != null) &&
+                (component.equals(logRecord.getReportingComponent().getComponentName())));
+    }
+
+
+    /**
+     * Read the log records covered by an index block.  A segment may be removed by the retention policy while
+     * it is being read, in which case its log records are skipped.
+     *
+     * @param segment segment to read
+     * @param block index block
+     * @return list of log records formatted in JSON
+     */
+    private List<String> readLines(FileBasedAuditLogSegment    segment,
+                                   FileBasedAuditLogIndexBlock block)
+    {
+        try
+        {
+            return segment.readLines(block);
+        }
+        catch (IOException   ioException)
+        {
+            log.debug("Unable to read audit log segment " + segment.getSegmentNumber(), ioException);
+            return new ArrayList<>();
+        }
+    }
+
+
+    /**
+     * Return a snapshot of the index of each segment, oldest first.  The buffered log records are written to
+     * the active segment first so that the snapshot covers every stored log record.
+     *
+     * @return list of segment snapshots
+     */
+    private synchronized List<SegmentSnapshot> getSegmentSnapshots()
+    {
+        List<SegmentSnapshot> snapshots = new ArrayList<>();
+
+        try
+        {
+            this.openStore();
+
+            activeSegment.flush(false);
+        }
+        catch (IOException   ioException)
+        {
+            log.error("Unable to read audit log store " + directoryName, ioException);
+            return snapshots;
+        }
+
+        for (FileBasedAuditLogSegment segment : sealedSegments)
+        {
+            snapshots.add(new SegmentSnapshot(segment, segment.getBlocks()));
+        }
+
+        snapshots.add(new SegmentSnapshot(activeSegment, activeSegment.getBlocks()));
+
+        return snapshots;
+    }
+
+
+    /**
+     * Open the audit log store if it is not already open.  The existing segments are loaded and the newest
+     * segment is reopened for new log records unless it is full.
+     *
+     * @throws IOException the directory can not be used
+     */
+    private synchronized void openStore() throws IOException
+    {
+        if (storeOpen)
+        {
+            return;
+        }
+
+        directory = new File(directoryName);
+
+        if ((! directory.isDirectory()) && (! directory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + directory.getAbsolutePath());
+        }
+
+        List<Long> segmentNumbers = new ArrayList<>();
+        String[]   fileNames      = directory.list();
+
+        if (fileNames != null)
+        {
+            for (String fileName : fileNames)
+            {
+                long segmentNumber = FileBasedAuditLogSegment.getSegmentNumber(fileName);
+
+                if (segmentNumber >= 0)
+                {
+                    segmentNumbers.add(segmentNumber);
+                }
+            }
+        }
+
+        Collections.sort(segmentNumbers);
+
+        sealedSegments = new ArrayList<>();
+
+        for (Long segmentNumber : segmentNumbers)
+        {
+            FileBasedAuditLogSegment segment = new FileBasedAuditLogSegment(directory, segmentNumber, recordsPerIndexBlock);
+
+            segment.load();
+            sealedSegments.add(segment);
+        }
+
+        if ((! sealedSegments.isEmpty()) &&
+            (sealedSegments.get(sealedSegments.size() - 1).getSize() < maxSegmentSize))
+        {
+            activeSegment = sealedSegments.remove(sealedSegments.size() - 1);
+        }
+        else
+        {
+            long nextSegmentNumber = segmentNumbers.isEmpty() ? 0 : segmentNumbers.get(segmentNumbers.size() - 1) + 1;
+
+            activeSegment = new FileBasedAuditLogSegment(directory, nextSegmentNumber, recordsPerIndexBlock);
+        }
+
+        activeSegment.openForAppend();
+        pendingRecords = 0;
+        storeOpen = true;
+
+        this.applyRetentionPolicy();
+
+        flushThread = new Thread(new GroupCommitter(), "Audit log store flush: " + directoryName);
+        flushThread.setDaemon(true);
+        flushThread.start();
+
+        log.debug("Opened audit log store " + directory.getAbsolutePath() + " with " + (sealedSegments.size() + 1) + " segments");
+    }
+
+
+    /**
+     * Seal the active segment and start a new one.
+     *
+     * @throws IOException problem writing the segments
+     */
+    private void rollSegment() throws IOException
+    {
+        activeSegment.seal();
+        sealedSegments.add(activeSegment);
+        pendingRecords = 0;
+
+        activeSegment = new FileBasedAuditLogSegment(directory, activeSegment.getSegmentNumber() + 1, recordsPerIndexBlock);
+        activeSegment.openForAppend();
+
+        this.applyRetentionPolicy();
+    }
+
+
+    /**
+     * Remove the sealed segments that are beyond the maximum number of segments, or whose log records are all
+     * older than the retention period.  The active segment is never removed.
+     */
+    private void applyRetentionPolicy()
+    {
+        while ((maxSegments > 0) && (! sealedSegments.isEmpty()) && (sealedSegments.size() + 1 > maxSegments))
+        {
+            sealedSegments.remove(0).delete();
+        }
+
+        if (retentionDays > 0)
+        {
+            long                               cutOffTime = System.currentTimeMillis() - (retentionDays * millisecondsPerDay);
+            Iterator<FileBasedAuditLogSegment> iterator   = sealedSegments.iterator();
+
+            while (iterator.hasNext())
+            {
+                FileBasedAuditLogSegment segment = iterator.next();
+
+                if (segment.getMaxTimeStamp() < cutOffTime)
+                {
+                    iterator.remove();
+                    segment.delete();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Commit the buffered log records to disk.
+     *
+     * @throws IOException problem writing the segment
+     */
+    private void commitPendingRecords() throws IOException
+    {
+        if (pendingRecords > 0)
+        {
+            activeSegment.flush(true);
+            pendingRecords = 0;
+        }
+    }
+
+
+    /**
+     * Close the audit log store, committing any buffered log records and writing the index of the active segment.
+     */
+    private synchronized void closeStore()
+    {
+        if (storeOpen)
+        {
+            storeOpen = false;
+
+            if (flushThread != null)
+            {
+                flushThread.interrupt();
+                flushThread = null;
+            }
+
+            try
+            {
+                activeSegment.seal();
+            }
+            catch (IOException   ioException)
+            {
+                log.error("Unable to close audit log store " + directoryName, ioException);
+            }
+
+            activeSegment = null;
+            sealedSegments = new ArrayList<>();
+        }
     }
 
 
@@ -152,7 +748,28 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
      */
     public void start() throws ConnectorCheckedException
     {
+        final String   methodName = "start";
+
         super.start();
+
+        try
+        {
+            this.openStore();
+        }
+        catch (IOException   ioException)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.AUDIT_LOG_STORE_UNAVAILABLE;
+            String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(directoryName,
+                                                                                                            ioException.getMessage());
+
+            throw new ConnectorCheckedException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction(),
+                                                ioException);
+        }
     }
 
 
@@ -163,6 +780,75 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
      */
     public  void disconnect() throws ConnectorCheckedException
     {
+        this.closeStore();
+
         super.disconnect();
     }
+
+
+    /**
+     * SegmentSnapshot is the index of a segment at the time a query started.
+     */
+    private static class SegmentSnapshot
+    {
+        private FileBasedAuditLogSegment          segment;
+        private List<FileBasedAuditLogIndexBlock> blocks;
+
+
+        /**
+         * Constructor for a snapshot.
+         *
+         * @param segment segment
+         * @param blocks copy of the segment's index
+         */
+        SegmentSnapshot(FileBasedAuditLogSegment          segment,
+                        List<FileBasedAuditLogIndexBlock> blocks)
+        {
+            this.segment = segment;
+            this.blocks = blocks;
+        }
+    }
+
+
+    /**
+     * GroupCommitter commits the buffered log records to disk each flush interval so that log records written
+     * during quiet periods are not left waiting for a full group.
+     */
+    private class GroupCommitter implements Runnable
+    {
+        /**
+         * Commit the buffered log records until the store is closed.
+         */
+        public void run()
+        {
+            while (true)
+            {
+                try
+                {
+                    Thread.sleep(flushInterval);
+                }
+                catch (InterruptedException   wakeUp)
+                {
+                    log.debug("Audit log store flush thread woken for " + directoryName);
+                }
+
+                synchronized (FileBasedAuditLogStoreConnector.this)
+                {
+                    if (flushThread != Thread.currentThread())
+                    {
+                        return;
+                    }
+
+                    try
+                    {
+                        commitPendingRecords();
+                    }
+                    catch (IOException   ioException)
+                    {
+                        log.error("Unable to commit audit log records to " + directoryName, ioException);
+                    }
+                }
+            }
+        }
+    }
 }
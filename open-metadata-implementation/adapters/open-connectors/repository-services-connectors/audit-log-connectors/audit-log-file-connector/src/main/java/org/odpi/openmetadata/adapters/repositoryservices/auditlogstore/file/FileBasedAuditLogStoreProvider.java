@@ -4,6 +4,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * FileBasedAuditLogStoreProvider is the OCF connector provider for the file based cohort registry store.
  */
@@ -13,6 +16,12 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
     static final String  connectorTypeName = "File Based Audit Log Store Connector";
     static final String  connectorTypeDescription = "Connector supports storing of audit log messages in a file.";
 
+    public static final String  maxSegmentSizePropertyName = "maxSegmentSize";
+    public static final String  maxSegmentsPropertyName = "maxSegments";
+    public static final String  retentionDaysPropertyName = "retentionDays";
+    public static final String  flushIntervalPropertyName = "flushInterval";
+    public static final String  groupCommitSizePropertyName = "groupCommitSize";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * audit log store implementation.
@@ -31,6 +40,15 @@ public class FileBasedAuditLogStoreProvider extends OMRSAuditLogStoreProviderBas
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String>  recognizedPropertyNames = new ArrayList<>();
+        recognizedPropertyNames.add(maxSegmentSizePropertyName);
+        recognizedPropertyNames.add(maxSegmentsPropertyName);
+        recognizedPropertyNames.add(retentionDaysPropertyName);
+        recognizedPropertyNames.add(flushIntervalPropertyName);
+        recognizedPropertyNames.add(groupCommitSizePropertyName);
+
+        connectorType.setRecognizedAdditionalProperties(recognizedPropertyNames);
+
         super.connectorTypeBean = connectorType;
     }
 }
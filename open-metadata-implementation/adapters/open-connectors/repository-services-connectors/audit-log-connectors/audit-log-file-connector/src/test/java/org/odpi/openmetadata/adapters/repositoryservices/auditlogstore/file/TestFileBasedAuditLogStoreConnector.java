@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the FileBasedAuditLogStoreConnector stores log records in segments and finds them again,
+ * including after the store is reopened.
+ */
+public class TestFileBasedAuditLogStoreConnector
+{
+    private File getDirectory(String testName)
+    {
+        File directory = new File("target" + File.separator + "test-auditlog-" + testName);
+
+        if (directory.isDirectory())
+        {
+            File[] files = directory.listFiles();
+
+            if (files != null)
+            {
+                for (File file : files)
+                {
+                    assertTrue(file.delete());
+                }
+            }
+        }
+
+        return directory;
+    }
+
+
+    private FileBasedAuditLogStoreConnector getConnector(File                directory,
+                                                         Map<String, Object> additionalProperties) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(directory.getPath());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+        connection.setAdditionalProperties(additionalProperties);
+
+        FileBasedAuditLogStoreConnector connector = new FileBasedAuditLogStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    private OMRSAuditLogRecord getLogRecord(String severity,
+                                            String componentName,
+                                            long   timeStamp)
+    {
+        OMRSAuditLogReportingComponent component = new OMRSAuditLogReportingComponent(1,
+                                                                                      componentName,
+                                                                                      componentName + " description",
+                                                                                      null);
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord(null,
+                                                              component,
+                                                              severity,
+                                                              "TEST-0001",
+                                                              "Test message for " + componentName,
+                                                              null,
+                                                              "No action",
+                                                              "No action");
+
+        logRecord.setTimeStamp(new Date(timeStamp));
+
+        return logRecord;
+    }
+
+
+    @Test
+    public void testStoreAndQuery() throws Exception
+    {
+        File                            directory = getDirectory("query");
+        FileBasedAuditLogStoreConnector connector = getConnector(directory, null);
+        List<String>                    guids     = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            guids.add(connector.storeLogRecord(getLogRecord((i % 10 == 0) ? "Error" : "Information",
+                                                            (i % 2 == 0) ? "Even" : "Odd",
+                                                            100000L + i)));
+        }
+
+        OMRSAuditLogRecord logRecord = connector.getAuditLogRecord(guids.get(123));
+
+        assertNotNull(logRecord);
+        assertEquals(logRecord.getGUID(), guids.get(123));
+        assertEquals(logRecord.getReportingComponent().getComponentName(), "Odd");
+        assertNull(connector.getAuditLogRecord(UUID.randomUUID().toString()));
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsByTimeStamp(new Date(100100L),
+                                                                                   new Date(100199L),
+                                                                                   10,
+                                                                                   20);
+        assertEquals(results.size(), 20);
+        assertEquals(results.get(0).getGUID(), guids.get(110));
+
+        results = connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0);
+        assertEquals(results.size(), 100);
+
+        results = connector.getAuditLogRecordsByComponent("Odd", new Date(100000L), new Date(100009L), 0, 0);
+        assertEquals(results.size(), 5);
+
+        assertNull(connector.getAuditLogRecordsByComponent("Unknown", null, null, 0, 0));
+
+        connector.disconnect();
+    }
+
+
+    @Test
+    public void testReopenAndRetention() throws Exception
+    {
+        File                directory  = getDirectory("retention");
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put(FileBasedAuditLogStoreProvider.maxSegmentSizePropertyName, "20000");
+        properties.put(FileBasedAuditLogStoreProvider.maxSegmentsPropertyName, 3);
+
+        FileBasedAuditLogStoreConnector connector = getConnector(directory, properties);
+        String                          lastGUID  = null;
+
+        for (int i = 0; i < 1000; i++)
+        {
+            lastGUID = connector.storeLogRecord(getLogRecord("Information", "Test", System.currentTimeMillis()));
+        }
+
+        connector.disconnect();
+
+        String[] segmentFiles = directory.list((dir, name) -> name.endsWith(".log"));
+
+        assertNotNull(segmentFiles);
+        assertEquals(segmentFiles.length, 3);
+
+        connector = getConnector(directory, properties);
+
+        OMRSAuditLogRecord logRecord = connector.getAuditLogRecord(lastGUID);
+
+        assertNotNull(logRecord);
+        assertEquals(logRecord.getGUID(), lastGUID);
+
+        List<OMRSAuditLogRecord> results = connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0);
+
+        assertNotNull(results);
+        assertTrue(results.size() < 1000);
+        assertEquals(results.get(results.size() - 1).getGUID(), lastGUID);
+
+        connector.disconnect();
+    }
+
+
+    @Test
+    public void testBadParameters() throws Exception
+    {
+        FileBasedAuditLogStoreConnector connector = getConnector(getDirectory("parameters"), null);
+
+        try
+        {
+            connector.getAuditLogRecordsByTimeStamp(new Date(2000L), new Date(1000L), 0, 0);
+            fail("InvalidParameterException expected");
+        }
+        catch (InvalidParameterException   expected)
+        {
+            assertTrue(expected.getErrorMessage().startsWith("OMRS-AUDITLOG-400-004"));
+        }
+
+        try
+        {
+            connector.getAuditLogRecordsBySeverity("Error", null, null, -1, 0);
+            fail("PagingErrorException expected");
+        }
+        catch (PagingErrorException   expected)
+        {
+            assertTrue(expected.getErrorMessage().startsWith("OMRS-AUDITLOG-400-005"));
+        }
+
+        try
+        {
+            connector.getAuditLogRecordsByComponent(null, null, null, 0, 0);
+            fail("InvalidParameterException expected");
+        }
+        catch (InvalidParameterException   expected)
+        {
+            assertTrue(expected.getErrorMessage().startsWith("OMRS-AUDITLOG-400-003"));
+        }
+
+        connector.disconnect();
+    }
+}
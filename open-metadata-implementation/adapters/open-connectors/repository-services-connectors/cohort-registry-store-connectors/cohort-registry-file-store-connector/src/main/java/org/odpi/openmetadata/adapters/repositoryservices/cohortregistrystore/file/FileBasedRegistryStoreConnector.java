@@ -1,7 +1,6 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.cohortregistrystore.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
@@ -12,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStoreConnectorBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.MemberRegistration;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.CohortMembership;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
 
 import org.apache.commons.io.FileUtils;
 
@@ -472,8 +472,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
 
             String registryStoreFileContents = FileUtils.readFileToString(registryStoreFile, "UTF-8");
 
-            ObjectMapper objectMapper = new ObjectMapper();
-            newRegistryStoreProperties = objectMapper.readValue(registryStoreFileContents, CohortMembership.class);
+            newRegistryStoreProperties = OMRSJSONMapper.readValue(registryStoreFileContents, CohortMembership.class);
         }
         catch (IOException   ioException)
         {
@@ -523,9 +522,7 @@ public class FileBasedRegistryStoreConnector extends OMRSCohortRegistryStoreConn
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String registryStoreFileContents = objectMapper.writeValueAsString(newRegistryStoreProperties);
+                String registryStoreFileContents = OMRSJSONMapper.writeValueAsString(newRegistryStoreProperties);
 
                 FileUtils.writeStringToFile(registryStoreFile, registryStoreFileContents, false);
             }
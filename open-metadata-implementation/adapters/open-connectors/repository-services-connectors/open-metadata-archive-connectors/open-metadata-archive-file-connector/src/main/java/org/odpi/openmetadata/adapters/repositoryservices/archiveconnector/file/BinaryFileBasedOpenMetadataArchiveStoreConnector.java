@@ -0,0 +1,256 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * BinaryFileBasedOpenMetadataArchiveStoreConnector stores an open metadata archive in a file using the compressed
+ * binary archive format written by the BinaryOpenMetadataArchiveWriter.  The archive properties are held in
+ * the header of the file so they can be retrieved without reading the rest of the archive.
+ */
+public class BinaryFileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
+{
+    /*
+     * This is the default name of the open metadata archive file that is used if there is no file name in the connection.
+     */
+    private static final String defaultFilename = "open.metadata.archive.bin";
+
+    /*
+     * Variables used in writing to the file.
+     */
+    private String archiveStoreName = null;
+
+    /*
+     * Variables used for logging and debug.
+     */
+    private static final Logger log = LoggerFactory.getLogger(BinaryFileBasedOpenMetadataArchiveStoreConnector.class);
+
+
+    /**
+     * Default constructor
+     */
+    public BinaryFileBasedOpenMetadataArchiveStoreConnector()
+    {
+    }
+
+
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if (endpoint != null)
+        {
+            archiveStoreName = endpoint.getAddress();
+        }
+
+        if (archiveStoreName == null)
+        {
+            archiveStoreName = defaultFilename;
+        }
+    }
+
+
+    /**
+     * Return the properties of the archive from the header of the archive file.
+     *
+     * @return OpenMetadataArchiveProperties object or null if the file does not exist or has no properties
+     */
+    public OpenMetadataArchiveProperties getArchiveProperties()
+    {
+        final String methodName = "getArchiveProperties";
+
+        File archiveStoreFile = new File(archiveStoreName);
+
+        if (! archiveStoreFile.isFile())
+        {
+            return null;
+        }
+
+        try (InputStream archiveStream = new BufferedInputStream(new FileInputStream(archiveStoreFile)))
+        {
+            return BinaryOpenMetadataArchiveReader.readArchiveProperties(archiveStream);
+        }
+        catch (IOException ioException)
+        {
+            throw getUnreadableArchiveException(methodName, ioException);
+        }
+    }
+
+
+    /**
+     * Return the contents of the archive.
+     *
+     * @return OpenMetadataArchive object
+     */
+    public OpenMetadataArchive getArchiveContents()
+    {
+        OpenMetadataArchiveBuilder archiveBuilder = new OpenMetadataArchiveBuilder();
+
+        try
+        {
+            if (! this.readArchiveContents(archiveBuilder))
+            {
+                return new OpenMetadataArchive();
+            }
+        }
+        catch (OMRSRuntimeException error)
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("Unreadable open metadata archive file: " + archiveStoreName, error);
+            }
+
+            return new OpenMetadataArchive();
+        }
+
+        return archiveBuilder.getOpenMetadataArchive();
+    }
+
+
+    /**
+     * Pass the contents of the archive to the handler one block at a time.  Only the block being decoded is
+     * held in memory.
+     *
+     * @param handler receiver of the archive content
+     * @return boolean indicating whether the archive file exists
+     * @throws OMRSRuntimeException the archive file is not a valid binary open metadata archive.  The content read
+     *                              before the error has already been passed to the handler.
+     */
+    @Override
+    public boolean readArchiveContents(OpenMetadataArchiveContentHandler handler)
+    {
+        final String methodName = "readArchiveContents";
+
+        File  archiveStoreFile = new File(archiveStoreName);
+
+        if (! archiveStoreFile.isFile())
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("No open metadata archive file: " + archiveStoreName);
+            }
+
+            return false;
+        }
+
+        try (InputStream archiveStream = new BufferedInputStream(new FileInputStream(archiveStoreFile)))
+        {
+            BinaryOpenMetadataArchiveReader.readArchive(archiveStream, handler);
+        }
+        catch (IOException ioException)
+        {
+            throw getUnreadableArchiveException(methodName, ioException);
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Set new contents into the archive.  This overrides any content previously stored.
+     *
+     * @param archiveContents   OpenMetadataArchive object
+     */
+    public void setArchiveContents(OpenMetadataArchive   archiveContents)
+    {
+        File    archiveStoreFile = new File(archiveStoreName);
+
+        if (log.isDebugEnabled())
+        {
+            log.debug("Writing open metadata archive store properties: " + archiveContents);
+        }
+
+        if (archiveContents == null)
+        {
+            archiveStoreFile.delete();
+            return;
+        }
+
+        try (BinaryOpenMetadataArchiveWriter archiveWriter =
+                     new BinaryOpenMetadataArchiveWriter(new BufferedOutputStream(new FileOutputStream(archiveStoreFile))))
+        {
+            OpenMetadataArchiveReader.readArchive(archiveContents, archiveWriter);
+        }
+        catch (IOException | UncheckedIOException ioException)
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("Unusable open metadata archive file :(", ioException);
+            }
+        }
+    }
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    public  void disconnect() throws ConnectorCheckedException
+    {
+        super.disconnect();
+
+        if (log.isDebugEnabled())
+        {
+            log.debug("Closing open metadata archive file.");
+        }
+    }
+
+
+    /**
+     * Return the exception used to report that the archive file can not be read.
+     *
+     * @param methodName calling method
+     * @param ioException error from reading the file
+     * @return exception to throw
+     */
+    private OMRSRuntimeException getUnreadableArchiveException(String      methodName,
+                                                               IOException ioException)
+    {
+        OMRSErrorCode errorCode    = OMRSErrorCode.UNREADABLE_ARCHIVE_STORE;
+        String        errorMessage = errorCode.getErrorMessageId()
+                                   + errorCode.getFormattedErrorMessage(archiveStoreName, ioException.getMessage());
+
+        return new OMRSRuntimeException(errorCode.getHTTPErrorCode(),
+                                        this.getClass().getName(),
+                                        methodName,
+                                        errorMessage,
+                                        errorCode.getSystemAction(),
+                                        errorCode.getUserAction(),
+                                        ioException);
+    }
+}
@@ -0,0 +1,37 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreProviderBase;
+
+/**
+ * BinaryFileBasedOpenMetadataArchiveStoreProvider is the OCF connector provider for the compressed binary open metadata archive file.
+ */
+public class BinaryFileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchiveStoreProviderBase
+{
+    static final String  connectorTypeGUID = "9e4b2c41-63a7-4d0b-8f35-1d7c2e58a9f6";
+    static final String  connectorTypeName = "Binary File Based Open Metadata Archive Store Connector";
+    static final String  connectorTypeDescription = "Connector supports storing of an open metadata archive in a compressed binary file.";
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * configuration store implementation.
+     */
+    public BinaryFileBasedOpenMetadataArchiveStoreProvider()
+    {
+        Class    connectorClass = BinaryFileBasedOpenMetadataArchiveStoreConnector.class;
+
+        super.setConnectorClassName(connectorClass.getName());
+
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorTypeName);
+        connectorType.setDisplayName(connectorTypeName);
+        connectorType.setDescription(connectorTypeDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -0,0 +1,290 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * BinaryOpenMetadataArchiveReader reads an archive written by the BinaryOpenMetadataArchiveWriter.  The archive
+ * is read one block at a time and each record is passed to the handler as soon as it is decoded.
+ */
+public class BinaryOpenMetadataArchiveReader
+{
+    /**
+     * Private constructor since all methods are static.
+     */
+    private BinaryOpenMetadataArchiveReader()
+    {
+    }
+
+
+    /**
+     * Return whether the stream starts with the binary archive header.  The stream must support mark and reset.
+     *
+     * @param archiveStream stream to test
+     * @return boolean
+     * @throws IOException unable to read the stream
+     */
+    public static boolean isBinaryArchive(InputStream archiveStream) throws IOException
+    {
+        byte[] magic = new byte[BinaryOpenMetadataArchiveWriter.archiveMagic.length];
+
+        archiveStream.mark(magic.length);
+
+        int length = 0;
+
+        while (length < magic.length)
+        {
+            int count = archiveStream.read(magic, length, magic.length - length);
+
+            if (count < 0)
+            {
+                break;
+            }
+
+            length += count;
+        }
+
+        archiveStream.reset();
+
+        return Arrays.equals(magic, BinaryOpenMetadataArchiveWriter.archiveMagic);
+    }
+
+
+    /**
+     * Read the archive properties from the header of the archive.  The rest of the archive is not read.
+     *
+     * @param archiveStream stream of the binary archive
+     * @return archive properties or null if the archive has none
+     * @throws IOException the stream can not be read or is not a binary archive
+     */
+    public static OpenMetadataArchiveProperties readArchiveProperties(InputStream archiveStream) throws IOException
+    {
+        return readHeader(new DataInputStream(archiveStream));
+    }
+
+
+    /**
+     * Read the archive, passing its content to the handler as it is read.  The stream is not closed.
+     *
+     * @param archiveStream stream of the binary archive
+     * @param handler receiver of the content
+     * @throws IOException the stream can not be read or is not a valid binary archive.  The content read
+     *                     before the error has already been passed to the handler.
+     */
+    public static void readArchive(InputStream                       archiveStream,
+                                   OpenMetadataArchiveContentHandler handler) throws IOException
+    {
+        DataInputStream dataStream = new DataInputStream(archiveStream);
+        Inflater        inflater   = new Inflater();
+        byte[]          compressed = new byte[0];
+        byte[]          content    = new byte[0];
+
+        try
+        {
+            OpenMetadataArchiveProperties archiveProperties = readHeader(dataStream);
+
+            if (archiveProperties != null)
+            {
+                handler.processArchiveProperties(archiveProperties);
+            }
+
+            while (true)
+            {
+                byte blockType;
+
+                try
+                {
+                    blockType = dataStream.readByte();
+                }
+                catch (EOFException endOfStream)
+                {
+                    throw new IOException("Binary open metadata archive is truncated: it has no end block");
+                }
+
+                if (blockType == BinaryOpenMetadataArchiveWriter.endBlockType)
+                {
+                    return;
+                }
+
+                int recordCount        = dataStream.readInt();
+                int uncompressedLength = dataStream.readInt();
+                int compressedLength   = dataStream.readInt();
+                int expectedCRC        = dataStream.readInt();
+
+                if ((recordCount < 0) || (uncompressedLength < 0) || (compressedLength < 0))
+                {
+                    throw new IOException("Binary open metadata archive has an invalid block header");
+                }
+
+                if (compressed.length < compressedLength)
+                {
+                    compressed = new byte[compressedLength];
+                }
+                if (content.length < uncompressedLength)
+                {
+                    content = new byte[uncompressedLength];
+                }
+
+                dataStream.readFully(compressed, 0, compressedLength);
+
+                inflater.reset();
+                inflater.setInput(compressed, 0, compressedLength);
+
+                int inflatedLength = 0;
+
+                while ((inflatedLength < uncompressedLength) && (! inflater.finished()))
+                {
+                    int count = inflater.inflate(content, inflatedLength, uncompressedLength - inflatedLength);
+
+                    if ((count == 0) && (inflater.needsInput() || inflater.needsDictionary()))
+                    {
+                        break;
+                    }
+
+                    inflatedLength += count;
+                }
+
+                CRC32 crc = new CRC32();
+
+                crc.update(content, 0, inflatedLength);
+
+                if ((inflatedLength != uncompressedLength) || ((int)crc.getValue() != expectedCRC))
+                {
+                    throw new IOException("Binary open metadata archive has a corrupt block");
+                }
+
+                readRecords(blockType, recordCount, content, uncompressedLength, handler);
+            }
+        }
+        catch (DataFormatException error)
+        {
+            throw new IOException("Binary open metadata archive has a corrupt block", error);
+        }
+        finally
+        {
+            inflater.end();
+        }
+    }
+
+
+    /**
+     * Read the header of the archive.
+     *
+     * @param dataStream stream positioned at the start of the archive
+     * @return archive properties or null
+     * @throws IOException the stream does not start with a valid header
+     */
+    private static OpenMetadataArchiveProperties readHeader(DataInputStream dataStream) throws IOException
+    {
+        byte[] magic = new byte[BinaryOpenMetadataArchiveWriter.archiveMagic.length];
+
+        dataStream.readFully(magic);
+
+        if (! Arrays.equals(magic, BinaryOpenMetadataArchiveWriter.archiveMagic))
+        {
+            throw new IOException("Stream is not a binary open metadata archive");
+        }
+
+        byte version = dataStream.readByte();
+
+        if (version != BinaryOpenMetadataArchiveWriter.formatVersion)
+        {
+            throw new IOException("Binary open metadata archive format version " + version + " is not supported");
+        }
+
+        int propertiesLength = dataStream.readInt();
+
+        if (propertiesLength < 0)
+        {
+            throw new IOException("Binary open metadata archive has an invalid header");
+        }
+
+        if (propertiesLength == 0)
+        {
+            return null;
+        }
+
+        byte[] properties = new byte[propertiesLength];
+
+        dataStream.readFully(properties);
+
+        return OMRSJSONMapper.getReader(OpenMetadataArchiveProperties.class).readValue(properties);
+    }
+
+
+    /**
+     * Decode the records in a block and pass them to the handler.
+     *
+     * @param blockType kind of record in the block
+     * @param recordCount number of records in the block
+     * @param content uncompressed block content
+     * @param contentLength length of the content
+     * @param handler receiver of the records
+     * @throws IOException a record is not valid
+     */
+    private static void readRecords(byte                              blockType,
+                                    int                               recordCount,
+                                    byte[]                            content,
+                                    int                               contentLength,
+                                    OpenMetadataArchiveContentHandler handler) throws IOException
+    {
+        int position = 0;
+
+        for (int i = 0; i < recordCount; i++)
+        {
+            if (position + 4 > contentLength)
+            {
+                throw new IOException("Binary open metadata archive has a truncated block");
+            }
+
+            int recordLength = ((content[position] & 0xFF) << 24) |
+                               ((content[position + 1] & 0xFF) << 16) |
+                               ((content[position + 2] & 0xFF) << 8) |
+                               (content[position + 3] & 0xFF);
+
+            position += 4;
+
+            if ((recordLength < 0) || (position + recordLength > contentLength))
+            {
+                throw new IOException("Binary open metadata archive has a truncated block");
+            }
+
+            switch (blockType)
+            {
+                case BinaryOpenMetadataArchiveWriter.typeStoreBlockType:
+                    handler.processTypeStore(OMRSJSONMapper.getReader(OpenMetadataArchiveTypeStore.class)
+                                                           .readValue(content, position, recordLength));
+                    break;
+
+                case BinaryOpenMetadataArchiveWriter.entityBlockType:
+                    handler.processEntity(OMRSJSONMapper.getReader(EntityDetail.class)
+                                                        .readValue(content, position, recordLength));
+                    break;
+
+                case BinaryOpenMetadataArchiveWriter.relationshipBlockType:
+                    handler.processRelationship(OMRSJSONMapper.getReader(Relationship.class)
+                                                              .readValue(content, position, recordLength));
+                    break;
+
+                default:
+                    throw new IOException("Binary open metadata archive has an unknown block type " + blockType);
+            }
+
+            position += recordLength;
+        }
+    }
+}
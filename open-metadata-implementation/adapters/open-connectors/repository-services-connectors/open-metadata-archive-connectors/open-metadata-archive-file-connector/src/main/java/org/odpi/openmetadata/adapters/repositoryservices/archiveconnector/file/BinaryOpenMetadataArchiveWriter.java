@@ -0,0 +1,324 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * BinaryOpenMetadataArchiveWriter writes an open metadata archive in the compressed binary archive format.
+ * The archive is written as it is passed to the writer so it never needs to be held in memory as a whole.
+ * This means the writer can be used as the handler of an OpenMetadataArchiveReader to convert a JSON archive
+ * into a binary archive.
+ * <p>
+ *     The archive starts with a header that holds the archive properties.  The header is not compressed so the
+ *     properties can be read without reading the rest of the archive.  The header is followed by blocks of
+ *     records.  Each block holds records of a single kind (the type store, entities or relationships) and is
+ *     compressed separately so the archive can be read one block at a time.  Each record is the compact
+ *     JSON encoding of the type store, entity or relationship.  A block with the end type ends the archive.
+ * </p>
+ * <pre>
+ *     header: magic (4 bytes) | format version (1 byte) | properties length (int) | properties
+ *     block:  block type (1 byte) | record count (int) | uncompressed length (int) | compressed length (int) |
+ *             CRC-32 of uncompressed content (int) | compressed content
+ *     record: record length (int) | record
+ * </pre>
+ */
+public class BinaryOpenMetadataArchiveWriter implements OpenMetadataArchiveContentHandler, Closeable
+{
+    static final byte[] archiveMagic             = {'O', 'M', 'A', 'B'};
+    static final byte   formatVersion            = 1;
+    static final byte   endBlockType             = 0;
+    static final byte   typeStoreBlockType       = 1;
+    static final byte   entityBlockType          = 2;
+    static final byte   relationshipBlockType    = 3;
+
+    /*
+     * Default size of the uncompressed content of a block.
+     */
+    public static final int defaultBlockSize = 1024 * 1024;
+
+    private DataOutputStream      archiveStream;
+    private int                   blockSize;
+    private Deflater              deflater;
+    private ByteArrayOutputStream blockContent  = new ByteArrayOutputStream();
+    private DataOutputStream      blockRecords  = new DataOutputStream(blockContent);
+    private byte                  blockType     = endBlockType;
+    private int                   recordCount   = 0;
+    private byte[]                compressed    = new byte[0];
+    private boolean               headerWritten = false;
+    private boolean               closed        = false;
+
+
+    /**
+     * Constructor using the default block size and compression level.
+     *
+     * @param archiveStream destination for the archive
+     */
+    public BinaryOpenMetadataArchiveWriter(OutputStream archiveStream)
+    {
+        this(archiveStream, defaultBlockSize, Deflater.DEFAULT_COMPRESSION);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param archiveStream destination for the archive
+     * @param blockSize uncompressed size at which a block is written
+     * @param compressionLevel Deflater compression level (0-9 or -1 for the default)
+     */
+    public BinaryOpenMetadataArchiveWriter(OutputStream archiveStream,
+                                           int          blockSize,
+                                           int          compressionLevel)
+    {
+        this.archiveStream = new DataOutputStream(archiveStream);
+        this.blockSize = Math.max(1, blockSize);
+        this.deflater = new Deflater(compressionLevel);
+    }
+
+
+    /**
+     * Write the header holding the archive properties.  This must be the first content passed to the writer.
+     *
+     * @param archiveProperties properties of the archive
+     */
+    public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+    {
+        if (headerWritten)
+        {
+            throw new IllegalStateException("The archive properties must be the first content of the archive");
+        }
+
+        try
+        {
+            this.writeHeader(archiveProperties);
+        }
+        catch (IOException error)
+        {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+
+    /**
+     * Write the type store in a block of its own.
+     *
+     * @param archiveTypeStore new TypeDefs and patches to existing TypeDefs
+     */
+    public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+    {
+        this.writeRecord(typeStoreBlockType, archiveTypeStore);
+        this.flushBlock();
+    }
+
+
+    /**
+     * Add an entity to the current block of entities.
+     *
+     * @param entity entity
+     */
+    public void processEntity(EntityDetail entity)
+    {
+        this.writeRecord(entityBlockType, entity);
+    }
+
+
+    /**
+     * Add a relationship to the current block of relationships.
+     *
+     * @param relationship relationship
+     */
+    public void processRelationship(Relationship relationship)
+    {
+        this.writeRecord(relationshipBlockType, relationship);
+    }
+
+
+    /**
+     * Write the last block and the end of the archive, and close the archive stream.
+     *
+     * @throws IOException unable to write to the archive stream
+     */
+    public void close() throws IOException
+    {
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+
+        try
+        {
+            if (! headerWritten)
+            {
+                this.writeHeader(null);
+            }
+
+            this.writeBlock();
+
+            archiveStream.writeByte(endBlockType);
+            archiveStream.close();
+        }
+        catch (UncheckedIOException error)
+        {
+            throw error.getCause();
+        }
+        finally
+        {
+            deflater.end();
+        }
+    }
+
+
+    /**
+     * Write the archive header.
+     *
+     * @param archiveProperties properties of the archive - may be null
+     * @throws IOException unable to write to the archive stream
+     */
+    private void writeHeader(OpenMetadataArchiveProperties archiveProperties) throws IOException
+    {
+        byte[] properties = new byte[0];
+
+        if (archiveProperties != null)
+        {
+            properties = OMRSJSONMapper.getWriter().writeValueAsBytes(archiveProperties);
+        }
+
+        archiveStream.write(archiveMagic);
+        archiveStream.writeByte(formatVersion);
+        archiveStream.writeInt(properties.length);
+        archiveStream.write(properties);
+
+        headerWritten = true;
+    }
+
+
+    /**
+     * Add a record to the current block, starting a new block if the record is a different kind to the
+     * records in the current block or the current block is full.
+     *
+     * @param recordBlockType kind of record
+     * @param record value to encode
+     */
+    private void writeRecord(byte   recordBlockType,
+                             Object record)
+    {
+        if (closed)
+        {
+            throw new IllegalStateException("The archive is closed");
+        }
+
+        try
+        {
+            if (! headerWritten)
+            {
+                this.writeHeader(null);
+            }
+
+            if (recordBlockType != blockType)
+            {
+                this.writeBlock();
+                blockType = recordBlockType;
+            }
+
+            byte[] encodedRecord = OMRSJSONMapper.getWriter().writeValueAsBytes(record);
+
+            blockRecords.writeInt(encodedRecord.length);
+            blockRecords.write(encodedRecord);
+            recordCount ++;
+
+            if (blockContent.size() >= blockSize)
+            {
+                this.writeBlock();
+            }
+        }
+        catch (IOException error)
+        {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+
+    /**
+     * Write the current block.
+     */
+    private void flushBlock()
+    {
+        try
+        {
+            this.writeBlock();
+        }
+        catch (IOException error)
+        {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+
+    /**
+     * Compress and write the current block if it holds any records.
+     *
+     * @throws IOException unable to write to the archive stream
+     */
+    private void writeBlock() throws IOException
+    {
+        if (recordCount == 0)
+        {
+            return;
+        }
+
+        byte[] content = blockContent.toByteArray();
+        CRC32  crc     = new CRC32();
+
+        crc.update(content);
+
+        if (compressed.length < content.length + 64)
+        {
+            compressed = new byte[content.length + (content.length / 8) + 64];
+        }
+
+        deflater.reset();
+        deflater.setInput(content);
+        deflater.finish();
+
+        int compressedLength = 0;
+
+        while (! deflater.finished())
+        {
+            if (compressedLength == compressed.length)
+            {
+                byte[] larger = new byte[compressed.length * 2];
+
+                System.arraycopy(compressed, 0, larger, 0, compressedLength);
+                compressed = larger;
+            }
+
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+
+        archiveStream.writeByte(blockType);
+        archiveStream.writeInt(recordCount);
+        archiveStream.writeInt(content.length);
+        archiveStream.writeInt(compressedLength);
+        archiveStream.writeInt((int)crc.getValue());
+        archiveStream.write(compressed, 0, compressedLength);
+
+        blockContent.reset();
+        recordCount = 0;
+    }
+}
@@ -1,18 +1,25 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
@@ -76,11 +83,10 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
                 log.debug("Retrieving server configuration properties");
             }
 
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
-
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            try (InputStream archiveStream = new BufferedInputStream(new FileInputStream(archiveStoreFile)))
+            {
+                newOpenMetadataArchive = OMRSJSONMapper.getReader(OpenMetadataArchive.class).readValue(archiveStream);
+            }
         }
         catch (IOException ioException)
         {
@@ -100,6 +106,55 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to the handler as the archive file is parsed.  The archive is never held
+     * in memory as a whole: only the instance being passed to the handler.
+     *
+     * @param handler receiver of the archive content
+     * @return boolean indicating whether the archive file exists
+     * @throws OMRSRuntimeException the archive file is not a valid open metadata archive.  The content read
+     *                              before the error has already been passed to the handler.
+     */
+    @Override
+    public boolean readArchiveContents(OpenMetadataArchiveContentHandler handler)
+    {
+        final String methodName = "readArchiveContents";
+
+        File  archiveStoreFile = new File(archiveStoreName);
+
+        if (! archiveStoreFile.isFile())
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("No open metadata archive file: " + archiveStoreName);
+            }
+
+            return false;
+        }
+
+        try (InputStream archiveStream = new BufferedInputStream(new FileInputStream(archiveStoreFile)))
+        {
+            OpenMetadataArchiveReader.readArchive(archiveStream, handler);
+        }
+        catch (IOException ioException)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.UNREADABLE_ARCHIVE_STORE;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(archiveStoreName, ioException.getMessage());
+
+            throw new OMRSRuntimeException(errorCode.getHTTPErrorCode(),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           errorMessage,
+                                           errorCode.getSystemAction(),
+                                           errorCode.getUserAction(),
+                                           ioException);
+        }
+
+        return true;
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -122,9 +177,7 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             }
             else
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String archiveStoreFileContents = objectMapper.writeValueAsString(archiveContents);
+                String archiveStoreFileContents = OMRSJSONMapper.writeValueAsString(archiveContents);
 
                 FileUtils.writeStringToFile(archiveStoreFile, archiveStoreFileContents, false);
             }
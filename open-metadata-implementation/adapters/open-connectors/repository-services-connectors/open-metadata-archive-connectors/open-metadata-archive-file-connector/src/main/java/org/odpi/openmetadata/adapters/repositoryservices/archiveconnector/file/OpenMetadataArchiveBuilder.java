@@ -0,0 +1,95 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveBuilder collects the content passed to it into an OpenMetadataArchive object.  It is used
+ * where the whole archive is needed in memory.
+ */
+class OpenMetadataArchiveBuilder implements OpenMetadataArchiveContentHandler
+{
+    private OpenMetadataArchiveProperties archiveProperties = null;
+    private OpenMetadataArchiveTypeStore  archiveTypeStore  = null;
+    private List<EntityDetail>            entities          = new ArrayList<>();
+    private List<Relationship>            relationships     = new ArrayList<>();
+
+
+    /**
+     * Save the archive properties.
+     *
+     * @param archiveProperties properties of the archive
+     */
+    public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+    {
+        this.archiveProperties = archiveProperties;
+    }
+
+
+    /**
+     * Save the type store.
+     *
+     * @param archiveTypeStore new TypeDefs and patches to existing TypeDefs
+     */
+    public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+    {
+        this.archiveTypeStore = archiveTypeStore;
+    }
+
+
+    /**
+     * Add an entity to the instance store.
+     *
+     * @param entity entity
+     */
+    public void processEntity(EntityDetail entity)
+    {
+        entities.add(entity);
+    }
+
+
+    /**
+     * Add a relationship to the instance store.
+     *
+     * @param relationship relationship
+     */
+    public void processRelationship(Relationship relationship)
+    {
+        relationships.add(relationship);
+    }
+
+
+    /**
+     * Return the archive built from the content passed to the builder.
+     *
+     * @return OpenMetadataArchive object
+     */
+    OpenMetadataArchive getOpenMetadataArchive()
+    {
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(archiveTypeStore);
+
+        if ((! entities.isEmpty()) || (! relationships.isEmpty()))
+        {
+            OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+
+            instanceStore.setEntities(entities);
+            instanceStore.setRelationships(relationships);
+
+            archive.setArchiveInstanceStore(instanceStore);
+        }
+
+        return archive;
+    }
+}
@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * OpenMetadataArchiveConverter converts open metadata archives between the JSON format used by the
+ * FileBasedOpenMetadataArchiveStoreConnector and the compressed binary format used by the
+ * BinaryFileBasedOpenMetadataArchiveStoreConnector.  A JSON archive is converted as it is read so it never
+ * needs to fit in memory.  A binary archive is collected before it is written as JSON.
+ * <p>
+ *     Usage: OpenMetadataArchiveConverter inputFile outputFile
+ * </p>
+ * The direction of the conversion is chosen from the format of the input file.
+ */
+public class OpenMetadataArchiveConverter
+{
+    /**
+     * Private constructor since all methods are static.
+     */
+    private OpenMetadataArchiveConverter()
+    {
+    }
+
+
+    /**
+     * Convert a JSON archive to a binary archive.
+     *
+     * @param jsonArchive stream of the JSON archive
+     * @param binaryArchive destination of the binary archive - closed on return
+     * @throws IOException the JSON archive can not be read or the binary archive can not be written
+     */
+    public static void convertJSONToBinary(InputStream  jsonArchive,
+                                           OutputStream binaryArchive) throws IOException
+    {
+        try (BinaryOpenMetadataArchiveWriter archiveWriter = new BinaryOpenMetadataArchiveWriter(binaryArchive))
+        {
+            OpenMetadataArchiveReader.readArchive(jsonArchive, archiveWriter);
+        }
+        catch (UncheckedIOException error)
+        {
+            throw error.getCause();
+        }
+    }
+
+
+    /**
+     * Convert a binary archive to a JSON archive.
+     *
+     * @param binaryArchive stream of the binary archive
+     * @param jsonArchive destination of the JSON archive - closed on return
+     * @throws IOException the binary archive can not be read or the JSON archive can not be written
+     */
+    public static void convertBinaryToJSON(InputStream  binaryArchive,
+                                           OutputStream jsonArchive) throws IOException
+    {
+        OpenMetadataArchiveBuilder archiveBuilder = new OpenMetadataArchiveBuilder();
+
+        BinaryOpenMetadataArchiveReader.readArchive(binaryArchive, archiveBuilder);
+
+        try (OutputStream archiveStream = jsonArchive)
+        {
+            OMRSJSONMapper.getWriter().writeValue(archiveStream, archiveBuilder.getOpenMetadataArchive());
+        }
+    }
+
+
+    /**
+     * Convert the archive in the first file and write the result to the second file.
+     *
+     * @param args input file name and output file name
+     */
+    public static void main(String[] args)
+    {
+        if (args.length != 2)
+        {
+            System.err.println("Usage: OpenMetadataArchiveConverter inputFile outputFile");
+            System.exit(1);
+        }
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(new File(args[0]))))
+        {
+            OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(new File(args[1])));
+
+            if (BinaryOpenMetadataArchiveReader.isBinaryArchive(inputStream))
+            {
+                convertBinaryToJSON(inputStream, outputStream);
+                System.out.println("Converted binary archive " + args[0] + " to JSON archive " + args[1]);
+            }
+            else
+            {
+                convertJSONToBinary(inputStream, outputStream);
+                System.out.println("Converted JSON archive " + args[0] + " to binary archive " + args[1]);
+            }
+        }
+        catch (IOException error)
+        {
+            System.err.println("Unable to convert " + args[0] + ": " + error.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -1,16 +1,17 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
-import org.odpi.openmetadata.repositoryservices.ffdc.exception.NotImplementedRuntimeException;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 
 /**
  * The GraphOMRSMetadataCollection provides a local open metadata repository that uses a graph store as its
- * persistence layer.
+ * persistence layer.  The validation and processing of each request is the same as the in-memory repository.
+ * The difference is that the types and instances are held in the GraphOMRSMetadataStore, which keeps them in a
+ * file on disk rather than in memory.
  */
-public class GraphOMRSMetadataCollection extends OMRSMetadataCollectionBase
+public class GraphOMRSMetadataCollection extends InMemoryOMRSMetadataCollection
 {
 
     /**
@@ -22,28 +23,18 @@ public class GraphOMRSMetadataCollection extends OMRSMetadataCollectionBase
      * @param repositoryHelper - class used to build type definitions and instances.
      * @param repositoryValidator - class used to validate type definitions and instances.
      * @param metadataCollectionId - unique Identifier of the metadata collection Id.
+     * @param graphStore - open graph store that holds the types and instances.
      */
     public GraphOMRSMetadataCollection(GraphOMRSRepositoryConnector parentConnector,
                                        String                       repositoryName,
                                        OMRSRepositoryHelper         repositoryHelper,
                                        OMRSRepositoryValidator      repositoryValidator,
-                                       String                       metadataCollectionId)
+                                       String                       metadataCollectionId,
+                                       GraphOMRSMetadataStore       graphStore)
     {
         /*
          * The metadata collection Id is the unique Id for the metadata collection.  It is managed by the super class.
          */
-        super(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId);
-
-        /*
-         * Save parentConnector since this has the connection information and access to the metadata about the
-         * metadata cluster.
-         */
-        this.parentConnector = parentConnector;
-
-        /*
-         * This is a temporary implementation to allow the structural implementation of the connectors to
-         * be committed before the metadata collection implementation is complete.
-         */
-        throw new NotImplementedRuntimeException("GraphOMRSMetadataCollection", "constructor", "DG-18");
+        super(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId, graphStore);
     }
-}
\ No newline at end of file
+}
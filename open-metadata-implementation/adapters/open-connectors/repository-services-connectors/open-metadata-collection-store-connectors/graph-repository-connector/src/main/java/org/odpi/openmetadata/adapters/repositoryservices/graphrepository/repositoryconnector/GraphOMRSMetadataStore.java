@@ -0,0 +1,1771 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSMetadataStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConfigErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * GraphOMRSMetadataStore is the persistent store for the GraphOMRSRepositoryConnector.  It replaces the maps of the
+ * InMemoryOMRSMetadataStore with maps held in an embedded H2 MVStore file so the metadata survives a restart of
+ * the server and only the pages of the store that are in use are held in memory (up to the configured cache size).
+ *
+ * The entities are the vertices of the graph and the relationships are its edges.  Each instance is stored as a
+ * JSON document keyed by its GUID.  The superseded versions of each instance are stored under a key made up of
+ * the GUID, the time the version became effective and its version number so the version effective at a particular
+ * time is located with a single floor lookup.
+ *
+ * Secondary indexes are held as ordered sets of composite keys (index name, index key, instance GUID) so all of the
+ * instances with a particular type, status, classification or primitive property value, and all of the edges of
+ * a vertex, are found with a range scan.  Queries return lazy views over these ranges so the candidate instances
+ * are read from the store one at a time as the metadata collection checks them.
+ *
+ * The type definitions are few and are read often so they are also cached in memory.
+ *
+ * Reads may run concurrently with updates.  Updates to the store are serialized, and the caller must still hold
+ * the instance lock (see lockInstance()) when it reads an instance and then stores a new version based on it.
+ */
+public class GraphOMRSMetadataStore extends InMemoryOMRSMetadataStore
+{
+    private static final String typeDefMapName               = "typeDefs";
+    private static final String attributeTypeDefMapName      = "attributeTypeDefs";
+    private static final String entityMapName                = "entities";
+    private static final String entityProxyMapName           = "entityProxies";
+    private static final String entityHistoryMapName         = "entityHistory";
+    private static final String entityIndexMapName           = "entityIndex";
+    private static final String relationshipMapName          = "relationships";
+    private static final String relationshipHistoryMapName   = "relationshipHistory";
+    private static final String relationshipIndexMapName     = "relationshipIndex";
+
+    /*
+     * Names of the secondary indexes.  Each index entry is stored under the key
+     * indexName + separator + indexKey + separator + guid.
+     */
+    private static final String typeIndexName                = "T";
+    private static final String statusIndexName              = "S";
+    private static final String classificationIndexName      = "C";
+    private static final String propertyIndexName            = "P";
+    private static final String edgeIndexName                = "E";
+    private static final String historicEdgeIndexName        = "H";
+
+    private static final String keySeparator                 = "\u0000";
+    private static final String highestKey                   = "\uffff";
+    private static final String indexValue                   = "";
+
+    /*
+     * These property names are matched against the instance header by the repository validator rather than the
+     * instance properties so the property index can not be used when they appear in the match properties.
+     */
+    private static final Set<String> headerPropertyNames = new HashSet<>(Arrays.asList("metadataCollectionId",
+                                                                                        "typeName",
+                                                                                        "typeGUID",
+                                                                                        "createdBy",
+                                                                                        "updatedBy",
+                                                                                        "createTime",
+                                                                                        "updateTime"));
+
+    private String                 repositoryName;
+    private MVStore                graphStore;
+    private MVMap<String, String>  typeDefMap;
+    private MVMap<String, String>  attributeTypeDefMap;
+    private MVMap<String, String>  entityMap;
+    private MVMap<String, String>  entityProxyMap;
+    private MVMap<String, String>  entityHistoryMap;
+    private MVMap<String, String>  entityIndexMap;
+    private MVMap<String, String>  relationshipMap;
+    private MVMap<String, String>  relationshipHistoryMap;
+    private MVMap<String, String>  relationshipIndexMap;
+
+    /*
+     * Updates to the maps are serialized on this lock.
+     */
+    private final Object           writeLock = new Object();
+
+
+    /**
+     * Open (or create) the graph store.  The type definitions already in the store are loaded into the memory cache.
+     *
+     * @param repositoryName - name of the repository - used for logging.
+     * @param storeName - name of the file that holds the store.
+     * @param cacheSize - maximum size of the page cache in megabytes.
+     * @throws OMRSConfigErrorException - the store can not be opened.
+     */
+    public GraphOMRSMetadataStore(String  repositoryName,
+                                  String  storeName,
+                                  int     cacheSize) throws OMRSConfigErrorException
+    {
+        super();
+
+        final String  methodName = "GraphOMRSMetadataStore";
+
+        this.repositoryName = repositoryName;
+        super.setRepositoryName(repositoryName);
+
+        try
+        {
+            graphStore = new MVStore.Builder().fileName(storeName).cacheSize(cacheSize).compress().open();
+        }
+        catch (Throwable  error)
+        {
+            OMRSErrorCode errorCode = OMRSErrorCode.GRAPH_REPOSITORY_STORE_UNAVAILABLE;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(repositoryName, storeName, error.getMessage());
+
+            throw new OMRSConfigErrorException(errorCode.getHTTPErrorCode(),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               errorMessage,
+                                               errorCode.getSystemAction(),
+                                               errorCode.getUserAction(),
+                                               error);
+        }
+
+        typeDefMap = graphStore.openMap(typeDefMapName);
+        attributeTypeDefMap = graphStore.openMap(attributeTypeDefMapName);
+        entityMap = graphStore.openMap(entityMapName);
+        entityProxyMap = graphStore.openMap(entityProxyMapName);
+        entityHistoryMap = graphStore.openMap(entityHistoryMapName);
+        entityIndexMap = graphStore.openMap(entityIndexMapName);
+        relationshipMap = graphStore.openMap(relationshipMapName);
+        relationshipHistoryMap = graphStore.openMap(relationshipHistoryMapName);
+        relationshipIndexMap = graphStore.openMap(relationshipIndexMapName);
+
+        for (String  json : attributeTypeDefMap.values())
+        {
+            super.putAttributeTypeDef(this.readInstance(json, AttributeTypeDef.class, methodName));
+        }
+
+        for (String  json : typeDefMap.values())
+        {
+            super.putTypeDef(this.readInstance(json, TypeDef.class, methodName));
+        }
+    }
+
+
+    /**
+     * Write any outstanding changes to the store file and close it.
+     */
+    public void close()
+    {
+        synchronized (writeLock)
+        {
+            if (! graphStore.isClosed())
+            {
+                graphStore.close();
+            }
+        }
+    }
+
+
+    /**
+     * Set up the name of the repository for logging.
+     *
+     * @param repositoryName - String name
+     */
+    @Override
+    protected void  setRepositoryName(String    repositoryName)
+    {
+        this.repositoryName = repositoryName;
+        super.setRepositoryName(repositoryName);
+    }
+
+
+    /**
+     * Add an AttributeDefType to the store.
+     *
+     * @param attributeTypeDef - type to add
+     */
+    @Override
+    protected void  putAttributeTypeDef(AttributeTypeDef   attributeTypeDef)
+    {
+        synchronized (writeLock)
+        {
+            attributeTypeDefMap.put(attributeTypeDef.getGUID(), this.writeInstance(attributeTypeDef, "putAttributeTypeDef"));
+            super.putAttributeTypeDef(attributeTypeDef);
+        }
+    }
+
+
+    /**
+     * Add a type definition (TypeDef) to the store.
+     *
+     * @param typeDef - type definition
+     */
+    @Override
+    protected void  putTypeDef(TypeDef   typeDef)
+    {
+        synchronized (writeLock)
+        {
+            typeDefMap.put(typeDef.getGUID(), this.writeInstance(typeDef, "putTypeDef"));
+            super.putTypeDef(typeDef);
+        }
+    }
+
+
+    /**
+     * Return a list of entities from the store that are at the latest level.
+     *
+     * @return list of EntityDetail objects
+     */
+    @Override
+    protected List<EntityDetail>   getEntities()
+    {
+        return new ArrayList<>(this.getEntityView(Collections.singletonList(new KeyRange(entityMap, ""))));
+    }
+
+
+    /**
+     * Return the entity identified by the guid.
+     *
+     * @param guid - unique identifier for the entity
+     * @return entity object
+     */
+    @Override
+    protected EntityDetail  getEntity(String   guid)
+    {
+        return this.readInstance(entityMap.get(guid), EntityDetail.class, "getEntity");
+    }
+
+
+    /**
+     * Return the entity proxy identified by the guid.
+     *
+     * @param guid - unique identifier
+     * @return entity proxy object
+     */
+    @Override
+    protected EntityProxy  getEntityProxy(String   guid)
+    {
+        return this.readInstance(entityProxyMap.get(guid), EntityProxy.class, "getEntityProxy");
+    }
+
+
+    /**
+     * Return the entities that are candidates for a query.  When asOfTime is null, the index range with the fewest
+     * entries out of the type, status, classification and property indexes is used.  A query for a type and its
+     * sub types uses a range of the type index for each type.  The caller must still verify each returned entity
+     * against the full search criteria.  For historical queries, the version of each entity that was effective at
+     * that time is returned.
+     *
+     * @param entityTypeGUIDs - unique identifiers of the entity types, one of which the entities must have
+     *                        (null means any type)
+     * @param limitResultsByStatus - list of statuses to restrict the results to (null means any status)
+     * @param limitResultsByClassification - list of classifications, one of which must be present (null means
+     *                                     no restriction)
+     * @param matchProperties - property values the entities must match (null means no restriction)
+     * @param matchCriteria - how the match properties are combined (null means no restriction)
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate entities
+     */
+    @Override
+    protected Collection<EntityDetail>  getEntityCandidatesForTypes(Collection<String>    entityTypeGUIDs,
+                                                                    List<InstanceStatus>  limitResultsByStatus,
+                                                                    List<String>          limitResultsByClassification,
+                                                                    InstanceProperties    matchProperties,
+                                                                    MatchCriteria         matchCriteria,
+                                                                    Date                  asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return this.getInstanceView(Arrays.asList(new KeyRange(entityMap, ""), new HistoryKeyRange(entityHistoryMap)),
+                                        (guid) -> this.getEntity(guid, asOfTime),
+                                        false);
+        }
+
+        List<KeyRange>  candidateRanges = this.getIndexRanges(entityIndexMap, typeIndexName, entityTypeGUIDs);
+
+        candidateRanges = this.selectSmallest(candidateRanges, this.getIndexRanges(entityIndexMap,
+                                                                                   statusIndexName,
+                                                                                   limitResultsByStatus));
+        candidateRanges = this.selectSmallest(candidateRanges, this.getIndexRanges(entityIndexMap,
+                                                                                   classificationIndexName,
+                                                                                   limitResultsByClassification));
+        candidateRanges = this.selectPropertyRanges(candidateRanges, entityIndexMap, matchProperties, matchCriteria);
+
+        if (candidateRanges == null)
+        {
+            candidateRanges = Collections.singletonList(new KeyRange(entityMap, ""));
+        }
+
+        return this.getEntityView(candidateRanges);
+    }
+
+
+    /**
+     * Return the relationships that are candidates for a query.  When asOfTime is null, the index range with the
+     * fewest entries out of the type, status and property indexes is used.  A query for a type and its sub types
+     * uses a range of the type index for each type.  The caller must still verify each returned relationship against
+     * the full search criteria.  For historical queries, the version of each relationship that was effective at
+     * that time is returned.
+     *
+     * @param relationshipTypeGUIDs - unique identifiers of the relationship types, one of which the relationships
+     *                             must have (null means any type)
+     * @param limitResultsByStatus - list of statuses to restrict the results to (null means any status)
+     * @param matchProperties - property values the relationships must match (null means no restriction)
+     * @param matchCriteria - how the match properties are combined (null means no restriction)
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate relationships
+     */
+    @Override
+    protected Collection<Relationship>  getRelationshipCandidatesForTypes(Collection<String>    relationshipTypeGUIDs,
+                                                                          List<InstanceStatus>  limitResultsByStatus,
+                                                                          InstanceProperties    matchProperties,
+                                                                          MatchCriteria         matchCriteria,
+                                                                          Date                  asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return this.getInstanceView(Arrays.asList(new KeyRange(relationshipMap, ""), new HistoryKeyRange(relationshipHistoryMap)),
+                                        (guid) -> this.getRelationship(guid, asOfTime),
+                                        false);
+        }
+
+        List<KeyRange>  candidateRanges = this.getIndexRanges(relationshipIndexMap, typeIndexName, relationshipTypeGUIDs);
+
+        candidateRanges = this.selectSmallest(candidateRanges, this.getIndexRanges(relationshipIndexMap,
+                                                                                   statusIndexName,
+                                                                                   limitResultsByStatus));
+        candidateRanges = this.selectPropertyRanges(candidateRanges, relationshipIndexMap, matchProperties, matchCriteria);
+
+        if (candidateRanges == null)
+        {
+            candidateRanges = Collections.singletonList(new KeyRange(relationshipMap, ""));
+        }
+
+        return this.getRelationshipView(candidateRanges);
+    }
+
+
+    /**
+     * Return the relationships (edges) that are linked to the requested entity (vertex).  For historical queries,
+     * the relationships that have ever been attached to the entity are resolved to the version effective at
+     * that time.  The caller must still verify that each returned relationship is connected to the entity since
+     * its ends may have changed.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of relationships
+     */
+    @Override
+    protected Collection<Relationship>  getRelationshipsForEntity(String  entityGUID,
+                                                                  Date    asOfTime)
+    {
+        List<String>    entityGUIDs = Collections.singletonList(entityGUID);
+        List<KeyRange>  edgeRanges  = this.getIndexRanges(relationshipIndexMap, edgeIndexName, entityGUIDs);
+
+        if (asOfTime != null)
+        {
+            edgeRanges.addAll(this.getIndexRanges(relationshipIndexMap, historicEdgeIndexName, entityGUIDs));
+
+            return this.getInstanceView(edgeRanges, (guid) -> this.getRelationship(guid, asOfTime), false);
+        }
+
+        return this.getRelationshipView(edgeRanges);
+    }
+
+
+    /**
+     * Return the version of the entity that was effective at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the lookup (or null means now)
+     * @return entity object or null if the entity did not exist at this time
+     */
+    @Override
+    protected EntityDetail  getEntity(String   guid,
+                                      Date     asOfTime)
+    {
+        final String  methodName = "getEntity";
+
+        EntityDetail  entity = this.getEntity(guid);
+
+        if ((asOfTime == null) || ((entity != null) && (this.getEffectiveTime(entity) <= asOfTime.getTime())))
+        {
+            return entity;
+        }
+
+        return this.readInstance(this.getVersionAsOf(entityHistoryMap, guid, asOfTime), EntityDetail.class, methodName);
+    }
+
+
+    /**
+     * Return the list of relationships at their current level.
+     *
+     * @return list of relationships
+     */
+    @Override
+    protected List<Relationship>   getRelationships()
+    {
+        return new ArrayList<>(this.getRelationshipView(Collections.singletonList(new KeyRange(relationshipMap, ""))));
+    }
+
+
+    /**
+     * Return the relationship identified by the guid.
+     *
+     * @param guid - unique identifier for the relationship
+     * @return relationship object
+     */
+    @Override
+    protected Relationship  getRelationship(String   guid)
+    {
+        return this.readInstance(relationshipMap.get(guid), Relationship.class, "getRelationship");
+    }
+
+
+    /**
+     * Return the version of the relationship that was effective at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the lookup (or null means now)
+     * @return relationship object or null if the relationship did not exist at this time
+     */
+    @Override
+    protected Relationship  getRelationship(String   guid,
+                                            Date     asOfTime)
+    {
+        final String  methodName = "getRelationship";
+
+        Relationship  relationship = this.getRelationship(guid);
+
+        if ((asOfTime == null) || ((relationship != null) && (this.getEffectiveTime(relationship) <= asOfTime.getTime())))
+        {
+            return relationship;
+        }
+
+        return this.readInstance(this.getVersionAsOf(relationshipHistoryMap, guid, asOfTime), Relationship.class, methodName);
+    }
+
+
+    /**
+     * Create a new entity in the entity store.
+     *
+     * @param entity - new version of the entity
+     * @return entity with potentially updated GUID
+     */
+    @Override
+    protected EntityDetail createEntityInStore(EntityDetail    entity)
+    {
+        synchronized (writeLock)
+        {
+            /*
+             * There is a small chance the randomly generated GUID will clash with an existing entity.
+             * If this happens a new GUID is generated for the entity and the process repeats.
+             */
+            while (entityMap.containsKey(entity.getGUID()))
+            {
+                entity.setGUID(UUID.randomUUID().toString());
+            }
+
+            this.putEntity(entity);
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Create a new relationship in the relationship store.
+     *
+     * @param relationship - new version of the relationship
+     * @return relationship with potentially updated GUID
+     */
+    @Override
+    protected Relationship createRelationshipInStore(Relationship    relationship)
+    {
+        synchronized (writeLock)
+        {
+            /*
+             * There is a small chance the randomly generated GUID will clash with an existing relationship.
+             * If this happens a new GUID is generated for the relationship and the process repeats.
+             */
+            while (relationshipMap.containsKey(relationship.getGUID()))
+            {
+                relationship.setGUID(UUID.randomUUID().toString());
+            }
+
+            this.putRelationship(relationship);
+        }
+
+        return relationship;
+    }
+
+
+    /**
+     * Save an entity proxy to the entity store.
+     *
+     * @param entityProxy - entity proxy object to add
+     */
+    @Override
+    protected void addEntityProxyToStore(EntityProxy    entityProxy)
+    {
+        this.updateEntityProxyInStore(entityProxy);
+    }
+
+
+    /**
+     * Maintain a history of entities as they are stored into the entity store to ensure old version can be restored.
+     *
+     * @param entity - new version of the entity
+     */
+    @Override
+    protected void updateEntityInStore(EntityDetail    entity)
+    {
+        synchronized (writeLock)
+        {
+            this.addEntityToHistory(this.putEntity(entity));
+        }
+    }
+
+
+    /**
+     * Update an entity proxy in the proxy store.
+     *
+     * @param entityProxy - entity proxy object to add
+     */
+    @Override
+    protected void updateEntityProxyInStore(EntityProxy    entityProxy)
+    {
+        synchronized (writeLock)
+        {
+            entityProxyMap.put(entityProxy.getGUID(), this.writeInstance(entityProxy, "updateEntityProxyInStore"));
+        }
+    }
+
+
+    /**
+     * Maintain a history of relationships as they are stored into the relationship store to ensure old version
+     * can be restored.
+     *
+     * @param relationship - new version of the relationship
+     */
+    @Override
+    protected void updateRelationshipInStore(Relationship    relationship)
+    {
+        synchronized (writeLock)
+        {
+            this.addRelationshipToHistory(this.putRelationship(relationship));
+        }
+    }
+
+
+    /**
+     * Save a reference copy of an entity to the active store.  Reference copies are not maintained in the
+     * history store.
+     *
+     * @param entity - object to save
+     */
+    @Override
+    protected void saveReferenceEntityToStore(EntityDetail    entity)
+    {
+        synchronized (writeLock)
+        {
+            this.putEntity(entity);
+        }
+    }
+
+
+    /**
+     * Save a reference copy of a relationship to the active store.  Reference copies are not maintained in the
+     * history store.
+     *
+     * @param relationship - object to save
+     */
+    @Override
+    protected void saveReferenceRelationshipToStore(Relationship    relationship)
+    {
+        synchronized (writeLock)
+        {
+            this.putRelationship(relationship);
+        }
+    }
+
+
+    /**
+     * Retrieve the previous version of a Relationship.  This is the most recent version of this element that
+     * appears in the history.  It is given a new version number and update time as it becomes the current version.
+     *
+     * @param guid - unique identifier for the required element
+     * @return - previous version of this relationship - or null if not found
+     */
+    @Override
+    protected Relationship retrievePreviousVersionOfRelationship(String   guid)
+    {
+        final String  methodName = "retrievePreviousVersionOfRelationship";
+
+        if (guid != null)
+        {
+            synchronized (writeLock)
+            {
+                Relationship  relationship = this.readInstance(this.removeLatestVersion(relationshipHistoryMap, guid),
+                                                               Relationship.class,
+                                                               methodName);
+
+                if (relationship != null)
+                {
+                    Relationship  currentVersionOfRelationship = this.getRelationship(guid);
+
+                    if (currentVersionOfRelationship != null)
+                    {
+                        relationship.setVersion(currentVersionOfRelationship.getVersion() + 1);
+                    }
+                    else
+                    {
+                        relationship.setVersion(relationship.getVersion() + 1);
+                    }
+
+                    relationship.setUpdateTime(new Date());
+                    this.putRelationship(relationship);
+                    return relationship;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve the previous version of an Entity from the history store and restore it in the entity store.
+     * This is the most recent version of this element that appears in the history.  It is given a new version
+     * number and update time as it becomes the current version.
+     *
+     * @param guid - unique identifier for the required element
+     * @return - previous version of this Entity - or null if not found
+     */
+    @Override
+    protected EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    {
+        final String  methodName = "retrievePreviousVersionOfEntity";
+
+        if (guid != null)
+        {
+            synchronized (writeLock)
+            {
+                EntityDetail  entity = this.readInstance(this.removeLatestVersion(entityHistoryMap, guid),
+                                                         EntityDetail.class,
+                                                         methodName);
+
+                if (entity != null)
+                {
+                    EntityDetail  currentVersionOfEntity = this.getEntity(guid);
+
+                    if (currentVersionOfEntity != null)
+                    {
+                        entity.setVersion(currentVersionOfEntity.getVersion() + 1);
+                    }
+                    else
+                    {
+                        entity.setVersion(entity.getVersion() + 1);
+                    }
+
+                    entity.setUpdateTime(new Date());
+                    this.putEntity(entity);
+                    return entity;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remove an entity from the active store and add it to the history store.  If the stored version differs from
+     * the supplied version, both are added to the history.
+     *
+     * @param entity - entity to remove
+     */
+    @Override
+    protected void removeEntityFromStore(EntityDetail     entity)
+    {
+        synchronized (writeLock)
+        {
+            this.addEntityToHistory(this.removeEntity(entity.getGUID()));
+            this.addEntityToHistory(entity);
+        }
+    }
+
+
+    /**
+     * Remove a reference entity from the active store and add it to the history store.
+     *
+     * @param guid - entity to remove
+     */
+    @Override
+    protected void removeReferenceEntityFromStore(String     guid)
+    {
+        synchronized (writeLock)
+        {
+            this.addEntityToHistory(this.removeEntity(guid));
+        }
+    }
+
+
+    /**
+     * Remove an entity proxy from the proxy store.
+     *
+     * @param guid - entity proxy to remove
+     */
+    @Override
+    protected void removeEntityProxyFromStore(String     guid)
+    {
+        synchronized (writeLock)
+        {
+            entityProxyMap.remove(guid);
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the active store and add it to the history store.  If the stored version differs
+     * from the supplied version, both are added to the history.
+     *
+     * @param relationship - relationship to remove
+     */
+    @Override
+    protected void removeRelationshipFromStore(Relationship     relationship)
+    {
+        synchronized (writeLock)
+        {
+            this.addRelationshipToHistory(this.removeRelationship(relationship.getGUID()));
+            this.addRelationshipToHistory(relationship);
+        }
+    }
+
+
+    /**
+     * Remove a reference relationship from the active store and add it to the history store.
+     *
+     * @param guid - relationship to remove
+     */
+    @Override
+    protected void removeReferenceRelationshipFromStore(String     guid)
+    {
+        synchronized (writeLock)
+        {
+            this.addRelationshipToHistory(this.removeRelationship(guid));
+        }
+    }
+
+
+    /*
+     * ==============================================================
+     * Maintenance of the vertices, edges and their indexes.  These methods are called while holding the write lock.
+     */
+
+    /**
+     * Put an entity into the entity map, replacing any existing version, and update the indexes.
+     *
+     * @param entity - entity to store
+     * @return previous version of the entity (or null)
+     */
+    private EntityDetail putEntity(EntityDetail    entity)
+    {
+        final String  methodName = "putEntity";
+
+        EntityDetail  oldEntity = this.readInstance(entityMap.put(entity.getGUID(), this.writeInstance(entity, methodName)),
+                                                    EntityDetail.class,
+                                                    methodName);
+
+        this.updateEntityIndex(oldEntity, false);
+        this.updateEntityIndex(entity, true);
+
+        return oldEntity;
+    }
+
+
+    /**
+     * Remove an entity from the entity map and the indexes.
+     *
+     * @param guid - unique identifier of the entity
+     * @return removed entity (or null if not stored)
+     */
+    private EntityDetail removeEntity(String    guid)
+    {
+        EntityDetail  oldEntity = this.readInstance(entityMap.remove(guid), EntityDetail.class, "removeEntity");
+
+        this.updateEntityIndex(oldEntity, false);
+
+        return oldEntity;
+    }
+
+
+    /**
+     * Put a relationship into the relationship map, replacing any existing version, and update the indexes.
+     *
+     * @param relationship - relationship to store
+     * @return previous version of the relationship (or null)
+     */
+    private Relationship putRelationship(Relationship    relationship)
+    {
+        final String  methodName = "putRelationship";
+
+        Relationship  oldRelationship = this.readInstance(relationshipMap.put(relationship.getGUID(),
+                                                                              this.writeInstance(relationship, methodName)),
+                                                          Relationship.class,
+                                                          methodName);
+
+        this.updateRelationshipIndex(oldRelationship, false);
+        this.updateRelationshipIndex(relationship, true);
+
+        return oldRelationship;
+    }
+
+
+    /**
+     * Remove a relationship from the relationship map and the indexes.
+     *
+     * @param guid - unique identifier of the relationship
+     * @return removed relationship (or null if not stored)
+     */
+    private Relationship removeRelationship(String    guid)
+    {
+        Relationship  oldRelationship = this.readInstance(relationshipMap.remove(guid), Relationship.class, "removeRelationship");
+
+        this.updateRelationshipIndex(oldRelationship, false);
+
+        return oldRelationship;
+    }
+
+
+    /**
+     * Add a superseded version of an entity to its history.
+     *
+     * @param entity - old version of the entity (may be null)
+     */
+    private void addEntityToHistory(EntityDetail    entity)
+    {
+        if (entity != null)
+        {
+            entityHistoryMap.put(this.getHistoryKey(entity), this.writeInstance(entity, "addEntityToHistory"));
+        }
+    }
+
+
+    /**
+     * Add a superseded version of a relationship to its history and record the relationship against its
+     * entities so it can be found by historical queries.
+     *
+     * @param relationship - old version of the relationship (may be null)
+     */
+    private void addRelationshipToHistory(Relationship    relationship)
+    {
+        if (relationship != null)
+        {
+            String  guid = relationship.getGUID();
+
+            relationshipHistoryMap.put(this.getHistoryKey(relationship), this.writeInstance(relationship, "addRelationshipToHistory"));
+
+            for (String  entityGUID : this.getEntityGUIDs(relationship))
+            {
+                relationshipIndexMap.put(this.getIndexKey(historicEdgeIndexName, entityGUID, guid), indexValue);
+            }
+        }
+    }
+
+
+    /**
+     * Add or remove the index entries for an entity.
+     *
+     * @param entity - entity to index (may be null)
+     * @param add - true to add the entries; false to remove them
+     */
+    private void updateEntityIndex(EntityDetail    entity,
+                                   boolean         add)
+    {
+        if (entity != null)
+        {
+            String  guid = entity.getGUID();
+
+            this.updateIndex(entityIndexMap, typeIndexName, this.getTypeGUID(entity.getType()), guid, add);
+            this.updateIndex(entityIndexMap, statusIndexName, this.getStatusKey(entity.getStatus()), guid, add);
+
+            List<Classification>  classifications = entity.getClassifications();
+
+            if (classifications != null)
+            {
+                for (Classification  classification : classifications)
+                {
+                    if (classification != null)
+                    {
+                        this.updateIndex(entityIndexMap, classificationIndexName, classification.getName(), guid, add);
+                    }
+                }
+            }
+
+            this.updatePropertyIndex(entityIndexMap, entity.getProperties(), guid, add);
+        }
+    }
+
+
+    /**
+     * Add or remove the index entries for a relationship, including the edge entries for both of its entities.
+     *
+     * @param relationship - relationship to index (may be null)
+     * @param add - true to add the entries; false to remove them
+     */
+    private void updateRelationshipIndex(Relationship    relationship,
+                                         boolean         add)
+    {
+        if (relationship != null)
+        {
+            String  guid = relationship.getGUID();
+
+            this.updateIndex(relationshipIndexMap, typeIndexName, this.getTypeGUID(relationship.getType()), guid, add);
+            this.updateIndex(relationshipIndexMap, statusIndexName, this.getStatusKey(relationship.getStatus()), guid, add);
+
+            for (String  entityGUID : this.getEntityGUIDs(relationship))
+            {
+                this.updateIndex(relationshipIndexMap, edgeIndexName, entityGUID, guid, add);
+            }
+
+            this.updatePropertyIndex(relationshipIndexMap, relationship.getProperties(), guid, add);
+        }
+    }
+
+
+    /**
+     * Add or remove the property index entries for the primitive properties of an instance.
+     *
+     * @param indexMap - index to update
+     * @param properties - properties of the instance (may be null)
+     * @param guid - unique identifier of the instance
+     * @param add - true to add the entries; false to remove them
+     */
+    private void updatePropertyIndex(MVMap<String, String>  indexMap,
+                                     InstanceProperties     properties,
+                                     String                 guid,
+                                     boolean                add)
+    {
+        if (properties != null)
+        {
+            Iterator<String>  propertyNames = properties.getPropertyNames();
+
+            while (propertyNames.hasNext())
+            {
+                String  propertyName = propertyNames.next();
+
+                this.updateIndex(indexMap,
+                                 propertyIndexName,
+                                 this.getPropertyKey(propertyName, properties.getPropertyValue(propertyName)),
+                                 guid,
+                                 add);
+            }
+        }
+    }
+
+
+    /**
+     * Add or remove a single index entry.
+     *
+     * @param indexMap - index to update
+     * @param indexName - name of the index
+     * @param key - index key (null keys are not indexed)
+     * @param guid - unique identifier of the instance
+     * @param add - true to add the entry; false to remove it
+     */
+    private void updateIndex(MVMap<String, String>  indexMap,
+                             String                 indexName,
+                             String                 key,
+                             String                 guid,
+                             boolean                add)
+    {
+        if ((key != null) && (guid != null))
+        {
+            if (add)
+            {
+                indexMap.put(this.getIndexKey(indexName, key, guid), indexValue);
+            }
+            else
+            {
+                indexMap.remove(this.getIndexKey(indexName, key, guid));
+            }
+        }
+    }
+
+
+    /*
+     * ==============================================================
+     * Queries
+     */
+
+    /**
+     * Return the index ranges for a list of keys.  An instance matches if it is in any of the ranges.
+     *
+     * @param indexMap - index to query
+     * @param indexName - name of the index
+     * @param keys - keys (null means no restriction)
+     * @param <K> - type of the index key
+     * @return list of ranges or null if no keys were supplied
+     */
+    private <K> List<KeyRange> getIndexRanges(MVMap<String, String>  indexMap,
+                                              String                 indexName,
+                                              Collection<K>          keys)
+    {
+        if (keys == null)
+        {
+            return null;
+        }
+
+        List<KeyRange>  ranges = new ArrayList<>();
+
+        for (K  key : keys)
+        {
+            if (key != null)
+            {
+                ranges.add(new KeyRange(indexMap, this.getIndexKey(indexName, key.toString(), "")));
+            }
+        }
+
+        return ranges;
+    }
+
+
+    /**
+     * Return the property index ranges that cover the match properties if this is more selective than the current
+     * candidate ranges.  The property index can only be used when every candidate must have at least one of the
+     * match properties - that is the match criteria is ALL, or ANY with only primitive match properties - and none
+     * of the match properties are matched against the instance header.
+     *
+     * @param currentRanges - current candidate ranges (null means unrestricted)
+     * @param indexMap - index to query
+     * @param matchProperties - property values to match (may be null)
+     * @param matchCriteria - how the match properties are combined (may be null)
+     * @return the most selective ranges
+     */
+    private List<KeyRange> selectPropertyRanges(List<KeyRange>          currentRanges,
+                                                MVMap<String, String>   indexMap,
+                                                InstanceProperties      matchProperties,
+                                                MatchCriteria           matchCriteria)
+    {
+        if ((matchProperties == null) || (matchProperties.getPropertyCount() == 0) ||
+            ((matchCriteria != MatchCriteria.ALL) && (matchCriteria != MatchCriteria.ANY)))
+        {
+            return currentRanges;
+        }
+
+        List<String>      propertyKeys  = new ArrayList<>();
+        Iterator<String>  propertyNames = matchProperties.getPropertyNames();
+
+        while (propertyNames.hasNext())
+        {
+            String  propertyName = propertyNames.next();
+            String  propertyKey  = this.getPropertyKey(propertyName, matchProperties.getPropertyValue(propertyName));
+
+            if ((propertyName == null) || (headerPropertyNames.contains(propertyName)))
+            {
+                return currentRanges;
+            }
+
+            if (propertyKey != null)
+            {
+                propertyKeys.add(propertyKey);
+            }
+            else if (matchCriteria == MatchCriteria.ANY)
+            {
+                return currentRanges;
+            }
+        }
+
+        if (matchCriteria == MatchCriteria.ANY)
+        {
+            return this.selectSmallest(currentRanges, this.getIndexRanges(indexMap, propertyIndexName, propertyKeys));
+        }
+
+        List<KeyRange>  selectedRanges = currentRanges;
+
+        for (String  propertyKey : propertyKeys)
+        {
+            selectedRanges = this.selectSmallest(selectedRanges,
+                                                 this.getIndexRanges(indexMap,
+                                                                     propertyIndexName,
+                                                                     Collections.singletonList(propertyKey)));
+        }
+
+        return selectedRanges;
+    }
+
+
+    /**
+     * Return the candidate ranges with the fewest entries.  A null list means "unrestricted".
+     *
+     * @param currentRanges - current candidate ranges
+     * @param newRanges - alternative candidate ranges
+     * @return the most selective ranges
+     */
+    private List<KeyRange> selectSmallest(List<KeyRange>   currentRanges,
+                                          List<KeyRange>   newRanges)
+    {
+        if (currentRanges == null)
+        {
+            return newRanges;
+        }
+
+        if ((newRanges != null) && (this.getRangeSize(newRanges) < this.getRangeSize(currentRanges)))
+        {
+            return newRanges;
+        }
+
+        return currentRanges;
+    }
+
+
+    /**
+     * Return the total number of keys in a list of ranges.
+     *
+     * @param ranges - list of ranges
+     * @return count of keys
+     */
+    private long getRangeSize(List<KeyRange>   ranges)
+    {
+        long  size = 0;
+
+        for (KeyRange  range : ranges)
+        {
+            size = size + range.size();
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Return a view of the current versions of the entities in the ranges.
+     *
+     * @param ranges - ranges that list the entity GUIDs
+     * @return collection of entities
+     */
+    private Collection<EntityDetail> getEntityView(List<KeyRange>   ranges)
+    {
+        return this.getInstanceView(ranges, this::getEntity, true);
+    }
+
+
+    /**
+     * Return a view of the current versions of the relationships in the ranges.
+     *
+     * @param ranges - ranges that list the relationship GUIDs
+     * @return collection of relationships
+     */
+    private Collection<Relationship> getRelationshipView(List<KeyRange>   ranges)
+    {
+        return this.getInstanceView(ranges, this::getRelationship, true);
+    }
+
+
+    /**
+     * Return a collection that reads the instances listed in the ranges from the store as it is iterated.
+     * Each GUID is returned once, even if it appears in more than one range.  GUIDs that no longer resolve
+     * to an instance are skipped.  When every GUID in the ranges resolves to an instance (as it does for the
+     * current versions), the size is counted from the keys without reading any instances.  Otherwise the
+     * instances have to be read to find out how many there are.
+     *
+     * @param ranges - ranges that list the instance GUIDs
+     * @param resolver - function that returns the instance for a GUID
+     * @param resolvesAll - true if every GUID in the ranges resolves to an instance
+     * @param <T> - type of instance
+     * @return collection of instances
+     */
+    private <T> Collection<T> getInstanceView(List<KeyRange>      ranges,
+                                              Function<String, T> resolver,
+                                              boolean             resolvesAll)
+    {
+        return new AbstractCollection<T>()
+        {
+            @Override
+            public Iterator<T> iterator()
+            {
+                return new InstanceIterator<>(ranges, resolver);
+            }
+
+            @Override
+            public int size()
+            {
+                if (resolvesAll)
+                {
+                    return (int) Math.min(Integer.MAX_VALUE, GraphOMRSMetadataStore.this.countGUIDs(ranges));
+                }
+
+                int  size = 0;
+
+                for (Iterator<T>  instances = this.iterator(); instances.hasNext(); instances.next())
+                {
+                    size++;
+                }
+
+                return size;
+            }
+        };
+    }
+
+
+    /**
+     * Return the number of different GUIDs listed in the ranges.  Only the keys are read.  A single range lists
+     * each GUID once so its size comes from the position of its keys in the map.
+     *
+     * @param ranges - ranges that list the instance GUIDs
+     * @return count of GUIDs
+     */
+    private long countGUIDs(List<KeyRange>   ranges)
+    {
+        if (ranges.size() == 1)
+        {
+            return ranges.get(0).size();
+        }
+
+        long  count = 0;
+
+        for (int rangeIndex = 0; rangeIndex < ranges.size(); rangeIndex++)
+        {
+            KeyRange          range        = ranges.get(rangeIndex);
+            Iterator<String>  keys         = range.map.keyIterator(range.prefix);
+            String            previousGUID = null;
+
+            while (keys.hasNext())
+            {
+                String  guid = range.getGUID(keys.next());
+
+                if (guid == null)
+                {
+                    break;
+                }
+
+                if ((! guid.equals(previousGUID)) && (! InstanceIterator.isInEarlierRange(ranges, rangeIndex, guid)))
+                {
+                    count++;
+                }
+
+                previousGUID = guid;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the version of an instance that was effective at the requested time from its history.
+     *
+     * @param historyMap - history of the instances
+     * @param guid - unique identifier of the instance
+     * @param asOfTime - time of interest
+     * @return JSON of the instance or null if the instance had not been created by this time
+     */
+    private String getVersionAsOf(MVMap<String, String>  historyMap,
+                                  String                 guid,
+                                  Date                   asOfTime)
+    {
+        String  historyKey = historyMap.floorKey(this.getHistoryKey(guid, asOfTime.getTime(), Long.MAX_VALUE));
+
+        if ((historyKey != null) && (historyKey.startsWith(guid + keySeparator)))
+        {
+            return historyMap.get(historyKey);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Remove and return the most recent version of an instance from its history.
+     *
+     * @param historyMap - history of the instances
+     * @param guid - unique identifier of the instance
+     * @return JSON of the instance or null if the history is empty
+     */
+    private String removeLatestVersion(MVMap<String, String>  historyMap,
+                                       String                 guid)
+    {
+        String  historyKey = historyMap.lowerKey(guid + keySeparator + highestKey);
+
+        if ((historyKey != null) && (historyKey.startsWith(guid + keySeparator)))
+        {
+            return historyMap.remove(historyKey);
+        }
+
+        return null;
+    }
+
+
+    /*
+     * ==============================================================
+     * Keys and serialization
+     */
+
+    /**
+     * Return the key of an index entry.
+     *
+     * @param indexName - name of the index
+     * @param key - index key
+     * @param guid - unique identifier of the instance (or "" for the start of the range for the key)
+     * @return composite key
+     */
+    private String getIndexKey(String  indexName,
+                               String  key,
+                               String  guid)
+    {
+        return indexName + keySeparator + key + keySeparator + guid;
+    }
+
+
+    /**
+     * Return the history key for a version of an instance.
+     *
+     * @param instance - version of an instance
+     * @return composite key
+     */
+    private String getHistoryKey(InstanceHeader   instance)
+    {
+        return this.getHistoryKey(instance.getGUID(), this.getEffectiveTime(instance), instance.getVersion());
+    }
+
+
+    /**
+     * Return the history key for a version of an instance.  The numbers are encoded so that the string order of
+     * the keys matches the numeric order of the values.
+     *
+     * @param guid - unique identifier of the instance
+     * @param effectiveTime - time the version became effective
+     * @param version - version number
+     * @return composite key
+     */
+    private String getHistoryKey(String  guid,
+                                 long    effectiveTime,
+                                 long    version)
+    {
+        return guid + keySeparator + String.format("%016x", effectiveTime ^ Long.MIN_VALUE)
+                    + keySeparator + String.format("%016x", version ^ Long.MIN_VALUE);
+    }
+
+
+    /**
+     * Return the time that this version of the instance became effective.  Instances with no timestamps
+     * are treated as if they were created at the start of time.
+     *
+     * @param instance - version of an instance
+     * @return time in milliseconds
+     */
+    private long getEffectiveTime(InstanceAuditHeader   instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return Long.MIN_VALUE;
+    }
+
+
+    /**
+     * Return the property index key for a primitive property value.  Values that are equal produce the same key.
+     * Dates are stored as milliseconds so the key does not depend on the time zone of the server.
+     *
+     * @param propertyName - name of the property
+     * @param propertyValue - value of the property
+     * @return index key or null if the value is not indexed
+     */
+    private String getPropertyKey(String                 propertyName,
+                                  InstancePropertyValue  propertyValue)
+    {
+        if ((propertyName != null) && (propertyValue instanceof PrimitivePropertyValue))
+        {
+            PrimitivePropertyValue  primitivePropertyValue = (PrimitivePropertyValue) propertyValue;
+            PrimitiveDefCategory    primitiveDefCategory   = primitivePropertyValue.getPrimitiveDefCategory();
+            Object                  primitiveValue         = primitivePropertyValue.getPrimitiveValue();
+
+            if (primitiveValue instanceof Date)
+            {
+                primitiveValue = ((Date) primitiveValue).getTime();
+            }
+
+            return propertyName + keySeparator + (primitiveDefCategory == null ? "" : primitiveDefCategory.name())
+                                + keySeparator + primitiveValue;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the type GUID from an instance type.
+     *
+     * @param instanceType - type of an instance (may be null)
+     * @return unique identifier of the type or null
+     */
+    private String getTypeGUID(InstanceType   instanceType)
+    {
+        if (instanceType != null)
+        {
+            return instanceType.getTypeDefGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the status index key.
+     *
+     * @param status - status of an instance (may be null)
+     * @return index key or null
+     */
+    private String getStatusKey(InstanceStatus   status)
+    {
+        if (status != null)
+        {
+            return status.name();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the GUIDs of the entities at either end of a relationship.
+     *
+     * @param relationship - relationship
+     * @return list of entity GUIDs
+     */
+    private List<String> getEntityGUIDs(Relationship   relationship)
+    {
+        List<String>  entityGUIDs = new ArrayList<>(2);
+
+        if ((relationship.getEntityOneProxy() != null) && (relationship.getEntityOneProxy().getGUID() != null))
+        {
+            entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+        }
+
+        if ((relationship.getEntityTwoProxy() != null) && (relationship.getEntityTwoProxy().getGUID() != null))
+        {
+            entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+        }
+
+        return entityGUIDs;
+    }
+
+
+    /**
+     * Convert an instance or type definition to JSON.
+     *
+     * @param instance - object to convert
+     * @param methodName - calling method
+     * @return JSON string
+     * @throws OMRSLogicErrorException - the object can not be converted
+     */
+    private String writeInstance(Object   instance,
+                                 String   methodName) throws OMRSLogicErrorException
+    {
+        try
+        {
+            return OMRSJSONMapper.getWriter().writeValueAsString(instance);
+        }
+        catch (IOException  error)
+        {
+            throw this.getSerializationError(error, methodName);
+        }
+    }
+
+
+    /**
+     * Convert JSON from the store to an instance or type definition.
+     *
+     * @param json - JSON string (may be null)
+     * @param instanceClass - class of the object
+     * @param methodName - calling method
+     * @param <T> - class of the object
+     * @return object or null if the JSON is null
+     * @throws OMRSLogicErrorException - the JSON can not be converted
+     */
+    private <T> T readInstance(String    json,
+                               Class<T>  instanceClass,
+                               String    methodName) throws OMRSLogicErrorException
+    {
+        if (json == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return OMRSJSONMapper.getReader(instanceClass).readValue(json);
+        }
+        catch (IOException  error)
+        {
+            throw this.getSerializationError(error, methodName);
+        }
+    }
+
+
+    /**
+     * Return the exception to throw when an object can not be converted to or from JSON.
+     *
+     * @param error - exception from the JSON parser
+     * @param methodName - calling method
+     * @return exception
+     */
+    private OMRSLogicErrorException getSerializationError(IOException   error,
+                                                          String        methodName)
+    {
+        OMRSErrorCode errorCode = OMRSErrorCode.REPOSITORY_LOGIC_ERROR;
+        String        errorMessage = errorCode.getErrorMessageId()
+                                   + errorCode.getFormattedErrorMessage(repositoryName, methodName, error.getMessage());
+
+        return new OMRSLogicErrorException(errorCode.getHTTPErrorCode(),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           errorMessage,
+                                           errorCode.getSystemAction(),
+                                           errorCode.getUserAction(),
+                                           error);
+    }
+
+
+    /**
+     * KeyRange lists the instance GUIDs stored under the keys that start with a prefix.  The GUID is the remainder
+     * of the key after the prefix.
+     */
+    private static class KeyRange
+    {
+        MVMap<String, String>  map;
+        String                 prefix;
+
+
+        KeyRange(MVMap<String, String>  map,
+                 String                 prefix)
+        {
+            this.map = map;
+            this.prefix = prefix;
+        }
+
+
+        /**
+         * Return the GUID stored in a key or null if the key is outside of the range.
+         *
+         * @param key - key from the map
+         * @return GUID or null
+         */
+        String getGUID(String   key)
+        {
+            if ((key == null) || (! key.startsWith(prefix)))
+            {
+                return null;
+            }
+
+            return key.substring(prefix.length());
+        }
+
+
+        /**
+         * Return whether the GUID is listed in this range.
+         *
+         * @param guid - unique identifier of an instance
+         * @return boolean
+         */
+        boolean contains(String   guid)
+        {
+            return map.containsKey(prefix + guid);
+        }
+
+
+        /**
+         * Return the number of keys in the range.  This uses the size of the map, or the position of the keys
+         * in the map, so the keys are not read.
+         *
+         * @return count of keys
+         */
+        long size()
+        {
+            if (prefix.isEmpty())
+            {
+                return map.sizeAsLong();
+            }
+
+            return this.getPosition(prefix + highestKey) - this.getPosition(prefix);
+        }
+
+
+        private long getPosition(String  key)
+        {
+            long  index = map.getKeyIndex(key);
+
+            if (index < 0)
+            {
+                return -(index + 1);
+            }
+
+            return index;
+        }
+    }
+
+
+    /**
+     * HistoryKeyRange lists the GUIDs of the instances in a history map.  The history keys start with the GUID
+     * followed by the details of the version so each GUID may appear in several keys.
+     */
+    private static class HistoryKeyRange extends KeyRange
+    {
+        HistoryKeyRange(MVMap<String, String>  map)
+        {
+            super(map, "");
+        }
+
+
+        @Override
+        String getGUID(String   key)
+        {
+            if (key == null)
+            {
+                return null;
+            }
+
+            return key.substring(0, key.indexOf(keySeparator));
+        }
+
+
+        @Override
+        boolean contains(String   guid)
+        {
+            String  key = map.ceilingKey(guid + keySeparator);
+
+            return (key != null) && (key.startsWith(guid + keySeparator));
+        }
+    }
+
+
+    /**
+     * InstanceIterator walks through the ranges in turn, skipping GUIDs that have already been returned from an
+     * earlier range (or from an earlier key in the same range) and GUIDs that do not resolve to an instance.
+     *
+     * @param <T> - type of instance
+     */
+    private static class InstanceIterator<T> implements Iterator<T>
+    {
+        private List<KeyRange>       ranges;
+        private Function<String, T>  resolver;
+        private int                  rangeIndex   = 0;
+        private Iterator<String>     keys         = null;
+        private String               previousGUID = null;
+        private T                    nextInstance = null;
+
+
+        InstanceIterator(List<KeyRange>       ranges,
+                         Function<String, T>  resolver)
+        {
+            this.ranges = ranges;
+            this.resolver = resolver;
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            while (nextInstance == null)
+            {
+                if (keys == null)
+                {
+                    if (rangeIndex >= ranges.size())
+                    {
+                        return false;
+                    }
+
+                    keys = ranges.get(rangeIndex).map.keyIterator(ranges.get(rangeIndex).prefix);
+                    previousGUID = null;
+                }
+
+                String  guid = null;
+
+                if (keys.hasNext())
+                {
+                    guid = ranges.get(rangeIndex).getGUID(keys.next());
+                }
+
+                if (guid == null)
+                {
+                    keys = null;
+                    rangeIndex++;
+                }
+                else if ((! guid.equals(previousGUID)) && (! this.isInEarlierRange(guid)))
+                {
+                    previousGUID = guid;
+                    nextInstance = resolver.apply(guid);
+                }
+            }
+
+            return true;
+        }
+
+
+        @Override
+        public T next()
+        {
+            if (! this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+
+            T  instance = nextInstance;
+
+            nextInstance = null;
+
+            return instance;
+        }
+
+
+        private boolean isInEarlierRange(String   guid)
+        {
+            return isInEarlierRange(ranges, rangeIndex, guid);
+        }
+
+
+        /**
+         * Return whether a GUID is listed in one of the ranges before the requested range.
+         *
+         * @param ranges - list of ranges
+         * @param rangeIndex - position of the current range
+         * @param guid - unique identifier of an instance
+         * @return boolean
+         */
+        static boolean isInEarlierRange(List<KeyRange>   ranges,
+                                        int              rangeIndex,
+                                        String           guid)
+        {
+            for (int i = 0; i < rangeIndex; i++)
+            {
+                if (ranges.get(i).contains(guid))
+                {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -1,25 +1,72 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 /**
  * The GraphOMRSRepositoryConnector is a connector to a local open metadata repository that uses a graph store
- * for its persistence.
+ * for its persistence.  The endpoint address in the connection is the name of the file that holds the store.
+ * The size of the store's page cache (in megabytes) can be set with the cacheSize additional property.
  */
 public class GraphOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    /*
+     * This is the suffix added to the server name to name the store if there is no endpoint address in the connection.
+     */
+    private static final String defaultStoreNameSuffix = ".graph.db";
+
+    private String                  storeName  = null;
+    private int                     cacheSize  = GraphOMRSRepositoryConnectorProvider.defaultCacheSize;
+    private GraphOMRSMetadataStore  graphStore = null;
+
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
     public GraphOMRSRepositoryConnector()
     {
         /*
-         * Nothing to do (yet !)
+         * Nothing to do - the store is opened when the metadata collection id is known.
          */
     }
 
 
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if (endpoint != null)
+        {
+            storeName = endpoint.getAddress();
+        }
+
+        AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+        if (additionalProperties != null)
+        {
+            Object cacheSizeProperty = additionalProperties.getProperty(GraphOMRSRepositoryConnectorProvider.cacheSizePropertyName);
+
+            if (cacheSizeProperty != null)
+            {
+                cacheSize = Integer.parseInt(cacheSizeProperty.toString());
+            }
+        }
+    }
+
+
     /**
      * Set up the unique Id for this metadata collection.
      *
@@ -31,14 +78,40 @@ public class GraphOMRSRepositoryConnector extends OMRSRepositoryConnector
 
         if (metadataCollectionId != null)
         {
+            if (storeName == null)
+            {
+                storeName = super.serverName + defaultStoreNameSuffix;
+            }
+
             /*
              * Initialize the metadata collection only once the connector is properly set up.
              */
+            graphStore = new GraphOMRSMetadataStore(super.serverName, storeName, cacheSize);
+
             super.metadataCollection = new GraphOMRSMetadataCollection(this,
                                                                        super.serverName,
                                                                        repositoryHelper,
                                                                        repositoryValidator,
-                                                                       metadataCollectionId);
+                                                                       metadataCollectionId,
+                                                                       graphStore);
+        }
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  This writes any outstanding changes
+     * to the graph store and closes it.
+     *
+     * @throws ConnectorCheckedException there is a problem disconnecting the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        super.disconnect();
+
+        if (graphStore != null)
+        {
+            graphStore.close();
         }
     }
-}
\ No newline at end of file
+}
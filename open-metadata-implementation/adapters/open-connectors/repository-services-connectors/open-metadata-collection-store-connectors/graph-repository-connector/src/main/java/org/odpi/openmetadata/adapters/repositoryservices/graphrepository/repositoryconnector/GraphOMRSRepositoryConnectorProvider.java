@@ -21,6 +21,13 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
     static final String  connectorTypeName = "OMRS Graph Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses graph repository store.";
 
+    /*
+     * Name of the additional property in the connection that sets the size of the graph store's page cache
+     * in megabytes.  This limits the memory used by the store, whatever the number of instances it holds.
+     */
+    public static final String  cacheSizePropertyName = "cacheSize";
+    static final int            defaultCacheSize = 16;
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
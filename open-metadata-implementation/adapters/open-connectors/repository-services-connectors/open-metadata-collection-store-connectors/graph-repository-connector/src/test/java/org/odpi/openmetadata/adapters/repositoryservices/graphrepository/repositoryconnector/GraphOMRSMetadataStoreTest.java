@@ -0,0 +1,259 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the GraphOMRSMetadataStore keeps its instances, indexes and version history when it is
+ * closed and reopened.
+ */
+public class GraphOMRSMetadataStoreTest
+{
+    private static final String assetTypeGUID         = "896d14c2-7522-4f6c-8519-757711943fe6";
+    private static final String glossaryTypeGUID      = "36f66863-9726-4b41-97ee-714fd0dc6fe4";
+    private static final String attachmentTypeGUID    = "4efd16d4-f397-449c-a75d-ebea42fe581b";
+    private static final String confidentialityName   = "Confidentiality";
+    private static final String repositoryName        = "TestGraphRepository";
+
+    private File storeFile;
+
+
+    @BeforeMethod public void createStoreFile() throws Exception
+    {
+        storeFile = File.createTempFile("graph-repository-test", ".db");
+        storeFile.delete();
+    }
+
+
+    @AfterMethod public void deleteStoreFile()
+    {
+        storeFile.delete();
+    }
+
+
+    private GraphOMRSMetadataStore openStore()
+    {
+        return new GraphOMRSMetadataStore(repositoryName, storeFile.getAbsolutePath(), 1);
+    }
+
+
+    private InstanceProperties getProperties(String  qualifiedName,
+                                             long    size)
+    {
+        InstanceProperties     properties         = new InstanceProperties();
+        PrimitivePropertyValue qualifiedNameValue = new PrimitivePropertyValue();
+        PrimitivePropertyValue sizeValue          = new PrimitivePropertyValue();
+
+        qualifiedNameValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        qualifiedNameValue.setPrimitiveValue(qualifiedName);
+        sizeValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_LONG);
+        sizeValue.setPrimitiveValue(size);
+
+        properties.setProperty("qualifiedName", qualifiedNameValue);
+        properties.setProperty("size", sizeValue);
+
+        return properties;
+    }
+
+
+    private EntityDetail getEntity(String  guid,
+                                   String  typeGUID,
+                                   String  classificationName)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefGUID(typeGUID);
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setVersion(1);
+        entity.setCreateTime(new Date(1000));
+        entity.setProperties(getProperties(guid + ".name", 10));
+
+        if (classificationName != null)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String  guid,
+                                         String  entityOneGUID,
+                                         String  entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        type.setTypeDefGUID(attachmentTypeGUID);
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setCreateTime(new Date(1000));
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    private Set<String> getGUIDs(Collection<? extends InstanceHeader>   instances)
+    {
+        Set<String>  guids = new HashSet<>();
+
+        for (InstanceHeader  instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    @Test public void testPersistence()
+    {
+        GraphOMRSMetadataStore store = openStore();
+
+        store.createEntityInStore(getEntity("e1", assetTypeGUID, confidentialityName));
+        store.createEntityInStore(getEntity("e2", assetTypeGUID, null));
+        store.createEntityInStore(getEntity("e3", glossaryTypeGUID, null));
+        store.createRelationshipInStore(getRelationship("r1", "e1", "e2"));
+        store.createRelationshipInStore(getRelationship("r2", "e2", "e3"));
+        store.close();
+
+        store = openStore();
+
+        assertEquals(store.getEntity("e1"), getEntity("e1", assetTypeGUID, confidentialityName));
+        assertEquals(store.getRelationship("r1"), getRelationship("r1", "e1", "e2"));
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(Collections.singletonList(assetTypeGUID), null, null, null, null, null)),
+                     new HashSet<>(Arrays.asList("e1", "e2")));
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(null, null, Collections.singletonList(confidentialityName), null, null, null)),
+                     Collections.singleton("e1"));
+        assertEquals(store.getEntityCandidatesForTypes(null, null, null, null, null, null).size(), 3);
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e2", null)), new HashSet<>(Arrays.asList("r1", "r2")));
+        assertEquals(store.getRelationshipCandidatesForTypes(Collections.singletonList(attachmentTypeGUID), null, null, null, null).size(), 2);
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(Arrays.asList(assetTypeGUID, glossaryTypeGUID), null, null, null, null, null)),
+                     new HashSet<>(Arrays.asList("e1", "e2", "e3")));
+        assertEquals(store.getEntityCandidatesForTypes(Arrays.asList(assetTypeGUID, glossaryTypeGUID), null, null, null, null, null).size(), 3);
+        store.close();
+    }
+
+
+    @Test public void testPropertyIndex()
+    {
+        GraphOMRSMetadataStore store = openStore();
+
+        store.createEntityInStore(getEntity("e1", assetTypeGUID, null));
+        store.createEntityInStore(getEntity("e2", assetTypeGUID, null));
+
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(Collections.singletonList(assetTypeGUID),
+                                                                null,
+                                                                null,
+                                                                getProperties("e2.name", 10),
+                                                                MatchCriteria.ALL,
+                                                                null)),
+                     Collections.singleton("e2"));
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(null,
+                                                                null,
+                                                                null,
+                                                                getProperties("e2.name", 10),
+                                                                MatchCriteria.ANY,
+                                                                null)),
+                     new HashSet<>(Arrays.asList("e1", "e2")));
+        assertEquals(store.getEntityCandidatesForTypes(null,
+                                                       null,
+                                                       null,
+                                                       getProperties("e2.name", 10),
+                                                       MatchCriteria.ANY,
+                                                       null).size(), 2);
+        assertEquals(store.getEntityCandidatesForTypes(null,
+                                                       null,
+                                                       null,
+                                                       getProperties("e2.name", 10),
+                                                       MatchCriteria.NONE,
+                                                       null).size(), 2);
+
+        EntityDetail updatedEntity = getEntity("e2", assetTypeGUID, null);
+
+        updatedEntity.setVersion(2);
+        updatedEntity.setProperties(getProperties("e2.newName", 10));
+        store.updateEntityInStore(updatedEntity);
+
+        assertTrue(store.getEntityCandidatesForTypes(null,
+                                                     null,
+                                                     null,
+                                                     getProperties("e2.name", 10),
+                                                     MatchCriteria.ALL,
+                                                     null).isEmpty());
+        store.close();
+    }
+
+
+    @Test public void testHistory()
+    {
+        GraphOMRSMetadataStore store  = openStore();
+        EntityDetail           entity = getEntity("e1", assetTypeGUID, null);
+
+        store.createEntityInStore(entity);
+
+        for (int version = 2; version <= 4; version++)
+        {
+            EntityDetail updatedEntity = getEntity("e1", assetTypeGUID, null);
+
+            updatedEntity.setVersion(version);
+            updatedEntity.setUpdateTime(new Date(version * 1000));
+            store.updateEntityInStore(updatedEntity);
+        }
+
+        Relationship relationship = getRelationship("r1", "e1", "e2");
+
+        store.createRelationshipInStore(relationship);
+        store.removeRelationshipFromStore(relationship);
+        store.close();
+
+        store = openStore();
+
+        assertNull(store.getEntity("e1", new Date(500)));
+        assertEquals(store.getEntity("e1", new Date(1500)).getVersion(), 1);
+        assertEquals(store.getEntity("e1", new Date(2500)).getVersion(), 2);
+        assertEquals(store.getEntity("e1", new Date(5000)).getVersion(), 4);
+        assertEquals(store.getEntityCandidatesForTypes(null, null, null, null, null, new Date(2500)).size(), 1);
+
+        assertNull(store.getRelationship("r1"));
+        assertTrue(store.getRelationshipsForEntity("e1", null).isEmpty());
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e1", new Date(1500))), Collections.singleton("r1"));
+
+        EntityDetail restoredEntity = store.retrievePreviousVersionOfEntity("e1");
+
+        assertNotNull(restoredEntity);
+        assertEquals(restoredEntity.getVersion(), 5);
+        assertEquals(store.getEntity("e1").getUpdateTime(), restoredEntity.getUpdateTime());
+        assertEquals(store.getEntity("e1", new Date(2500)).getVersion(), 2);
+        store.close();
+    }
+}
@@ -0,0 +1,453 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * InMemoryOMRSInstanceGraphTraversal walks the relationships between the entities in an InMemoryOMRSMetadataStore
+ * to answer the graph queries of the metadata collection.  Each step uses the store's relationships for an entity
+ * (its adjacency list) so the cost of a query depends on the part of the graph that is visited rather than the
+ * size of the repository.
+ * <p>
+ * The filters are applied as the graph is walked: a relationship that fails the relationship filter is not
+ * followed and an entity that fails the entity filter is neither returned nor walked through.  Deleted instances
+ * are always skipped.  Every query stops once it has visited maxEntities entities so a query on a densely
+ * connected repository can not exhaust the server.  The caller must check isLimitReached() after the query since
+ * the result is then incomplete.
+ * </p>
+ * <p>
+ * A traversal object is created for a single query and is not thread-safe.  The entities it reads are cached
+ * for the duration of the query.
+ * </p>
+ */
+class InMemoryOMRSInstanceGraphTraversal
+{
+    private InMemoryOMRSMetadataStore   repositoryStore;
+    private Date                        asOfTime;
+    private Predicate<Relationship>     relationshipFilter;
+    private Predicate<EntityDetail>     entityFilter;
+    private int                         maxEntities;
+    private boolean                     limitReached = false;
+
+    private Map<String, EntityDetail>   traversableEntities = new HashMap<>();
+    private Set<String>                 rejectedEntityGUIDs = new HashSet<>();
+
+
+    /**
+     * Constructor supplies the store and the query's filters.
+     *
+     * @param repositoryStore - store holding the entities and relationships
+     * @param asOfTime - time for the query (or null means now)
+     * @param relationshipFilter - test for the relationships that may be followed
+     * @param entityFilter - test for the entities that may be returned and walked through
+     * @param maxEntities - maximum number of entities to visit
+     */
+    InMemoryOMRSInstanceGraphTraversal(InMemoryOMRSMetadataStore   repositoryStore,
+                                       Date                        asOfTime,
+                                       Predicate<Relationship>     relationshipFilter,
+                                       Predicate<EntityDetail>     entityFilter,
+                                       int                         maxEntities)
+    {
+        this.repositoryStore = repositoryStore;
+        this.asOfTime = asOfTime;
+        this.relationshipFilter = relationshipFilter;
+        this.entityFilter = entityFilter;
+        this.maxEntities = maxEntities;
+    }
+
+
+    /**
+     * Return whether the last query stopped because it visited maxEntities entities.  If so, its result only
+     * covers part of the graph.
+     *
+     * @return boolean flag
+     */
+    boolean isLimitReached()
+    {
+        return limitReached;
+    }
+
+
+    /**
+     * Return the entities and relationships within level relationships of the start entity using a breadth-first
+     * search.  The start entity is always included.  Relationships are only included if both of their entities
+     * are included.  If maxEntities is reached the graph found so far is returned and isLimitReached() is set.
+     *
+     * @param startEntity - entity at the centre of the neighborhood
+     * @param level - number of relationships to follow out from the start entity
+     * @return graph of entities and relationships
+     */
+    InstanceGraph getNeighborhood(EntityDetail   startEntity,
+                                  int            level)
+    {
+        Map<String, EntityDetail>  foundEntities      = new LinkedHashMap<>();
+        Map<String, Relationship>  foundRelationships = new LinkedHashMap<>();
+        List<String>               frontier           = Collections.singletonList(startEntity.getGUID());
+
+        traversableEntities.put(startEntity.getGUID(), startEntity);
+        foundEntities.put(startEntity.getGUID(), startEntity);
+
+        for (int depth = 0; (depth < level) && (! frontier.isEmpty()); depth++)
+        {
+            List<String>  nextFrontier = new ArrayList<>();
+
+            for (String  entityGUID : frontier)
+            {
+                for (Relationship  relationship : this.getLinks(entityGUID))
+                {
+                    String  linkedEntityGUID = this.getLinkedEntityGUID(relationship, entityGUID);
+
+                    if (! foundEntities.containsKey(linkedEntityGUID))
+                    {
+                        EntityDetail  linkedEntity = this.getTraversableEntity(linkedEntityGUID);
+
+                        if (linkedEntity == null)
+                        {
+                            continue;
+                        }
+
+                        if (foundEntities.size() >= maxEntities)
+                        {
+                            limitReached = true;
+                            return new InstanceGraph(new ArrayList<>(foundEntities.values()),
+                                                     new ArrayList<>(foundRelationships.values()));
+                        }
+
+                        foundEntities.put(linkedEntityGUID, linkedEntity);
+                        nextFrontier.add(linkedEntityGUID);
+                    }
+
+                    foundRelationships.put(relationship.getGUID(), relationship);
+                }
+            }
+
+            frontier = nextFrontier;
+        }
+
+        return new InstanceGraph(new ArrayList<>(foundEntities.values()), new ArrayList<>(foundRelationships.values()));
+    }
+
+
+    /**
+     * Return the entities that are connected to the start entity, directly or through any number of other
+     * entities, and pass the result filter.  The entities are returned nearest first.  The search stops early
+     * if maxEntities entities have been visited (which sets isLimitReached()).
+     *
+     * @param startEntity - entity to start from (not included in the results)
+     * @param resultFilter - test for the entities to return
+     * @return list of entities
+     */
+    List<EntityDetail> getRelatedEntities(EntityDetail             startEntity,
+                                          Predicate<EntityDetail>  resultFilter)
+    {
+        List<EntityDetail>  relatedEntities = new ArrayList<>();
+        Set<String>         visitedGUIDs    = new HashSet<>();
+        Deque<String>       queue           = new ArrayDeque<>();
+
+        traversableEntities.put(startEntity.getGUID(), startEntity);
+        visitedGUIDs.add(startEntity.getGUID());
+        queue.add(startEntity.getGUID());
+
+        while (! queue.isEmpty())
+        {
+            String  entityGUID = queue.remove();
+
+            for (Relationship  relationship : this.getLinks(entityGUID))
+            {
+                String  linkedEntityGUID = this.getLinkedEntityGUID(relationship, entityGUID);
+
+                if (visitedGUIDs.add(linkedEntityGUID))
+                {
+                    EntityDetail  linkedEntity = this.getTraversableEntity(linkedEntityGUID);
+
+                    if (linkedEntity != null)
+                    {
+                        if (resultFilter.test(linkedEntity))
+                        {
+                            relatedEntities.add(linkedEntity);
+                        }
+
+                        queue.add(linkedEntityGUID);
+                    }
+
+                    if (visitedGUIDs.size() >= maxEntities)
+                    {
+                        limitReached = true;
+                        return relatedEntities;
+                    }
+                }
+            }
+        }
+
+        return relatedEntities;
+    }
+
+
+    /**
+     * Return the entities and relationships on the shortest paths between the start and end entities.  The
+     * search runs breadth-first from both entities, each step extending the side with the smaller frontier,
+     * and stops at the first level where the two searches meet.  The paths are then rebuilt from the
+     * relationships that led to each entity on the shortest paths.
+     *
+     * @param startEntity - entity at one end of the paths
+     * @param endEntity - entity at the other end of the paths
+     * @return graph of the entities and relationships on the shortest paths, or null if the entities are not
+     * connected or maxEntities was reached before a path was found (which sets isLimitReached())
+     */
+    InstanceGraph getLinkingGraph(EntityDetail   startEntity,
+                                  EntityDetail   endEntity)
+    {
+        traversableEntities.put(startEntity.getGUID(), startEntity);
+        traversableEntities.put(endEntity.getGUID(), endEntity);
+
+        if (startEntity.getGUID().equals(endEntity.getGUID()))
+        {
+            return new InstanceGraph(Collections.singletonList(startEntity), new ArrayList<>());
+        }
+
+        SearchFront  fromStart  = new SearchFront(startEntity.getGUID());
+        SearchFront  fromEnd    = new SearchFront(endEntity.getGUID());
+        int          pathLength = -1;
+
+        while (pathLength < 0)
+        {
+            SearchFront  searchFront = (fromStart.frontier.size() <= fromEnd.frontier.size()) ? fromStart : fromEnd;
+            SearchFront  otherFront  = (searchFront == fromStart) ? fromEnd : fromStart;
+
+            if (searchFront.frontier.isEmpty())
+            {
+                return null;
+            }
+
+            if (fromStart.depths.size() + fromEnd.depths.size() >= maxEntities)
+            {
+                limitReached = true;
+                return null;
+            }
+
+            searchFront.expand();
+
+            for (String  entityGUID : searchFront.frontier)
+            {
+                Integer  otherDepth = otherFront.depths.get(entityGUID);
+
+                if ((otherDepth != null) && ((pathLength < 0) || (searchFront.depth + otherDepth < pathLength)))
+                {
+                    pathLength = searchFront.depth + otherDepth;
+                }
+            }
+        }
+
+        /*
+         * The entities on the shortest paths are those whose distances from the two ends add up to the
+         * path length.  Each path is rebuilt from these meeting points back to both ends.
+         */
+        Map<String, EntityDetail>  foundEntities      = new LinkedHashMap<>();
+        Map<String, Relationship>  foundRelationships = new LinkedHashMap<>();
+
+        for (Map.Entry<String, Integer>  startDepth : fromStart.depths.entrySet())
+        {
+            Integer  endDepth = fromEnd.depths.get(startDepth.getKey());
+
+            if ((endDepth != null) && (startDepth.getValue() + endDepth == pathLength))
+            {
+                fromStart.addPaths(startDepth.getKey(), foundEntities, foundRelationships);
+                fromEnd.addPaths(startDepth.getKey(), foundEntities, foundRelationships);
+            }
+        }
+
+        return new InstanceGraph(new ArrayList<>(foundEntities.values()), new ArrayList<>(foundRelationships.values()));
+    }
+
+
+    /**
+     * Return the relationships that can be followed from the entity.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @return list of relationships
+     */
+    private List<Relationship> getLinks(String   entityGUID)
+    {
+        List<Relationship>  links = new ArrayList<>();
+
+        for (Relationship  relationship : repositoryStore.getRelationshipsForEntity(entityGUID, asOfTime))
+        {
+            if ((relationship != null) &&
+                (relationship.getStatus() != InstanceStatus.DELETED) &&
+                (this.getLinkedEntityGUID(relationship, entityGUID) != null) &&
+                (relationshipFilter.test(relationship)))
+            {
+                links.add(relationship);
+            }
+        }
+
+        return links;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at the other end of the relationship.
+     *
+     * @param relationship - relationship attached to the entity
+     * @param entityGUID - unique identifier of the entity
+     * @return unique identifier or null if the relationship is not attached to the entity
+     */
+    private String getLinkedEntityGUID(Relationship   relationship,
+                                       String         entityGUID)
+    {
+        EntityProxy  entityOne = relationship.getEntityOneProxy();
+        EntityProxy  entityTwo = relationship.getEntityTwoProxy();
+
+        if ((entityOne == null) || (entityTwo == null) || (entityOne.getGUID() == null) || (entityTwo.getGUID() == null))
+        {
+            return null;
+        }
+
+        if (entityGUID.equals(entityOne.getGUID()))
+        {
+            return entityTwo.getGUID();
+        }
+
+        if (entityGUID.equals(entityTwo.getGUID()))
+        {
+            return entityOne.getGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the entity if it can be returned and walked through.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @return entity or null if it is unknown, deleted or filtered out
+     */
+    private EntityDetail getTraversableEntity(String   entityGUID)
+    {
+        EntityDetail  entity = traversableEntities.get(entityGUID);
+
+        if ((entity == null) && (! rejectedEntityGUIDs.contains(entityGUID)))
+        {
+            entity = repositoryStore.getEntity(entityGUID, asOfTime);
+
+            if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED) && (entityFilter.test(entity)))
+            {
+                traversableEntities.put(entityGUID, entity);
+            }
+            else
+            {
+                rejectedEntityGUIDs.add(entityGUID);
+                entity = null;
+            }
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * SearchFront is one side of the bidirectional search for linking entities.  It records the distance of each
+     * entity it has reached from its root and the relationships that reached the entity from the previous level.
+     */
+    private class SearchFront
+    {
+        private Map<String, Integer>             depths          = new HashMap<>();
+        private Map<String, List<Relationship>>  parents         = new HashMap<>();
+        private Set<String>                      pathEntityGUIDs = new HashSet<>();
+        private List<String>                     frontier;
+        private int                              depth           = 0;
+
+
+        /**
+         * Constructor sets up the root of the search.
+         *
+         * @param rootEntityGUID - unique identifier of the entity the search starts from
+         */
+        SearchFront(String   rootEntityGUID)
+        {
+            depths.put(rootEntityGUID, 0);
+            frontier = Collections.singletonList(rootEntityGUID);
+        }
+
+
+        /**
+         * Extend the search by one relationship from every entity in the frontier.
+         */
+        void expand()
+        {
+            List<String>  nextFrontier = new ArrayList<>();
+
+            depth++;
+
+            for (String  entityGUID : frontier)
+            {
+                for (Relationship  relationship : getLinks(entityGUID))
+                {
+                    String   linkedEntityGUID = getLinkedEntityGUID(relationship, entityGUID);
+                    Integer  linkedDepth      = depths.get(linkedEntityGUID);
+
+                    if ((linkedDepth == null) && (getTraversableEntity(linkedEntityGUID) != null))
+                    {
+                        depths.put(linkedEntityGUID, depth);
+                        nextFrontier.add(linkedEntityGUID);
+                        linkedDepth = depth;
+                    }
+
+                    if ((linkedDepth != null) && (linkedDepth == depth))
+                    {
+                        parents.computeIfAbsent(linkedEntityGUID, guid -> new ArrayList<>()).add(relationship);
+                    }
+                }
+            }
+
+            frontier = nextFrontier;
+        }
+
+
+        /**
+         * Add the entities and relationships on every shortest path from the entity back to the root.
+         *
+         * @param entityGUID - unique identifier of an entity reached by this search
+         * @param foundEntities - entities on the paths
+         * @param foundRelationships - relationships on the paths
+         */
+        void addPaths(String                      entityGUID,
+                      Map<String, EntityDetail>   foundEntities,
+                      Map<String, Relationship>   foundRelationships)
+        {
+            Deque<String>  queue = new ArrayDeque<>();
+
+            if (pathEntityGUIDs.add(entityGUID))
+            {
+                queue.add(entityGUID);
+            }
+
+            while (! queue.isEmpty())
+            {
+                String  pathEntityGUID = queue.remove();
+
+                foundEntities.put(pathEntityGUID, traversableEntities.get(pathEntityGUID));
+
+                for (Relationship  relationship : parents.getOrDefault(pathEntityGUID, Collections.emptyList()))
+                {
+                    String  parentEntityGUID = getLinkedEntityGUID(relationship, pathEntityGUID);
+
+                    foundRelationships.put(relationship.getGUID(), relationship);
+
+                    if (pathEntityGUIDs.add(parentEntityGUID))
+                    {
+                        queue.add(parentEntityGUID);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * InMemoryOMRSInstanceHistory holds the superseded versions of a single metadata instance (entity or relationship).
+ * The versions are ordered by the time they became effective (update time, or create time if the instance has
+ * never been updated) and then by version number, so the version that was current at a particular time can be
+ * located with a single floor lookup rather than a scan of every old version in the repository.
+ * The versions are held in a concurrent map so lookups may run alongside updates to the history.
+ * <p>
+ *     Undo walks back through the versions that were replaced by updates.  The version that undo restores stays
+ *     in the history, and the version that undo replaces is added to the history without becoming a version
+ *     that a later undo can restore.  This means historical queries still return the versions from before the
+ *     undo, while repeated undos keep going back in time.
+ * </p>
+ *
+ * @param <T> - type of the instance (EntityDetail or Relationship)
+ */
+class InMemoryOMRSInstanceHistory<T extends InstanceAuditHeader>
+{
+    private NavigableMap<VersionKey, T>  versions           = new ConcurrentSkipListMap<>();
+    private NavigableMap<VersionKey, T>  restorableVersions = new ConcurrentSkipListMap<>();
+
+
+    /**
+     * Add a superseded version of the instance to the history.  Undo can restore this version.
+     *
+     * @param instance - old version of the instance
+     */
+    void addVersion(T   instance)
+    {
+        VersionKey  key = new VersionKey(getEffectiveTime(instance), instance.getVersion());
+
+        versions.put(key, instance);
+        restorableVersions.put(key, instance);
+    }
+
+
+    /**
+     * Add the version of the instance that was replaced by an undo to the history.  It is only used for
+     * historical queries, so undo can not restore it.
+     *
+     * @param instance - version of the instance that was undone
+     */
+    void addUndoneVersion(T   instance)
+    {
+        versions.put(new VersionKey(getEffectiveTime(instance), instance.getVersion()), instance);
+    }
+
+
+    /**
+     * Return the version of the instance that was effective at the requested time.
+     *
+     * @param asOfTime - time of interest
+     * @return instance or null if the instance had not been created by this time
+     */
+    T getVersionAsOf(Date   asOfTime)
+    {
+        Map.Entry<VersionKey, T>  entry = versions.floorEntry(new VersionKey(asOfTime.getTime(), Long.MAX_VALUE));
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.getValue();
+    }
+
+
+    /**
+     * Return the most recent version that undo can restore.  The version stays in the history for
+     * historical queries, but a later undo does not restore it again.
+     *
+     * @return instance or null if there is no version to restore
+     */
+    T removeVersionToRestore()
+    {
+        Map.Entry<VersionKey, T>  entry = restorableVersions.pollLastEntry();
+
+        if (entry == null)
+        {
+            return null;
+        }
+
+        return entry.getValue();
+    }
+
+
+    /**
+     * Return the time that this version of the instance became effective.  Instances with no timestamps
+     * are treated as if they were created at the start of time.
+     *
+     * @param instance - version of an instance
+     * @return time in milliseconds
+     */
+    static long getEffectiveTime(InstanceAuditHeader   instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return Long.MIN_VALUE;
+    }
+
+
+    /**
+     * Return whether the version of the instance was effective at the requested time.
+     *
+     * @param instance - version of an instance
+     * @param asOfTime - time of interest
+     * @return boolean
+     */
+    static boolean isEffectiveAt(InstanceAuditHeader   instance,
+                                 Date                  asOfTime)
+    {
+        return getEffectiveTime(instance) <= asOfTime.getTime();
+    }
+
+
+    /**
+     * VersionKey orders the versions by effective time and then by version number so that several
+     * versions saved in the same millisecond are kept apart.
+     */
+    private static class VersionKey implements Comparable<VersionKey>
+    {
+        private long  effectiveTime;
+        private long  version;
+
+
+        VersionKey(long  effectiveTime,
+                   long  version)
+        {
+            this.effectiveTime = effectiveTime;
+            this.version = version;
+        }
+
+
+        @Override
+        public int compareTo(VersionKey   other)
+        {
+            int  result = Long.compare(effectiveTime, other.effectiveTime);
+
+            if (result == 0)
+            {
+                result = Long.compare(version, other.version);
+            }
+
+            return result;
+        }
+
+
+        @Override
+        public boolean equals(Object   other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (! (other instanceof VersionKey))
+            {
+                return false;
+            }
+
+            VersionKey  that = (VersionKey) other;
+
+            return (effectiveTime == that.effectiveTime) && (version == that.version);
+        }
+
+
+        @Override
+        public int hashCode()
+        {
+            return Long.hashCode(effectiveTime) * 31 + Long.hashCode(version);
+        }
+    }
+}
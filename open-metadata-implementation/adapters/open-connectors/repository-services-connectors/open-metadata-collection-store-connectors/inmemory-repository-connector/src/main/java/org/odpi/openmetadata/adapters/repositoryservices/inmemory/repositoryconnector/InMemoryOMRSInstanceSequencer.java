@@ -0,0 +1,323 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * InMemoryOMRSInstanceSequencer orders the results of a query and extracts the requested page.
+ * <p>
+ * Every ordering ends with the instance's GUID so that the order is total: the same instances always sort the
+ * same way however the store happened to return them, and consecutive pages neither repeat nor skip instances.
+ * Instances without a value for the sequencing property (or creation/update time) sort last in both directions.
+ * </p>
+ * <p>
+ * Only the first fromElement + pageSize instances of the order are needed for a page, so these are selected with
+ * a bounded heap, in O(n log(fromElement + pageSize)) time, rather than by sorting every result.  A request with
+ * no page size, or a page that reaches the end of the results, sorts the results.  Results with SequencingOrder.ANY
+ * (and no sequencing property) are ordered by GUID alone, since the order the store supplies them in can change
+ * between requests.
+ * </p>
+ *
+ * @param <T> - type of the instance (EntityDetail or Relationship)
+ */
+class InMemoryOMRSInstanceSequencer<T extends InstanceHeader>
+{
+    private Comparator<T>  comparator;
+
+
+    /**
+     * Constructor builds the ordering of the results.  SequencingOrder.ANY, and a property order without a
+     * sequencing property, sort by GUID.
+     *
+     * @param sequencingProperty - name of the property to order by (used by the property orders)
+     * @param sequencingOrder - order of the results (null means SequencingOrder.ANY, or ascending property
+     *                        order if a sequencing property is supplied)
+     * @param propertiesGetter - function that returns the properties of an instance
+     */
+    InMemoryOMRSInstanceSequencer(String                            sequencingProperty,
+                                  SequencingOrder                   sequencingOrder,
+                                  Function<T, InstanceProperties>   propertiesGetter)
+    {
+        SequencingOrder  order = sequencingOrder;
+
+        if (order == null)
+        {
+            order = (sequencingProperty == null) ? SequencingOrder.ANY : SequencingOrder.PROPERTY_ASCENDING;
+        }
+
+        Comparator<T>  guidComparator = Comparator.comparing(InstanceHeader::getGUID,
+                                                             Comparator.nullsLast(Comparator.naturalOrder()));
+        Comparator<T>  ordering       = null;
+
+        switch (order)
+        {
+            case CREATION_DATE_RECENT:
+                ordering = Comparator.comparing(InstanceHeader::getCreateTime,
+                                                Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+                break;
+
+            case CREATION_DATE_OLDEST:
+                ordering = Comparator.comparing(InstanceHeader::getCreateTime,
+                                                Comparator.nullsLast(Comparator.<Date>naturalOrder()));
+                break;
+
+            case LAST_UPDATE_RECENT:
+                ordering = Comparator.comparing(InMemoryOMRSInstanceSequencer::getLastUpdateTime,
+                                                Comparator.nullsLast(Comparator.<Date>reverseOrder()));
+                break;
+
+            case LAST_UPDATE_OLDEST:
+                ordering = Comparator.comparing(InMemoryOMRSInstanceSequencer::getLastUpdateTime,
+                                                Comparator.nullsLast(Comparator.<Date>naturalOrder()));
+                break;
+
+            case PROPERTY_ASCENDING:
+            case PROPERTY_DESCENDING:
+                if (sequencingProperty != null)
+                {
+                    Comparator<Object>  valueComparator = InMemoryOMRSInstanceSequencer::compareSortKeys;
+
+                    if (order == SequencingOrder.PROPERTY_DESCENDING)
+                    {
+                        valueComparator = valueComparator.reversed();
+                    }
+
+                    ordering = Comparator.comparing(instance -> getSortKey(propertiesGetter.apply(instance),
+                                                                           sequencingProperty),
+                                                    Comparator.nullsLast(valueComparator));
+                }
+                break;
+
+            default:
+                break;
+        }
+
+        if (ordering == null)
+        {
+            comparator = guidComparator;
+        }
+        else
+        {
+            comparator = ordering.thenComparing(guidComparator);
+        }
+    }
+
+
+    /**
+     * Return the requested page of the ordered results.
+     *
+     * @param fullResults - all of the results in an arbitrary order
+     * @param fromElement - position of the first result to return (zero is the first)
+     * @param pageSize - maximum number of results to return (zero means no limit)
+     * @return page of results (empty if fromElement is beyond the end of the results)
+     */
+    List<T> getPage(List<T>   fullResults,
+                    int       fromElement,
+                    int       pageSize)
+    {
+        int  resultCount = fullResults.size();
+
+        if (fromElement >= resultCount)
+        {
+            return new ArrayList<>();
+        }
+
+        int  endElement = resultCount;
+
+        if ((pageSize > 0) && ((long)fromElement + pageSize < resultCount))
+        {
+            endElement = fromElement + pageSize;
+        }
+
+        List<T>  sortedResults;
+
+        if (endElement == resultCount)
+        {
+            sortedResults = new ArrayList<>(fullResults);
+        }
+        else
+        {
+            sortedResults = this.getFirst(fullResults, endElement);
+        }
+
+        sortedResults.sort(comparator);
+
+        return new ArrayList<>(sortedResults.subList(fromElement, endElement));
+    }
+
+
+    /**
+     * Return the first count results in the order (unsorted), keeping them in a heap with the last of the
+     * selected results at the top.
+     *
+     * @param fullResults - all of the results
+     * @param count - number of results to select
+     * @return selected results
+     */
+    private List<T> getFirst(List<T>   fullResults,
+                             int       count)
+    {
+        PriorityQueue<T>  heap = new PriorityQueue<>(count + 1, comparator.reversed());
+
+        for (T  instance : fullResults)
+        {
+            if (heap.size() < count)
+            {
+                heap.add(instance);
+            }
+            else if (comparator.compare(instance, heap.peek()) < 0)
+            {
+                heap.poll();
+                heap.add(instance);
+            }
+        }
+
+        return new ArrayList<>(heap);
+    }
+
+
+    /**
+     * Return the time the instance was last changed.
+     *
+     * @param instance - instance
+     * @return update time or create time if the instance has never been updated
+     */
+    private static Date getLastUpdateTime(InstanceHeader   instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime();
+        }
+
+        return instance.getCreateTime();
+    }
+
+
+    /**
+     * Return the value of the property that is compared when ordering the instances.  Primitive values are
+     * returned as they are and enums by their ordinal.
+     *
+     * @param properties - properties of the instance (may be null)
+     * @param propertyName - name of the sequencing property
+     * @return sort key or null if the instance has no primitive or enum value for the property
+     */
+    private static Object getSortKey(InstanceProperties   properties,
+                                     String               propertyName)
+    {
+        if (properties == null)
+        {
+            return null;
+        }
+
+        InstancePropertyValue  propertyValue = properties.getPropertyValue(propertyName);
+
+        if (propertyValue instanceof PrimitivePropertyValue)
+        {
+            return ((PrimitivePropertyValue)propertyValue).getPrimitiveValue();
+        }
+
+        if (propertyValue instanceof EnumPropertyValue)
+        {
+            return ((EnumPropertyValue)propertyValue).getOrdinal();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the rank of the kind of a property value.  Values of different kinds are ordered by this rank
+     * since comparing them by value would not give a consistent order.
+     *
+     * @param key - property value
+     * @return rank: numbers, then strings, dates, booleans and anything else
+     */
+    private static int getSortKeyKind(Object   key)
+    {
+        if (key instanceof Number)
+        {
+            return 0;
+        }
+
+        if ((key instanceof String) || (key instanceof Character))
+        {
+            return 1;
+        }
+
+        if (key instanceof Date)
+        {
+            return 2;
+        }
+
+        if (key instanceof Boolean)
+        {
+            return 3;
+        }
+
+        return 4;
+    }
+
+
+    /**
+     * Compare two property values.  Values of different kinds (see getSortKeyKind) are ordered by kind.  Numbers
+     * are compared by value whatever their class (as doubles if either is a floating point number), strings and
+     * characters by their string values, and other values of the same comparable class by their natural order.
+     * Any other values are ordered by class name and then string value.
+     *
+     * @param key1 - first value
+     * @param key2 - second value
+     * @return negative, zero or positive as key1 is less than, equal to or greater than key2
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareSortKeys(Object   key1,
+                                       Object   key2)
+    {
+        int  kindOrder = Integer.compare(getSortKeyKind(key1), getSortKeyKind(key2));
+
+        if (kindOrder != 0)
+        {
+            return kindOrder;
+        }
+
+        if ((key1 instanceof Number) && (key1.getClass() != key2.getClass()))
+        {
+            if ((key1 instanceof Double) || (key1 instanceof Float) || (key2 instanceof Double) || (key2 instanceof Float))
+            {
+                return Double.compare(((Number)key1).doubleValue(), ((Number)key2).doubleValue());
+            }
+
+            return new BigDecimal(key1.toString()).compareTo(new BigDecimal(key2.toString()));
+        }
+
+        if ((key1 instanceof Comparable) && (key1.getClass() == key2.getClass()))
+        {
+            return ((Comparable<Object>)key1).compareTo(key2);
+        }
+
+        if (key1 instanceof Date)
+        {
+            return ((Date)key1).compareTo((Date)key2);
+        }
+
+        if (getSortKeyKind(key1) == 4)
+        {
+            int  classOrder = key1.getClass().getName().compareTo(key2.getClass().getName());
+
+            if (classOrder != 0)
+            {
+                return classOrder;
+            }
+        }
+
+        return key1.toString().compareTo(key2.toString());
+    }
+}
@@ -6,12 +6,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSSearchCriteriaMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * The InMemoryOMRSMetadataCollection represents a metadata repository that supports an in-memory repository.
@@ -19,7 +22,13 @@ import java.util.*;
  */
 public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 {
-    private InMemoryOMRSMetadataStore         repositoryStore = new InMemoryOMRSMetadataStore();
+    /*
+     * Maximum number of entities visited by a single graph query (getLinkingEntities, getEntityNeighborhood and
+     * getRelatedEntities).
+     */
+    private static final int  maxTraversalEntities = 100000;
+
+    private InMemoryOMRSMetadataStore         repositoryStore;
 
 
     /**
@@ -37,6 +46,34 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                    OMRSRepositoryHelper            repositoryHelper,
                                    OMRSRepositoryValidator         repositoryValidator,
                                    String                          metadataCollectionId)
+    {
+        this(parentConnector,
+             repositoryName,
+             repositoryHelper,
+             repositoryValidator,
+             metadataCollectionId,
+             new InMemoryOMRSMetadataStore());
+    }
+
+
+    /**
+     * Constructor used by repositories that reuse the logic of this metadata collection with a different
+     * implementation of the repository store (for example, one that persists the instances).
+     *
+     * @param parentConnector - connector that this metadata collection supports.  The connector has the information
+     *                        to call the metadata repository.
+     * @param repositoryName - name of the repository - used for logging.
+     * @param repositoryHelper - class used to build type definitions and instances.
+     * @param repositoryValidator - class used to validate type definitions and instances.
+     * @param metadataCollectionId - unique Identifier of the metadata collection Id.
+     * @param repositoryStore - store for the types and instances.
+     */
+    protected InMemoryOMRSMetadataCollection(OMRSRepositoryConnector         parentConnector,
+                                             String                          repositoryName,
+                                             OMRSRepositoryHelper            repositoryHelper,
+                                             OMRSRepositoryValidator         repositoryValidator,
+                                             String                          metadataCollectionId,
+                                             InMemoryOMRSMetadataStore       repositoryStore)
     {
         /*
          * The metadata collection Id is the unique identifier for the metadata collection.  It is managed by the super class.
@@ -46,6 +83,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Set up the repository name in the repository store
          */
+        this.repositoryStore = repositoryStore;
         this.repositoryStore.setRepositoryName(repositoryName);
     }
 
@@ -420,7 +458,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         parentConnector.validateRepositoryIsActive(methodName);
 
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
-        repositoryValidator.validateSearchCriteria(repositoryName, searchCriteriaParameterName, searchCriteria, methodName);
+
+        OMRSSearchCriteriaMatcher  searchCriteriaMatcher = repositoryValidator.getSearchCriteriaMatcher(repositoryName,
+                                                                                                        searchCriteriaParameterName,
+                                                                                                        searchCriteria,
+                                                                                                        methodName);
 
         /*
          * Perform operation
@@ -431,7 +473,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         {
             if (typeDef != null)
             {
-                if (typeDef.getName().matches(searchCriteria))
+                if (searchCriteriaMatcher.matches(typeDef.getName()))
                 {
                     matchedTypeDefs.add(typeDef);
                 }
@@ -1553,7 +1595,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.getEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -1582,6 +1624,70 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of each of the requested entities.  The entities are returned in the order
+     * of the requested GUIDs.  GUIDs for entities that are not known, deleted or only stored as proxies
+     * are skipped.  The entities are read straight from the store rather than through getEntityDetail
+     * so the parameters are only validated once.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param guids - list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUID(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName         = "getEntitiesByGUID";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        for (String guid : guids)
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+        }
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail>  entities = new ArrayList<>(guids.size());
+
+        for (String guid : guids)
+        {
+            EntityDetail  entity = repositoryStore.getEntity(guid);
+
+            if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+            {
+                entities.add(entity);
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1656,9 +1762,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
         List<Relationship> entityRelationships = new ArrayList<>();
 
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  storedRelationship : relationshipStore.values())
+        for (Relationship  storedRelationship : repositoryStore.getRelationshipsForEntity(entityGUID, asOfTime))
         {
             if (storedRelationship != null)
             {
@@ -1773,18 +1877,23 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The repository store uses its indexes to narrow down the entities to check.
          */
-        List<EntityDetail>             foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>  foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : entityStore.values())
+        Set<String>  entityTypeGUIDs = this.getTypeAndSubTypeGUIDs(entityTypeGUID);
+
+        for (EntityDetail  entity : repositoryStore.getEntityCandidatesForTypes(entityTypeGUIDs,
+                                                                                limitResultsByStatus,
+                                                                                limitResultsByClassification,
+                                                                                matchProperties,
+                                                                                matchCriteria,
+                                                                                asOfTime))
         {
             if (entity != null)
             {
                 if ((entity.getStatus() != InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(entityTypeGUID, entity)) &&
+                    (repositoryValidator.verifyInstanceTypeOrSubType(entityTypeGUID, entity)) &&
                     (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
                     (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity)) &&
                     (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
@@ -1910,21 +2019,26 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The repository store uses its indexes to narrow down the entities to check.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-        List<EntityDetail>              foundEntities = new ArrayList<>();
+        List<String>        classificationList = new ArrayList<>();
+        List<EntityDetail>  foundEntities      = new ArrayList<>();
+
+        classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        Set<String>  entityTypeGUIDs = this.getTypeAndSubTypeGUIDs(entityTypeGUID);
+
+        for (EntityDetail  entity : repositoryStore.getEntityCandidatesForTypes(entityTypeGUIDs,
+                                                                                limitResultsByStatus,
+                                                                                classificationList,
+                                                                                null,
+                                                                                null,
+                                                                                asOfTime))
         {
             if (entity != null)
             {
-                List<String>     classificationList = new ArrayList<>();
-                classificationList.add(classificationName);
-
                 if ((entity.getStatusOnDelete() != InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(entityTypeGUID, entity)) &&
+                    (repositoryValidator.verifyInstanceTypeOrSubType(entityTypeGUID, entity)) &&
                     (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
                     (repositoryValidator.verifyEntityIsClassified(classificationList, entity)))
                 {
@@ -2025,29 +2139,35 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         parentConnector.validateRepositoryIsActive(methodName);
 
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
-        repositoryValidator.validateSearchCriteria(repositoryName, searchCriteriaParameterName, searchCriteria, methodName);
         repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
         repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
 
         this.validateTypeGUID(repositoryName, typeGUIDParameter, entityTypeGUID, methodName);
 
+        OMRSSearchCriteriaMatcher  searchCriteriaMatcher = repositoryValidator.getSearchCriteriaMatcher(repositoryName,
+                                                                                                        searchCriteriaParameterName,
+                                                                                                        searchCriteria,
+                                                                                                        methodName);
+
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The store narrows the candidates using its property value index (if enabled) or its type index.
+         * Each candidate is then verified against the search criteria.
          */
         List<EntityDetail>   foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        Set<String>  entityTypeGUIDs = this.getTypeAndSubTypeGUIDs(entityTypeGUID);
+
+        for (EntityDetail  entity : repositoryStore.getEntityCandidatesForSearch(entityTypeGUIDs, searchCriteriaMatcher, asOfTime))
         {
             if (entity != null)
             {
-                if ((entity.getStatus() == InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(entityTypeGUID, entity)) &&
+                if ((entity.getStatus() != InstanceStatus.DELETED) &&
+                    (repositoryValidator.verifyInstanceTypeOrSubType(entityTypeGUID, entity)) &&
                     (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
                                                                                     entity.getProperties(),
-                                                                                    searchCriteria,
+                                                                                    searchCriteriaMatcher,
                                                                                     methodName)))
                 {
                     foundEntities.add(entity);
@@ -2175,7 +2295,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.getRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -2184,6 +2304,70 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of each of the requested relationships.  The relationships are returned in
+     * the order of the requested GUIDs.  GUIDs for relationships that are not known or deleted are skipped.
+     * The relationships are read straight from the store rather than through getRelationship so the
+     * parameters are only validated once.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param guids - list of unique identifiers for the relationships.
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUID(String       userId,
+                                                     List<String> guids) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException
+    {
+        final String  methodName         = "getRelationshipsByGUID";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        for (String guid : guids)
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+        }
+
+        /*
+         * Process operation
+         */
+        List<Relationship>  relationships = new ArrayList<>(guids.size());
+
+        for (String guid : guids)
+        {
+            Relationship  relationship = repositoryStore.getRelationship(guid);
+
+            if ((relationship != null) && (relationship.getStatus() != InstanceStatus.DELETED))
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -2259,18 +2443,22 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The repository store uses its indexes to narrow down the relationships to check.
          */
-        List<Relationship>             foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        List<Relationship>  foundRelationships = new ArrayList<>();
+
+        Set<String>  relationshipTypeGUIDs = this.getTypeAndSubTypeGUIDs(relationshipTypeGUID);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : repositoryStore.getRelationshipCandidatesForTypes(relationshipTypeGUIDs,
+                                                                                           limitResultsByStatus,
+                                                                                           matchProperties,
+                                                                                           matchCriteria,
+                                                                                           asOfTime))
         {
             if (relationship != null)
             {
-                if ((relationship.getStatus() == InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(relationshipTypeGUID, relationship)) &&
+                if ((relationship.getStatus() != InstanceStatus.DELETED) &&
+                    (repositoryValidator.verifyInstanceTypeOrSubType(relationshipTypeGUID, relationship)) &&
                     (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
                     (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
                                                                               relationship.getMetadataCollectionId(),
@@ -2338,6 +2526,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                                                                            UserNotAuthorizedException
     {
         final String  methodName = "findRelationshipsByPropertyValue";
+        final String  searchCriteriaParameterName = "searchCriteria";
         final String  asOfTimeParameter = "asOfTime";
         final String  pageSizeParameter = "pageSize";
         final String  typeGUIDParameter = "relationshipTypeGUID";
@@ -2354,23 +2543,32 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
         this.validateTypeGUID(repositoryName, typeGUIDParameter, relationshipTypeGUID, methodName);
 
+        OMRSSearchCriteriaMatcher  searchCriteriaMatcher = repositoryValidator.getSearchCriteriaMatcher(repositoryName,
+                                                                                                        searchCriteriaParameterName,
+                                                                                                        searchCriteria,
+                                                                                                        methodName);
+
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The store narrows the candidates using its property value index (if enabled) or its type index.
+         * Each candidate is then verified against the search criteria.
          */
         List<Relationship>  foundRelationships = new ArrayList<>();
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        Set<String>  relationshipTypeGUIDs = this.getTypeAndSubTypeGUIDs(relationshipTypeGUID);
+
+        for (Relationship  relationship : repositoryStore.getRelationshipCandidatesForSearch(relationshipTypeGUIDs,
+                                                                                             searchCriteriaMatcher,
+                                                                                             asOfTime))
         {
             if (relationship != null)
             {
-                if ((relationship.getStatus() == InstanceStatus.DELETED) &&
-                    (repositoryValidator.verifyInstanceType(relationshipTypeGUID, relationship)) &&
+                if ((relationship.getStatus() != InstanceStatus.DELETED) &&
+                    (repositoryValidator.verifyInstanceTypeOrSubType(relationshipTypeGUID, relationship)) &&
                     (repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(repositoryName,
                                                                                      relationship.getProperties(),
-                                                                                     searchCriteria,
+                                                                                     searchCriteriaMatcher,
                                                                                      methodName)))
                 {
                     foundRelationships.add(relationship);
@@ -2434,18 +2632,27 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
         /*
          * Perform operation
+         *
+         * A breadth-first search runs out from both entities until the two searches meet.  The entities and
+         * relationships on the shortest paths between them are returned.
          */
-        // todo
-        OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
+        EntityDetail  startEntity = this.getEntityForTraversal(startEntityGUID, asOfTime, methodName);
+        EntityDetail  endEntity   = this.getEntityForTraversal(endEntityGUID, asOfTime, methodName);
 
-        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName, this.getClass().getName(), repositoryName);
+        Predicate<InstanceHeader>  statusFilter = instance -> repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus,
+                                                                                                                instance);
 
-        throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
-                                           this.getClass().getName(),
-                                           methodName,
-                                           errorMessage,
-                                           errorCode.getSystemAction(),
-                                           errorCode.getUserAction());
+        InMemoryOMRSInstanceGraphTraversal traversal = new InMemoryOMRSInstanceGraphTraversal(repositoryStore,
+                                                                                              asOfTime,
+                                                                                              statusFilter::test,
+                                                                                              statusFilter::test,
+                                                                                              maxTraversalEntities);
+
+        InstanceGraph  linkingGraph = traversal.getLinkingGraph(startEntity, endEntity);
+
+        this.validateTraversalComplete(traversal, startEntityGUID, methodName);
+
+        return linkingGraph;
     }
 
 
@@ -2537,18 +2744,35 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
         /*
          * Perform operation
+         *
+         * A breadth-first search runs out from the entity for the requested number of levels.  Relationships and
+         * entities that do not match the types, status and classifications are not followed.
          */
-        // todo
-        OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
+        EntityDetail  startEntity = this.getEntityForTraversal(entityGUID, asOfTime, methodName);
 
-        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName, this.getClass().getName(), repositoryName);
+        Set<String>  entityTypes       = this.getTypeAndSubTypeGUIDs(entityTypeGUIDs);
+        Set<String>  relationshipTypes = this.getTypeAndSubTypeGUIDs(relationshipTypeGUIDs);
 
-        throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
-                                           this.getClass().getName(),
-                                           methodName,
-                                           errorMessage,
-                                           errorCode.getSystemAction(),
-                                           errorCode.getUserAction());
+        Predicate<Relationship>  relationshipFilter = relationship ->
+                (this.isInstanceOfTypes(relationshipTypes, relationship)) &&
+                (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship));
+
+        Predicate<EntityDetail>  entityFilter = entity ->
+                (this.isInstanceOfTypes(entityTypes, entity)) &&
+                (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
+                (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity));
+
+        InMemoryOMRSInstanceGraphTraversal traversal = new InMemoryOMRSInstanceGraphTraversal(repositoryStore,
+                                                                                              asOfTime,
+                                                                                              relationshipFilter,
+                                                                                              entityFilter,
+                                                                                              maxTraversalEntities);
+
+        InstanceGraph  neighborhood = traversal.getNeighborhood(startEntity, level);
+
+        this.validateTraversalComplete(traversal, entityGUID, methodName);
+
+        return neighborhood;
     }
 
 
@@ -2628,22 +2852,32 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
         /*
          * Perform operation
+         *
+         * A breadth-first search runs out from the entity through entities of any type.  Every related entity is
+         * found since even results with no sequencing order are returned in GUID order.
          */
-        List<EntityDetail>   relatedEntities = new ArrayList<>();
+        EntityDetail  startEntity = this.getEntityForTraversal(startEntityGUID, asOfTime, methodName);
 
-        OMRSErrorCode errorCode = OMRSErrorCode.METHOD_NOT_IMPLEMENTED;
+        Set<String>  entityTypes = this.getTypeAndSubTypeGUIDs(entityTypeGUIDs);
 
-        String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName, this.getClass().getName(), repositoryName);
+        Predicate<InstanceHeader>  statusFilter = instance -> repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus,
+                                                                                                                instance);
 
-        throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
-                                           this.getClass().getName(),
-                                           methodName,
-                                           errorMessage,
-                                           errorCode.getSystemAction(),
-                                           errorCode.getUserAction());
+        InMemoryOMRSInstanceGraphTraversal traversal = new InMemoryOMRSInstanceGraphTraversal(repositoryStore,
+                                                                                              asOfTime,
+                                                                                              statusFilter::test,
+                                                                                              statusFilter::test,
+                                                                                              maxTraversalEntities);
+
+        Predicate<EntityDetail>  resultFilter = entity ->
+                (this.isInstanceOfTypes(entityTypes, entity)) &&
+                (repositoryValidator.verifyEntityIsClassified(limitResultsByClassification, entity));
 
+        List<EntityDetail>   relatedEntities = traversal.getRelatedEntities(startEntity, resultFilter);
 
-        // return formatEntityResults(relatedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        this.validateTraversalComplete(traversal, startEntityGUID, methodName);
+
+        return formatEntityResults(relatedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
     }
 
 
@@ -2726,7 +2960,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
          * Validation complete - ok to create new instance
          */
         EntityDetail   newEntity = repositoryHelper.getNewEntity(repositoryName,
-                                                                 null,
+                                                                 metadataCollectionId,
                                                                  InstanceProvenanceType.LOCAL_COHORT,
                                                                  userId,
                                                                  typeDef.getName(),
@@ -2834,41 +3068,49 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, entityGUID, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        repositoryValidator.validateInstanceType(repositoryName, entity);
+            repositoryValidator.validateInstanceType(repositoryName, entity);
 
-        String entityTypeGUID = entity.getType().getTypeDefGUID();
+            String entityTypeGUID = entity.getType().getTypeDefGUID();
 
-        TypeDef  typeDef = repositoryStore.getTypeDef(entityTypeGUID);
+            TypeDef  typeDef = repositoryStore.getTypeDef(entityTypeGUID);
 
-        repositoryValidator.validateNewStatus(repositoryName, statusParameterName, newStatus, typeDef, methodName);
+            repositoryValidator.validateNewStatus(repositoryName, statusParameterName, newStatus, typeDef, methodName);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        EntityDetail   updatedEntity = new EntityDetail(entity);
+            /*
+             * Validation complete - ok to make changes
+             */
+            EntityDetail   updatedEntity = new EntityDetail(entity);
 
-        updatedEntity.setStatus(newStatus);
+            updatedEntity.setStatus(newStatus);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -2908,45 +3150,53 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, entityGUID, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        repositoryValidator.validateInstanceType(repositoryName, entity);
+            repositoryValidator.validateInstanceType(repositoryName, entity);
 
-        String entityTypeGUID = entity.getType().getTypeDefGUID();
+            String entityTypeGUID = entity.getType().getTypeDefGUID();
 
-        TypeDef  typeDef = repositoryStore.getTypeDef(entityTypeGUID);
+            TypeDef  typeDef = repositoryStore.getTypeDef(entityTypeGUID);
 
-        repositoryValidator.validateNewPropertiesForType(repositoryName,
-                                                         propertiesParameterName,
-                                                         typeDef,
-                                                         properties,
-                                                         methodName);
+            repositoryValidator.validateNewPropertiesForType(repositoryName,
+                                                             propertiesParameterName,
+                                                             typeDef,
+                                                             properties,
+                                                             methodName);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        EntityDetail   updatedEntity = new EntityDetail(entity);
+            /*
+             * Validation complete - ok to make changes
+             */
+            EntityDetail   updatedEntity = new EntityDetail(entity);
 
-        updatedEntity.setProperties(properties);
+            updatedEntity.setProperties(properties);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -2980,22 +3230,30 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, entityGUID, methodName);
 
-        /*
-         * Validation complete - ok to restore entity
-         */
-        EntityDetail restoredEntity = repositoryStore.retrievePreviousVersionOfEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Validation complete - ok to restore entity
+             */
+            EntityDetail restoredEntity = repositoryStore.retrievePreviousVersionOfEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, restoredEntity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, restoredEntity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, restoredEntity, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, restoredEntity, methodName);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, restoredEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, restoredEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return restoredEntity;
+            return restoredEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -3045,80 +3303,114 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, obsoleteEntityGUID, methodName);
 
         /*
-         * Locate Entity
+         * Validate the entity and locate its relationships.  The entity's lock is released before the
+         * relationships are deleted because each delete takes the lock of the relationship and an operation
+         * may only hold one instance lock at a time.
          */
-        EntityDetail  entity  = repositoryStore.getEntity(obsoleteEntityGUID);
+        List<Relationship> relationships = null;
+
+        repositoryStore.lockInstance(obsoleteEntityGUID);
+        try
+        {
+            EntityDetail  entity  = repositoryStore.getEntity(obsoleteEntityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, obsoleteEntityGUID, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, obsoleteEntityGUID, entity, methodName);
 
-        repositoryValidator.validateTypeForInstanceDelete(repositoryName,
-                                                          typeDefGUID,
-                                                          typeDefName,
-                                                          entity,
-                                                          methodName);
+            repositoryValidator.validateTypeForInstanceDelete(repositoryName,
+                                                              typeDefGUID,
+                                                              typeDefName,
+                                                              entity,
+                                                              methodName);
+
+            repositoryValidator.validateInstanceStatusForDelete(repositoryName, entity, methodName);
 
-        repositoryValidator.validateInstanceStatusForDelete(repositoryName, entity, methodName);
+            try
+            {
+                relationships = this.getRelationshipsForEntity(userId,
+                                                               obsoleteEntityGUID,
+                                                               null,
+                                                               0,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               10000);
+            }
+            catch (Throwable  error)
+            {
+                // nothing to do - keep going
+            }
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(obsoleteEntityGUID);
+        }
 
         /*
-         * Locate/delete relationships for entity
+         * Delete the relationships for the entity.  A relationship that has been deleted in the meantime
+         * (for example by a delete of the entity at the other end) is skipped.
          */
-        try
+        if (relationships != null)
         {
-            List<Relationship> relationships = this.getRelationshipsForEntity(userId,
-                                                                              obsoleteEntityGUID,
-                                                                              null,
-                                                                              0,
-                                                                              null,
-                                                                              null,
-                                                                              null,
-                                                                              null,
-                                                                              10000);
-
-
-            if (relationships != null)
+            for (Relationship relationship : relationships)
             {
-                for (Relationship relationship : relationships)
+                if (relationship != null)
                 {
-                    if (relationship != null)
+                    InstanceType type = relationship.getType();
+                    if (type != null)
                     {
-                        InstanceType type = relationship.getType();
-                        if (type != null)
+                        try
                         {
                             this.deleteRelationship(userId,
                                                     type.getTypeDefGUID(),
                                                     type.getTypeDefName(),
                                                     relationship.getGUID());
                         }
+                        catch (Throwable  error)
+                        {
+                            // nothing to do - keep going
+                        }
                     }
                 }
             }
         }
-        catch (Throwable  error)
+
+        repositoryStore.lockInstance(obsoleteEntityGUID);
+        try
         {
-            // nothing to do - keep going
-        }
+            /*
+             * The entity is read again since it may have changed while it was unlocked.
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(obsoleteEntityGUID);
 
+            repositoryValidator.validateEntityFromStore(repositoryName, obsoleteEntityGUID, entity, methodName);
+            repositoryValidator.validateInstanceStatusForDelete(repositoryName, entity, methodName);
 
-        /*
-         * A delete is a soft-delete that updates the status to DELETED.
-         */
-        EntityDetail   updatedEntity = new EntityDetail(entity);
+            /*
+             * A delete is a soft-delete that updates the status to DELETED.
+             */
+            EntityDetail   updatedEntity = new EntityDetail(entity);
 
-        updatedEntity.setStatusOnDelete(entity.getStatus());
-        updatedEntity.setStatus(InstanceStatus.DELETED);
+            updatedEntity.setStatusOnDelete(entity.getStatus());
+            updatedEntity.setStatus(InstanceStatus.DELETED);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(obsoleteEntityGUID);
+        }
     }
 
 
@@ -3165,63 +3457,71 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                methodName);
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, deletedEntityGUID, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(deletedEntityGUID);
+        repositoryStore.lockInstance(deletedEntityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(deletedEntityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, deletedEntityGUID, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, deletedEntityGUID, entity, methodName);
 
-        repositoryValidator.validateTypeForInstanceDelete(repositoryName,
-                                                          typeDefGUID,
-                                                          typeDefName,
-                                                          entity,
-                                                          methodName);
+            repositoryValidator.validateTypeForInstanceDelete(repositoryName,
+                                                              typeDefGUID,
+                                                              typeDefName,
+                                                              entity,
+                                                              methodName);
 
-        repositoryValidator.validateEntityIsDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityIsDeleted(repositoryName, entity, methodName);
 
 
-        /*
-         * Locate/purge relationships for entity
-         */
-        try
-        {
-            List<Relationship> relationships = this.getRelationshipsForEntity(userId,
-                                                                              deletedEntityGUID,
-                                                                              null,
-                                                                              0,
-                                                                              null,
-                                                                              null,
-                                                                              null,
-                                                                              null,
-                                                                              10000);
-
-
-            if (relationships != null)
+            /*
+             * Locate/purge relationships for entity
+             */
+            try
             {
-                for (Relationship relationship : relationships)
+                List<Relationship> relationships = this.getRelationshipsForEntity(userId,
+                                                                                  deletedEntityGUID,
+                                                                                  null,
+                                                                                  0,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  10000);
+
+
+                if (relationships != null)
                 {
-                    if (relationship != null)
+                    for (Relationship relationship : relationships)
                     {
-                        repositoryStore.removeRelationshipFromStore(relationship);
+                        if (relationship != null)
+                        {
+                            repositoryStore.removeRelationshipFromStore(relationship);
+                        }
                     }
                 }
             }
-        }
-        catch (Throwable  error)
-        {
-            // nothing to do - keep going
-        }
+            catch (Throwable  error)
+            {
+                // nothing to do - keep going
+            }
 
-        /*
-         * Validation is complete - ok to remove the entity
-         */
-        repositoryStore.removeEntityFromStore(entity);
+            /*
+             * Validation is complete - ok to remove the entity
+             */
+            repositoryStore.removeEntityFromStore(entity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        repositoryStore.removeEntityProxyFromStore(entity.getGUID());
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            repositoryStore.removeEntityProxyFromStore(entity.getGUID());
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(deletedEntityGUID);
+        }
     }
 
 
@@ -3257,36 +3557,44 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, deletedEntityGUID, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(deletedEntityGUID);
+        repositoryStore.lockInstance(deletedEntityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(deletedEntityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, deletedEntityGUID, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, deletedEntityGUID, entity, methodName);
 
-        repositoryValidator.validateEntityIsDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityIsDeleted(repositoryName, entity, methodName);
 
-        /*
-         * Validation is complete.  It is ok to restore the entity.
-         */
+            /*
+             * Validation is complete.  It is ok to restore the entity.
+             */
 
-        EntityDetail restoredEntity = new EntityDetail(entity);
+            EntityDetail restoredEntity = new EntityDetail(entity);
 
-        restoredEntity.setStatus(entity.getStatusOnDelete());
-        restoredEntity.setStatusOnDelete(null);
+            restoredEntity.setStatus(entity.getStatusOnDelete());
+            restoredEntity.setStatusOnDelete(null);
 
-        restoredEntity = repositoryHelper.incrementVersion(userId, entity, restoredEntity);
+            restoredEntity = repositoryHelper.incrementVersion(userId, entity, restoredEntity);
 
-        repositoryStore.updateEntityInStore(restoredEntity);
+            repositoryStore.updateEntityInStore(restoredEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, restoredEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, restoredEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return restoredEntity;
+            return restoredEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(deletedEntityGUID);
+        }
     }
 
 
@@ -3332,81 +3640,89 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, entityGUIDParameterName, entityGUID, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail entity = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail entity = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        repositoryValidator.validateInstanceType(repositoryName, entity);
+            repositoryValidator.validateInstanceType(repositoryName, entity);
 
-        InstanceType entityType = entity.getType();
+            InstanceType entityType = entity.getType();
 
-        repositoryValidator.validateClassification(repositoryName,
-                                                   classificationParameterName,
-                                                   classificationName,
-                                                   entityType.getTypeDefName(),
-                                                   methodName);
+            repositoryValidator.validateClassification(repositoryName,
+                                                       classificationParameterName,
+                                                       classificationName,
+                                                       entityType.getTypeDefName(),
+                                                       methodName);
 
-        Classification newClassification;
-        try
-        {
-            repositoryValidator.validateClassificationProperties(repositoryName,
-                                                                 classificationName,
-                                                                 propertiesParameterName,
-                                                                 classificationProperties,
-                                                                 methodName);
+            Classification newClassification;
+            try
+            {
+                repositoryValidator.validateClassificationProperties(repositoryName,
+                                                                     classificationName,
+                                                                     propertiesParameterName,
+                                                                     classificationProperties,
+                                                                     methodName);
+
+                /*
+                 * Validation complete - build the new classification
+                 */
+                newClassification = repositoryHelper.getNewClassification(repositoryName,
+                                                                          userId,
+                                                                          classificationName,
+                                                                          entityType.getTypeDefName(),
+                                                                          ClassificationOrigin.ASSIGNED,
+                                                                          null,
+                                                                          classificationProperties);
+            }
+            catch (PropertyErrorException  error)
+            {
+                throw error;
+            }
+            catch (Throwable   error)
+            {
+                OMRSErrorCode errorCode = OMRSErrorCode.INVALID_CLASSIFICATION_FOR_ENTITY;
+
+                throw new ClassificationErrorException(errorCode.getHTTPErrorCode(),
+                                                       this.getClass().getName(),
+                                                       methodName,
+                                                       error.getMessage(),
+                                                       errorCode.getSystemAction(),
+                                                       errorCode.getUserAction());
+            }
 
             /*
-             * Validation complete - build the new classification
+             * Validation complete - ok to update entity
              */
-            newClassification = repositoryHelper.getNewClassification(repositoryName,
-                                                                      userId,
-                                                                      classificationName,
-                                                                      entityType.getTypeDefName(),
-                                                                      ClassificationOrigin.ASSIGNED,
-                                                                      null,
-                                                                      classificationProperties);
-        }
-        catch (PropertyErrorException  error)
-        {
-            throw error;
-        }
-        catch (Throwable   error)
-        {
-            OMRSErrorCode errorCode = OMRSErrorCode.INVALID_CLASSIFICATION_FOR_ENTITY;
-
-            throw new ClassificationErrorException(errorCode.getHTTPErrorCode(),
-                                                   this.getClass().getName(),
-                                                   methodName,
-                                                   error.getMessage(),
-                                                   errorCode.getSystemAction(),
-                                                   errorCode.getUserAction());
-        }
-
-        /*
-         * Validation complete - ok to update entity
-         */
 
-        EntityDetail updatedEntity = repositoryHelper.addClassificationToEntity(repositoryName,
-                                                                                entity,
-                                                                                newClassification,
-                                                                                methodName);
+            EntityDetail updatedEntity = repositoryHelper.addClassificationToEntity(repositoryName,
+                                                                                    entity,
+                                                                                    newClassification,
+                                                                                    methodName);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -3449,31 +3765,39 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                        classificationName,
                                                        methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail entity = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail entity = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        EntityDetail updatedEntity = repositoryHelper.deleteClassificationFromEntity(repositoryName,
-                                                                                     entity,
-                                                                                     classificationName,
-                                                                                     methodName);
+            EntityDetail updatedEntity = repositoryHelper.deleteClassificationFromEntity(repositoryName,
+                                                                                         entity,
+                                                                                         classificationName,
+                                                                                         methodName);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -3545,43 +3869,51 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         }
 
 
-        /*
-         * Locate entity
-         */
-        EntityDetail entity = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail entity = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
 
-        Classification classification = repositoryHelper.getClassificationFromEntity(repositoryName,
-                                                                                     entity,
-                                                                                     classificationName,
-                                                                                     methodName);
+            Classification classification = repositoryHelper.getClassificationFromEntity(repositoryName,
+                                                                                         entity,
+                                                                                         classificationName,
+                                                                                         methodName);
 
-        Classification  newClassification = new Classification(classification);
+            Classification  newClassification = new Classification(classification);
 
-        newClassification.setProperties(properties);
+            newClassification.setProperties(properties);
 
-        repositoryHelper.incrementVersion(userId, classification, newClassification);
+            repositoryHelper.incrementVersion(userId, classification, newClassification);
 
-        EntityDetail updatedEntity = repositoryHelper.updateClassificationInEntity(repositoryName,
-                                                                                   userId,
-                                                                                   entity,
-                                                                                   newClassification,
-                                                                                   methodName);
+            EntityDetail updatedEntity = repositoryHelper.updateClassificationInEntity(repositoryName,
+                                                                                       userId,
+                                                                                       entity,
+                                                                                       newClassification,
+                                                                                       methodName);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -3656,7 +3988,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
          * Validation complete - ok to create new instance
          */
         Relationship   relationship = repositoryHelper.getNewRelationship(repositoryName,
-                                                                         null,
+                                                                          metadataCollectionId,
                                                                           InstanceProvenanceType.LOCAL_COHORT,
                                                                           userId,
                                                                           typeDef.getName(),
@@ -3749,35 +4081,43 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, guidParameterName, relationshipGUID, methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship = this.getRelationship(userId, relationshipGUID);
+        repositoryStore.lockInstance(relationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship = this.getRelationship(userId, relationshipGUID);
 
-        repositoryValidator.validateInstanceType(repositoryName, relationship);
+            repositoryValidator.validateInstanceType(repositoryName, relationship);
 
-        String relationshipTypeGUID = relationship.getType().getTypeDefGUID();
+            String relationshipTypeGUID = relationship.getType().getTypeDefGUID();
 
-        TypeDef  typeDef = repositoryStore.getTypeDef(relationshipTypeGUID);
+            TypeDef  typeDef = repositoryStore.getTypeDef(relationshipTypeGUID);
 
-        repositoryValidator.validateNewStatus(repositoryName,
-                                              statusParameterName,
-                                              newStatus,
-                                              typeDef,
-                                              methodName);
+            repositoryValidator.validateNewStatus(repositoryName,
+                                                  statusParameterName,
+                                                  newStatus,
+                                                  typeDef,
+                                                  methodName);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        Relationship   updatedRelationship = new Relationship(relationship);
+            /*
+             * Validation complete - ok to make changes
+             */
+            Relationship   updatedRelationship = new Relationship(relationship);
 
-        updatedRelationship.setStatus(newStatus);
+            updatedRelationship.setStatus(newStatus);
 
-        updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
+            updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        repositoryStore.updateRelationshipInStore(updatedRelationship);
+            repositoryStore.updateRelationshipInStore(updatedRelationship);
 
-        return updatedRelationship;
+            return updatedRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(relationshipGUID);
+        }
     }
 
 
@@ -3817,36 +4157,44 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, guidParameterName, relationshipGUID, methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship = this.getRelationship(userId, relationshipGUID);
+        repositoryStore.lockInstance(relationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship = this.getRelationship(userId, relationshipGUID);
 
-        repositoryValidator.validateInstanceType(repositoryName, relationship);
+            repositoryValidator.validateInstanceType(repositoryName, relationship);
 
-        String relationshipTypeGUID = relationship.getType().getTypeDefGUID();
+            String relationshipTypeGUID = relationship.getType().getTypeDefGUID();
 
-        TypeDef  typeDef = repositoryStore.getTypeDef(relationshipTypeGUID);
+            TypeDef  typeDef = repositoryStore.getTypeDef(relationshipTypeGUID);
 
-        repositoryValidator.validateNewPropertiesForType(repositoryName,
-                                                         propertiesParameterName,
-                                                         typeDef,
-                                                         properties,
-                                                         methodName);
+            repositoryValidator.validateNewPropertiesForType(repositoryName,
+                                                             propertiesParameterName,
+                                                             typeDef,
+                                                             properties,
+                                                             methodName);
 
 
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        Relationship   updatedRelationship = new Relationship(relationship);
+            /*
+             * Validation complete - ok to make changes
+             */
+            Relationship   updatedRelationship = new Relationship(relationship);
 
-        updatedRelationship.setProperties(properties);
-        updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
+            updatedRelationship.setProperties(properties);
+            updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        repositoryStore.updateRelationshipInStore(updatedRelationship);
+            repositoryStore.updateRelationshipInStore(updatedRelationship);
 
-        return updatedRelationship;
+            return updatedRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(relationshipGUID);
+        }
     }
 
 
@@ -3880,15 +4228,23 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, guidParameterName, relationshipGUID, methodName);
 
-        /*
-         * Restore previous version
-         */
-        Relationship restoredRelationship = repositoryStore.retrievePreviousVersionOfRelationship(relationshipGUID);
+        repositoryStore.lockInstance(relationshipGUID);
+        try
+        {
+            /*
+             * Restore previous version
+             */
+            Relationship restoredRelationship = repositoryStore.retrievePreviousVersionOfRelationship(relationshipGUID);
 
-        repositoryValidator.validateRelationshipFromStore(repositoryName, relationshipGUID, restoredRelationship, methodName);
-        repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, restoredRelationship, methodName);
+            repositoryValidator.validateRelationshipFromStore(repositoryName, relationshipGUID, restoredRelationship, methodName);
+            repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, restoredRelationship, methodName);
 
-        return restoredRelationship;
+            return restoredRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(relationshipGUID);
+        }
     }
 
 
@@ -3936,30 +4292,38 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                typeDefName,
                                                methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship  = this.getRelationship(userId, obsoleteRelationshipGUID);
+        repositoryStore.lockInstance(obsoleteRelationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship  = this.getRelationship(userId, obsoleteRelationshipGUID);
 
-        repositoryValidator.validateTypeForInstanceDelete(repositoryName,
-                                                          typeDefGUID,
-                                                          typeDefName,
-                                                          relationship,
-                                                          methodName);
+            repositoryValidator.validateTypeForInstanceDelete(repositoryName,
+                                                              typeDefGUID,
+                                                              typeDefName,
+                                                              relationship,
+                                                              methodName);
 
-        /*
-         * A delete is a soft-delete that updates the status to DELETED.
-         */
-        Relationship   updatedRelationship = new Relationship(relationship);
+            /*
+             * A delete is a soft-delete that updates the status to DELETED.
+             */
+            Relationship   updatedRelationship = new Relationship(relationship);
 
-        updatedRelationship.setStatusOnDelete(relationship.getStatus());
-        updatedRelationship.setStatus(InstanceStatus.DELETED);
+            updatedRelationship.setStatusOnDelete(relationship.getStatus());
+            updatedRelationship.setStatus(InstanceStatus.DELETED);
 
-        updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
+            updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        repositoryStore.removeRelationshipFromStore(updatedRelationship);
+            repositoryStore.removeRelationshipFromStore(updatedRelationship);
 
-        return updatedRelationship;
+            return updatedRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(obsoleteRelationshipGUID);
+        }
     }
 
 
@@ -4006,24 +4370,32 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                typeDefName,
                                                methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship  = this.getRelationship(userId, deletedRelationshipGUID);
+        repositoryStore.lockInstance(deletedRelationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship  = this.getRelationship(userId, deletedRelationshipGUID);
 
-        repositoryValidator.validateTypeForInstanceDelete(repositoryName,
-                                                          typeDefGUID,
-                                                          typeDefName,
-                                                          relationship,
-                                                          methodName);
+            repositoryValidator.validateTypeForInstanceDelete(repositoryName,
+                                                              typeDefGUID,
+                                                              typeDefName,
+                                                              relationship,
+                                                              methodName);
 
-        repositoryValidator.validateRelationshipIsDeleted(repositoryName, relationship, methodName);
+            repositoryValidator.validateRelationshipIsDeleted(repositoryName, relationship, methodName);
 
 
-        /*
-         * Validation is complete - ok to remove the relationship
-         */
-        repositoryStore.removeRelationshipFromStore(relationship);
+            /*
+             * Validation is complete - ok to remove the relationship
+             */
+            repositoryStore.removeRelationshipFromStore(relationship);
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(deletedRelationshipGUID);
+        }
     }
 
 
@@ -4060,23 +4432,31 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, guidParameterName, deletedRelationshipGUID, methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship  = this.getRelationship(userId, deletedRelationshipGUID);
+        repositoryStore.lockInstance(deletedRelationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship  = this.getRelationship(userId, deletedRelationshipGUID);
 
-        repositoryValidator.validateRelationshipIsDeleted(repositoryName, relationship, methodName);
+            repositoryValidator.validateRelationshipIsDeleted(repositoryName, relationship, methodName);
 
-        /*
-         * Validation is complete.  It is ok to restore the relationship.
-         */
+            /*
+             * Validation is complete.  It is ok to restore the relationship.
+             */
 
-        Relationship restoredRelationship = repositoryStore.retrievePreviousVersionOfRelationship(deletedRelationshipGUID);
+            Relationship restoredRelationship = repositoryStore.retrievePreviousVersionOfRelationship(deletedRelationshipGUID);
 
-        repositoryValidator.validateRelationshipFromStore(repositoryName, deletedRelationshipGUID, relationship, methodName);
-        repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, restoredRelationship, methodName);
+            repositoryValidator.validateRelationshipFromStore(repositoryName, deletedRelationshipGUID, relationship, methodName);
+            repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, restoredRelationship, methodName);
 
-        return restoredRelationship;
+            return restoredRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(deletedRelationshipGUID);
+        }
     }
 
 
@@ -4132,34 +4512,42 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                typeDefName,
                                                methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        EntityDetail   updatedEntity = new EntityDetail(entity);
+            /*
+             * Validation complete - ok to make changes
+             */
+            EntityDetail   updatedEntity = new EntityDetail(entity);
 
-        updatedEntity.setGUID(newEntityGUID);
+            updatedEntity.setGUID(newEntityGUID);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.removeEntityFromStore(entity);
-        repositoryStore.createEntityInStore(updatedEntity);
+            repositoryStore.removeEntityFromStore(entity);
+            repositoryStore.createEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.addEntityProxyToStore(entityProxy);
-        repositoryStore.removeEntityProxyFromStore(entityGUID);
+            repositoryStore.addEntityProxyToStore(entityProxy);
+            repositoryStore.removeEntityProxyFromStore(entityGUID);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -4208,52 +4596,60 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
         repositoryValidator.validateGUID(repositoryName, entityParameterName, entityGUID, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
 
-        repositoryValidator.validateInstanceType(repositoryName,
-                                                 entity,
-                                                 currentTypeDefParameterName,
-                                                 currentTypeDefParameterName,
-                                                 currentTypeDefSummary.getGUID(),
-                                                 currentTypeDefSummary.getName());
+            repositoryValidator.validateInstanceType(repositoryName,
+                                                     entity,
+                                                     currentTypeDefParameterName,
+                                                     currentTypeDefParameterName,
+                                                     currentTypeDefSummary.getGUID(),
+                                                     currentTypeDefSummary.getName());
 
-        repositoryValidator.validatePropertiesForType(repositoryName,
-                                                      newTypeDefParameterName,
-                                                      newTypeDefSummary,
-                                                      entity.getProperties(),
-                                                      methodName);
+            repositoryValidator.validatePropertiesForType(repositoryName,
+                                                          newTypeDefParameterName,
+                                                          newTypeDefSummary,
+                                                          entity.getProperties(),
+                                                          methodName);
 
-        repositoryValidator.validateClassificationList(repositoryName,
-                                                       entityParameterName,
-                                                       entity.getClassifications(),
-                                                       newTypeDefSummary.getName(),
-                                                       methodName);
+            repositoryValidator.validateClassificationList(repositoryName,
+                                                           entityParameterName,
+                                                           entity.getClassifications(),
+                                                           newTypeDefSummary.getName(),
+                                                           methodName);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        EntityDetail   updatedEntity = new EntityDetail(entity);
-        InstanceType   newInstanceType = repositoryHelper.getNewInstanceType(repositoryName, newTypeDefSummary);
+            /*
+             * Validation complete - ok to make changes
+             */
+            EntityDetail   updatedEntity = new EntityDetail(entity);
+            InstanceType   newInstanceType = repositoryHelper.getNewInstanceType(repositoryName, newTypeDefSummary);
 
-        updatedEntity.setType(newInstanceType);
+            updatedEntity.setType(newInstanceType);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(entity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -4309,34 +4705,42 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateHomeMetadataGUID(repositoryName, homeParameterName, homeMetadataCollectionId, methodName);
         repositoryValidator.validateHomeMetadataGUID(repositoryName, newHomeParameterName, newHomeMetadataCollectionId, methodName);
 
-        /*
-         * Locate entity
-         */
-        EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
+        repositoryStore.lockInstance(entityGUID);
+        try
+        {
+            /*
+             * Locate entity
+             */
+            EntityDetail  entity  = repositoryStore.getEntity(entityGUID);
 
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+            repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
 
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        EntityDetail   updatedEntity = new EntityDetail(entity);
+            /*
+             * Validation complete - ok to make changes
+             */
+            EntityDetail   updatedEntity = new EntityDetail(entity);
 
-        updatedEntity.setMetadataCollectionId(newHomeMetadataCollectionId);
-        updatedEntity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+            updatedEntity.setMetadataCollectionId(newHomeMetadataCollectionId);
+            updatedEntity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
 
-        updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
+            updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        repositoryStore.updateEntityInStore(updatedEntity);
+            repositoryStore.updateEntityInStore(updatedEntity);
 
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, updatedEntity);
 
-        repositoryStore.updateEntityProxyInStore(entityProxy);
+            repositoryStore.updateEntityProxyInStore(entityProxy);
 
-        return updatedEntity;
+            return updatedEntity;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(entityGUID);
+        }
     }
 
 
@@ -4389,24 +4793,32 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                methodName);
         repositoryValidator.validateGUID(repositoryName, newRelationshipParameterName, newRelationshipGUID, methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship  = this.getRelationship(userId, relationshipGUID);
+        repositoryStore.lockInstance(relationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship  = this.getRelationship(userId, relationshipGUID);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        Relationship   updatedRelationship = new Relationship(relationship);
+            /*
+             * Validation complete - ok to make changes
+             */
+            Relationship   updatedRelationship = new Relationship(relationship);
 
-        updatedRelationship.setGUID(newRelationshipGUID);
+            updatedRelationship.setGUID(newRelationshipGUID);
 
-        updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
+            updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        repositoryStore.removeRelationshipFromStore(relationship);
-        repositoryStore.createRelationshipInStore(updatedRelationship);
+            repositoryStore.removeRelationshipFromStore(relationship);
+            repositoryStore.createRelationshipInStore(updatedRelationship);
 
-        return updatedRelationship;
+            return updatedRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(relationshipGUID);
+        }
     }
 
 
@@ -4456,38 +4868,46 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateType(repositoryName, currentTypeDefParameterName, currentTypeDefSummary, TypeDefCategory.RELATIONSHIP_DEF, methodName);
         repositoryValidator.validateType(repositoryName, currentTypeDefParameterName, newTypeDefSummary, TypeDefCategory.RELATIONSHIP_DEF, methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship  = this.getRelationship(userId, relationshipGUID);
+        repositoryStore.lockInstance(relationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship  = this.getRelationship(userId, relationshipGUID);
 
-        repositoryValidator.validateInstanceType(repositoryName,
-                                                 relationship,
-                                                 currentTypeDefParameterName,
-                                                 currentTypeDefParameterName,
-                                                 currentTypeDefSummary.getGUID(),
-                                                 currentTypeDefSummary.getName());
+            repositoryValidator.validateInstanceType(repositoryName,
+                                                     relationship,
+                                                     currentTypeDefParameterName,
+                                                     currentTypeDefParameterName,
+                                                     currentTypeDefSummary.getGUID(),
+                                                     currentTypeDefSummary.getName());
 
 
-        repositoryValidator.validatePropertiesForType(repositoryName,
-                                                      newTypeDefParameterName,
-                                                      newTypeDefSummary,
-                                                      relationship.getProperties(),
-                                                      methodName);
+            repositoryValidator.validatePropertiesForType(repositoryName,
+                                                          newTypeDefParameterName,
+                                                          newTypeDefSummary,
+                                                          relationship.getProperties(),
+                                                          methodName);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        Relationship   updatedRelationship = new Relationship(relationship);
-        InstanceType   newInstanceType = repositoryHelper.getNewInstanceType(repositoryName, newTypeDefSummary);
+            /*
+             * Validation complete - ok to make changes
+             */
+            Relationship   updatedRelationship = new Relationship(relationship);
+            InstanceType   newInstanceType = repositoryHelper.getNewInstanceType(repositoryName, newTypeDefSummary);
 
-        updatedRelationship.setType(newInstanceType);
+            updatedRelationship.setType(newInstanceType);
 
-        updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
+            updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        repositoryStore.updateRelationshipInStore(updatedRelationship);
+            repositoryStore.updateRelationshipInStore(updatedRelationship);
 
-        return updatedRelationship;
+            return updatedRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(relationshipGUID);
+        }
     }
 
 
@@ -4544,24 +4964,32 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         repositoryValidator.validateHomeMetadataGUID(repositoryName, homeParameterName, homeMetadataCollectionId, methodName);
         repositoryValidator.validateHomeMetadataGUID(repositoryName, newHomeParameterName, newHomeMetadataCollectionId, methodName);
 
-        /*
-         * Locate relationship
-         */
-        Relationship  relationship  = this.getRelationship(userId, relationshipGUID);
+        repositoryStore.lockInstance(relationshipGUID);
+        try
+        {
+            /*
+             * Locate relationship
+             */
+            Relationship  relationship  = this.getRelationship(userId, relationshipGUID);
 
-        /*
-         * Validation complete - ok to make changes
-         */
-        Relationship   updatedRelationship = new Relationship(relationship);
+            /*
+             * Validation complete - ok to make changes
+             */
+            Relationship   updatedRelationship = new Relationship(relationship);
 
-        updatedRelationship.setMetadataCollectionId(newHomeMetadataCollectionId);
-        updatedRelationship.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+            updatedRelationship.setMetadataCollectionId(newHomeMetadataCollectionId);
+            updatedRelationship.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
 
-        updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
+            updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        repositoryStore.updateRelationshipInStore(updatedRelationship);
+            repositoryStore.updateRelationshipInStore(updatedRelationship);
 
-        return updatedRelationship;
+            return updatedRelationship;
+        }
+        finally
+        {
+            repositoryStore.unlockInstance(relationshipGUID);
+        }
     }
 
 
@@ -4900,6 +5328,127 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
 
 
+    /**
+     * Return the type restriction for a search.  A search for a type also returns instances of its sub types so
+     * the repository store looks up the instances of each of them in its type index.
+     *
+     * @param typeGUID - unique identifier of the type to search for (null means any type)
+     * @return identifiers of the type and its sub types or null if there is no type restriction
+     */
+    private Set<String> getTypeAndSubTypeGUIDs(String   typeGUID)
+    {
+        if (typeGUID == null)
+        {
+            return null;
+        }
+
+        return repositoryHelper.getTypeAndSubTypeGUIDs(repositoryName, typeGUID);
+    }
+
+
+    /**
+     * Return the type restriction for a graph query.  Each type also includes its sub types.
+     *
+     * @param typeGUIDs - unique identifiers of the types (null means any type)
+     * @return identifiers of the types and their sub types or null if there is no type restriction
+     */
+    private Set<String> getTypeAndSubTypeGUIDs(List<String>   typeGUIDs)
+    {
+        if (typeGUIDs == null)
+        {
+            return null;
+        }
+
+        Set<String>  typeAndSubTypeGUIDs = new HashSet<>();
+
+        for (String  typeGUID : typeGUIDs)
+        {
+            if (typeGUID != null)
+            {
+                typeAndSubTypeGUIDs.addAll(repositoryHelper.getTypeAndSubTypeGUIDs(repositoryName, typeGUID));
+            }
+        }
+
+        return typeAndSubTypeGUIDs;
+    }
+
+
+    /**
+     * Return whether the instance's type is one of the requested types.
+     *
+     * @param typeGUIDs - unique identifiers of the types and their sub types (null means any type)
+     * @param instance - instance to test
+     * @return boolean
+     */
+    private boolean isInstanceOfTypes(Set<String>      typeGUIDs,
+                                      InstanceHeader   instance)
+    {
+        if (typeGUIDs == null)
+        {
+            return true;
+        }
+
+        return (instance.getType() != null) && (typeGUIDs.contains(instance.getType().getTypeDefGUID()));
+    }
+
+
+    /**
+     * Return the entity that a graph query starts from.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @param asOfTime - time for the query (or null means now)
+     * @param methodName - method receiving the call
+     * @return entity
+     * @throws RepositoryErrorException the stored entity is invalid
+     * @throws EntityNotKnownException the entity is not known or is deleted
+     */
+    private EntityDetail getEntityForTraversal(String   entityGUID,
+                                               Date     asOfTime,
+                                               String   methodName) throws RepositoryErrorException,
+                                                                           EntityNotKnownException
+    {
+        EntityDetail  entity = repositoryStore.getEntity(entityGUID, asOfTime);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+
+        return entity;
+    }
+
+
+    /**
+     * Reject the result of a graph query that stopped because it visited too many entities, since the caller
+     * would otherwise take the part of the graph that was found for the whole answer.
+     *
+     * @param traversal - traversal that ran the query
+     * @param entityGUID - unique identifier of the entity the query started from
+     * @param methodName - method receiving the call
+     * @throws RepositoryErrorException the query visited maxTraversalEntities entities
+     */
+    private void validateTraversalComplete(InMemoryOMRSInstanceGraphTraversal   traversal,
+                                           String                               entityGUID,
+                                           String                               methodName) throws RepositoryErrorException
+    {
+        if (traversal.isLimitReached())
+        {
+            OMRSErrorCode errorCode = OMRSErrorCode.TRAVERSAL_LIMIT_REACHED;
+
+            String errorMessage = errorCode.getErrorMessageId()
+                                + errorCode.getFormattedErrorMessage(methodName,
+                                                                     repositoryName,
+                                                                     Integer.toString(maxTraversalEntities),
+                                                                     entityGUID);
+
+            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               errorMessage,
+                                               errorCode.getSystemAction(),
+                                               errorCode.getUserAction());
+        }
+    }
+
+
     /**
      * Use the paging and sequencing parameters to format the results for a repository call that returns a list of
      * entity instances.
@@ -4912,7 +5461,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
      * @param sequencingOrder - Enum defining how the results should be ordered.
      * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return results array as requested
+     * @return results array as requested or null if the page is empty
      * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
      *                                  entity.
      * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
@@ -4924,30 +5473,16 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                       int                  pageSize) throws PagingErrorException,
                                                                                             PropertyErrorException
     {
-        if (fullResults == null)
-        {
-            return null;
-        }
-
-        if (fullResults.isEmpty())
+        if ((fullResults == null) || (fromElement >= fullResults.size()))
         {
             return null;
         }
 
-        if (fromElement > fullResults.size())
-        {
-            return null;
-        }
-
-        List<EntityDetail>  sortedResults = fullResults;
-        // todo sort list according to properties
-
-        if ((pageSize == 0) || (pageSize > sortedResults.size()))
-        {
-            return sortedResults;
-        }
+        InMemoryOMRSInstanceSequencer<EntityDetail>  sequencer = new InMemoryOMRSInstanceSequencer<>(sequencingProperty,
+                                                                                                     sequencingOrder,
+                                                                                                     EntityDetail::getProperties);
 
-        return new ArrayList<>(fullResults.subList(fromElement, fromElement + pageSize - 1));
+        return sequencer.getPage(fullResults, fromElement, pageSize);
     }
 
 
@@ -4963,7 +5498,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
      * @param sequencingOrder - Enum defining how the results should be ordered.
      * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return results array as requested
+     * @return results array as requested or null if the page is empty
      * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
      *                                  entity.
      * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
@@ -4975,30 +5510,16 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                             int                  pageSize) throws PagingErrorException,
                                                                                                   PropertyErrorException
     {
-        if (fullResults == null)
-        {
-            return null;
-        }
-
-        if (fullResults.isEmpty())
-        {
-            return null;
-        }
-
-        if (fromElement > fullResults.size())
+        if ((fullResults == null) || (fromElement >= fullResults.size()))
         {
             return null;
         }
 
-        List<Relationship>  sortedResults = fullResults;
-        // todo sort list according to properties
-
-        if ((pageSize == 0) || (pageSize > sortedResults.size()))
-        {
-            return sortedResults;
-        }
+        InMemoryOMRSInstanceSequencer<Relationship>  sequencer = new InMemoryOMRSInstanceSequencer<>(sequencingProperty,
+                                                                                                     sequencingOrder,
+                                                                                                     Relationship::getProperties);
 
-        return new ArrayList<>(fullResults.subList(fromElement, fromElement + pageSize - 1));
+        return sequencer.getPage(fullResults, fromElement, pageSize);
     }
 
 
@@ -2,34 +2,147 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.StructPropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSSearchCriteriaMatcher;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ *
+ * Alongside the instance stores it maintains a set of secondary indexes over the current (latest) versions of
+ * the entities and relationships.  These map the entity type, classification names and instance status to the
+ * GUIDs of the matching instances, and each entity GUID to the GUIDs of the relationships attached to it.
+ * The indexes are updated every time an instance is put into, or removed from, the active stores so that queries
+ * can start from the smallest candidate set rather than scanning the whole repository.
+ *
+ * Optionally, the store also maintains an inverted index from each three character sequence (trigram) found in
+ * the string and enum property values of the current instances to the GUIDs of those instances.  A search whose
+ * criteria requires the matching values to contain some literal text only needs to test the instances that
+ * contain every trigram of that text.  Any word or substring of three or more characters is covered by its
+ * trigrams so no separate word index is kept.  The index costs memory and time on every update so it is only
+ * maintained when requested.
+ *
+ * Superseded versions of each instance are kept in a per-GUID history ordered by the time each version became
+ * effective.  Historical (asOfTime) queries resolve each instance with a floor lookup in its own history rather
+ * than copying the stores and scanning every old version.
+ *
+ * The store may be called from many threads at once (REST requests and cohort event processing).  All of the maps
+ * are concurrent and each put or remove of an instance updates the instance store, and its index entries, inside a
+ * single atomic operation on the instance's key.  Queries therefore never see a partially indexed instance and
+ * iterate over a snapshot of candidate instances that is unaffected by concurrent updates.  Operations that read an
+ * instance and then store a new version based on it must hold the instance's lock (see lockInstance()).
  */
 public class InMemoryOMRSMetadataStore
 {
-    private String                        repositoryName           = null;
-    private Map<String, TypeDef>          typeDefStore             = new HashMap<>();
-    private Map<String, AttributeTypeDef> attributeTypeDefStore    = new HashMap<>();
-    private Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private static final int   instanceLockCount     = 64;
+    private static final int   propertyValueGramSize = 3;
+
+    private String                                                  repositoryName                 = null;
+    private Map<String, TypeDef>                                    typeDefStore                   = new ConcurrentHashMap<>();
+    private Map<String, AttributeTypeDef>                           attributeTypeDefStore          = new ConcurrentHashMap<>();
+    private Map<String, EntityDetail>                               entityStore                    = new ConcurrentHashMap<>();
+    private Map<String, EntityProxy>                                entityProxyStore               = new ConcurrentHashMap<>();
+    private Map<String, InMemoryOMRSInstanceHistory<EntityDetail>>  entityHistoryStore             = new ConcurrentHashMap<>();
+    private Map<String, Relationship>                               relationshipStore              = new ConcurrentHashMap<>();
+    private Map<String, InMemoryOMRSInstanceHistory<Relationship>>  relationshipHistoryStore       = new ConcurrentHashMap<>();
+
+    /*
+     * Secondary indexes over the active entity and relationship stores.
+     */
+    private Map<String, Set<String>>                                entityTypeIndex                = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>                                entityClassificationIndex      = new ConcurrentHashMap<>();
+    private Map<InstanceStatus, Set<String>>                        entityStatusIndex              = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>                                relationshipTypeIndex          = new ConcurrentHashMap<>();
+    private Map<InstanceStatus, Set<String>>                        relationshipStatusIndex        = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>                                entityRelationshipIndex        = new ConcurrentHashMap<>();
+
+    /*
+     * Trigram to the GUIDs of the instances with a string or enum property value that contains it.  These are
+     * only maintained if indexPropertyValues is true.
+     */
+    private boolean                                                 indexPropertyValues;
+    private Map<String, Set<String>>                                entityPropertyValueIndex       = new ConcurrentHashMap<>();
+    private Map<String, Set<String>>                                relationshipPropertyValueIndex = new ConcurrentHashMap<>();
+
+    /*
+     * Entity GUID to the GUIDs of every relationship that has ever been attached to it and now only exists
+     * in the relationship history.  This is used to answer historical queries about an entity's relationships.
+     */
+    private Map<String, Set<String>>                                entityRelationshipHistoryIndex = new ConcurrentHashMap<>();
+
+    /*
+     * Striped locks used to serialize read-modify-write operations on the same instance.
+     */
+    private ReentrantLock[]                                         instanceLocks                  = new ReentrantLock[instanceLockCount];
 
 
     /**
-     * Default constructor
+     * Default constructor - property values are not indexed.
      */
     public InMemoryOMRSMetadataStore()
     {
+        this(false);
+    }
+
+
+    /**
+     * Constructor that controls whether the property values of the instances are indexed for searches.
+     *
+     * @param indexPropertyValues - maintain the trigram index of string and enum property values
+     */
+    public InMemoryOMRSMetadataStore(boolean   indexPropertyValues)
+    {
+        this.indexPropertyValues = indexPropertyValues;
+
+        for (int i = 0; i < instanceLockCount; i++)
+        {
+            instanceLocks[i] = new ReentrantLock();
+        }
+    }
+
+
+    /**
+     * Acquire the write lock for an instance.  This is used by the metadata collection to make read-modify-write
+     * operations (such as updating properties or classifying an entity) atomic with respect to other updates to
+     * the same instance.  Each lock covers a stripe of GUIDs and is reentrant.  A caller must only hold one
+     * instance lock at a time and must release it with unlockInstance().
+     *
+     * @param guid - unique identifier of the entity or relationship
+     */
+    protected void lockInstance(String   guid)
+    {
+        this.getInstanceLock(guid).lock();
+    }
+
+
+    /**
+     * Release the write lock for an instance acquired with lockInstance().
+     *
+     * @param guid - unique identifier of the entity or relationship
+     */
+    protected void unlockInstance(String   guid)
+    {
+        this.getInstanceLock(guid).unlock();
     }
 
 
@@ -148,86 +261,261 @@ public class InMemoryOMRSMetadataStore
 
 
     /**
-     * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the entities that are candidates for a query for a single entity type.
+     *
+     * @param entityTypeGUID - unique identifier of the entity type (null means any type)
+     * @param limitResultsByStatus - list of statuses to restrict the results to (null means any status)
+     * @param limitResultsByClassification - list of classifications, one of which must be present (null means
+     *                                     no restriction)
+     * @param matchProperties - property values the entities must match (null means no restriction)
+     * @param matchCriteria - how the match properties are combined (null means no restriction)
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate entities
+     */
+    protected Collection<EntityDetail>  getEntityCandidates(String                entityTypeGUID,
+                                                            List<InstanceStatus>  limitResultsByStatus,
+                                                            List<String>          limitResultsByClassification,
+                                                            InstanceProperties    matchProperties,
+                                                            MatchCriteria         matchCriteria,
+                                                            Date                  asOfTime)
+    {
+        return this.getEntityCandidatesForTypes(this.getTypeGUIDs(entityTypeGUID),
+                                                limitResultsByStatus,
+                                                limitResultsByClassification,
+                                                matchProperties,
+                                                matchCriteria,
+                                                asOfTime);
+    }
+
+
+    /**
+     * Return the entities that are candidates for a query.  When asOfTime is null, the secondary indexes are used
+     * to select the smallest set of current entities that could satisfy the type, status and classification
+     * restrictions.  A query for a type and its sub types uses the union of the type index entries of each type.
+     * The caller must still verify each returned entity against the full search criteria since only one index is
+     * used to narrow the results.  For historical queries, the version of each entity that was effective at that
+     * time is returned.
+     *
+     * @param entityTypeGUIDs - unique identifiers of the entity types, one of which the entities must have
+     *                        (null means any type)
+     * @param limitResultsByStatus - list of statuses to restrict the results to (null means any status)
+     * @param limitResultsByClassification - list of classifications, one of which must be present (null means
+     *                                     no restriction)
+     * @param matchProperties - property values the entities must match (null means no restriction).  These are not
+     *                        indexed by this store and may be used by subclasses that index property values.
+     * @param matchCriteria - how the match properties are combined (null means no restriction)
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate entities
+     */
+    protected Collection<EntityDetail>  getEntityCandidatesForTypes(Collection<String>    entityTypeGUIDs,
+                                                                    List<InstanceStatus>  limitResultsByStatus,
+                                                                    List<String>          limitResultsByClassification,
+                                                                    InstanceProperties    matchProperties,
+                                                                    MatchCriteria         matchCriteria,
+                                                                    Date                  asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return this.getEntitiesAsOf(asOfTime);
+        }
+
+        Collection<String>  candidateGUIDs = this.getIndexEntries(entityTypeIndex, entityTypeGUIDs);
+
+        candidateGUIDs = this.selectSmallest(candidateGUIDs, this.getIndexEntries(entityStatusIndex, limitResultsByStatus));
+        candidateGUIDs = this.selectSmallest(candidateGUIDs, this.getIndexEntries(entityClassificationIndex, limitResultsByClassification));
+
+        if (candidateGUIDs == null)
+        {
+            return new ArrayList<>(entityStore.values());
+        }
+
+        return this.getEntitiesFromStore(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the entities that are candidates for a search of their property values.  If property values are
+     * indexed and the search criteria requires some literal text of at least three characters, only the current
+     * entities with every trigram of that text are returned.  Otherwise this returns the same candidates as
+     * getEntityCandidatesForTypes().  The caller must still verify each returned entity against the type and
+     * search criteria.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return entity store for the requested time
+     * @param entityTypeGUIDs - unique identifiers of the entity types, one of which the entities must have
+     *                        (null means any type)
+     * @param searchCriteriaMatcher - compiled search criteria
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate entities
      */
-    protected Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    protected Collection<EntityDetail>  getEntityCandidatesForSearch(Collection<String>         entityTypeGUIDs,
+                                                                     OMRSSearchCriteriaMatcher  searchCriteriaMatcher,
+                                                                     Date                       asOfTime)
     {
+        Collection<String>  candidateGUIDs = null;
+
         if (asOfTime == null)
         {
-            return entityStore;
+            candidateGUIDs = this.getPropertyValueIndexEntries(entityPropertyValueIndex, searchCriteriaMatcher);
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
+        if (candidateGUIDs == null)
+        {
+            return this.getEntityCandidatesForTypes(entityTypeGUIDs, null, null, null, null, asOfTime);
+        }
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
+        candidateGUIDs = this.selectSmallest(candidateGUIDs, this.getIndexEntries(entityTypeIndex, entityTypeGUIDs));
+
+        return this.getEntitiesFromStore(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the relationships that are candidates for a query for a single relationship type.
+     *
+     * @param relationshipTypeGUID - unique identifier of the relationship type (null means any type)
+     * @param limitResultsByStatus - list of statuses to restrict the results to (null means any status)
+     * @param matchProperties - property values the relationships must match (null means no restriction)
+     * @param matchCriteria - how the match properties are combined (null means no restriction)
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate relationships
+     */
+    protected Collection<Relationship>  getRelationshipCandidates(String                relationshipTypeGUID,
+                                                                  List<InstanceStatus>  limitResultsByStatus,
+                                                                  InstanceProperties    matchProperties,
+                                                                  MatchCriteria         matchCriteria,
+                                                                  Date                  asOfTime)
+    {
+        return this.getRelationshipCandidatesForTypes(this.getTypeGUIDs(relationshipTypeGUID),
+                                                      limitResultsByStatus,
+                                                      matchProperties,
+                                                      matchCriteria,
+                                                      asOfTime);
+    }
+
+
+    /**
+     * Return the relationships that are candidates for a query.  When asOfTime is null, the secondary indexes are
+     * used to select the smallest set of current relationships that could satisfy the type and status restrictions.
+     * A query for a type and its sub types uses the union of the type index entries of each type.
+     * The caller must still verify each returned relationship against the full search criteria.  For historical
+     * queries, the version of each relationship that was effective at that time is returned.
+     *
+     * @param relationshipTypeGUIDs - unique identifiers of the relationship types, one of which the relationships
+     *                             must have (null means any type)
+     * @param limitResultsByStatus - list of statuses to restrict the results to (null means any status)
+     * @param matchProperties - property values the relationships must match (null means no restriction).  These are
+     *                        not indexed by this store and may be used by subclasses that index property values.
+     * @param matchCriteria - how the match properties are combined (null means no restriction)
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate relationships
+     */
+    protected Collection<Relationship>  getRelationshipCandidatesForTypes(Collection<String>    relationshipTypeGUIDs,
+                                                                          List<InstanceStatus>  limitResultsByStatus,
+                                                                          InstanceProperties    matchProperties,
+                                                                          MatchCriteria         matchCriteria,
+                                                                          Date                  asOfTime)
+    {
+        if (asOfTime != null)
         {
-            if (entity != null)
-            {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
+            return this.getRelationshipsAsOf(relationshipStore.keySet(), relationshipHistoryStore.keySet(), asOfTime);
+        }
 
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
-            }
+        Collection<String>  candidateGUIDs = this.getIndexEntries(relationshipTypeIndex, relationshipTypeGUIDs);
+
+        candidateGUIDs = this.selectSmallest(candidateGUIDs, this.getIndexEntries(relationshipStatusIndex, limitResultsByStatus));
+
+        if (candidateGUIDs == null)
+        {
+            return new ArrayList<>(relationshipStore.values());
         }
 
-        /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
-         */
-        for (EntityDetail oldEntity : entityHistoryStore)
+        return this.getRelationshipsFromStore(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the relationships that are candidates for a search of their property values.  If property values
+     * are indexed and the search criteria requires some literal text of at least three characters, only the
+     * current relationships with every trigram of that text are returned.  Otherwise this returns the same
+     * candidates as getRelationshipCandidatesForTypes().  The caller must still verify each returned relationship
+     * against the type and search criteria.
+     *
+     * @param relationshipTypeGUIDs - unique identifiers of the relationship types, one of which the relationships
+     *                             must have (null means any type)
+     * @param searchCriteriaMatcher - compiled search criteria
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of candidate relationships
+     */
+    protected Collection<Relationship>  getRelationshipCandidatesForSearch(Collection<String>         relationshipTypeGUIDs,
+                                                                           OMRSSearchCriteriaMatcher  searchCriteriaMatcher,
+                                                                           Date                       asOfTime)
+    {
+        Collection<String>  candidateGUIDs = null;
+
+        if (asOfTime == null)
         {
-            if (oldEntity != null)
-            {
-                String entityGUID = oldEntity.getGUID();
+            candidateGUIDs = this.getPropertyValueIndexEntries(relationshipPropertyValueIndex, searchCriteriaMatcher);
+        }
 
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
+        if (candidateGUIDs == null)
+        {
+            return this.getRelationshipCandidatesForTypes(relationshipTypeGUIDs, null, null, null, asOfTime);
+        }
 
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
-                {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
-                }
-            }
+        candidateGUIDs = this.selectSmallest(candidateGUIDs, this.getIndexEntries(relationshipTypeIndex, relationshipTypeGUIDs));
+
+        return this.getRelationshipsFromStore(candidateGUIDs);
+    }
+
+
+    /**
+     * Return the relationships that are linked to the requested entity.  When asOfTime is null, the entity's
+     * adjacency list is used to locate the relationships.  For historical queries, the relationships that have ever
+     * been attached to the entity are resolved to the version effective at that time.  The caller must still
+     * verify that each returned relationship is connected to the entity since its ends may have changed.
+     *
+     * @param entityGUID - unique identifier of the entity
+     * @param asOfTime - time for the query (or null means now)
+     * @return collection of relationships
+     */
+    protected Collection<Relationship>  getRelationshipsForEntity(String  entityGUID,
+                                                                  Date    asOfTime)
+    {
+        if (asOfTime != null)
+        {
+            return this.getRelationshipsAsOf(this.getIndexEntry(entityRelationshipIndex, entityGUID),
+                                             this.getIndexEntry(entityRelationshipHistoryIndex, entityGUID),
+                                             asOfTime);
+        }
+
+        return this.getRelationshipsFromStore(this.getIndexEntry(entityRelationshipIndex, entityGUID));
+    }
+
+
+    /**
+     * Return the version of the entity that was effective at the time supplied in the asOfTime parameter.
+     *
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the lookup (or null means now)
+     * @return entity object or null if the entity did not exist at this time
+     */
+    protected EntityDetail  getEntity(String   guid,
+                                      Date     asOfTime)
+    {
+        EntityDetail  entity = entityStore.get(guid);
+
+        if ((asOfTime == null) || ((entity != null) && (InMemoryOMRSInstanceHistory.isEffectiveAt(entity, asOfTime))))
+        {
+            return entity;
+        }
+
+        InMemoryOMRSInstanceHistory<EntityDetail>  history = entityHistoryStore.get(guid);
+
+        if (history == null)
+        {
+            return null;
         }
 
-        return timeWarpedEntityStore;
+        return history.getVersionAsOf(asOfTime);
     }
 
 
@@ -254,88 +542,33 @@ public class InMemoryOMRSMetadataStore
     }
 
     /**
-     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the version of the relationship that was effective at the time supplied in the asOfTime parameter.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return relationship store for the requested time
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the lookup (or null means now)
+     * @return relationship object or null if the relationship did not exist at this time
      */
-    protected Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    protected Relationship  getRelationship(String   guid,
+                                            Date     asOfTime)
     {
-        if (asOfTime == null)
-        {
-            return relationshipStore;
-        }
+        Relationship  relationship = relationshipStore.get(guid);
 
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
+        if ((asOfTime == null) || ((relationship != null) && (InMemoryOMRSInstanceHistory.isEffectiveAt(relationship, asOfTime))))
         {
-            if (relationship != null)
-            {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
-
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
-            }
+            return relationship;
         }
 
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
-        {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
-
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
+        InMemoryOMRSInstanceHistory<Relationship>  history = relationshipHistoryStore.get(guid);
 
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
-            }
+        if (history == null)
+        {
+            return null;
         }
 
-        return timeWarpedRelationshipStore;
+        return history.getVersionAsOf(asOfTime);
     }
 
+
     /**
      * Create a new entity in the entity store.
      *
@@ -348,12 +581,9 @@ public class InMemoryOMRSMetadataStore
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (! this.putNewEntity(entity))
         {
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
 
         return entity;
@@ -372,12 +602,9 @@ public class InMemoryOMRSMetadataStore
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (! this.putNewRelationship(relationship))
         {
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
         return relationship;
@@ -397,18 +624,15 @@ public class InMemoryOMRSMetadataStore
 
     /**
      * Maintain a history of entities as they are stored into the entity store to ensure old version can be restored.
-     * The history is maintained with the latest changes first in the list.
+     * The history of each entity is ordered by the time each version became effective.
      *
      * @param entity - new version of the entity
      */
     protected void updateEntityInStore(EntityDetail    entity)
     {
-        EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
+        EntityDetail    oldEntity = this.putEntity(entity);
 
-        if (oldEntity != null)
-        {
-            entityHistoryStore.add(0, oldEntity);
-        }
+        this.addEntityToHistory(oldEntity);
     }
 
 
@@ -425,18 +649,15 @@ public class InMemoryOMRSMetadataStore
 
     /**
      * Maintain a history of relationships as they are stored into the relationship store to ensure old version
-     * can be restored.  The history is maintained with the latest changes first in the list.
+     * can be restored.  The history of each relationship is ordered by the time each version became effective.
      *
      * @param relationship - new version of the relationship
      */
     protected void updateRelationshipInStore(Relationship    relationship)
     {
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+        Relationship    oldRelationship = this.putRelationship(relationship);
 
-        if (oldRelationship != null)
-        {
-            relationshipHistoryStore.add(0, oldRelationship);
-        }
+        this.addRelationshipToHistory(oldRelationship);
     }
 
 
@@ -448,7 +669,7 @@ public class InMemoryOMRSMetadataStore
      */
     protected void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        this.putEntity(entity);
     }
 
 
@@ -460,13 +681,14 @@ public class InMemoryOMRSMetadataStore
      */
     protected void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        this.putRelationship(relationship);
     }
 
 
     /**
-     * Retrieve the previous version of a Relationship.  This is the first instance of this element that
-     * appears in the history.
+     * Retrieve the previous version of a Relationship.  This is the most recent version of this element that
+     * undo can restore from the history.  It is given a new version number and update time as it becomes the
+     * current version.  The version it replaces is kept in the history for historical queries.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
@@ -475,35 +697,33 @@ public class InMemoryOMRSMetadataStore
     {
         if (guid != null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
-
-            long versionNumber = 0;
+            InMemoryOMRSInstanceHistory<Relationship>  history = relationshipHistoryStore.get(guid);
 
-            if (currentVersionOfRelationship != null)
+            if (history != null)
             {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
-            }
-
-            int  elementPosition = 0;
+                Relationship  previousVersion = history.removeVersionToRestore();
 
-            for (Relationship relationship : relationshipHistoryStore)
-            {
-                if (relationship != null)
+                if (previousVersion != null)
                 {
-                    if (guid.equals(relationship.getGUID()))
+                    /*
+                     * The restored version is a copy so the version in the history is unchanged.
+                     */
+                    Relationship  relationship = new Relationship(previousVersion);
+                    Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
+
+                    if (currentVersionOfRelationship != null)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        relationship.setVersion(versionNumber);
-                        relationshipHistoryStore.remove(elementPosition);
-                        relationshipStore.put(guid, relationship);
-                        return relationship;
+                        relationship.setVersion(currentVersionOfRelationship.getVersion() + 1);
+                    }
+                    else
+                    {
+                        relationship.setVersion(relationship.getVersion() + 1);
                     }
-                }
 
-                elementPosition ++;
+                    relationship.setUpdateTime(new Date());
+                    this.addUndoneRelationshipToHistory(this.putRelationship(relationship));
+                    return relationship;
+                }
             }
         }
 
@@ -513,7 +733,9 @@ public class InMemoryOMRSMetadataStore
 
     /**
      * Retrieve the previous version of an Entity from the history store and restore it in the entity store.
-     * This is the first instance of this element that appears in the history.
+     * This is the most recent version of this element that undo can restore from the history.  It is given a new
+     * version number and update time as it becomes the current version.  The version it replaces is kept in the
+     * history for historical queries.
      *
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
@@ -522,35 +744,33 @@ public class InMemoryOMRSMetadataStore
     {
         if (guid != null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
-
-            long versionNumber = 0;
+            InMemoryOMRSInstanceHistory<EntityDetail>  history = entityHistoryStore.get(guid);
 
-            if (currentVersionOfEntity != null)
+            if (history != null)
             {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
-            }
-
-            int  elementPosition = 0;
+                EntityDetail  previousVersion = history.removeVersionToRestore();
 
-            for (EntityDetail entity : entityHistoryStore)
-            {
-                if (entity != null)
+                if (previousVersion != null)
                 {
-                    if (guid.equals(entity.getGUID()))
+                    /*
+                     * The restored version is a copy so the version in the history is unchanged.
+                     */
+                    EntityDetail  entity = new EntityDetail(previousVersion);
+                    EntityDetail  currentVersionOfEntity = entityStore.get(guid);
+
+                    if (currentVersionOfEntity != null)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-                        entity.setVersion(versionNumber);
-                        entityHistoryStore.remove(elementPosition);
-                        entityStore.put(guid, entity);
-                        return entity;
+                        entity.setVersion(currentVersionOfEntity.getVersion() + 1);
+                    }
+                    else
+                    {
+                        entity.setVersion(entity.getVersion() + 1);
                     }
-                }
 
-                elementPosition ++;
+                    entity.setUpdateTime(new Date());
+                    this.addUndoneEntityToHistory(this.putEntity(entity));
+                    return entity;
+                }
             }
         }
 
@@ -565,8 +785,14 @@ public class InMemoryOMRSMetadataStore
      */
     protected void removeEntityFromStore(EntityDetail     entity)
     {
-        entityStore.remove(entity.getGUID());
-        entityHistoryStore.add(0, entity);
+        EntityDetail  oldEntity = this.removeEntity(entity.getGUID());
+
+        if (oldEntity != entity)
+        {
+            this.addEntityToHistory(oldEntity);
+        }
+
+        this.addEntityToHistory(entity);
     }
 
 
@@ -577,12 +803,9 @@ public class InMemoryOMRSMetadataStore
      */
     protected void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
+        EntityDetail entity = this.removeEntity(guid);
 
-        if (entity != null)
-        {
-            entityHistoryStore.add(0, entity);
-        }
+        this.addEntityToHistory(entity);
     }
 
 
@@ -604,8 +827,14 @@ public class InMemoryOMRSMetadataStore
      */
     protected void removeRelationshipFromStore(Relationship     relationship)
     {
-        relationshipStore.remove(relationship.getGUID());
-        relationshipHistoryStore.add(0, relationship);
+        Relationship  oldRelationship = this.removeRelationship(relationship.getGUID());
+
+        if (oldRelationship != relationship)
+        {
+            this.addRelationshipToHistory(oldRelationship);
+        }
+
+        this.addRelationshipToHistory(relationship);
     }
 
 
@@ -616,12 +845,886 @@ public class InMemoryOMRSMetadataStore
      */
     protected void removeReferenceRelationshipFromStore(String     guid)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        Relationship  relationship = this.removeRelationship(guid);
 
-        if (relationship != null)
+        this.addRelationshipToHistory(relationship);
+    }
+
+
+    /*
+     * ==============================================================
+     * Maintenance of the version history
+     */
+
+    /**
+     * Add a superseded version of an entity to its history.
+     *
+     * @param entity - old version of the entity (may be null)
+     */
+    private void addEntityToHistory(EntityDetail    entity)
+    {
+        if (entity != null)
+        {
+            entityHistoryStore.compute(entity.getGUID(), (k, history) -> this.addToHistory(history, entity, true));
+        }
+    }
+
+
+    /**
+     * Add the version of an entity that was replaced by an undo to its history.
+     *
+     * @param entity - undone version of the entity (may be null)
+     */
+    private void addUndoneEntityToHistory(EntityDetail    entity)
+    {
+        if (entity != null)
         {
-            relationshipHistoryStore.add(0, relationship);
+            entityHistoryStore.compute(entity.getGUID(), (k, history) -> this.addToHistory(history, entity, false));
         }
     }
 
+
+    /**
+     * Add a superseded version of a relationship to its history and record the relationship against its
+     * entities so it can be found by historical queries.
+     *
+     * @param relationship - old version of the relationship (may be null)
+     */
+    private void addRelationshipToHistory(Relationship    relationship)
+    {
+        this.addRelationshipToHistory(relationship, true);
+    }
+
+
+    /**
+     * Add the version of a relationship that was replaced by an undo to its history.
+     *
+     * @param relationship - undone version of the relationship (may be null)
+     */
+    private void addUndoneRelationshipToHistory(Relationship    relationship)
+    {
+        this.addRelationshipToHistory(relationship, false);
+    }
+
+
+    /**
+     * Add a version of a relationship to its history and record the relationship against its entities so it can
+     * be found by historical queries.
+     *
+     * @param relationship - version of the relationship (may be null)
+     * @param restorable - true if undo can restore this version
+     */
+    private void addRelationshipToHistory(Relationship    relationship,
+                                          boolean         restorable)
+    {
+        if (relationship != null)
+        {
+            String  guid = relationship.getGUID();
+
+            relationshipHistoryStore.compute(guid, (k, history) -> this.addToHistory(history, relationship, restorable));
+
+            if (relationship.getEntityOneProxy() != null)
+            {
+                this.addToIndex(entityRelationshipHistoryIndex, relationship.getEntityOneProxy().getGUID(), guid);
+            }
+
+            if (relationship.getEntityTwoProxy() != null)
+            {
+                this.addToIndex(entityRelationshipHistoryIndex, relationship.getEntityTwoProxy().getGUID(), guid);
+            }
+        }
+    }
+
+
+    /**
+     * Add a version of an instance to its history, creating the history if this is the first superseded version.
+     *
+     * @param history - existing history (may be null)
+     * @param instance - old version of the instance
+     * @param restorable - true if undo can restore this version
+     * @param <T> - type of the instance
+     * @return history
+     */
+    private <T extends InstanceAuditHeader> InMemoryOMRSInstanceHistory<T> addToHistory(InMemoryOMRSInstanceHistory<T>  history,
+                                                                                         T                               instance,
+                                                                                         boolean                         restorable)
+    {
+        InMemoryOMRSInstanceHistory<T>  instanceHistory = history;
+
+        if (instanceHistory == null)
+        {
+            instanceHistory = new InMemoryOMRSInstanceHistory<>();
+        }
+
+        if (restorable)
+        {
+            instanceHistory.addVersion(instance);
+        }
+        else
+        {
+            instanceHistory.addUndoneVersion(instance);
+        }
+
+        return instanceHistory;
+    }
+
+
+    /**
+     * Return the version of every entity that was effective at the requested time.  Each entity is resolved
+     * with a lookup in its own history so only the matching versions are collected.
+     *
+     * @param asOfTime - time for the query
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntitiesAsOf(Date    asOfTime)
+    {
+        List<EntityDetail>  entities = new ArrayList<>();
+
+        for (String  guid : entityStore.keySet())
+        {
+            EntityDetail  entity = this.getEntity(guid, asOfTime);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        for (String  guid : entityHistoryStore.keySet())
+        {
+            if (! entityStore.containsKey(guid))
+            {
+                EntityDetail  entity = this.getEntity(guid, asOfTime);
+
+                if (entity != null)
+                {
+                    entities.add(entity);
+                }
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the version of each of the requested relationships that was effective at the requested time.
+     *
+     * @param currentGUIDs - unique identifiers of relationships in the active store
+     * @param historicGUIDs - unique identifiers of relationships in the history store
+     * @param asOfTime - time for the query
+     * @return list of relationships
+     */
+    private List<Relationship> getRelationshipsAsOf(Set<String>   currentGUIDs,
+                                                    Set<String>   historicGUIDs,
+                                                    Date          asOfTime)
+    {
+        List<Relationship>  relationships = new ArrayList<>();
+
+        for (String  guid : currentGUIDs)
+        {
+            Relationship  relationship = this.getRelationship(guid, asOfTime);
+
+            if (relationship != null)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        for (String  guid : historicGUIDs)
+        {
+            if (! currentGUIDs.contains(guid))
+            {
+                Relationship  relationship = this.getRelationship(guid, asOfTime);
+
+                if (relationship != null)
+                {
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        return relationships;
+    }
+
+
+    /*
+     * ==============================================================
+     * Maintenance of the secondary indexes
+     */
+
+    /**
+     * Put an entity into the active entity store, replacing any existing version, and update the indexes.
+     * The store and index updates are made atomically with respect to other updates to the same entity.
+     *
+     * @param entity - entity to store
+     * @return previous version of the entity (or null)
+     */
+    private EntityDetail putEntity(EntityDetail    entity)
+    {
+        List<EntityDetail>  oldEntity = new ArrayList<>(1);
+
+        entityStore.compute(entity.getGUID(), (guid, currentEntity) ->
+        {
+            this.unindexEntity(currentEntity);
+            this.indexEntity(entity);
+            oldEntity.add(currentEntity);
+            return entity;
+        });
+
+        return oldEntity.get(0);
+    }
+
+
+    /**
+     * Add a new entity to the active entity store and the indexes.
+     *
+     * @param entity - entity to store
+     * @return true if added; false if there is already an entity with this GUID
+     */
+    private boolean putNewEntity(EntityDetail    entity)
+    {
+        return entityStore.computeIfAbsent(entity.getGUID(), guid ->
+        {
+            this.indexEntity(entity);
+            return entity;
+        }) == entity;
+    }
+
+
+    /**
+     * Remove an entity from the active entity store and the indexes.
+     *
+     * @param guid - unique identifier of the entity
+     * @return removed entity (or null if not stored)
+     */
+    private EntityDetail removeEntity(String    guid)
+    {
+        List<EntityDetail>  oldEntity = new ArrayList<>(1);
+
+        entityStore.computeIfPresent(guid, (key, currentEntity) ->
+        {
+            this.unindexEntity(currentEntity);
+            oldEntity.add(currentEntity);
+            return null;
+        });
+
+        if (oldEntity.isEmpty())
+        {
+            return null;
+        }
+
+        return oldEntity.get(0);
+    }
+
+
+    /**
+     * Put a relationship into the active relationship store, replacing any existing version,
+     * and update the indexes.  The store and index updates are made atomically with respect to other
+     * updates to the same relationship.
+     *
+     * @param relationship - relationship to store
+     * @return previous version of the relationship (or null)
+     */
+    private Relationship putRelationship(Relationship    relationship)
+    {
+        List<Relationship>  oldRelationship = new ArrayList<>(1);
+
+        relationshipStore.compute(relationship.getGUID(), (guid, currentRelationship) ->
+        {
+            this.unindexRelationship(currentRelationship);
+            this.indexRelationship(relationship);
+            oldRelationship.add(currentRelationship);
+            return relationship;
+        });
+
+        return oldRelationship.get(0);
+    }
+
+
+    /**
+     * Add a new relationship to the active relationship store and the indexes.
+     *
+     * @param relationship - relationship to store
+     * @return true if added; false if there is already a relationship with this GUID
+     */
+    private boolean putNewRelationship(Relationship    relationship)
+    {
+        return relationshipStore.computeIfAbsent(relationship.getGUID(), guid ->
+        {
+            this.indexRelationship(relationship);
+            return relationship;
+        }) == relationship;
+    }
+
+
+    /**
+     * Remove a relationship from the active relationship store and the indexes.
+     *
+     * @param guid - unique identifier of the relationship
+     * @return removed relationship (or null if not stored)
+     */
+    private Relationship removeRelationship(String    guid)
+    {
+        List<Relationship>  oldRelationship = new ArrayList<>(1);
+
+        relationshipStore.computeIfPresent(guid, (key, currentRelationship) ->
+        {
+            this.unindexRelationship(currentRelationship);
+            oldRelationship.add(currentRelationship);
+            return null;
+        });
+
+        if (oldRelationship.isEmpty())
+        {
+            return null;
+        }
+
+        return oldRelationship.get(0);
+    }
+
+
+    /**
+     * Add the entity to the type, status and classification indexes.
+     *
+     * @param entity - entity to index
+     */
+    private void indexEntity(EntityDetail    entity)
+    {
+        if (entity != null)
+        {
+            String  guid = entity.getGUID();
+
+            this.addToIndex(entityTypeIndex, this.getTypeGUID(entity.getType()), guid);
+            this.addToIndex(entityStatusIndex, entity.getStatus(), guid);
+
+            List<Classification>  classifications = entity.getClassifications();
+
+            if (classifications != null)
+            {
+                for (Classification  classification : classifications)
+                {
+                    if (classification != null)
+                    {
+                        this.addToIndex(entityClassificationIndex, classification.getName(), guid);
+                    }
+                }
+            }
+
+            if (indexPropertyValues)
+            {
+                for (String  gram : this.getPropertyValueGrams(entity.getProperties()))
+                {
+                    this.addToIndex(entityPropertyValueIndex, gram, guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the entity from the type, status and classification indexes.
+     *
+     * @param entity - entity to remove
+     */
+    private void unindexEntity(EntityDetail    entity)
+    {
+        if (entity != null)
+        {
+            String  guid = entity.getGUID();
+
+            this.removeFromIndex(entityTypeIndex, this.getTypeGUID(entity.getType()), guid);
+            this.removeFromIndex(entityStatusIndex, entity.getStatus(), guid);
+
+            List<Classification>  classifications = entity.getClassifications();
+
+            if (classifications != null)
+            {
+                for (Classification  classification : classifications)
+                {
+                    if (classification != null)
+                    {
+                        this.removeFromIndex(entityClassificationIndex, classification.getName(), guid);
+                    }
+                }
+            }
+
+            if (indexPropertyValues)
+            {
+                for (String  gram : this.getPropertyValueGrams(entity.getProperties()))
+                {
+                    this.removeFromIndex(entityPropertyValueIndex, gram, guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add the relationship to the type and status indexes and to the adjacency lists of both of its entities.
+     *
+     * @param relationship - relationship to index
+     */
+    private void indexRelationship(Relationship    relationship)
+    {
+        if (relationship != null)
+        {
+            String  guid = relationship.getGUID();
+
+            this.addToIndex(relationshipTypeIndex, this.getTypeGUID(relationship.getType()), guid);
+            this.addToIndex(relationshipStatusIndex, relationship.getStatus(), guid);
+
+            if (relationship.getEntityOneProxy() != null)
+            {
+                this.addToIndex(entityRelationshipIndex, relationship.getEntityOneProxy().getGUID(), guid);
+            }
+
+            if (relationship.getEntityTwoProxy() != null)
+            {
+                this.addToIndex(entityRelationshipIndex, relationship.getEntityTwoProxy().getGUID(), guid);
+            }
+
+            if (indexPropertyValues)
+            {
+                for (String  gram : this.getPropertyValueGrams(relationship.getProperties()))
+                {
+                    this.addToIndex(relationshipPropertyValueIndex, gram, guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the relationship from the type and status indexes and from the adjacency lists of its entities.
+     *
+     * @param relationship - relationship to remove
+     */
+    private void unindexRelationship(Relationship    relationship)
+    {
+        if (relationship != null)
+        {
+            String  guid = relationship.getGUID();
+
+            this.removeFromIndex(relationshipTypeIndex, this.getTypeGUID(relationship.getType()), guid);
+            this.removeFromIndex(relationshipStatusIndex, relationship.getStatus(), guid);
+
+            if (relationship.getEntityOneProxy() != null)
+            {
+                this.removeFromIndex(entityRelationshipIndex, relationship.getEntityOneProxy().getGUID(), guid);
+            }
+
+            if (relationship.getEntityTwoProxy() != null)
+            {
+                this.removeFromIndex(entityRelationshipIndex, relationship.getEntityTwoProxy().getGUID(), guid);
+            }
+
+            if (indexPropertyValues)
+            {
+                for (String  gram : this.getPropertyValueGrams(relationship.getProperties()))
+                {
+                    this.removeFromIndex(relationshipPropertyValueIndex, gram, guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the distinct trigrams of the string and enum values in the properties, including those nested in
+     * struct, array and map values.  These are the values tested by a search for property values.
+     *
+     * @param properties - properties of an instance (may be null)
+     * @return set of trigrams
+     */
+    private Set<String> getPropertyValueGrams(InstanceProperties   properties)
+    {
+        Set<String>  grams = new HashSet<>();
+
+        this.addPropertyValueGrams(properties, grams);
+
+        return grams;
+    }
+
+
+    /**
+     * Add the trigrams of the string and enum values in the properties to the set.
+     *
+     * @param properties - properties to index (may be null)
+     * @param grams - set of trigrams to add to
+     */
+    private void addPropertyValueGrams(InstanceProperties   properties,
+                                       Set<String>          grams)
+    {
+        if (properties == null)
+        {
+            return;
+        }
+
+        Iterator<String>  propertyNames = properties.getPropertyNames();
+
+        while (propertyNames.hasNext())
+        {
+            InstancePropertyValue  propertyValue = properties.getPropertyValue(propertyNames.next());
+
+            if ((propertyValue == null) || (propertyValue.getInstancePropertyCategory() == null))
+            {
+                continue;
+            }
+
+            switch (propertyValue.getInstancePropertyCategory())
+            {
+                case PRIMITIVE:
+                    PrimitivePropertyValue  primitivePropertyValue = (PrimitivePropertyValue)propertyValue;
+
+                    if ((primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                        (primitivePropertyValue.getPrimitiveValue() instanceof String))
+                    {
+                        this.addGrams((String)primitivePropertyValue.getPrimitiveValue(), grams);
+                    }
+                    break;
+
+                case ENUM:
+                    this.addGrams(((EnumPropertyValue)propertyValue).getSymbolicName(), grams);
+                    break;
+
+                case STRUCT:
+                    this.addPropertyValueGrams(((StructPropertyValue)propertyValue).getAttributes(), grams);
+                    break;
+
+                case ARRAY:
+                    this.addPropertyValueGrams(((ArrayPropertyValue)propertyValue).getArrayValues(), grams);
+                    break;
+
+                case MAP:
+                    this.addPropertyValueGrams(((MapPropertyValue)propertyValue).getMapValues(), grams);
+                    break;
+            }
+        }
+    }
+
+
+    /**
+     * Add every trigram of the value to the set.
+     *
+     * @param value - string value (may be null)
+     * @param grams - set of trigrams to add to
+     */
+    private void addGrams(String        value,
+                          Set<String>   grams)
+    {
+        if (value != null)
+        {
+            for (int i = 0; i + propertyValueGramSize <= value.length(); i++)
+            {
+                grams.add(value.substring(i, i + propertyValueGramSize));
+            }
+        }
+    }
+
+
+    /**
+     * Return the GUIDs of the instances that have every trigram of the text that the search criteria requires.
+     * The posting sets are intersected starting from the smallest.
+     *
+     * @param index - property value index to query
+     * @param searchCriteriaMatcher - compiled search criteria (may be null)
+     * @return set of GUIDs or null if the index can not narrow the search
+     */
+    private Collection<String> getPropertyValueIndexEntries(Map<String, Set<String>>    index,
+                                                            OMRSSearchCriteriaMatcher   searchCriteriaMatcher)
+    {
+        if ((! indexPropertyValues) || (searchCriteriaMatcher == null))
+        {
+            return null;
+        }
+
+        String  requiredText = searchCriteriaMatcher.getRequiredText();
+
+        if ((requiredText == null) || (requiredText.length() < propertyValueGramSize))
+        {
+            return null;
+        }
+
+        Set<String>        requiredGrams = new HashSet<>();
+        List<Set<String>>  postings      = new ArrayList<>();
+
+        this.addGrams(requiredText, requiredGrams);
+
+        for (String  gram : requiredGrams)
+        {
+            Set<String>  guids = index.get(gram);
+
+            if (guids == null)
+            {
+                return Collections.emptySet();
+            }
+
+            postings.add(guids);
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<String>  candidateGUIDs = new HashSet<>();
+
+        for (String  guid : postings.get(0))
+        {
+            boolean  inAllPostings = true;
+
+            for (int i = 1; (i < postings.size()) && inAllPostings; i++)
+            {
+                inAllPostings = postings.get(i).contains(guid);
+            }
+
+            if (inAllPostings)
+            {
+                candidateGUIDs.add(guid);
+            }
+        }
+
+        return candidateGUIDs;
+    }
+
+
+    /**
+     * Return the type GUID from an instance type.
+     *
+     * @param instanceType - type of an instance (may be null)
+     * @return unique identifier of the type or null
+     */
+    private String getTypeGUID(InstanceType   instanceType)
+    {
+        if (instanceType != null)
+        {
+            return instanceType.getTypeDefGUID();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add an instance GUID to the set of GUIDs stored under the key.  The update is atomic with respect to
+     * other updates to the same key.
+     *
+     * @param index - index to update
+     * @param key - index key (null keys are not indexed)
+     * @param guid - unique identifier of the instance
+     * @param <K> - type of the index key
+     */
+    private <K> void addToIndex(Map<K, Set<String>>   index,
+                                K                     key,
+                                String                guid)
+    {
+        if ((key != null) && (guid != null))
+        {
+            index.compute(key, (k, guids) ->
+            {
+                Set<String>  indexEntry = guids;
+
+                if (indexEntry == null)
+                {
+                    indexEntry = ConcurrentHashMap.newKeySet();
+                }
+
+                indexEntry.add(guid);
+                return indexEntry;
+            });
+        }
+    }
+
+
+    /**
+     * Remove an instance GUID from the set of GUIDs stored under the key.  Empty sets are removed from
+     * the index.  The update is atomic with respect to other updates to the same key.
+     *
+     * @param index - index to update
+     * @param key - index key
+     * @param guid - unique identifier of the instance
+     * @param <K> - type of the index key
+     */
+    private <K> void removeFromIndex(Map<K, Set<String>>   index,
+                                     K                     key,
+                                     String                guid)
+    {
+        if ((key != null) && (guid != null))
+        {
+            index.computeIfPresent(key, (k, guids) ->
+            {
+                guids.remove(guid);
+                return guids.isEmpty() ? null : guids;
+            });
+        }
+    }
+
+
+    /**
+     * Return the set of instance GUIDs stored under a key.
+     *
+     * @param index - index to query
+     * @param key - index key
+     * @param <K> - type of the index key
+     * @return set of GUIDs (empty if none)
+     */
+    private <K> Set<String> getIndexEntry(Map<K, Set<String>>   index,
+                                          K                     key)
+    {
+        Set<String>  guids = index.get(key);
+
+        if (guids == null)
+        {
+            return Collections.emptySet();
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the type restriction for a query on a single type.
+     *
+     * @param typeGUID - unique identifier of the type (null means any type)
+     * @return list of type identifiers or null if there is no restriction
+     */
+    private List<String> getTypeGUIDs(String   typeGUID)
+    {
+        if (typeGUID == null)
+        {
+            return null;
+        }
+
+        return Collections.singletonList(typeGUID);
+    }
+
+
+    /**
+     * Return the union of the instance GUIDs stored under any of the keys.  A single key returns the index
+     * entry without copying it.
+     *
+     * @param index - index to query
+     * @param keys - keys (null means no restriction)
+     * @param <K> - type of the index key
+     * @return set of GUIDs or null if no keys were supplied
+     */
+    private <K> Collection<String> getIndexEntries(Map<K, Set<String>>   index,
+                                                   Collection<K>         keys)
+    {
+        if (keys == null)
+        {
+            return null;
+        }
+
+        if (keys.size() == 1)
+        {
+            K  key = keys.iterator().next();
+
+            if (key != null)
+            {
+                return this.getIndexEntry(index, key);
+            }
+        }
+
+        Set<String>  guids = new HashSet<>();
+
+        for (K  key : keys)
+        {
+            if (key != null)
+            {
+                guids.addAll(this.getIndexEntry(index, key));
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the smaller of two candidate sets.  A null set means "unrestricted".
+     *
+     * @param currentCandidates - current candidate set
+     * @param newCandidates - alternative candidate set
+     * @return the most selective set
+     */
+    private Collection<String> selectSmallest(Collection<String>   currentCandidates,
+                                              Collection<String>   newCandidates)
+    {
+        if (currentCandidates == null)
+        {
+            return newCandidates;
+        }
+
+        if ((newCandidates != null) && (newCandidates.size() < currentCandidates.size()))
+        {
+            return newCandidates;
+        }
+
+        return currentCandidates;
+    }
+
+
+    /**
+     * Return the current versions of the requested entities.
+     *
+     * @param guids - unique identifiers of the entities
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntitiesFromStore(Collection<String>   guids)
+    {
+        List<EntityDetail>  entities = new ArrayList<>(guids.size());
+
+        for (String  guid : guids)
+        {
+            EntityDetail  entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the current versions of the requested relationships.
+     *
+     * @param guids - unique identifiers of the relationships
+     * @return list of relationships
+     */
+    private List<Relationship> getRelationshipsFromStore(Collection<String>   guids)
+    {
+        List<Relationship>  relationships = new ArrayList<>(guids.size());
+
+        for (String  guid : guids)
+        {
+            Relationship  relationship = relationshipStore.get(guid);
+
+            if (relationship != null)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Return the lock for the stripe that covers the instance GUID.
+     *
+     * @param guid - unique identifier of an instance
+     * @return lock
+     */
+    private ReentrantLock getInstanceLock(String   guid)
+    {
+        int  hash = 0;
+
+        if (guid != null)
+        {
+            hash = guid.hashCode();
+        }
+
+        return instanceLocks[(hash ^ (hash >>> 16)) & (instanceLockCount - 1)];
+    }
 }
@@ -2,15 +2,20 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
- * other members of connected open metadata repository cohorts.
+ * other members of connected open metadata repository cohorts.  Searches of the property values can be
+ * supported by an index that is turned on with the indexPropertyValues additional property.
  */
 public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    private boolean  indexPropertyValues = false;
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -22,6 +27,31 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
     }
 
 
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+        if (additionalProperties != null)
+        {
+            Object indexPropertyValuesProperty = additionalProperties.getProperty(InMemoryOMRSRepositoryConnectorProvider.indexPropertyValuesPropertyName);
+
+            if (indexPropertyValuesProperty != null)
+            {
+                indexPropertyValues = Boolean.parseBoolean(indexPropertyValuesProperty.toString());
+            }
+        }
+    }
+
+
     /**
      * Set up the unique Id for this metadata collection.
      *
@@ -40,7 +70,8 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                           super.serverName,
                                                                           repositoryHelper,
                                                                           repositoryValidator,
-                                                                          metadataCollectionId);
+                                                                          metadataCollectionId,
+                                                                          new InMemoryOMRSMetadataStore(indexPropertyValues));
         }
     }
 }
\ No newline at end of file
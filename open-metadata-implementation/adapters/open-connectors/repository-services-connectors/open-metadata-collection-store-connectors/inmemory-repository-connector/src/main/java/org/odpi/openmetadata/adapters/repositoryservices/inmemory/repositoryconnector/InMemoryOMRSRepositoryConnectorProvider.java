@@ -21,6 +21,12 @@ public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConne
     static final String  connectorTypeName = "OMRS In Memory Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses an in-memory store.";
 
+    /*
+     * Name of the additional property in the connection that turns on the index of string and enum property
+     * values used by the find...ByPropertyValue searches.  Set it to "true" to enable the index.
+     */
+    public static final String  indexPropertyValuesPropertyName = "indexPropertyValues";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -0,0 +1,284 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the neighborhood, related entity and linking entity queries of InMemoryOMRSInstanceGraphTraversal.  The
+ * test on a large randomly connected store is in the "large" group, which is only run with the large-tests profile.
+ */
+public class InMemoryOMRSInstanceGraphTraversalTest
+{
+    private static final String assetTypeGUID      = "896d14c2-7522-4f6c-8519-757711943fe6";
+    private static final String glossaryTypeGUID   = "36f66863-9726-4b41-97ee-714fd0dc6fe4";
+    private static final String attachmentTypeGUID = "4efd16d4-f397-449c-a75d-ebea42fe581b";
+
+    private static final int    largeEntityCount       = 100000;
+    private static final int    largeRelationshipCount = 300000;
+
+
+    private EntityDetail getEntity(String  guid,
+                                   String  typeGUID)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefGUID(typeGUID);
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        return entity;
+    }
+
+
+    private void addRelationship(InMemoryOMRSMetadataStore  store,
+                                 String                     guid,
+                                 String                     entityOneGUID,
+                                 String                     entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        type.setTypeDefGUID(attachmentTypeGUID);
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        store.createRelationshipInStore(relationship);
+    }
+
+
+    /**
+     * Build the graph:
+     * <pre>
+     *   e1 - e2 - e4 - e7
+     *   e1 - e3 - e4
+     *   e1 - e5 - e6 - e4
+     *   e8 (not connected)
+     * </pre>
+     * e3 is a glossary, the rest are assets.
+     */
+    private InMemoryOMRSMetadataStore getStore()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        for (int i = 1; i <= 8; i++)
+        {
+            store.createEntityInStore(getEntity("e" + i, (i == 3) ? glossaryTypeGUID : assetTypeGUID));
+        }
+
+        addRelationship(store, "r12", "e1", "e2");
+        addRelationship(store, "r13", "e1", "e3");
+        addRelationship(store, "r15", "e1", "e5");
+        addRelationship(store, "r24", "e2", "e4");
+        addRelationship(store, "r34", "e4", "e3");
+        addRelationship(store, "r56", "e5", "e6");
+        addRelationship(store, "r64", "e6", "e4");
+        addRelationship(store, "r47", "e4", "e7");
+
+        return store;
+    }
+
+
+    private InMemoryOMRSInstanceGraphTraversal getTraversal(InMemoryOMRSMetadataStore  store,
+                                                            String                     entityTypeGUID,
+                                                            int                        maxEntities)
+    {
+        return new InMemoryOMRSInstanceGraphTraversal(store,
+                                                      null,
+                                                      relationship -> true,
+                                                      entity -> (entityTypeGUID == null) ||
+                                                                (entityTypeGUID.equals(entity.getType().getTypeDefGUID())),
+                                                      maxEntities);
+    }
+
+
+    private Set<String> getGUIDs(Collection<? extends InstanceHeader>   instances)
+    {
+        Set<String>  guids = new HashSet<>();
+
+        for (InstanceHeader  instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    @Test public void testNeighborhood()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+        EntityDetail              e1    = store.getEntity("e1");
+
+        InstanceGraph graph = getTraversal(store, null, 1000).getNeighborhood(e1, 1);
+
+        assertEquals(getGUIDs(graph.getEntities()), new HashSet<>(Arrays.asList("e1", "e2", "e3", "e5")));
+        assertEquals(getGUIDs(graph.getRelationships()), new HashSet<>(Arrays.asList("r12", "r13", "r15")));
+
+        graph = getTraversal(store, null, 1000).getNeighborhood(e1, 2);
+
+        assertEquals(getGUIDs(graph.getEntities()), new HashSet<>(Arrays.asList("e1", "e2", "e3", "e4", "e5", "e6")));
+        assertEquals(getGUIDs(graph.getRelationships()),
+                     new HashSet<>(Arrays.asList("r12", "r13", "r15", "r24", "r34", "r56")));
+
+        assertEquals(getGUIDs(getTraversal(store, null, 1000).getNeighborhood(e1, 0).getEntities()),
+                     Collections.singleton("e1"));
+
+        /*
+         * The glossary is not walked through and the result is capped.
+         */
+        graph = getTraversal(store, assetTypeGUID, 1000).getNeighborhood(e1, 2);
+
+        assertEquals(getGUIDs(graph.getEntities()), new HashSet<>(Arrays.asList("e1", "e2", "e4", "e5", "e6")));
+        InMemoryOMRSInstanceGraphTraversal traversal = getTraversal(store, null, 1000);
+
+        traversal.getNeighborhood(e1, 5);
+        assertFalse(traversal.isLimitReached());
+
+        traversal = getTraversal(store, null, 3);
+
+        assertEquals(traversal.getNeighborhood(e1, 5).getEntities().size(), 3);
+        assertTrue(traversal.isLimitReached());
+    }
+
+
+    @Test public void testRelatedEntities()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+        EntityDetail              e1    = store.getEntity("e1");
+
+        List<EntityDetail> relatedEntities = getTraversal(store, null, 1000).getRelatedEntities(e1, entity -> true);
+
+        assertEquals(getGUIDs(relatedEntities), new HashSet<>(Arrays.asList("e2", "e3", "e4", "e5", "e6", "e7")));
+        assertEquals(relatedEntities.get(relatedEntities.size() - 1).getGUID(), "e7");
+
+        relatedEntities = getTraversal(store, null, 1000).getRelatedEntities(e1,
+                                                                             entity -> glossaryTypeGUID.equals(entity.getType().getTypeDefGUID()));
+        assertEquals(getGUIDs(relatedEntities), Collections.singleton("e3"));
+
+        assertTrue(getTraversal(store, null, 1000).getRelatedEntities(store.getEntity("e8"), entity -> true).isEmpty());
+
+        InMemoryOMRSInstanceGraphTraversal traversal = getTraversal(store, null, 3);
+
+        assertEquals(traversal.getRelatedEntities(e1, entity -> true).size(), 2);
+        assertTrue(traversal.isLimitReached());
+    }
+
+
+    @Test public void testLinkingEntities()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+        EntityDetail              e1    = store.getEntity("e1");
+        EntityDetail              e4    = store.getEntity("e4");
+
+        /*
+         * Both shortest paths are returned but not the longer path through e5 and e6.
+         */
+        InstanceGraph graph = getTraversal(store, null, 1000).getLinkingGraph(e1, e4);
+
+        assertEquals(getGUIDs(graph.getEntities()), new HashSet<>(Arrays.asList("e1", "e2", "e3", "e4")));
+        assertEquals(getGUIDs(graph.getRelationships()), new HashSet<>(Arrays.asList("r12", "r13", "r24", "r34")));
+
+        graph = getTraversal(store, assetTypeGUID, 1000).getLinkingGraph(e1, store.getEntity("e7"));
+
+        assertEquals(getGUIDs(graph.getEntities()), new HashSet<>(Arrays.asList("e1", "e2", "e4", "e7")));
+        assertEquals(getGUIDs(graph.getRelationships()), new HashSet<>(Arrays.asList("r12", "r24", "r47")));
+
+        graph = getTraversal(store, null, 1000).getLinkingGraph(store.getEntity("e6"), store.getEntity("e3"));
+
+        assertEquals(getGUIDs(graph.getEntities()), new HashSet<>(Arrays.asList("e6", "e4", "e3")));
+
+        assertEquals(getGUIDs(getTraversal(store, null, 1000).getLinkingGraph(e1, e1).getEntities()),
+                     Collections.singleton("e1"));
+
+        /*
+         * Entities that are not connected are told apart from a search that gave up.
+         */
+        InMemoryOMRSInstanceGraphTraversal traversal = getTraversal(store, null, 1000);
+
+        assertNull(traversal.getLinkingGraph(e1, store.getEntity("e8")));
+        assertFalse(traversal.isLimitReached());
+
+        traversal = getTraversal(store, null, 3);
+
+        assertNull(traversal.getLinkingGraph(e1, store.getEntity("e7")));
+        assertTrue(traversal.isLimitReached());
+    }
+
+
+    @Test(groups = "large")
+    public void testLargeGraph()
+    {
+        InMemoryOMRSMetadataStore store  = new InMemoryOMRSMetadataStore();
+        Random                    random = new Random(42);
+
+        for (int i = 0; i < largeEntityCount; i++)
+        {
+            store.createEntityInStore(getEntity("e" + i, assetTypeGUID));
+        }
+
+        for (int i = 0; i < largeRelationshipCount; i++)
+        {
+            addRelationship(store, "r" + i, "e" + random.nextInt(largeEntityCount), "e" + random.nextInt(largeEntityCount));
+        }
+
+        EntityDetail startEntity   = store.getEntity("e0");
+        int          previousCount = 0;
+
+        for (int level = 1; level <= 5; level++)
+        {
+            InMemoryOMRSInstanceGraphTraversal traversal = getTraversal(store, null, largeEntityCount);
+            InstanceGraph                      graph     = traversal.getNeighborhood(startEntity, level);
+
+            assertFalse(traversal.isLimitReached());
+            assertTrue(graph.getEntities().size() > previousCount);
+            assertTrue(graph.getRelationships().size() >= graph.getEntities().size() - 1);
+
+            previousCount = graph.getEntities().size();
+        }
+
+        /*
+         * Every entity is reached by a search for related entities unless the limit stops it.
+         */
+        InMemoryOMRSInstanceGraphTraversal traversal = getTraversal(store, null, largeEntityCount + 1);
+        int                                reached   = traversal.getRelatedEntities(startEntity, entity -> true).size();
+
+        assertFalse(traversal.isLimitReached());
+        assertTrue(reached > previousCount);
+        assertTrue(reached < largeEntityCount);
+
+        traversal = getTraversal(store, null, 1000);
+
+        assertTrue(traversal.getRelatedEntities(startEntity, entity -> true).size() < 1000);
+        assertTrue(traversal.isLimitReached());
+
+        traversal = getTraversal(store, null, largeEntityCount);
+
+        InstanceGraph graph = traversal.getLinkingGraph(startEntity, store.getEntity("e" + (largeEntityCount - 1)));
+
+        assertFalse(traversal.isLimitReached());
+        assertNotNull(graph);
+        assertTrue(graph.getEntities().size() >= 2);
+        assertTrue(graph.getRelationships().size() >= graph.getEntities().size() - 1);
+    }
+}
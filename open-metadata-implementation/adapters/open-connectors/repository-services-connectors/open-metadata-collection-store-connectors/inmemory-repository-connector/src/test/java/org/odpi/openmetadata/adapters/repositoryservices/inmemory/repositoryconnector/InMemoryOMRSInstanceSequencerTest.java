@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that InMemoryOMRSInstanceSequencer orders results and returns pages that together make up the full
+ * ordered results, whatever order the results are supplied in.
+ */
+public class InMemoryOMRSInstanceSequencerTest
+{
+    private static final String propertyName = "sequence";
+
+
+    private EntityDetail getEntity(String  guid,
+                                   Object  propertyValue,
+                                   long    createTime,
+                                   Long    updateTime)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setCreateTime(new Date(createTime));
+
+        if (updateTime != null)
+        {
+            entity.setUpdateTime(new Date(updateTime));
+        }
+
+        if (propertyValue != null)
+        {
+            InstanceProperties      properties = new InstanceProperties();
+            PrimitivePropertyValue  value      = new PrimitivePropertyValue();
+
+            value.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_UNKNOWN);
+            value.setPrimitiveValue(propertyValue);
+            properties.setProperty(propertyName, value);
+            entity.setProperties(properties);
+        }
+
+        return entity;
+    }
+
+
+    private InMemoryOMRSInstanceSequencer<EntityDetail> getSequencer(String           sequencingProperty,
+                                                                     SequencingOrder  sequencingOrder)
+    {
+        return new InMemoryOMRSInstanceSequencer<>(sequencingProperty, sequencingOrder, EntityDetail::getProperties);
+    }
+
+
+    private List<String> getGUIDs(List<EntityDetail>   entities)
+    {
+        List<String>  guids = new ArrayList<>();
+
+        for (EntityDetail  entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return 50 entities with only 5 distinct property values so that most comparisons are ties.
+     */
+    private List<EntityDetail> getEntities()
+    {
+        List<EntityDetail>  entities = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++)
+        {
+            entities.add(getEntity(String.format("guid%02d", i), (i * 7) % 5, 1000 + (i % 3), null));
+        }
+
+        return entities;
+    }
+
+
+    @Test public void testPageSize()
+    {
+        List<EntityDetail>  entities = getEntities();
+
+        for (SequencingOrder  order : SequencingOrder.values())
+        {
+            InMemoryOMRSInstanceSequencer<EntityDetail>  sequencer = getSequencer(propertyName, order);
+
+            assertEquals(sequencer.getPage(entities, 0, 10).size(), 10);
+            assertEquals(sequencer.getPage(entities, 45, 10).size(), 5);
+            assertEquals(sequencer.getPage(entities, 0, 0).size(), 50);
+            assertEquals(sequencer.getPage(entities, 10, 0).size(), 40);
+            assertTrue(sequencer.getPage(entities, 50, 10).isEmpty());
+            assertEquals(sequencer.getPage(entities, 1, Integer.MAX_VALUE).size(), 49);
+        }
+
+        Collections.shuffle(entities, new Random(3));
+
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.ANY).getPage(entities, 10, 2)),
+                     Arrays.asList("guid10", "guid11"));
+        assertEquals(getGUIDs(getSequencer(null, null).getPage(entities, 10, 2)),
+                     Arrays.asList("guid10", "guid11"));
+    }
+
+
+    @Test public void testPagesStableAcrossCalls()
+    {
+        List<EntityDetail>  entities = getEntities();
+        Random              random   = new Random(7);
+
+        for (SequencingOrder  order : SequencingOrder.values())
+        {
+            InMemoryOMRSInstanceSequencer<EntityDetail>  sequencer = getSequencer(propertyName, order);
+
+            List<String>  fullOrder = getGUIDs(sequencer.getPage(entities, 0, 0));
+
+            for (int pageSize : new int[] { 1, 3, 7, 50 })
+            {
+                List<String>  pagedOrder = new ArrayList<>();
+
+                for (int fromElement = 0; fromElement < entities.size(); fromElement += pageSize)
+                {
+                    /*
+                     * Each page request sees the results in a different order.
+                     */
+                    Collections.shuffle(entities, random);
+                    pagedOrder.addAll(getGUIDs(sequencer.getPage(entities, fromElement, pageSize)));
+                }
+
+                assertEquals(pagedOrder, fullOrder, order + " with page size " + pageSize);
+            }
+        }
+    }
+
+
+    @Test public void testPropertyOrder()
+    {
+        List<EntityDetail>  entities = Arrays.asList(getEntity("a", 3L, 0, null),
+                                                     getEntity("b", null, 0, null),
+                                                     getEntity("c", 2.5, 0, null),
+                                                     getEntity("d", 10, 0, null),
+                                                     getEntity("e", 3, 0, null));
+
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_ASCENDING).getPage(entities, 0, 0)),
+                     Arrays.asList("c", "a", "e", "d", "b"));
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_DESCENDING).getPage(entities, 0, 0)),
+                     Arrays.asList("d", "a", "e", "c", "b"));
+        assertEquals(getGUIDs(getSequencer(propertyName, null).getPage(entities, 0, 2)), Arrays.asList("c", "a"));
+
+        entities = Arrays.asList(getEntity("a", "Order", 0, null),
+                                 getEntity("b", "Customer", 0, null),
+                                 getEntity("c", new Date(5000), 0, null),
+                                 getEntity("d", new Date(1000), 0, null));
+
+        /*
+         * Strings sort before dates.
+         */
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_ASCENDING).getPage(entities, 0, 0)),
+                     Arrays.asList("b", "a", "d", "c"));
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_DESCENDING).getPage(entities, 0, 2)),
+                     Arrays.asList("c", "d"));
+
+        /*
+         * Numbers sort before strings, so the order is consistent even though "10" is before "5" and 5 is before 10.
+         */
+        entities = Arrays.asList(getEntity("a", "5", 0, null),
+                                 getEntity("b", 10, 0, null),
+                                 getEntity("c", true, 0, null),
+                                 getEntity("d", "10", 0, null),
+                                 getEntity("e", 9, 0, null),
+                                 getEntity("f", new Date(1000), 0, null));
+
+        List<String>  ascending = Arrays.asList("e", "b", "d", "a", "f", "c");
+
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_ASCENDING).getPage(entities, 0, 0)),
+                     ascending);
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_ASCENDING).getPage(entities, 0, 3)),
+                     ascending.subList(0, 3));
+        assertEquals(getGUIDs(getSequencer(propertyName, SequencingOrder.PROPERTY_DESCENDING).getPage(entities, 0, 3)),
+                     Arrays.asList("c", "f", "a"));
+    }
+
+
+    @Test public void testTimeAndGUIDOrder()
+    {
+        List<EntityDetail>  entities = Arrays.asList(getEntity("c", null, 2000, null),
+                                                     getEntity("a", null, 1000, 5000L),
+                                                     getEntity("b", null, 3000, null));
+
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.CREATION_DATE_RECENT).getPage(entities, 0, 0)),
+                     Arrays.asList("b", "c", "a"));
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.CREATION_DATE_OLDEST).getPage(entities, 0, 0)),
+                     Arrays.asList("a", "c", "b"));
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.LAST_UPDATE_RECENT).getPage(entities, 0, 2)),
+                     Arrays.asList("a", "b"));
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.LAST_UPDATE_OLDEST).getPage(entities, 0, 2)),
+                     Arrays.asList("c", "b"));
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.GUID).getPage(entities, 1, 2)),
+                     Arrays.asList("b", "c"));
+        assertEquals(getGUIDs(getSequencer(null, SequencingOrder.PROPERTY_ASCENDING).getPage(entities, 0, 0)),
+                     Arrays.asList("a", "b", "c"));
+    }
+}
@@ -0,0 +1,225 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Drive the InMemoryOMRSMetadataStore from several threads at once, mixing read-modify-write updates made under
+ * the instance locks with index based queries.  The test checks that no updates are lost, that the queries never
+ * fail and that the indexes match the store once the threads have finished.  The throughput test is timing
+ * sensitive so it is in the "large" group, which is only run with the large-tests profile.
+ */
+public class InMemoryOMRSMetadataStoreStressTest
+{
+    private static final String assetTypeGUID       = "896d14c2-7522-4f6c-8519-757711943fe6";
+    private static final String confidentialityName = "Confidentiality";
+    private static final int    entityCount         = 200;
+    private static final int    operationsPerThread = 20000;
+    private static final double scalingFactor       = 0.5;
+
+
+    private InMemoryOMRSMetadataStore getStore()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        for (int i = 0; i < entityCount; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+            InstanceType type   = new InstanceType();
+
+            type.setTypeDefGUID(assetTypeGUID);
+
+            entity.setGUID("entity-" + i);
+            entity.setType(type);
+            entity.setStatus(InstanceStatus.ACTIVE);
+            entity.setVersion(0);
+
+            store.createEntityInStore(entity);
+        }
+
+        return store;
+    }
+
+
+    /**
+     * Update the version of an entity and toggle its classification under the instance lock, in the same way
+     * that the metadata collection updates an entity.
+     *
+     * @param store - store to update
+     * @param guid - entity to update
+     */
+    private void updateEntity(InMemoryOMRSMetadataStore store,
+                              String                    guid)
+    {
+        store.lockInstance(guid);
+        try
+        {
+            EntityDetail entity        = store.getEntity(guid);
+            EntityDetail updatedEntity = new EntityDetail(entity);
+
+            updatedEntity.setVersion(entity.getVersion() + 1);
+
+            if (entity.getClassifications() == null)
+            {
+                Classification classification = new Classification();
+
+                classification.setName(confidentialityName);
+                updatedEntity.setClassifications(Collections.singletonList(classification));
+            }
+            else
+            {
+                updatedEntity.setClassifications(null);
+            }
+
+            store.updateEntityInStore(updatedEntity);
+        }
+        finally
+        {
+            store.unlockInstance(guid);
+        }
+    }
+
+
+    /**
+     * Run the workload on the requested number of threads.
+     *
+     * @param store - store to drive
+     * @param threadCount - number of threads
+     * @return operations per second across all of the threads
+     * @throws Exception - a thread failed
+     */
+    private double runWorkload(InMemoryOMRSMetadataStore store,
+                             int                       threadCount) throws Exception
+    {
+        ExecutorService         executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch          start    = new CountDownLatch(1);
+        List<Future<?>>         results  = new ArrayList<>();
+
+        for (int t = 0; t < threadCount; t++)
+        {
+            final int seed = t;
+
+            results.add(executor.submit(() ->
+            {
+                Random random = new Random(seed);
+
+                start.await();
+
+                for (int i = 0; i < operationsPerThread; i++)
+                {
+                    String guid = "entity-" + random.nextInt(entityCount);
+
+                    if (i % 4 == 0)
+                    {
+                        this.updateEntity(store, guid);
+                    }
+                    else if (i % 4 == 1)
+                    {
+                        for (EntityDetail entity : store.getEntityCandidates(null,
+                                                                             null,
+                                                                             Collections.singletonList(confidentialityName),
+                                                                             null,
+                                                                             null,
+                                                                             null))
+                        {
+                            assertNotNull(entity.getGUID());
+                        }
+                    }
+                    else
+                    {
+                        assertNotNull(store.getEntity(guid));
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+
+        start.countDown();
+
+        for (Future<?> result : results)
+        {
+            result.get();
+        }
+
+        long elapsedTime = System.nanoTime() - startTime;
+
+        executor.shutdown();
+
+        return (double) threadCount * operationsPerThread * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedTime);
+    }
+
+
+    @Test public void testConcurrentUpdates() throws Exception
+    {
+        int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        for (int threadCount = 1; threadCount <= maxThreads; threadCount = threadCount * 2)
+        {
+            InMemoryOMRSMetadataStore store = getStore();
+
+            runWorkload(store, threadCount);
+
+            /*
+             * Every update increments the version by one so no updates must be lost.  The classification
+             * index must match the classifications of the current versions.
+             */
+            long totalVersions   = 0;
+            int  classifiedCount = 0;
+
+            for (EntityDetail entity : store.getEntities())
+            {
+                totalVersions += entity.getVersion();
+
+                if (entity.getClassifications() != null)
+                {
+                    classifiedCount++;
+                }
+            }
+
+            assertEquals(totalVersions, (long) threadCount * ((operationsPerThread + 3) / 4));
+            assertEquals(store.getEntityCandidates(null, null, Collections.singletonList(confidentialityName), null, null, null).size(),
+                         classifiedCount);
+            assertEquals(store.getEntityCandidates(assetTypeGUID, null, null, null, null, null).size(), entityCount);
+        }
+    }
+
+
+    /**
+     * The instance locks are striped so the throughput must grow with the number of threads, up to the number of
+     * processors, rather than collapse under contention.
+     *
+     * @throws Exception - a thread failed
+     */
+    @Test(groups = "large")
+    public void testThroughputScales() throws Exception
+    {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int maxThreads = Math.max(2, processors);
+
+        /*
+         * Warm up the JIT before the single thread is measured.
+         */
+        runWorkload(getStore(), 1);
+
+        double singleThreadThroughput = runWorkload(getStore(), 1);
+        double concurrentThroughput   = runWorkload(getStore(), maxThreads);
+        double expectedThroughput     = scalingFactor * Math.min(maxThreads, processors) * singleThreadThroughput;
+
+        assertTrue(concurrentThroughput >= expectedThroughput,
+                   "Throughput with " + maxThreads + " threads was " + (long) concurrentThroughput +
+                   " ops/sec, expected at least " + (long) expectedThroughput + " ops/sec (single thread " +
+                   (long) singleThreadThroughput + " ops/sec)");
+    }
+}
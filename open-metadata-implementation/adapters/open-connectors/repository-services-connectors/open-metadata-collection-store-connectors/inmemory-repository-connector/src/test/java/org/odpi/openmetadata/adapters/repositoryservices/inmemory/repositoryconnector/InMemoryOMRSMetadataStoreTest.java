@@ -0,0 +1,327 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSSearchCriteriaMatcher;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the secondary indexes and version history of the InMemoryOMRSMetadataStore stay consistent
+ * with the entity and relationship stores as instances are added, updated and removed.
+ */
+public class InMemoryOMRSMetadataStoreTest
+{
+    private static final String assetTypeGUID         = "896d14c2-7522-4f6c-8519-757711943fe6";
+    private static final String glossaryTypeGUID      = "36f66863-9726-4b41-97ee-714fd0dc6fe4";
+    private static final String attachmentTypeGUID    = "4efd16d4-f397-449c-a75d-ebea42fe581b";
+    private static final String confidentialityName   = "Confidentiality";
+
+
+    private EntityDetail getEntity(String  guid,
+                                   String  typeGUID,
+                                   String  classificationName)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefGUID(typeGUID);
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        if (classificationName != null)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String  guid,
+                                         String  entityOneGUID,
+                                         String  entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        type.setTypeDefGUID(attachmentTypeGUID);
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    private Set<String> getGUIDs(Collection<? extends InstanceHeader>   instances)
+    {
+        Set<String>  guids = new HashSet<>();
+
+        for (InstanceHeader  instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    @Test public void testEntityIndexes()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("e1", assetTypeGUID, confidentialityName));
+        store.createEntityInStore(getEntity("e2", assetTypeGUID, null));
+        store.createEntityInStore(getEntity("e3", glossaryTypeGUID, null));
+
+        assertEquals(getGUIDs(store.getEntityCandidates(assetTypeGUID, null, null, null, null, null)),
+                     new HashSet<>(Arrays.asList("e1", "e2")));
+        assertEquals(getGUIDs(store.getEntityCandidates(null, null, Collections.singletonList(confidentialityName), null, null, null)),
+                     Collections.singleton("e1"));
+        assertEquals(store.getEntityCandidates(null, null, null, null, null, null).size(), 3);
+
+        /*
+         * Update the type, status and classifications of e1.
+         */
+        EntityDetail updatedEntity = getEntity("e1", glossaryTypeGUID, null);
+
+        updatedEntity.setStatus(InstanceStatus.DELETED);
+        store.updateEntityInStore(updatedEntity);
+
+        assertEquals(getGUIDs(store.getEntityCandidates(assetTypeGUID, null, null, null, null, null)), Collections.singleton("e2"));
+        assertEquals(getGUIDs(store.getEntityCandidates(glossaryTypeGUID, null, null, null, null, null)),
+                     new HashSet<>(Arrays.asList("e1", "e3")));
+        assertTrue(store.getEntityCandidates(null, null, Collections.singletonList(confidentialityName), null, null, null).isEmpty());
+        assertEquals(getGUIDs(store.getEntityCandidates(null, Collections.singletonList(InstanceStatus.DELETED), null, null, null, null)),
+                     Collections.singleton("e1"));
+
+        /*
+         * Purge e1 and restore it from history.
+         */
+        store.removeEntityFromStore(updatedEntity);
+        assertEquals(getGUIDs(store.getEntityCandidates(glossaryTypeGUID, null, null, null, null, null)), Collections.singleton("e3"));
+
+        store.retrievePreviousVersionOfEntity("e1");
+        assertEquals(getGUIDs(store.getEntityCandidates(glossaryTypeGUID, null, null, null, null, null)),
+                     new HashSet<>(Arrays.asList("e1", "e3")));
+    }
+
+
+    @Test public void testEntityTypeUnion()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("e1", assetTypeGUID, confidentialityName));
+        store.createEntityInStore(getEntity("e2", assetTypeGUID, null));
+        store.createEntityInStore(getEntity("e3", glossaryTypeGUID, null));
+
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(Arrays.asList(assetTypeGUID, glossaryTypeGUID),
+                                                                null, null, null, null, null)),
+                     new HashSet<>(Arrays.asList("e1", "e2", "e3")));
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(Arrays.asList(glossaryTypeGUID, attachmentTypeGUID),
+                                                                null, null, null, null, null)),
+                     Collections.singleton("e3"));
+        assertEquals(getGUIDs(store.getEntityCandidatesForTypes(Arrays.asList(assetTypeGUID, glossaryTypeGUID),
+                                                                null,
+                                                                Collections.singletonList(confidentialityName),
+                                                                null, null, null)),
+                     Collections.singleton("e1"));
+        assertTrue(store.getEntityCandidatesForTypes(Collections.emptySet(), null, null, null, null, null).isEmpty());
+    }
+
+
+    private EntityDetail getNamedEntity(String  guid,
+                                        String  typeGUID,
+                                        String  name)
+    {
+        EntityDetail            entity     = getEntity(guid, typeGUID, null);
+        InstanceProperties      properties = new InstanceProperties();
+        PrimitivePropertyValue  nameValue  = new PrimitivePropertyValue();
+
+        nameValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        nameValue.setPrimitiveValue(name);
+        properties.setProperty("displayName", nameValue);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    private Set<String> getSearchCandidates(InMemoryOMRSMetadataStore   store,
+                                            Collection<String>          typeGUIDs,
+                                            String                      searchCriteria)
+    {
+        return getGUIDs(store.getEntityCandidatesForSearch(typeGUIDs,
+                                                           OMRSSearchCriteriaMatcher.getMatcher(searchCriteria),
+                                                           null));
+    }
+
+
+    @Test public void testPropertyValueIndex()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore(true);
+
+        store.createEntityInStore(getNamedEntity("e1", assetTypeGUID, "Customer Address"));
+        store.createEntityInStore(getNamedEntity("e2", assetTypeGUID, "Customer"));
+        store.createEntityInStore(getNamedEntity("e3", glossaryTypeGUID, "Account"));
+
+        assertEquals(getSearchCandidates(store, null, ".*Customer.*"), new HashSet<>(Arrays.asList("e1", "e2")));
+        assertEquals(getSearchCandidates(store, null, ".*Address"), Collections.singleton("e1"));
+        assertEquals(getSearchCandidates(store, Collections.singletonList(glossaryTypeGUID), ".*Account.*"),
+                     Collections.singleton("e3"));
+        assertTrue(getSearchCandidates(store, null, ".*Order.*").isEmpty());
+
+        /*
+         * Regular expressions and short literals can not use the index.
+         */
+        assertEquals(getSearchCandidates(store, null, "Cust.*mer").size(), 3);
+        assertEquals(getSearchCandidates(store, Collections.singletonList(assetTypeGUID), ".*Cu.*").size(), 2);
+
+        /*
+         * Updates and removals are reflected in the index.
+         */
+        store.updateEntityInStore(getNamedEntity("e2", assetTypeGUID, "Order"));
+        assertEquals(getSearchCandidates(store, null, ".*Customer.*"), Collections.singleton("e1"));
+        assertEquals(getSearchCandidates(store, null, ".*Order.*"), Collections.singleton("e2"));
+
+        store.removeEntityFromStore(store.getEntity("e1"));
+        assertTrue(getSearchCandidates(store, null, ".*Customer.*").isEmpty());
+
+        /*
+         * Without the index all entities of the type are candidates.
+         */
+        InMemoryOMRSMetadataStore unindexedStore = new InMemoryOMRSMetadataStore();
+
+        unindexedStore.createEntityInStore(getNamedEntity("e1", assetTypeGUID, "Customer Address"));
+        unindexedStore.createEntityInStore(getNamedEntity("e2", assetTypeGUID, "Order"));
+
+        assertEquals(getSearchCandidates(unindexedStore, null, ".*Customer.*").size(), 2);
+    }
+
+
+    @Test public void testRelationshipAdjacency()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createRelationshipInStore(getRelationship("r1", "e1", "e2"));
+        store.createRelationshipInStore(getRelationship("r2", "e1", "e3"));
+        store.createRelationshipInStore(getRelationship("r3", "e2", "e3"));
+
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e1", null)), new HashSet<>(Arrays.asList("r1", "r2")));
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e3", null)), new HashSet<>(Arrays.asList("r2", "r3")));
+        assertTrue(store.getRelationshipsForEntity("e4", null).isEmpty());
+        assertEquals(store.getRelationshipCandidates(attachmentTypeGUID, null, null, null, null).size(), 3);
+
+        Relationship relationship = store.getRelationship("r2");
+
+        store.removeRelationshipFromStore(relationship);
+
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e1", null)), Collections.singleton("r1"));
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e3", null)), Collections.singleton("r3"));
+        assertEquals(store.getRelationshipCandidates(attachmentTypeGUID, null, null, null, null).size(), 2);
+
+        store.removeReferenceRelationshipFromStore("r1");
+
+        assertTrue(store.getRelationshipsForEntity("e1", null).isEmpty());
+    }
+
+
+    private EntityDetail getEntityVersion(long   version,
+                                          long   updateTime)
+    {
+        EntityDetail entity = getEntity("e1", assetTypeGUID, null);
+
+        entity.setVersion(version);
+        entity.setCreateTime(new Date(1000));
+
+        if (version > 1)
+        {
+            entity.setUpdateTime(new Date(updateTime));
+        }
+
+        return entity;
+    }
+
+
+    @Test public void testEntityHistory()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntityVersion(1, 1000));
+        store.updateEntityInStore(getEntityVersion(2, 2000));
+        store.updateEntityInStore(getEntityVersion(3, 2000));
+        store.updateEntityInStore(getEntityVersion(4, 3000));
+
+        assertNull(store.getEntity("e1", new Date(500)));
+        assertEquals(store.getEntity("e1", new Date(1500)).getVersion(), 1);
+        assertEquals(store.getEntity("e1", new Date(2000)).getVersion(), 3);
+        assertEquals(store.getEntity("e1", new Date(2500)).getVersion(), 3);
+        assertEquals(store.getEntity("e1", new Date(3000)).getVersion(), 4);
+        assertEquals(store.getEntityCandidates(null, null, null, null, null, new Date(2500)).size(), 1);
+
+        /*
+         * Undo restores the most recent old version, even when versions share a timestamp.  The versions that
+         * were current before the undo are still returned by historical queries.
+         */
+        EntityDetail restoredEntity = store.retrievePreviousVersionOfEntity("e1");
+
+        assertEquals(restoredEntity.getVersion(), 5);
+        assertEquals(store.getEntity("e1").getVersion(), 5);
+        assertEquals(store.getEntity("e1", new Date(2500)).getVersion(), 3);
+        assertEquals(store.getEntity("e1", new Date(3000)).getVersion(), 4);
+
+        /*
+         * Repeated undos keep going back through the updates rather than restoring the undone versions.
+         */
+        restoredEntity = store.retrievePreviousVersionOfEntity("e1");
+        assertEquals(restoredEntity.getVersion(), 6);
+        assertEquals(store.getEntity("e1", new Date(3000)).getVersion(), 4);
+
+        assertEquals(store.retrievePreviousVersionOfEntity("e1").getVersion(), 7);
+        assertNull(store.retrievePreviousVersionOfEntity("e1"));
+
+        restoredEntity = store.getEntity("e1");
+
+        store.removeEntityFromStore(restoredEntity);
+        assertEquals(store.getEntity("e1", new Date(1500)).getVersion(), 1);
+    }
+
+
+    @Test public void testRelationshipHistory()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+        Relationship relationship = getRelationship("r1", "e1", "e2");
+
+        relationship.setCreateTime(new Date(1000));
+        store.createRelationshipInStore(relationship);
+        store.createRelationshipInStore(getRelationship("r2", "e2", "e3"));
+        store.removeRelationshipFromStore(relationship);
+
+        assertTrue(store.getRelationshipsForEntity("e1", null).isEmpty());
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e1", new Date(1500))), Collections.singleton("r1"));
+        assertEquals(getGUIDs(store.getRelationshipsForEntity("e2", new Date(1500))),
+                     new HashSet<>(Arrays.asList("r1", "r2")));
+        assertEquals(store.getRelationship("r1", new Date(1500)), relationship);
+        assertNull(store.getRelationship("r1", new Date(500)));
+    }
+}
@@ -0,0 +1,190 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OMRSRESTClient holds the HTTP client used to call the OMRS REST API of a remote server.  The client keeps a
+ * pool of keep-alive connections so that each call does not have to open a new connection (and repeat the TLS
+ * handshake).  It requests gzip compressed responses and applies the configured connect and read timeouts.
+ * <p>
+ *     There is one client for each remote endpoint and configuration.  It is shared by all of the
+ *     OMRSRESTRepositoryConnectors that call that endpoint (for example, the enterprise connectors of each
+ *     access service) and closed when the last of these connectors disconnects.
+ * </p>
+ */
+class OMRSRESTClient
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSRESTClient.class);
+
+    private static final long   idleConnectionTimeout = 30;
+
+    private static final Map<String, OMRSRESTClient> activeClients = new HashMap<>();
+
+    private String                             clientKey;
+    private String                             endpointAddress;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient                httpClient;
+    private RestTemplate                       restTemplate;
+    private int                                referenceCount = 0;
+    private boolean                            closed         = false;
+
+
+    /**
+     * Return the client for an endpoint, creating it if this is the first connector to use the endpoint
+     * with this configuration.  Each call must be matched by a single call to release().
+     *
+     * @param endpointAddress address of the remote server
+     * @param connectTimeout time in milliseconds to wait for a new connection (zero means no limit)
+     * @param readTimeout time in milliseconds to wait for a response (zero means no limit)
+     * @param maxConnections maximum number of connections to the remote server
+     * @return shared client
+     */
+    static OMRSRESTClient acquire(String endpointAddress,
+                                  int    connectTimeout,
+                                  int    readTimeout,
+                                  int    maxConnections)
+    {
+        String clientKey = endpointAddress + "|" + connectTimeout + "|" + readTimeout + "|" + maxConnections;
+
+        synchronized (activeClients)
+        {
+            OMRSRESTClient client = activeClients.get(clientKey);
+
+            if (client == null)
+            {
+                client = new OMRSRESTClient(clientKey, endpointAddress, connectTimeout, readTimeout, maxConnections);
+                activeClients.put(clientKey, client);
+            }
+
+            client.referenceCount++;
+
+            return client;
+        }
+    }
+
+
+    /**
+     * Constructor creates the connection pool and HTTP client.
+     *
+     * @param clientKey key of the client in the map of active clients
+     * @param endpointAddress address of the remote server
+     * @param connectTimeout time in milliseconds to wait for a new connection
+     * @param readTimeout time in milliseconds to wait for a response
+     * @param maxConnections maximum number of connections to the remote server
+     */
+    private OMRSRESTClient(String clientKey,
+                           String endpointAddress,
+                           int    connectTimeout,
+                           int    readTimeout,
+                           int    maxConnections)
+    {
+        this.clientKey = clientKey;
+        this.endpointAddress = endpointAddress;
+
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectTimeout(connectTimeout)
+                                                   .setConnectionRequestTimeout(connectTimeout)
+                                                   .setSocketTimeout(readTimeout)
+                                                   .build();
+
+        /*
+         * The HttpClient builder adds the Accept-Encoding header and decompresses gzip responses by default.
+         */
+        httpClient = HttpClients.custom()
+                                .setConnectionManager(connectionManager)
+                                .setDefaultRequestConfig(requestConfig)
+                                .evictIdleConnections(idleConnectionTimeout, TimeUnit.SECONDS)
+                                .build();
+
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
+
+
+    /**
+     * Return the RestTemplate that issues requests through the connection pool.  It is thread-safe.
+     *
+     * @return RestTemplate
+     */
+    RestTemplate getRestTemplate()
+    {
+        return restTemplate;
+    }
+
+
+    /**
+     * Return the current usage of the connection pool.
+     *
+     * @return metrics
+     */
+    OMRSRESTClientMetrics getMetrics()
+    {
+        PoolStats poolStats = connectionManager.getTotalStats();
+        int       connectors;
+
+        synchronized (activeClients)
+        {
+            connectors = referenceCount;
+        }
+
+        return new OMRSRESTClientMetrics(endpointAddress,
+                                         poolStats.getLeased(),
+                                         poolStats.getAvailable(),
+                                         poolStats.getPending(),
+                                         poolStats.getMax(),
+                                         connectors);
+    }
+
+
+    /**
+     * Release this connector's use of the client.  The connections are closed when no connectors
+     * are using the client.  Extra calls once the client is closed are ignored, and only remove the
+     * client from the map of active clients if it is still this client (and not a newer one for the same key).
+     */
+    void release()
+    {
+        synchronized (activeClients)
+        {
+            if (closed)
+            {
+                return;
+            }
+
+            referenceCount--;
+
+            if (referenceCount > 0)
+            {
+                return;
+            }
+
+            closed = true;
+            activeClients.remove(clientKey, this);
+        }
+
+        try
+        {
+            httpClient.close();
+        }
+        catch (IOException   error)
+        {
+            log.debug("Error closing HTTP client for " + endpointAddress, error);
+        }
+    }
+}
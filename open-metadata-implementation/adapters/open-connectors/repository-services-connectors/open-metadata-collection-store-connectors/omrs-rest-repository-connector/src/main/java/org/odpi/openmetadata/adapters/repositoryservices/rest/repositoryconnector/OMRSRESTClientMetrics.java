@@ -0,0 +1,127 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+/**
+ * OMRSRESTClientMetrics is a snapshot of the pool of HTTP connections used by an OMRSRESTRepositoryConnector
+ * to call a remote server.
+ */
+public class OMRSRESTClientMetrics
+{
+    private String endpointAddress;
+    private int    leasedConnections;
+    private int    availableConnections;
+    private int    pendingRequests;
+    private int    maxConnections;
+    private int    connectors;
+
+
+    /**
+     * Constructor to set up the snapshot.
+     *
+     * @param endpointAddress address of the remote server
+     * @param leasedConnections number of connections in use
+     * @param availableConnections number of idle connections kept alive for reuse
+     * @param pendingRequests number of requests waiting for a connection
+     * @param maxConnections maximum number of connections
+     * @param connectors number of connectors sharing the pool
+     */
+    public OMRSRESTClientMetrics(String endpointAddress,
+                                 int    leasedConnections,
+                                 int    availableConnections,
+                                 int    pendingRequests,
+                                 int    maxConnections,
+                                 int    connectors)
+    {
+        this.endpointAddress = endpointAddress;
+        this.leasedConnections = leasedConnections;
+        this.availableConnections = availableConnections;
+        this.pendingRequests = pendingRequests;
+        this.maxConnections = maxConnections;
+        this.connectors = connectors;
+    }
+
+
+    /**
+     * Return the address of the remote server.
+     *
+     * @return url
+     */
+    public String getEndpointAddress()
+    {
+        return endpointAddress;
+    }
+
+
+    /**
+     * Return the number of connections currently in use.
+     *
+     * @return count
+     */
+    public int getLeasedConnections()
+    {
+        return leasedConnections;
+    }
+
+
+    /**
+     * Return the number of idle connections kept alive for reuse.
+     *
+     * @return count
+     */
+    public int getAvailableConnections()
+    {
+        return availableConnections;
+    }
+
+
+    /**
+     * Return the number of requests waiting for a connection.
+     *
+     * @return count
+     */
+    public int getPendingRequests()
+    {
+        return pendingRequests;
+    }
+
+
+    /**
+     * Return the maximum number of connections to the remote server.
+     *
+     * @return count
+     */
+    public int getMaxConnections()
+    {
+        return maxConnections;
+    }
+
+
+    /**
+     * Return the number of connectors sharing the pool.
+     *
+     * @return count
+     */
+    public int getConnectors()
+    {
+        return connectors;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSRESTClientMetrics{" +
+                "endpointAddress='" + endpointAddress + '\'' +
+                ", leasedConnections=" + leasedConnections +
+                ", availableConnections=" + availableConnections +
+                ", pendingRequests=" + pendingRequests +
+                ", maxConnections=" + maxConnections +
+                ", connectors=" + connectors +
+                '}';
+    }
+}
@@ -13,8 +13,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -30,6 +33,12 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 
     private String                restURLRoot;                /* Initialized in constructor */
 
+    /*
+     * Set to false when the remote server does not have the batch retrieval calls.
+     */
+    private volatile boolean      entitiesByGUIDSupported      = true;
+    private volatile boolean      relationshipsByGUIDSupported = true;
+
     /**
      * Default constructor.
      *
@@ -72,6 +81,18 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the RestTemplate for a call to the remote server.  It is retrieved from the connector for each
+     * call since the connector closes its connection pool when it disconnects.
+     *
+     * @return RestTemplate
+     */
+    private RestTemplate getRestTemplate()
+    {
+        return ((OMRSRESTRepositoryConnector)parentConnector).getRestTemplate();
+    }
+
+
     /* ======================================================================
      * Group 1: Confirm the identity of the metadata repository being called.
      */
@@ -93,9 +114,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 
         try
         {
-            RestTemplate    restTemplate = new RestTemplate();
-
-            restResult = restTemplate.getForObject(restURLRoot + urlTemplate, MetadataCollectionIdResponse.class);
+            restResult = this.getRestTemplate().getForObject(restURLRoot + urlTemplate, MetadataCollectionIdResponse.class);
         }
         catch (Throwable  error)
         {
@@ -1140,6 +1159,110 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of each of the requested entities in a single REST call.  The entities are
+     * returned in the order of the requested GUIDs.  GUIDs for entities that are not known are skipped.
+     * If the remote server does not have the batch call, each entity is retrieved with its own call.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUID(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitiesByGUID";
+        final String urlTemplate = "users/{0}/instances/entities/by-guids";
+
+        if (! entitiesByGUIDSupported)
+        {
+            return this.getEntitiesOneByOne(userId, guids);
+        }
+
+        GUIDListRequest requestBody = new GUIDListRequest();
+
+        requestBody.setGUIDs(guids);
+
+        EntityListResponse restResult;
+
+        try
+        {
+            restResult = this.callEntityListPostRESTCall(methodName,
+                                                         restURLRoot + urlTemplate,
+                                                         requestBody,
+                                                         userId);
+        }
+        catch (RepositoryErrorException error)
+        {
+            if (this.isCallMissing(error))
+            {
+                entitiesByGUIDSupported = false;
+                return this.getEntitiesOneByOne(userId, guids);
+            }
+
+            throw error;
+        }
+
+        if (this.isFunctionNotSupported(restResult))
+        {
+            entitiesByGUIDSupported = false;
+            return this.getEntitiesOneByOne(userId, guids);
+        }
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
+    /**
+     * Retrieve each of the requested entities with its own REST call.  This is used when the remote server does not
+     * have the batch call.  GUIDs for entities that are not known, or are only known as proxies, are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<EntityDetail> getEntitiesOneByOne(String       userId,
+                                                   List<String> guids) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            try
+            {
+                entities.add(this.getEntityDetail(userId, guid));
+            }
+            catch (EntityNotKnownException | EntityProxyOnlyException error)
+            {
+                // skip this GUID
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
+
 
     /**
      * Return the relationships for a specific entity.
@@ -1681,6 +1804,109 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of each of the requested relationships in a single REST call.  The relationships
+     * are returned in the order of the requested GUIDs.  GUIDs for relationships that are not known are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUID(String       userId,
+                                                     List<String> guids) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException
+    {
+        final String methodName  = "getRelationshipsByGUID";
+        final String urlTemplate = "users/{0}/instances/relationships/by-guids";
+
+        if (! relationshipsByGUIDSupported)
+        {
+            return this.getRelationshipsOneByOne(userId, guids);
+        }
+
+        GUIDListRequest requestBody = new GUIDListRequest();
+
+        requestBody.setGUIDs(guids);
+
+        RelationshipListResponse restResult;
+
+        try
+        {
+            restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                               restURLRoot + urlTemplate,
+                                                               requestBody,
+                                                               userId);
+        }
+        catch (RepositoryErrorException error)
+        {
+            if (this.isCallMissing(error))
+            {
+                relationshipsByGUIDSupported = false;
+                return this.getRelationshipsOneByOne(userId, guids);
+            }
+
+            throw error;
+        }
+
+        if (this.isFunctionNotSupported(restResult))
+        {
+            relationshipsByGUIDSupported = false;
+            return this.getRelationshipsOneByOne(userId, guids);
+        }
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
+    /**
+     * Retrieve each of the requested relationships with its own REST call.  This is used when the remote server
+     * does not have the batch call.  GUIDs for relationships that are not known are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<Relationship> getRelationshipsOneByOne(String       userId,
+                                                        List<String> guids) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   UserNotAuthorizedException
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            try
+            {
+                relationships.add(this.getRelationship(userId, guid));
+            }
+            catch (RelationshipNotKnownException error)
+            {
+                // skip this GUID
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -2235,6 +2461,59 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a number of new entities in a single REST call.  Each new entity is described by a template entity
+     * that supplies the type, initial properties, initial classifications and initial status.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of templates for the new entities.
+     * @return list of the new entities.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the entity's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> addEntities(String             userId,
+                                          List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 TypeErrorException,
+                                                                                 PropertyErrorException,
+                                                                                 ClassificationErrorException,
+                                                                                 StatusNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String methodName  = "addEntities";
+        final String urlTemplate = "users/{0}/instances/entities";
+
+        InstanceGraphRequest requestBody = new InstanceGraphRequest();
+
+        requestBody.setEntityElementList(newEntities);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + urlTemplate,
+                                                                        requestBody,
+                                                                        userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowClassificationErrorException(methodName, restResult);
+        this.detectAndThrowStatusNotSupportedException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -2739,6 +3018,59 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a number of new relationships in a single REST call.  Each new relationship is described by a
+     * template relationship that supplies the type, initial properties, the guids of the two entity proxies and
+     * initial status.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of templates for the new relationships.
+     * @return list of the new relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the relationship's type.
+     * @throws EntityNotKnownException one of the requested entities is not known in the metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> addRelationships(String             userId,
+                                               List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           TypeErrorException,
+                                                                                           PropertyErrorException,
+                                                                                           EntityNotKnownException,
+                                                                                           StatusNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String methodName  = "addRelationships";
+        final String urlTemplate = "users/{0}/instances/relationships";
+
+        InstanceGraphRequest requestBody = new InstanceGraphRequest();
+
+        requestBody.setRelationshipElementList(newRelationships);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + urlTemplate,
+                                                                                    requestBody,
+                                                                                    userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowStatusNotSupportedException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -3754,9 +4086,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -3798,9 +4128,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -3844,9 +4172,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -3890,9 +4216,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -3934,9 +4258,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -3980,9 +4302,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4024,9 +4344,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4068,9 +4386,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4114,9 +4430,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4161,9 +4475,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4207,9 +4519,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4252,9 +4562,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4296,9 +4604,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4340,9 +4646,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4386,9 +4690,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4430,9 +4732,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+            restResult = this.getRestTemplate().getForObject(urlTemplate, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4476,9 +4776,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4522,9 +4820,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
-
-            restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
+            restResult = this.getRestTemplate().postForObject(urlTemplate, request, restResult.getClass(), params);
         }
         catch (Throwable error)
         {
@@ -4714,6 +5010,41 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return whether a REST call failed because the remote server does not have the URL, which means the
+     * remote server is at a level that does not support the call.
+     *
+     * @param error exception from the REST call
+     * @return boolean flag
+     */
+    private boolean isCallMissing(RepositoryErrorException error)
+    {
+        if (error.getReportedCaughtException() instanceof HttpStatusCodeException)
+        {
+            HttpStatus statusCode = ((HttpStatusCodeException)error.getReportedCaughtException()).getStatusCode();
+
+            return (statusCode == HttpStatus.NOT_FOUND) ||
+                   (statusCode == HttpStatus.METHOD_NOT_ALLOWED) ||
+                   (statusCode == HttpStatus.NOT_IMPLEMENTED);
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return whether the remote server reported that it does not support the call.
+     *
+     * @param restResult response from the rest call.  This generated in the remote server.
+     * @return boolean flag
+     */
+    private boolean isFunctionNotSupported(OMRSAPIResponse restResult)
+    {
+        return (restResult != null) &&
+               (FunctionNotSupportedException.class.getName().equals(restResult.getExceptionClassName()));
+    }
+
+
     /**
      * Throw an FunctionNotSupportedException if it is encoded in the REST response.
      *
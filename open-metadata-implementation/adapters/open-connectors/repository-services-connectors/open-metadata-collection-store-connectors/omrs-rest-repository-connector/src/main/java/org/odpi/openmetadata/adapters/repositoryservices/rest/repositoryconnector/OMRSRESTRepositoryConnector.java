@@ -2,20 +2,34 @@
 package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.springframework.web.client.RestTemplate;
 
 /**
  * The OMRSRESTRepositoryConnector is a connector to a remote Apache Atlas repository (or any other metadata repository
  * that supports the OMRS REST APIs).  This is the connector used by the EnterpriseOMRSRepositoryConnector to make a direct call
  * to another open metadata repository.
+ * <p>
+ *     The REST calls are made through a pool of keep-alive HTTP connections that is shared by all of the
+ *     connectors to the same remote server.  The connectTimeout and readTimeout (in milliseconds) and the
+ *     maxConnections for the pool can be set in the additional properties of the connection.
+ * </p>
  */
 public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
 {
+    private static final int  defaultConnectTimeout = 10000;
+    private static final int  defaultReadTimeout    = 60000;
+    private static final int  defaultMaxConnections = 20;
+
     private OMRSRESTMetadataCollection  metadataCollection   = null;
+    private OMRSRESTClient              restClient           = null;
+    private boolean                     released             = false;
 
     /**
      * Default constructor used by the OCF Connector Provider.
@@ -76,13 +90,130 @@ public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
     }
 
 
+    /**
+     * Return the RestTemplate used to call the remote server.  The first call connects the connector to
+     * the pool of HTTP connections for the remote server.  The metadata collection calls this for every
+     * request rather than keeping the template since the pool is closed when the connector disconnects.
+     *
+     * @return RestTemplate
+     * @throws OMRSLogicErrorException the connector has disconnected
+     */
+    synchronized RestTemplate getRestTemplate()
+    {
+        if (released)
+        {
+            final String methodName = "getRestTemplate";
+
+            OMRSErrorCode errorCode    = OMRSErrorCode.REPOSITORY_NOT_AVAILABLE;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(super.serverName, methodName);
+
+            throw new OMRSLogicErrorException(errorCode.getHTTPErrorCode(),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              errorMessage,
+                                              errorCode.getSystemAction(),
+                                              errorCode.getUserAction());
+        }
+
+        if (restClient == null)
+        {
+            String             endpointAddress = null;
+            int                connectTimeout  = defaultConnectTimeout;
+            int                readTimeout     = defaultReadTimeout;
+            int                maxConnections  = defaultMaxConnections;
+
+            if (connectionProperties != null)
+            {
+                EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+                if (endpoint != null)
+                {
+                    endpointAddress = endpoint.getAddress();
+                }
+
+                AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+                if (additionalProperties != null)
+                {
+                    connectTimeout = this.getIntegerProperty(additionalProperties,
+                                                             OMRSRESTRepositoryConnectorProvider.connectTimeoutPropertyName,
+                                                             defaultConnectTimeout);
+                    readTimeout = this.getIntegerProperty(additionalProperties,
+                                                          OMRSRESTRepositoryConnectorProvider.readTimeoutPropertyName,
+                                                          defaultReadTimeout);
+                    maxConnections = this.getIntegerProperty(additionalProperties,
+                                                             OMRSRESTRepositoryConnectorProvider.maxConnectionsPropertyName,
+                                                             defaultMaxConnections);
+                }
+            }
+
+            restClient = OMRSRESTClient.acquire(endpointAddress, connectTimeout, readTimeout, maxConnections);
+        }
+
+        return restClient.getRestTemplate();
+    }
+
+
+    /**
+     * Return the current usage of the pool of HTTP connections to the remote server.
+     *
+     * @return metrics or null if the connector has not yet called the remote server or has disconnected
+     */
+    public synchronized OMRSRESTClientMetrics getConnectionPoolMetrics()
+    {
+        if ((restClient == null) || (released))
+        {
+            return null;
+        }
+
+        return restClient.getMetrics();
+    }
+
+
+    /**
+     * Extract an integer value from the additional properties.  The value may be a number or a string.
+     *
+     * @param additionalProperties additional properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or not a valid number
+     * @return value
+     */
+    private int getIntegerProperty(AdditionalProperties additionalProperties,
+                                   String               propertyName,
+                                   int                  defaultValue)
+    {
+        Object propertyValue = additionalProperties.getProperty(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                return Integer.parseInt(propertyValue.toString().trim());
+            }
+            catch (NumberFormatException   error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
      * @throws ConnectorCheckedException there is a problem disconnecting the connector.
      */
-    public void disconnect() throws ConnectorCheckedException
+    public synchronized void disconnect() throws ConnectorCheckedException
     {
+        if ((restClient != null) && (! released))
+        {
+            restClient.release();
+        }
+
+        released = true;
     }
 
 }
\ No newline at end of file
@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnect
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The OMRSRESTRepositoryConnectorProvider is the connector provider for the OMRSRESTRepositoryConnector.
@@ -21,6 +24,10 @@ public class OMRSRESTRepositoryConnectorProvider extends OMRSRepositoryConnector
     static final String  connectorTypeName = "OMRS REST API Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that calls the repository services REST API of a remote server.";
 
+    public static final String  connectTimeoutPropertyName = "connectTimeout";
+    public static final String  readTimeoutPropertyName = "readTimeout";
+    public static final String  maxConnectionsPropertyName = "maxConnections";
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * OMRS Connector implementation.
@@ -39,6 +46,13 @@ public class OMRSRESTRepositoryConnectorProvider extends OMRSRepositoryConnector
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String>  recognizedPropertyNames = new ArrayList<>();
+        recognizedPropertyNames.add(connectTimeoutPropertyName);
+        recognizedPropertyNames.add(readTimeoutPropertyName);
+        recognizedPropertyNames.add(maxConnectionsPropertyName);
+
+        connectorType.setRecognizedAdditionalProperties(recognizedPropertyNames);
+
         super.connectorTypeBean = connectorType;
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+/**
+ * Validate that connectors to the same remote server share a pool of HTTP connections.
+ */
+public class TestOMRSRESTClient
+{
+    private static final String endpointAddress = "http://localhost:8080";
+
+
+    /**
+     * Connectors with the same endpoint and configuration share a client until the last one releases it.
+     */
+    @Test
+    public void testSharedClient()
+    {
+        OMRSRESTClient client1 = OMRSRESTClient.acquire(endpointAddress, 1000, 2000, 5);
+        OMRSRESTClient client2 = OMRSRESTClient.acquire(endpointAddress, 1000, 2000, 5);
+
+        assertSame(client1, client2);
+        assertSame(client1.getRestTemplate(), client2.getRestTemplate());
+        assertEquals(client1.getMetrics().getConnectors(), 2);
+
+        client1.release();
+        assertSame(OMRSRESTClient.acquire(endpointAddress, 1000, 2000, 5), client2);
+
+        client2.release();
+        client2.release();
+
+        OMRSRESTClient client3 = OMRSRESTClient.acquire(endpointAddress, 1000, 2000, 5);
+
+        assertNotSame(client3, client1);
+        client3.release();
+    }
+
+
+    /**
+     * A different configuration uses a separate pool.
+     */
+    @Test
+    public void testSeparateConfiguration()
+    {
+        OMRSRESTClient client1 = OMRSRESTClient.acquire(endpointAddress, 1000, 2000, 5);
+        OMRSRESTClient client2 = OMRSRESTClient.acquire(endpointAddress, 1000, 2000, 10);
+
+        assertNotSame(client1, client2);
+
+        OMRSRESTClientMetrics metrics = client2.getMetrics();
+
+        assertEquals(metrics.getEndpointAddress(), endpointAddress);
+        assertEquals(metrics.getMaxConnections(), 10);
+        assertEquals(metrics.getLeasedConnections(), 0);
+
+        client1.release();
+        client2.release();
+    }
+
+
+    /**
+     * A client that has been closed ignores further releases, which must not remove a newer client
+     * for the same endpoint and configuration.
+     */
+    @Test
+    public void testReleaseAfterClose()
+    {
+        OMRSRESTClient client1 = OMRSRESTClient.acquire(endpointAddress, 1000, 3000, 5);
+
+        client1.release();
+
+        OMRSRESTClient client2 = OMRSRESTClient.acquire(endpointAddress, 1000, 3000, 5);
+
+        assertNotSame(client2, client1);
+
+        client1.release();
+
+        assertSame(OMRSRESTClient.acquire(endpointAddress, 1000, 3000, 5), client2);
+        assertEquals(client2.getMetrics().getConnectors(), 2);
+
+        client2.release();
+        client2.release();
+    }
+
+
+    /**
+     * A connector only releases its client once and does not hand out the RestTemplate of a closed pool.
+     *
+     * @throws Exception the connector failed
+     */
+    @Test
+    public void testConnectorDisconnect() throws Exception
+    {
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress(endpointAddress);
+        connection.setEndpoint(endpoint);
+
+        OMRSRESTRepositoryConnector connector1 = new OMRSRESTRepositoryConnector();
+        OMRSRESTRepositoryConnector connector2 = new OMRSRESTRepositoryConnector();
+
+        connector1.initialize("testConnector1", new ConnectionProperties(connection));
+        connector2.initialize("testConnector2", new ConnectionProperties(connection));
+
+        assertSame(connector1.getRestTemplate(), connector2.getRestTemplate());
+
+        connector1.disconnect();
+        connector1.disconnect();
+
+        assertNull(connector1.getConnectionPoolMetrics());
+        assertEquals(connector2.getConnectionPoolMetrics().getConnectors(), 1);
+
+        try
+        {
+            connector1.getRestTemplate();
+            fail("A disconnected connector returned a RestTemplate");
+        }
+        catch (OMRSLogicErrorException error)
+        {
+            // expected
+        }
+
+        connector2.disconnect();
+    }
+}
@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import org.mockito.ArgumentCaptor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.odpi.openmetadata.repositoryservices.rest.properties.EntityDetailResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.EntityListResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.InstanceGraphRequest;
+import org.odpi.openmetadata.repositoryservices.rest.properties.RelationshipListResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.RelationshipResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the OMRSRESTMetadataCollection sends each batch of new instances to the remote server in a single
+ * REST call and returns the exceptions that the remote server reports.  The batch retrieval calls fall back to
+ * a call per instance when the remote server does not have them.
+ */
+public class TestOMRSRESTMetadataCollection
+{
+    private static final String userId = "testUser";
+
+    private RestTemplate               restTemplate;
+    private OMRSRESTMetadataCollection metadataCollection;
+
+
+    @BeforeMethod
+    public void setUp()
+    {
+        OMRSRESTRepositoryConnector connector = mock(OMRSRESTRepositoryConnector.class);
+
+        restTemplate = mock(RestTemplate.class);
+        when(connector.getRestTemplate()).thenReturn(restTemplate);
+
+        metadataCollection = new OMRSRESTMetadataCollection(connector, "testRepository", null, null, "testMetadataCollectionId");
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+
+        return relationship;
+    }
+
+
+    @Test public void testAddEntities() throws Exception
+    {
+        List<EntityDetail> templates = Arrays.asList(getEntity("template1"), getEntity("template2"));
+        EntityListResponse response  = new EntityListResponse();
+
+        response.setEntities(Arrays.asList(getEntity("entity1"), getEntity("entity2")));
+        when(restTemplate.postForObject(anyString(), any(), eq(EntityListResponse.class), eq(userId))).thenReturn(response);
+
+        List<EntityDetail> entities = metadataCollection.addEntities(userId, templates);
+
+        assertEquals(entities.size(), 2);
+        assertEquals(entities.get(1).getGUID(), "entity2");
+
+        ArgumentCaptor<String> url     = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> request = ArgumentCaptor.forClass(Object.class);
+
+        verify(restTemplate, times(1)).postForObject(url.capture(), request.capture(), eq(EntityListResponse.class), eq(userId));
+
+        assertTrue(url.getValue().endsWith("users/{0}/instances/entities"));
+        assertEquals(((InstanceGraphRequest)request.getValue()).getEntityElementList(), templates);
+    }
+
+
+    @Test public void testAddEntitiesRemoteFailure() throws Exception
+    {
+        EntityListResponse response = new EntityListResponse();
+
+        response.setRelatedHTTPCode(400);
+        response.setExceptionClassName(TypeErrorException.class.getName());
+        response.setExceptionErrorMessage("Unknown type");
+        when(restTemplate.postForObject(anyString(), any(), eq(EntityListResponse.class), eq(userId))).thenReturn(response);
+
+        try
+        {
+            metadataCollection.addEntities(userId, Arrays.asList(getEntity("template1"), getEntity("template2")));
+            fail("The exception from the remote server was not returned");
+        }
+        catch (TypeErrorException error)
+        {
+            assertEquals(error.getReportedHTTPCode(), 400);
+            assertEquals(error.getErrorMessage(), "Unknown type");
+        }
+    }
+
+
+    @Test public void testAddRelationships() throws Exception
+    {
+        List<Relationship>       templates = Arrays.asList(getRelationship("template1"), getRelationship("template2"));
+        RelationshipListResponse response  = new RelationshipListResponse();
+
+        response.setRelationships(Arrays.asList(getRelationship("relationship1"), getRelationship("relationship2")));
+        when(restTemplate.postForObject(anyString(), any(), eq(RelationshipListResponse.class), eq(userId))).thenReturn(response);
+
+        List<Relationship> relationships = metadataCollection.addRelationships(userId, templates);
+
+        assertEquals(relationships.size(), 2);
+        assertEquals(relationships.get(0).getGUID(), "relationship1");
+
+        ArgumentCaptor<String> url     = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> request = ArgumentCaptor.forClass(Object.class);
+
+        verify(restTemplate, times(1)).postForObject(url.capture(), request.capture(), eq(RelationshipListResponse.class), eq(userId));
+
+        assertTrue(url.getValue().endsWith("users/{0}/instances/relationships"));
+        assertEquals(((InstanceGraphRequest)request.getValue()).getRelationshipElementList(), templates);
+    }
+
+
+    private EntityDetailResponse getEntityResponse(String guid)
+    {
+        EntityDetailResponse response = new EntityDetailResponse();
+
+        if (guid == null)
+        {
+            response.setRelatedHTTPCode(404);
+            response.setExceptionClassName(EntityNotKnownException.class.getName());
+            response.setExceptionErrorMessage("Unknown entity");
+        }
+        else
+        {
+            response.setEntity(getEntity(guid));
+        }
+
+        return response;
+    }
+
+
+    @Test public void testGetEntitiesByGUIDMissingCall() throws Exception
+    {
+        when(restTemplate.postForObject(anyString(), any(), eq(EntityListResponse.class), eq(userId)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        when(restTemplate.getForObject(anyString(), eq(EntityDetailResponse.class), eq(userId), eq("entity1")))
+                .thenReturn(getEntityResponse("entity1"));
+        when(restTemplate.getForObject(anyString(), eq(EntityDetailResponse.class), eq(userId), eq("entity2")))
+                .thenReturn(getEntityResponse(null));
+        when(restTemplate.getForObject(anyString(), eq(EntityDetailResponse.class), eq(userId), eq("entity3")))
+                .thenReturn(getEntityResponse("entity3"));
+
+        List<EntityDetail> entities = metadataCollection.getEntitiesByGUID(userId, Arrays.asList("entity1", "entity2", "entity3"));
+
+        assertEquals(entities.size(), 2);
+        assertEquals(entities.get(0).getGUID(), "entity1");
+        assertEquals(entities.get(1).getGUID(), "entity3");
+
+        /*
+         * The batch call is not tried again.
+         */
+        assertNull(metadataCollection.getEntitiesByGUID(userId, Arrays.asList("entity2")));
+        verify(restTemplate, times(1)).postForObject(anyString(), any(), eq(EntityListResponse.class), eq(userId));
+    }
+
+
+    @Test public void testGetRelationshipsByGUIDNotSupported() throws Exception
+    {
+        RelationshipListResponse batchResponse        = new RelationshipListResponse();
+        RelationshipResponse     relationshipResponse = new RelationshipResponse();
+
+        batchResponse.setRelatedHTTPCode(501);
+        batchResponse.setExceptionClassName(FunctionNotSupportedException.class.getName());
+        relationshipResponse.setRelationship(getRelationship("relationship1"));
+
+        when(restTemplate.postForObject(anyString(), any(), eq(RelationshipListResponse.class), eq(userId)))
+                .thenReturn(batchResponse);
+        when(restTemplate.getForObject(anyString(), eq(RelationshipResponse.class), eq(userId), eq("relationship1")))
+                .thenReturn(relationshipResponse);
+
+        List<Relationship> relationships = metadataCollection.getRelationshipsByGUID(userId, Arrays.asList("relationship1"));
+
+        assertEquals(relationships.size(), 1);
+        assertEquals(relationships.get(0).getGUID(), "relationship1");
+    }
+}
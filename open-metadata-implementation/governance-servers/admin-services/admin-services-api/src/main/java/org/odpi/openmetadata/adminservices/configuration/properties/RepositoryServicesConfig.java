@@ -10,6 +10,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogOverflowPolicy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -26,6 +28,11 @@ import java.util.List;
  *         component should use.
  *     </li>
  *     <li>
+ *         auditLogQueueSize, auditLogBatchSize and auditLogOverflowPolicy control the background thread that
+ *         writes the audit log records to the audit log connectors: the maximum number of log records waiting to
+ *         be written, the number written at a time and what happens to a new log record when the queue is full.
+ *     </li>
+ *     <li>
  *         openMetadataArchiveConnections is a list of Open Metadata Archive Connections.
  *         An open metadata archive connection provides properties needed to create a connector to manage
  *         an open metadata archive.  This contains pre-built TypeDefs and metadata instance.
@@ -51,11 +58,14 @@ public class RepositoryServicesConfig implements Serializable
 {
     private static final long serialVersionUID = 1L;
 
-    private List<Connection>       auditLogConnections            = new ArrayList<>();
-    private List<Connection>       openMetadataArchiveConnections = new ArrayList<>();
-    private LocalRepositoryConfig  localRepositoryConfig          = null;
-    private EnterpriseAccessConfig enterpriseAccessConfig         = null;
-    private List<CohortConfig>     cohortConfigList               = new ArrayList<>();
+    private List<Connection>           auditLogConnections            = new ArrayList<>();
+    private int                        auditLogQueueSize              = OMRSAuditLog.defaultQueueSize;
+    private int                        auditLogBatchSize              = OMRSAuditLog.defaultBatchSize;
+    private OMRSAuditLogOverflowPolicy auditLogOverflowPolicy         = OMRSAuditLogOverflowPolicy.BLOCK;
+    private List<Connection>           openMetadataArchiveConnections = new ArrayList<>();
+    private LocalRepositoryConfig      localRepositoryConfig          = null;
+    private EnterpriseAccessConfig     enterpriseAccessConfig         = null;
+    private List<CohortConfig>         cohortConfigList               = new ArrayList<>();
 
 
     /**
@@ -126,6 +136,73 @@ public class RepositoryServicesConfig implements Serializable
     }
 
 
+    /**
+     * Return the maximum number of audit log records that can wait to be written to the audit log connectors.
+     *
+     * @return number of log records
+     */
+    public int getAuditLogQueueSize()
+    {
+        return auditLogQueueSize;
+    }
+
+
+    /**
+     * Set up the maximum number of audit log records that can wait to be written to the audit log connectors.
+     *
+     * @param auditLogQueueSize number of log records
+     */
+    public void setAuditLogQueueSize(int auditLogQueueSize)
+    {
+        this.auditLogQueueSize = auditLogQueueSize;
+    }
+
+
+    /**
+     * Return the maximum number of audit log records written to the audit log connectors at a time.
+     *
+     * @return number of log records
+     */
+    public int getAuditLogBatchSize()
+    {
+        return auditLogBatchSize;
+    }
+
+
+    /**
+     * Set up the maximum number of audit log records written to the audit log connectors at a time.
+     *
+     * @param auditLogBatchSize number of log records
+     */
+    public void setAuditLogBatchSize(int auditLogBatchSize)
+    {
+        this.auditLogBatchSize = auditLogBatchSize;
+    }
+
+
+    /**
+     * Return what happens to a new audit log record when the queue of log records waiting to be written is full.
+     *
+     * @return overflow policy
+     */
+    public OMRSAuditLogOverflowPolicy getAuditLogOverflowPolicy()
+    {
+        return auditLogOverflowPolicy;
+    }
+
+
+    /**
+     * Set up what happens to a new audit log record when the queue of log records waiting to be written is full.
+     * Null means the caller waits for space (BLOCK).
+     *
+     * @param auditLogOverflowPolicy overflow policy
+     */
+    public void setAuditLogOverflowPolicy(OMRSAuditLogOverflowPolicy auditLogOverflowPolicy)
+    {
+        this.auditLogOverflowPolicy = auditLogOverflowPolicy;
+    }
+
+
     /**
      * Return the list of Connection object, each of which is used to create the Connector to an Open Metadata
      * Archive.  Open Metadata Archive contains pre-built metadata types and instances.
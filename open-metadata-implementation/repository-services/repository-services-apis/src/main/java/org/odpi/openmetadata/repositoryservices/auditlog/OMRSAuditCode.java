@@ -219,6 +219,12 @@ public enum OMRSAuditCode
                       "The event manager is fully initialized and distributing buffered events that describe type definitions",
                       "No action is required.  This is part of the normal operation of the server."),
 
+    STOPPING_EVENT_MANAGER("OMRS-AUDIT-0034",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} event manager is shutting down with {1} instance event(s) still waiting to be passed to its consumers",
+                      "The event manager is passing the waiting events to its consumers and then stopping its dispatch threads",
+                      "No action is required.  This is part of the normal operation of the server."),
+
 
     NEW_ENTERPRISE_CONNECTOR("OMRS-AUDIT-0040",
                       OMRSAuditLogRecordSeverity.INFO,
@@ -244,6 +250,12 @@ public enum OMRSAuditCode
                       "The connector will support access to the connected open metadata repositories.",
                       "No action is required.  This is part of the normal operation of the server."),
 
+    ENTERPRISE_MEMBER_TIMEOUT("OMRS-AUDIT-0044",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The {0} request from the enterprise OMRS connector for the {1} open metadata access service timed out after {2} milliseconds waiting for metadata collection {3} from server {4}",
+                      "The results from the other members of the cohort are returned without the results from this repository.",
+                      "Check that the server is running and is not overloaded.  If it is often slow to respond, increase the member timeout configured for the enterprise connector."),
+
     PROCESSING_ARCHIVE("OMRS-AUDIT-0050",
                        OMRSAuditLogRecordSeverity.INFO,
                        "The Open Metadata Repository Services (OMRS) is about to process open metadata archive {0}",
@@ -270,6 +282,25 @@ public enum OMRSAuditCode
                        "The local server has completed the processing of the open metadata archive.",
                        "No action is required.  This is part of the normal operation of the server."),
 
+    ARCHIVE_LOAD_PROGRESS("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) has loaded {0} instances from open metadata archive {1} in {2} seconds ({3} instances per second)",
+                       "The local server is still loading the instances from the open metadata archive.",
+                       "No action is required.  This is part of the normal operation of the server."),
+
+    ARCHIVE_LOAD_THROUGHPUT("OMRS-AUDIT-0055",
+                       OMRSAuditLogRecordSeverity.INFO,
+                       "The Open Metadata Repository Services (OMRS) loaded {0} entities and {1} relationships from open metadata archive {2} in {3} milliseconds ({4} instances per second)",
+                       "The local server has loaded the instances from the open metadata archive.",
+                       "No action is required.  This is part of the normal operation of the server."),
+
+    UNREADABLE_ARCHIVE("OMRS-AUDIT-0056",
+                       OMRSAuditLogRecordSeverity.ERROR,
+                       "The Open Metadata Repository Services (OMRS) is unable to read open metadata archive {0}.  The error returned was: {1}",
+                       "The local server stopped processing the open metadata archive at the point of the error.  The content " +
+                               "read before the error has been loaded.",
+                       "Review the error message and correct the archive.  Then restart the server or load the archive again."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.INFO,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
@@ -590,6 +621,11 @@ public enum OMRSAuditCode
                        OMRSAuditLogRecordSeverity.EXCEPTION,
                        "Disconnecting from the enterprise topic connector generated an exception with message {0}",
                        "The server may not have disconnected from the topic cleanly.",
+                       "Review the exception and resolve the issue it documents."),
+    INSTANCE_EVENT_DISPATCH_ERROR("OMRS-AUDIT-9013",
+                       OMRSAuditLogRecordSeverity.EXCEPTION,
+                       "The {0} event manager was unable to pass an instance event of type {1} for instance {2} to consumer {3} due to exception {4} with message {5}",
+                       "The consumer has not processed the event.  The event manager continues to pass later events to the consumer.",
                        "Review the exception and resolve the issue it documents.")
 
     ;
@@ -20,11 +20,19 @@ import java.util.List;
  *
  * This audit log is critical to validate the behavior of the OMRS, particularly in the initial interaction of
  * a new metadata repository to the OMRS Cohort.
+ *
+ * By default, log records are written to the audit log stores on the calling thread.  When the audit log is
+ * initialized with a queue size, log records are passed to an OMRSAuditLogWriter that writes them to the audit log
+ * stores on its own thread so callers do not wait for the stores.
  */
 public class OMRSAuditLog
 {
+    public static final int                           defaultQueueSize = 8192;
+    public static final int                           defaultBatchSize = 256;
+
     static private final OMRSAuditLogRecordOriginator originator     = new OMRSAuditLogRecordOriginator();
     static private       List<OMRSAuditLogStore>      auditLogStores = null;
+    static private volatile OMRSAuditLogWriter        auditLogWriter = null;
 
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLog.class);
 
@@ -45,6 +53,8 @@ public class OMRSAuditLog
                                    String                  localOrganizationName,
                                    List<OMRSAuditLogStore> auditLogStores)
     {
+        OMRSAuditLog.shutdown();
+
         OMRSAuditLog.originator.setServerName(localServerName);
         OMRSAuditLog.originator.setServerType(localServerType);
         OMRSAuditLog.originator.setOrganizationName(localOrganizationName);
@@ -56,6 +66,72 @@ public class OMRSAuditLog
     }
 
 
+    /**
+     * Initialize the static values used in all log records and start writing the log records to the audit log
+     * stores asynchronously.
+     *
+     * @param localServerName name of the local server
+     * @param localServerType type of the local server
+     * @param localOrganizationName name of the organization that owns the local server
+     * @param auditLogStores list of destinations for the audit log records
+     * @param queueSize maximum number of log records waiting to be written to the audit log stores
+     * @param batchSize maximum number of log records the writer takes from the queue at a time
+     * @param overflowPolicy what happens to a new log record when the queue is full
+     */
+    public static void  initialize(String                     localServerName,
+                                   String                     localServerType,
+                                   String                     localOrganizationName,
+                                   List<OMRSAuditLogStore>    auditLogStores,
+                                   int                        queueSize,
+                                   int                        batchSize,
+                                   OMRSAuditLogOverflowPolicy overflowPolicy)
+    {
+        OMRSAuditLog.initialize(localServerName, localServerType, localOrganizationName, auditLogStores);
+
+        if ((OMRSAuditLog.auditLogStores != null) && (queueSize > 0))
+        {
+            OMRSAuditLog.auditLogWriter = new OMRSAuditLogWriter(OMRSAuditLog.auditLogStores,
+                                                                 queueSize,
+                                                                 batchSize,
+                                                                 overflowPolicy);
+        }
+    }
+
+
+    /**
+     * Return the state of the queue of log records waiting to be written to the audit log stores.
+     *
+     * @return metrics or null if log records are written synchronously
+     */
+    public static OMRSAuditLogMetrics getMetrics()
+    {
+        OMRSAuditLogWriter writer = OMRSAuditLog.auditLogWriter;
+
+        if (writer == null)
+        {
+            return null;
+        }
+
+        return writer.getMetrics();
+    }
+
+
+    /**
+     * Write the log records waiting in the queue to the audit log stores and stop the writer thread.
+     * Later log records are written to the audit log stores on the calling thread.
+     */
+    public static void shutdown()
+    {
+        OMRSAuditLogWriter writer = OMRSAuditLog.auditLogWriter;
+
+        if (writer != null)
+        {
+            OMRSAuditLog.auditLogWriter = null;
+            writer.shutdown();
+        }
+    }
+
+
     /**
      * Set up the local metadata collection Id.  This is null if there is no local repository.
      *
@@ -139,35 +215,32 @@ public class OMRSAuditLog
 
         if (auditLogStores != null)
         {
-            for (OMRSAuditLogStore  auditLogStore : auditLogStores)
+            List<String> additionalInformationArray = null;
+
+            if (additionalInformation != null)
+            {
+                additionalInformationArray = new ArrayList<>();
+                additionalInformationArray.add(additionalInformation);
+            }
+
+            OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord(originator,
+                                                                  reportingComponent,
+                                                                  severity.getName(),
+                                                                  logMessageId,
+                                                                  logMessage,
+                                                                  additionalInformationArray,
+                                                                  systemAction,
+                                                                  userAction);
+
+            OMRSAuditLogWriter writer = auditLogWriter;
+
+            if (writer != null)
+            {
+                writer.write(logRecord, severity);
+            }
+            else
             {
-                if (auditLogStore != null)
-                {
-                    List<String> additionalInformationArray = null;
-
-                    if (additionalInformation != null)
-                    {
-                        additionalInformationArray = new ArrayList<>();
-                        additionalInformationArray.add(additionalInformation);
-                    }
-
-                    OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord(originator,
-                                                                          reportingComponent,
-                                                                          severity.getName(),
-                                                                          logMessageId,
-                                                                          logMessage,
-                                                                          additionalInformationArray,
-                                                                          systemAction,
-                                                                          userAction);
-                    try
-                    {
-                        auditLogStore.storeLogRecord(logRecord);
-                    }
-                    catch (Throwable error)
-                    {
-                        log.error("Error: " + error + " writing audit log: " + logRecord);
-                    }
-                }
+                OMRSAuditLogWriter.writeToStores(auditLogStores, logRecord);
             }
         }
     }
@@ -0,0 +1,143 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+/**
+ * OMRSAuditLogMetrics is a snapshot of the state of the queue of log records waiting to be written to the
+ * audit log stores when the audit log is writing log records asynchronously.
+ */
+public class OMRSAuditLogMetrics
+{
+    private OMRSAuditLogOverflowPolicy overflowPolicy;
+    private int                        queueDepth;
+    private int                        queueCapacity;
+    private long                       recordsQueued;
+    private long                       recordsWritten;
+    private long                       recordsSpilled;
+    private long                       recordsDropped;
+
+
+    /**
+     * Constructor to set up the snapshot.
+     *
+     * @param overflowPolicy what happens to new log records when the queue is full
+     * @param queueDepth number of log records waiting to be written
+     * @param queueCapacity maximum number of log records that can wait to be written
+     * @param recordsQueued total number of log records queued
+     * @param recordsWritten total number of queued log records written to the audit log stores
+     * @param recordsSpilled number of log records written by the caller because the queue was full
+     * @param recordsDropped number of log records dropped because the queue was full
+     */
+    public OMRSAuditLogMetrics(OMRSAuditLogOverflowPolicy overflowPolicy,
+                               int                        queueDepth,
+                               int                        queueCapacity,
+                               long                       recordsQueued,
+                               long                       recordsWritten,
+                               long                       recordsSpilled,
+                               long                       recordsDropped)
+    {
+        this.overflowPolicy = overflowPolicy;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.recordsQueued = recordsQueued;
+        this.recordsWritten = recordsWritten;
+        this.recordsSpilled = recordsSpilled;
+        this.recordsDropped = recordsDropped;
+    }
+
+
+    /**
+     * Return what happens to new log records when the queue is full.
+     *
+     * @return overflow policy
+     */
+    public OMRSAuditLogOverflowPolicy getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+
+    /**
+     * Return the number of log records waiting to be written to the audit log stores.
+     *
+     * @return count
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Return the maximum number of log records that can wait to be written to the audit log stores.
+     *
+     * @return count
+     */
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Return the total number of log records queued.
+     *
+     * @return count
+     */
+    public long getRecordsQueued()
+    {
+        return recordsQueued;
+    }
+
+
+    /**
+     * Return the total number of queued log records written to the audit log stores.
+     *
+     * @return count
+     */
+    public long getRecordsWritten()
+    {
+        return recordsWritten;
+    }
+
+
+    /**
+     * Return the number of log records written to the audit log stores by the caller because the queue was full.
+     *
+     * @return count
+     */
+    public long getRecordsSpilled()
+    {
+        return recordsSpilled;
+    }
+
+
+    /**
+     * Return the number of log records dropped because the queue was full.
+     *
+     * @return count
+     */
+    public long getRecordsDropped()
+    {
+        return recordsDropped;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSAuditLogMetrics{" +
+                "overflowPolicy=" + overflowPolicy +
+                ", queueDepth=" + queueDepth +
+                ", queueCapacity=" + queueCapacity +
+                ", recordsQueued=" + recordsQueued +
+                ", recordsWritten=" + recordsWritten +
+                ", recordsSpilled=" + recordsSpilled +
+                ", recordsDropped=" + recordsDropped +
+                '}';
+    }
+}
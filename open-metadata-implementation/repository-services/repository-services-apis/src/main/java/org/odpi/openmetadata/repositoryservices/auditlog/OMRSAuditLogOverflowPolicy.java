@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+/**
+ * OMRSAuditLogOverflowPolicy defines what the audit log does with a new log record when it is writing log records
+ * asynchronously and the queue of log records waiting for the audit log stores is full.
+ * <ul>
+ *     <li>
+ *         BLOCK: The calling thread waits until there is space on the queue.  No log records are lost.
+ *     </li>
+ *     <li>
+ *         DROP_LOWEST_SEVERITY: Log records of the routine severities (information, event and decision) are
+ *         dropped.  Log records of a higher severity are written to the audit log stores on the calling thread.
+ *     </li>
+ *     <li>
+ *         SPILL: The log record is written to the audit log stores on the calling thread.  No log records are lost
+ *         and the caller only waits for its own log record.
+ *     </li>
+ * </ul>
+ */
+public enum OMRSAuditLogOverflowPolicy
+{
+    BLOCK                (0, "Block",                "The caller waits for space on the queue."),
+    DROP_LOWEST_SEVERITY (1, "Drop Lowest Severity", "Routine log records are dropped, others are written by the caller."),
+    SPILL                (2, "Spill",                "The log record is written to the audit log stores by the caller.");
+
+
+    private int    policyCode;
+    private String policyName;
+    private String policyDescription;
+
+
+    /**
+     * Typical constructor sets up the selected enum value.
+     *
+     * @param policyCode numeric of this enum.
+     * @param policyName name of enum.
+     * @param policyDescription default description of enum.
+     */
+    OMRSAuditLogOverflowPolicy(int    policyCode,
+                               String policyName,
+                               String policyDescription)
+    {
+        this.policyCode = policyCode;
+        this.policyName = policyName;
+        this.policyDescription = policyDescription;
+    }
+
+
+    /**
+     * Return the code for this enum.
+     *
+     * @return int numeric for this enum
+     */
+    public int getOrdinal()
+    {
+        return policyCode;
+    }
+
+
+    /**
+     * Return the name of this enum.
+     *
+     * @return String name
+     */
+    public String getName()
+    {
+        return policyName;
+    }
+
+
+    /**
+     * Return the default description of this enum.  This description is in English.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return policyDescription;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSAuditLogOverflowPolicy{" +
+                "policyCode=" + policyCode +
+                ", policyName='" + policyName + '\'' +
+                ", policyDescription='" + policyDescription + '\'' +
+                '}';
+    }
+}
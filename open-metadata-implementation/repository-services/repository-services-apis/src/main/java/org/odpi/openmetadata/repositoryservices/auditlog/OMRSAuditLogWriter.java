@@ -0,0 +1,317 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * OMRSAuditLogWriter writes log records to the audit log stores on its own thread so that the threads logging
+ * the records do not wait for the audit log stores.  The log records are passed to the writer thread through a
+ * bounded ring buffer.  Any number of threads can add log records to the ring buffer without taking a lock: each
+ * claims a slot by advancing the tail with a compare-and-set and then publishes its log record into the slot.
+ * The writer thread takes the published log records from the head of the ring buffer in batches.
+ * <p>
+ *     When the ring buffer is full, the overflow policy decides what happens to the new log record.
+ *     On shutdown, and when the JVM exits, the writer thread writes the waiting log records before it stops.
+ *     The writer thread does not stop while a thread that saw the writer running may still be adding a log
+ *     record, so a log record added during shutdown is not left in the ring buffer.
+ * </p>
+ */
+class OMRSAuditLogWriter implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogWriter.class);
+
+    private static final long idleWait        = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long blockWait       = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long shutdownTimeout = 30000;
+
+    private List<OMRSAuditLogStore>                  auditLogStores;
+    private OMRSAuditLogOverflowPolicy               overflowPolicy;
+    private int                                      batchSize;
+    private AtomicReferenceArray<OMRSAuditLogRecord> ringBuffer;
+    private int                                      ringMask;
+    private AtomicLong                               tail           = new AtomicLong(0);
+    private volatile long                            head           = 0;
+    private volatile boolean                         running        = true;
+    private volatile boolean                         writerWaiting  = false;
+    private AtomicInteger                            activeWriters  = new AtomicInteger(0);
+    private Thread                                   writerThread;
+    private Thread                                   shutdownHook;
+    private AtomicLong                               recordsQueued  = new AtomicLong(0);
+    private AtomicLong                               recordsWritten = new AtomicLong(0);
+    private AtomicLong                               recordsSpilled = new AtomicLong(0);
+    private AtomicLong                               recordsDropped = new AtomicLong(0);
+
+
+    /**
+     * Constructor starts the writer thread.
+     *
+     * @param auditLogStores destinations for the log records
+     * @param queueSize maximum number of log records waiting to be written (rounded up to a power of two)
+     * @param batchSize maximum number of log records taken from the ring buffer at a time
+     * @param overflowPolicy what to do with a new log record when the ring buffer is full
+     */
+    OMRSAuditLogWriter(List<OMRSAuditLogStore>    auditLogStores,
+                       int                        queueSize,
+                       int                        batchSize,
+                       OMRSAuditLogOverflowPolicy overflowPolicy)
+    {
+        int ringSize = Integer.highestOneBit(Math.max(2, queueSize) - 1) << 1;
+
+        this.auditLogStores = auditLogStores;
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = (overflowPolicy == null) ? OMRSAuditLogOverflowPolicy.BLOCK : overflowPolicy;
+        this.ringBuffer = new AtomicReferenceArray<>(ringSize);
+        this.ringMask = ringSize - 1;
+
+        writerThread = new Thread(this, "OMRS Audit Log Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        shutdownHook = new Thread(this::shutdown, "OMRS Audit Log Writer Shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+
+    /**
+     * Pass a log record to the writer thread.  If the ring buffer is full, the overflow policy is applied.
+     * Once the writer has shut down, the log record is written on the calling thread.
+     *
+     * @param logRecord log record to write
+     * @param severity severity of the log record
+     */
+    void write(OMRSAuditLogRecord         logRecord,
+               OMRSAuditLogRecordSeverity severity)
+    {
+        /*
+         * The writer thread keeps running while activeWriters is not zero.  It is incremented before running
+         * is checked so that the writer thread can not stop between this thread seeing it running and adding
+         * the log record to the ring buffer.
+         */
+        activeWriters.incrementAndGet();
+
+        try
+        {
+            while (running)
+            {
+                if (this.offer(logRecord))
+                {
+                    recordsQueued.incrementAndGet();
+
+                    if (writerWaiting)
+                    {
+                        LockSupport.unpark(writerThread);
+                    }
+
+                    return;
+                }
+
+                if ((overflowPolicy == OMRSAuditLogOverflowPolicy.BLOCK) && (! Thread.currentThread().isInterrupted()))
+                {
+                    LockSupport.unpark(writerThread);
+                    LockSupport.parkNanos(this, blockWait);
+                }
+                else if ((overflowPolicy == OMRSAuditLogOverflowPolicy.DROP_LOWEST_SEVERITY) &&
+                         (severity.getOrdinal() <= OMRSAuditLogRecordSeverity.DECISION.getOrdinal()))
+                {
+                    recordsDropped.incrementAndGet();
+                    return;
+                }
+                else
+                {
+                    recordsSpilled.incrementAndGet();
+                    break;
+                }
+            }
+        }
+        finally
+        {
+            activeWriters.decrementAndGet();
+        }
+
+        writeToStores(auditLogStores, logRecord);
+    }
+
+
+    /**
+     * Add a log record to the tail of the ring buffer.
+     *
+     * @param logRecord log record
+     * @return boolean indicating whether there was space for the log record
+     */
+    private boolean offer(OMRSAuditLogRecord logRecord)
+    {
+        while (true)
+        {
+            long currentTail = tail.get();
+
+            if (currentTail - head > ringMask)
+            {
+                return false;
+            }
+
+            if (tail.compareAndSet(currentTail, currentTail + 1))
+            {
+                ringBuffer.set((int)(currentTail & ringMask), logRecord);
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * Move the published log records at the head of the ring buffer into the batch.  A slot that has been claimed
+     * but not yet published ends the batch.
+     *
+     * @param batch list to add the log records to
+     */
+    private void drain(List<OMRSAuditLogRecord> batch)
+    {
+        long currentHead = head;
+
+        while ((batch.size() < batchSize) && (currentHead < tail.get()))
+        {
+            int                slot      = (int)(currentHead & ringMask);
+            OMRSAuditLogRecord logRecord = ringBuffer.get(slot);
+
+            if (logRecord == null)
+            {
+                break;
+            }
+
+            ringBuffer.set(slot, null);
+            currentHead++;
+            head = currentHead;
+            batch.add(logRecord);
+        }
+    }
+
+
+    /**
+     * Write batches of log records to the audit log stores until the writer is shut down, no thread is still
+     * adding a log record and the ring buffer is empty.  activeWriters is read before the tail so that a log
+     * record added by a thread that has since finished is seen.
+     */
+    public void run()
+    {
+        List<OMRSAuditLogRecord> batch = new ArrayList<>(batchSize);
+
+        while (running || (activeWriters.get() > 0) || (head < tail.get()))
+        {
+            this.drain(batch);
+
+            if (batch.isEmpty())
+            {
+                writerWaiting = true;
+
+                if (running && (head == tail.get()))
+                {
+                    LockSupport.parkNanos(this, idleWait);
+                }
+                else
+                {
+                    Thread.yield();
+                }
+
+                writerWaiting = false;
+            }
+            else
+            {
+                for (OMRSAuditLogRecord logRecord : batch)
+                {
+                    writeToStores(auditLogStores, logRecord);
+                }
+
+                recordsWritten.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Return the current state of the writer.
+     *
+     * @return metrics
+     */
+    OMRSAuditLogMetrics getMetrics()
+    {
+        return new OMRSAuditLogMetrics(overflowPolicy,
+                                       (int)(tail.get() - head),
+                                       ringMask + 1,
+                                       recordsQueued.get(),
+                                       recordsWritten.get(),
+                                       recordsSpilled.get(),
+                                       recordsDropped.get());
+    }
+
+
+    /**
+     * Stop the writer once it has written the waiting log records.  Log records passed to the writer after
+     * this call are written on the calling thread.
+     */
+    void shutdown()
+    {
+        running = false;
+
+        LockSupport.unpark(writerThread);
+
+        if (Thread.currentThread() != shutdownHook)
+        {
+            try
+            {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            }
+            catch (IllegalStateException   jvmShuttingDown)
+            {
+                log.debug("JVM is shutting down");
+            }
+        }
+
+        try
+        {
+            writerThread.join(shutdownTimeout);
+        }
+        catch (InterruptedException   interrupted)
+        {
+            log.debug("Interrupted waiting for the audit log writer to stop");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Write a log record to each of the audit log stores.  Errors from the stores are logged and ignored.
+     *
+     * @param auditLogStores destinations for the log record
+     * @param logRecord log record
+     */
+    static void writeToStores(List<OMRSAuditLogStore> auditLogStores,
+                              OMRSAuditLogRecord      logRecord)
+    {
+        for (OMRSAuditLogStore  auditLogStore : auditLogStores)
+        {
+            if (auditLogStore != null)
+            {
+                try
+                {
+                    auditLogStore.storeLogRecord(logRecord);
+                }
+                catch (Throwable error)
+                {
+                    log.error("Error: " + error + " writing audit log: " + logRecord);
+                }
+            }
+        }
+    }
+}
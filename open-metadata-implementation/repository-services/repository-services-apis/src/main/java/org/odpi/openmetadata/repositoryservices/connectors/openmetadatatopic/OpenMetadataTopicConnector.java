@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -15,6 +16,10 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorExc
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -23,7 +28,11 @@ import java.util.List;
  * extend this class to include the interaction with the eventing/messaging layer.
  * <ul>
  *     <li>
- *         For inbound events it should call the protected distributeEvents() method.
+ *         For inbound events it should call the protected addIncomingEvent() method.  This places the event on
+ *         a bounded queue that is drained by the listener thread as soon as the event arrives.  If the queue is
+ *         full, addIncomingEvent() blocks until the listener thread has caught up, which pushes back on the
+ *         thread receiving the events.  Connectors whose events may be sent by the listeners themselves
+ *         use an unbounded queue instead, since a listener waiting for its own thread would never wake.
  *     </li>
  *     <li>
  *         For outbound events, callers will invoke the sendEvent() method.
@@ -41,9 +50,15 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     private static final String       defaultThreadName = "OpenMetadataTopicListener";
     private static final String       defaultTopicName  = "OpenMetadataTopic";
 
-    private volatile boolean keepRunning = false;
+    public  static final String       incomingEventQueueSizePropertyName = "incomingEventQueueSize";
+    private static final int          defaultIncomingEventQueueSize      = 10000;
+
+    private volatile boolean keepRunning  = false;
+    private volatile boolean disconnected = false;
+    private boolean          boundedQueue = true;
 
     private List<OpenMetadataTopicListener> topicListeners     = new ArrayList<>();
+    private BlockingQueue<String>           incomingEvents     = new ArrayBlockingQueue<>(defaultIncomingEventQueueSize);
     private String                          listenerThreadName = defaultThreadName;
     private String                          topicName          = defaultTopicName;
     private int                             sleepTime          = 100;
@@ -58,6 +73,27 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Constructor for connectors that need to choose the type of queue for incoming events.  An unbounded
+     * queue never makes addIncomingEvent() wait, so it must be used when the listeners may send events to
+     * the same connector from the listener thread.  The incomingEventQueueSize property is ignored for an
+     * unbounded queue.
+     *
+     * @param boundedQueue true for a bounded queue that pushes back on the sender; false for an unbounded queue
+     */
+    protected OpenMetadataTopicConnector(boolean boundedQueue)
+    {
+        super();
+
+        this.boundedQueue = boundedQueue;
+
+        if (! boundedQueue)
+        {
+            incomingEvents = new LinkedBlockingQueue<>();
+        }
+    }
+
+
     /**
      * This is the method called by the listener thread when it starts.
      */
@@ -76,6 +112,19 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         {
             try
             {
+                /*
+                 * Wait for the next event to be added to the queue.  The wait is limited to sleepTime so
+                 * that implementations that still poll through checkForEvents() are called regularly and the
+                 * thread notices when the connector is disconnected.
+                 */
+                String incomingEvent = incomingEvents.poll(sleepTime, TimeUnit.MILLISECONDS);
+
+                while (incomingEvent != null)
+                {
+                    this.distributeEvent(incomingEvent);
+                    incomingEvent = incomingEvents.poll();
+                }
+
                 try
                 {
                     List<String> receivedEvents = this.checkForEvents();
@@ -95,8 +144,6 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                 {
                     log.error("Bad exception from checkForEvents", error);
                 }
-
-                Thread.sleep(sleepTime);
             }
             catch (InterruptedException   wakeUp)
             {
@@ -146,11 +193,82 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * Look to see if there is one of more new events to process.  This method is called regularly by the
+     * listener thread.  Implementations that receive events on their own threads should pass them to
+     * addIncomingEvent() instead so that they are processed as soon as they arrive.
      *
      * @return a list of received events or null
      */
-    protected abstract List<String> checkForEvents();
+    protected List<String> checkForEvents()
+    {
+        return null;
+    }
+
+
+    /**
+     * Pass an event that has been received on the topic to the listener thread.  The listener thread is woken
+     * immediately.  If the listener thread has fallen behind and the queue of incoming events is full, this
+     * method waits for space on the queue, slowing down the thread that is receiving events.  Events that
+     * arrive once the connector is disconnected are discarded.
+     *
+     * @param event event received from the topic
+     */
+    protected void addIncomingEvent(String event)
+    {
+        if (event == null)
+        {
+            return;
+        }
+
+        try
+        {
+            while (! incomingEvents.offer(event, sleepTime, TimeUnit.MILLISECONDS))
+            {
+                if (disconnected)
+                {
+                    log.debug("Discarding event received after disconnect: " + event);
+                    return;
+                }
+
+                log.debug("Waiting for space on the incoming event queue for topic " + topicName);
+            }
+        }
+        catch (InterruptedException   interrupted)
+        {
+            log.debug("Interrupted adding event to the incoming event queue: " + event);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Call made by the ConnectorProvider to initialize the Connector with the base services.  The size of a
+     * bounded queue of incoming events can be set in the additional properties.
+     *
+     * @param connectorInstanceId   unique id for the connector instance   useful for messages etc
+     * @param connectionProperties   POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        if (connectionProperties != null)
+        {
+            AdditionalProperties  additionalProperties = connectionProperties.getAdditionalProperties();
+
+            if ((additionalProperties != null) && (boundedQueue))
+            {
+                Object   queueSize = additionalProperties.getProperty(incomingEventQueueSizePropertyName);
+
+                if ((queueSize != null) && (queueSize instanceof Integer) && ((Integer)queueSize > 0))
+                {
+                    incomingEvents = new ArrayBlockingQueue<>((Integer)queueSize);
+                }
+            }
+        }
+    }
 
 
     /**
@@ -242,5 +360,6 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         super.disconnect();
 
         keepRunning = false;
+        disconnected = true;
     }
 }
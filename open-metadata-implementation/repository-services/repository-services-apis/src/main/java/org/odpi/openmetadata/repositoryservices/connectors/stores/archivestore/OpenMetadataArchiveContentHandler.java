@@ -0,0 +1,48 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+/**
+ * OpenMetadataArchiveContentHandler receives the content of an open metadata archive as it is read from the
+ * archive store.  This means the whole archive does not need to be held in memory while it is processed.
+ * The sections of the archive are passed to the handler in the order they appear in the archive.  This is
+ * normally the archive properties, then the type store, then each of the entities and finally each of
+ * the relationships.
+ */
+public interface OpenMetadataArchiveContentHandler
+{
+    /**
+     * Process the properties that describe the archive.
+     *
+     * @param archiveProperties properties of the archive
+     */
+    void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Process the type store from the archive.
+     *
+     * @param archiveTypeStore new TypeDefs and patches to existing TypeDefs
+     */
+    void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore);
+
+
+    /**
+     * Process an entity from the archive's instance store.
+     *
+     * @param entity entity
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Process a relationship from the archive's instance store.
+     *
+     * @param relationship relationship
+     */
+    void processRelationship(Relationship relationship);
+}
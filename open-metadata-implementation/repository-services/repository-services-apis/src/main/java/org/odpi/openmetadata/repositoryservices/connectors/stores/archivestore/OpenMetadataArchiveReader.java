@@ -0,0 +1,226 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveReader passes the content of an open metadata archive to an OpenMetadataArchiveContentHandler.
+ * The archive may be an OpenMetadataArchive object or a JSON stream.  A JSON stream is parsed incrementally:
+ * the archive properties and the type store are each read as a single object, and then the entities and
+ * relationships in the instance store are read and passed to the handler one at a time.  Only one instance
+ * is held in memory at a time however large the archive is.
+ */
+public class OpenMetadataArchiveReader
+{
+    private static final String archivePropertiesFieldName    = "archiveProperties";
+    private static final String archiveTypeStoreFieldName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreFieldName = "archiveInstanceStore";
+    private static final String entitiesFieldName             = "entities";
+    private static final String relationshipsFieldName        = "relationships";
+
+
+    /**
+     * Private constructor since all methods are static.
+     */
+    private OpenMetadataArchiveReader()
+    {
+    }
+
+
+    /**
+     * Pass the content of an archive object to the handler.
+     *
+     * @param archive archive content
+     * @param handler receiver of the content
+     */
+    public static void readArchive(OpenMetadataArchive               archive,
+                                   OpenMetadataArchiveContentHandler handler)
+    {
+        if (archive == null)
+        {
+            return;
+        }
+
+        handler.processArchiveProperties(archive.getArchiveProperties());
+
+        if (archive.getArchiveTypeStore() != null)
+        {
+            handler.processTypeStore(archive.getArchiveTypeStore());
+        }
+
+        OpenMetadataArchiveInstanceStore instanceStore = archive.getArchiveInstanceStore();
+
+        if (instanceStore != null)
+        {
+            List<EntityDetail> entities      = instanceStore.getEntities();
+            List<Relationship> relationships = instanceStore.getRelationships();
+
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    if (entity != null)
+                    {
+                        handler.processEntity(entity);
+                    }
+                }
+            }
+
+            if (relationships != null)
+            {
+                for (Relationship relationship : relationships)
+                {
+                    if (relationship != null)
+                    {
+                        handler.processRelationship(relationship);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Parse a JSON archive from a stream, passing its content to the handler as it is read.  The stream is
+     * not closed.
+     *
+     * @param archiveStream stream of the JSON archive
+     * @param handler receiver of the content
+     * @throws IOException the stream can not be read or does not contain a JSON archive.  The content read
+     *                     before the error has already been passed to the handler.
+     */
+    public static void readArchive(InputStream                       archiveStream,
+                                   OpenMetadataArchiveContentHandler handler) throws IOException
+    {
+        ObjectReader archiveReader = OMRSJSONMapper.getReader(OpenMetadataArchive.class);
+
+        try (JsonParser parser = archiveReader.getFactory().createParser(archiveStream))
+        {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                throw new IOException("Open metadata archive does not start with a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (archivePropertiesFieldName.equals(fieldName))
+                {
+                    handler.processArchiveProperties(readValue(parser, OpenMetadataArchiveProperties.class));
+                }
+                else if (archiveTypeStoreFieldName.equals(fieldName))
+                {
+                    OpenMetadataArchiveTypeStore typeStore = readValue(parser, OpenMetadataArchiveTypeStore.class);
+
+                    if (typeStore != null)
+                    {
+                        handler.processTypeStore(typeStore);
+                    }
+                }
+                else if (archiveInstanceStoreFieldName.equals(fieldName))
+                {
+                    readInstanceStore(parser, handler);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Step through the instance store, passing each entity and relationship to the handler.
+     *
+     * @param parser parser positioned at the start of the instance store
+     * @param handler receiver of the instances
+     * @throws IOException the instance store is not valid
+     */
+    private static void readInstanceStore(JsonParser                        parser,
+                                          OpenMetadataArchiveContentHandler handler) throws IOException
+    {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String fieldName = parser.getCurrentName();
+
+            if (parser.nextToken() != JsonToken.START_ARRAY)
+            {
+                parser.skipChildren();
+            }
+            else if (entitiesFieldName.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    EntityDetail entity = readValue(parser, EntityDetail.class);
+
+                    if (entity != null)
+                    {
+                        handler.processEntity(entity);
+                    }
+                }
+            }
+            else if (relationshipsFieldName.equals(fieldName))
+            {
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    Relationship relationship = readValue(parser, Relationship.class);
+
+                    if (relationship != null)
+                    {
+                        handler.processRelationship(relationship);
+                    }
+                }
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Read the value at the parser's current token.
+     *
+     * @param parser parser positioned at the start of the value
+     * @param valueType class of the value
+     * @param <T> type of the value
+     * @return value or null if the value is a JSON null
+     * @throws IOException the value is not valid
+     */
+    private static <T> T readValue(JsonParser parser,
+                                   Class<T>   valueType) throws IOException
+    {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL)
+        {
+            return null;
+        }
+
+        return OMRSJSONMapper.getReader(valueType).readValue(parser);
+    }
+}
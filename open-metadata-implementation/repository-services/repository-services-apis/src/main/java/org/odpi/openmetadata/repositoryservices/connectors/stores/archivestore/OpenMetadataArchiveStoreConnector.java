@@ -2,10 +2,32 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 
 /**
  * OpenMetadataArchiveStoreConnector is the base class for connectors that support the OpenMetadataArchiveStore
  */
 public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase implements OpenMetadataArchiveStore
 {
+    /**
+     * Pass the contents of the archive to the handler.  This implementation retrieves the whole archive
+     * with getArchiveContents.  Connectors that can read their archive incrementally override this method
+     * so that large archives do not need to be held in memory while they are processed.
+     *
+     * @param handler receiver of the archive content
+     * @return boolean indicating whether there was any archive content
+     */
+    public boolean readArchiveContents(OpenMetadataArchiveContentHandler handler)
+    {
+        OpenMetadataArchive archiveContent = this.getArchiveContents();
+
+        if (archiveContent == null)
+        {
+            return false;
+        }
+
+        OpenMetadataArchiveReader.readArchive(archiveContent, handler);
+
+        return true;
+    }
 }
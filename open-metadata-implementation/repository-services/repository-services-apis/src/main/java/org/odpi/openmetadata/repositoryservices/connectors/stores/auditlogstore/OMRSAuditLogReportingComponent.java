@@ -22,6 +22,14 @@ public class OMRSAuditLogReportingComponent
     private  String   componentWikiURL = null;
 
 
+    /**
+     * Default constructor used when an audit log record is read back from an audit log store.
+     */
+    public OMRSAuditLogReportingComponent()
+    {
+    }
+
+
     /**
      * Construct the description of the reporting component.
      *
@@ -52,6 +60,17 @@ public class OMRSAuditLogReportingComponent
     }
 
 
+    /**
+     * Set up the numerical identifier for the component.
+     *
+     * @param componentId numerical identifier for the component
+     */
+    public void setComponentId(int componentId)
+    {
+        this.componentId = componentId;
+    }
+
+
     /**
      * Return the name of the component.  This is the name used in the audit log records.
      *
@@ -63,6 +82,17 @@ public class OMRSAuditLogReportingComponent
     }
 
 
+    /**
+     * Set up the display name for the component.
+     *
+     * @param componentName display name for the component
+     */
+    public void setComponentName(String componentName)
+    {
+        this.componentName = componentName;
+    }
+
+
     /**
      * Return the short description of the component. This is an English description.  Natural language support for
      * these values can be added to UIs using a resource bundle indexed with the component Id.  This value is
@@ -76,6 +106,17 @@ public class OMRSAuditLogReportingComponent
     }
 
 
+    /**
+     * Set up the description of the component.
+     *
+     * @param componentDescription description of the component
+     */
+    public void setComponentDescription(String componentDescription)
+    {
+        this.componentDescription = componentDescription;
+    }
+
+
     /**
      * URL link to the wiki page that describes this component.  This provides more information to the log reader
      * on the operation of the component.
@@ -88,6 +129,17 @@ public class OMRSAuditLogReportingComponent
     }
 
 
+    /**
+     * Set up the link to more information about the component.
+     *
+     * @param componentWikiURL link to more information about the component
+     */
+    public void setComponentWikiURL(String componentWikiURL)
+    {
+        this.componentWikiURL = componentWikiURL;
+    }
+
+
     @Override
     public String toString()
     {
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Date;
 
@@ -762,6 +763,60 @@ public abstract class OMRSMetadataCollection
                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the current version of each of the requested entities.  The entities are returned in the order
+     * of the requested GUIDs.  GUIDs for entities that are not known, or are only stored as proxies, in
+     * the metadata collection are skipped.
+     * <p>
+     *     This default implementation retrieves each entity in turn.  Repositories that are able to retrieve
+     *     a number of entities in one request should override this method.
+     * </p>
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUID(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                try
+                {
+                    EntityDetail entity = this.getEntityDetail(userId, guid);
+
+                    if (entity != null)
+                    {
+                        entities.add(entity);
+                    }
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException  error)
+                {
+                    /*
+                     * Unknown entities are left out of the results.
+                     */
+                }
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return entities;
+    }
+
 
     /**
      * Return the relationships for a specific entity.
@@ -1033,6 +1088,61 @@ public abstract class OMRSMetadataCollection
                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Return the current version of each of the requested relationships.  The relationships are returned in
+     * the order of the requested GUIDs.  GUIDs for relationships that are not known in the metadata collection
+     * are skipped.
+     * <p>
+     *     This default implementation retrieves each relationship in turn.  Repositories that are able to
+     *     retrieve a number of relationships in one request should override this method.
+     * </p>
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUID(String       userId,
+                                                     List<String> guids) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                try
+                {
+                    Relationship relationship = this.getRelationship(userId, guid);
+
+                    if (relationship != null)
+                    {
+                        relationships.add(relationship);
+                    }
+                }
+                catch (RelationshipNotKnownException  error)
+                {
+                    /*
+                     * Unknown relationships are left out of the results.
+                     */
+                }
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -1306,6 +1416,58 @@ public abstract class OMRSMetadataCollection
                                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Create a number of new entities.  Each new entity is described by a template entity that supplies
+     * the type (only the type's guid is used), initial properties, initial classifications and initial status.
+     * The header of the template is otherwise ignored.  The new entities are returned in the order of the templates.
+     * <p>
+     *     This default implementation creates each entity in turn.  If one of the entities can not be created,
+     *     the exception is returned and the entities before it remain in the metadata collection.
+     * </p>
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of templates for the new entities.
+     * @return list of the new entities.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the entity's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> addEntities(String             userId,
+                                          List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 TypeErrorException,
+                                                                                 PropertyErrorException,
+                                                                                 ClassificationErrorException,
+                                                                                 StatusNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        if (newEntities != null)
+        {
+            for (EntityDetail newEntity : newEntities)
+            {
+                entities.add(this.addEntity(userId,
+                                            getTypeDefGUID(newEntity),
+                                            getProperties(newEntity),
+                                            getClassifications(newEntity),
+                                            getStatus(newEntity)));
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -1587,6 +1749,59 @@ public abstract class OMRSMetadataCollection
                                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Create a number of new relationships.  Each new relationship is described by a template relationship that
+     * supplies the type (only the type's guid is used), initial properties, the guids of the two entity proxies
+     * and initial status.  The header of the template is otherwise ignored.  The new relationships are returned
+     * in the order of the templates.
+     * <p>
+     *     This default implementation creates each relationship in turn.  If one of the relationships can not be
+     *     created, the exception is returned and the relationships before it remain in the metadata collection.
+     * </p>
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of templates for the new relationships.
+     * @return list of the new relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the relationship's type.
+     * @throws EntityNotKnownException one of the requested entities is not known in the metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> addRelationships(String             userId,
+                                               List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           TypeErrorException,
+                                                                                           PropertyErrorException,
+                                                                                           EntityNotKnownException,
+                                                                                           StatusNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (newRelationships != null)
+        {
+            for (Relationship newRelationship : newRelationships)
+            {
+                relationships.add(this.addRelationship(userId,
+                                                       getTypeDefGUID(newRelationship),
+                                                       getProperties(newRelationship),
+                                                       getEntityOneGUID(newRelationship),
+                                                       getEntityTwoGUID(newRelationship),
+                                                       getStatus(newRelationship)));
+            }
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
@@ -2197,4 +2412,127 @@ public abstract class OMRSMetadataCollection
             }
         }
     }
+
+
+    /* ======================================================
+     * Helper methods for unpacking the templates used in the batch requests
+     */
+
+    /**
+     * Return the guid of the type from a template instance.
+     *
+     * @param template template instance (may be null)
+     * @return guid or null
+     */
+    protected static String getTypeDefGUID(InstanceHeader  template)
+    {
+        if ((template == null) || (template.getType() == null))
+        {
+            return null;
+        }
+
+        return template.getType().getTypeDefGUID();
+    }
+
+
+    /**
+     * Return the status from a template instance.
+     *
+     * @param template template instance (may be null)
+     * @return status or null
+     */
+    protected static InstanceStatus getStatus(InstanceHeader  template)
+    {
+        if (template == null)
+        {
+            return null;
+        }
+
+        return template.getStatus();
+    }
+
+
+    /**
+     * Return the properties from a template entity.
+     *
+     * @param template template entity (may be null)
+     * @return properties or null
+     */
+    protected static InstanceProperties getProperties(EntityDetail  template)
+    {
+        if (template == null)
+        {
+            return null;
+        }
+
+        return template.getProperties();
+    }
+
+
+    /**
+     * Return the classifications from a template entity.
+     *
+     * @param template template entity (may be null)
+     * @return classifications or null
+     */
+    protected static List<Classification> getClassifications(EntityDetail  template)
+    {
+        if (template == null)
+        {
+            return null;
+        }
+
+        return template.getClassifications();
+    }
+
+
+    /**
+     * Return the properties from a template relationship.
+     *
+     * @param template template relationship (may be null)
+     * @return properties or null
+     */
+    protected static InstanceProperties getProperties(Relationship  template)
+    {
+        if (template == null)
+        {
+            return null;
+        }
+
+        return template.getProperties();
+    }
+
+
+    /**
+     * Return the guid of the entity at end 1 of a template relationship.
+     *
+     * @param template template relationship (may be null)
+     * @return guid or null
+     */
+    protected static String getEntityOneGUID(Relationship  template)
+    {
+        if ((template == null) || (template.getEntityOneProxy() == null))
+        {
+            return null;
+        }
+
+        return template.getEntityOneProxy().getGUID();
+    }
+
+
+    /**
+     * Return the guid of the entity at end 2 of a template relationship.
+     *
+     * @param template template relationship (may be null)
+     * @return guid or null
+     */
+    protected static String getEntityTwoGUID(Relationship  template)
+    {
+        if ((template == null) || (template.getEntityTwoProxy() == null))
+        {
+            return null;
+        }
+
+        return template.getEntityTwoProxy().getGUID();
+    }
 }
@@ -55,7 +55,7 @@ public class EntityDetail extends EntitySummary
         {
             return null;
         }
-        else if (entityProperties.getInstanceProperties() == null)
+        else if (entityProperties.getInstancePropertiesView() == null)
         {
             return null;
         }
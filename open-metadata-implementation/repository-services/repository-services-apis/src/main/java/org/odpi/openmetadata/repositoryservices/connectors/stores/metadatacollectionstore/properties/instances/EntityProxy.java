@@ -69,7 +69,7 @@ public class EntityProxy extends EntitySummary
         {
             return null;
         }
-        else if (uniqueProperties.getInstanceProperties() == null)
+        else if (uniqueProperties.getInstancePropertiesView() == null)
         {
             return null;
         }
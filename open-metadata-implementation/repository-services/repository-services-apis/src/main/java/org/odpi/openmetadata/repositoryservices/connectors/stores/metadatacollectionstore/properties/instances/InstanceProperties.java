@@ -2,12 +2,14 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
@@ -91,18 +93,8 @@ public class InstanceProperties extends InstanceElementHeader
         {
             this.effectiveFromTime = templateProperties.getEffectiveFromTime();
             this.effectiveToTime = templateProperties.getEffectiveToTime();
-            Iterator<String> propertyNames = templateProperties.getPropertyNames();
-
-            if (propertyNames != null)
-            {
-                while (propertyNames.hasNext())
-                {
-                    String                 newPropertyName  = propertyNames.next();
-                    InstancePropertyValue  newPropertyValue = templateProperties.getPropertyValue(newPropertyName);
-
-                    instanceProperties.put(newPropertyName, newPropertyValue);
-                }
-            }
+
+            templateProperties.forEachProperty(instanceProperties::put);
         }
     }
 
@@ -183,6 +175,42 @@ public class InstanceProperties extends InstanceElementHeader
     }
 
 
+    /**
+     * Return a read-only view of the instance properties map.  Unlike getInstanceProperties(), the map is not
+     * copied so this is the method to use when the properties of many instances are read, such as during a search.
+     * The view reflects later changes to the properties.
+     *
+     * @return unmodifiable instance properties map.
+     */
+    @JsonIgnore
+    public Map<String, InstancePropertyValue> getInstancePropertiesView()
+    {
+        if (instanceProperties == null)
+        {
+            return null;
+        }
+        else
+        {
+            return Collections.unmodifiableMap(instanceProperties);
+        }
+    }
+
+
+    /**
+     * Pass each of the instance properties to the supplied action without copying the properties.
+     * The action must not change these properties.
+     *
+     * @param action function called with the name and value of each property
+     */
+    public void forEachProperty(BiConsumer<String, InstancePropertyValue> action)
+    {
+        if (instanceProperties != null)
+        {
+            instanceProperties.forEach(action);
+        }
+    }
+
+
     /**
      * Set up the instance properties map.
      *
@@ -310,7 +338,7 @@ public class InstanceProperties extends InstanceElementHeader
         InstanceProperties that = (InstanceProperties) objectToCompare;
         return Objects.equals(getEffectiveFromTime(), that.getEffectiveFromTime()) &&
                 Objects.equals(getEffectiveToTime(), that.getEffectiveToTime()) &&
-                Objects.equals(getInstanceProperties(), that.getInstanceProperties());
+                Objects.equals(getInstancePropertiesView(), that.getInstancePropertiesView());
     }
 
 
@@ -323,7 +351,7 @@ public class InstanceProperties extends InstanceElementHeader
     public int hashCode()
     {
 
-        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), getInstanceProperties());
+        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), getInstancePropertiesView());
     }
 }
 
@@ -138,7 +138,7 @@ public class Relationship extends InstanceHeader
         {
             return null;
         }
-        else if (relationshipProperties.getInstanceProperties() == null)
+        else if (relationshipProperties.getInstancePropertiesView() == null)
         {
             return null;
         }
@@ -47,6 +47,28 @@ public interface OMRSRepositoryHelper
                              String typeDefName);
 
 
+    /**
+     * Return the unique identifiers of the TypeDef identified by the guid supplied by the caller and all of its
+     * sub types.  This is used in the connectors when searching for instances of a type so that instances of
+     * its sub types are returned too.  Helpers that do not know the type hierarchy return just the supplied
+     * identifier, so searches only match the type itself.
+     *
+     * @param sourceName  source of the request (used for logging)
+     * @param typeDefGUID unique identifier for the TypeDef
+     * @return unmodifiable set of TypeDef identifiers - just the supplied identifier if the TypeDef is not known.
+     */
+    default Set<String> getTypeAndSubTypeGUIDs(String sourceName,
+                                               String typeDefGUID)
+    {
+        if (typeDefGUID == null)
+        {
+            return Collections.emptySet();
+        }
+
+        return Collections.singleton(typeDefGUID);
+    }
+
+
     /**
      * Return the AttributeTypeDef identified by the name supplied by the caller.  This is used in the connectors when
      * validating the actual types of the repository with the known open metadata types looking specifically
@@ -816,6 +816,24 @@ public interface OMRSRepositoryValidator
                                 String methodName) throws InvalidParameterException;
 
 
+    /**
+     * Validate that a search criteria is a valid regular expression and return the matcher used to test
+     * property values against it.  The matcher should be retrieved once for a search and used for each of the
+     * instances that are examined.
+     *
+     * @param sourceName  source of the request (used for logging)
+     * @param parameterName  name of the parameter that passed the search criteria.
+     * @param searchCriteria  regular expression for testing the property values
+     * @param methodName  method receiving the call
+     * @return matcher for the search criteria
+     * @throws InvalidParameterException  the search criteria is null or not a valid regular expression
+     */
+    OMRSSearchCriteriaMatcher getSearchCriteriaMatcher(String sourceName,
+                                                       String parameterName,
+                                                       String searchCriteria,
+                                                       String methodName) throws InvalidParameterException;
+
+
     /**
      * Validate that the properties for a metadata instance match its TypeDef.
      *
@@ -883,6 +901,45 @@ public interface OMRSRepositoryValidator
                                InstanceHeader   instance);
 
 
+    /**
+     * Verify whether the instance passed to this method is of the type indicated by the type guid or one of
+     * its sub types.  A null type guid matches all instances (ie result is true).  A null instance returns false.
+     * Validators that do not know the type hierarchy use the super types recorded in the instance's type.
+     *
+     * @param instanceTypeGUID  unique identifier of the type (or null).
+     * @param instance  instance to test.
+     * @return boolean
+     */
+    default boolean verifyInstanceTypeOrSubType(String           instanceTypeGUID,
+                                                InstanceHeader   instance)
+    {
+        if (verifyInstanceType(instanceTypeGUID, instance))
+        {
+            return true;
+        }
+
+        if ((instance == null) || (instance.getType() == null))
+        {
+            return false;
+        }
+
+        List<TypeDefLink> superTypes = instance.getType().getTypeDefSuperTypes();
+
+        if (superTypes != null)
+        {
+            for (TypeDefLink superType : superTypes)
+            {
+                if ((superType != null) && (instanceTypeGUID.equals(superType.getGUID())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
 
     /**
      * Verify that an entity has been successfully retrieved from the repository and has valid contents.
@@ -1229,6 +1286,22 @@ public interface OMRSRepositoryValidator
                                                         String              methodName) throws RepositoryErrorException;
 
 
+    /**
+     * Search for property values matching the search criteria of a matcher retrieved from getSearchCriteriaMatcher.
+     *
+     * @param sourceName  source of the request (used for logging)
+     * @param properties  list of properties associated with the in instance
+     * @param searchCriteriaMatcher  compiled search criteria for testing the property values
+     * @param methodName  name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException  the properties are not properly set up in the instance
+     */
+    boolean verifyInstancePropertiesMatchSearchCriteria(String                     sourceName,
+                                                        InstanceProperties         properties,
+                                                        OMRSSearchCriteriaMatcher  searchCriteriaMatcher,
+                                                        String                     methodName) throws RepositoryErrorException;
+
+
     /**
      * Returns a boolean indicating that the instance is of the supplied type.  It tests the
      * base type and all the super types.
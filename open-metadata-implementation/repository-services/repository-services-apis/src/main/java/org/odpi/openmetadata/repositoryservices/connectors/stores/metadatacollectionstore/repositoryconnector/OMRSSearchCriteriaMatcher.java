@@ -0,0 +1,292 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * OMRSSearchCriteriaMatcher tests string property values against the search criteria (a regular expression)
+ * of a find request.  It gives the same result as String.matches(searchCriteria) but the regular expression
+ * is compiled once rather than for every value tested.  Search criteria that are plain literals, or literals
+ * with a leading and/or trailing ".*", are matched with simple string comparisons.
+ * <p>
+ * Matchers are immutable and can be shared by the threads of a scan.  The most recently used matchers are
+ * cached so repeated searches for the same criteria do not recompile the regular expression.
+ * </p>
+ */
+public class OMRSSearchCriteriaMatcher
+{
+    private static final int    matcherCacheSize = 256;
+    private static final String anyCharacters    = ".*";
+    private static final String metaCharacters   = "\\^$.|?*+()[]{}";
+
+    private static final Map<String, OMRSSearchCriteriaMatcher> matcherCache =
+            new LinkedHashMap<String, OMRSSearchCriteriaMatcher>(matcherCacheSize, 0.75f, true)
+            {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OMRSSearchCriteriaMatcher> eldest)
+                {
+                    return size() > matcherCacheSize;
+                }
+            };
+
+
+    /**
+     * MatchType describes how the values are tested.
+     */
+    enum MatchType
+    {
+        EXACT,
+        PREFIX,
+        SUFFIX,
+        CONTAINS,
+        REGEX
+    }
+
+    private String    searchCriteria;
+    private Pattern   pattern;
+    private MatchType matchType;
+    private String    literal;
+
+
+    /**
+     * Return the matcher for the supplied search criteria, reusing a cached matcher if there is one.
+     *
+     * @param searchCriteria regular expression for testing the property values
+     * @return matcher
+     * @throws PatternSyntaxException the search criteria is not a valid regular expression
+     */
+    public static OMRSSearchCriteriaMatcher getMatcher(String   searchCriteria) throws PatternSyntaxException
+    {
+        if (searchCriteria == null)
+        {
+            throw new IllegalArgumentException("Null search criteria");
+        }
+
+        synchronized (matcherCache)
+        {
+            OMRSSearchCriteriaMatcher matcher = matcherCache.get(searchCriteria);
+
+            if (matcher != null)
+            {
+                return matcher;
+            }
+        }
+
+        /*
+         * Compiled outside of the lock.  Two threads compiling the same criteria both get a valid matcher.
+         */
+        OMRSSearchCriteriaMatcher matcher = new OMRSSearchCriteriaMatcher(searchCriteria);
+
+        synchronized (matcherCache)
+        {
+            matcherCache.put(searchCriteria, matcher);
+        }
+
+        return matcher;
+    }
+
+
+    /**
+     * Constructor compiles the search criteria and works out whether it can be matched without the
+     * regular expression.
+     *
+     * @param searchCriteria regular expression for testing the property values
+     * @throws PatternSyntaxException the search criteria is not a valid regular expression
+     */
+    OMRSSearchCriteriaMatcher(String   searchCriteria) throws PatternSyntaxException
+    {
+        this.searchCriteria = searchCriteria;
+        this.pattern = Pattern.compile(searchCriteria);
+
+        String  remainder   = searchCriteria;
+        boolean leadingAny  = false;
+        boolean trailingAny = false;
+
+        if (remainder.startsWith(anyCharacters))
+        {
+            leadingAny = true;
+            remainder = remainder.substring(anyCharacters.length());
+        }
+
+        if (remainder.endsWith(anyCharacters) && (! remainder.endsWith("\\" + anyCharacters)))
+        {
+            trailingAny = true;
+            remainder = remainder.substring(0, remainder.length() - anyCharacters.length());
+        }
+
+        if (isLiteral(remainder))
+        {
+            this.literal = remainder;
+
+            if (leadingAny && trailingAny)
+            {
+                this.matchType = MatchType.CONTAINS;
+            }
+            else if (leadingAny)
+            {
+                this.matchType = MatchType.SUFFIX;
+            }
+            else if (trailingAny)
+            {
+                this.matchType = MatchType.PREFIX;
+            }
+            else
+            {
+                this.matchType = MatchType.EXACT;
+            }
+        }
+        else
+        {
+            this.matchType = MatchType.REGEX;
+        }
+    }
+
+
+    /**
+     * Return the search criteria used to create this matcher.
+     *
+     * @return regular expression
+     */
+    public String getSearchCriteria()
+    {
+        return searchCriteria;
+    }
+
+
+    /**
+     * Return text that every value matching the search criteria contains.  This can be used to select candidate
+     * values from an index before they are tested with matches().
+     *
+     * @return literal text or null if the search criteria is a regular expression that is not reduced to a literal
+     */
+    public String getRequiredText()
+    {
+        if (matchType == MatchType.REGEX)
+        {
+            return null;
+        }
+
+        return literal;
+    }
+
+
+    /**
+     * Return how the values are tested.
+     *
+     * @return match type
+     */
+    MatchType getMatchType()
+    {
+        return matchType;
+    }
+
+
+    /**
+     * Return whether the whole of the value matches the search criteria.
+     *
+     * @param value value to test
+     * @return boolean - false if the value is null
+     */
+    public boolean matches(String   value)
+    {
+        if (value == null)
+        {
+            return false;
+        }
+
+        switch (matchType)
+        {
+            case EXACT:
+                return literal.equals(value);
+
+            case REGEX:
+                return pattern.matcher(value).matches();
+
+            default:
+                /*
+                 * The "." in ".*" does not match line terminators so values that contain them are left to
+                 * the regular expression.
+                 */
+                if (hasLineTerminator(value))
+                {
+                    return pattern.matcher(value).matches();
+                }
+
+                switch (matchType)
+                {
+                    case PREFIX:
+                        return value.startsWith(literal);
+
+                    case SUFFIX:
+                        return value.endsWith(literal);
+
+                    default:
+                        return value.contains(literal);
+                }
+        }
+    }
+
+
+    /**
+     * Return whether the string has no regular expression meta characters.
+     *
+     * @param candidate string to test
+     * @return boolean
+     */
+    private static boolean isLiteral(String   candidate)
+    {
+        for (int i = 0; i < candidate.length(); i++)
+        {
+            if (metaCharacters.indexOf(candidate.charAt(i)) != -1)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return whether the value contains a character that is not matched by "." in a regular expression.
+     *
+     * @param value value to test
+     * @return boolean
+     */
+    private static boolean hasLineTerminator(String   value)
+    {
+        for (int i = 0; i < value.length(); i++)
+        {
+            char character = value.charAt(i);
+
+            if ((character == '\n') || (character == '\r') || (character == '\u0085') ||
+                (character == '\u2028') || (character == '\u2029'))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSSearchCriteriaMatcher{" +
+                "searchCriteria='" + searchCriteria + '\'' +
+                ", matchType=" + matchType +
+                '}';
+    }
+}
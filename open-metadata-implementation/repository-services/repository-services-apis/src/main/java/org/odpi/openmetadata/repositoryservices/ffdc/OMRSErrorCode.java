@@ -283,6 +283,10 @@ public enum OMRSErrorCode
             "An invalid instance has been detected by repository helper method {0}.  The instance is {1}",
             "The system is unable to work with the supplied instance because key values are missing from its contents.",
             "This is probably a logic error in Egeria. Raise a git issue to get this investigated and fixed."),
+    INVALID_SEARCH_CRITERIA(400, "OMRS-REPOSITORY-400-062 ",
+            "The search criteria {0} passed as the {1} parameter on a {2} request to open metadata repository {3} is not a valid regular expression: {4}",
+            "The system is unable to perform the request because the search criteria can not be compiled.",
+            "Correct the regular expression in the caller's request and retry."),
     NULL_USER_NAME(400, "OMRS-REST-API-400-001 ",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
             "The system is unable to access the local metadata repository.",
@@ -436,6 +440,22 @@ public enum OMRSErrorCode
             "A null log record has been passed by the audit log to the audit log store.",
             "The audit log store throws an exception and the log record is not written to the audit log store.",
             "This is probably an internal error in the audit log.  Raise a Github issue to get this fixed."),
+    NULL_LOG_RECORD_ID(400, "OMRS-AUDITLOG-400-002 ",
+            "A null log record identifier has been passed to the {0} operation of audit log store {1}.",
+            "The audit log store is unable to retrieve the log record.",
+            "Correct the caller's code and retry the request."),
+    NULL_LOG_RECORD_SEARCH_VALUE(400, "OMRS-AUDITLOG-400-003 ",
+            "A null {0} has been passed to the {1} operation of audit log store {2}.",
+            "The audit log store is unable to retrieve the log records.",
+            "Correct the caller's code and retry the request."),
+    INVALID_LOG_RECORD_TIME_PERIOD(400, "OMRS-AUDITLOG-400-004 ",
+            "The start date {0} passed to the {1} operation of audit log store {2} is after the end date {3}.",
+            "The audit log store is unable to retrieve the log records.",
+            "Correct the caller's code and retry the request."),
+    INVALID_LOG_RECORD_PAGING(400, "OMRS-AUDITLOG-400-005 ",
+            "An offset of {0} and a maximum number of records of {1} have been passed to the {2} operation of audit log store {3}.  Neither may be negative.",
+            "The audit log store is unable to retrieve the log records.",
+            "Correct the caller's code and retry the request."),
     REPOSITORY_NOT_AVAILABLE(404, "OMRS-REPOSITORY-404-001 ",
             "The open metadata repository connector for server {0} is not active and is unable to service the {1} request",
             "The system is unable to retrieve any metadata properties from this repository.",
@@ -569,6 +589,10 @@ public enum OMRSErrorCode
            "During the {0} operation, open metadata repository {1} retrieved an instance (guid={2}) from its metadata store that has an inactive type called {3} (type guid = {4})",
            "There is an internal error in the OMRS repository connector.",
            "Raise a Github issue to get this fixed."),
+    TRAVERSAL_LIMIT_REACHED(500, "OMRS-METADATA-COLLECTION-500-012 ",
+           "The {0} operation on open metadata repository {1} stopped after visiting {2} entities connected to entity {3} so its result would be incomplete",
+           "The system is unable to return the complete result of the graph query.",
+           "Narrow the query with entity types, relationship types, status values or classifications, or follow fewer relationships from the entity."),
     NULL_COHORT_NAME(500, "OMRS-COHORT-MANAGER-500-001 ",
             "OMRSCohortManager has been initialized with a null cohort name",
             "There is an internal error in the OMRS initialization.",
@@ -621,6 +645,18 @@ public enum OMRSErrorCode
             "A remote open metadata repository {0} returned a null metadata collection identifier on its REST API.  It registered with the cohort using a metadata collection identifier of {1}",
             "There is an internal error in the remote open metadata repository.",
              "Raise a Github issue to get this fixed."),
+    GRAPH_REPOSITORY_STORE_UNAVAILABLE(500, "OMRS-GRAPH-REPOSITORY-CONNECTOR-500-001 ",
+            "The graph repository for server {0} is unable to open its store {1}.  The exception message was: {2}",
+            "The local repository is not available.",
+            "Check that the store named in the endpoint of the graph repository connection is not in use by another server and that the server has permission to write to it."),
+    AUDIT_LOG_STORE_UNAVAILABLE(500, "OMRS-AUDITLOG-500-001 ",
+            "The file based audit log store is unable to use directory {0}.  The exception message was: {1}",
+            "The audit log records are not being saved to the audit log store.",
+            "Check that the directory named in the endpoint of the audit log store connection is not in use by another server and that the server has permission to write to it."),
+    UNREADABLE_ARCHIVE_STORE(500, "OMRS-ARCHIVE-STORE-500-001 ",
+            "The open metadata archive store is unable to read open metadata archive {0}.  The exception message was: {1}",
+            "The content of the open metadata archive after the point of the error has not been processed.",
+            "Check that the open metadata archive named in the endpoint of the archive store connection is a valid open metadata archive."),
     NULL_OPEN_METADATA_TOPIC_LISTENER(500, "OPEN-METADATA-TOPIC-CONNECTOR-500-001 ",
             "A null topic listener has been passed to the {0} open metadata topic connector {1}",
             "There is an internal error in the open metadata repository.",
@@ -661,6 +697,10 @@ public enum OMRSErrorCode
             "The enterprise repository services has detected a repository connector from cohort {0} for metadata collection identifier {1} that has a null metadata collection API object.",
             "There is an internal error in the OMRS Repository Connector implementation.",
             "Raise a Github issue to get this fixed."),
+    ENTERPRISE_MEMBER_TIMEOUT(503, "OMRS-ENTERPRISE-REPOSITORY-503-004 ",
+            "The {0} request timed out after {1} milliseconds waiting for metadata collection {2} from server {3}.",
+            "The system was unable to retrieve results from this member of the cohort within the configured timeout.",
+            "Check that the server is running and is not overloaded.  Retry the request when the server is responding."),
     NULL_CONTENT_MANAGER(503, "OMRS-LOCAL-REPOSITORY-503-001 ",
             "A null repository content manager has been passed to one of the local repository's components on method {0}.",
             "There is an internal error in the OMRS Local Repository Connector implementation, or the way it has been initialized.",
@@ -0,0 +1,98 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.properties.CohortMembership;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OMRSJSONMapper provides the JSON serialization used by the OMRS events and stores.  Creating an ObjectMapper
+ * is expensive and a new mapper has to rediscover the serializers and deserializers for each type it handles,
+ * so the OMRS shares a single mapper.  Mappers, readers and writers are thread-safe once configured.
+ * The readers are cached by type, starting with the OMRS event, archive and cohort registry types.
+ * <p>
+ *     The shared mapper uses Jackson's default configuration so the JSON it produces is the same as a
+ *     newly created ObjectMapper.  It is not returned to callers so that its configuration can not be changed.
+ * </p>
+ */
+public class OMRSJSONMapper
+{
+    private static final ObjectMapper                objectMapper = new ObjectMapper();
+    private static final ObjectWriter                objectWriter = objectMapper.writer();
+    private static final Map<Class<?>, ObjectReader> readers      = new ConcurrentHashMap<>();
+
+    static
+    {
+        getReader(OMRSEventBean.class);
+        getReader(OpenMetadataArchive.class);
+        getReader(CohortMembership.class);
+    }
+
+
+    /**
+     * Private constructor since this class only has static methods.
+     */
+    private OMRSJSONMapper()
+    {
+    }
+
+
+    /**
+     * Return the reader for a type.
+     *
+     * @param valueType class of the objects to read
+     * @return cached reader
+     */
+    public static ObjectReader getReader(Class<?> valueType)
+    {
+        return readers.computeIfAbsent(valueType, objectMapper::readerFor);
+    }
+
+
+    /**
+     * Return the writer.  The writer serializes each object using its runtime type.
+     *
+     * @return cached writer
+     */
+    public static ObjectWriter getWriter()
+    {
+        return objectWriter;
+    }
+
+
+    /**
+     * Parse a JSON string into an object of the requested type.
+     *
+     * @param json JSON string
+     * @param valueType class of the object to return
+     * @param <T> type of the object to return
+     * @return new object
+     * @throws IOException the JSON could not be parsed into the requested type
+     */
+    public static <T> T readValue(String   json,
+                                  Class<T> valueType) throws IOException
+    {
+        return getReader(valueType).readValue(json);
+    }
+
+
+    /**
+     * Serialize an object into a JSON string.
+     *
+     * @param value object to serialize
+     * @return JSON string
+     * @throws JsonProcessingException the object could not be serialized
+     */
+    public static String writeValueAsString(Object value) throws JsonProcessingException
+    {
+        return objectWriter.writeValueAsString(value);
+    }
+}
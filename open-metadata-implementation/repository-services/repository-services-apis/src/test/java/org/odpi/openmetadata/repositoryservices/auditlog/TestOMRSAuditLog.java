@@ -0,0 +1,264 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that the OMRSAuditLog writes log records to the audit log stores asynchronously, applies the overflow
+ * policy when the queue is full and writes the waiting log records on shutdown.
+ */
+public class TestOMRSAuditLog
+{
+    private OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.AUDIT_LOG);
+
+
+    /**
+     * TestAuditLogStore saves the log records in memory.  It can be held closed to fill up the queue.
+     */
+    private static class TestAuditLogStore implements OMRSAuditLogStore
+    {
+        private List<OMRSAuditLogRecord> logRecords = Collections.synchronizedList(new ArrayList<>());
+        private volatile CountDownLatch  gate       = new CountDownLatch(0);
+        private Set<Thread>              threads    = Collections.synchronizedSet(new HashSet<>());
+
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            threads.add(Thread.currentThread());
+
+            try
+            {
+                gate.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException   interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            logRecords.add(logRecord);
+            return logRecord.getGUID();
+        }
+
+        public OMRSAuditLogRecord getAuditLogRecord(String logRecordId)
+        {
+            return null;
+        }
+
+        public List<OMRSAuditLogRecord> getAuditLogRecordsByTimeStamp(Date startDate, Date endDate, int offset, int maximumRecords)
+        {
+            return null;
+        }
+
+        public List<OMRSAuditLogRecord> getAuditLogRecordsBySeverity(String severity, Date startDate, Date endDate, int offset, int maximumRecords)
+        {
+            return null;
+        }
+
+        public List<OMRSAuditLogRecord> getAuditLogRecordsByComponent(String component, Date startDate, Date endDate, int offset, int maximumRecords)
+        {
+            return null;
+        }
+    }
+
+
+    private void logRecord(OMRSAuditLogRecordSeverity severity,
+                           int                        number)
+    {
+        auditLog.logRecord("Test", "TEST-" + number, severity, "Message " + number, null, null, null);
+    }
+
+
+    @AfterMethod
+    public void shutdownAuditLog()
+    {
+        OMRSAuditLog.shutdown();
+        OMRSAuditLog.initialize("TestServer", "TestType", "TestOrganization", new ArrayList<>());
+    }
+
+
+    @Test
+    public void testSynchronousWrite()
+    {
+        TestAuditLogStore auditLogStore = new TestAuditLogStore();
+
+        OMRSAuditLog.initialize("TestServer", "TestType", "TestOrganization", Collections.singletonList(auditLogStore));
+
+        logRecord(OMRSAuditLogRecordSeverity.INFO, 1);
+
+        assertEquals(auditLogStore.logRecords.size(), 1);
+        assertTrue(auditLogStore.threads.contains(Thread.currentThread()));
+        assertNull(OMRSAuditLog.getMetrics());
+    }
+
+
+    @Test
+    public void testAsynchronousWriteInOrder() throws Exception
+    {
+        TestAuditLogStore auditLogStore = new TestAuditLogStore();
+
+        OMRSAuditLog.initialize("TestServer",
+                                "TestType",
+                                "TestOrganization",
+                                Collections.singletonList(auditLogStore),
+                                16,
+                                4,
+                                OMRSAuditLogOverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 500; i++)
+        {
+            logRecord(OMRSAuditLogRecordSeverity.INFO, i);
+        }
+
+        OMRSAuditLogMetrics metrics = OMRSAuditLog.getMetrics();
+
+        assertNotNull(metrics);
+        assertEquals(metrics.getQueueCapacity(), 16);
+        assertEquals(metrics.getRecordsQueued(), 500);
+        assertEquals(metrics.getRecordsDropped(), 0);
+
+        OMRSAuditLog.shutdown();
+
+        assertEquals(auditLogStore.logRecords.size(), 500);
+        assertFalse(auditLogStore.threads.contains(Thread.currentThread()));
+
+        for (int i = 0; i < 500; i++)
+        {
+            assertEquals(auditLogStore.logRecords.get(i).getMessageId(), "TEST-" + i);
+        }
+    }
+
+
+    @Test
+    public void testDropLowestSeverity() throws Exception
+    {
+        TestAuditLogStore auditLogStore = new TestAuditLogStore();
+
+        OMRSAuditLog.initialize("TestServer",
+                                "TestType",
+                                "TestOrganization",
+                                Collections.singletonList(auditLogStore),
+                                4,
+                                1,
+                                OMRSAuditLogOverflowPolicy.DROP_LOWEST_SEVERITY);
+
+        auditLogStore.gate = new CountDownLatch(1);
+
+        for (int i = 0; i < 20; i++)
+        {
+            logRecord(OMRSAuditLogRecordSeverity.EVENT, i);
+        }
+
+        OMRSAuditLogMetrics metrics = OMRSAuditLog.getMetrics();
+
+        assertTrue(metrics.getRecordsDropped() >= 15);
+        assertEquals(metrics.getRecordsSpilled(), 0);
+
+        auditLogStore.gate.countDown();
+        logRecord(OMRSAuditLogRecordSeverity.ERROR, 99);
+
+        OMRSAuditLog.shutdown();
+
+        boolean errorStored = false;
+
+        for (OMRSAuditLogRecord logRecord : auditLogStore.logRecords)
+        {
+            if ("TEST-99".equals(logRecord.getMessageId()))
+            {
+                errorStored = true;
+            }
+        }
+
+        assertTrue(errorStored);
+        assertEquals(auditLogStore.logRecords.size() + metrics.getRecordsDropped(), 21);
+    }
+
+
+    @Test
+    public void testSpill() throws Exception
+    {
+        TestAuditLogStore auditLogStore = new TestAuditLogStore();
+
+        OMRSAuditLog.initialize("TestServer",
+                                "TestType",
+                                "TestOrganization",
+                                Collections.singletonList(auditLogStore),
+                                2,
+                                1,
+                                OMRSAuditLogOverflowPolicy.SPILL);
+
+        for (int i = 0; i < 100; i++)
+        {
+            logRecord(OMRSAuditLogRecordSeverity.INFO, i);
+        }
+
+        OMRSAuditLogMetrics metrics = OMRSAuditLog.getMetrics();
+
+        OMRSAuditLog.shutdown();
+
+        assertEquals(metrics.getRecordsDropped(), 0);
+        assertEquals(metrics.getRecordsQueued() + metrics.getRecordsSpilled(), 100);
+        assertEquals(auditLogStore.logRecords.size(), 100);
+    }
+
+
+    @Test
+    public void testWriteDuringShutdown() throws Exception
+    {
+        final int threadCount      = 4;
+        final int recordsPerThread = 2000;
+
+        TestAuditLogStore auditLogStore = new TestAuditLogStore();
+
+        OMRSAuditLog.initialize("TestServer",
+                                "TestType",
+                                "TestOrganization",
+                                Collections.singletonList(auditLogStore),
+                                64,
+                                8,
+                                OMRSAuditLogOverflowPolicy.BLOCK);
+
+        CountDownLatch start   = new CountDownLatch(1);
+        List<Thread>   loggers = new ArrayList<>();
+
+        for (int t = 0; t < threadCount; t++)
+        {
+            final int first = t * recordsPerThread;
+            Thread    logger = new Thread(() ->
+                                          {
+                                              try
+                                              {
+                                                  start.await();
+                                              }
+                                              catch (InterruptedException interrupted)
+                                              {
+                                                  return;
+                                              }
+
+                                              for (int i = first; i < first + recordsPerThread; i++)
+                                              {
+                                                  logRecord(OMRSAuditLogRecordSeverity.INFO, i);
+                                              }
+                                          });
+            loggers.add(logger);
+            logger.start();
+        }
+
+        start.countDown();
+        OMRSAuditLog.shutdown();
+
+        for (Thread logger : loggers)
+        {
+            logger.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        assertEquals(auditLogStore.logRecords.size(), threadCount * recordsPerThread);
+    }
+}
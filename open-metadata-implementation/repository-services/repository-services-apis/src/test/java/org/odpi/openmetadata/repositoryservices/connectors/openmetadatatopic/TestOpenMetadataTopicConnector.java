@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that events added to the OpenMetadataTopicConnector are handed to the listeners by the
+ * listener thread, that a full queue of incoming events pushes back on the sender and that a listener
+ * that throws an exception does not stop the delivery of later events.
+ */
+public class TestOpenMetadataTopicConnector
+{
+    /**
+     * Minimal connector that passes each sent event straight to the incoming event queue.
+     */
+    private static class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        public void sendEvent(String event)
+        {
+            super.addIncomingEvent(event);
+        }
+    }
+
+
+    private TestTopicConnector getConnector(Integer queueSize)
+    {
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress("TestTopic");
+        connection.setEndpoint(endpoint);
+
+        if (queueSize != null)
+        {
+            Map<String, Object> additionalProperties = new HashMap<>();
+
+            additionalProperties.put(OpenMetadataTopicConnector.incomingEventQueueSizePropertyName, queueSize);
+            connection.setAdditionalProperties(additionalProperties);
+        }
+
+        TestTopicConnector connector = new TestTopicConnector();
+
+        connector.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    @Test public void testEventsDeliveredInOrder() throws Exception
+    {
+        TestTopicConnector connector      = getConnector(null);
+        List<String>       receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch     allReceived    = new CountDownLatch(50);
+
+        connector.registerListener((event) ->
+                                   {
+                                       receivedEvents.add(event);
+                                       allReceived.countDown();
+                                   });
+        connector.start();
+
+        List<String> sentEvents = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++)
+        {
+            sentEvents.add("event" + i);
+            connector.sendEvent("event" + i);
+        }
+
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+        assertEquals(receivedEvents, sentEvents);
+
+        connector.disconnect();
+    }
+
+
+    @Test public void testBackPressure() throws Exception
+    {
+        TestTopicConnector connector   = getConnector(1);
+        CountDownLatch     secondAdded = new CountDownLatch(1);
+
+        connector.sendEvent("event1");
+
+        Thread sender = new Thread(() ->
+                                   {
+                                       connector.sendEvent("event2");
+                                       secondAdded.countDown();
+                                   });
+        sender.start();
+
+        /*
+         * The listener thread has not started so the queue stays full and the sender waits.
+         */
+        assertFalse(secondAdded.await(300, TimeUnit.MILLISECONDS));
+
+        List<String>   receivedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allReceived    = new CountDownLatch(2);
+
+        connector.registerListener((event) ->
+                                   {
+                                       receivedEvents.add(event);
+                                       allReceived.countDown();
+                                   });
+        connector.start();
+
+        assertTrue(secondAdded.await(10, TimeUnit.SECONDS));
+        assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+        assertEquals(receivedEvents, Arrays.asList("event1", "event2"));
+
+        connector.disconnect();
+    }
+
+
+    @Test public void testSenderReleasedOnDisconnect() throws Exception
+    {
+        TestTopicConnector connector   = getConnector(1);
+        CountDownLatch     secondAdded = new CountDownLatch(1);
+
+        connector.sendEvent("event1");
+
+        Thread sender = new Thread(() ->
+                                   {
+                                       connector.sendEvent("event2");
+                                       secondAdded.countDown();
+                                   });
+        sender.start();
+
+        assertFalse(secondAdded.await(300, TimeUnit.MILLISECONDS));
+
+        connector.disconnect();
+
+        assertTrue(secondAdded.await(10, TimeUnit.SECONDS));
+    }
+
+
+    @Test public void testListenerException() throws Exception
+    {
+        List<OMRSAuditLogRecord> logRecords    = Collections.synchronizedList(new ArrayList<>());
+        OMRSAuditLogStore        auditLogStore = mock(OMRSAuditLogStore.class);
+
+        doAnswer((invocation) ->
+                 {
+                     logRecords.add(invocation.getArgument(0));
+                     return null;
+                 }).when(auditLogStore).storeLogRecord(any(OMRSAuditLogRecord.class));
+
+        OMRSAuditLog.initialize("TestServer", "TestType", "TestOrganization", Collections.singletonList(auditLogStore));
+
+        try
+        {
+            TestTopicConnector connector      = getConnector(null);
+            List<String>       receivedEvents = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch     allReceived    = new CountDownLatch(2);
+
+            connector.registerListener((event) ->
+                                       {
+                                           if ("badEvent".equals(event))
+                                           {
+                                               throw new IllegalStateException("Test listener failure");
+                                           }
+
+                                           receivedEvents.add(event);
+                                           allReceived.countDown();
+                                       });
+            connector.start();
+
+            connector.sendEvent("event1");
+            connector.sendEvent("badEvent");
+            connector.sendEvent("event2");
+
+            assertTrue(allReceived.await(10, TimeUnit.SECONDS));
+            assertEquals(receivedEvents, Arrays.asList("event1", "event2"));
+
+            connector.disconnect();
+
+            int errorRecords = 0;
+
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                if (OMRSAuditCode.EVENT_PROCESSING_ERROR.getLogMessageId().equals(logRecord.getMessageId()))
+                {
+                    assertTrue(logRecord.getMessageText().contains("badEvent"));
+                    errorRecords++;
+                }
+            }
+
+            assertEquals(errorRecords, 1);
+        }
+        finally
+        {
+            OMRSAuditLog.initialize("TestServer", "TestType", "TestOrganization", new ArrayList<>());
+        }
+    }
+}
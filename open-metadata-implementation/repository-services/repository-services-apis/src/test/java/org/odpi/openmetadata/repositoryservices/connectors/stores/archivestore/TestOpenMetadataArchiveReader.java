@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.json.OMRSJSONMapper;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that the OpenMetadataArchiveReader passes the content of a JSON archive to the handler in the order
+ * it appears in the archive.
+ */
+public class TestOpenMetadataArchiveReader
+{
+    /**
+     * TestHandler records the content it is passed.
+     */
+    private static class TestHandler implements OpenMetadataArchiveContentHandler
+    {
+        private List<String> content = new ArrayList<>();
+
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            content.add("properties:" + archiveProperties.getArchiveName());
+        }
+
+        public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+        {
+            content.add("types");
+        }
+
+        public void processEntity(EntityDetail entity)
+        {
+            content.add("entity:" + entity.getGUID());
+        }
+
+        public void processRelationship(Relationship relationship)
+        {
+            content.add("relationship:" + relationship.getGUID());
+        }
+    }
+
+
+    private OpenMetadataArchive getArchive()
+    {
+        OpenMetadataArchive              archive           = new OpenMetadataArchive();
+        OpenMetadataArchiveProperties    archiveProperties = new OpenMetadataArchiveProperties();
+        OpenMetadataArchiveInstanceStore instanceStore     = new OpenMetadataArchiveInstanceStore();
+        List<EntityDetail>               entities          = new ArrayList<>();
+        List<Relationship>               relationships     = new ArrayList<>();
+
+        archiveProperties.setArchiveName("TestArchive");
+
+        for (int i = 0; i < 3; i++)
+        {
+            EntityDetail entity       = new EntityDetail();
+            Relationship relationship = new Relationship();
+
+            entity.setGUID("E" + i);
+            relationship.setGUID("R" + i);
+
+            entities.add(entity);
+            relationships.add(relationship);
+        }
+
+        instanceStore.setEntities(entities);
+        instanceStore.setRelationships(relationships);
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(new OpenMetadataArchiveTypeStore());
+        archive.setArchiveInstanceStore(instanceStore);
+
+        return archive;
+    }
+
+
+    @Test
+    public void testReadStream() throws IOException
+    {
+        TestHandler handler = new TestHandler();
+        String      json    = OMRSJSONMapper.writeValueAsString(getArchive());
+
+        OpenMetadataArchiveReader.readArchive(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), handler);
+
+        assertEquals(handler.content.size(), 8);
+        assertEquals(handler.content.get(0), "properties:TestArchive");
+        assertEquals(handler.content.get(1), "types");
+        assertEquals(handler.content.get(2), "entity:E0");
+        assertEquals(handler.content.get(4), "entity:E2");
+        assertEquals(handler.content.get(5), "relationship:R0");
+        assertEquals(handler.content.get(7), "relationship:R2");
+    }
+
+
+    @Test
+    public void testReadObjectMatchesStream() throws IOException
+    {
+        TestHandler streamHandler = new TestHandler();
+        TestHandler objectHandler = new TestHandler();
+        String      json          = OMRSJSONMapper.writeValueAsString(getArchive());
+
+        OpenMetadataArchiveReader.readArchive(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), streamHandler);
+        OpenMetadataArchiveReader.readArchive(getArchive(), objectHandler);
+
+        assertEquals(streamHandler.content, objectHandler.content);
+    }
+
+
+    @Test
+    public void testTruncatedStream() throws IOException
+    {
+        TestHandler handler = new TestHandler();
+        String      json    = OMRSJSONMapper.writeValueAsString(getArchive());
+
+        json = json.substring(0, json.indexOf("relationships"));
+
+        try
+        {
+            OpenMetadataArchiveReader.readArchive(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), handler);
+            fail("Truncated archive accepted");
+        }
+        catch (IOException error)
+        {
+            assertEquals(handler.content.size(), 5);
+        }
+    }
+}
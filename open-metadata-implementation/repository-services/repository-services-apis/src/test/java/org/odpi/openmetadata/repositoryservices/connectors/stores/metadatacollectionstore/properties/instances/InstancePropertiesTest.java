@@ -0,0 +1,117 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * InstancePropertiesTest provides test of InstanceProperties
+ */
+public class InstancePropertiesTest
+{
+    private PrimitivePropertyValue  nameValue  = new PrimitivePropertyValue();
+    private PrimitivePropertyValue  ownerValue = new PrimitivePropertyValue();
+
+
+    public InstancePropertiesTest()
+    {
+        nameValue.setPrimitiveValue("TestName");
+        ownerValue.setPrimitiveValue("TestOwner");
+    }
+
+
+    /**
+     * Return a filled in test object
+     *
+     * @return test object
+     */
+    private InstanceProperties getTestObject()
+    {
+        InstanceProperties testObject = new InstanceProperties();
+
+        testObject.setEffectiveFromTime(new Date(23));
+        testObject.setProperty("name", nameValue);
+        testObject.setProperty("owner", ownerValue);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the view of the properties is read only and reflects later changes.
+     */
+    @Test public void testPropertiesView()
+    {
+        InstanceProperties                 testObject = getTestObject();
+        Map<String, InstancePropertyValue> view       = testObject.getInstancePropertiesView();
+
+        assertEquals(view, testObject.getInstanceProperties());
+
+        try
+        {
+            view.remove("name");
+            assertTrue(false, "View is modifiable");
+        }
+        catch (UnsupportedOperationException exc)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        testObject.setProperty("name", null);
+        assertFalse(view.containsKey("name"));
+        assertEquals(view.size(), 1);
+    }
+
+
+    /**
+     * Validate that each property is visited once.
+     */
+    @Test public void testForEachProperty()
+    {
+        Map<String, InstancePropertyValue> visitedProperties = new HashMap<>();
+
+        getTestObject().forEachProperty(visitedProperties::put);
+        assertEquals(visitedProperties, getTestObject().getInstanceProperties());
+
+        new InstanceProperties().forEachProperty((propertyName, propertyValue) -> assertTrue(false));
+    }
+
+
+    /**
+     * Validate that copies and JSON round trips have the same content.
+     */
+    @Test public void testCopyAndJSON()
+    {
+        InstanceProperties testObject = getTestObject();
+        InstanceProperties copy       = new InstanceProperties(testObject);
+
+        assertEquals(copy, testObject);
+        assertEquals(copy.hashCode(), testObject.hashCode());
+
+        copy.setProperty("owner", null);
+        assertFalse(copy.equals(testObject));
+        assertEquals(testObject.getPropertyCount(), 2);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        try
+        {
+            String jsonString = objectMapper.writeValueAsString(testObject);
+
+            assertFalse(jsonString.contains("instancePropertiesView"));
+            assertEquals(objectMapper.readValue(jsonString, InstanceProperties.class), testObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the default implementations of the sub type methods on OMRSRepositoryHelper and
+ * OMRSRepositoryValidator fall back to the single type behaviour for implementations that do not know the
+ * type hierarchy.
+ */
+public class TestOMRSRepositoryInterfaceDefaults
+{
+    private EntityDetail getEntity(String typeGUID,
+                                   String superTypeGUID)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setType(new InstanceType(TypeDefCategory.ENTITY_DEF,
+                                        typeGUID,
+                                        "TestType",
+                                        1L,
+                                        null,
+                                        null,
+                                        Collections.singletonList(new TypeDefLink(superTypeGUID, "TestSuperType")),
+                                        null,
+                                        null));
+        return entity;
+    }
+
+
+    @Test
+    public void testGetTypeAndSubTypeGUIDs()
+    {
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class, CALLS_REAL_METHODS);
+
+        assertEquals(repositoryHelper.getTypeAndSubTypeGUIDs("Test", "typeGUID"), Collections.singleton("typeGUID"));
+        assertTrue(repositoryHelper.getTypeAndSubTypeGUIDs("Test", null).isEmpty());
+    }
+
+
+    @Test
+    public void testVerifyInstanceTypeOrSubType()
+    {
+        OMRSRepositoryValidator repositoryValidator = mock(OMRSRepositoryValidator.class, CALLS_REAL_METHODS);
+
+        doAnswer(invocation ->
+                 {
+                     String         typeGUID = invocation.getArgument(0);
+                     InstanceHeader instance = invocation.getArgument(1);
+
+                     return (instance != null) && ((typeGUID == null) || (typeGUID.equals(instance.getType().getTypeDefGUID())));
+                 }).when(repositoryValidator).verifyInstanceType(nullable(String.class), any());
+
+        EntityDetail entity = getEntity("typeGUID", "superTypeGUID");
+
+        assertTrue(repositoryValidator.verifyInstanceTypeOrSubType("typeGUID", entity));
+        assertTrue(repositoryValidator.verifyInstanceTypeOrSubType("superTypeGUID", entity));
+        assertTrue(repositoryValidator.verifyInstanceTypeOrSubType(null, entity));
+        assertFalse(repositoryValidator.verifyInstanceTypeOrSubType("otherTypeGUID", entity));
+        assertFalse(repositoryValidator.verifyInstanceTypeOrSubType("typeGUID", null));
+    }
+}
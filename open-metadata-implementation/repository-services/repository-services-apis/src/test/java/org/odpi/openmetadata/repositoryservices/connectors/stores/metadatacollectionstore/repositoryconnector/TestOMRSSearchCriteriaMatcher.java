@@ -0,0 +1,75 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector;
+
+import org.testng.annotations.Test;
+
+import java.util.regex.PatternSyntaxException;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that OMRSSearchCriteriaMatcher gives the same results as String.matches.
+ */
+public class TestOMRSSearchCriteriaMatcher
+{
+    private static final String[] searchCriteria = { "Customer", "Customer.*", ".*Customer", ".*Customer.*", ".*",
+                                                     "Cust.mer", "(?i)customer.*", "Customer\\.*", ".*Cust.*mer.*",
+                                                     "", "Glossary::Term1.*", ".*Term1[0-9]* Customer.*" };
+    private static final String[] values         = { "Customer", "CustomerAddress", "OldCustomer", "OldCustomerAddress",
+                                                     "customer", "Custmer", "Customer.", "Customer\nAddress",
+                                                     "Old\nCustomer", "Customer ", "", "Cust",
+                                                     "Glossary::Term12 Customer Address", "Glossary::Term2 Customer" };
+
+
+    @Test
+    public void testMatchesLikeStringMatches()
+    {
+        for (String criteria : searchCriteria)
+        {
+            OMRSSearchCriteriaMatcher matcher = OMRSSearchCriteriaMatcher.getMatcher(criteria);
+
+            for (String value : values)
+            {
+                assertEquals(matcher.matches(value), value.matches(criteria), criteria + " against " + value);
+            }
+
+            assertFalse(matcher.matches(null));
+        }
+    }
+
+
+    @Test
+    public void testMatchTypes()
+    {
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher("Customer").getMatchType(),
+                     OMRSSearchCriteriaMatcher.MatchType.EXACT);
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher("Customer.*").getMatchType(),
+                     OMRSSearchCriteriaMatcher.MatchType.PREFIX);
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher(".*Customer").getMatchType(),
+                     OMRSSearchCriteriaMatcher.MatchType.SUFFIX);
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher(".*Customer.*").getMatchType(),
+                     OMRSSearchCriteriaMatcher.MatchType.CONTAINS);
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher("Cust.mer").getMatchType(),
+                     OMRSSearchCriteriaMatcher.MatchType.REGEX);
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher("Customer\\.*").getMatchType(),
+                     OMRSSearchCriteriaMatcher.MatchType.REGEX);
+
+        assertEquals(OMRSSearchCriteriaMatcher.getMatcher(".*Customer.*").getRequiredText(), "Customer");
+        assertNull(OMRSSearchCriteriaMatcher.getMatcher("Cust.mer").getRequiredText());
+    }
+
+
+    @Test
+    public void testMatchersCached()
+    {
+        assertSame(OMRSSearchCriteriaMatcher.getMatcher(".*Cached.*"), OMRSSearchCriteriaMatcher.getMatcher(".*Cached.*"));
+    }
+
+
+    @Test(expectedExceptions = PatternSyntaxException.class)
+    public void testInvalidSearchCriteria()
+    {
+        OMRSSearchCriteriaMatcher.getMatcher("Customer[");
+    }
+}
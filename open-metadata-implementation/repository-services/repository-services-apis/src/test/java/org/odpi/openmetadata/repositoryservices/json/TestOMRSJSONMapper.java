@@ -0,0 +1,52 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the shared OMRSJSONMapper produces the same JSON as a newly created ObjectMapper and
+ * caches its readers.
+ */
+public class TestOMRSJSONMapper
+{
+    private OMRSEventV1 getEvent()
+    {
+        OMRSEventV1 event = new OMRSEventV1();
+
+        event.setTimestamp(new Date(1000));
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+
+        return event;
+    }
+
+
+    @Test public void testEventRoundTrip() throws Exception
+    {
+        String json = OMRSJSONMapper.writeValueAsString(getEvent());
+
+        assertEquals(json, new ObjectMapper().writeValueAsString(getEvent()));
+
+        OMRSEventBean eventBean = OMRSJSONMapper.readValue(json, OMRSEventBean.class);
+
+        assertTrue(eventBean instanceof OMRSEventV1);
+        assertEquals(((OMRSEventV1) eventBean).getTimestamp(), new Date(1000));
+        assertEquals(((OMRSEventV1) eventBean).getEventCategory(), OMRSEventCategory.INSTANCE);
+    }
+
+
+    @Test public void testReadersCached()
+    {
+        assertSame(OMRSJSONMapper.getReader(OMRSEventBean.class), OMRSJSONMapper.getReader(OMRSEventBean.class));
+        assertSame(OMRSJSONMapper.getReader(OMRSEventV1.class), OMRSJSONMapper.getReader(OMRSEventV1.class));
+    }
+}
@@ -225,12 +225,16 @@ public class OMRSOperationalServices
         }
 
         /*
-         * Initialize the audit log
+         * Initialize the audit log.  Log records are written to the audit log stores on a separate thread
+         * configured by the repository services config.
          */
         OMRSAuditLog.initialize(localServerName,
                                 localServerType,
                                 localOrganizationName,
-                                getAuditLogStores(repositoryServicesConfig.getAuditLogConnections()));
+                                getAuditLogStores(repositoryServicesConfig.getAuditLogConnections()),
+                                repositoryServicesConfig.getAuditLogQueueSize(),
+                                repositoryServicesConfig.getAuditLogBatchSize(),
+                                repositoryServicesConfig.getAuditLogOverflowPolicy());
 
         /*
          * Log that the OMRS is starting.  There is another Audit log message logged at the end of this method
@@ -316,6 +320,12 @@ public class OMRSOperationalServices
                                                                 localRepositoryConfig.getSelectedTypesToSend()),
                             new OMRSRepositoryContentValidator(localRepositoryContentManager));
 
+            /*
+             * The enterprise connectors remember where the instances they retrieve are homed.  The events from
+             * the local repository keep this information up to date.
+             */
+            localRepositoryEventManager.registerInstanceProcessor(EnterpriseOMRSConnectorProvider.getInstanceLocationCache());
+
             /*
              * Pass the local metadata collectionId to the AuditLog
              */
@@ -657,7 +667,8 @@ public class OMRSOperationalServices
                                                                                             localRepositoryConnector,
                                                                                             localRepositoryContentManager,
                                                                                             connectionConsumer,
-                                                                                            enterpriseTopicConnector);
+                                                                                            enterpriseTopicConnector,
+                                                                                            EnterpriseOMRSConnectorProvider.getInstanceLocationCache());
 
         /*
          * The metadata highway manager is initialize with the details specific to each cohort.
@@ -696,6 +707,11 @@ public class OMRSOperationalServices
             metadataHighwayManager.disconnect(permanent);
         }
 
+        if (localRepositoryEventManager != null)
+        {
+            localRepositoryEventManager.shutdown();
+        }
+
         if (enterpriseOMRSTopicConnector != null)
         {
             try
@@ -737,6 +753,11 @@ public class OMRSOperationalServices
                            auditCode.getSystemAction(),
                            auditCode.getUserAction());
 
+        /*
+         * Write any waiting log records to the audit log stores.
+         */
+        OMRSAuditLog.shutdown();
+
         return true;
     }
 
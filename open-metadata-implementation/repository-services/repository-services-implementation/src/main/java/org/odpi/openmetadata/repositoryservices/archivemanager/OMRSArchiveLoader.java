@@ -0,0 +1,561 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSArchiveLoader loads the content of a single open metadata archive into the local repository as the
+ * archive is read.  The types are processed in the order they appear in the archive.  The instances are
+ * gathered into batches.  Batches of entities are loaded in parallel since the entities in an archive are
+ * independent of one another.  Relationships are only loaded once all of the entities read before them have
+ * been loaded so that the entities at each end of a relationship are in the repository before the relationship.
+ * Batches of relationships are then loaded in parallel too.  Progress and throughput are reported to the audit log.
+ */
+class OMRSArchiveLoader implements OpenMetadataArchiveContentHandler
+{
+    private static final OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.ARCHIVE_MANAGER);
+
+    private static final String actionDescription = "Process Open Metadata Archive";
+    private static final long   progressInterval  = 10000;
+
+    private OMRSTypeDefEventProcessor  typeDefProcessor;
+    private OMRSInstanceEventProcessor instanceProcessor;
+    private int                        batchSize;
+    private int                        parallelism;
+
+    private OpenMetadataArchiveProperties archiveProperties          = null;
+    private String                        sourceName                 = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
+    private String                        originatorMetadataCollectionId;
+    private String                        originatorServerName;
+    private String                        originatorServerType;
+    private String                        originatorName;
+    private String                        originatorOrganizationName;
+
+    private int                typeCount          = 0;
+    private List<EntityDetail> entityBatch        = null;
+    private List<Relationship> relationshipBatch  = null;
+    private long               entitiesRead       = 0;
+    private long               relationshipsRead  = 0;
+    private AtomicLong         instancesLoaded    = new AtomicLong(0);
+    private long               startTime          = 0;
+
+    private ExecutorService    executor           = null;
+    private Semaphore          batchesInFlight    = null;
+    private volatile Throwable batchError         = null;
+
+
+    /**
+     * Constructor for a loader that passes the archive content to the local repository.
+     *
+     * @param typeDefProcessor receiver of new TypeDefs
+     * @param instanceProcessor receiver of new instances - may be null if there is no local repository
+     * @param batchSize number of instances passed to a loading thread at a time
+     * @param parallelism number of threads loading instances.  One means the instances are loaded on the
+     *                    thread reading the archive.
+     */
+    OMRSArchiveLoader(OMRSTypeDefEventProcessor  typeDefProcessor,
+                      OMRSInstanceEventProcessor instanceProcessor,
+                      int                        batchSize,
+                      int                        parallelism)
+    {
+        this.typeDefProcessor = typeDefProcessor;
+        this.instanceProcessor = instanceProcessor;
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+
+    /**
+     * Return the name of the archive being loaded.
+     *
+     * @return archive name or null if the archive properties have not been read
+     */
+    String getArchiveName()
+    {
+        if (archiveProperties == null)
+        {
+            return null;
+        }
+
+        return archiveProperties.getArchiveName();
+    }
+
+
+    /**
+     * Save the properties of the archive.  They identify the originator of the types and instances.
+     *
+     * @param archiveProperties properties of the archive
+     */
+    public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+    {
+        if (archiveProperties == null)
+        {
+            return;
+        }
+
+        this.archiveProperties = archiveProperties;
+        this.originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
+        this.originatorServerName = archiveProperties.getArchiveName();
+        this.originatorName = archiveProperties.getOriginatorName();
+        this.originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+
+        /*
+         * Originator name can not be null since it is used as the userId for calls to the repository
+         */
+        if (originatorName == null)
+        {
+            originatorName = sourceName;
+        }
+
+        if (archiveProperties.getArchiveType() != null)
+        {
+            originatorServerType = archiveProperties.getArchiveType().getName();
+        }
+
+        OMRSAuditCode auditCode = OMRSAuditCode.PROCESSING_ARCHIVE;
+        auditLog.logRecord(actionDescription,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(archiveProperties.getArchiveName()),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
+     * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
+     * and so any duplicates detected are ignored.  However, conflicting TypeDefs are detected.
+     * Any problems found in applying the archive contents are recorded on the audit log.
+     *
+     * @param archiveTypeStore TypeStore from the archive
+     */
+    public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+    {
+        if ((archiveProperties == null) || (typeDefProcessor == null))
+        {
+            return;
+        }
+
+        List<TypeDefPatch>     typeDefPatches       = archiveTypeStore.getTypeDefPatches();
+        List<AttributeTypeDef> newAttributeTypeDefs = archiveTypeStore.getAttributeTypeDefs();
+        List<TypeDef>          newTypeDefs          = archiveTypeStore.getNewTypeDefs();
+
+        if (typeDefPatches != null)
+        {
+            for (TypeDefPatch typeDefPatch : typeDefPatches)
+            {
+                if (typeDefPatch != null)
+                {
+                    typeDefProcessor.processUpdatedTypeDefEvent(originatorName,
+                                                                originatorMetadataCollectionId,
+                                                                originatorServerName,
+                                                                originatorServerType,
+                                                                originatorOrganizationName,
+                                                                typeDefPatch);
+                    typeCount ++;
+                }
+            }
+        }
+
+        if (newAttributeTypeDefs != null)
+        {
+            for (AttributeTypeDef newAttributeTypeDef : newAttributeTypeDefs)
+            {
+                if (newAttributeTypeDef != null)
+                {
+                    typeDefProcessor.processNewAttributeTypeDefEvent(originatorName,
+                                                                     originatorMetadataCollectionId,
+                                                                     originatorServerName,
+                                                                     originatorServerType,
+                                                                     originatorOrganizationName,
+                                                                     newAttributeTypeDef);
+
+                    typeCount ++;
+                }
+            }
+        }
+
+        if (newTypeDefs != null)
+        {
+            for (TypeDef newTypeDef : newTypeDefs)
+            {
+                if (newTypeDef != null)
+                {
+                    typeDefProcessor.processNewTypeDefEvent(originatorName,
+                                                            originatorMetadataCollectionId,
+                                                            originatorServerName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            newTypeDef);
+                    typeCount ++;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add an entity to the current batch of entities.  If relationships have been read since the last entity,
+     * they are loaded first.
+     *
+     * @param entity entity
+     */
+    public void processEntity(EntityDetail entity)
+    {
+        if ((archiveProperties == null) || (instanceProcessor == null))
+        {
+            return;
+        }
+
+        if (relationshipBatch != null)
+        {
+            this.submitRelationshipBatch();
+            this.waitForBatches();
+        }
+
+        if (entityBatch == null)
+        {
+            entityBatch = new ArrayList<>(batchSize);
+        }
+
+        entityBatch.add(entity);
+        entitiesRead ++;
+
+        if (entityBatch.size() >= batchSize)
+        {
+            this.submitEntityBatch();
+        }
+    }
+
+
+    /**
+     * Add a relationship to the current batch of relationships.  The first relationship after one or more
+     * entities waits until those entities are loaded.
+     *
+     * @param relationship relationship
+     */
+    public void processRelationship(Relationship relationship)
+    {
+        if ((archiveProperties == null) || (instanceProcessor == null))
+        {
+            return;
+        }
+
+        if (entityBatch != null)
+        {
+            this.submitEntityBatch();
+            this.waitForBatches();
+        }
+
+        if (relationshipBatch == null)
+        {
+            relationshipBatch = new ArrayList<>(batchSize);
+        }
+
+        relationshipBatch.add(relationship);
+        relationshipsRead ++;
+
+        if (relationshipBatch.size() >= batchSize)
+        {
+            this.submitRelationshipBatch();
+        }
+    }
+
+
+    /**
+     * Load the instances that are still waiting, and report the number of types and instances loaded from the
+     * archive.  This is called once the whole archive has been read, or the reading of the archive has failed.
+     *
+     * @return boolean indicating whether the archive had properties
+     */
+    boolean complete()
+    {
+        this.submitEntityBatch();
+        this.submitRelationshipBatch();
+        this.waitForBatches();
+
+        if (archiveProperties == null)
+        {
+            OMRSAuditCode auditCode = OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE;
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+
+            return false;
+        }
+
+        long instanceCount = entitiesRead + relationshipsRead;
+
+        if (instanceCount > 0)
+        {
+            long elapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+
+            OMRSAuditCode auditCode = OMRSAuditCode.ARCHIVE_LOAD_THROUGHPUT;
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(Long.toString(entitiesRead),
+                                                                Long.toString(relationshipsRead),
+                                                                archiveProperties.getArchiveName(),
+                                                                Long.toString(elapsedTime),
+                                                                Long.toString((instanceCount * 1000) / elapsedTime)),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+
+        OMRSAuditCode auditCode = OMRSAuditCode.COMPLETED_ARCHIVE;
+        auditLog.logRecord(actionDescription,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(Integer.toString(typeCount),
+                                                            Long.toString(instanceCount),
+                                                            archiveProperties.getArchiveName()),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+
+        return true;
+    }
+
+
+    /**
+     * Stop the loading threads.  Batches that have not started are abandoned.
+     */
+    void shutdown()
+    {
+        if (executor != null)
+        {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+
+    /**
+     * Pass the current batch of entities to a loading thread.
+     */
+    private void submitEntityBatch()
+    {
+        final List<EntityDetail> batch = entityBatch;
+
+        if (batch == null)
+        {
+            return;
+        }
+
+        entityBatch = null;
+
+        this.submitBatch(() ->
+                         {
+                             for (EntityDetail entity : batch)
+                             {
+                                 instanceProcessor.processNewEntityEvent(sourceName,
+                                                                         originatorMetadataCollectionId,
+                                                                         originatorServerName,
+                                                                         originatorServerType,
+                                                                         originatorOrganizationName,
+                                                                         entity);
+                             }
+                         },
+                         batch.size());
+    }
+
+
+    /**
+     * Pass the current batch of relationships to a loading thread.
+     */
+    private void submitRelationshipBatch()
+    {
+        final List<Relationship> batch = relationshipBatch;
+
+        if (batch == null)
+        {
+            return;
+        }
+
+        relationshipBatch = null;
+
+        this.submitBatch(() ->
+                         {
+                             for (Relationship relationship : batch)
+                             {
+                                 instanceProcessor.processNewRelationshipEvent(sourceName,
+                                                                               originatorMetadataCollectionId,
+                                                                               originatorServerName,
+                                                                               originatorServerType,
+                                                                               originatorOrganizationName,
+                                                                               relationship);
+                             }
+                         },
+                         batch.size());
+    }
+
+
+    /**
+     * Run a batch.  When loading in parallel, the batch runs on one of the loading threads.  At most two batches
+     * per loading thread are waiting or running at a time so reading the archive does not get too far ahead
+     * of loading it.
+     *
+     * @param batch loading of the instances in the batch
+     * @param batchLength number of instances in the batch
+     */
+    private void submitBatch(Runnable batch,
+                             int      batchLength)
+    {
+        if (startTime == 0)
+        {
+            startTime = System.currentTimeMillis();
+        }
+
+        if (parallelism == 1)
+        {
+            batch.run();
+            this.batchLoaded(batchLength);
+            return;
+        }
+
+        if (executor == null)
+        {
+            executor = Executors.newFixedThreadPool(parallelism, new LoaderThreadFactory());
+            batchesInFlight = new Semaphore(parallelism * 2);
+        }
+
+        batchesInFlight.acquireUninterruptibly();
+
+        try
+        {
+            executor.execute(() ->
+                             {
+                                 try
+                                 {
+                                     batch.run();
+                                     this.batchLoaded(batchLength);
+                                 }
+                                 catch (Throwable error)
+                                 {
+                                     if (batchError == null)
+                                     {
+                                         batchError = error;
+                                     }
+                                 }
+                                 finally
+                                 {
+                                     batchesInFlight.release();
+                                 }
+                             });
+        }
+        catch (RuntimeException error)
+        {
+            batchesInFlight.release();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Wait for all of the batches passed to the loading threads to finish.  If a batch failed, its error is
+     * thrown on the thread reading the archive.
+     */
+    private void waitForBatches()
+    {
+        if (batchesInFlight != null)
+        {
+            batchesInFlight.acquireUninterruptibly(parallelism * 2);
+            batchesInFlight.release(parallelism * 2);
+        }
+
+        Throwable error = batchError;
+
+        if (error != null)
+        {
+            batchError = null;
+
+            if (error instanceof RuntimeException)
+            {
+                throw (RuntimeException)error;
+            }
+            if (error instanceof Error)
+            {
+                throw (Error)error;
+            }
+
+            throw new IllegalStateException(error);
+        }
+    }
+
+
+    /**
+     * Count the instances loaded and report progress each time another progressInterval instances have been loaded.
+     *
+     * @param batchLength number of instances in the batch just loaded
+     */
+    private void batchLoaded(int batchLength)
+    {
+        long loaded = instancesLoaded.addAndGet(batchLength);
+
+        if ((loaded / progressInterval) > ((loaded - batchLength) / progressInterval))
+        {
+            long elapsedTime = Math.max(1, System.currentTimeMillis() - startTime);
+
+            OMRSAuditCode auditCode = OMRSAuditCode.ARCHIVE_LOAD_PROGRESS;
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(Long.toString(loaded),
+                                                                archiveProperties.getArchiveName(),
+                                                                Long.toString(elapsedTime / 1000),
+                                                                Long.toString((loaded * 1000) / elapsedTime)),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * LoaderThreadFactory names the loading threads and makes them daemon threads so a stuck repository does
+     * not stop the JVM from exiting.
+     */
+    private static class LoaderThreadFactory implements ThreadFactory
+    {
+        private static final AtomicInteger threadNumber = new AtomicInteger(0);
+
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, "OMRS Archive Loader-" + threadNumber.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
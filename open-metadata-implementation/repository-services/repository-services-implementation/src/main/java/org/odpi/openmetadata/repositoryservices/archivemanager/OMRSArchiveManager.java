@@ -10,16 +10,10 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveReader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
-import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 
 import java.util.ArrayList;
@@ -34,6 +28,14 @@ public class OMRSArchiveManager
     private List<OpenMetadataArchiveStoreConnector> openMetadataArchiveStores   = new ArrayList<>();
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
     private OMRSInstanceEventProcessor              localInstanceEventProcessor = null;
+    private int                                     batchSize                   = defaultBatchSize;
+    private int                                     parallelism                 = defaultParallelism;
+
+    /*
+     * Default number of instances passed to a loading thread at a time, and default number of loading threads.
+     */
+    public static final int defaultBatchSize   = 500;
+    public static final int defaultParallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
 
 
     /*
@@ -57,6 +59,26 @@ public class OMRSArchiveManager
     }
 
 
+    /**
+     * Constructor to save the initial list of open metadata archives from the server startup configuration along
+     * with the settings for loading the instances in the archives.
+     *
+     * @param startUpOpenMetadataArchives  initial list of open metadata archives provided in startup configuration
+     * @param batchSize number of instances passed to a loading thread at a time
+     * @param parallelism number of threads loading instances.  One means the instances are loaded on the
+     *                    thread reading the archive.
+     */
+    public OMRSArchiveManager(List<OpenMetadataArchiveStoreConnector>    startUpOpenMetadataArchives,
+                              int                                        batchSize,
+                              int                                        parallelism)
+    {
+        this(startUpOpenMetadataArchives);
+
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+
     /**
      * Close down any open archives.
      */
@@ -131,14 +153,29 @@ public class OMRSArchiveManager
     {
         OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
         OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        OMRSArchiveLoader        archiveLoader            = new OMRSArchiveLoader(repositoryContentManager,
+                                                                                  localInstanceEventProcessor,
+                                                                                  batchSize,
+                                                                                  parallelism);
 
         repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
-        processOpenMetadataArchive(openMetadataTypes, repositoryContentManager, localInstanceEventProcessor);
+
+        try
+        {
+            OpenMetadataArchiveReader.readArchive(openMetadataTypes, archiveLoader);
+            archiveLoader.complete();
+        }
+        finally
+        {
+            archiveLoader.shutdown();
+        }
     }
 
+
     /**
      * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The archive store passes the content to the loader as it is read
+     * so large archives are not held in memory.
      *
      * @param archiveStore open metadata archive  to process
      * @param typeDefProcessor receiver of new TypeDefs
@@ -148,273 +185,82 @@ public class OMRSArchiveManager
                                                  OMRSTypeDefEventProcessor            typeDefProcessor,
                                                  OMRSInstanceEventProcessor           instanceProcessor)
     {
+        final String     actionDescription = "Process Open Metadata Archive";
+
         if (archiveStore != null)
         {
             /*
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
              * metadata instances.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
-
-            if (archiveContent == null)
-            {
-                final String     actionDescription = "Process Open Metadata Archive";
-
-                OMRSAuditCode auditCode = OMRSAuditCode.EMPTY_ARCHIVE;
-                auditLog.logRecord(actionDescription,
-                                   auditCode.getLogMessageId(),
-                                   auditCode.getSeverity(),
-                                   auditCode.getFormattedLogMessage(),
-                                   null,
-                                   auditCode.getSystemAction(),
-                                   auditCode.getUserAction());
-            }
-            else
-            {
-                processOpenMetadataArchive(archiveContent, typeDefProcessor, instanceProcessor);
-            }
-        }
-    }
-
-
-    /**
-     * Step through the content of an open metadata archive, passing its contents to the local repository (if it
-     * exists).
-     *
-     * @param archiveContent open metadata archive to process
-     */
-    private void processOpenMetadataArchive(OpenMetadataArchive          archiveContent,
-                                            OMRSTypeDefEventProcessor    typeDefProcessor,
-                                            OMRSInstanceEventProcessor   instanceProcessor)
-    {
-        OMRSAuditCode    auditCode;
-        final String     actionDescription = "Process Open Metadata Archive";
-
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
-
-        if (archiveProperties != null)
-        {
-            auditCode = OMRSAuditCode.PROCESSING_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(archiveProperties.getArchiveName()),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
-
-
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
-
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
-
-
-            if (archiveTypeStore != null)
-            {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
-            }
-
-            if (archiveInstanceStore != null)
-            {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
-            }
-
-            auditCode = OMRSAuditCode.COMPLETED_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(Integer.toString(typeCount),
-                                                                Integer.toString(instanceCount),
-                                                                archiveProperties.getArchiveName()),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
-        }
-        else
-        {
-            auditCode = OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
-        }
-    }
-
-
-    /**
-     * The TypeStore is in two parts.  First there is an optional list of patches to existing TypeDefs.
-     * Then an optional list of new TypeDefs.  It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting TypeDefs are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties of the archive used for logging
-     * @param archiveTypeStore TypeStore from the archive
-     * @return type count
-     */
-    private int  processTypeDefStore(OpenMetadataArchiveProperties    archiveProperties,
-                                     OpenMetadataArchiveTypeStore     archiveTypeStore,
-                                     OMRSTypeDefEventProcessor        typeDefProcessor)
-    {
-        List<TypeDefPatch>     typeDefPatches       = archiveTypeStore.getTypeDefPatches();
-        List<AttributeTypeDef> newAttributeTypeDefs = archiveTypeStore.getAttributeTypeDefs();
-        List<TypeDef>          newTypeDefs          = archiveTypeStore.getNewTypeDefs();
-        int                    typeCount            = 0;
-
-        if (typeDefProcessor != null)
-        {
-            String       sourceName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String       originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
-            String       originatorServerName = archiveProperties.getArchiveName();
-            String       originatorServerType = null;
-            String       originatorName = archiveProperties.getOriginatorName();
-            String       originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-
-            /*
-             * Originator name can not be null since it is used as the userId for calls to the repository
-             */
-            if (originatorName == null)
-            {
-                originatorName = sourceName;
-            }
-
-            if (archiveProperties.getArchiveType() != null)
-            {
-                originatorServerType = archiveProperties.getArchiveType().getName();
-            }
+            OMRSArchiveLoader archiveLoader  = new OMRSArchiveLoader(typeDefProcessor,
+                                                                     instanceProcessor,
+                                                                     batchSize,
+                                                                     parallelism);
+            boolean           archiveContent;
 
-            if (typeDefPatches != null)
+            try
             {
-                for (TypeDefPatch typeDefPatch : typeDefPatches)
+                try
                 {
-                    if (typeDefPatch != null)
-                    {
-                        typeDefProcessor.processUpdatedTypeDefEvent(originatorName,
-                                                                    originatorMetadataCollectionId,
-                                                                    originatorServerName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    typeDefPatch);
-                        typeCount ++;
-                    }
+                    archiveContent = archiveStore.readArchiveContents(archiveLoader);
                 }
-            }
-
-            if (newAttributeTypeDefs != null)
-            {
-                for (AttributeTypeDef newAttributeTypeDef : newAttributeTypeDefs)
+                catch (OMRSRuntimeException error)
                 {
-                    if (newAttributeTypeDef != null)
-                    {
-                        typeDefProcessor.processNewAttributeTypeDefEvent(originatorName,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                newAttributeTypeDef);
-
-                        typeCount ++;
-                    }
+                    archiveContent = true;
+
+                    OMRSAuditCode auditCode = OMRSAuditCode.UNREADABLE_ARCHIVE;
+                    auditLog.logRecord(actionDescription,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(getArchiveName(archiveStore, archiveLoader),
+                                                                        error.getErrorMessage()),
+                                       null,
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
                 }
-            }
 
-            if (newTypeDefs != null)
-            {
-                for (TypeDef newTypeDef : newTypeDefs)
+                if (archiveContent)
+                {
+                    archiveLoader.complete();
+                }
+                else
                 {
-                    if (newTypeDef != null)
-                    {
-                        typeDefProcessor.processNewTypeDefEvent(originatorName,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                newTypeDef);
-                        typeCount ++;
-                    }
+                    OMRSAuditCode auditCode = OMRSAuditCode.EMPTY_ARCHIVE;
+                    auditLog.logRecord(actionDescription,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(),
+                                       null,
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
                 }
             }
+            finally
+            {
+                archiveLoader.shutdown();
+            }
         }
-
-        return typeCount;
     }
 
 
     /**
-     * The InstanceStore is in two parts: an optional list of entities followed by an optional list
-     * of relationships.  It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting instances are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
+     * Return a name for the archive to use in messages.
      *
-     * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
-     * @return instance count
+     * @param archiveStore connector for the archive
+     * @param archiveLoader loader that has read the archive's properties (if the archive has any)
+     * @return archive name
      */
-    private int  processInstanceStore(OpenMetadataArchiveProperties    archiveProperties,
-                                      OpenMetadataArchiveInstanceStore archiveInstanceStore,
-                                      OMRSInstanceEventProcessor       instanceProcessor)
+    private String getArchiveName(OpenMetadataArchiveStoreConnector    archiveStore,
+                                  OMRSArchiveLoader                    archiveLoader)
     {
-        List<EntityDetail> entities      = archiveInstanceStore.getEntities();
-        List<Relationship> relationships = archiveInstanceStore.getRelationships();
-        int                instanceCount = 0;
+        String archiveName = archiveLoader.getArchiveName();
 
-        if (instanceProcessor != null)
+        if ((archiveName == null) && (archiveStore.getConnection() != null))
         {
-            String       sourceName = OMRSAuditingComponent.ARCHIVE_MANAGER.getComponentName();
-            String       originatorMetadataCollectionId = archiveProperties.getArchiveGUID();
-            String       originatorServerName = archiveProperties.getArchiveName();
-            String       originatorServerType = null;
-            String       originatorOrganizationName = archiveProperties.getOriginatorName();
-
-            if (archiveProperties.getArchiveType() != null)
-            {
-                originatorServerType = archiveProperties.getArchiveType().getName();
-            }
-
-            if (entities != null)
-            {
-                for (EntityDetail entity : entities)
-                {
-                    if (entity != null)
-                    {
-                        instanceProcessor.processNewEntityEvent(sourceName,
-                                                                originatorMetadataCollectionId,
-                                                                originatorServerName,
-                                                                originatorServerType,
-                                                                originatorOrganizationName,
-                                                                entity);
-
-                        instanceCount ++;
-                    }
-                }
-            }
-
-
-            if (relationships != null)
-            {
-                for (Relationship relationship : relationships)
-                {
-                    if (relationship != null)
-                    {
-                        instanceProcessor.processNewRelationshipEvent(sourceName,
-                                                                      originatorMetadataCollectionId,
-                                                                      originatorServerName,
-                                                                      originatorServerType,
-                                                                      originatorOrganizationName,
-                                                                      relationship);
-
-                        instanceCount ++;
-                    }
-                }
-            }
+            archiveName = archiveStore.getConnection().getDisplayName();
         }
 
-        return instanceCount;
+        return archiveName;
     }
 }
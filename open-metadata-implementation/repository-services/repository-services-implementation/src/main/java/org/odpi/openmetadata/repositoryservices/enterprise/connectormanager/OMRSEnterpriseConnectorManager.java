@@ -187,11 +187,6 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
                 metadataCollection = null;
             }
 
-            /*
-             * Don't need to connector any more.
-             */
-            remoteConnector.disconnect();
-
             /*
              * Now test the metadata collection.
              */
@@ -199,6 +194,8 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
             {
                 final String   methodName = "addRemoteConnection()";
 
+                remoteConnector.disconnect();
+
                 OMRSErrorCode errorCode = OMRSErrorCode.NULL_COHORT_METADATA_COLLECTION;
                 String errorMessage = errorCode.getErrorMessageId()
                                     + errorCode.getFormattedErrorMessage(cohortName, metadataCollectionId);
@@ -225,19 +222,39 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
 
         /*
          * Pass the remote connector to each registered connector consumer if enterprise access is enabled.
+         * The connector that has just been validated is passed to the first consumer rather than being
+         * disconnected, so that its connection to the remote server (such as a pool of HTTP connections)
+         * is not opened and closed just for the validation.
          */
         if (enterpriseAccessEnabled)
         {
             for (RegisteredConnectorConsumer registeredConnectorConsumer : registeredConnectorConsumers)
             {
+                OMRSRepositoryConnector consumerConnector = remoteConnector;
+
+                if (consumerConnector == null)
+                {
+                    consumerConnector = this.getOMRSRepositoryConnector(remoteConnection,
+                                                                        remoteServerName,
+                                                                        remoteServerType,
+                                                                        owningOrganizationName,
+                                                                        metadataCollectionId);
+                }
+
+                remoteConnector = null;
+
                 registeredConnectorConsumer.getConnectorConsumer().addRemoteConnector(metadataCollectionId,
-                                                                                      this.getOMRSRepositoryConnector(remoteConnection,
-                                                                                                                      remoteServerName,
-                                                                                                                      remoteServerType,
-                                                                                                                      owningOrganizationName,
-                                                                                                                      metadataCollectionId));
+                                                                                      consumerConnector);
             }
         }
+
+        /*
+         * Don't need the validated connector any more if no consumer has taken it.
+         */
+        if (remoteConnector != null)
+        {
+            remoteConnector.disconnect();
+        }
     }
 
 
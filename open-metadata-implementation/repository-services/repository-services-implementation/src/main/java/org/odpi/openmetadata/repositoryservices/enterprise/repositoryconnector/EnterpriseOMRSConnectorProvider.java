@@ -28,17 +28,33 @@ import java.util.UUID;
  */
 public class EnterpriseOMRSConnectorProvider extends OMRSRepositoryConnectorProviderBase
 {
+    /**
+     * Name of the additional property in the connection that sets the maximum number of requests that the
+     * connector issues to the members of the cohort at the same time.
+     */
+    public static final String maxFederationThreadsPropertyName = "maxFederationThreads";
+
+    /**
+     * Name of the additional property in the connection that sets the time (in milliseconds) that the connector
+     * waits for each member of the cohort to respond to a request.
+     */
+    public static final String memberTimeoutPropertyName = "memberTimeout";
+
+    static final int  defaultMaxFederationThreads = 16;
+    static final long defaultMemberTimeout        = 30000;
+
     private        final int hashCode = UUID.randomUUID().hashCode();
 
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSConnectorProvider.class);
 
-    private static OMRSConnectorManager         connectorManager                 = null;
-    private static OMRSRepositoryContentManager repositoryContentManager         = null;
-    private static String                       localServerName                  = null;
-    private static String                       localServerType                  = null;
-    private static String                       owningOrganizationName           = null;
-    private static String                       enterpriseMetadataCollectionId   = null;
-    private static String                       enterpriseMetadataCollectionName = null;
+    private static OMRSConnectorManager                connectorManager                 = null;
+    private static OMRSRepositoryContentManager        repositoryContentManager         = null;
+    private static String                              localServerName                  = null;
+    private static String                              localServerType                  = null;
+    private static String                              owningOrganizationName           = null;
+    private static String                              enterpriseMetadataCollectionId   = null;
+    private static String                              enterpriseMetadataCollectionName = null;
+    private static EnterpriseOMRSInstanceLocationCache instanceLocationCache            = new EnterpriseOMRSInstanceLocationCache();
 
 
     /**
@@ -71,6 +87,19 @@ public class EnterpriseOMRSConnectorProvider extends OMRSRepositoryConnectorProv
         EnterpriseOMRSConnectorProvider.owningOrganizationName = owningOrganizationName;
         EnterpriseOMRSConnectorProvider.enterpriseMetadataCollectionId = enterpriseMetadataCollectionId;
         EnterpriseOMRSConnectorProvider.enterpriseMetadataCollectionName = enterpriseMetadataCollectionName;
+        EnterpriseOMRSConnectorProvider.instanceLocationCache = new EnterpriseOMRSInstanceLocationCache();
+    }
+
+
+    /**
+     * Return the cache of instance locations shared by the enterprise connectors.  It needs to be registered
+     * with the repository event managers so that it sees the changes to instances.
+     *
+     * @return instance location cache
+     */
+    public static EnterpriseOMRSInstanceLocationCache getInstanceLocationCache()
+    {
+        return instanceLocationCache;
     }
 
 
@@ -135,6 +164,7 @@ public class EnterpriseOMRSConnectorProvider extends OMRSRepositoryConnectorProv
         connector.setRepositoryHelper(new OMRSRepositoryContentHelper(repositoryContentManager));
         connector.setRepositoryValidator(new OMRSRepositoryContentValidator(repositoryContentManager));
         connector.setMetadataCollectionId(enterpriseMetadataCollectionId);
+        connector.setInstanceLocationCache(instanceLocationCache);
         connector.initializeConnectedAssetProperties(new EnterpriseOMRSConnectorProperties(connector,
                                                                                            EnterpriseOMRSConnectorProvider.connectorManager,
                                                                                            enterpriseMetadataCollectionId,
@@ -0,0 +1,177 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+import java.util.Comparator;
+import java.util.Date;
+
+/**
+ * EnterpriseOMRSInstanceComparator orders metadata instances according to the sequencing order requested on a
+ * federated query.  It is used to merge the sorted results from the members of the cohort.  Instances that
+ * do not have a value for the sequencing attribute are placed after those that do.  A null or ANY sequencing
+ * order treats every instance as equal so the results are returned in the order of the cohort members.
+ *
+ * @param <T> type of the instances (EntityDetail or Relationship)
+ */
+class EnterpriseOMRSInstanceComparator<T extends InstanceHeader> implements Comparator<T>
+{
+    private String          sequencingProperty;
+    private SequencingOrder sequencingOrder;
+
+
+    /**
+     * Constructor takes the sequencing requested by the caller.
+     *
+     * @param sequencingProperty name of the property used when sequencing by property value
+     * @param sequencingOrder order of the results
+     */
+    EnterpriseOMRSInstanceComparator(String          sequencingProperty,
+                                     SequencingOrder sequencingOrder)
+    {
+        this.sequencingProperty = sequencingProperty;
+        this.sequencingOrder = sequencingOrder;
+    }
+
+
+    /**
+     * Compare two instances.
+     *
+     * @param instance1 first instance
+     * @param instance2 second instance
+     * @return negative if instance1 comes first, positive if instance2 comes first, zero if equal
+     */
+    public int compare(T instance1, T instance2)
+    {
+        if (sequencingOrder == null)
+        {
+            return 0;
+        }
+
+        switch (sequencingOrder)
+        {
+            case GUID:
+                return compareValues(instance1.getGUID(), instance2.getGUID(), false);
+
+            case CREATION_DATE_RECENT:
+                return compareValues(instance1.getCreateTime(), instance2.getCreateTime(), true);
+
+            case CREATION_DATE_OLDEST:
+                return compareValues(instance1.getCreateTime(), instance2.getCreateTime(), false);
+
+            case LAST_UPDATE_RECENT:
+                return compareValues(getLastUpdateTime(instance1), getLastUpdateTime(instance2), true);
+
+            case LAST_UPDATE_OLDEST:
+                return compareValues(getLastUpdateTime(instance1), getLastUpdateTime(instance2), false);
+
+            case PROPERTY_ASCENDING:
+                return compareValues(getPropertyValue(instance1), getPropertyValue(instance2), false);
+
+            case PROPERTY_DESCENDING:
+                return compareValues(getPropertyValue(instance1), getPropertyValue(instance2), true);
+
+            default:
+                return 0;
+        }
+    }
+
+
+    /**
+     * Return the time the instance was last changed.  An instance that has never been updated was last changed
+     * when it was created.
+     *
+     * @param instance instance
+     * @return date or null
+     */
+    private Date getLastUpdateTime(T instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime();
+        }
+
+        return instance.getCreateTime();
+    }
+
+
+    /**
+     * Return the value of the sequencing property from the instance.
+     *
+     * @param instance instance
+     * @return primitive value, enum ordinal or null
+     */
+    private Object getPropertyValue(T instance)
+    {
+        InstanceProperties properties = null;
+
+        if (instance instanceof EntityDetail)
+        {
+            properties = ((EntityDetail) instance).getProperties();
+        }
+        else if (instance instanceof Relationship)
+        {
+            properties = ((Relationship) instance).getProperties();
+        }
+
+        if ((properties == null) || (sequencingProperty == null))
+        {
+            return null;
+        }
+
+        InstancePropertyValue propertyValue = properties.getPropertyValue(sequencingProperty);
+
+        if (propertyValue instanceof PrimitivePropertyValue)
+        {
+            return ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+        }
+        else if (propertyValue instanceof EnumPropertyValue)
+        {
+            return ((EnumPropertyValue) propertyValue).getOrdinal();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Compare two values.  Missing values are placed last whatever the direction of the sort.
+     *
+     * @param value1 first value
+     * @param value2 second value
+     * @param descending true if the highest value comes first
+     * @return comparison result
+     */
+    @SuppressWarnings("unchecked")
+    private int compareValues(Object  value1,
+                              Object  value2,
+                              boolean descending)
+    {
+        if (value1 == null)
+        {
+            return (value2 == null) ? 0 : 1;
+        }
+        else if (value2 == null)
+        {
+            return -1;
+        }
+
+        int result;
+
+        if ((value1 instanceof Number) && (value2 instanceof Number) && (value1.getClass() != value2.getClass()))
+        {
+            result = Double.compare(((Number) value1).doubleValue(), ((Number) value2).doubleValue());
+        }
+        else if ((value1 instanceof Comparable) && (value1.getClass() == value2.getClass()))
+        {
+            result = ((Comparable<Object>) value1).compareTo(value2);
+        }
+        else
+        {
+            result = value1.toString().compareTo(value2.toString());
+        }
+
+        return descending ? -result : result;
+    }
+}
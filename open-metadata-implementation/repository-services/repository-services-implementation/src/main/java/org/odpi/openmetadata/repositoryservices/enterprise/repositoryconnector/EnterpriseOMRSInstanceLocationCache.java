@@ -0,0 +1,891 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * EnterpriseOMRSInstanceLocationCache remembers the home metadata collection of the metadata instances that the
+ * EnterpriseOMRSRepositoryConnectors have seen.  It allows a request for an instance by GUID to go
+ * straight to the instance's home repository rather than to every member of the cohort.
+ * <p>
+ *     The cache is filled from the instances retrieved through the enterprise connectors and from the instance
+ *     events passed to the repository event managers it is registered with.  Purge, re-home and re-identify events
+ *     keep it up to date.  An entry may still be out of date (for example, if an event was filtered out),
+ *     so the enterprise connector falls back to asking every member of the cohort when the home repository
+ *     does not return the instance.
+ * </p>
+ * <p>
+ *     The cache is bounded.  Once it is full, the oldest entries are removed as new ones are added.
+ * </p>
+ */
+public class EnterpriseOMRSInstanceLocationCache implements OMRSInstanceEventProcessor
+{
+    static final int defaultMaxCacheSize = 100000;
+
+    private Map<String, String> instanceLocations;
+
+
+    /**
+     * Constructor sets up a cache of the default size.
+     */
+    public EnterpriseOMRSInstanceLocationCache()
+    {
+        this(defaultMaxCacheSize);
+    }
+
+
+    /**
+     * Constructor sets up a cache of the requested size.
+     *
+     * @param maxCacheSize maximum number of instances to remember
+     */
+    public EnterpriseOMRSInstanceLocationCache(int maxCacheSize)
+    {
+        this.instanceLocations = new LinkedHashMap<String, String>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+            {
+                return size() > maxCacheSize;
+            }
+        };
+    }
+
+
+    /**
+     * Return the metadata collection id of the home repository for an instance.
+     *
+     * @param guid unique identifier of the instance
+     * @return metadata collection id or null if the instance is not in the cache
+     */
+    public synchronized String getHomeMetadataCollectionId(String guid)
+    {
+        if (guid == null)
+        {
+            return null;
+        }
+
+        return instanceLocations.get(guid);
+    }
+
+
+    /**
+     * Record the home repository of an instance.
+     *
+     * @param instance instance retrieved from, or described by an event from, a member of the cohort
+     */
+    public void setInstanceLocation(InstanceHeader instance)
+    {
+        if (instance != null)
+        {
+            this.setInstanceLocation(instance.getGUID(), instance.getMetadataCollectionId());
+        }
+    }
+
+
+    /**
+     * Record the home repository of an instance.
+     *
+     * @param guid unique identifier of the instance
+     * @param homeMetadataCollectionId metadata collection id of the instance's home repository
+     */
+    public synchronized void setInstanceLocation(String guid,
+                                                 String homeMetadataCollectionId)
+    {
+        if ((guid != null) && (homeMetadataCollectionId != null))
+        {
+            instanceLocations.put(guid, homeMetadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Forget the home repository of an instance.
+     *
+     * @param guid unique identifier of the instance
+     */
+    public synchronized void removeInstanceLocation(String guid)
+    {
+        if (guid != null)
+        {
+            instanceLocations.remove(guid);
+        }
+    }
+
+
+    /**
+     * Return the number of instances in the cache.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return instanceLocations.size();
+    }
+
+
+    /**
+     * Update the cache from an instance event.
+     *
+     * @param sourceName name of the event manager passing the event
+     * @param instanceEvent event
+     */
+    public void sendInstanceEvent(String            sourceName,
+                                  OMRSInstanceEvent instanceEvent)
+    {
+        if ((instanceEvent == null) || (instanceEvent.getInstanceEventType() == null))
+        {
+            return;
+        }
+
+        OMRSInstanceEventType eventType = instanceEvent.getInstanceEventType();
+
+        switch (eventType)
+        {
+            case PURGED_ENTITY_EVENT:
+            case PURGED_RELATIONSHIP_EVENT:
+                this.removeInstanceLocation(instanceEvent.getInstanceGUID());
+                break;
+
+            case RE_IDENTIFIED_ENTITY_EVENT:
+            case RE_IDENTIFIED_RELATIONSHIP_EVENT:
+                this.removeInstanceLocation(instanceEvent.getOriginalInstanceGUID());
+                this.setEventInstanceLocation(instanceEvent);
+                break;
+
+            case BATCH_INSTANCES_EVENT:
+                this.setBatchLocations(instanceEvent.getInstanceBatch());
+                break;
+
+            case REFRESH_ENTITY_REQUEST:
+            case REFRESH_RELATIONSHIP_REQUEST:
+            case INSTANCE_ERROR_EVENT:
+            case UNKNOWN_INSTANCE_EVENT:
+                break;
+
+            default:
+                /*
+                 * This includes the re-home events where the instance carries its new home.
+                 */
+                this.setEventInstanceLocation(instanceEvent);
+                break;
+        }
+    }
+
+
+    /**
+     * A new entity has been created.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processNewEntityEvent(String       sourceName,
+                                      String       originatorMetadataCollectionId,
+                                      String       originatorServerName,
+                                      String       originatorServerType,
+                                      String       originatorOrganizationName,
+                                      EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * An existing entity has been updated.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param oldEntity original values for the entity
+     * @param newEntity new version of the entity
+     */
+    public void processUpdatedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail oldEntity,
+                                          EntityDetail newEntity)
+    {
+        this.setInstanceLocation(newEntity);
+    }
+
+
+    /**
+     * An update to an entity has been undone.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processUndoneEntityEvent(String       sourceName,
+                                         String       originatorMetadataCollectionId,
+                                         String       originatorServerName,
+                                         String       originatorServerType,
+                                         String       originatorOrganizationName,
+                                         EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * A new classification has been added to an entity.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processClassifiedEntityEvent(String       sourceName,
+                                             String       originatorMetadataCollectionId,
+                                             String       originatorServerName,
+                                             String       originatorServerType,
+                                             String       originatorOrganizationName,
+                                             EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * A classification has been removed from an entity.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processDeclassifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * An existing classification has been changed on an entity.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processReclassifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * An existing entity has been deleted.  It is still in the repository until it is purged.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processDeletedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * A deleted entity has been restored.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processRestoredEntityEvent(String       sourceName,
+                                           String       originatorMetadataCollectionId,
+                                           String       originatorServerName,
+                                           String       originatorServerType,
+                                           String       originatorOrganizationName,
+                                           EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * A deleted entity has been permanently removed from the repository.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param typeDefGUID unique identifier of the entity's TypeDef
+     * @param typeDefName name of the entity's TypeDef
+     * @param instanceGUID unique identifier of the entity
+     */
+    public void processPurgedEntityEvent(String sourceName,
+                                         String originatorMetadataCollectionId,
+                                         String originatorServerName,
+                                         String originatorServerType,
+                                         String originatorOrganizationName,
+                                         String typeDefGUID,
+                                         String typeDefName,
+                                         String instanceGUID)
+    {
+        this.removeInstanceLocation(instanceGUID);
+    }
+
+
+    /**
+     * The type of an existing entity has been changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalTypeDef description of the entity's original type
+     * @param entity entity from the event
+     */
+    public void processReTypedEntityEvent(String         sourceName,
+                                          String         originatorMetadataCollectionId,
+                                          String         originatorServerName,
+                                          String         originatorServerType,
+                                          String         originatorOrganizationName,
+                                          TypeDefSummary originalTypeDef,
+                                          EntityDetail   entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * The home of an existing entity has been changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalHomeMetadataCollectionId metadata collection id of the entity's original home
+     * @param entity entity carrying its new home
+     */
+    public void processReHomedEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          String       originalHomeMetadataCollectionId,
+                                          EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * The guid of an existing entity has been changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalEntityGUID guid the entity had before
+     * @param entity entity from the event
+     */
+    public void processReIdentifiedEntityEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               String       originalEntityGUID,
+                                               EntityDetail entity)
+    {
+        this.removeInstanceLocation(originalEntityGUID);
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * A repository has asked for the latest copy of an entity.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param typeDefGUID unique identifier of the entity's TypeDef
+     * @param typeDefName name of the entity's TypeDef
+     * @param instanceGUID unique identifier of the entity
+     * @param homeMetadataCollectionId metadata collection id of the entity's home
+     */
+    public void processRefreshEntityRequested(String sourceName,
+                                              String originatorMetadataCollectionId,
+                                              String originatorServerName,
+                                              String originatorServerType,
+                                              String originatorOrganizationName,
+                                              String typeDefGUID,
+                                              String typeDefName,
+                                              String instanceGUID,
+                                              String homeMetadataCollectionId)
+    {
+        /*
+         * This event does not change the home of any instance.
+         */
+    }
+
+
+    /**
+     * The home repository has sent the latest copy of an entity.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param entity entity from the event
+     */
+    public void processRefreshEntityEvent(String       sourceName,
+                                          String       originatorMetadataCollectionId,
+                                          String       originatorServerName,
+                                          String       originatorServerType,
+                                          String       originatorOrganizationName,
+                                          EntityDetail entity)
+    {
+        this.setInstanceLocation(entity);
+    }
+
+
+    /**
+     * A new relationship has been created.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param relationship relationship from the event
+     */
+    public void processNewRelationshipEvent(String       sourceName,
+                                            String       originatorMetadataCollectionId,
+                                            String       originatorServerName,
+                                            String       originatorServerType,
+                                            String       originatorOrganizationName,
+                                            Relationship relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * An existing relationship has been updated.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param oldRelationship original values for the relationship
+     * @param newRelationship new version of the relationship
+     */
+    public void processUpdatedRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                Relationship oldRelationship,
+                                                Relationship newRelationship)
+    {
+        this.setInstanceLocation(newRelationship);
+    }
+
+
+    /**
+     * An update to a relationship has been undone.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param relationship relationship from the event
+     */
+    public void processUndoneRelationshipEvent(String       sourceName,
+                                               String       originatorMetadataCollectionId,
+                                               String       originatorServerName,
+                                               String       originatorServerType,
+                                               String       originatorOrganizationName,
+                                               Relationship relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * An existing relationship has been deleted.  It is still in the repository until it is purged.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param relationship relationship from the event
+     */
+    public void processDeletedRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                Relationship relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * A deleted relationship has been restored.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param relationship relationship from the event
+     */
+    public void processRestoredRelationshipEvent(String       sourceName,
+                                                 String       originatorMetadataCollectionId,
+                                                 String       originatorServerName,
+                                                 String       originatorServerType,
+                                                 String       originatorOrganizationName,
+                                                 Relationship relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * A deleted relationship has been permanently removed from the repository.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param typeDefGUID unique identifier of the relationship's TypeDef
+     * @param typeDefName name of the relationship's TypeDef
+     * @param instanceGUID unique identifier of the relationship
+     */
+    public void processPurgedRelationshipEvent(String sourceName,
+                                               String originatorMetadataCollectionId,
+                                               String originatorServerName,
+                                               String originatorServerType,
+                                               String originatorOrganizationName,
+                                               String typeDefGUID,
+                                               String typeDefName,
+                                               String instanceGUID)
+    {
+        this.removeInstanceLocation(instanceGUID);
+    }
+
+
+    /**
+     * The type of an existing relationship has been changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalTypeDef description of the relationship's original type
+     * @param relationship relationship from the event
+     */
+    public void processReTypedRelationshipEvent(String         sourceName,
+                                                String         originatorMetadataCollectionId,
+                                                String         originatorServerName,
+                                                String         originatorServerType,
+                                                String         originatorOrganizationName,
+                                                TypeDefSummary originalTypeDef,
+                                                Relationship   relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * The home of an existing relationship has been changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalHomeMetadataCollectionId metadata collection id of the relationship's original home
+     * @param relationship relationship carrying its new home
+     */
+    public void processReHomedRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                String       originalHomeMetadataCollectionId,
+                                                Relationship relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * The guid of an existing relationship has been changed.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param originalRelationshipGUID guid the relationship had before
+     * @param relationship relationship from the event
+     */
+    public void processReIdentifiedRelationshipEvent(String       sourceName,
+                                                     String       originatorMetadataCollectionId,
+                                                     String       originatorServerName,
+                                                     String       originatorServerType,
+                                                     String       originatorOrganizationName,
+                                                     String       originalRelationshipGUID,
+                                                     Relationship relationship)
+    {
+        this.removeInstanceLocation(originalRelationshipGUID);
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * A repository has asked for the latest copy of a relationship.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param typeDefGUID unique identifier of the relationship's TypeDef
+     * @param typeDefName name of the relationship's TypeDef
+     * @param instanceGUID unique identifier of the relationship
+     * @param homeMetadataCollectionId metadata collection id of the relationship's home
+     */
+    public void processRefreshRelationshipRequest(String sourceName,
+                                                  String originatorMetadataCollectionId,
+                                                  String originatorServerName,
+                                                  String originatorServerType,
+                                                  String originatorOrganizationName,
+                                                  String typeDefGUID,
+                                                  String typeDefName,
+                                                  String instanceGUID,
+                                                  String homeMetadataCollectionId)
+    {
+        /*
+         * This event does not change the home of any instance.
+         */
+    }
+
+
+    /**
+     * The home repository has sent the latest copy of a relationship.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param relationship relationship from the event
+     */
+    public void processRefreshRelationshipEvent(String       sourceName,
+                                                String       originatorMetadataCollectionId,
+                                                String       originatorServerName,
+                                                String       originatorServerType,
+                                                String       originatorOrganizationName,
+                                                Relationship relationship)
+    {
+        this.setInstanceLocation(relationship);
+    }
+
+
+    /**
+     * A batch of instances has been sent.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param instances entities and relationships in the batch
+     */
+    public void processInstanceBatchEvent(String        sourceName,
+                                          String        originatorMetadataCollectionId,
+                                          String        originatorServerName,
+                                          String        originatorServerType,
+                                          String        originatorOrganizationName,
+                                          InstanceGraph instances)
+    {
+        this.setBatchLocations(instances);
+    }
+
+
+    /**
+     * Two repositories have instances with the same guid.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param targetMetadataCollectionId metadata collection id of the repository with the target instance
+     * @param targetTypeDef type of the target instance
+     * @param targetInstanceGUID unique identifier of the target instance
+     * @param otherMetadataCollectionId metadata collection id of the repository with the other instance
+     * @param otherOrigin provenance of the other instance
+     * @param otherTypeDef type of the other instance
+     * @param otherInstanceGUID unique identifier of the other instance
+     * @param errorMessage description of the conflict
+     */
+    public void processConflictingInstancesEvent(String                 sourceName,
+                                                 String                 originatorMetadataCollectionId,
+                                                 String                 originatorServerName,
+                                                 String                 originatorServerType,
+                                                 String                 originatorOrganizationName,
+                                                 String                 targetMetadataCollectionId,
+                                                 TypeDefSummary         targetTypeDef,
+                                                 String                 targetInstanceGUID,
+                                                 String                 otherMetadataCollectionId,
+                                                 InstanceProvenanceType otherOrigin,
+                                                 TypeDefSummary         otherTypeDef,
+                                                 String                 otherInstanceGUID,
+                                                 String                 errorMessage)
+    {
+        /*
+         * This event does not change the home of any instance.
+         */
+    }
+
+
+    /**
+     * A repository has an instance whose type conflicts with the local copy of the type.
+     *
+     * @param sourceName name of the source of the event
+     * @param originatorMetadataCollectionId metadata collection id of the server that sent the event
+     * @param originatorServerName name of the server that sent the event
+     * @param originatorServerType type of server that sent the event
+     * @param originatorOrganizationName name of the organization that owns the server that sent the event
+     * @param targetMetadataCollectionId metadata collection id of the repository with the instance
+     * @param targetTypeDef type of the instance
+     * @param targetInstanceGUID unique identifier of the instance
+     * @param otherTypeDef local copy of the type
+     * @param errorMessage description of the conflict
+     */
+    public void processConflictingTypeEvent(String         sourceName,
+                                            String         originatorMetadataCollectionId,
+                                            String         originatorServerName,
+                                            String         originatorServerType,
+                                            String         originatorOrganizationName,
+                                            String         targetMetadataCollectionId,
+                                            TypeDefSummary targetTypeDef,
+                                            String         targetInstanceGUID,
+                                            TypeDefSummary otherTypeDef,
+                                            String         errorMessage)
+    {
+        /*
+         * This event does not change the home of any instance.
+         */
+    }
+
+
+    /**
+     * Record the location of the instance described by an event.
+     *
+     * @param instanceEvent event
+     */
+    private void setEventInstanceLocation(OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceEvent.getEntity() != null)
+        {
+            this.setInstanceLocation(instanceEvent.getEntity());
+        }
+        else if (instanceEvent.getRelationship() != null)
+        {
+            this.setInstanceLocation(instanceEvent.getRelationship());
+        }
+    }
+
+
+    /**
+     * Record the locations of the instances in a batch event.
+     *
+     * @param instanceBatch instances from the event
+     */
+    private void setBatchLocations(InstanceGraph instanceBatch)
+    {
+        if (instanceBatch == null)
+        {
+            return;
+        }
+
+        if (instanceBatch.getEntities() != null)
+        {
+            for (EntityDetail entity : instanceBatch.getEntities())
+            {
+                this.setInstanceLocation(entity);
+            }
+        }
+
+        if (instanceBatch.getRelationships() != null)
+        {
+            for (Relationship relationship : instanceBatch.getRelationships())
+            {
+                this.setInstanceLocation(relationship);
+            }
+        }
+    }
+}
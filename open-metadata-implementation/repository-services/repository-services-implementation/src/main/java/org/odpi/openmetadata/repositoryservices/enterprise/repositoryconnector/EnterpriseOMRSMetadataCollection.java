@@ -1,6 +1,9 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
 
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
@@ -12,11 +15,19 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 
 /**
@@ -42,9 +53,16 @@ import java.util.Date;
  *     list looking for the first metadata repository that supports the metadata type and stores it there.
  * </p>
  * <p>
- *     Updates and deletes are routed to the owning (home) repository.  Searches are made to each repository in turn
- *     and the duplicates are removed.  Queries are directed to the local repository and then the remote repositories
- *     until all of the requested metadata is assembled.
+ *     Updates and deletes are routed to the owning (home) repository.  Searches are made to each repository in parallel
+ *     and the duplicates are removed.  Queries are issued to the local repository and the remote repositories
+ *     at the same time and the responses are processed in order (local repository first) until all of the requested
+ *     metadata is assembled.  Each repository has a limited time to respond.  A repository that does not respond in
+ *     time is reported in the audit log and the request completes with the results from the other repositories.
+ * </p>
+ * <p>
+ *     Requests for a single instance by GUID go only to the instance's home repository when the
+ *     EnterpriseOMRSRepositoryConnector knows where it is.  The request is issued to every repository if the
+ *     location is not known or the home repository does not return the instance.
  * </p>
  */
 public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
@@ -55,6 +73,8 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      */
     private EnterpriseOMRSRepositoryConnector enterpriseParentConnector;
 
+    private static final OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR);
+
 
     /**
      * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection Id.
@@ -164,53 +184,54 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                   anotherException                = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<TypeDefGallery>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getAllTypes(userId));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    TypeDefGallery     results = metadataCollection.getAllTypes(userId);
+        for (FederatedResponse<TypeDefGallery> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and consolidate.
-                     */
-                    if (results != null)
-                    {
-                        combinedAttributeTypeDefResults = this.addUniqueAttributeTypeDefs(combinedAttributeTypeDefResults,
-                                                                                          results.getAttributeTypeDefs(),
-                                                                                          cohortConnector.getServerName(),
-                                                                                          cohortConnector.getMetadataCollectionId(),
-                                                                                          methodName);
-                        combinedTypeDefResults = this.addUniqueTypeDefs(combinedTypeDefResults,
-                                                                        results.getTypeDefs(),
-                                                                        cohortConnector.getServerName(),
-                                                                        cohortConnector.getMetadataCollectionId(),
-                                                                        methodName);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                TypeDefGallery     results = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and consolidate.
+                 */
+                if (results != null)
+                {
+                    combinedAttributeTypeDefResults = this.addUniqueAttributeTypeDefs(combinedAttributeTypeDefResults,
+                                                                                      results.getAttributeTypeDefs(),
+                                                                                      cohortConnector.getServerName(),
+                                                                                      cohortConnector.getMetadataCollectionId(),
+                                                                                      methodName);
+                    combinedTypeDefResults = this.addUniqueTypeDefs(combinedTypeDefResults,
+                                                                    results.getTypeDefs(),
+                                                                    cohortConnector.getServerName(),
+                                                                    cohortConnector.getMetadataCollectionId(),
+                                                                    methodName);
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
         }
 
         return validatedTypeDefGalleryResults(repositoryName,
@@ -273,53 +294,54 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                   anotherException                = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<TypeDefGallery>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.findTypesByName(userId, name));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    TypeDefGallery     results = metadataCollection.findTypesByName(userId, name);
+        for (FederatedResponse<TypeDefGallery> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and consolidate.
-                     */
-                    if (results != null)
-                    {
-                        combinedAttributeTypeDefResults = this.addUniqueAttributeTypeDefs(combinedAttributeTypeDefResults,
-                                                                                          results.getAttributeTypeDefs(),
-                                                                                          cohortConnector.getServerName(),
-                                                                                          cohortConnector.getMetadataCollectionId(),
-                                                                                          methodName);
-                        combinedTypeDefResults = this.addUniqueTypeDefs(combinedTypeDefResults,
-                                                                        results.getTypeDefs(),
-                                                                        cohortConnector.getServerName(),
-                                                                        cohortConnector.getMetadataCollectionId(),
-                                                                        methodName);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                TypeDefGallery     results = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and consolidate.
+                 */
+                if (results != null)
+                {
+                    combinedAttributeTypeDefResults = this.addUniqueAttributeTypeDefs(combinedAttributeTypeDefResults,
+                                                                                      results.getAttributeTypeDefs(),
+                                                                                      cohortConnector.getServerName(),
+                                                                                      cohortConnector.getMetadataCollectionId(),
+                                                                                      methodName);
+                    combinedTypeDefResults = this.addUniqueTypeDefs(combinedTypeDefResults,
+                                                                    results.getTypeDefs(),
+                                                                    cohortConnector.getServerName(),
+                                                                    cohortConnector.getMetadataCollectionId(),
+                                                                    methodName);
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
         }
 
         return validatedTypeDefGalleryResults(repositoryName,
@@ -377,44 +399,45 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<TypeDef>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.findTypeDefsByCategory(userId, category));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<TypeDef> results  = metadataCollection.findTypeDefsByCategory(userId, category);
+        for (FederatedResponse<List<TypeDef>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueTypeDefs(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<TypeDef> results  = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and remove duplicates.
+                 */
+                combinedResults = this.addUniqueTypeDefs(combinedResults,
+                                                         results,
+                                                         cohortConnector.getServerName(),
+                                                         cohortConnector.getMetadataCollectionId(),
+                                                         methodName);
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -473,44 +496,45 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<AttributeTypeDef>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.findAttributeTypeDefsByCategory(userId, category));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<AttributeTypeDef> results  = metadataCollection.findAttributeTypeDefsByCategory(userId, category);
+        for (FederatedResponse<List<AttributeTypeDef>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueAttributeTypeDefs(combinedResults,
-                                                                      results,
-                                                                      cohortConnector.getServerName(),
-                                                                      cohortConnector.getMetadataCollectionId(),
-                                                                      methodName);
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<AttributeTypeDef> results  = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and remove duplicates.
+                 */
+                combinedResults = this.addUniqueAttributeTypeDefs(combinedResults,
+                                                                  results,
+                                                                  cohortConnector.getServerName(),
+                                                                  cohortConnector.getMetadataCollectionId(),
+                                                                  methodName);
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -568,44 +592,45 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<TypeDef>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.findTypeDefsByProperty(userId, matchCriteria));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<TypeDef> results  = metadataCollection.findTypeDefsByProperty(userId, matchCriteria);
+        for (FederatedResponse<List<TypeDef>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueTypeDefs(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<TypeDef> results  = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and remove duplicates.
+                 */
+                combinedResults = this.addUniqueTypeDefs(combinedResults,
+                                                         results,
+                                                         cohortConnector.getServerName(),
+                                                         cohortConnector.getMetadataCollectionId(),
+                                                         methodName);
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -667,44 +692,45 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<TypeDef>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.findTypesByExternalID(userId, standard, organization, identifier));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<TypeDef> results  = metadataCollection.findTypesByExternalID(userId, standard, organization, identifier);
+        for (FederatedResponse<List<TypeDef>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueTypeDefs(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<TypeDef> results  = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and remove duplicates.
+                 */
+                combinedResults = this.addUniqueTypeDefs(combinedResults,
+                                                         results,
+                                                         cohortConnector.getServerName(),
+                                                         cohortConnector.getMetadataCollectionId(),
+                                                         methodName);
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -763,44 +789,45 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<TypeDef>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.searchForTypeDefs(userId, searchCriteria));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<TypeDef> results  = metadataCollection.searchForTypeDefs(userId, searchCriteria);
+        for (FederatedResponse<List<TypeDef>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueTypeDefs(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<TypeDef> results  = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and remove duplicates.
+                 */
+                combinedResults = this.addUniqueTypeDefs(combinedResults,
+                                                         results,
+                                                         cohortConnector.getServerName(),
+                                                         cohortConnector.getMetadataCollectionId(),
+                                                         methodName);
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -861,39 +888,38 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<TypeDef>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getTypeDefByGUID(userId, guid));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    return metadataCollection.getTypeDefByGUID(userId, guid);
-                }
-                catch (TypeDefNotKnownException error)
-                {
-                    typeDefNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+        for (FederatedResponse<TypeDef> response : responses)
+        {
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                return response.getResult();
+            }
+            catch (TypeDefNotKnownException error)
+            {
+                typeDefNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -954,39 +980,38 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<AttributeTypeDef>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getAttributeTypeDefByGUID(userId, guid));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    return metadataCollection.getAttributeTypeDefByGUID(userId, guid);
-                }
-                catch (TypeDefNotKnownException error)
-                {
-                    typeDefNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+        for (FederatedResponse<AttributeTypeDef> response : responses)
+        {
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                return response.getResult();
+            }
+            catch (TypeDefNotKnownException error)
+            {
+                typeDefNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1050,39 +1075,38 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<TypeDef>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getTypeDefByName(userId, name));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    return metadataCollection.getTypeDefByName(userId, name);
-                }
-                catch (TypeDefNotKnownException error)
-                {
-                    typeDefNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+        for (FederatedResponse<TypeDef> response : responses)
+        {
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                return response.getResult();
+            }
+            catch (TypeDefNotKnownException error)
+            {
+                typeDefNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1143,39 +1167,38 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<AttributeTypeDef>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getAttributeTypeDefByName(userId, name));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    return metadataCollection.getAttributeTypeDefByName(userId, name);
-                }
-                catch (TypeDefNotKnownException error)
-                {
-                    typeDefNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+        for (FederatedResponse<AttributeTypeDef> response : responses)
+        {
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                return response.getResult();
+            }
+            catch (TypeDefNotKnownException error)
+            {
+                typeDefNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1290,40 +1313,39 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                      anotherException             = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<Boolean>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.verifyTypeDef(userId, typeDef));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds (TypeDefConflictException is also returned
-                     * immediately.)
-                     */
-                    return metadataCollection.verifyTypeDef(userId, typeDef);
-                }
-                catch (TypeDefNotSupportedException error)
-                {
-                    typeDefNotSupportedException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+        for (FederatedResponse<Boolean> response : responses)
+        {
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded (TypeDefConflictException is also returned
+                 * immediately.)
+                 */
+                return response.getResult();
+            }
+            catch (TypeDefNotSupportedException error)
+            {
+                typeDefNotSupportedException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1388,42 +1410,41 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                      anotherException             = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        List<FederatedResponse<Boolean>> responses;
+
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.verifyAttributeTypeDef(userId, attributeTypeDef));
+
+        for (FederatedResponse<Boolean> response : responses)
         {
-            if (cohortConnector != null)
+            try
             {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
-
-                validateMetadataCollection(metadataCollection, methodName);
-
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds (TypeDefConflictException is also returned
-                     * immediately.)
-                     */
-                    return metadataCollection.verifyAttributeTypeDef(userId, attributeTypeDef);
-                }
-                catch (TypeDefNotSupportedException error)
-                {
-                    typeDefNotSupportedException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
-            }
-        }
+                /*
+                 * Collect the response and return if the request succeeded (TypeDefConflictException is also returned
+                 * immediately.)
+                 */
+                return response.getResult();
+            }
+            catch (TypeDefNotSupportedException error)
+            {
+                typeDefNotSupportedException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
+        }
 
         throwCapturedRepositoryErrorException(repositoryErrorException);
         throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -1597,42 +1618,45 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<EntityDetail>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.isEntityKnown(userId, guid));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    EntityDetail  entity  = metadataCollection.isEntityKnown(userId, guid);
+        for (FederatedResponse<EntityDetail> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    if (entity != null)
-                    {
-                        return enterpriseParentConnector.processRetrievedEntityDetail(cohortConnector.getMetadataCollectionId(),
-                                                                                      entity);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                EntityDetail  entity  = response.getResult();
+
+                if (entity != null)
                 {
-                    anotherException = error;
+                    return enterpriseParentConnector.processRetrievedEntityDetail(cohortConnector.getMetadataCollectionId(),
+                                                                                  entity);
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
         }
 
         throwCapturedRepositoryErrorException(repositoryErrorException);
@@ -1692,44 +1716,47 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<EntitySummary>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.getEntitySummary(userId, guid));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    EntitySummary     entity = metadataCollection.getEntitySummary(userId, guid);
+        for (FederatedResponse<EntitySummary> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                EntitySummary     entity = response.getResult();
 
-                    return enterpriseParentConnector.processRetrievedEntitySummary(cohortConnector.getMetadataCollectionId(),
-                                                                                   entity);
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+                repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+
+                return enterpriseParentConnector.processRetrievedEntitySummary(cohortConnector.getMetadataCollectionId(),
+                                                                               entity);
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1793,48 +1820,51 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                  anotherException           = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<EntityDetail>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.getEntityDetail(userId, guid));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    EntityDetail     entity = metadataCollection.getEntityDetail(userId, guid);
+        for (FederatedResponse<EntityDetail> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                EntityDetail     entity = response.getResult();
 
-                    return enterpriseParentConnector.processRetrievedEntityDetail(cohortConnector.getMetadataCollectionId(),
-                                                                                  entity);
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (EntityProxyOnlyException error)
-                {
-                    entityProxyOnlyException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+                repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+
+                return enterpriseParentConnector.processRetrievedEntityDetail(cohortConnector.getMetadataCollectionId(),
+                                                                              entity);
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (EntityProxyOnlyException error)
+            {
+                entityProxyOnlyException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1907,52 +1937,55 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                       anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<EntityDetail>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.getEntityDetail(userId, guid, asOfTime));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    EntityDetail     entity = metadataCollection.getEntityDetail(userId, guid, asOfTime);
+        for (FederatedResponse<EntityDetail> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                EntityDetail     entity = response.getResult();
 
-                    return enterpriseParentConnector.processRetrievedEntityDetail(cohortConnector.getMetadataCollectionId(),
-                                                                                  entity);
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (EntityProxyOnlyException error)
-                {
-                    entityProxyOnlyException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+                repositoryValidator.validateEntityFromStore(repositoryName, guid, entity, methodName);
+
+                return enterpriseParentConnector.processRetrievedEntityDetail(cohortConnector.getMetadataCollectionId(),
+                                                                              entity);
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (EntityProxyOnlyException error)
+            {
+                entityProxyOnlyException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -1968,58 +2001,27 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
 
 
     /**
-     * Return the relationships for a specific entity.
+     * Return the current version of each of the requested entities.  Each GUID whose home repository is known is
+     * only sent to that member of the cohort and the other GUIDs are sent to every member.  The requests are issued
+     * in parallel and each entity is taken from the first member (in cohort order) that returns it.
+     * The entities are returned in the order of the requested GUIDs.  GUIDs for entities that no member
+     * knows are skipped.
      *
      * @param userId unique identifier for requesting user.
-     * @param entityGUID String unique identifier for the entity.
-     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
-     * @param fromRelationshipElement the starting element number of the relationships to return.
-     *                                This is used when retrieving elements
-     *                                beyond the first page of results. Zero means start from the first element.
-     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
-     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
-     *                             status values.
-     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
-     *                 present values.
-     * @param sequencingProperty String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder Enum defining how the results should be ordered.
-     * @param pageSize -- the maximum number of result classifications that can be returned on this request.  Zero means
-     *                 unrestricted return results size.
-     * @return Relationships list.  Null means no relationships associated with the entity.
-     * @throws InvalidParameterException a parameter is invalid or null.
-     * @throws TypeErrorException the type guid passed on the request is not known by the
-     *                              metadata collection.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
      * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
      *                                  the metadata collection is stored.
-     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
-     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
-     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
-     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
      * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public List<Relationship> getRelationshipsForEntity(String                     userId,
-                                                        String                     entityGUID,
-                                                        String                     relationshipTypeGUID,
-                                                        int                        fromRelationshipElement,
-                                                        List<InstanceStatus>       limitResultsByStatus,
-                                                        Date                       asOfTime,
-                                                        String                     sequencingProperty,
-                                                        SequencingOrder            sequencingOrder,
-                                                        int                        pageSize) throws InvalidParameterException,
-                                                                                                    TypeErrorException,
-                                                                                                    RepositoryErrorException,
-                                                                                                    EntityNotKnownException,
-                                                                                                    PropertyErrorException,
-                                                                                                    PagingErrorException,
-                                                                                                    FunctionNotSupportedException,
-                                                                                                    UserNotAuthorizedException
+    public List<EntityDetail> getEntitiesByGUID(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
     {
-        final String  methodName        = "getRelationshipsForEntity";
-        final String  guidParameterName = "entityGUID";
-        final String  asOfTimeParameter = "asOfTime";
-        final String  typeGUIDParameter = "relationshipTypeGUID";
-        final String  pageSizeParameter = "pageSize";
+        final String  methodName         = "getEntitiesByGUID";
+        final String  guidsParameterName = "guids";
 
         /*
          * Validate parameters
@@ -2028,13 +2030,304 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         parentConnector.validateRepositoryIsActive(methodName);
 
         repositoryValidator.validateUserId(repositoryName, userId, methodName);
-        repositoryValidator.validateGUID(repositoryName, guidParameterName, entityGUID, methodName);
-        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameter, relationshipTypeGUID, methodName);
-        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
-        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
 
-        /*
-         * Perform operation
+        if (guids == null)
+        {
+            return null;
+        }
+
+        for (String guid : guids)
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+        }
+
+        /*
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and one selected to be returned if there are no results from any repository.
+         */
+        Map<String, EntityDetail>  retrievedEntities          = new HashMap<>();
+        UserNotAuthorizedException userNotAuthorizedException = null;
+        RepositoryErrorException   repositoryErrorException   = null;
+        Throwable                  anotherException           = null;
+
+        /*
+         * Issue the request to the metadata collections in parallel and then step through the responses
+         * in cohort order.
+         */
+        List<FederatedResponse<List<EntityDetail>>> responses;
+
+        responses = this.issueInstancesRequest(cohortConnectors,
+                                               guids,
+                                               methodName,
+                                               (metadataCollection, memberGUIDs) -> metadataCollection.getEntitiesByGUID(userId, memberGUIDs));
+
+        for (FederatedResponse<List<EntityDetail>> response : responses)
+        {
+            try
+            {
+                List<EntityDetail> entities = response.getResult();
+
+                if (entities != null)
+                {
+                    String sourceMetadataCollectionId = response.getCohortConnector().getMetadataCollectionId();
+
+                    for (EntityDetail entity : entities)
+                    {
+                        if ((entity != null) && (! retrievedEntities.containsKey(entity.getGUID())))
+                        {
+                            retrievedEntities.put(entity.getGUID(),
+                                                  enterpriseParentConnector.processRetrievedEntityDetail(sourceMetadataCollectionId,
+                                                                                                         entity));
+                        }
+                    }
+                }
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
+        }
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = retrievedEntities.get(guid);
+
+            if (entity != null)
+            {
+                entities.add(entity);
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            throwCapturedRepositoryErrorException(repositoryErrorException);
+            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+            throwCapturedThrowableException(anotherException, methodName);
+
+            return null;
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the relationships for a specific entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result classifications that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return Relationships list.  Null means no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsForEntity(String                     userId,
+                                                        String                     entityGUID,
+                                                        String                     relationshipTypeGUID,
+                                                        int                        fromRelationshipElement,
+                                                        List<InstanceStatus>       limitResultsByStatus,
+                                                        Date                       asOfTime,
+                                                        String                     sequencingProperty,
+                                                        SequencingOrder            sequencingOrder,
+                                                        int                        pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<Relationship> page = this.getRelationshipsForEntityPage(userId,
+                                                                                   entityGUID,
+                                                                                   relationshipTypeGUID,
+                                                                                   fromRelationshipElement,
+                                                                                   null,
+                                                                                   limitResultsByStatus,
+                                                                                   asOfTime,
+                                                                                   sequencingProperty,
+                                                                                   sequencingOrder,
+                                                                                   pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
+        }
+
+        return page.getResults();
+    }
+
+
+    /**
+     * Paging mode of getRelationshipsForEntity.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result classifications that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<Relationship> getRelationshipsForEntity(String                     userId,
+                                                                      String                     entityGUID,
+                                                                      String                     relationshipTypeGUID,
+                                                                      EnterpriseOMRSPagingCursor pagingCursor,
+                                                                      List<InstanceStatus>       limitResultsByStatus,
+                                                                      Date                       asOfTime,
+                                                                      String                     sequencingProperty,
+                                                                      SequencingOrder            sequencingOrder,
+                                                                      int                        pageSize) throws InvalidParameterException,
+                                                                                                                  TypeErrorException,
+                                                                                                                  RepositoryErrorException,
+                                                                                                                  EntityNotKnownException,
+                                                                                                                  PropertyErrorException,
+                                                                                                                  PagingErrorException,
+                                                                                                                  FunctionNotSupportedException,
+                                                                                                                  UserNotAuthorizedException
+    {
+        return this.getRelationshipsForEntityPage(userId,
+                                                  entityGUID,
+                                                  relationshipTypeGUID,
+                                                  0,
+                                                  pagingCursor,
+                                                  limitResultsByStatus,
+                                                  asOfTime,
+                                                  sequencingProperty,
+                                                  sequencingOrder,
+                                                  pageSize);
+    }
+
+
+    /**
+     * Retrieve one page of the results for getRelationshipsForEntity.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result classifications that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EnterpriseOMRSPage<Relationship> getRelationshipsForEntityPage(String                     userId,
+                                                                           String                     entityGUID,
+                                                                           String                     relationshipTypeGUID,
+                                                                           int                        fromRelationshipElement,
+                                                                           EnterpriseOMRSPagingCursor pagingCursor,
+                                                                           List<InstanceStatus>       limitResultsByStatus,
+                                                                           Date                       asOfTime,
+                                                                           String                     sequencingProperty,
+                                                                           SequencingOrder            sequencingOrder,
+                                                                           int                        pageSize) throws InvalidParameterException,
+                                                                                                                       TypeErrorException,
+                                                                                                                       RepositoryErrorException,
+                                                                                                                       EntityNotKnownException,
+                                                                                                                       PropertyErrorException,
+                                                                                                                       PagingErrorException,
+                                                                                                                       FunctionNotSupportedException,
+                                                                                                                       UserNotAuthorizedException
+    {
+        final String  methodName        = "getRelationshipsForEntity";
+        final String  guidParameterName = "entityGUID";
+        final String  asOfTimeParameter = "asOfTime";
+        final String  typeGUIDParameter = "relationshipTypeGUID";
+        final String  pageSizeParameter = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        repositoryValidator.validateGUID(repositoryName, guidParameterName, entityGUID, methodName);
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameter, relationshipTypeGUID, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+
+        /*
+         * Perform operation
          *
          * The list of cohort connectors are retrieved for each request to ensure that any changes in
          * the shape of the cohort are reflected immediately.
@@ -2047,7 +2340,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, Relationship>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<Relationship> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromRelationshipElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         EntityNotKnownException       entityNotKnownException       = null;
@@ -2058,73 +2355,71 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<Relationship>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.getRelationshipsForEntity(userId,
+                                                                                                                                                           entityGUID,
+                                                                                                                                                           relationshipTypeGUID,
+                                                                                                                                                           memberFromElement,
+                                                                                                                                                           limitResultsByStatus,
+                                                                                                                                                           asOfTime,
+                                                                                                                                                           sequencingProperty,
+                                                                                                                                                           sequencingOrder,
+                                                                                                                                                           memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<Relationship> results = metadataCollection.getRelationshipsForEntity(userId,
-                                                                                              entityGUID,
-                                                                                              relationshipTypeGUID,
-                                                                                              fromRelationshipElement,
-                                                                                              limitResultsByStatus,
-                                                                                              asOfTime,
-                                                                                              sequencingProperty,
-                                                                                              sequencingOrder,
-                                                                                              pageSize);
+        for (FederatedResponse<List<Relationship>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned relationships and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueRelationships(combinedResults,
-                                                                  results,
-                                                                  cohortConnector.getServerName(),
-                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                  methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<Relationship> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -2137,12 +2432,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedRelationshipResults(repositoryName,
-                                            combinedResults,
-                                            sequencingProperty,
-                                            sequencingOrder,
-                                            pageSize,
-                                            methodName);
+        return pageMerger.getPage();
     }
 
 
@@ -2197,6 +2487,147 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
                                                                                                  PagingErrorException,
                                                                                                  FunctionNotSupportedException,
                                                                                                  UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<EntityDetail> page = this.findEntitiesByPropertyPage(userId,
+                                                                                entityTypeGUID,
+                                                                                matchProperties,
+                                                                                matchCriteria,
+                                                                                fromEntityElement,
+                                                                                null,
+                                                                                limitResultsByStatus,
+                                                                                limitResultsByClassification,
+                                                                                asOfTime,
+                                                                                sequencingProperty,
+                                                                                sequencingOrder,
+                                                                                pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
+        }
+
+        return page.getResults();
+    }
+
+
+    /**
+     * Paging mode of findEntitiesByProperty.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties List of entity properties to match to (null means match on entityTypeGUID only).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<EntityDetail> findEntitiesByProperty(String                     userId,
+                                                                   String                     entityTypeGUID,
+                                                                   InstanceProperties         matchProperties,
+                                                                   MatchCriteria              matchCriteria,
+                                                                   EnterpriseOMRSPagingCursor pagingCursor,
+                                                                   List<InstanceStatus>       limitResultsByStatus,
+                                                                   List<String>               limitResultsByClassification,
+                                                                   Date                       asOfTime,
+                                                                   String                     sequencingProperty,
+                                                                   SequencingOrder            sequencingOrder,
+                                                                   int                        pageSize) throws InvalidParameterException,
+                                                                                                               TypeErrorException,
+                                                                                                               RepositoryErrorException,
+                                                                                                               PropertyErrorException,
+                                                                                                               PagingErrorException,
+                                                                                                               FunctionNotSupportedException,
+                                                                                                               UserNotAuthorizedException
+    {
+        return this.findEntitiesByPropertyPage(userId,
+                                               entityTypeGUID,
+                                               matchProperties,
+                                               matchCriteria,
+                                               0,
+                                               pagingCursor,
+                                               limitResultsByStatus,
+                                               limitResultsByClassification,
+                                               asOfTime,
+                                               sequencingProperty,
+                                               sequencingOrder,
+                                               pageSize);
+    }
+
+
+    /**
+     * Retrieve one page of the results for findEntitiesByProperty.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties List of entity properties to match to (null means match on entityTypeGUID only).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EnterpriseOMRSPage<EntityDetail> findEntitiesByPropertyPage(String                     userId,
+                                                                        String                     entityTypeGUID,
+                                                                        InstanceProperties         matchProperties,
+                                                                        MatchCriteria              matchCriteria,
+                                                                        int                        fromEntityElement,
+                                                                        EnterpriseOMRSPagingCursor pagingCursor,
+                                                                        List<InstanceStatus>       limitResultsByStatus,
+                                                                        List<String>               limitResultsByClassification,
+                                                                        Date                       asOfTime,
+                                                                        String                     sequencingProperty,
+                                                                        SequencingOrder            sequencingOrder,
+                                                                        int                        pageSize) throws InvalidParameterException,
+                                                                                                                    TypeErrorException,
+                                                                                                                    RepositoryErrorException,
+                                                                                                                    PropertyErrorException,
+                                                                                                                    PagingErrorException,
+                                                                                                                    FunctionNotSupportedException,
+                                                                                                                    UserNotAuthorizedException
     {
         final String  methodName                   = "findEntitiesByProperty";
         final String  matchCriteriaParameterName   = "matchCriteria";
@@ -2236,7 +2667,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<EntityDetail> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromEntityElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         FunctionNotSupportedException functionNotSupportedException = null;
@@ -2247,75 +2682,73 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<EntityDetail>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.findEntitiesByProperty(userId,
+                                                                                                                                                        entityTypeGUID,
+                                                                                                                                                        matchProperties,
+                                                                                                                                                        matchCriteria,
+                                                                                                                                                        memberFromElement,
+                                                                                                                                                        limitResultsByStatus,
+                                                                                                                                                        limitResultsByClassification,
+                                                                                                                                                        asOfTime,
+                                                                                                                                                        sequencingProperty,
+                                                                                                                                                        sequencingOrder,
+                                                                                                                                                        memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<EntityDetail> results = metadataCollection.findEntitiesByProperty(userId,
-                                                                                           entityTypeGUID,
-                                                                                           matchProperties,
-                                                                                           matchCriteria,
-                                                                                           fromEntityElement,
-                                                                                           limitResultsByStatus,
-                                                                                           limitResultsByClassification,
-                                                                                           asOfTime,
-                                                                                           sequencingProperty,
-                                                                                           sequencingOrder,
-                                                                                           pageSize);
+        for (FederatedResponse<List<EntityDetail>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueEntities(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<EntityDetail> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (TypeErrorException error)
+            {
+                typeErrorException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -2328,17 +2761,156 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedEntityListResults(repositoryName,
-                                          combinedResults,
-                                          sequencingProperty,
-                                          sequencingOrder,
-                                          pageSize,
-                                          methodName);
+        return pageMerger.getPage();
+    }
+
+
+    /**
+     * Return a list of entities that have the requested type of classifications attached.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null mans any type of entity.
+     * @param classificationName name of the classification a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search.
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<EntityDetail> findEntitiesByClassification(String                    userId,
+                                                            String                    entityTypeGUID,
+                                                            String                    classificationName,
+                                                            InstanceProperties        matchClassificationProperties,
+                                                            MatchCriteria             matchCriteria,
+                                                            int                       fromEntityElement,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       ClassificationErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<EntityDetail> page = this.findEntitiesByClassificationPage(userId,
+                                                                                      entityTypeGUID,
+                                                                                      classificationName,
+                                                                                      matchClassificationProperties,
+                                                                                      matchCriteria,
+                                                                                      fromEntityElement,
+                                                                                      null,
+                                                                                      limitResultsByStatus,
+                                                                                      asOfTime,
+                                                                                      sequencingProperty,
+                                                                                      sequencingOrder,
+                                                                                      pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
+        }
+
+        return page.getResults();
+    }
+
+
+    /**
+     * Paging mode of findEntitiesByClassification.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null mans any type of entity.
+     * @param classificationName name of the classification a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search.
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<EntityDetail> findEntitiesByClassification(String                     userId,
+                                                                         String                     entityTypeGUID,
+                                                                         String                     classificationName,
+                                                                         InstanceProperties         matchClassificationProperties,
+                                                                         MatchCriteria              matchCriteria,
+                                                                         EnterpriseOMRSPagingCursor pagingCursor,
+                                                                         List<InstanceStatus>       limitResultsByStatus,
+                                                                         Date                       asOfTime,
+                                                                         String                     sequencingProperty,
+                                                                         SequencingOrder            sequencingOrder,
+                                                                         int                        pageSize) throws InvalidParameterException,
+                                                                                                                     TypeErrorException,
+                                                                                                                     RepositoryErrorException,
+                                                                                                                     ClassificationErrorException,
+                                                                                                                     PropertyErrorException,
+                                                                                                                     PagingErrorException,
+                                                                                                                     FunctionNotSupportedException,
+                                                                                                                     UserNotAuthorizedException
+    {
+        return this.findEntitiesByClassificationPage(userId,
+                                                     entityTypeGUID,
+                                                     classificationName,
+                                                     matchClassificationProperties,
+                                                     matchCriteria,
+                                                     0,
+                                                     pagingCursor,
+                                                     limitResultsByStatus,
+                                                     asOfTime,
+                                                     sequencingProperty,
+                                                     sequencingOrder,
+                                                     pageSize);
     }
 
 
     /**
-     * Return a list of entities that have the requested type of classifications attached.
+     * Retrieve one page of the results for findEntitiesByClassification.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
      *
      * @param userId unique identifier for requesting user.
      * @param entityTypeGUID unique identifier for the type of entity requested.  Null mans any type of entity.
@@ -2348,6 +2920,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      * @param fromEntityElement the starting element number of the entities to return.
      *                                This is used when retrieving elements
      *                                beyond the first page of results. Zero means start from the first element.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
      * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
      *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                             status values.
@@ -2357,8 +2930,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
-     * collection.
+     * @return page of results with the cursor for the next page or null if there are no results
      * @throws InvalidParameterException a parameter is invalid or null.
      * @throws TypeErrorException the type guid passed on the request is not known by the
      *                              metadata collection.
@@ -2371,24 +2943,25 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
      * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  List<EntityDetail> findEntitiesByClassification(String                    userId,
-                                                            String                    entityTypeGUID,
-                                                            String                    classificationName,
-                                                            InstanceProperties        matchClassificationProperties,
-                                                            MatchCriteria             matchCriteria,
-                                                            int                       fromEntityElement,
-                                                            List<InstanceStatus>      limitResultsByStatus,
-                                                            Date                      asOfTime,
-                                                            String                    sequencingProperty,
-                                                            SequencingOrder           sequencingOrder,
-                                                            int                       pageSize) throws InvalidParameterException,
-                                                                                                       TypeErrorException,
-                                                                                                       RepositoryErrorException,
-                                                                                                       ClassificationErrorException,
-                                                                                                       PropertyErrorException,
-                                                                                                       PagingErrorException,
-                                                                                                       FunctionNotSupportedException,
-                                                                                                       UserNotAuthorizedException
+    private EnterpriseOMRSPage<EntityDetail> findEntitiesByClassificationPage(String                     userId,
+                                                                              String                     entityTypeGUID,
+                                                                              String                     classificationName,
+                                                                              InstanceProperties         matchClassificationProperties,
+                                                                              MatchCriteria              matchCriteria,
+                                                                              int                        fromEntityElement,
+                                                                              EnterpriseOMRSPagingCursor pagingCursor,
+                                                                              List<InstanceStatus>       limitResultsByStatus,
+                                                                              Date                       asOfTime,
+                                                                              String                     sequencingProperty,
+                                                                              SequencingOrder            sequencingOrder,
+                                                                              int                        pageSize) throws InvalidParameterException,
+                                                                                                                          TypeErrorException,
+                                                                                                                          RepositoryErrorException,
+                                                                                                                          ClassificationErrorException,
+                                                                                                                          PropertyErrorException,
+                                                                                                                          PagingErrorException,
+                                                                                                                          FunctionNotSupportedException,
+                                                                                                                          UserNotAuthorizedException
     {
         final String  methodName                   = "findEntitiesByClassification";
         final String  classificationParameterName  = "classificationName";
@@ -2453,7 +3026,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<EntityDetail> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromEntityElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         FunctionNotSupportedException functionNotSupportedException = null;
@@ -2464,75 +3041,73 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<EntityDetail>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.findEntitiesByClassification(userId,
+                                                                                                                                                              entityTypeGUID,
+                                                                                                                                                              classificationName,
+                                                                                                                                                              matchClassificationProperties,
+                                                                                                                                                              matchCriteria,
+                                                                                                                                                              memberFromElement,
+                                                                                                                                                              limitResultsByStatus,
+                                                                                                                                                              asOfTime,
+                                                                                                                                                              sequencingProperty,
+                                                                                                                                                              sequencingOrder,
+                                                                                                                                                              memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<EntityDetail> results = metadataCollection.findEntitiesByClassification(userId,
-                                                                                                 entityTypeGUID,
-                                                                                                 classificationName,
-                                                                                                 matchClassificationProperties,
-                                                                                                 matchCriteria,
-                                                                                                 fromEntityElement,
-                                                                                                 limitResultsByStatus,
-                                                                                                 asOfTime,
-                                                                                                 sequencingProperty,
-                                                                                                 sequencingOrder,
-                                                                                                 pageSize);
+        for (FederatedResponse<List<EntityDetail>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueEntities(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<EntityDetail> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (TypeErrorException error)
+            {
+                typeErrorException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -2545,12 +3120,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedEntityListResults(repositoryName,
-                                          combinedResults,
-                                          sequencingProperty,
-                                          sequencingOrder,
-                                          pageSize,
-                                          methodName);
+        return pageMerger.getPage();
     }
 
 
@@ -2605,6 +3175,145 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
                                                                                                  PagingErrorException,
                                                                                                  FunctionNotSupportedException,
                                                                                                  UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<EntityDetail> page = this.findEntitiesByPropertyValuePage(userId,
+                                                                                     entityTypeGUID,
+                                                                                     searchCriteria,
+                                                                                     fromEntityElement,
+                                                                                     null,
+                                                                                     limitResultsByStatus,
+                                                                                     limitResultsByClassification,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
+        }
+
+        return page.getResults();
+    }
+
+
+    /**
+     * Paging mode of findEntitiesByPropertyValue.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type.
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<EntityDetail> findEntitiesByPropertyValue(String                     userId,
+                                                                        String                     entityTypeGUID,
+                                                                        String                     searchCriteria,
+                                                                        EnterpriseOMRSPagingCursor pagingCursor,
+                                                                        List<InstanceStatus>       limitResultsByStatus,
+                                                                        List<String>               limitResultsByClassification,
+                                                                        Date                       asOfTime,
+                                                                        String                     sequencingProperty,
+                                                                        SequencingOrder            sequencingOrder,
+                                                                        int                        pageSize) throws InvalidParameterException,
+                                                                                                                    TypeErrorException,
+                                                                                                                    RepositoryErrorException,
+                                                                                                                    PropertyErrorException,
+                                                                                                                    PagingErrorException,
+                                                                                                                    FunctionNotSupportedException,
+                                                                                                                    UserNotAuthorizedException
+    {
+        return this.findEntitiesByPropertyValuePage(userId,
+                                                    entityTypeGUID,
+                                                    searchCriteria,
+                                                    0,
+                                                    pagingCursor,
+                                                    limitResultsByStatus,
+                                                    limitResultsByClassification,
+                                                    asOfTime,
+                                                    sequencingProperty,
+                                                    sequencingOrder,
+                                                    pageSize);
+    }
+
+
+    /**
+     * Retrieve one page of the results for findEntitiesByPropertyValue.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EnterpriseOMRSPage<EntityDetail> findEntitiesByPropertyValuePage(String                     userId,
+                                                                             String                     entityTypeGUID,
+                                                                             String                     searchCriteria,
+                                                                             int                        fromEntityElement,
+                                                                             EnterpriseOMRSPagingCursor pagingCursor,
+                                                                             List<InstanceStatus>       limitResultsByStatus,
+                                                                             List<String>               limitResultsByClassification,
+                                                                             Date                       asOfTime,
+                                                                             String                     sequencingProperty,
+                                                                             SequencingOrder            sequencingOrder,
+                                                                             int                        pageSize) throws InvalidParameterException,
+                                                                                                                         TypeErrorException,
+                                                                                                                         RepositoryErrorException,
+                                                                                                                         PropertyErrorException,
+                                                                                                                         PagingErrorException,
+                                                                                                                         FunctionNotSupportedException,
+                                                                                                                         UserNotAuthorizedException
     {
         final String  methodName = "findEntitiesByPropertyValue";
         final String  searchCriteriaParameterName = "searchCriteria";
@@ -2638,7 +3347,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<EntityDetail> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromEntityElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         FunctionNotSupportedException functionNotSupportedException = null;
@@ -2649,74 +3362,72 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<EntityDetail>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.findEntitiesByPropertyValue(userId,
+                                                                                                                                                             entityTypeGUID,
+                                                                                                                                                             searchCriteria,
+                                                                                                                                                             memberFromElement,
+                                                                                                                                                             limitResultsByStatus,
+                                                                                                                                                             limitResultsByClassification,
+                                                                                                                                                             asOfTime,
+                                                                                                                                                             sequencingProperty,
+                                                                                                                                                             sequencingOrder,
+                                                                                                                                                             memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<EntityDetail> results = metadataCollection.findEntitiesByPropertyValue(userId,
-                                                                                                entityTypeGUID,
-                                                                                                searchCriteria,
-                                                                                                fromEntityElement,
-                                                                                                limitResultsByStatus,
-                                                                                                limitResultsByClassification,
-                                                                                                asOfTime,
-                                                                                                sequencingProperty,
-                                                                                                sequencingOrder,
-                                                                                                pageSize);
+        for (FederatedResponse<List<EntityDetail>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueEntities(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<EntityDetail> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (TypeErrorException error)
+            {
+                typeErrorException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -2729,12 +3440,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedEntityListResults(repositoryName,
-                                          combinedResults,
-                                          sequencingProperty,
-                                          sequencingOrder,
-                                          pageSize,
-                                          methodName);
+        return pageMerger.getPage();
     }
 
 
@@ -2783,44 +3489,47 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                       anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<Relationship>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.isRelationshipKnown(userId, guid));
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    Relationship     relationship = metadataCollection.isRelationshipKnown(userId, guid);
+        for (FederatedResponse<Relationship> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
+            try
+            {
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                Relationship     relationship = response.getResult();
 
-                    if (relationship != null)
-                    {
-                        return enterpriseParentConnector.processRetrievedRelationship(cohortConnector.getMetadataCollectionId(),
-                                                                                      relationship);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
+                repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
+
+                if (relationship != null)
                 {
-                    anotherException = error;
+                    return enterpriseParentConnector.processRetrievedRelationship(cohortConnector.getMetadataCollectionId(),
+                                                                                  relationship);
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
         }
 
         throwCapturedRepositoryErrorException(repositoryErrorException);
@@ -2880,43 +3589,47 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                       anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        List<FederatedResponse<Relationship>> responses;
+
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.getRelationship(userId, guid));
+
+        for (FederatedResponse<Relationship> response : responses)
         {
-            if (cohortConnector != null)
+            try
             {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
-
-                validateMetadataCollection(metadataCollection, methodName);
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                Relationship     relationship = response.getResult();
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    Relationship     relationship = metadataCollection.getRelationship(userId, guid);
+                repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
 
-                    repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
+                enterpriseParentConnector.setInstanceLocation(response.getCohortConnector().getMetadataCollectionId(),
+                                                              relationship);
 
-                    return relationship;
-                }
-                catch (RelationshipNotKnownException error)
-                {
-                    relationshipNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+                return relationship;
+            }
+            catch (RelationshipNotKnownException error)
+            {
+                relationshipNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
@@ -2985,64 +3698,328 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                       anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the instance's home repository if it is known, otherwise to the metadata collections
+         * in parallel, and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        List<FederatedResponse<Relationship>> responses;
+
+        responses = this.issueInstanceRequest(cohortConnectors,
+                                              guid,
+                                              methodName,
+                                              (metadataCollection) -> metadataCollection.getRelationship(userId, guid, asOfTime));
+
+        for (FederatedResponse<Relationship> response : responses)
         {
-            if (cohortConnector != null)
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
+
+            try
             {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+                /*
+                 * Collect the response and return if the request succeeded
+                 */
+                Relationship     relationship = response.getResult();
 
-                validateMetadataCollection(metadataCollection, methodName);
+                repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
 
-                try
-                {
-                    /*
-                     * Issue the request and return if it succeeds
-                     */
-                    Relationship     relationship = metadataCollection.getRelationship(userId, guid, asOfTime);
+                return enterpriseParentConnector.processRetrievedRelationship(cohortConnector.getMetadataCollectionId(),
+                                                                              relationship);
+            }
+            catch (RelationshipNotKnownException error)
+            {
+                relationshipNotKnownException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
+        }
 
-                    repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
+        throwCapturedRepositoryErrorException(repositoryErrorException);
+        throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+        throwCapturedThrowableException(anotherException, methodName);
+        throwCapturedRelationshipNotKnownException(relationshipNotKnownException);
+        throwCapturedFunctionNotSupportedException(functionNotSupportedException);
 
-                    return enterpriseParentConnector.processRetrievedRelationship(cohortConnector.getMetadataCollectionId(),
-                                                                                  relationship);
-                }
-                catch (RelationshipNotKnownException error)
-                {
-                    relationshipNotKnownException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (Throwable error)
+        return null;
+    }
+
+
+    /**
+     * Return the current version of each of the requested relationships.  Each GUID whose home repository is known is
+     * only sent to that member of the cohort and the other GUIDs are sent to every member.  The requests are issued
+     * in parallel and each relationship is taken from the first member (in cohort order) that returns it.
+     * The relationships are returned in the order of the requested GUIDs.  GUIDs for relationships that no member
+     * knows are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUID(String       userId,
+                                                     List<String> guids) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException
+    {
+        final String  methodName         = "getRelationshipsByGUID";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        for (String guid : guids)
+        {
+            repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+        }
+
+        /*
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and one selected to be returned if there are no results from any repository.
+         */
+        Map<String, Relationship>  retrievedRelationships     = new HashMap<>();
+        UserNotAuthorizedException userNotAuthorizedException = null;
+        RepositoryErrorException   repositoryErrorException   = null;
+        Throwable                  anotherException           = null;
+
+        /*
+         * Issue the request to the metadata collections in parallel and then step through the responses
+         * in cohort order.
+         */
+        List<FederatedResponse<List<Relationship>>> responses;
+
+        responses = this.issueInstancesRequest(cohortConnectors,
+                                               guids,
+                                               methodName,
+                                               (metadataCollection, memberGUIDs) -> metadataCollection.getRelationshipsByGUID(userId, memberGUIDs));
+
+        for (FederatedResponse<List<Relationship>> response : responses)
+        {
+            try
+            {
+                List<Relationship> relationships = response.getResult();
+
+                if (relationships != null)
                 {
-                    anotherException = error;
+                    String sourceMetadataCollectionId = response.getCohortConnector().getMetadataCollectionId();
+
+                    for (Relationship relationship : relationships)
+                    {
+                        if ((relationship != null) && (! retrievedRelationships.containsKey(relationship.getGUID())))
+                        {
+                            enterpriseParentConnector.setInstanceLocation(sourceMetadataCollectionId, relationship);
+                            retrievedRelationships.put(relationship.getGUID(), relationship);
+                        }
+                    }
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
+        }
+
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = retrievedRelationships.get(guid);
+
+            if (relationship != null)
+            {
+                relationships.add(relationship);
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            throwCapturedRepositoryErrorException(repositoryErrorException);
+            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+            throwCapturedThrowableException(anotherException, methodName);
+
+            return null;
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested properties by the matching criteria.   The results
+     * can be broken into pages.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param matchProperties list of  properties used to narrow the search.
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param fromRelationshipElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<Relationship> findRelationshipsByProperty(String                    userId,
+                                                           String                    relationshipTypeGUID,
+                                                           InstanceProperties        matchProperties,
+                                                           MatchCriteria             matchCriteria,
+                                                           int                       fromRelationshipElement,
+                                                           List<InstanceStatus>      limitResultsByStatus,
+                                                           Date                      asOfTime,
+                                                           String                    sequencingProperty,
+                                                           SequencingOrder           sequencingOrder,
+                                                           int                       pageSize) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<Relationship> page = this.findRelationshipsByPropertyPage(userId,
+                                                                                     relationshipTypeGUID,
+                                                                                     matchProperties,
+                                                                                     matchCriteria,
+                                                                                     fromRelationshipElement,
+                                                                                     null,
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
         }
 
-        throwCapturedRepositoryErrorException(repositoryErrorException);
-        throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
-        throwCapturedThrowableException(anotherException, methodName);
-        throwCapturedRelationshipNotKnownException(relationshipNotKnownException);
-        throwCapturedFunctionNotSupportedException(functionNotSupportedException);
+        return page.getResults();
+    }
+
 
-        return null;
+    /**
+     * Paging mode of findRelationshipsByProperty.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param matchProperties list of  properties used to narrow the search.
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<Relationship> findRelationshipsByProperty(String                     userId,
+                                                                        String                     relationshipTypeGUID,
+                                                                        InstanceProperties         matchProperties,
+                                                                        MatchCriteria              matchCriteria,
+                                                                        EnterpriseOMRSPagingCursor pagingCursor,
+                                                                        List<InstanceStatus>       limitResultsByStatus,
+                                                                        Date                       asOfTime,
+                                                                        String                     sequencingProperty,
+                                                                        SequencingOrder            sequencingOrder,
+                                                                        int                        pageSize) throws InvalidParameterException,
+                                                                                                                    TypeErrorException,
+                                                                                                                    RepositoryErrorException,
+                                                                                                                    PropertyErrorException,
+                                                                                                                    PagingErrorException,
+                                                                                                                    FunctionNotSupportedException,
+                                                                                                                    UserNotAuthorizedException
+    {
+        return this.findRelationshipsByPropertyPage(userId,
+                                                    relationshipTypeGUID,
+                                                    matchProperties,
+                                                    matchCriteria,
+                                                    0,
+                                                    pagingCursor,
+                                                    limitResultsByStatus,
+                                                    asOfTime,
+                                                    sequencingProperty,
+                                                    sequencingOrder,
+                                                    pageSize);
     }
 
 
     /**
-     * Return a list of relationships that match the requested properties by the matching criteria.   The results
-     * can be broken into pages.
+     * Retrieve one page of the results for findRelationshipsByProperty.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
      *
      * @param userId unique identifier for requesting user.
      * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
@@ -3051,6 +4028,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      * @param fromRelationshipElement the starting element number of the entities to return.
      *                                This is used when retrieving elements
      *                                beyond the first page of results. Zero means start from the first element.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
      * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
      *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
      *                             status values.
@@ -3061,7 +4039,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      * @param sequencingOrder Enum defining how the results should be ordered.
      * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return a list of relationships.  Null means no matching relationships.
+     * @return page of results with the cursor for the next page or null if there are no results
      * @throws InvalidParameterException one of the parameters is invalid or null.
      * @throws TypeErrorException the type guid passed on the request is not known by the
      *                              metadata collection.
@@ -3073,22 +4051,23 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
      * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
      * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
      */
-    public  List<Relationship> findRelationshipsByProperty(String                    userId,
-                                                           String                    relationshipTypeGUID,
-                                                           InstanceProperties        matchProperties,
-                                                           MatchCriteria             matchCriteria,
-                                                           int                       fromRelationshipElement,
-                                                           List<InstanceStatus>      limitResultsByStatus,
-                                                           Date                      asOfTime,
-                                                           String                    sequencingProperty,
-                                                           SequencingOrder           sequencingOrder,
-                                                           int                       pageSize) throws InvalidParameterException,
-                                                                                                      TypeErrorException,
-                                                                                                      RepositoryErrorException,
-                                                                                                      PropertyErrorException,
-                                                                                                      PagingErrorException,
-                                                                                                      FunctionNotSupportedException,
-                                                                                                      UserNotAuthorizedException
+    private EnterpriseOMRSPage<Relationship> findRelationshipsByPropertyPage(String                     userId,
+                                                                             String                     relationshipTypeGUID,
+                                                                             InstanceProperties         matchProperties,
+                                                                             MatchCriteria              matchCriteria,
+                                                                             int                        fromRelationshipElement,
+                                                                             EnterpriseOMRSPagingCursor pagingCursor,
+                                                                             List<InstanceStatus>       limitResultsByStatus,
+                                                                             Date                       asOfTime,
+                                                                             String                     sequencingProperty,
+                                                                             SequencingOrder            sequencingOrder,
+                                                                             int                        pageSize) throws InvalidParameterException,
+                                                                                                                         TypeErrorException,
+                                                                                                                         RepositoryErrorException,
+                                                                                                                         PropertyErrorException,
+                                                                                                                         PagingErrorException,
+                                                                                                                         FunctionNotSupportedException,
+                                                                                                                         UserNotAuthorizedException
     {
         final String  methodName = "findRelationshipsByProperty";
         final String  matchCriteriaParameterName = "matchCriteria";
@@ -3128,7 +4107,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, Relationship>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<Relationship> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromRelationshipElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         FunctionNotSupportedException functionNotSupportedException = null;
@@ -3139,74 +4122,72 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<Relationship>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.findRelationshipsByProperty(userId,
+                                                                                                                                                             relationshipTypeGUID,
+                                                                                                                                                             matchProperties,
+                                                                                                                                                             matchCriteria,
+                                                                                                                                                             memberFromElement,
+                                                                                                                                                             limitResultsByStatus,
+                                                                                                                                                             asOfTime,
+                                                                                                                                                             sequencingProperty,
+                                                                                                                                                             sequencingOrder,
+                                                                                                                                                             memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<Relationship> results = metadataCollection.findRelationshipsByProperty(userId,
-                                                                                                relationshipTypeGUID,
-                                                                                                matchProperties,
-                                                                                                matchCriteria,
-                                                                                                fromRelationshipElement,
-                                                                                                limitResultsByStatus,
-                                                                                                asOfTime,
-                                                                                                sequencingProperty,
-                                                                                                sequencingOrder,
-                                                                                                pageSize);
+        for (FederatedResponse<List<Relationship>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueRelationships(combinedResults,
-                                                                  results,
-                                                                  cohortConnector.getServerName(),
-                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                  methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<Relationship> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (TypeErrorException error)
+            {
+                typeErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -3219,12 +4200,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedRelationshipResults(repositoryName,
-                                            combinedResults,
-                                            sequencingProperty,
-                                            sequencingOrder,
-                                            pageSize,
-                                            methodName);
+        return pageMerger.getPage();
     }
 
 
@@ -3276,6 +4252,139 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
                                                                                                            PagingErrorException,
                                                                                                            FunctionNotSupportedException,
                                                                                                            UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<Relationship> page = this.findRelationshipsByPropertyValuePage(userId,
+                                                                                          relationshipTypeGUID,
+                                                                                          searchCriteria,
+                                                                                          fromRelationshipElement,
+                                                                                          null,
+                                                                                          limitResultsByStatus,
+                                                                                          asOfTime,
+                                                                                          sequencingProperty,
+                                                                                          sequencingOrder,
+                                                                                          pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
+        }
+
+        return page.getResults();
+    }
+
+
+    /**
+     * Paging mode of findRelationshipsByPropertyValue.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type.
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<Relationship> findRelationshipsByPropertyValue(String                     userId,
+                                                                             String                     relationshipTypeGUID,
+                                                                             String                     searchCriteria,
+                                                                             EnterpriseOMRSPagingCursor pagingCursor,
+                                                                             List<InstanceStatus>       limitResultsByStatus,
+                                                                             Date                       asOfTime,
+                                                                             String                     sequencingProperty,
+                                                                             SequencingOrder            sequencingOrder,
+                                                                             int                        pageSize) throws InvalidParameterException,
+                                                                                                                         TypeErrorException,
+                                                                                                                         RepositoryErrorException,
+                                                                                                                         PropertyErrorException,
+                                                                                                                         PagingErrorException,
+                                                                                                                         FunctionNotSupportedException,
+                                                                                                                         UserNotAuthorizedException
+    {
+        return this.findRelationshipsByPropertyValuePage(userId,
+                                                         relationshipTypeGUID,
+                                                         searchCriteria,
+                                                         0,
+                                                         pagingCursor,
+                                                         limitResultsByStatus,
+                                                         asOfTime,
+                                                         sequencingProperty,
+                                                         sequencingOrder,
+                                                         pageSize);
+    }
+
+
+    /**
+     * Retrieve one page of the results for findRelationshipsByPropertyValue.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type.
+     * @param fromRelationshipElement Element number of the results to skip to when building the results list
+     *                                to return.  Zero means begin at the start of the results.  This is used
+     *                                to retrieve the results over a number of pages.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EnterpriseOMRSPage<Relationship> findRelationshipsByPropertyValuePage(String                     userId,
+                                                                                  String                     relationshipTypeGUID,
+                                                                                  String                     searchCriteria,
+                                                                                  int                        fromRelationshipElement,
+                                                                                  EnterpriseOMRSPagingCursor pagingCursor,
+                                                                                  List<InstanceStatus>       limitResultsByStatus,
+                                                                                  Date                       asOfTime,
+                                                                                  String                     sequencingProperty,
+                                                                                  SequencingOrder            sequencingOrder,
+                                                                                  int                        pageSize) throws InvalidParameterException,
+                                                                                                                              TypeErrorException,
+                                                                                                                              RepositoryErrorException,
+                                                                                                                              PropertyErrorException,
+                                                                                                                              PagingErrorException,
+                                                                                                                              FunctionNotSupportedException,
+                                                                                                                              UserNotAuthorizedException
     {
         final String  methodName = "findRelationshipsByPropertyValue";
         final String  asOfTimeParameter = "asOfTime";
@@ -3307,7 +4416,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, Relationship>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<Relationship> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromRelationshipElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         FunctionNotSupportedException functionNotSupportedException = null;
@@ -3318,73 +4431,71 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<Relationship>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.findRelationshipsByPropertyValue(userId,
+                                                                                                                                                                  relationshipTypeGUID,
+                                                                                                                                                                  searchCriteria,
+                                                                                                                                                                  memberFromElement,
+                                                                                                                                                                  limitResultsByStatus,
+                                                                                                                                                                  asOfTime,
+                                                                                                                                                                  sequencingProperty,
+                                                                                                                                                                  sequencingOrder,
+                                                                                                                                                                  memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<Relationship> results = metadataCollection.findRelationshipsByPropertyValue(userId,
-                                                                                                     relationshipTypeGUID,
-                                                                                                     searchCriteria,
-                                                                                                     fromRelationshipElement,
-                                                                                                     limitResultsByStatus,
-                                                                                                     asOfTime,
-                                                                                                     sequencingProperty,
-                                                                                                     sequencingOrder,
-                                                                                                     pageSize);
+        for (FederatedResponse<List<Relationship>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueRelationships(combinedResults,
-                                                                  results,
-                                                                  cohortConnector.getServerName(),
-                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                  methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<Relationship> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (TypeErrorException error)
+            {
+                typeErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -3397,12 +4508,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedRelationshipResults(repositoryName,
-                                            combinedResults,
-                                            sequencingProperty,
-                                            sequencingOrder,
-                                            pageSize,
-                                            methodName);
+        return pageMerger.getPage();
     }
 
 
@@ -3478,69 +4584,70 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                      anotherException                = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<InstanceGraph>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getLinkingEntities(userId,
+                                                                                                             startEntityGUID,
+                                                                                                             endEntityGUID,
+                                                                                                             limitResultsByStatus,
+                                                                                                             asOfTime));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    InstanceGraph     results = metadataCollection.getLinkingEntities(userId,
-                                                                                      startEntityGUID,
-                                                                                      endEntityGUID,
-                                                                                      limitResultsByStatus,
-                                                                                      asOfTime);
+        for (FederatedResponse<InstanceGraph> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and consolidate.
-                     */
-                    if (results != null)
-                    {
-                        combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
-                                                                                  results.getRelationships(),
-                                                                                  cohortConnector.getServerName(),
-                                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                                  methodName);
-                        combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
-                                                                       results.getEntities(),
-                                                                       cohortConnector.getServerName(),
-                                                                       cohortConnector.getMetadataCollectionId(),
-                                                                       methodName);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                InstanceGraph     results = response.getResult();
+
+                /*
+                 * Step through the list of returned TypeDefs and consolidate.
+                 */
+                if (results != null)
+                {
+                    combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
+                                                                              results.getRelationships(),
+                                                                              cohortConnector.getServerName(),
+                                                                              cohortConnector.getMetadataCollectionId(),
+                                                                              methodName);
+                    combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
+                                                                   results.getEntities(),
+                                                                   cohortConnector.getServerName(),
+                                                                   cohortConnector.getMetadataCollectionId(),
+                                                                   methodName);
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
         }
 
         return validatedInstanceGraphResults(repositoryName,
@@ -3668,72 +4775,73 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                      anotherException                = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<InstanceGraph>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedRequest(cohortConnectors,
+                                               methodName,
+                                               (metadataCollection) -> metadataCollection.getEntityNeighborhood(userId,
+                                                                                                                entityGUID,
+                                                                                                                entityTypeGUIDs,
+                                                                                                                relationshipTypeGUIDs,
+                                                                                                                limitResultsByStatus,
+                                                                                                                limitResultsByClassification,
+                                                                                                                asOfTime,
+                                                                                                                level));
+
+        for (FederatedResponse<InstanceGraph> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    InstanceGraph     results = metadataCollection.getEntityNeighborhood(userId,
-                                                                                         entityGUID,
-                                                                                         entityTypeGUIDs,
-                                                                                         relationshipTypeGUIDs,
-                                                                                         limitResultsByStatus,
-                                                                                         limitResultsByClassification,
-                                                                                         asOfTime,
-                                                                                         level);
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                InstanceGraph     results = response.getResult();
 
-                    /*
-                     * Step through the list of returned TypeDefs and consolidate.
-                     */
-                    if (results != null)
-                    {
-                        combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
-                                                                                  results.getRelationships(),
-                                                                                  cohortConnector.getServerName(),
-                                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                                  methodName);
-                        combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
-                                                                       results.getEntities(),
-                                                                       cohortConnector.getServerName(),
-                                                                       cohortConnector.getMetadataCollectionId(),
-                                                                       methodName);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
+                /*
+                 * Step through the list of returned TypeDefs and consolidate.
+                 */
+                if (results != null)
+                {
+                    combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
+                                                                              results.getRelationships(),
+                                                                              cohortConnector.getServerName(),
+                                                                              cohortConnector.getMetadataCollectionId(),
+                                                                              methodName);
+                    combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
+                                                                   results.getEntities(),
+                                                                   cohortConnector.getServerName(),
+                                                                   cohortConnector.getMetadataCollectionId(),
+                                                                   methodName);
                 }
             }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
+            }
         }
 
         return validatedInstanceGraphResults(repositoryName,
@@ -3799,6 +4907,147 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
                                                                                         PagingErrorException,
                                                                                         FunctionNotSupportedException,
                                                                                         UserNotAuthorizedException
+    {
+        EnterpriseOMRSPage<EntityDetail> page = this.getRelatedEntitiesPage(userId,
+                                                                            startEntityGUID,
+                                                                            entityTypeGUIDs,
+                                                                            fromEntityElement,
+                                                                            null,
+                                                                            limitResultsByStatus,
+                                                                            limitResultsByClassification,
+                                                                            asOfTime,
+                                                                            sequencingProperty,
+                                                                            sequencingOrder,
+                                                                            pageSize);
+
+        if ((page == null) || (page.getResults().isEmpty()))
+        {
+            return null;
+        }
+
+        return page.getResults();
+    }
+
+
+    /**
+     * Paging mode of getRelatedEntities.  Rather than an offset, the request takes the cursor returned with
+     * the previous page.  Each member of the cohort is asked for one page of results from its position in the
+     * cursor and the results are merged in the requested sequence, so deep pages are no more expensive to
+     * retrieve than the first page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param startEntityGUID unique identifier of the starting entity
+     * @param entityTypeGUIDs list of types to search for.  Null means any type.
+     * @param pagingCursor cursor returned with the previous page of results or null for the first page.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the startEntityGUID
+     *                                   is not found in the metadata collection.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EnterpriseOMRSPage<EntityDetail> getRelatedEntities(String                     userId,
+                                                               String                     startEntityGUID,
+                                                               List<String>               entityTypeGUIDs,
+                                                               EnterpriseOMRSPagingCursor pagingCursor,
+                                                               List<InstanceStatus>       limitResultsByStatus,
+                                                               List<String>               limitResultsByClassification,
+                                                               Date                       asOfTime,
+                                                               String                     sequencingProperty,
+                                                               SequencingOrder            sequencingOrder,
+                                                               int                        pageSize) throws InvalidParameterException,
+                                                                                                           TypeErrorException,
+                                                                                                           RepositoryErrorException,
+                                                                                                           EntityNotKnownException,
+                                                                                                           PropertyErrorException,
+                                                                                                           PagingErrorException,
+                                                                                                           FunctionNotSupportedException,
+                                                                                                           UserNotAuthorizedException
+    {
+        return this.getRelatedEntitiesPage(userId,
+                                           startEntityGUID,
+                                           entityTypeGUIDs,
+                                           0,
+                                           pagingCursor,
+                                           limitResultsByStatus,
+                                           limitResultsByClassification,
+                                           asOfTime,
+                                           sequencingProperty,
+                                           sequencingOrder,
+                                           pageSize);
+    }
+
+
+    /**
+     * Retrieve one page of the results for getRelatedEntities.  The page is merged from the
+     * results of each member of the cohort in the requested sequence.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param startEntityGUID unique identifier of the starting entity
+     * @param entityTypeGUIDs list of types to search for.  Null means any type.
+     * @param fromEntityElement starting element for results list.  Used in paging.  Zero means first element.
+     * @param pagingCursor cursor returned with the previous page or null to page by offset.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results with the cursor for the next page or null if there are no results
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one or more of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the startEntityGUID
+     *                                   is not found in the metadata collection.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EnterpriseOMRSPage<EntityDetail> getRelatedEntitiesPage(String                     userId,
+                                                                    String                     startEntityGUID,
+                                                                    List<String>               entityTypeGUIDs,
+                                                                    int                        fromEntityElement,
+                                                                    EnterpriseOMRSPagingCursor pagingCursor,
+                                                                    List<InstanceStatus>       limitResultsByStatus,
+                                                                    List<String>               limitResultsByClassification,
+                                                                    Date                       asOfTime,
+                                                                    String                     sequencingProperty,
+                                                                    SequencingOrder            sequencingOrder,
+                                                                    int                        pageSize) throws InvalidParameterException,
+                                                                                                                TypeErrorException,
+                                                                                                                RepositoryErrorException,
+                                                                                                                EntityNotKnownException,
+                                                                                                                PropertyErrorException,
+                                                                                                                PagingErrorException,
+                                                                                                                FunctionNotSupportedException,
+                                                                                                                UserNotAuthorizedException
     {
         final String  methodName = "getRelatedEntities";
         final String  entityGUIDParameterName  = "startEntityGUID";
@@ -3839,7 +5088,11 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail>     combinedResults               = new HashMap<>();
+        EnterpriseOMRSPageMerger<EntityDetail> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromEntityElement,
+                                                                                           pageSize,
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder);
 
         InvalidParameterException     invalidParameterException     = null;
         EntityNotKnownException       entityNotKnownException       = null;
@@ -3851,78 +5104,76 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         Throwable                     anotherException              = null;
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * Issue the request to the metadata collections in parallel and then step through the responses in cohort order.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+        List<FederatedResponse<List<EntityDetail>>> responses;
 
-                validateMetadataCollection(metadataCollection, methodName);
+        responses = this.issueFederatedPageRequest(cohortConnectors,
+                                                   methodName,
+                                                   pageMerger,
+                                                   (metadataCollection, memberFromElement, memberPageSize) -> metadataCollection.getRelatedEntities(userId,
+                                                                                                                                                    startEntityGUID,
+                                                                                                                                                    entityTypeGUIDs,
+                                                                                                                                                    memberFromElement,
+                                                                                                                                                    limitResultsByStatus,
+                                                                                                                                                    limitResultsByClassification,
+                                                                                                                                                    asOfTime,
+                                                                                                                                                    sequencingProperty,
+                                                                                                                                                    sequencingOrder,
+                                                                                                                                                    memberPageSize));
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<EntityDetail> results = metadataCollection.getRelatedEntities(userId,
-                                                                                       startEntityGUID,
-                                                                                       entityTypeGUIDs,
-                                                                                       fromEntityElement,
-                                                                                       limitResultsByStatus,
-                                                                                       limitResultsByClassification,
-                                                                                       asOfTime,
-                                                                                       sequencingProperty,
-                                                                                       sequencingOrder,
-                                                                                       pageSize);
+        for (FederatedResponse<List<EntityDetail>> response : responses)
+        {
+            OMRSRepositoryConnector cohortConnector = response.getCohortConnector();
 
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueEntities(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Throwable error)
-                {
-                    anotherException = error;
-                }
+            try
+            {
+                /*
+                 * Collect the response to the request
+                 */
+                List<EntityDetail> results = response.getResult();
+
+                /*
+                 * Save the results for the merge.
+                 */
+                pageMerger.addMemberResults(cohortConnector.getMetadataCollectionId(), results);
+            }
+            catch (InvalidParameterException error)
+            {
+                invalidParameterException = error;
+            }
+            catch (EntityNotKnownException error)
+            {
+                entityNotKnownException = error;
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                functionNotSupportedException = error;
+            }
+            catch (TypeErrorException error)
+            {
+                typeErrorException = error;
+            }
+            catch (PropertyErrorException error)
+            {
+                propertyErrorException = error;
+            }
+            catch (RepositoryErrorException error)
+            {
+                repositoryErrorException = error;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                userNotAuthorizedException = error;
+            }
+            catch (Throwable error)
+            {
+                anotherException = error;
             }
         }
 
 
-        if (combinedResults.isEmpty())
+        if (pageMerger.isEmpty())
         {
             throwCapturedRepositoryErrorException(repositoryErrorException);
             throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
@@ -3936,12 +5187,7 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        return validatedEntityListResults(repositoryName,
-                                          combinedResults,
-                                          sequencingProperty,
-                                          sequencingOrder,
-                                          pageSize,
-                                          methodName);
+        return pageMerger.getPage();
     }
 
 
@@ -6260,6 +7506,298 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Issue a request to the metadata collection of each member of the cohort.  The requests to the remote members
+     * run in parallel on the enterprise connector's executor while the request to the first member (the local
+     * repository if there is one) runs on the caller's thread.  The responses are returned in the same order as
+     * the cohort connectors so the caller can process them in exactly the same way as if the requests had been
+     * issued one after another.
+     *
+     * @param cohortConnectors list of connectors to the members of the cohort
+     * @param methodName name of method being processed
+     * @param request request to issue to each metadata collection
+     * @param <T> type of the result returned by the request
+     * @return list of responses, one for each non-null cohort connector
+     * @throws RepositoryErrorException a cohort connector has a null metadata collection
+     */
+    private <T> List<FederatedResponse<T>> issueFederatedRequest(List<OMRSRepositoryConnector> cohortConnectors,
+                                                                 String                        methodName,
+                                                                 FederatedRequest<T>           request) throws RepositoryErrorException
+    {
+        return this.issueFederatedMemberRequest(cohortConnectors,
+                                                methodName,
+                                                (cohortConnector, metadataCollection) -> request.issueRequest(metadataCollection));
+    }
+
+
+    /**
+     * Issue a request for a single instance.  If the home repository of the instance is known, the request goes
+     * only to that member of the cohort.  If the home repository does not return the instance (for example,
+     * because the instance has moved or been purged), the location is forgotten and the request is issued to
+     * every member of the cohort.
+     *
+     * @param cohortConnectors list of connectors to the members of the cohort
+     * @param guid unique identifier of the requested instance
+     * @param methodName name of method being processed
+     * @param request request to issue to each metadata collection
+     * @param <T> type of the result returned by the request
+     * @return list of responses
+     * @throws RepositoryErrorException a cohort connector has a null metadata collection
+     */
+    private <T> List<FederatedResponse<T>> issueInstanceRequest(List<OMRSRepositoryConnector> cohortConnectors,
+                                                                String                        guid,
+                                                                String                        methodName,
+                                                                FederatedRequest<T>           request) throws RepositoryErrorException
+    {
+        OMRSRepositoryConnector homeConnector = enterpriseParentConnector.getInstanceHomeConnector(guid, cohortConnectors);
+
+        if (homeConnector != null)
+        {
+            List<FederatedResponse<T>> homeResponses = this.issueFederatedRequest(Collections.singletonList(homeConnector),
+                                                                                  methodName,
+                                                                                  request);
+
+            try
+            {
+                if ((! homeResponses.isEmpty()) && (homeResponses.get(0).getResult() != null))
+                {
+                    return homeResponses;
+                }
+            }
+            catch (Throwable error)
+            {
+                /*
+                 * The error is returned again if no other member of the cohort has the instance.
+                 */
+            }
+
+            enterpriseParentConnector.removeInstanceLocation(guid);
+        }
+
+        return this.issueFederatedRequest(cohortConnectors, methodName, request);
+    }
+
+
+    /**
+     * Issue a request for a list of instances.  The GUIDs are grouped by the home repository of each instance.
+     * Each member of the cohort is sent the GUIDs of the instances it is home to, plus the GUIDs whose home is
+     * not known.  A member that is sent no GUIDs is not called.  A GUID that its home repository does not return
+     * has its location forgotten and is then requested from every member of the cohort.  The responses to these
+     * requests follow the first responses in the returned list.
+     *
+     * @param cohortConnectors list of connectors to the members of the cohort
+     * @param guids unique identifiers of the requested instances
+     * @param methodName name of method being processed
+     * @param request request to issue to each metadata collection
+     * @param <T> type of the instances returned by the request
+     * @return list of responses
+     * @throws RepositoryErrorException a cohort connector has a null metadata collection
+     */
+    private <T extends InstanceHeader> List<FederatedResponse<List<T>>> issueInstancesRequest(List<OMRSRepositoryConnector> cohortConnectors,
+                                                                                              List<String>                  guids,
+                                                                                              String                        methodName,
+                                                                                              FederatedInstancesRequest<T>  request) throws RepositoryErrorException
+    {
+        Map<String, List<String>> homedGUIDs   = new HashMap<>();
+        List<String>              unknownGUIDs = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            OMRSRepositoryConnector homeConnector = enterpriseParentConnector.getInstanceHomeConnector(guid, cohortConnectors);
+
+            if (homeConnector == null)
+            {
+                unknownGUIDs.add(guid);
+            }
+            else
+            {
+                homedGUIDs.computeIfAbsent(homeConnector.getMetadataCollectionId(), (memberId) -> new ArrayList<>()).add(guid);
+            }
+        }
+
+        if (homedGUIDs.isEmpty())
+        {
+            return this.issueFederatedRequest(cohortConnectors,
+                                              methodName,
+                                              (metadataCollection) -> request.issueRequest(metadataCollection, guids));
+        }
+
+        List<FederatedResponse<List<T>>> responses;
+
+        responses = this.issueFederatedMemberRequest(cohortConnectors,
+                                                     methodName,
+                                                     (cohortConnector, metadataCollection) ->
+                                                     {
+                                                         List<String> memberGUIDs = new ArrayList<>(unknownGUIDs);
+                                                         List<String> homeGUIDs   = homedGUIDs.get(cohortConnector.getMetadataCollectionId());
+
+                                                         if (homeGUIDs != null)
+                                                         {
+                                                             memberGUIDs.addAll(homeGUIDs);
+                                                         }
+
+                                                         if (memberGUIDs.isEmpty())
+                                                         {
+                                                             return null;
+                                                         }
+
+                                                         return request.issueRequest(metadataCollection, memberGUIDs);
+                                                     });
+
+        /*
+         * Any instance that its home repository did not return may have moved or been purged.
+         */
+        List<String> missingGUIDs = new ArrayList<>();
+
+        for (FederatedResponse<List<T>> response : responses)
+        {
+            List<String> homeGUIDs = homedGUIDs.get(response.getCohortConnector().getMetadataCollectionId());
+
+            if (homeGUIDs != null)
+            {
+                Set<String> returnedGUIDs = new HashSet<>();
+
+                try
+                {
+                    List<T> instances = response.getResult();
+
+                    if (instances != null)
+                    {
+                        for (T instance : instances)
+                        {
+                            if (instance != null)
+                            {
+                                returnedGUIDs.add(instance.getGUID());
+                            }
+                        }
+                    }
+                }
+                catch (Throwable error)
+                {
+                    /*
+                     * The error is returned again when the caller processes the response.
+                     */
+                }
+
+                for (String guid : homeGUIDs)
+                {
+                    if (! returnedGUIDs.contains(guid))
+                    {
+                        enterpriseParentConnector.removeInstanceLocation(guid);
+                        missingGUIDs.add(guid);
+                    }
+                }
+            }
+        }
+
+        if (! missingGUIDs.isEmpty())
+        {
+            List<FederatedResponse<List<T>>> allResponses = new ArrayList<>(responses);
+
+            allResponses.addAll(this.issueFederatedRequest(cohortConnectors,
+                                                           methodName,
+                                                           (metadataCollection) -> request.issueRequest(metadataCollection, missingGUIDs)));
+            return allResponses;
+        }
+
+        return responses;
+    }
+
+
+    /**
+     * Issue a request for a page of results to the metadata collection of each member of the cohort.  The page
+     * merger supplies the range of results to request from each member.  Members that have already returned all of
+     * their results in an earlier page are not called.
+     *
+     * @param cohortConnectors list of connectors to the members of the cohort
+     * @param methodName name of method being processed
+     * @param pageMerger merger for the page that supplies the range of results to request from each member
+     * @param request request to issue to each metadata collection
+     * @param <T> type of the instances returned by the request
+     * @return list of responses, one for each non-null cohort connector
+     * @throws RepositoryErrorException a cohort connector has a null metadata collection
+     */
+    private <T extends InstanceHeader> List<FederatedResponse<List<T>>> issueFederatedPageRequest(List<OMRSRepositoryConnector> cohortConnectors,
+                                                                                                  String                        methodName,
+                                                                                                  EnterpriseOMRSPageMerger<T>   pageMerger,
+                                                                                                  FederatedPageRequest<T>       request) throws RepositoryErrorException
+    {
+        return this.issueFederatedMemberRequest(cohortConnectors,
+                                                methodName,
+                                                (cohortConnector, metadataCollection) ->
+                                                {
+                                                    String memberId = cohortConnector.getMetadataCollectionId();
+
+                                                    if (pageMerger.isMemberComplete(memberId))
+                                                    {
+                                                        return null;
+                                                    }
+
+                                                    return request.issueRequest(metadataCollection,
+                                                                                pageMerger.getMemberFromElement(memberId),
+                                                                                pageMerger.getMemberPageSize());
+                                                });
+    }
+
+
+    /**
+     * Issue a request to each member of the cohort where the request depends on the member it is issued to.
+     *
+     * @param cohortConnectors list of connectors to the members of the cohort
+     * @param methodName name of method being processed
+     * @param request request to issue to each member
+     * @param <T> type of the result returned by the request
+     * @return list of responses, one for each non-null cohort connector
+     * @throws RepositoryErrorException a cohort connector has a null metadata collection
+     */
+    private <T> List<FederatedResponse<T>> issueFederatedMemberRequest(List<OMRSRepositoryConnector> cohortConnectors,
+                                                                       String                        methodName,
+                                                                       FederatedMemberRequest<T>     request) throws RepositoryErrorException
+    {
+        List<FederatedResponse<T>> responses = new ArrayList<>();
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                responses.add(new FederatedResponse<>(cohortConnector,
+                                                      new FutureTask<>(() -> request.issueRequest(cohortConnector, metadataCollection)),
+                                                      methodName));
+            }
+        }
+
+        ExecutorService executor = enterpriseParentConnector.getFederationExecutor();
+        long            deadline = System.currentTimeMillis() + enterpriseParentConnector.getMemberTimeout();
+
+        for (int i = 1; i < responses.size(); i++)
+        {
+            FederatedResponse<T> response = responses.get(i);
+
+            response.setDeadline(deadline);
+
+            if (executor == null)
+            {
+                response.getFuture().run();
+            }
+            else
+            {
+                executor.execute(response.getFuture());
+            }
+        }
+
+        if (! responses.isEmpty())
+        {
+            responses.get(0).getFuture().run();
+        }
+
+        return responses;
+    }
+
+
     /**
      * Verify that a cohort member's metadata collection is not null.
      *
@@ -6718,73 +8256,6 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
         }
     }
 
-    /**
-     * Return a validated, sorted list of search results.
-     *
-     * @param repositoryName name of this repository
-     * @param combinedResults results from all cohort repositories
-     * @param sequencingProperty String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder Enum defining how the results should be ordered.
-     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
-     *                 unrestricted return results size.
-     * @param methodName name of method called
-     * @return list of entities
-     * @throws RepositoryErrorException there is a problem with the results
-     */
-    private List<EntityDetail> validatedEntityListResults(String                         repositoryName,
-                                                          Map<String, EntityDetail>      combinedResults,
-                                                          String                         sequencingProperty,
-                                                          SequencingOrder                sequencingOrder,
-                                                          int                            pageSize,
-                                                          String                         methodName) throws RepositoryErrorException
-    {
-        if (combinedResults.isEmpty())
-        {
-            return null;
-        }
-
-        List<EntityDetail>   actualResults = new ArrayList<>(combinedResults.values());
-
-        // todo: sort results and crop to max page size
-
-        return actualResults;
-    }
-
-
-    /**
-     * Return a validated, sorted list of search results.
-     *
-     * @param repositoryName name of this repository
-     * @param combinedResults relationships from all cohort repositories
-     * @param sequencingProperty String name of the property that is to be used to sequence the results.
-     *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder Enum defining how the results should be ordered.
-     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
-     *                 unrestricted return results size.
-     * @param methodName name of the method called
-     * @return list of relationships
-     * @throws RepositoryErrorException there is a problem with the results
-     */
-    private List<Relationship> validatedRelationshipResults(String                         repositoryName,
-                                                            Map<String, Relationship>      combinedResults,
-                                                            String                         sequencingProperty,
-                                                            SequencingOrder                sequencingOrder,
-                                                            int                            pageSize,
-                                                            String                         methodName) throws RepositoryErrorException
-    {
-        if (combinedResults.isEmpty())
-        {
-            return null;
-        }
-
-        List<Relationship>   actualResults = new ArrayList<>(combinedResults.values());
-
-        // todo, sort results and crop to max page size
-
-        return actualResults;
-    }
-
 
     /**
      * Return a validated InstanceGraph.
@@ -6849,4 +8320,216 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
     }
+
+
+    /**
+     * FederatedRequest is the request issued to the metadata collection of each member of the cohort.
+     *
+     * @param <T> type of the result returned by the request
+     */
+    private interface FederatedRequest<T>
+    {
+        /**
+         * Issue the request to a metadata collection.
+         *
+         * @param metadataCollection metadata collection of a member of the cohort
+         * @return result of the request
+         * @throws Exception exception returned by the metadata collection
+         */
+        T issueRequest(OMRSMetadataCollection metadataCollection) throws Exception;
+    }
+
+
+    /**
+     * FederatedPageRequest is the request for a page of results issued to the metadata collection of each member
+     * of the cohort.
+     *
+     * @param <T> type of the instances returned by the request
+     */
+    private interface FederatedPageRequest<T>
+    {
+        /**
+         * Issue the request to a metadata collection.
+         *
+         * @param metadataCollection metadata collection of a member of the cohort
+         * @param fromElement offset of the first result to return
+         * @param pageSize maximum number of results to return
+         * @return results of the request
+         * @throws Exception exception returned by the metadata collection
+         */
+        List<T> issueRequest(OMRSMetadataCollection metadataCollection,
+                             int                    fromElement,
+                             int                    pageSize) throws Exception;
+    }
+
+
+    /**
+     * FederatedInstancesRequest is the request for a list of instances issued to the metadata collection of a
+     * member of the cohort.
+     *
+     * @param <T> type of the instances returned by the request
+     */
+    private interface FederatedInstancesRequest<T>
+    {
+        /**
+         * Issue the request to a metadata collection.
+         *
+         * @param metadataCollection metadata collection of a member of the cohort
+         * @param guids unique identifiers of the instances to request from this member
+         * @return instances returned by the member
+         * @throws Exception exception returned by the metadata collection
+         */
+        List<T> issueRequest(OMRSMetadataCollection metadataCollection,
+                             List<String>           guids) throws Exception;
+    }
+
+
+    /**
+     * FederatedMemberRequest is a request that depends on the member of the cohort it is issued to.
+     *
+     * @param <T> type of the result returned by the request
+     */
+    private interface FederatedMemberRequest<T>
+    {
+        /**
+         * Issue the request to a member of the cohort.
+         *
+         * @param cohortConnector connector to the member of the cohort
+         * @param metadataCollection metadata collection of the member
+         * @return result of the request
+         * @throws Exception exception returned by the metadata collection
+         */
+        T issueRequest(OMRSRepositoryConnector cohortConnector,
+                       OMRSMetadataCollection  metadataCollection) throws Exception;
+    }
+
+
+    /**
+     * FederatedResponse holds the outstanding response from a single member of the cohort.
+     *
+     * @param <T> type of the result returned by the request
+     */
+    private class FederatedResponse<T>
+    {
+        private OMRSRepositoryConnector cohortConnector;
+        private FutureTask<T>           future;
+        private String                  methodName;
+        private long                    deadline = Long.MAX_VALUE;
+
+
+        /**
+         * Constructor for the response.
+         *
+         * @param cohortConnector connector to the member of the cohort
+         * @param future future that will hold the result of the request
+         * @param methodName name of method being processed
+         */
+        FederatedResponse(OMRSRepositoryConnector cohortConnector,
+                          FutureTask<T>           future,
+                          String                  methodName)
+        {
+            this.cohortConnector = cohortConnector;
+            this.future = future;
+            this.methodName = methodName;
+        }
+
+
+        /**
+         * Return the connector to the member of the cohort that the request was issued to.
+         *
+         * @return repository connector
+         */
+        OMRSRepositoryConnector getCohortConnector()
+        {
+            return cohortConnector;
+        }
+
+
+        /**
+         * Return the future that will hold the result of the request.
+         *
+         * @return future
+         */
+        FutureTask<T> getFuture()
+        {
+            return future;
+        }
+
+
+        /**
+         * Set up the time (in milliseconds since the epoch) when the member must have responded.
+         *
+         * @param deadline time
+         */
+        void setDeadline(long deadline)
+        {
+            this.deadline = deadline;
+        }
+
+
+        /**
+         * Wait for the result of the request.  The exception returned by the metadata collection is rethrown
+         * so it can be handled in the same way as if the request had been issued directly.  If the member does not
+         * respond in time, the request is cancelled, the timeout is logged and a RepositoryErrorException is thrown.
+         *
+         * @return result of the request
+         * @throws Throwable exception from the metadata collection or timeout
+         */
+        T getResult() throws Throwable
+        {
+            try
+            {
+                if (deadline == Long.MAX_VALUE)
+                {
+                    return future.get();
+                }
+
+                return future.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            }
+            catch (ExecutionException error)
+            {
+                throw error.getCause();
+            }
+            catch (InterruptedException error)
+            {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+
+                throw error;
+            }
+            catch (TimeoutException error)
+            {
+                future.cancel(true);
+
+                final String actionDescription = methodName;
+                long         memberTimeout     = enterpriseParentConnector.getMemberTimeout();
+
+                OMRSAuditCode auditCode = OMRSAuditCode.ENTERPRISE_MEMBER_TIMEOUT;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(methodName,
+                                                                    enterpriseParentConnector.getAccessServiceName(),
+                                                                    Long.toString(memberTimeout),
+                                                                    cohortConnector.getMetadataCollectionId(),
+                                                                    cohortConnector.getServerName()),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
+
+                OMRSErrorCode errorCode    = OMRSErrorCode.ENTERPRISE_MEMBER_TIMEOUT;
+                String        errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
+                                                                                                                 Long.toString(memberTimeout),
+                                                                                                                 cohortConnector.getMetadataCollectionId(),
+                                                                                                                 cohortConnector.getServerName());
+
+                throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                                   EnterpriseOMRSMetadataCollection.class.getName(),
+                                                   methodName,
+                                                   errorMessage,
+                                                   errorCode.getSystemAction(),
+                                                   errorCode.getUserAction());
+            }
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EnterpriseOMRSPage is one page of results from a federated query issued in the paging mode of the
+ * EnterpriseOMRSMetadataCollection.  It includes the cursor needed to retrieve the next page.
+ *
+ * @param <T> type of the results (EntityDetail or Relationship)
+ */
+public class EnterpriseOMRSPage<T>
+{
+    private List<T>                    results;
+    private EnterpriseOMRSPagingCursor nextPageCursor;
+
+
+    /**
+     * Constructor to set up the page.
+     *
+     * @param results results on this page in the requested sequence
+     * @param nextPageCursor cursor for the next page or null if there are no more results
+     */
+    public EnterpriseOMRSPage(List<T>                    results,
+                              EnterpriseOMRSPagingCursor nextPageCursor)
+    {
+        this.results = results;
+        this.nextPageCursor = nextPageCursor;
+    }
+
+
+    /**
+     * Return the results on this page.
+     *
+     * @return list of results
+     */
+    public List<T> getResults()
+    {
+        if (results == null)
+        {
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(results);
+    }
+
+
+    /**
+     * Return the cursor to pass on the request for the next page.
+     *
+     * @return cursor or null if there are no more results
+     */
+    public EnterpriseOMRSPagingCursor getNextPageCursor()
+    {
+        return nextPageCursor;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "EnterpriseOMRSPage{" +
+                "results=" + results +
+                ", nextPageCursor=" + nextPageCursor +
+                '}';
+    }
+}
@@ -0,0 +1,380 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+
+import java.util.*;
+
+/**
+ * EnterpriseOMRSPageMerger assembles one page of a federated query from the sorted results returned by each
+ * member of the cohort.  The members' results are merged with a k-way merge driven by a priority queue that holds
+ * the next result from each member, so building a page of size n from k members costs O(n log k) comparisons and
+ * the merger only holds the results returned by the members.
+ * <p>
+ *     When the query uses an offset (fromElement), each member is asked for the first fromElement + pageSize
+ *     results since any of them could appear on the requested page.  When the query uses an
+ *     EnterpriseOMRSPagingCursor, each member is asked for pageSize results from its own offset, so deep pages
+ *     cost O(pageSize &times; members) memory.  Either way the merger works out how many results were consumed from
+ *     each member and returns the cursor for the next page.
+ * </p>
+ * <p>
+ *     Duplicate instances (for example, a reference copy returned by a second member) are removed from the page
+ *     by GUID.  Copies that sort alongside the original (as reference copies do) are consumed with it so they do
+ *     not reappear at the start of the next page.
+ *     The merge assumes each member returns its results in the requested sequence.  The results from members that
+ *     do not sequence their results are still returned, but the page is then only approximately in sequence.
+ * </p>
+ *
+ * @param <T> type of the instances (EntityDetail or Relationship)
+ */
+class EnterpriseOMRSPageMerger<T extends InstanceHeader>
+{
+    private EnterpriseOMRSPagingCursor          pagingCursor;
+    private int                                 fromElement;
+    private int                                 pageSize;
+    private EnterpriseOMRSInstanceComparator<T> comparator;
+    private List<MemberResults<T>>              memberResultsList = new ArrayList<>();
+
+
+    /**
+     * Constructor for a page of a federated query.
+     *
+     * @param pagingCursor cursor returned with the previous page or null if paging by offset
+     * @param fromElement offset of the first result on the page (ignored if there is a paging cursor)
+     * @param pageSize maximum number of results on the page (zero means no limit)
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder order of the results
+     */
+    EnterpriseOMRSPageMerger(EnterpriseOMRSPagingCursor pagingCursor,
+                             int                        fromElement,
+                             int                        pageSize,
+                             String                     sequencingProperty,
+                             SequencingOrder            sequencingOrder)
+    {
+        this.pagingCursor = pagingCursor;
+        this.fromElement = (pagingCursor == null) ? fromElement : 0;
+        this.pageSize = pageSize;
+        this.comparator = new EnterpriseOMRSInstanceComparator<>(sequencingProperty, sequencingOrder);
+    }
+
+
+    /**
+     * Return whether the member has already returned all of its results in an earlier page.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @return boolean
+     */
+    boolean isMemberComplete(String metadataCollectionId)
+    {
+        return (pagingCursor != null) && (pagingCursor.isMemberComplete(metadataCollectionId));
+    }
+
+
+    /**
+     * Return the offset of the first result to request from the member.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @return offset
+     */
+    int getMemberFromElement(String metadataCollectionId)
+    {
+        if (pagingCursor == null)
+        {
+            return 0;
+        }
+
+        return pagingCursor.getMemberOffset(metadataCollectionId);
+    }
+
+
+    /**
+     * Return the number of results to request from each member.
+     *
+     * @return page size (zero means no limit)
+     */
+    int getMemberPageSize()
+    {
+        if (pageSize == 0)
+        {
+            return 0;
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, (long) fromElement + pageSize);
+    }
+
+
+    /**
+     * Save the results returned by a member.  The members are added in cohort order so that, where results are
+     * equal in the requested sequence, the results from the local repository come first.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @param results results from the member in the requested sequence
+     */
+    void addMemberResults(String  metadataCollectionId,
+                          List<T> results)
+    {
+        List<T> memberResults = results;
+
+        if (memberResults == null)
+        {
+            memberResults = new ArrayList<>();
+        }
+
+        memberResultsList.add(new MemberResults<>(metadataCollectionId,
+                                                  memberResultsList.size(),
+                                                  this.getMemberFromElement(metadataCollectionId),
+                                                  memberResults));
+    }
+
+
+    /**
+     * Return whether none of the members returned any results.
+     *
+     * @return boolean
+     */
+    boolean isEmpty()
+    {
+        for (MemberResults<T> memberResults : memberResultsList)
+        {
+            if (! memberResults.results.isEmpty())
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Merge the members' results into the requested page.
+     *
+     * @return page of results and the cursor for the next page
+     */
+    EnterpriseOMRSPage<T> getPage()
+    {
+        PriorityQueue<MemberResults<T>> mergeQueue = new PriorityQueue<>(Math.max(1, memberResultsList.size()),
+                                                                          this::compareMembers);
+
+        for (MemberResults<T> memberResults : memberResultsList)
+        {
+            if (memberResults.hasNext())
+            {
+                mergeQueue.add(memberResults);
+            }
+        }
+
+        Set<String> mergedGUIDs = new HashSet<>();
+        List<T>     page        = new ArrayList<>();
+        int         skipped     = 0;
+
+        while ((! mergeQueue.isEmpty()) && ((pageSize == 0) || (page.size() < pageSize)))
+        {
+            MemberResults<T> memberResults = mergeQueue.poll();
+            T                instance      = memberResults.next();
+
+            if (! this.isMerged(instance, mergedGUIDs))
+            {
+                if (instance.getGUID() != null)
+                {
+                    mergedGUIDs.add(instance.getGUID());
+                }
+
+                if (skipped < fromElement)
+                {
+                    skipped++;
+                }
+                else
+                {
+                    page.add(instance);
+                }
+            }
+
+            if (memberResults.hasNext())
+            {
+                mergeQueue.add(memberResults);
+            }
+        }
+
+        /*
+         * Copies of the instances on the page that are next in line from other members are consumed now
+         * so that they do not appear again at the start of the next page.
+         */
+        while ((! mergeQueue.isEmpty()) && (this.isMerged(mergeQueue.peek().peek(), mergedGUIDs)))
+        {
+            MemberResults<T> memberResults = mergeQueue.poll();
+
+            memberResults.next();
+
+            if (memberResults.hasNext())
+            {
+                mergeQueue.add(memberResults);
+            }
+        }
+
+        return new EnterpriseOMRSPage<>(page, this.getNextPageCursor());
+    }
+
+
+    /**
+     * Return whether the instance is null or a copy of an instance that has already been merged.
+     *
+     * @param instance instance
+     * @param mergedGUIDs GUIDs of the instances already merged
+     * @return boolean
+     */
+    private boolean isMerged(T           instance,
+                             Set<String> mergedGUIDs)
+    {
+        return (instance == null) || ((instance.getGUID() != null) && (mergedGUIDs.contains(instance.getGUID())));
+    }
+
+
+    /**
+     * Build the cursor for the next page from the number of results consumed from each member.
+     *
+     * @return cursor or null if all of the members have returned all of their results
+     */
+    private EnterpriseOMRSPagingCursor getNextPageCursor()
+    {
+        Map<String, Integer> memberOffsets    = new HashMap<>();
+        Set<String>          completedMembers = new HashSet<>();
+
+        if (pagingCursor != null)
+        {
+            memberOffsets.putAll(pagingCursor.getMemberOffsets());
+            completedMembers.addAll(pagingCursor.getCompletedMembers());
+        }
+
+        boolean moreResults = false;
+
+        for (MemberResults<T> memberResults : memberResultsList)
+        {
+            boolean memberComplete = (pageSize == 0) ||
+                                     ((memberResults.results.size() < this.getMemberPageSize()) && (! memberResults.hasNext()));
+
+            memberOffsets.put(memberResults.metadataCollectionId, memberResults.startOffset + memberResults.position);
+
+            if (memberComplete)
+            {
+                completedMembers.add(memberResults.metadataCollectionId);
+            }
+            else
+            {
+                moreResults = true;
+            }
+        }
+
+        if (! moreResults)
+        {
+            return null;
+        }
+
+        return new EnterpriseOMRSPagingCursor(memberOffsets, completedMembers);
+    }
+
+
+    /**
+     * Order two members by their next result.  Members with equal results are ordered by their position in the
+     * cohort.
+     *
+     * @param member1 first member
+     * @param member2 second member
+     * @return comparison result
+     */
+    private int compareMembers(MemberResults<T> member1,
+                               MemberResults<T> member2)
+    {
+        T   next1 = member1.peek();
+        T   next2 = member2.peek();
+        int result;
+
+        if ((next1 == null) || (next2 == null))
+        {
+            /*
+             * Null results are merged first so they are consumed and discarded.
+             */
+            result = Boolean.compare(next1 != null, next2 != null);
+        }
+        else
+        {
+            result = comparator.compare(next1, next2);
+        }
+
+        if (result == 0)
+        {
+            result = Integer.compare(member1.memberIndex, member2.memberIndex);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * MemberResults holds the results from one member and the position of the next result to merge.
+     *
+     * @param <T> type of the instances
+     */
+    private static class MemberResults<T>
+    {
+        private String  metadataCollectionId;
+        private int     memberIndex;
+        private int     startOffset;
+        private List<T> results;
+        private int     position = 0;
+
+
+        /**
+         * Constructor for a member's results.
+         *
+         * @param metadataCollectionId identifier of the member
+         * @param memberIndex position of the member in the cohort
+         * @param startOffset offset of the first result in the member's full list of results
+         * @param results results returned by the member
+         */
+        MemberResults(String  metadataCollectionId,
+                      int     memberIndex,
+                      int     startOffset,
+                      List<T> results)
+        {
+            this.metadataCollectionId = metadataCollectionId;
+            this.memberIndex = memberIndex;
+            this.startOffset = startOffset;
+            this.results = results;
+        }
+
+
+        /**
+         * Return whether there are more results to merge from this member.
+         *
+         * @return boolean
+         */
+        boolean hasNext()
+        {
+            return position < results.size();
+        }
+
+
+        /**
+         * Return the next result to merge without consuming it.
+         *
+         * @return instance
+         */
+        T peek()
+        {
+            return results.get(position);
+        }
+
+
+        /**
+         * Consume and return the next result to merge.
+         *
+         * @return instance
+         */
+        T next()
+        {
+            return results.get(position++);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * EnterpriseOMRSPagingCursor records how far a federated query has progressed through the results of each
+ * member of the cohort.  It is returned with each page of results from the paging mode of the
+ * EnterpriseOMRSMetadataCollection and passed back to request the next page.  Each member is then asked for
+ * one page of results starting from its own offset, so a deep page only needs pageSize results from each member
+ * rather than every result up to the requested page.
+ * <p>
+ *     A member that is not known to the cursor (for example, it joined the cohort after the first page was
+ *     retrieved, or it failed when the previous page was requested) is asked for its results from the start.
+ * </p>
+ */
+public class EnterpriseOMRSPagingCursor implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private Map<String, Integer> memberOffsets    = new HashMap<>();
+    private Set<String>          completedMembers = new HashSet<>();
+
+
+    /**
+     * Default constructor creates a cursor for the first page of results.
+     */
+    public EnterpriseOMRSPagingCursor()
+    {
+    }
+
+
+    /**
+     * Constructor to set up the progress through each member's results.
+     *
+     * @param memberOffsets map of metadata collection id to the number of results already consumed from that member
+     * @param completedMembers metadata collection ids of the members that have no more results
+     */
+    public EnterpriseOMRSPagingCursor(Map<String, Integer> memberOffsets,
+                                      Set<String>          completedMembers)
+    {
+        this.setMemberOffsets(memberOffsets);
+        this.setCompletedMembers(completedMembers);
+    }
+
+
+    /**
+     * Return the number of results already consumed from each member of the cohort.
+     *
+     * @return map of metadata collection id to offset
+     */
+    public Map<String, Integer> getMemberOffsets()
+    {
+        return new HashMap<>(memberOffsets);
+    }
+
+
+    /**
+     * Set up the number of results already consumed from each member of the cohort.
+     *
+     * @param memberOffsets map of metadata collection id to offset
+     */
+    public void setMemberOffsets(Map<String, Integer> memberOffsets)
+    {
+        if (memberOffsets == null)
+        {
+            this.memberOffsets = new HashMap<>();
+        }
+        else
+        {
+            this.memberOffsets = new HashMap<>(memberOffsets);
+        }
+    }
+
+
+    /**
+     * Return the metadata collection ids of the members that have no more results.
+     *
+     * @return set of metadata collection ids
+     */
+    public Set<String> getCompletedMembers()
+    {
+        return new HashSet<>(completedMembers);
+    }
+
+
+    /**
+     * Set up the metadata collection ids of the members that have no more results.
+     *
+     * @param completedMembers set of metadata collection ids
+     */
+    public void setCompletedMembers(Set<String> completedMembers)
+    {
+        if (completedMembers == null)
+        {
+            this.completedMembers = new HashSet<>();
+        }
+        else
+        {
+            this.completedMembers = new HashSet<>(completedMembers);
+        }
+    }
+
+
+    /**
+     * Return the offset of the next result to retrieve from a member of the cohort.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @return offset (zero if the member is not known to the cursor)
+     */
+    public int getMemberOffset(String metadataCollectionId)
+    {
+        Integer offset = memberOffsets.get(metadataCollectionId);
+
+        if (offset == null)
+        {
+            return 0;
+        }
+
+        return offset;
+    }
+
+
+    /**
+     * Return whether a member of the cohort has no more results.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @return boolean
+     */
+    public boolean isMemberComplete(String metadataCollectionId)
+    {
+        return completedMembers.contains(metadataCollectionId);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "EnterpriseOMRSPagingCursor{" +
+                "memberOffsets=" + memberOffsets +
+                ", completedMembers=" + completedMembers +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        EnterpriseOMRSPagingCursor that = (EnterpriseOMRSPagingCursor) objectToCompare;
+        return Objects.equals(memberOffsets, that.memberOffsets) &&
+                Objects.equals(completedMembers, that.completedMembers);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(memberOffsets, completedMembers);
+    }
+}
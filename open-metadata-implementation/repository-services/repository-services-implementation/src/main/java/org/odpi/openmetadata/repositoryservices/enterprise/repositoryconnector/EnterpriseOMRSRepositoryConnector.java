@@ -9,6 +9,8 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnec
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
@@ -24,6 +26,12 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -38,6 +46,11 @@ import java.util.List;
  *     repositories in the connected open metadata repository cohort(s).  It does by registering as an OMRSConnectorConsumer
  *     with the OMRSConnectorManager to be notified when connectors to new open metadata repositories are available.
  * </p>
+ * <p>
+ *     The connector remembers the home repository of the instances it has seen in an
+ *     EnterpriseOMRSInstanceLocationCache that is shared with the other enterprise connectors in the server.
+ *     Requests for an instance by GUID go straight to the instance's home repository when it is known.
+ * </p>
  */
 public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector implements OMRSConnectorConsumer
 {
@@ -48,9 +61,14 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     private OMRSInstanceRetrievalEventProcessor localEventProcessor       = null;
     private String                              localMetadataCollectionId = null;
     private List<FederatedConnector>            remoteCohortConnectors    = new ArrayList<>();
+    private EnterpriseOMRSInstanceLocationCache instanceLocationCache     = new EnterpriseOMRSInstanceLocationCache();
 
     private String                              accessServiceName         = null;
 
+    private int                                 maxFederationThreads      = EnterpriseOMRSConnectorProvider.defaultMaxFederationThreads;
+    private long                                memberTimeout             = EnterpriseOMRSConnectorProvider.defaultMemberTimeout;
+    private ThreadPoolExecutor                  federationExecutor        = null;
+
     private static final Logger       log      = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
     private static final OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.ENTERPRISE_REPOSITORY_CONNECTOR);
 
@@ -88,6 +106,151 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Initialize the connector.  The connection may include additional properties that control the number of
+     * requests issued to the members of the cohort at the same time and how long to wait for each member to respond.
+     *
+     * @param connectorInstanceId unique id for the connector instance useful for messages etc
+     * @param connectionProperties POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+        if (additionalProperties != null)
+        {
+            Object maxFederationThreadsProperty = additionalProperties.getProperty(EnterpriseOMRSConnectorProvider.maxFederationThreadsPropertyName);
+            Object memberTimeoutProperty        = additionalProperties.getProperty(EnterpriseOMRSConnectorProvider.memberTimeoutPropertyName);
+
+            if (maxFederationThreadsProperty != null)
+            {
+                maxFederationThreads = Math.max(1, Integer.parseInt(maxFederationThreadsProperty.toString()));
+            }
+
+            if (memberTimeoutProperty != null)
+            {
+                memberTimeout = Math.max(1, Long.parseLong(memberTimeoutProperty.toString()));
+            }
+        }
+
+        /*
+         * The threads are created on demand and time out when the connector is idle.  The queue is bounded
+         * so that once it is full, the requesting thread calls the member itself rather than queuing without limit.
+         */
+        federationExecutor = new ThreadPoolExecutor(maxFederationThreads,
+                                                    maxFederationThreads,
+                                                    60,
+                                                    TimeUnit.SECONDS,
+                                                    new ArrayBlockingQueue<>(maxFederationThreads * 4),
+                                                    new FederationThreadFactory(connectorInstanceId),
+                                                    new ThreadPoolExecutor.CallerRunsPolicy());
+        federationExecutor.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * Return the executor used to issue requests to the members of the cohort in parallel.
+     *
+     * @return executor service or null if the connector has not been initialized
+     */
+    ExecutorService getFederationExecutor()
+    {
+        return federationExecutor;
+    }
+
+
+    /**
+     * Return the time that the metadata collection waits for each member of the cohort to respond to a request.
+     *
+     * @return timeout in milliseconds
+     */
+    long getMemberTimeout()
+    {
+        return memberTimeout;
+    }
+
+
+    /**
+     * Set up the cache of instance locations.  This is shared by the enterprise connectors in the server
+     * and registered with the repository event managers so it sees the changes to instances.
+     *
+     * @param instanceLocationCache cache of the home repository for each instance
+     */
+    void setInstanceLocationCache(EnterpriseOMRSInstanceLocationCache instanceLocationCache)
+    {
+        if (instanceLocationCache != null)
+        {
+            this.instanceLocationCache = instanceLocationCache;
+        }
+    }
+
+
+    /**
+     * Return the connector to the home repository of an instance if its home is known and the home repository
+     * is one of the supplied members of the cohort.
+     *
+     * @param guid unique identifier of the instance
+     * @param cohortConnectors connectors to the members of the cohort
+     * @return repository connector or null if the request needs to go to every member of the cohort
+     */
+    OMRSRepositoryConnector getInstanceHomeConnector(String                        guid,
+                                                     List<OMRSRepositoryConnector> cohortConnectors)
+    {
+        String homeMetadataCollectionId = instanceLocationCache.getHomeMetadataCollectionId(guid);
+
+        if ((homeMetadataCollectionId != null) && (cohortConnectors != null))
+        {
+            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            {
+                if ((cohortConnector != null) && (homeMetadataCollectionId.equals(cohortConnector.getMetadataCollectionId())))
+                {
+                    return cohortConnector;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record the home repository of an instance retrieved from a member of the cohort.  If the instance does
+     * not identify its home, the member that returned it is used.
+     *
+     * @param sourceMetadataCollectionId unique identifier of the member that returned the instance
+     * @param instance retrieved instance
+     */
+    void setInstanceLocation(String         sourceMetadataCollectionId,
+                             InstanceHeader instance)
+    {
+        if (instance != null)
+        {
+            if (instance.getMetadataCollectionId() != null)
+            {
+                instanceLocationCache.setInstanceLocation(instance);
+            }
+            else
+            {
+                instanceLocationCache.setInstanceLocation(instance.getGUID(), sourceMetadataCollectionId);
+            }
+        }
+    }
+
+
+    /**
+     * Forget the home repository of an instance because its home repository did not return it.
+     *
+     * @param guid unique identifier of the instance
+     */
+    void removeInstanceLocation(String guid)
+    {
+        instanceLocationCache.removeInstanceLocation(guid);
+    }
+
+
     /**
      * Set up the unique Id for this metadata collection.
      *
@@ -178,6 +341,11 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             connectorManager.unregisterConnectorConsumer(connectorConsumerId);
         }
 
+        if (federationExecutor != null)
+        {
+            federationExecutor.shutdownNow();
+        }
+
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
     }
@@ -281,6 +449,8 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     EntitySummary processRetrievedEntitySummary(String        sourceMetadataCollectionId,
                                                 EntitySummary entity)
     {
+        this.setInstanceLocation(sourceMetadataCollectionId, entity);
+
         EntitySummary   processedEntity = new EntitySummary(entity);
 
         /*
@@ -312,6 +482,8 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     EntityDetail processRetrievedEntityDetail(String        sourceMetadataCollectionId,
                                               EntityDetail  entity)
     {
+        this.setInstanceLocation(sourceMetadataCollectionId, entity);
+
         EntityDetail   processedEntity = new EntityDetail(entity);
 
         /*
@@ -371,6 +543,8 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     public Relationship processRetrievedRelationship(String         sourceMetadataCollectionId,
                                                      Relationship   relationship)
     {
+        this.setInstanceLocation(sourceMetadataCollectionId, relationship);
+
         Relationship   processedRelationship = new Relationship(relationship);
 
         /*
@@ -619,4 +793,42 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             return null;
         }
     }
+
+
+    /**
+     * FederationThreadFactory creates the daemon threads that issue requests to the members of the cohort.
+     * The threads are named after the connector instance so they can be identified in thread dumps.
+     */
+    private static class FederationThreadFactory implements ThreadFactory
+    {
+        private String        threadNamePrefix;
+        private AtomicInteger threadCount = new AtomicInteger();
+
+
+        /**
+         * Constructor sets up the prefix for the thread names.
+         *
+         * @param connectorInstanceId unique id for the connector instance
+         */
+        FederationThreadFactory(String connectorInstanceId)
+        {
+            this.threadNamePrefix = "EnterpriseOMRSFederation-" + connectorInstanceId + "-";
+        }
+
+
+        /**
+         * Create a new thread to run a request.
+         *
+         * @param runnable request to run
+         * @return new thread
+         */
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+/**
+ * OMRSInstanceEventConsumerMetrics is a snapshot of the state of the dispatch queue for one of the instance
+ * event consumers registered with an OMRSRepositoryEventManager.  It shows how far the consumer has fallen
+ * behind the events received by the event manager.
+ */
+public class OMRSInstanceEventConsumerMetrics
+{
+    private String consumerName;
+    private int    queueDepth;
+    private int    queueCapacity;
+    private long   eventsQueued;
+    private long   eventsDispatched;
+    private long   eventsFailed;
+    private long   currentLag;
+    private long   lastDispatchLag;
+
+
+    /**
+     * Constructor to set up the snapshot.
+     *
+     * @param consumerName name of the consumer
+     * @param queueDepth number of events waiting for the consumer
+     * @param queueCapacity maximum number of events that can wait for the consumer
+     * @param eventsQueued total number of events queued for the consumer
+     * @param eventsDispatched total number of events passed to the consumer
+     * @param eventsFailed number of events that the consumer returned an exception for
+     * @param currentLag time in milliseconds that the oldest waiting event has been waiting
+     * @param lastDispatchLag time in milliseconds that the last event passed to the consumer had waited
+     */
+    public OMRSInstanceEventConsumerMetrics(String consumerName,
+                                            int    queueDepth,
+                                            int    queueCapacity,
+                                            long   eventsQueued,
+                                            long   eventsDispatched,
+                                            long   eventsFailed,
+                                            long   currentLag,
+                                            long   lastDispatchLag)
+    {
+        this.consumerName = consumerName;
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.eventsQueued = eventsQueued;
+        this.eventsDispatched = eventsDispatched;
+        this.eventsFailed = eventsFailed;
+        this.currentLag = currentLag;
+        this.lastDispatchLag = lastDispatchLag;
+    }
+
+
+    /**
+     * Return the name of the consumer.
+     *
+     * @return class name of the consumer
+     */
+    public String getConsumerName()
+    {
+        return consumerName;
+    }
+
+
+    /**
+     * Return the number of events waiting to be passed to the consumer.
+     *
+     * @return count
+     */
+    public int getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Return the maximum number of events that can wait for the consumer before the event manager
+     * blocks the thread delivering events.
+     *
+     * @return count
+     */
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Return the total number of events queued for the consumer.
+     *
+     * @return count
+     */
+    public long getEventsQueued()
+    {
+        return eventsQueued;
+    }
+
+
+    /**
+     * Return the total number of events passed to the consumer.
+     *
+     * @return count
+     */
+    public long getEventsDispatched()
+    {
+        return eventsDispatched;
+    }
+
+
+    /**
+     * Return the number of events that the consumer returned an exception for.
+     *
+     * @return count
+     */
+    public long getEventsFailed()
+    {
+        return eventsFailed;
+    }
+
+
+    /**
+     * Return the time that the oldest waiting event has been waiting.
+     *
+     * @return milliseconds (zero if no events are waiting)
+     */
+    public long getCurrentLag()
+    {
+        return currentLag;
+    }
+
+
+    /**
+     * Return the time that the last event passed to the consumer had been waiting.
+     *
+     * @return milliseconds
+     */
+    public long getLastDispatchLag()
+    {
+        return lastDispatchLag;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSInstanceEventConsumerMetrics{" +
+                "consumerName='" + consumerName + '\'' +
+                ", queueDepth=" + queueDepth +
+                ", queueCapacity=" + queueCapacity +
+                ", eventsQueued=" + eventsQueued +
+                ", eventsDispatched=" + eventsDispatched +
+                ", eventsFailed=" + eventsFailed +
+                ", currentLag=" + currentLag +
+                ", lastDispatchLag=" + lastDispatchLag +
+                '}';
+    }
+}
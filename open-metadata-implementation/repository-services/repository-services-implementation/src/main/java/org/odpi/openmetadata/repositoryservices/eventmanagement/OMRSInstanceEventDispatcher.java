@@ -0,0 +1,317 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSInstanceEventDispatcher passes instance events to one of the consumers registered with an
+ * OMRSRepositoryEventManager.  Each consumer has its own dispatcher so that a slow consumer does not hold up the
+ * others.  The dispatcher spreads the events over a number of shards, each with a bounded queue and a thread that
+ * passes its events to the consumer.  Events are assigned to a shard using the GUID of the instance they describe,
+ * so the events for an instance are passed to the consumer in the order they were received.  There is no
+ * ordering between the events for different instances.
+ * <p>
+ *     When a shard's queue is full, the thread delivering the event waits for space on the queue.  This pushes
+ *     back on the topic connector that received the event.
+ * </p>
+ */
+class OMRSInstanceEventDispatcher
+{
+    private static final OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.REPOSITORY_EVENT_MANAGER);
+    private static final Logger       log      = LoggerFactory.getLogger(OMRSInstanceEventDispatcher.class);
+
+    private static final long         pollTimeout = 100;
+
+    private String                     eventManagerName;
+    private OMRSInstanceEventProcessor consumer;
+    private String                     consumerName;
+    private List<DispatchShard>        shards           = new ArrayList<>();
+    private int                        queueCapacity;
+    private volatile boolean           running          = true;
+    private AtomicLong                 eventsQueued     = new AtomicLong(0);
+    private AtomicLong                 eventsDispatched = new AtomicLong(0);
+    private AtomicLong                 eventsFailed     = new AtomicLong(0);
+    private volatile long              lastDispatchLag  = 0;
+
+
+    /**
+     * Constructor starts the dispatch threads for the consumer.
+     *
+     * @param eventManagerName name of the event manager that owns the dispatcher
+     * @param consumer consumer to pass the events to
+     * @param shardCount number of shards (and dispatch threads)
+     * @param shardQueueSize maximum number of events waiting on each shard
+     */
+    OMRSInstanceEventDispatcher(String                     eventManagerName,
+                                OMRSInstanceEventProcessor consumer,
+                                int                        shardCount,
+                                int                        shardQueueSize)
+    {
+        this.eventManagerName = eventManagerName;
+        this.consumer = consumer;
+        this.consumerName = consumer.getClass().getName();
+        this.queueCapacity = shardCount * shardQueueSize;
+
+        for (int shardNumber = 0; shardNumber < shardCount; shardNumber++)
+        {
+            DispatchShard shard  = new DispatchShard(shardQueueSize);
+            Thread        thread = new Thread(shard,
+                                              eventManagerName + " dispatch: " +
+                                                      consumer.getClass().getSimpleName() + "-" + shardNumber);
+
+            thread.setDaemon(true);
+            shards.add(shard);
+            thread.start();
+        }
+    }
+
+
+    /**
+     * Queue an event for the consumer.  This waits if the shard for the event is full.  Once the
+     * dispatcher is shut down, the event is passed to the consumer on the calling thread.
+     *
+     * @param event event to pass to the consumer
+     */
+    void dispatch(OMRSInstanceEvent event)
+    {
+        if (running)
+        {
+            DispatchShard shard = shards.get(this.getShardNumber(event));
+
+            try
+            {
+                shard.queue.put(new QueuedEvent(event));
+                eventsQueued.incrementAndGet();
+                return;
+            }
+            catch (InterruptedException   interrupted)
+            {
+                log.debug("Interrupted waiting to queue event for " + consumerName);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        this.passEventToConsumer(event, System.currentTimeMillis());
+    }
+
+
+    /**
+     * Return the number of events waiting to be passed to the consumer.
+     *
+     * @return count
+     */
+    int getQueueDepth()
+    {
+        int queueDepth = 0;
+
+        for (DispatchShard shard : shards)
+        {
+            queueDepth = queueDepth + shard.queue.size();
+        }
+
+        return queueDepth;
+    }
+
+
+    /**
+     * Return the current state of the dispatcher.
+     *
+     * @return metrics
+     */
+    OMRSInstanceEventConsumerMetrics getMetrics()
+    {
+        long now           = System.currentTimeMillis();
+        long oldestWaiting = now;
+
+        for (DispatchShard shard : shards)
+        {
+            QueuedEvent nextEvent = shard.queue.peek();
+
+            if ((nextEvent != null) && (nextEvent.queueTime < oldestWaiting))
+            {
+                oldestWaiting = nextEvent.queueTime;
+            }
+        }
+
+        return new OMRSInstanceEventConsumerMetrics(consumerName,
+                                                    this.getQueueDepth(),
+                                                    queueCapacity,
+                                                    eventsQueued.get(),
+                                                    eventsDispatched.get(),
+                                                    eventsFailed.get(),
+                                                    now - oldestWaiting,
+                                                    lastDispatchLag);
+    }
+
+
+    /**
+     * Stop the dispatch threads once they have passed the waiting events to the consumer.
+     */
+    void shutdown()
+    {
+        running = false;
+    }
+
+
+    /**
+     * Select the shard for an event from the GUID of the instance that it describes.  Events that do not
+     * describe a single instance (such as batch events) all use the first shard.
+     *
+     * @param event event to dispatch
+     * @return shard number
+     */
+    private int getShardNumber(OMRSInstanceEvent event)
+    {
+        String instanceGUID = this.getInstanceGUID(event);
+
+        if (instanceGUID == null)
+        {
+            return 0;
+        }
+
+        return (instanceGUID.hashCode() & Integer.MAX_VALUE) % shards.size();
+    }
+
+
+    /**
+     * Return the GUID of the instance that the event describes.
+     *
+     * @param event event to dispatch
+     * @return guid or null
+     */
+    private String getInstanceGUID(OMRSInstanceEvent event)
+    {
+        if (event.getEntity() != null)
+        {
+            return event.getEntity().getGUID();
+        }
+        else if (event.getRelationship() != null)
+        {
+            return event.getRelationship().getGUID();
+        }
+
+        return event.getInstanceGUID();
+    }
+
+
+    /**
+     * Pass an event to the consumer.  Exceptions from the consumer are logged so that they do not stop the
+     * dispatch thread.
+     *
+     * @param event event to pass to the consumer
+     * @param queueTime time the event was queued
+     */
+    private void passEventToConsumer(OMRSInstanceEvent event,
+                                     long              queueTime)
+    {
+        final String actionDescription = "Dispatch Instance Event";
+
+        lastDispatchLag = System.currentTimeMillis() - queueTime;
+
+        try
+        {
+            consumer.sendInstanceEvent(eventManagerName, event);
+        }
+        catch (Throwable   error)
+        {
+            eventsFailed.incrementAndGet();
+
+            OMRSAuditCode auditCode = OMRSAuditCode.INSTANCE_EVENT_DISPATCH_ERROR;
+
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(eventManagerName,
+                                                                String.valueOf(event.getInstanceEventType()),
+                                                                this.getInstanceGUID(event),
+                                                                consumerName,
+                                                                error.getClass().getName(),
+                                                                error.getMessage()),
+                               event.toString(),
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+
+        eventsDispatched.incrementAndGet();
+    }
+
+
+    /**
+     * QueuedEvent records when an event was queued so the lag of the consumer can be measured.
+     */
+    private static class QueuedEvent
+    {
+        private OMRSInstanceEvent event;
+        private long              queueTime;
+
+
+        /**
+         * Constructor records the current time.
+         *
+         * @param event event to queue
+         */
+        QueuedEvent(OMRSInstanceEvent event)
+        {
+            this.event = event;
+            this.queueTime = System.currentTimeMillis();
+        }
+    }
+
+
+    /**
+     * DispatchShard holds the queue of events for one dispatch thread.  The thread stops once the
+     * dispatcher is shut down and the queue is empty.
+     */
+    private class DispatchShard implements Runnable
+    {
+        private BlockingQueue<QueuedEvent> queue;
+
+
+        /**
+         * Constructor sets up the queue.
+         *
+         * @param queueSize maximum number of waiting events
+         */
+        DispatchShard(int queueSize)
+        {
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+
+        /**
+         * Pass the queued events to the consumer.
+         */
+        public void run()
+        {
+            while (running || (! queue.isEmpty()))
+            {
+                try
+                {
+                    QueuedEvent queuedEvent = queue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+
+                    if (queuedEvent != null)
+                    {
+                        passEventToConsumer(queuedEvent.event, queuedEvent.queueTime);
+                    }
+                }
+                catch (InterruptedException   wakeUp)
+                {
+                    log.debug("Dispatch thread woken for " + consumerName);
+                }
+            }
+        }
+    }
+}
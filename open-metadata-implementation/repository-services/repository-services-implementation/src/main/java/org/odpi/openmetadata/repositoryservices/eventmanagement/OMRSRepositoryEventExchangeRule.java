@@ -9,8 +9,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * OMRSRepositoryEventExchangeRule determines if particular types of events should be exchanged on the OMRS Topic.
@@ -18,7 +19,7 @@ import java.util.List;
 public class OMRSRepositoryEventExchangeRule
 {
     private OpenMetadataExchangeRule           exchangeRule;
-    private List<String>                       selectedTypesToProcess = new ArrayList<>();
+    private Set<String>                        selectedTypesToProcess = new HashSet<>();
 
 
     /**
@@ -53,7 +54,7 @@ public class OMRSRepositoryEventExchangeRule
         this.exchangeRule = exchangeRule;
 
         /*
-         * The selected types are loaded into a hash map for easy retrieval.
+         * The selected types are loaded into a hash set so each instance event is checked with a single lookup.
          */
         if (selectedTypesToProcess != null)
         {
@@ -206,10 +207,7 @@ public class OMRSRepositoryEventExchangeRule
                      * All active types should be learned and added to the rule so save copies are updated by
                      * incoming events.
                      */
-                    if (! selectedTypesToProcess.contains(type.getTypeDefGUID()))
-                    {
-                        selectedTypesToProcess.add(typeDefGUID);
-                    }
+                    selectedTypesToProcess.add(typeDefGUID);
 
                     /*
                      * The instance should be saved if it is not already known.
@@ -27,17 +27,28 @@ import java.util.List;
  * Since OMRSRepositoryEventManager sits at the crossroads of the flow of events between the cohorts,
  * the local repository and the enterprise access components, it performs detailed error checking of the
  * event contents to help assure the integrity of the open metadata ecosystem.
+ * <p>
+ * Instance events are passed to each consumer by its own OMRSInstanceEventDispatcher so that the consumers
+ * run in parallel and a slow consumer does not hold up the others.  The events for each instance are passed
+ * to a consumer in the order they were received.  Setting the number of dispatch threads to zero passes the
+ * events to the consumers on the thread that delivered them to the event manager.
  */
 public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
 {
-    private String eventManagerName;
-    private boolean                          isActive               = false;
-    private List<OMRSTypeDefEvent>           typeDefEventBuffer     = new ArrayList<>();
-    private List<OMRSInstanceEvent>          instanceEventBuffer    = new ArrayList<>();
-    private List<OMRSTypeDefEventProcessor>  typeDefEventConsumers  = new ArrayList<>();
-    private List<OMRSInstanceEventProcessor> instanceEventConsumers = new ArrayList<>();
-    private OMRSRepositoryContentValidator   repositoryValidator;   /* set in constructor */
-    private OMRSRepositoryEventExchangeRule  exchangeRule;          /* set in constructor */
+    private String                            eventManagerName;
+    private boolean                           isActive               = false;
+    private List<OMRSTypeDefEvent>            typeDefEventBuffer     = new ArrayList<>();
+    private List<OMRSInstanceEvent>           instanceEventBuffer    = new ArrayList<>();
+    private List<OMRSTypeDefEventProcessor>   typeDefEventConsumers  = new ArrayList<>();
+    private List<OMRSInstanceEventProcessor>  instanceEventConsumers = new ArrayList<>();
+    private List<OMRSInstanceEventDispatcher> instanceEventDispatchers = new ArrayList<>();
+    private OMRSRepositoryContentValidator    repositoryValidator;   /* set in constructor */
+    private OMRSRepositoryEventExchangeRule   exchangeRule;          /* set in constructor */
+    private int                               dispatchThreadsPerConsumer;
+    private int                               dispatchQueueSize;
+
+    static final int defaultDispatchThreadsPerConsumer = 4;
+    static final int defaultDispatchQueueSize          = 1000;
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -57,6 +68,31 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     public OMRSRepositoryEventManager(String eventManagerName,
                                       OMRSRepositoryEventExchangeRule exchangeRule,
                                       OMRSRepositoryContentValidator repositoryValidator)
+    {
+        this(eventManagerName,
+             exchangeRule,
+             repositoryValidator,
+             defaultDispatchThreadsPerConsumer,
+             defaultDispatchQueueSize);
+    }
+
+
+    /**
+     * Constructor to initialize a repository event manager with specific settings for the dispatch of
+     * instance events.
+     *
+     * @param eventManagerName    this is the name of the event manager to use for logging.
+     * @param exchangeRule        this is the rule that determines which events are processed.
+     * @param repositoryValidator validator class for checking open metadata repository objects and parameters.
+     * @param dispatchThreadsPerConsumer number of threads passing instance events to each consumer (zero means
+     *                                   pass the events on the thread that delivers them).
+     * @param dispatchQueueSize maximum number of instance events waiting for each dispatch thread.
+     */
+    public OMRSRepositoryEventManager(String eventManagerName,
+                                      OMRSRepositoryEventExchangeRule exchangeRule,
+                                      OMRSRepositoryContentValidator repositoryValidator,
+                                      int dispatchThreadsPerConsumer,
+                                      int dispatchQueueSize)
     {
         super();
 
@@ -110,6 +146,8 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         }
 
         this.repositoryValidator = repositoryValidator;
+        this.dispatchThreadsPerConsumer = dispatchThreadsPerConsumer;
+        this.dispatchQueueSize = Math.max(1, dispatchQueueSize);
 
         log.debug("New Event Manager");
     }
@@ -133,9 +171,63 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
      *
      * @param instanceEventConsumer the new consumer of instance events from other members of the cohort
      */
-    public void registerInstanceProcessor(OMRSInstanceEventProcessor instanceEventConsumer)
+    public synchronized void registerInstanceProcessor(OMRSInstanceEventProcessor instanceEventConsumer)
     {
         instanceEventConsumers.add(instanceEventConsumer);
+
+        if ((instanceEventConsumer != null) && (dispatchThreadsPerConsumer > 0))
+        {
+            instanceEventDispatchers.add(new OMRSInstanceEventDispatcher(eventManagerName,
+                                                                         instanceEventConsumer,
+                                                                         dispatchThreadsPerConsumer,
+                                                                         dispatchQueueSize));
+        }
+    }
+
+
+    /**
+     * Return the state of the dispatch queue for each of the instance event consumers.
+     *
+     * @return list of metrics (empty if the events are passed directly to the consumers)
+     */
+    public synchronized List<OMRSInstanceEventConsumerMetrics> getInstanceEventConsumerMetrics()
+    {
+        List<OMRSInstanceEventConsumerMetrics> consumerMetrics = new ArrayList<>();
+
+        for (OMRSInstanceEventDispatcher dispatcher : instanceEventDispatchers)
+        {
+            consumerMetrics.add(dispatcher.getMetrics());
+        }
+
+        return consumerMetrics;
+    }
+
+
+    /**
+     * Stop the dispatch of instance events.  The dispatch threads stop once they have passed the waiting events
+     * to the consumers.  Any events that arrive after this call are passed to the consumers directly.
+     */
+    public synchronized void shutdown()
+    {
+        final String actionDescription = "Shutdown OMRS Event Manager";
+
+        int waitingEvents = 0;
+
+        for (OMRSInstanceEventDispatcher dispatcher : instanceEventDispatchers)
+        {
+            waitingEvents = waitingEvents + dispatcher.getQueueDepth();
+            dispatcher.shutdown();
+        }
+
+        OMRSAuditCode auditCode = OMRSAuditCode.STOPPING_EVENT_MANAGER;
+
+        auditLog.logRecord(actionDescription,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(eventManagerName, Integer.toString(waitingEvents)),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
     }
 
 
@@ -257,7 +349,7 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
 
     /**
      * Providing the rule allows, send the instance event to all registered
-     * consumers.
+     * consumers.  The event is queued on each consumer's dispatcher unless dispatch threads are disabled.
      *
      * @param event formatted event to send
      */
@@ -266,14 +358,36 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         if (exchangeRule.processInstanceEvent(event.getTypeDefGUID(),
                                               event.getTypeDefName()))
         {
-            for (OMRSInstanceEventProcessor consumer : instanceEventConsumers)
+            if (dispatchThreadsPerConsumer > 0)
             {
-                consumer.sendInstanceEvent(eventManagerName, event);
+                for (OMRSInstanceEventDispatcher dispatcher : this.getInstanceEventDispatchers())
+                {
+                    dispatcher.dispatch(event);
+                }
+            }
+            else
+            {
+                for (OMRSInstanceEventProcessor consumer : instanceEventConsumers)
+                {
+                    consumer.sendInstanceEvent(eventManagerName, event);
+                }
             }
         }
     }
 
 
+    /**
+     * Return a copy of the list of dispatchers so that events can be queued without holding the lock on
+     * the event manager while waiting for space on a full queue.
+     *
+     * @return list of dispatchers
+     */
+    private synchronized List<OMRSInstanceEventDispatcher> getInstanceEventDispatchers()
+    {
+        return new ArrayList<>(instanceEventDispatchers);
+    }
+
+
     /**
      * Send the TypeDef event to the OMRS Topic connector (providing TypeDef Events are enabled).
      *
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Date;
 
@@ -1418,6 +1419,68 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of each of the requested entities.  The entities are returned in the order
+     * of the requested GUIDs.  GUIDs for entities that are not known, or are only stored as proxies, in
+     * the metadata collection are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities or null if none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntitiesByGUID(String       userId,
+                                                List<String> guids) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           UserNotAuthorizedException
+    {
+        final String  methodName         = "getEntitiesByGUID";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+            }
+        }
+
+        /*
+         * Perform operation
+         */
+
+        List<EntityDetail>   entities = realMetadataCollection.getEntitiesByGUID(userId, guids);
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                /*
+                 * Ensure the provenance of each entity is correctly set (see getEntityDetail).
+                 */
+                if ((entity != null) && (entity.getMetadataCollectionId() == null))
+                {
+                    entity.setMetadataCollectionId(metadataCollectionId);
+                    entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+                }
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1922,6 +1985,51 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the current version of each of the requested relationships.  The relationships are returned in
+     * the order of the requested GUIDs.  GUIDs for relationships that are not known in the metadata collection
+     * are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships or null if none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsByGUID(String       userId,
+                                                     List<String> guids) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                UserNotAuthorizedException
+    {
+        final String  methodName         = "getRelationshipsByGUID";
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+            }
+        }
+
+        /*
+         * Process operation
+         */
+
+        return realMetadataCollection.getRelationshipsByGUID(userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by hte matching criteria.   The results
      * can be broken into pages.
@@ -2467,6 +2575,134 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a number of new entities.  Each new entity is described by a template entity that supplies
+     * the type (only the type's guid is used), initial properties, initial classifications and initial status.
+     * All of the templates are validated before any of the entities are created.  The entities are then created
+     * one at a time and each is announced to the cohort as soon as it exists.  If one of the entities can not be
+     * created, the exception is returned and the entities before it remain in the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newEntities list of templates for the new entities.
+     * @return list of the new entities.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the entity's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> addEntities(String             userId,
+                                          List<EntityDetail> newEntities) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 TypeErrorException,
+                                                                                 PropertyErrorException,
+                                                                                 ClassificationErrorException,
+                                                                                 StatusNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String  methodName                    = "addEntities";
+        final String  entityGUIDParameterName       = "entityTypeGUID";
+        final String  propertiesParameterName       = "initialProperties";
+        final String  classificationsParameterName  = "initialClassifications";
+        final String  initialStatusParameterName    = "initialStatus";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (newEntities != null)
+        {
+            for (EntityDetail newEntity : newEntities)
+            {
+                String  entityTypeGUID = getTypeDefGUID(newEntity);
+
+                repositoryValidator.validateTypeGUID(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+                TypeDef  typeDef = repositoryHelper.getTypeDef(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+                repositoryValidator.validateTypeDefForInstance(repositoryName, entityGUIDParameterName, typeDef, methodName);
+                repositoryValidator.validateClassificationList(repositoryName,
+                                                               classificationsParameterName,
+                                                               getClassifications(newEntity),
+                                                               typeDef.getName(),
+                                                               methodName);
+
+                repositoryValidator.validatePropertiesForType(repositoryName,
+                                                              propertiesParameterName,
+                                                              typeDef,
+                                                              getProperties(newEntity),
+                                                              methodName);
+
+                repositoryValidator.validateInstanceStatus(repositoryName,
+                                                           initialStatusParameterName,
+                                                           getStatus(newEntity),
+                                                           typeDef,
+                                                           methodName);
+            }
+        }
+
+        /*
+         * Validation complete, ok to create new instances.  They are created through the real repository's
+         * addEntity rather than its addEntities so that every entity that has been created is sent out,
+         * even when a later one fails.
+         */
+
+        List<EntityDetail>   entities = new ArrayList<>();
+
+        if (newEntities != null)
+        {
+            for (EntityDetail newEntity : newEntities)
+            {
+                EntityDetail   entity = realMetadataCollection.addEntity(userId,
+                                                                         getTypeDefGUID(newEntity),
+                                                                         getProperties(newEntity),
+                                                                         getClassifications(newEntity),
+                                                                         getStatus(newEntity));
+
+                if (entity != null)
+                {
+                    /*
+                     * Ensure the provenance of each entity is correctly set (see addEntity).
+                     */
+                    if (entity.getMetadataCollectionId() == null)
+                    {
+                        entity.setMetadataCollectionId(metadataCollectionId);
+                        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+                    }
+
+                    /*
+                     * OK to send out
+                     */
+                    if (outboundRepositoryEventProcessor != null)
+                    {
+                        outboundRepositoryEventProcessor.processNewEntityEvent(repositoryName,
+                                                                               metadataCollectionId,
+                                                                               localServerName,
+                                                                               localServerType,
+                                                                               localOrganizationName,
+                                                                               entity);
+                    }
+                }
+
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -3350,6 +3586,129 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Create a number of new relationships.  Each new relationship is described by a template relationship that
+     * supplies the type (only the type's guid is used), initial properties, the guids of the two entity proxies
+     * and initial status.  All of the templates are validated before any of the relationships are created.  The
+     * relationships are then created one at a time and each is announced to the cohort as soon as it exists.  If one
+     * of the relationships can not be created, the exception is returned and the relationships before it remain in
+     * the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newRelationships list of templates for the new relationships.
+     * @return list of the new relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the relationship's type.
+     * @throws EntityNotKnownException one of the requested entities is not known in the metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> addRelationships(String             userId,
+                                               List<Relationship> newRelationships) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           TypeErrorException,
+                                                                                           PropertyErrorException,
+                                                                                           EntityNotKnownException,
+                                                                                           StatusNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String  methodName = "addRelationships";
+        final String  guidParameterName = "relationshipTypeGUID";
+        final String  propertiesParameterName       = "initialProperties";
+        final String  initialStatusParameterName    = "initialStatus";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if (newRelationships != null)
+        {
+            for (Relationship newRelationship : newRelationships)
+            {
+                String  relationshipTypeGUID = getTypeDefGUID(newRelationship);
+
+                repositoryValidator.validateTypeGUID(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
+
+                TypeDef  typeDef = repositoryHelper.getTypeDef(repositoryName, guidParameterName, relationshipTypeGUID, methodName);
+
+                repositoryValidator.validateTypeDefForInstance(repositoryName, guidParameterName, typeDef, methodName);
+
+                repositoryValidator.validatePropertiesForType(repositoryName,
+                                                              propertiesParameterName,
+                                                              typeDef,
+                                                              getProperties(newRelationship),
+                                                              methodName);
+
+                repositoryValidator.validateInstanceStatus(repositoryName,
+                                                           initialStatusParameterName,
+                                                           getStatus(newRelationship),
+                                                           typeDef,
+                                                           methodName);
+            }
+        }
+
+        /*
+         * Validation complete ok to create new instances.  They are created through the real repository's
+         * addRelationship rather than its addRelationships so that every relationship that has been created
+         * is sent out, even when a later one fails.
+         */
+
+        List<Relationship>   relationships = new ArrayList<>();
+
+        if (newRelationships != null)
+        {
+            for (Relationship newRelationship : newRelationships)
+            {
+                Relationship   relationship = realMetadataCollection.addRelationship(userId,
+                                                                                     getTypeDefGUID(newRelationship),
+                                                                                     getProperties(newRelationship),
+                                                                                     getEntityOneGUID(newRelationship),
+                                                                                     getEntityTwoGUID(newRelationship),
+                                                                                     getStatus(newRelationship));
+
+                if (relationship != null)
+                {
+                    /*
+                     * Ensure the provenance of each relationship is correctly set (see addRelationship).
+                     */
+                    if (relationship.getMetadataCollectionId() == null)
+                    {
+                        relationship.setMetadataCollectionId(metadataCollectionId);
+                        relationship.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+                    }
+
+                    /*
+                     * OK to send out
+                     */
+                    if (outboundRepositoryEventProcessor != null)
+                    {
+                        outboundRepositoryEventProcessor.processNewRelationshipEvent(repositoryName,
+                                                                                     metadataCollectionId,
+                                                                                     localServerName,
+                                                                                     localServerType,
+                                                                                     localOrganizationName,
+                                                                                     relationship);
+                    }
+                }
+
+                relationships.add(relationship);
+            }
+        }
+
+        return relationships;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
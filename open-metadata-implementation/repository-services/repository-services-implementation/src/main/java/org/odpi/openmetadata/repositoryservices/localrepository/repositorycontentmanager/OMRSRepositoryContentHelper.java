@@ -116,6 +116,26 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
     }
 
 
+    /**
+     * Return the unique identifiers of the TypeDef identified by the guid supplied by the caller and all of its
+     * sub types.  This is used in the connectors when searching for instances of a type so that instances of
+     * its sub types are returned too.
+     *
+     * @param sourceName  source of the request (used for logging)
+     * @param typeDefGUID unique identifier for the TypeDef
+     * @return unmodifiable set of TypeDef identifiers - just the supplied identifier if the TypeDef is not known.
+     */
+    public Set<String> getTypeAndSubTypeGUIDs(String sourceName,
+                                              String typeDefGUID)
+    {
+        final String methodName = "getTypeAndSubTypeGUIDs";
+
+        validateRepositoryContentManager(methodName);
+
+        return repositoryContentManager.getTypeAndSubTypeGUIDs(sourceName, typeDefGUID);
+    }
+
+
     /**
      * Return the AttributeTypeDef identified by the name supplied by the caller.  This is used in the connectors when
      * validating the actual types of the repository with the known open metadata types.  It is looking specifically
@@ -1283,14 +1303,7 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
 
             if (newProperties != null)
             {
-                Iterator<String> newPropertyNames = newProperties.getPropertyNames();
-
-                while (newPropertyNames.hasNext())
-                {
-                    String newPropertyName = newPropertyNames.next();
-
-                    mergedProperties.setProperty(newPropertyName, newProperties.getPropertyValue(newPropertyName));
-                }
+                newProperties.forEachProperty(mergedProperties::setProperty);
             }
         }
 
@@ -1700,7 +1713,7 @@ public class OMRSRepositoryContentHelper implements OMRSRepositoryHelper
                         if (wrappedMapValues != null)
                         {
                             Map<String, InstancePropertyValue> instanceMapValues =
-                                    wrappedMapValues.getInstanceProperties();
+                                    wrappedMapValues.getInstancePropertiesView();
                             Map<String, Object>                resultingMap = new HashMap<>();
 
                             for (String mapPropertyName : instanceMapValues.keySet())
@@ -58,6 +58,14 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
 
+    /*
+     * The type hierarchy of the known TypeDefs is worked out once and cached.  The cache is discarded whenever the
+     * known TypeDefs change and rebuilt on next use.  The cache is built and discarded under the same lock so a
+     * cache is never built from a set of TypeDefs that is changing.
+     */
+    private final Object                    typeDefClosureLock             = new Object();
+    private volatile OMRSTypeDefClosureCache typeDefClosureCache           = null;
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -110,6 +118,108 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     }
 
 
+    /**
+     * Discard the cached type hierarchy because the known TypeDefs have changed.
+     */
+    private void knownTypeDefsChanged()
+    {
+        synchronized (typeDefClosureLock)
+        {
+            typeDefClosureCache = null;
+        }
+    }
+
+
+    /**
+     * Return the cached type hierarchy of the known TypeDefs, building it if the known TypeDefs have changed
+     * since it was last built.
+     *
+     * @return type hierarchy cache
+     */
+    OMRSTypeDefClosureCache getTypeDefClosureCache()
+    {
+        OMRSTypeDefClosureCache closureCache = typeDefClosureCache;
+
+        if (closureCache == null)
+        {
+            synchronized (typeDefClosureLock)
+            {
+                closureCache = typeDefClosureCache;
+
+                if (closureCache == null)
+                {
+                    closureCache = new OMRSTypeDefClosureCache(new ArrayList<>(knownTypeDefNames.values()));
+                    typeDefClosureCache = closureCache;
+                }
+            }
+        }
+
+        return closureCache;
+    }
+
+
+    /**
+     * Return the cached type hierarchy of the named TypeDef.
+     *
+     * @param typeName name of the TypeDef
+     * @return closure or null if the type is not known or its hierarchy is not well formed
+     */
+    OMRSTypeDefClosureCache.TypeDefClosure getTypeDefClosure(String typeName)
+    {
+        OMRSTypeDefClosureCache.TypeDefClosure closure = getTypeDefClosureCache().getClosureByName(typeName);
+
+        if ((closure != null) && (closure.isValid()))
+        {
+            return closure;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the cached type hierarchy of the identified TypeDef.
+     *
+     * @param typeGUID unique identifier of the TypeDef
+     * @return closure or null if the type is not known or its hierarchy is not well formed
+     */
+    OMRSTypeDefClosureCache.TypeDefClosure getTypeDefClosureByGUID(String typeGUID)
+    {
+        OMRSTypeDefClosureCache.TypeDefClosure closure = getTypeDefClosureCache().getClosureByGUID(typeGUID);
+
+        if ((closure != null) && (closure.isValid()))
+        {
+            return closure;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the cached type hierarchy of the supplied TypeDef.
+     *
+     * @param typeDef TypeDef
+     * @return closure or null if the TypeDef is not the known version of the type or its hierarchy is not well formed
+     */
+    private OMRSTypeDefClosureCache.TypeDefClosure getTypeDefClosure(TypeDef typeDef)
+    {
+        if (typeDef == null)
+        {
+            return null;
+        }
+
+        OMRSTypeDefClosureCache.TypeDefClosure closure = getTypeDefClosureCache().getClosureByGUID(typeDef.getGUID());
+
+        if ((closure != null) && (closure.isValid()) && (closure.describes(typeDef)))
+        {
+            return closure;
+        }
+
+        return null;
+    }
+
+
     /*
      * ========================
      * OMRSTypeDefManager
@@ -141,6 +251,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
         {
             knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
             knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+            knownTypeDefsChanged();
 
             if (isLocallySupported)
             {
@@ -216,6 +327,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
         {
             knownTypeDefGUIDs.put(typeDef.getGUID(), typeDef);
             knownTypeDefNames.put(typeDef.getName(), typeDef);
+            knownTypeDefsChanged();
 
             if (localRepositoryConnector != null)
             {
@@ -246,6 +358,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            knownTypeDefsChanged();
 
             if (localRepositoryConnector != null)
             {
@@ -453,6 +566,26 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                 instanceType.setTypeDefDescription(typeDef.getDescription());
                 instanceType.setTypeDefDescriptionGUID(typeDef.getDescriptionGUID());
 
+                /*
+                 * The super types and property names are normally available from the cached type hierarchy.
+                 */
+                OMRSTypeDefClosureCache.TypeDefClosure closure = this.getTypeDefClosure(typeName);
+
+                if (closure != null)
+                {
+                    if (! closure.getSuperTypes().isEmpty())
+                    {
+                        instanceType.setTypeDefSuperTypes(new ArrayList<>(closure.getSuperTypes()));
+                    }
+
+                    if (! closure.getPropertyNames().isEmpty())
+                    {
+                        instanceType.setValidInstanceProperties(new ArrayList<>(closure.getPropertyNames()));
+                    }
+
+                    return instanceType;
+                }
+
                 /*
                  * Extract the properties for this TypeDef.  These will be augmented with property names
                  * from the super type(s).
@@ -652,6 +785,17 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
             if ((isValidTypeCategory(sourceName, TypeDefCategory.CLASSIFICATION_DEF, classificationTypeName, methodName)) &&
                 (isValidTypeCategory(sourceName, TypeDefCategory.ENTITY_DEF, entityTypeName, methodName)))
             {
+                OMRSTypeDefClosureCache closureCache = this.getTypeDefClosureCache();
+
+                if (closureCache.getClosureByName(entityTypeName) != null)
+                {
+                    /*
+                     * The cached type hierarchy records which classifications may be attached to each entity type,
+                     * including those allowed through the entity type's super types.
+                     */
+                    return closureCache.isValidClassificationForEntity(classificationTypeName, entityTypeName);
+                }
+
                 ClassificationDef  classificationTypeDef = (ClassificationDef) knownTypeDefNames.get(classificationTypeName);
 
                 if (classificationTypeDef != null)
@@ -1146,6 +1290,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
 
     /**
      * Return the names of all of the properties in the supplied TypeDef and all of its super-types.
+     * For known TypeDefs, the list comes from the cached type hierarchy and may not be changed.
      *
      * @param sourceName name of caller.
      * @param typeDef TypeDef to query.
@@ -1163,6 +1308,13 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
             throwContentManagerLogicError(sourceName, methodName, thisMethodName);
         }
 
+        OMRSTypeDefClosureCache.TypeDefClosure closure = this.getTypeDefClosure(typeDef);
+
+        if (closure != null)
+        {
+            return closure.getAllProperties();
+        }
+
         List<TypeDefAttribute>    propertiesDefinition = typeDef.getPropertiesDefinition();
 
         /*
@@ -1196,6 +1348,41 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     }
 
 
+    /**
+     * Return the definitions of all of the properties in the supplied TypeDef and all of its super-types
+     * indexed by property name.  Where a property name is defined more than once, the definition from the
+     * highest super type is returned.
+     *
+     * @param sourceName name of caller.
+     * @param typeDef TypeDef to query.
+     * @param methodName calling method.
+     * @return map of property name to property definition - may not be changed.
+     */
+    public Map<String, TypeDefAttribute> getAllPropertiesByNameForTypeDef(String  sourceName,
+                                                                           TypeDef typeDef,
+                                                                           String  methodName)
+    {
+        OMRSTypeDefClosureCache.TypeDefClosure closure = this.getTypeDefClosure(typeDef);
+
+        if (closure != null)
+        {
+            return closure.getAllPropertiesByName();
+        }
+
+        Map<String, TypeDefAttribute> propertiesByName = new HashMap<>();
+
+        for (TypeDefAttribute propertyDefinition : this.getAllPropertiesForTypeDef(sourceName, typeDef, methodName))
+        {
+            if ((propertyDefinition != null) && (propertyDefinition.getAttributeName() != null))
+            {
+                propertiesByName.put(propertyDefinition.getAttributeName(), propertyDefinition);
+            }
+        }
+
+        return Collections.unmodifiableMap(propertiesByName);
+    }
+
+
     /**
      * Return a boolean flag indicating whether the list of TypeDefs passed are compatible with the
      * all known typedefs.
@@ -1219,6 +1406,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
                     knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    knownTypeDefsChanged();
                 }
             }
             else
@@ -1417,6 +1605,34 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     }
 
 
+    /**
+     * Return the unique identifiers of the identified TypeDef and all of its sub types.  This is used when
+     * searching for instances of a type to also return instances of its sub types.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeGUID unique identifier of the type
+     * @return unmodifiable set of type identifiers - just the supplied type if it is not known
+     */
+    public Set<String> getTypeAndSubTypeGUIDs(String  sourceName, String   typeGUID)
+    {
+        if (typeGUID == null)
+        {
+            return Collections.emptySet();
+        }
+
+        OMRSTypeDefClosureCache.TypeDefClosure closure = getTypeDefClosureByGUID(typeGUID);
+
+        if (closure == null)
+        {
+            log.debug("No type hierarchy for TypeDef " + typeGUID + " from " + sourceName);
+
+            return Collections.singleton(typeGUID);
+        }
+
+        return closure.getTypeAndDescendantGUIDs();
+    }
+
+
     /**
      * Return boolean indicating whether the TypeDef is in use in the repository.
      *
@@ -8,12 +8,14 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSSearchCriteriaMatcher;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * OMRSRepositoryContentValidator provides methods to validate TypeDefs and Instances returned from
@@ -1813,6 +1815,49 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     }
 
 
+    /**
+     * Validate that a search criteria is a valid regular expression and return the matcher used to test
+     * property values against it.  The matcher should be retrieved once for a search and used for each of the
+     * instances that are examined.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param parameterName name of the parameter that passed the search criteria.
+     * @param searchCriteria regular expression for testing the property values
+     * @param methodName method receiving the call
+     * @return matcher for the search criteria
+     * @throws InvalidParameterException the search criteria is null or not a valid regular expression
+     */
+    public OMRSSearchCriteriaMatcher getSearchCriteriaMatcher(String sourceName,
+                                                              String parameterName,
+                                                              String searchCriteria,
+                                                              String methodName) throws InvalidParameterException
+    {
+        this.validateSearchCriteria(sourceName, parameterName, searchCriteria, methodName);
+
+        try
+        {
+            return OMRSSearchCriteriaMatcher.getMatcher(searchCriteria);
+        }
+        catch (PatternSyntaxException   error)
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.INVALID_SEARCH_CRITERIA;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(searchCriteria,
+                                                                            parameterName,
+                                                                            methodName,
+                                                                            sourceName,
+                                                                            error.getDescription());
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+    }
+
+
     /**
      * Validate that the properties for a metadata instance match its TypeDef.
      *
@@ -1855,9 +1900,9 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             typeDefCategoryName = typeDef.getCategory().getName();
         }
 
-        List<TypeDefAttribute> typeDefAttributes = repositoryContentManager.getAllPropertiesForTypeDef(sourceName,
-                                                                                                       typeDef,
-                                                                                                       methodName);
+        Map<String, TypeDefAttribute> typeDefAttributes = repositoryContentManager.getAllPropertiesByNameForTypeDef(sourceName,
+                                                                                                                    typeDef,
+                                                                                                                    methodName);
 
         if (typeDefAttributes == null)
         {
@@ -1905,30 +1950,21 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             }
 
             AttributeTypeDefCategory  propertyDefinitionType = null;
-            boolean                   recognizedProperty = false;
+            TypeDefAttribute          typeDefAttribute       = typeDefAttributes.get(propertyName);
 
-            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            if (typeDefAttribute != null)
             {
-                if (typeDefAttribute != null)
+                AttributeTypeDef  attributeTypeDef = typeDefAttribute.getAttributeType();
+                if (attributeTypeDef == null)
                 {
-                    if (propertyName.equals(typeDefAttribute.getAttributeName()))
-                    {
-                        recognizedProperty = true;
-
-                        AttributeTypeDef  attributeTypeDef = typeDefAttribute.getAttributeType();
-                        if (attributeTypeDef == null)
-                        {
-                            propertyDefinitionType = AttributeTypeDefCategory.PRIMITIVE;
-                        }
-                        else
-                        {
-                            propertyDefinitionType = attributeTypeDef.getCategory();
-                        }
-                    }
+                    propertyDefinitionType = AttributeTypeDefCategory.PRIMITIVE;
+                }
+                else
+                {
+                    propertyDefinitionType = attributeTypeDef.getCategory();
                 }
             }
-
-            if (! recognizedProperty)
+            else
             {
                 OMRSErrorCode errorCode    = OMRSErrorCode.BAD_PROPERTY_FOR_TYPE;
                 String        errorMessage = errorCode.getErrorMessageId()
@@ -2160,6 +2196,73 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     }
 
 
+    /**
+     * Verify whether the instance passed to this method is of the type indicated by the type guid or one of
+     * its sub types.  A null type guid matches all instances (ie result is true).  A null instance returns false.
+     *
+     * @param instanceTypeGUID unique identifier of the type (or null).
+     * @param instance instance to test.
+     * @return boolean
+     */
+    public boolean verifyInstanceTypeOrSubType(String           instanceTypeGUID,
+                                               InstanceHeader   instance)
+    {
+        if (instance == null)
+        {
+            return false;
+        }
+
+        if (instanceTypeGUID == null)
+        {
+            /*
+             * A null instance type matches all instances
+             */
+            return true;
+        }
+
+        InstanceType instanceType = instance.getType();
+
+        if (instanceType == null)
+        {
+            return false;
+        }
+
+        if (instanceTypeGUID.equals(instanceType.getTypeDefGUID()))
+        {
+            return true;
+        }
+
+        /*
+         * The cached type hierarchy is used if it describes the same version of the instance's type.
+         */
+        if ((repositoryContentManager != null) && (instanceType.getTypeDefGUID() != null))
+        {
+            OMRSTypeDefClosureCache.TypeDefClosure closure =
+                    repositoryContentManager.getTypeDefClosureByGUID(instanceType.getTypeDefGUID());
+
+            if ((closure != null) && (closure.getTypeDef().getVersion() == instanceType.getTypeDefVersion()))
+            {
+                return closure.isTypeOfGUID(instanceTypeGUID);
+            }
+        }
+
+        List<TypeDefLink> superTypes = instanceType.getTypeDefSuperTypes();
+
+        if (superTypes != null)
+        {
+            for (TypeDefLink superType : superTypes)
+            {
+                if ((superType != null) && (instanceTypeGUID.equals(superType.getGUID())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
     /**
      * Verify that an entity has been successfully retrieved from the repository and has valid contents.
      *
@@ -3019,23 +3122,12 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                 if (matchPropertyName != null)
                 {
-                    InstancePropertyValue matchPropertyValue = matchProperties.getPropertyValue(matchPropertyName);
-                    Iterator<String>      instancePropertyNames  = instanceProperties.getPropertyNames();
+                    InstancePropertyValue matchPropertyValue    = matchProperties.getPropertyValue(matchPropertyName);
+                    InstancePropertyValue instancePropertyValue = instanceProperties.getPropertyValue(matchPropertyName);
 
-                    while (instancePropertyNames.hasNext())
+                    if ((instancePropertyValue != null) && (instancePropertyValue.equals(matchPropertyValue)))
                     {
-                        String instancePropertyName = instancePropertyNames.next();
-
-                        if (instancePropertyName != null)
-                        {
-                            InstancePropertyValue instancePropertyValue = instanceProperties.getPropertyValue(instancePropertyName);
-
-                            if ((instancePropertyName.equals(matchPropertyName)) &&
-                                (instancePropertyValue.equals(matchPropertyValue)))
-                            {
-                                matchingProperties++;
-                            }
-                        }
+                        matchingProperties++;
                     }
                 }
             }
@@ -3046,19 +3138,19 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
 
     /**
-     * Return true if the expected value is in the property map.
+     * Return true if the expected value is in the properties.
      *
-     * @param propertyMap map with the properties
+     * @param properties properties to test
      * @param propertyName name of the property to test
      * @param expectedValue expected value
      * @return boolean result
      */
-    private  boolean  checkStringPropertyValue(Map<String, InstancePropertyValue>   propertyMap,
+    private  boolean  checkStringPropertyValue(InstanceProperties                   properties,
                                                String                               propertyName,
                                                String                               expectedValue)
     {
         boolean                 result = false;
-        InstancePropertyValue   instancePropertyValue = propertyMap.get(propertyName);
+        InstancePropertyValue   instancePropertyValue = properties.getPropertyValue(propertyName);
 
         if (instancePropertyValue != null)
         {
@@ -3090,19 +3182,19 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
 
     /**
-     * Return true if the expected value is in the property map.
+     * Return true if the expected value is in the properties.
      *
-     * @param propertyMap map with the properties
+     * @param properties properties to test
      * @param propertyName name of the property to test
      * @param expectedValue expected value
      * @return boolean result
      */
-    private  boolean  checkDatePropertyValue(Map<String, InstancePropertyValue>   propertyMap,
+    private  boolean  checkDatePropertyValue(InstanceProperties                   properties,
                                              String                               propertyName,
                                              Date                                 expectedValue)
     {
         boolean                 result = false;
-        InstancePropertyValue   instancePropertyValue = propertyMap.get(propertyName);
+        InstancePropertyValue   instancePropertyValue = properties.getPropertyValue(propertyName);
 
         if (instancePropertyValue != null)
         {
@@ -3158,35 +3250,46 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if ((matchProperties != null) && (instanceHeader != null))
         {
-            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getInstanceProperties();
-
-            if (propertyMap != null)
+            if (matchProperties.getPropertyCount() > 0)
             {
-                if (this.checkStringPropertyValue(propertyMap, metadataCollectionIdPropertyName, metadataCollectionId))
-                {
-                    matchingProperties ++;
-                }
-                if (this.checkStringPropertyValue(propertyMap, typeNamePropertyName, instanceHeader.getType().getTypeDefName()))
+                if (this.checkStringPropertyValue(matchProperties, metadataCollectionIdPropertyName, metadataCollectionId))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, typeGUIDPropertyName, instanceHeader.getType().getTypeDefGUID()))
+
+                /*
+                 * The header getters return copies of the type and dates so they are only called if the
+                 * match properties refer to them.
+                 */
+                if ((matchProperties.getPropertyValue(typeNamePropertyName) != null) ||
+                    (matchProperties.getPropertyValue(typeGUIDPropertyName) != null))
                 {
-                    matchingProperties ++;
+                    InstanceType instanceType = instanceHeader.getType();
+
+                    if (this.checkStringPropertyValue(matchProperties, typeNamePropertyName, instanceType.getTypeDefName()))
+                    {
+                        matchingProperties ++;
+                    }
+                    if (this.checkStringPropertyValue(matchProperties, typeGUIDPropertyName, instanceType.getTypeDefGUID()))
+                    {
+                        matchingProperties ++;
+                    }
                 }
-                if (this.checkStringPropertyValue(propertyMap, createdByPropertyName, instanceHeader.getCreatedBy()))
+                if (this.checkStringPropertyValue(matchProperties, createdByPropertyName, instanceHeader.getCreatedBy()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkStringPropertyValue(propertyMap, updatedByPropertyName, instanceHeader.getUpdatedBy()))
+                if (this.checkStringPropertyValue(matchProperties, updatedByPropertyName, instanceHeader.getUpdatedBy()))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkDatePropertyValue(propertyMap, createTimePropertyName, instanceHeader.getCreateTime()))
+                if ((matchProperties.getPropertyValue(createTimePropertyName) != null) &&
+                    (this.checkDatePropertyValue(matchProperties, createTimePropertyName, instanceHeader.getCreateTime())))
                 {
                     matchingProperties ++;
                 }
-                if (this.checkDatePropertyValue(propertyMap, updateTimePropertyName, instanceHeader.getUpdateTime()))
+                if ((matchProperties.getPropertyValue(updateTimePropertyName) != null) &&
+                    (this.checkDatePropertyValue(matchProperties, updateTimePropertyName, instanceHeader.getUpdateTime())))
                 {
                     matchingProperties ++;
                 }
@@ -3371,6 +3474,41 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             return false;
         }
 
+        OMRSSearchCriteriaMatcher  searchCriteriaMatcher;
+
+        try
+        {
+            searchCriteriaMatcher = OMRSSearchCriteriaMatcher.getMatcher(searchCriteria);
+        }
+        catch (PatternSyntaxException   error)
+        {
+            throw getBadPropertyException(sourceName, methodName, error);
+        }
+
+        return this.verifyInstancePropertiesMatchSearchCriteria(sourceName, properties, searchCriteriaMatcher, methodName);
+    }
+
+
+    /**
+     * Search for property values matching the search criteria of a matcher retrieved from getSearchCriteriaMatcher.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param properties list of properties associated with the in instance
+     * @param searchCriteriaMatcher compiled search criteria for testing the property values
+     * @param methodName name of the method requiring the search.
+     * @return boolean indicating whether the search criteria is located in any of the string parameter values.
+     * @throws RepositoryErrorException the properties are not properly set up in the instance
+     */
+    public boolean verifyInstancePropertiesMatchSearchCriteria(String                     sourceName,
+                                                               InstanceProperties         properties,
+                                                               OMRSSearchCriteriaMatcher  searchCriteriaMatcher,
+                                                               String                     methodName) throws RepositoryErrorException
+    {
+        if (properties == null)
+        {
+            return false;
+        }
+
         Iterator<String>  propertyNames = properties.getPropertyNames();
 
         try
@@ -3389,7 +3527,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                             if (stringProperty != null)
                             {
-                                if (stringProperty.matches(searchCriteria))
+                                if (searchCriteriaMatcher.matches(stringProperty))
                                 {
                                     return true;
                                 }
@@ -3403,7 +3541,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                         String  enumValue = enumPropertyValue.getSymbolicName();
                         if (enumValue != null)
                         {
-                            if (enumValue.matches(searchCriteria))
+                            if (searchCriteriaMatcher.matches(enumValue))
                             {
                                 return true;
                             }
@@ -3415,7 +3553,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         structPropertyValue.getAttributes(),
-                                                                        searchCriteria,
+                                                                        searchCriteriaMatcher,
                                                                         methodName))
                         {
                             return true;
@@ -3427,7 +3565,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         arrayPropertyValue.getArrayValues(),
-                                                                        searchCriteria,
+                                                                        searchCriteriaMatcher,
                                                                         methodName))
                         {
                             return true;
@@ -3439,7 +3577,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                         if (verifyInstancePropertiesMatchSearchCriteria(sourceName,
                                                                         mapPropertyValue.getMapValues(),
-                                                                        searchCriteria,
+                                                                        searchCriteriaMatcher,
                                                                         methodName))
                         {
                             return true;
@@ -3453,23 +3591,39 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             /*
              * Probably a class cast error which should never occur.
              */
-            OMRSErrorCode errorCode = OMRSErrorCode.BAD_PROPERTY_FOR_INSTANCE;
-            String errorMessage = errorCode.getErrorMessageId()
-                                + errorCode.getFormattedErrorMessage(sourceName, methodName);
-
-            throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
-                                               this.getClass().getName(),
-                                               methodName,
-                                               errorMessage,
-                                               errorCode.getSystemAction(),
-                                               errorCode.getUserAction(),
-                                               error);
+            throw getBadPropertyException(sourceName, methodName, error);
         }
 
         return false;
     }
 
 
+    /**
+     * Return the exception used to report that the properties of an instance can not be searched.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param methodName name of the method requiring the search.
+     * @param error cause of the failure
+     * @return exception to throw
+     */
+    private RepositoryErrorException getBadPropertyException(String     sourceName,
+                                                             String     methodName,
+                                                             Throwable  error)
+    {
+        OMRSErrorCode errorCode = OMRSErrorCode.BAD_PROPERTY_FOR_INSTANCE;
+        String errorMessage = errorCode.getErrorMessageId()
+                            + errorCode.getFormattedErrorMessage(sourceName, methodName);
+
+        return new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            errorMessage,
+                                            errorCode.getSystemAction(),
+                                            errorCode.getUserAction(),
+                                            error);
+    }
+
+
     /*
      * ======================
      * Private Methods
@@ -3565,6 +3719,22 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
                 return true;
             }
 
+            /*
+             * The cached type hierarchy is used if it describes the same version of the instance's type.
+             */
+            if (repositoryContentManager != null)
+            {
+                OMRSTypeDefClosureCache.TypeDefClosure closure = repositoryContentManager.getTypeDefClosure(entityTypeName);
+
+                if ((closure != null) &&
+                    (instanceType.getTypeDefGUID() != null) &&
+                    (instanceType.getTypeDefGUID().equals(closure.getTypeDef().getGUID())) &&
+                    (closure.getTypeDef().getVersion() == instanceType.getTypeDefVersion()))
+                {
+                    return closure.isTypeOf(typeName);
+                }
+            }
+
             List<TypeDefLink> superTypes = instanceType.getTypeDefSuperTypes();
 
             if (superTypes != null)
@@ -0,0 +1,463 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OMRSTypeDefClosureCache holds the type hierarchy of a set of TypeDefs, worked out once so that questions about
+ * super types, sub types, properties and valid classifications are answered by a lookup rather than by walking
+ * the super type links.  The cache is immutable.  The OMRSRepositoryContentManager replaces it as a whole when the
+ * TypeDefs it knows about change.
+ */
+class OMRSTypeDefClosureCache
+{
+    private Map<String, TypeDefClosure>  closuresByGUID                = new HashMap<>();
+    private Map<String, TypeDefClosure>  closuresByName                = new HashMap<>();
+    private Set<String>                  unrestrictedClassifications   = new HashSet<>();
+
+
+    /**
+     * TypeDefClosure holds the type hierarchy information for a single TypeDef.
+     */
+    static class TypeDefClosure
+    {
+        private TypeDef                        typeDef;
+        private boolean                        valid                    = true;
+        private List<TypeDefLink>              superTypes               = new ArrayList<>();
+        private Set<String>                    ancestorGUIDs            = new HashSet<>();
+        private Set<String>                    ancestorNames            = new HashSet<>();
+        private Set<String>                    descendantGUIDs          = new HashSet<>();
+        private Set<String>                    descendantNames          = new HashSet<>();
+        private Set<String>                    typeAndDescendantGUIDs   = new HashSet<>();
+        private List<String>                   propertyNames            = new ArrayList<>();
+        private List<TypeDefAttribute>         allProperties            = new ArrayList<>();
+        private Map<String, TypeDefAttribute>  allPropertiesByName      = new LinkedHashMap<>();
+        private Set<String>                    validClassificationNames = new HashSet<>();
+
+
+        /**
+         * Constructor.
+         *
+         * @param typeDef TypeDef described by this closure
+         */
+        private TypeDefClosure(TypeDef typeDef)
+        {
+            this.typeDef = typeDef;
+        }
+
+
+        /**
+         * Return the TypeDef described by this closure.
+         *
+         * @return TypeDef
+         */
+        TypeDef getTypeDef()
+        {
+            return typeDef;
+        }
+
+
+        /**
+         * Return whether the TypeDef's super types are all known and its property definitions are well formed.
+         * Invalid closures should not be used since the errors need to be reported by walking the TypeDefs.
+         *
+         * @return boolean
+         */
+        boolean isValid()
+        {
+            return valid;
+        }
+
+
+        /**
+         * Return whether this closure describes the supplied TypeDef.
+         *
+         * @param typeDef TypeDef to test
+         * @return boolean
+         */
+        boolean describes(TypeDef typeDef)
+        {
+            return (typeDef != null)
+                && (this.typeDef.getGUID() != null)
+                && (this.typeDef.getGUID().equals(typeDef.getGUID()))
+                && (this.typeDef.getVersion() == typeDef.getVersion());
+        }
+
+
+        /**
+         * Return the links to the super types, starting with the immediate super type.
+         *
+         * @return unmodifiable list
+         */
+        List<TypeDefLink> getSuperTypes()
+        {
+            return superTypes;
+        }
+
+
+        /**
+         * Return the unique identifiers of the sub types of this TypeDef.  This excludes the TypeDef itself.
+         *
+         * @return unmodifiable set
+         */
+        Set<String> getDescendantGUIDs()
+        {
+            return descendantGUIDs;
+        }
+
+
+        /**
+         * Return the unique identifiers of this TypeDef and all of its sub types.
+         *
+         * @return unmodifiable set
+         */
+        Set<String> getTypeAndDescendantGUIDs()
+        {
+            return typeAndDescendantGUIDs;
+        }
+
+
+        /**
+         * Return the names of the sub types of this TypeDef.  This excludes the TypeDef itself.
+         *
+         * @return unmodifiable set
+         */
+        Set<String> getDescendantNames()
+        {
+            return descendantNames;
+        }
+
+
+        /**
+         * Return the names of the properties of this TypeDef and its super types, starting with the properties
+         * of the top-level super type.
+         *
+         * @return unmodifiable list
+         */
+        List<String> getPropertyNames()
+        {
+            return propertyNames;
+        }
+
+
+        /**
+         * Return the property definitions of this TypeDef and its super types, starting with the TypeDef's own
+         * properties.
+         *
+         * @return unmodifiable list
+         */
+        List<TypeDefAttribute> getAllProperties()
+        {
+            return allProperties;
+        }
+
+
+        /**
+         * Return the property definitions of this TypeDef and its super types indexed by property name.
+         *
+         * @return unmodifiable map
+         */
+        Map<String, TypeDefAttribute> getAllPropertiesByName()
+        {
+            return allPropertiesByName;
+        }
+
+
+        /**
+         * Return whether this TypeDef is the named type or one of its sub types.
+         *
+         * @param typeName name of the type to test
+         * @return boolean
+         */
+        boolean isTypeOf(String typeName)
+        {
+            return (typeName != null) && ((typeName.equals(typeDef.getName())) || (ancestorNames.contains(typeName)));
+        }
+
+
+        /**
+         * Return whether this TypeDef is the identified type or one of its sub types.
+         *
+         * @param typeGUID unique identifier of the type to test
+         * @return boolean
+         */
+        boolean isTypeOfGUID(String typeGUID)
+        {
+            return (typeGUID != null) && ((typeGUID.equals(typeDef.getGUID())) || (ancestorGUIDs.contains(typeGUID)));
+        }
+    }
+
+
+    /**
+     * Build the closures for the supplied TypeDefs.
+     *
+     * @param typeDefs TypeDefs to build the closures for
+     */
+    OMRSTypeDefClosureCache(Collection<TypeDef> typeDefs)
+    {
+        Map<String, TypeDef> typeDefsByGUID = new HashMap<>();
+        Map<String, TypeDef> typeDefsByName = new HashMap<>();
+
+        for (TypeDef typeDef : typeDefs)
+        {
+            if ((typeDef != null) && (typeDef.getName() != null))
+            {
+                typeDefsByName.put(typeDef.getName(), typeDef);
+
+                if (typeDef.getGUID() != null)
+                {
+                    typeDefsByGUID.put(typeDef.getGUID(), typeDef);
+                }
+            }
+        }
+
+        for (TypeDef typeDef : typeDefsByName.values())
+        {
+            TypeDefClosure closure = buildClosure(typeDef, typeDefsByGUID, typeDefsByName);
+
+            closuresByName.put(typeDef.getName(), closure);
+
+            if (typeDef.getGUID() != null)
+            {
+                closuresByGUID.put(typeDef.getGUID(), closure);
+            }
+        }
+
+        /*
+         * Each type is a descendant of each of its ancestors.
+         */
+        for (TypeDefClosure closure : closuresByName.values())
+        {
+            for (String ancestorName : closure.ancestorNames)
+            {
+                TypeDefClosure ancestorClosure = closuresByName.get(ancestorName);
+
+                if (ancestorClosure != null)
+                {
+                    ancestorClosure.descendantNames.add(closure.typeDef.getName());
+
+                    if (closure.typeDef.getGUID() != null)
+                    {
+                        ancestorClosure.descendantGUIDs.add(closure.typeDef.getGUID());
+                    }
+                }
+            }
+        }
+
+        /*
+         * A classification listing an entity type may be attached to that entity type and all of its sub types.
+         */
+        for (TypeDef typeDef : typeDefsByName.values())
+        {
+            if (typeDef instanceof ClassificationDef)
+            {
+                List<TypeDefLink> validEntityDefs = ((ClassificationDef)typeDef).getValidEntityDefs();
+
+                if (validEntityDefs == null)
+                {
+                    unrestrictedClassifications.add(typeDef.getName());
+                }
+                else
+                {
+                    for (TypeDefLink validEntityDef : validEntityDefs)
+                    {
+                        if (validEntityDef != null)
+                        {
+                            TypeDefClosure entityClosure = closuresByName.get(validEntityDef.getName());
+
+                            if (entityClosure != null)
+                            {
+                                entityClosure.validClassificationNames.add(typeDef.getName());
+
+                                for (String descendantName : entityClosure.descendantNames)
+                                {
+                                    closuresByName.get(descendantName).validClassificationNames.add(typeDef.getName());
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        for (TypeDefClosure closure : closuresByName.values())
+        {
+            if (closure.typeDef.getGUID() != null)
+            {
+                closure.typeAndDescendantGUIDs.add(closure.typeDef.getGUID());
+            }
+            closure.typeAndDescendantGUIDs.addAll(closure.descendantGUIDs);
+
+            closure.superTypes = Collections.unmodifiableList(closure.superTypes);
+            closure.ancestorGUIDs = Collections.unmodifiableSet(closure.ancestorGUIDs);
+            closure.ancestorNames = Collections.unmodifiableSet(closure.ancestorNames);
+            closure.descendantGUIDs = Collections.unmodifiableSet(closure.descendantGUIDs);
+            closure.descendantNames = Collections.unmodifiableSet(closure.descendantNames);
+            closure.typeAndDescendantGUIDs = Collections.unmodifiableSet(closure.typeAndDescendantGUIDs);
+            closure.propertyNames = Collections.unmodifiableList(closure.propertyNames);
+            closure.allProperties = Collections.unmodifiableList(closure.allProperties);
+            closure.allPropertiesByName = Collections.unmodifiableMap(closure.allPropertiesByName);
+            closure.validClassificationNames = Collections.unmodifiableSet(closure.validClassificationNames);
+        }
+    }
+
+
+    /**
+     * Work up the super type links of a TypeDef, collecting its ancestors and properties.
+     *
+     * @param typeDef TypeDef to build the closure for
+     * @param typeDefsByGUID all TypeDefs indexed by unique identifier
+     * @param typeDefsByName all TypeDefs indexed by name
+     * @return closure
+     */
+    private TypeDefClosure buildClosure(TypeDef              typeDef,
+                                        Map<String, TypeDef> typeDefsByGUID,
+                                        Map<String, TypeDef> typeDefsByName)
+    {
+        TypeDefClosure closure     = new TypeDefClosure(typeDef);
+        TypeDef        currentType = typeDef;
+
+        while (currentType != null)
+        {
+            List<TypeDefAttribute> propertiesDefinition = currentType.getPropertiesDefinition();
+
+            if (propertiesDefinition != null)
+            {
+                List<String> currentPropertyNames = new ArrayList<>();
+
+                for (TypeDefAttribute propertyDefinition : propertiesDefinition)
+                {
+                    if ((propertyDefinition == null) || (propertyDefinition.getAttributeName() == null))
+                    {
+                        closure.valid = false;
+                    }
+                    else
+                    {
+                        currentPropertyNames.add(propertyDefinition.getAttributeName());
+                    }
+                }
+
+                closure.propertyNames.addAll(0, currentPropertyNames);
+                closure.allProperties.addAll(propertiesDefinition);
+            }
+
+            TypeDefLink superTypeLink = currentType.getSuperType();
+
+            if (superTypeLink == null)
+            {
+                currentType = null;
+            }
+            else if ((superTypeLink.getName() == null) || (closure.ancestorNames.contains(superTypeLink.getName())))
+            {
+                /*
+                 * Corrupt link or a loop in the type hierarchy.
+                 */
+                closure.valid = false;
+                currentType = null;
+            }
+            else
+            {
+                closure.superTypes.add(superTypeLink);
+                closure.ancestorNames.add(superTypeLink.getName());
+
+                currentType = typeDefsByName.get(superTypeLink.getName());
+
+                if ((currentType == null) && (superTypeLink.getGUID() != null))
+                {
+                    currentType = typeDefsByGUID.get(superTypeLink.getGUID());
+                }
+
+                if (currentType == null)
+                {
+                    closure.valid = false;
+                }
+                else if (currentType.getGUID() != null)
+                {
+                    closure.ancestorGUIDs.add(currentType.getGUID());
+                }
+            }
+        }
+
+        /*
+         * Where a property is defined more than once, the definition from the highest super type is used
+         * in line with the order that the properties have always been searched.
+         */
+        for (TypeDefAttribute propertyDefinition : closure.allProperties)
+        {
+            if ((propertyDefinition != null) && (propertyDefinition.getAttributeName() != null))
+            {
+                closure.allPropertiesByName.put(propertyDefinition.getAttributeName(), propertyDefinition);
+            }
+        }
+
+        return closure;
+    }
+
+
+    /**
+     * Return the closure for the named TypeDef.
+     *
+     * @param typeName name of the TypeDef
+     * @return closure or null if the TypeDef is not known
+     */
+    TypeDefClosure getClosureByName(String typeName)
+    {
+        if (typeName == null)
+        {
+            return null;
+        }
+
+        return closuresByName.get(typeName);
+    }
+
+
+    /**
+     * Return the closure for the identified TypeDef.
+     *
+     * @param typeGUID unique identifier of the TypeDef
+     * @return closure or null if the TypeDef is not known
+     */
+    TypeDefClosure getClosureByGUID(String typeGUID)
+    {
+        if (typeGUID == null)
+        {
+            return null;
+        }
+
+        return closuresByGUID.get(typeGUID);
+    }
+
+
+    /**
+     * Return whether the named classification may be attached to entities of the named type.
+     *
+     * @param classificationTypeName name of the classification's type
+     * @param entityTypeName name of the entity's type
+     * @return boolean
+     */
+    boolean isValidClassificationForEntity(String classificationTypeName,
+                                           String entityTypeName)
+    {
+        if (unrestrictedClassifications.contains(classificationTypeName))
+        {
+            return true;
+        }
+
+        TypeDefClosure entityClosure = getClosureByName(entityTypeName);
+
+        return (entityClosure != null) && (entityClosure.validClassificationNames.contains(classificationTypeName));
+    }
+}
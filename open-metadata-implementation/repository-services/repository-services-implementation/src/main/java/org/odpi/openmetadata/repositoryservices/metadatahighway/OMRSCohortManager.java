@@ -18,6 +18,7 @@ import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectionConsumer;
 import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalRepository;
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
 
 
 /**
@@ -66,6 +67,8 @@ public class OMRSCohortManager
      * @param cohortRegistryStore the cohort registry store where details of members of the cohort are kept
      * @param cohortTopicConnector Connector to the cohort's OMRS Topic.
      * @param enterpriseTopicConnector Connector to the federated OMRS Topic.
+     * @param enterpriseInstanceProcessor processor that keeps the enterprise connectors up to date with the
+     *                                    instance events from the cohort (may be null).
      * @param inboundEventExchangeRule rule for processing inbound events.
      */
     public void initialize(String                           cohortName,
@@ -77,6 +80,7 @@ public class OMRSCohortManager
                            OMRSRepositoryContentManager     localRepositoryContentManager,
                            OMRSConnectionConsumer           connectionConsumer,
                            OMRSTopicConnector               enterpriseTopicConnector,
+                           OMRSInstanceEventProcessor       enterpriseInstanceProcessor,
                            OMRSCohortRegistryStore          cohortRegistryStore,
                            OMRSTopicConnector               cohortTopicConnector,
                            OMRSRepositoryEventExchangeRule  inboundEventExchangeRule)
@@ -199,6 +203,15 @@ public class OMRSCohortManager
                 this.cohortRepositoryEventManager.registerInstanceProcessor(enterpriseEventPublisher);
             }
 
+            /*
+             * The enterprise connectors remember where the instances they retrieve are homed.  The instance events
+             * from the cohort keep this information up to date.
+             */
+            if (enterpriseInstanceProcessor != null)
+            {
+                this.cohortRepositoryEventManager.registerInstanceProcessor(enterpriseInstanceProcessor);
+            }
+
             this.cohortConnectionStatus = CohortConnectionStatus.NEW;
 
 
@@ -304,6 +317,11 @@ public class OMRSCohortManager
                 cohortTopicConnector.disconnect();
             }
 
+            if (cohortRepositoryEventManager != null)
+            {
+                cohortRepositoryEventManager.shutdown();
+            }
+
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTED;
         }
         catch (ConnectorCheckedException   error)
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.cohortregistrystore.OMRSCohortRegistryStore;
@@ -40,6 +41,7 @@ public class OMRSMetadataHighwayManager
     private OMRSRepositoryContentManager localRepositoryContentManager;      /* set in constructor */
     private OMRSConnectionConsumer       enterpriseAccessConnectionConsumer; /* set in constructor */
     private OMRSTopicConnector           enterpriseAccessTopicConnector;     /* set in constructor */
+    private OMRSInstanceEventProcessor   enterpriseAccessInstanceProcessor;  /* set in constructor */
 
 
     private static final OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.METADATA_HIGHWAY_MANAGER);
@@ -58,6 +60,8 @@ public class OMRSMetadataHighwayManager
      *                                        passed around the cohort.
      * @param enterpriseAccessConnectionConsumer connection consumer for managing the connections of enterprise access.
      * @param enterpriseAccessTopicConnector connector for the OMRS Topic for enterprise access.
+     * @param enterpriseAccessInstanceProcessor processor that keeps the enterprise connectors up to date with
+     *                                          the instance events from each cohort (may be null).
      */
     public OMRSMetadataHighwayManager(String                          localServerName,
                                       String                          localServerType,
@@ -65,7 +69,8 @@ public class OMRSMetadataHighwayManager
                                       OMRSLocalRepository             localRepository,
                                       OMRSRepositoryContentManager    localRepositoryContentManager,
                                       OMRSConnectionConsumer          enterpriseAccessConnectionConsumer,
-                                      OMRSTopicConnector              enterpriseAccessTopicConnector)
+                                      OMRSTopicConnector              enterpriseAccessTopicConnector,
+                                      OMRSInstanceEventProcessor      enterpriseAccessInstanceProcessor)
     {
         this.localServerName = localServerName;
         this.localServerType = localServerType;
@@ -74,6 +79,7 @@ public class OMRSMetadataHighwayManager
         this.localRepositoryContentManager = localRepositoryContentManager;
         this.enterpriseAccessConnectionConsumer = enterpriseAccessConnectionConsumer;
         this.enterpriseAccessTopicConnector = enterpriseAccessTopicConnector;
+        this.enterpriseAccessInstanceProcessor = enterpriseAccessInstanceProcessor;
     }
 
 
@@ -185,6 +191,7 @@ public class OMRSMetadataHighwayManager
                                      localRepositoryContentManager,
                                      enterpriseAccessConnectionConsumer,
                                      enterpriseAccessTopicConnector,
+                                     enterpriseAccessInstanceProcessor,
                                      cohortRegistryStore,
                                      cohortTopicConnector,
                                      inboundEventExchangeRule);
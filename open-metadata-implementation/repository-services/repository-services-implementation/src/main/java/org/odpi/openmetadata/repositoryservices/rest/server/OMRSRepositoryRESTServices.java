@@ -1549,6 +1549,56 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the current version of each of the requested entities.  The entities are returned in the order
+     * of the requested GUIDs.  GUIDs for entities that are not known are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of entities or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntitiesByGUID(String          userId,
+                                                GUIDListRequest guids)
+    {
+        final  String   methodName = "getEntitiesByGUID";
+
+        List<String> requestedGUIDs = null;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (guids != null)
+        {
+            requestedGUIDs = guids.getGUIDs();
+        }
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            response.setEntities(localMetadataCollection.getEntitiesByGUID(userId, requestedGUIDs));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+
+        return response;
+    }
+
+
 
     /**
      * Return the relationships for a specific entity.
@@ -2643,6 +2693,56 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the current version of each of the requested relationships.  The relationships are returned in
+     * the order of the requested GUIDs.  GUIDs for relationships that are not known are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipListResponse getRelationshipsByGUID(String          userId,
+                                                           GUIDListRequest guids)
+    {
+        final  String   methodName = "getRelationshipsByGUID";
+
+        List<String> requestedGUIDs = null;
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        if (guids != null)
+        {
+            requestedGUIDs = guids.getGUIDs();
+        }
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            response.setRelationships(localMetadataCollection.getRelationshipsByGUID(userId, requestedGUIDs));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+
+        return response;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -3765,6 +3865,80 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create a number of new entities.  Each entity in the request is a template that supplies the type,
+     * initial properties, initial classifications and initial status of a new entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new entities.
+     * @return EntityListResponse:
+     * list of the new entities or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the entity's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity type or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse addEntities(String                userId,
+                                          InstanceGraphRequest  requestBody)
+    {
+        final  String   methodName = "addEntities";
+
+        List<EntityDetail> newEntities = null;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (requestBody != null)
+        {
+            newEntities = requestBody.getEntityElementList();
+        }
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            response.setEntities(localMetadataCollection.addEntities(userId, newEntities));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (StatusNotSupportedException error)
+        {
+            captureStatusNotSupportedException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (ClassificationErrorException error)
+        {
+            captureClassificationErrorException(response, error);
+        }
+
+        return response;
+    }
+
+
 
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
@@ -4443,6 +4617,79 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Create a number of new relationships.  Each relationship in the request is a template that supplies the type,
+     * initial properties, the guids of the entities at each end and initial status of a new relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new relationships.
+     * @return RelationshipListResponse:
+     * list of the new relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the relationship's type or
+     * EntityNotKnownException one of the requested entities is not known in the metadata collection or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipListResponse addRelationships(String                userId,
+                                                     InstanceGraphRequest  requestBody)
+    {
+        final  String   methodName = "addRelationships";
+
+        List<Relationship> newRelationships = null;
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        if (requestBody != null)
+        {
+            newRelationships = requestBody.getRelationshipElementList();
+        }
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            response.setRelationships(localMetadataCollection.addRelationships(userId, newRelationships));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (StatusNotSupportedException error)
+        {
+            captureStatusNotSupportedException(response, error);
+        }
+
+        return response;
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *
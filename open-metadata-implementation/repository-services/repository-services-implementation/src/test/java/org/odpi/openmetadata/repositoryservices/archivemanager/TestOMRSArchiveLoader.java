@@ -0,0 +1,137 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that the OMRSArchiveLoader loads every instance and only loads relationships once the entities
+ * read before them are loaded.
+ */
+public class TestOMRSArchiveLoader
+{
+    private List<String> loaded  = Collections.synchronizedList(new ArrayList<>());
+    private Set<Thread>  threads = Collections.synchronizedSet(new HashSet<>());
+
+
+    @BeforeMethod
+    public void clearLoadedInstances()
+    {
+        loaded.clear();
+        threads.clear();
+    }
+
+
+    private OMRSInstanceEventProcessor getInstanceProcessor()
+    {
+        return (OMRSInstanceEventProcessor)Proxy.newProxyInstance(OMRSInstanceEventProcessor.class.getClassLoader(),
+                                                                  new Class<?>[]{OMRSInstanceEventProcessor.class},
+                                                                  (proxy, method, args) ->
+                                                                  {
+                                                                      threads.add(Thread.currentThread());
+
+                                                                      if ("processNewEntityEvent".equals(method.getName()))
+                                                                      {
+                                                                          loaded.add(((EntityDetail)args[5]).getGUID());
+                                                                      }
+                                                                      else if ("processNewRelationshipEvent".equals(method.getName()))
+                                                                      {
+                                                                          loaded.add(((Relationship)args[5]).getGUID());
+                                                                      }
+
+                                                                      return null;
+                                                                  });
+    }
+
+
+    private void loadArchive(OMRSArchiveLoader archiveLoader,
+                             int               instanceCount)
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("TestArchiveGUID");
+        archiveProperties.setArchiveName("TestArchive");
+
+        archiveLoader.processArchiveProperties(archiveProperties);
+
+        for (int i = 0; i < instanceCount; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("E" + i);
+            archiveLoader.processEntity(entity);
+        }
+
+        for (int i = 0; i < instanceCount; i++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("R" + i);
+            archiveLoader.processRelationship(relationship);
+        }
+
+        try
+        {
+            assertTrue(archiveLoader.complete());
+        }
+        finally
+        {
+            archiveLoader.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testParallelLoad()
+    {
+        loadArchive(new OMRSArchiveLoader(null, getInstanceProcessor(), 7, 4), 1000);
+
+        assertEquals(loaded.size(), 2000);
+        assertFalse(threads.contains(Thread.currentThread()));
+
+        for (int i = 0; i < 1000; i++)
+        {
+            assertTrue(loaded.get(i).startsWith("E"));
+            assertTrue(loaded.get(1000 + i).startsWith("R"));
+        }
+    }
+
+
+    @Test
+    public void testSequentialLoad()
+    {
+        loadArchive(new OMRSArchiveLoader(null, getInstanceProcessor(), 7, 1), 20);
+
+        assertEquals(loaded.size(), 40);
+        assertEquals(loaded.get(0), "E0");
+        assertEquals(loaded.get(39), "R19");
+        assertEquals(threads, Collections.singleton(Thread.currentThread()));
+    }
+
+
+    @Test
+    public void testNoArchiveProperties()
+    {
+        OMRSArchiveLoader archiveLoader = new OMRSArchiveLoader(null, getInstanceProcessor(), 7, 4);
+        EntityDetail      entity        = new EntityDetail();
+
+        archiveLoader.processEntity(entity);
+
+        assertFalse(archiveLoader.complete());
+        assertTrue(loaded.isEmpty());
+    }
+}
@@ -0,0 +1,290 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager;
+
+import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.BinaryFileBasedOpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.FileBasedOpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file.OpenMetadataArchiveConverter;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Compare the JSON and binary open metadata archive file connectors using the open metadata types archive
+ * extended with a synthetic set of instances.  The archive must survive conversion between the formats,
+ * and the binary archive must be smaller and, in the large group, quicker to load.
+ */
+public class TestOpenMetadataArchiveFormats
+{
+    private static final int instanceCount = 2000;
+    private static final int warmUpLoads   = 3;
+    private static final int timedLoads    = 5;
+
+    private File jsonFile;
+    private File binaryFile;
+
+
+    /**
+     * CountingHandler counts the content it is passed.
+     */
+    private static class CountingHandler implements OpenMetadataArchiveContentHandler
+    {
+        int properties    = 0;
+        int typeDefs      = 0;
+        int entities      = 0;
+        int relationships = 0;
+
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            properties ++;
+        }
+
+        public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+        {
+            typeDefs += archiveTypeStore.getNewTypeDefs().size();
+        }
+
+        public void processEntity(EntityDetail entity)
+        {
+            entities ++;
+        }
+
+        public void processRelationship(Relationship relationship)
+        {
+            relationships ++;
+        }
+    }
+
+
+    private OpenMetadataArchive getArchive()
+    {
+        OpenMetadataArchive              archive       = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        OpenMetadataArchiveInstanceStore instanceStore = new OpenMetadataArchiveInstanceStore();
+        List<EntityDetail>               entities      = new ArrayList<>();
+        List<Relationship>               relationships = new ArrayList<>();
+
+        for (int i = 0; i < instanceCount; i++)
+        {
+            EntityDetail entity       = new EntityDetail();
+            Relationship relationship = new Relationship();
+
+            entity.setGUID("entity-" + i);
+            entity.setMetadataCollectionId("TestMetadataCollection");
+            entity.setType(new InstanceType(TypeDefCategory.ENTITY_DEF, "TestEntityTypeGUID", "GlossaryTerm", 1L, null,
+                                            null, null, null, null));
+            entity.setProperties(getProperties(i));
+
+            relationship.setGUID("relationship-" + i);
+            relationship.setMetadataCollectionId("TestMetadataCollection");
+            relationship.setType(new InstanceType(TypeDefCategory.RELATIONSHIP_DEF, "TestRelationshipTypeGUID",
+                                                  "RelatedTerm", 1L, null, null, null, null, null));
+            relationship.setProperties(getProperties(i));
+
+            entities.add(entity);
+            relationships.add(relationship);
+        }
+
+        instanceStore.setEntities(entities);
+        instanceStore.setRelationships(relationships);
+        archive.setArchiveInstanceStore(instanceStore);
+
+        return archive;
+    }
+
+
+    private InstanceProperties getProperties(int index)
+    {
+        InstanceProperties     properties    = new InstanceProperties();
+        PrimitivePropertyValue qualifiedName = new PrimitivePropertyValue();
+        PrimitivePropertyValue description   = new PrimitivePropertyValue();
+
+        qualifiedName.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        qualifiedName.setPrimitiveValue("Glossary::Term" + index);
+        description.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        description.setPrimitiveValue("Synthetic instance number " + index + " for comparing archive formats");
+
+        properties.setProperty("qualifiedName", qualifiedName);
+        properties.setProperty("description", description);
+
+        return properties;
+    }
+
+
+    private OpenMetadataArchiveStoreConnector getConnector(OpenMetadataArchiveStoreConnector connector,
+                                                           File                              archiveFile)
+    {
+        Connection connection = new Connection();
+        Endpoint   endpoint   = new Endpoint();
+
+        endpoint.setAddress(archiveFile.getPath());
+        connection.setEndpoint(endpoint);
+
+        connector.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    @BeforeClass(alwaysRun = true)
+    public void writeArchives() throws IOException
+    {
+        OpenMetadataArchive archive = getArchive();
+
+        jsonFile = File.createTempFile("TestOpenMetadataArchive", ".json");
+        binaryFile = File.createTempFile("TestOpenMetadataArchive", ".bin");
+
+        getConnector(new FileBasedOpenMetadataArchiveStoreConnector(), jsonFile).setArchiveContents(archive);
+        getConnector(new BinaryFileBasedOpenMetadataArchiveStoreConnector(), binaryFile).setArchiveContents(archive);
+    }
+
+
+    @AfterClass(alwaysRun = true)
+    public void deleteArchives()
+    {
+        jsonFile.delete();
+        binaryFile.delete();
+    }
+
+
+    private CountingHandler loadArchive(OpenMetadataArchiveStoreConnector connector)
+    {
+        CountingHandler handler = new CountingHandler();
+
+        assertTrue(connector.readArchiveContents(handler));
+
+        return handler;
+    }
+
+
+    @Test
+    public void testCompareFormats()
+    {
+        CountingHandler jsonContent   = loadArchive(getConnector(new FileBasedOpenMetadataArchiveStoreConnector(), jsonFile));
+        CountingHandler binaryContent = loadArchive(getConnector(new BinaryFileBasedOpenMetadataArchiveStoreConnector(), binaryFile));
+
+        assertEquals(binaryContent.properties, 1);
+        assertEquals(binaryContent.typeDefs, jsonContent.typeDefs);
+        assertEquals(binaryContent.entities, instanceCount);
+        assertEquals(binaryContent.relationships, instanceCount);
+        assertEquals(jsonContent.entities, instanceCount);
+        assertEquals(jsonContent.relationships, instanceCount);
+
+        assertTrue(binaryFile.length() < jsonFile.length());
+    }
+
+
+    /**
+     * Return the quickest time to load an archive after the JIT has warmed up.  The quickest load is used
+     * because it is the one least affected by garbage collection and other activity on the machine.
+     *
+     * @param connector connector for the archive
+     * @return load time in nanoseconds
+     */
+    private long getLoadTime(OpenMetadataArchiveStoreConnector connector)
+    {
+        for (int i = 0; i < warmUpLoads; i++)
+        {
+            loadArchive(connector);
+        }
+
+        long quickestLoad = Long.MAX_VALUE;
+
+        for (int i = 0; i < timedLoads; i++)
+        {
+            long start = System.nanoTime();
+
+            loadArchive(connector);
+            quickestLoad = Math.min(quickestLoad, System.nanoTime() - start);
+        }
+
+        return quickestLoad;
+    }
+
+
+    @Test(groups = "large")
+    public void testCompareLoadTimes()
+    {
+        long jsonLoadTime   = getLoadTime(getConnector(new FileBasedOpenMetadataArchiveStoreConnector(), jsonFile));
+        long binaryLoadTime = getLoadTime(getConnector(new BinaryFileBasedOpenMetadataArchiveStoreConnector(), binaryFile));
+
+        assertTrue(binaryLoadTime <= jsonLoadTime,
+                   "Binary archive took " + binaryLoadTime + "ns to load and JSON archive took " + jsonLoadTime + "ns");
+    }
+
+
+    @Test
+    public void testArchiveProperties()
+    {
+        BinaryFileBasedOpenMetadataArchiveStoreConnector connector =
+                (BinaryFileBasedOpenMetadataArchiveStoreConnector)getConnector(new BinaryFileBasedOpenMetadataArchiveStoreConnector(),
+                                                                               binaryFile);
+
+        assertEquals(connector.getArchiveProperties().getArchiveGUID(), new OpenMetadataTypesArchive().getArchiveGUID());
+    }
+
+
+    @Test
+    public void testRoundTripConversion() throws IOException
+    {
+        ByteArrayOutputStream binaryArchive = new ByteArrayOutputStream();
+        ByteArrayOutputStream jsonArchive   = new ByteArrayOutputStream();
+
+        try (FileInputStream jsonStream = new FileInputStream(jsonFile))
+        {
+            OpenMetadataArchiveConverter.convertJSONToBinary(jsonStream, binaryArchive);
+        }
+
+        OpenMetadataArchiveConverter.convertBinaryToJSON(new ByteArrayInputStream(binaryArchive.toByteArray()), jsonArchive);
+
+        File convertedFile = File.createTempFile("TestOpenMetadataArchiveConverted", ".json");
+
+        try
+        {
+            try (FileOutputStream convertedStream = new FileOutputStream(convertedFile))
+            {
+                convertedStream.write(jsonArchive.toByteArray());
+            }
+
+            OpenMetadataArchive original  = getConnector(new FileBasedOpenMetadataArchiveStoreConnector(), jsonFile).getArchiveContents();
+            OpenMetadataArchive converted = getConnector(new FileBasedOpenMetadataArchiveStoreConnector(), convertedFile).getArchiveContents();
+
+            assertEquals(converted.getArchiveProperties().getArchiveGUID(), original.getArchiveProperties().getArchiveGUID());
+            assertEquals(converted.getArchiveTypeStore().getNewTypeDefs(), original.getArchiveTypeStore().getNewTypeDefs());
+            assertEquals(converted.getArchiveInstanceStore().getEntities(), original.getArchiveInstanceStore().getEntities());
+            assertEquals(converted.getArchiveInstanceStore().getRelationships(),
+                         original.getArchiveInstanceStore().getRelationships());
+        }
+        finally
+        {
+            convertedFile.delete();
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the EnterpriseOMRSMetadataCollection issues requests to the members of the cohort in parallel,
+ * tolerates members that time out and keeps the exception precedence when no member returns results.  Requests
+ * for an instance by GUID go to the instance's home repository once it is known, and requests for a list of GUIDs
+ * are answered with one call to each member.
+ */
+public class TestEnterpriseOMRSMetadataCollection
+{
+    private static final String userId        = "testUser";
+    private static final long   memberTimeout = 500;
+    private static final long   memberDelay   = 300;
+
+    private EnterpriseOMRSRepositoryConnector enterpriseConnector;
+    private CountDownLatch                    releaseLatch;
+
+
+    @BeforeMethod public void setUpConnector() throws Exception
+    {
+        Connection           connectionBean       = new Connection();
+        Map<String, Object>  additionalProperties = new HashMap<>();
+
+        additionalProperties.put(EnterpriseOMRSConnectorProvider.memberTimeoutPropertyName, Long.toString(memberTimeout));
+        additionalProperties.put(EnterpriseOMRSConnectorProvider.maxFederationThreadsPropertyName, "4");
+        connectionBean.setAdditionalProperties(additionalProperties);
+
+        enterpriseConnector = new EnterpriseOMRSRepositoryConnector(mock(OMRSConnectorManager.class));
+        enterpriseConnector.initialize("testConnector", new ConnectionProperties(connectionBean));
+        enterpriseConnector.setServerName("testServer");
+        enterpriseConnector.setRepositoryName("testEnterprise");
+        enterpriseConnector.setRepositoryHelper(mock(OMRSRepositoryHelper.class));
+        enterpriseConnector.setRepositoryValidator(mock(OMRSRepositoryValidator.class));
+        enterpriseConnector.setMetadataCollectionId("testEnterpriseMetadataCollectionId");
+        enterpriseConnector.start();
+
+        releaseLatch = new CountDownLatch(1);
+    }
+
+
+    @AfterMethod public void disconnectConnector() throws Exception
+    {
+        releaseLatch.countDown();
+        enterpriseConnector.disconnect();
+    }
+
+
+    private EntityDetail getEntity(String   guid)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        return entity;
+    }
+
+
+    /**
+     * Add a remote member whose metadata collection sleeps before returning a single entity.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @param entityGUID entity to return
+     * @param delay time to sleep in milliseconds
+     * @throws Exception mock set up failed
+     */
+    private void addSlowMember(String   metadataCollectionId,
+                               String   entityGUID,
+                               long     delay) throws Exception
+    {
+        OMRSRepositoryConnector connector          = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(connector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(connector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntitiesByProperty(anyString(), any(), any(), any(), anyInt(), any(), any(), any(), any(), any(), anyInt()))
+                .thenAnswer((invocation) ->
+                            {
+                                Thread.sleep(delay);
+                                return Collections.singletonList(getEntity(entityGUID));
+                            });
+
+        enterpriseConnector.addRemoteConnector(metadataCollectionId, connector);
+    }
+
+
+    /**
+     * Add a remote member whose metadata collection does not respond until the test completes.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @throws Exception mock set up failed
+     */
+    private void addHungMember(String   metadataCollectionId) throws Exception
+    {
+        OMRSRepositoryConnector connector          = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(connector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(connector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntitiesByProperty(anyString(), any(), any(), any(), anyInt(), any(), any(), any(), any(), any(), anyInt()))
+                .thenAnswer((invocation) ->
+                            {
+                                releaseLatch.await(1, TimeUnit.MINUTES);
+                                return Collections.singletonList(getEntity("hung"));
+                            });
+
+        enterpriseConnector.addRemoteConnector(metadataCollectionId, connector);
+    }
+
+
+    /**
+     * Add a remote member whose metadata collection rejects the request.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @param exception exception to throw
+     * @throws Exception mock set up failed
+     */
+    private void addFailingMember(String      metadataCollectionId,
+                                  Exception   exception) throws Exception
+    {
+        OMRSRepositoryConnector connector          = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(connector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(connector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntitiesByProperty(anyString(), any(), any(), any(), anyInt(), any(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(exception);
+
+        enterpriseConnector.addRemoteConnector(metadataCollectionId, connector);
+    }
+
+
+    /**
+     * Add a remote member whose metadata collection only knows the entities it is given.
+     *
+     * @param metadataCollectionId identifier of the member
+     * @param entities entities held by the member
+     * @return metadata collection of the member
+     * @throws Exception mock set up failed
+     */
+    private OMRSMetadataCollection addEntityMember(String          metadataCollectionId,
+                                                   EntityDetail... entities) throws Exception
+    {
+        OMRSRepositoryConnector connector          = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(connector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(connector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(metadataCollection.getEntityDetail(anyString(), anyString()))
+                .thenThrow(new EntityNotKnownException(404, "test", "test", "unknown", "none", "none"));
+
+        for (EntityDetail entity : entities)
+        {
+            doReturn(entity).when(metadataCollection).getEntityDetail(userId, entity.getGUID());
+        }
+
+        enterpriseConnector.addRemoteConnector(metadataCollectionId, connector);
+
+        return metadataCollection;
+    }
+
+
+    private EntityDetail getHomedEntity(String   guid,
+                                        String   homeMetadataCollectionId)
+    {
+        EntityDetail entity = getEntity(guid);
+
+        entity.setMetadataCollectionId(homeMetadataCollectionId);
+
+        return entity;
+    }
+
+
+    private List<EntityDetail> findEntities() throws Exception
+    {
+        return enterpriseConnector.getMetadataCollection().findEntitiesByProperty(userId,
+                                                                                  null,
+                                                                                  null,
+                                                                                  MatchCriteria.ALL,
+                                                                                  0,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  0);
+    }
+
+
+    private Set<String> getGUIDs(List<EntityDetail>   entities)
+    {
+        Set<String>  guids = new HashSet<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    @Test public void testParallelRequests() throws Exception
+    {
+        for (int i = 0; i < 4; i++)
+        {
+            addSlowMember("member" + i, "entity" + i, memberDelay);
+        }
+
+        long               startTime = System.currentTimeMillis();
+        List<EntityDetail> results   = findEntities();
+        long               elapsed   = System.currentTimeMillis() - startTime;
+
+        assertEquals(getGUIDs(results), new HashSet<>(Arrays.asList("entity0", "entity1", "entity2", "entity3")));
+        assertTrue(elapsed < memberDelay * 3, "Requests were not issued in parallel: " + elapsed + "ms");
+    }
+
+
+    @Test public void testMemberTimeout() throws Exception
+    {
+        addSlowMember("member0", "entity0", 0);
+        addHungMember("member1");
+
+        long               startTime = System.currentTimeMillis();
+        List<EntityDetail> results   = findEntities();
+        long               elapsed   = System.currentTimeMillis() - startTime;
+
+        assertEquals(getGUIDs(results), Collections.singleton("entity0"));
+        assertTrue(elapsed < memberTimeout * 4, "Request did not time out: " + elapsed + "ms");
+    }
+
+
+    @Test public void testExceptionPrecedence() throws Exception
+    {
+        addFailingMember("member0", new UserNotAuthorizedException(401, "test", "test", "user", "none", "none"));
+        addFailingMember("member1", new RepositoryErrorException(500, "test", "test", "repository", "none", "none"));
+
+        try
+        {
+            findEntities();
+            fail("No exception returned");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertEquals(error.getErrorMessage(), "repository");
+        }
+    }
+
+
+    @Test public void testHomeRouting() throws Exception
+    {
+        OMRSMetadataCollection member0 = addEntityMember("member0");
+        OMRSMetadataCollection member1 = addEntityMember("member1", getHomedEntity("entity1", "member1"));
+
+        assertEquals(enterpriseConnector.getMetadataCollection().getEntityDetail(userId, "entity1").getGUID(), "entity1");
+        assertEquals(enterpriseConnector.getMetadataCollection().getEntityDetail(userId, "entity1").getGUID(), "entity1");
+
+        verify(member0, times(1)).getEntityDetail(userId, "entity1");
+        verify(member1, times(2)).getEntityDetail(userId, "entity1");
+    }
+
+
+    @Test public void testStaleLocation() throws Exception
+    {
+        OMRSMetadataCollection member0 = addEntityMember("member0");
+        OMRSMetadataCollection member1 = addEntityMember("member1", getHomedEntity("entity1", "member1"));
+
+        enterpriseConnector.setInstanceLocation("member0", getHomedEntity("entity1", "member0"));
+
+        assertEquals(enterpriseConnector.getMetadataCollection().getEntityDetail(userId, "entity1").getGUID(), "entity1");
+        assertEquals(enterpriseConnector.getInstanceHomeConnector("entity1",
+                                                                  enterpriseConnector.getCohortConnectors("test")).getMetadataCollectionId(),
+                     "member1");
+
+        verify(member0, times(2)).getEntityDetail(userId, "entity1");
+        verify(member1, times(1)).getEntityDetail(userId, "entity1");
+    }
+
+
+    @Test public void testLocationEvents() throws Exception
+    {
+        EnterpriseOMRSInstanceLocationCache locationCache = new EnterpriseOMRSInstanceLocationCache();
+        EntityDetail                        entity        = getHomedEntity("entity1", "member0");
+
+        locationCache.sendInstanceEvent("test", new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity));
+        assertEquals(locationCache.getHomeMetadataCollectionId("entity1"), "member0");
+
+        locationCache.sendInstanceEvent("test", new OMRSInstanceEvent(OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+                                                                      getHomedEntity("entity1", "member1")));
+        assertEquals(locationCache.getHomeMetadataCollectionId("entity1"), "member1");
+
+        locationCache.sendInstanceEvent("test", new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                      "typeGUID",
+                                                                      "typeName",
+                                                                      "entity1"));
+        assertNull(locationCache.getHomeMetadataCollectionId("entity1"));
+    }
+
+
+    @Test public void testUnknownLocation() throws Exception
+    {
+        OMRSMetadataCollection member0 = addEntityMember("member0");
+
+        enterpriseConnector.setInstanceLocation("member9", getHomedEntity("entity1", "member9"));
+
+        try
+        {
+            enterpriseConnector.getMetadataCollection().getEntityDetail(userId, "entity1");
+            fail("No exception returned");
+        }
+        catch (EntityNotKnownException error)
+        {
+            verify(member0, times(1)).getEntityDetail(userId, "entity1");
+        }
+    }
+
+
+    @Test public void testGetEntitiesByGUID() throws Exception
+    {
+        OMRSMetadataCollection member0 = addEntityMember("member0");
+        OMRSMetadataCollection member1 = addEntityMember("member1");
+        List<String>           guids   = Arrays.asList("entity1", "entity3", "entity2");
+
+        doReturn(Collections.singletonList(getHomedEntity("entity2", "member0")))
+                .when(member0).getEntitiesByGUID(userId, guids);
+        doReturn(Arrays.asList(getHomedEntity("entity1", "member1"), getHomedEntity("entity2", "member1")))
+                .when(member1).getEntitiesByGUID(userId, guids);
+
+        List<EntityDetail> results = enterpriseConnector.getMetadataCollection().getEntitiesByGUID(userId, guids);
+
+        assertEquals(results.size(), 2);
+        assertEquals(results.get(0).getGUID(), "entity1");
+        assertEquals(results.get(1).getGUID(), "entity2");
+        assertEquals(results.get(1).getMetadataCollectionId(), "member0");
+        assertEquals(enterpriseConnector.getInstanceHomeConnector("entity1",
+                                                                  enterpriseConnector.getCohortConnectors("test")).getMetadataCollectionId(),
+                     "member1");
+
+        verify(member0, times(0)).getEntityDetail(anyString(), anyString());
+        verify(member1, times(0)).getEntityDetail(anyString(), anyString());
+    }
+
+
+    @Test public void testGetEntitiesByGUIDHomeRouting() throws Exception
+    {
+        OMRSMetadataCollection member0 = addEntityMember("member0");
+        OMRSMetadataCollection member1 = addEntityMember("member1");
+
+        enterpriseConnector.setInstanceLocation("member0", getHomedEntity("entity1", "member0"));
+        enterpriseConnector.setInstanceLocation("member1", getHomedEntity("entity2", "member1"));
+        enterpriseConnector.setInstanceLocation("member1", getHomedEntity("entity3", "member1"));
+
+        doReturn(Collections.singletonList(getHomedEntity("entity1", "member0")))
+                .when(member0).getEntitiesByGUID(userId, Collections.singletonList("entity1"));
+        doReturn(Collections.singletonList(getHomedEntity("entity2", "member1")))
+                .when(member1).getEntitiesByGUID(userId, Arrays.asList("entity2", "entity3"));
+        doReturn(Collections.singletonList(getHomedEntity("entity3", "member0")))
+                .when(member0).getEntitiesByGUID(userId, Collections.singletonList("entity3"));
+
+        List<EntityDetail> results = enterpriseConnector.getMetadataCollection().getEntitiesByGUID(userId,
+                                                                                                   Arrays.asList("entity1",
+                                                                                                                 "entity2",
+                                                                                                                 "entity3"));
+
+        assertEquals(getGUIDs(results), new HashSet<>(Arrays.asList("entity1", "entity2", "entity3")));
+
+        /*
+         * entity3 has moved to member0 so it is requested from every member once its old home does not return it.
+         */
+        verify(member0, times(1)).getEntitiesByGUID(userId, Collections.singletonList("entity1"));
+        verify(member1, times(1)).getEntitiesByGUID(userId, Arrays.asList("entity2", "entity3"));
+        verify(member0, times(1)).getEntitiesByGUID(userId, Collections.singletonList("entity3"));
+        verify(member1, times(1)).getEntitiesByGUID(userId, Collections.singletonList("entity3"));
+        verify(member0, times(2)).getEntitiesByGUID(anyString(), any());
+        verify(member1, times(2)).getEntitiesByGUID(anyString(), any());
+        assertEquals(enterpriseConnector.getInstanceHomeConnector("entity3",
+                                                                  enterpriseConnector.getCohortConnectors("test")).getMetadataCollectionId(),
+                     "member0");
+    }
+}
@@ -0,0 +1,198 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that EnterpriseOMRSPageMerger builds the same pages from the members' sorted results whether the
+ * caller pages by offset or with the paging cursor, and that each member is only asked for one page of results
+ * when the cursor is used.
+ */
+public class TestEnterpriseOMRSPageMerger
+{
+    /*
+     * The entities held by each member.  The entity created at time 4 is held by two members.
+     */
+    private static final List<List<Integer>> memberCreateTimes = Arrays.asList(Arrays.asList(1, 4, 7, 10, 13),
+                                                                               Arrays.asList(2, 4, 5, 8),
+                                                                               Arrays.asList(3, 6, 9, 11, 12, 14, 15));
+    private static final int                 pageSize          = 4;
+
+
+    private EntityDetail getEntity(int createTime)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID("entity" + createTime);
+        entity.setCreateTime(new Date(createTime));
+
+        return entity;
+    }
+
+
+    /**
+     * Return the requested range of a member's results, in the same way as a member's metadata collection.
+     *
+     * @param member index of the member
+     * @param fromElement offset of the first result
+     * @param memberPageSize maximum number of results (zero means no limit)
+     * @return list of entities
+     */
+    private List<EntityDetail> getMemberResults(int member,
+                                                int fromElement,
+                                                int memberPageSize)
+    {
+        List<EntityDetail> results     = new ArrayList<>();
+        List<Integer>      createTimes = memberCreateTimes.get(member);
+
+        for (int i = fromElement; (i < createTimes.size()) && ((memberPageSize == 0) || (results.size() < memberPageSize)); i++)
+        {
+            results.add(getEntity(createTimes.get(i)));
+        }
+
+        return results;
+    }
+
+
+    private EnterpriseOMRSPage<EntityDetail> getPage(EnterpriseOMRSPagingCursor pagingCursor,
+                                                     int                        fromElement)
+    {
+        EnterpriseOMRSPageMerger<EntityDetail> pageMerger = new EnterpriseOMRSPageMerger<>(pagingCursor,
+                                                                                           fromElement,
+                                                                                           pageSize,
+                                                                                           null,
+                                                                                           SequencingOrder.CREATION_DATE_OLDEST);
+
+        for (int member = 0; member < memberCreateTimes.size(); member++)
+        {
+            String memberId = "member" + member;
+
+            if (pageMerger.isMemberComplete(memberId))
+            {
+                pageMerger.addMemberResults(memberId, null);
+            }
+            else
+            {
+                if (pagingCursor != null)
+                {
+                    assertEquals(pageMerger.getMemberPageSize(), pageSize);
+                }
+
+                pageMerger.addMemberResults(memberId, getMemberResults(member,
+                                                                       pageMerger.getMemberFromElement(memberId),
+                                                                       pageMerger.getMemberPageSize()));
+            }
+        }
+
+        return pageMerger.getPage();
+    }
+
+
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    private List<String> getExpectedGUIDs()
+    {
+        Map<Integer, String> expectedResults = new TreeMap<>();
+
+        for (List<Integer> createTimes : memberCreateTimes)
+        {
+            for (Integer createTime : createTimes)
+            {
+                expectedResults.put(createTime, "entity" + createTime);
+            }
+        }
+
+        return new ArrayList<>(expectedResults.values());
+    }
+
+
+    @Test public void testPagingByOffset()
+    {
+        List<String> expectedGUIDs = getExpectedGUIDs();
+
+        for (int fromElement = 0; fromElement < expectedGUIDs.size(); fromElement += pageSize)
+        {
+            EnterpriseOMRSPage<EntityDetail> page = getPage(null, fromElement);
+
+            assertEquals(getGUIDs(page.getResults()),
+                         expectedGUIDs.subList(fromElement, Math.min(expectedGUIDs.size(), fromElement + pageSize)));
+        }
+
+        assertTrue(getPage(null, expectedGUIDs.size()).getResults().isEmpty());
+    }
+
+
+    @Test public void testPagingByCursor()
+    {
+        List<String>               mergedGUIDs  = new ArrayList<>();
+        EnterpriseOMRSPagingCursor pagingCursor = new EnterpriseOMRSPagingCursor();
+        int                        pageCount    = 0;
+
+        while (pagingCursor != null)
+        {
+            EnterpriseOMRSPage<EntityDetail> page = getPage(pagingCursor, 0);
+
+            assertTrue(page.getResults().size() <= pageSize);
+            mergedGUIDs.addAll(getGUIDs(page.getResults()));
+            pagingCursor = page.getNextPageCursor();
+            pageCount++;
+
+            assertTrue(pageCount < 10, "Paging did not complete");
+        }
+
+        assertEquals(mergedGUIDs, getExpectedGUIDs());
+    }
+
+
+    @Test public void testCursorFromOffsetPage()
+    {
+        EnterpriseOMRSPage<EntityDetail> firstPage = getPage(null, 0);
+
+        assertNotNull(firstPage.getNextPageCursor());
+        assertEquals(getGUIDs(getPage(firstPage.getNextPageCursor(), 0).getResults()),
+                     getExpectedGUIDs().subList(pageSize, pageSize * 2));
+    }
+
+
+    @Test public void testUnlimitedPage()
+    {
+        EnterpriseOMRSPageMerger<EntityDetail> pageMerger = new EnterpriseOMRSPageMerger<>(null,
+                                                                                           0,
+                                                                                           0,
+                                                                                           null,
+                                                                                           SequencingOrder.CREATION_DATE_RECENT);
+
+        pageMerger.addMemberResults("member0", Arrays.asList(getEntity(3), getEntity(1)));
+        pageMerger.addMemberResults("member1", Arrays.asList(getEntity(2), getEntity(1)));
+
+        EnterpriseOMRSPage<EntityDetail> page = pageMerger.getPage();
+
+        assertEquals(getGUIDs(page.getResults()), Arrays.asList("entity3", "entity2", "entity1"));
+        assertNull(page.getNextPageCursor());
+    }
+}
@@ -0,0 +1,296 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRSRepositoryEventManager passes instance events to its consumers in parallel, keeps the
+ * events for each instance in order, pushes back on the sender when a consumer's queue is full and keeps going
+ * when a consumer throws an exception.
+ */
+public class TestOMRSRepositoryEventManager
+{
+    private OMRSRepositoryEventManager getEventManager(int dispatchThreads,
+                                                       int dispatchQueueSize)
+    {
+        OMRSRepositoryEventExchangeRule exchangeRule = mock(OMRSRepositoryEventExchangeRule.class);
+
+        when(exchangeRule.processInstanceEvent(any(), any())).thenReturn(true);
+
+        return new OMRSRepositoryEventManager("Test",
+                                              exchangeRule,
+                                              new OMRSRepositoryContentValidator(),
+                                              dispatchThreads,
+                                              dispatchQueueSize);
+    }
+
+
+    private OMRSInstanceEvent getEvent(String guid,
+                                       long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, entity);
+    }
+
+
+    /**
+     * Return a consumer that waits for the latch before processing each event and then counts it down.
+     */
+    private OMRSInstanceEventProcessor getConsumer(CountDownLatch             release,
+                                                   CountDownLatch             received,
+                                                   List<OMRSInstanceEvent>    receivedEvents)
+    {
+        OMRSInstanceEventProcessor consumer = mock(OMRSInstanceEventProcessor.class);
+
+        doAnswer((invocation) ->
+                 {
+                     if (release != null)
+                     {
+                         release.await(10, TimeUnit.SECONDS);
+                     }
+
+                     if (receivedEvents != null)
+                     {
+                         receivedEvents.add(invocation.getArgument(1));
+                     }
+
+                     received.countDown();
+                     return null;
+                 }).when(consumer).sendInstanceEvent(anyString(), any(OMRSInstanceEvent.class));
+
+        return consumer;
+    }
+
+
+    @Test public void testSlowConsumerDoesNotBlockOthers() throws Exception
+    {
+        OMRSRepositoryEventManager eventManager  = getEventManager(2, 100);
+        CountDownLatch             release       = new CountDownLatch(1);
+        CountDownLatch             slowReceived  = new CountDownLatch(10);
+        CountDownLatch             fastReceived  = new CountDownLatch(10);
+
+        eventManager.registerInstanceProcessor(getConsumer(release, slowReceived, null));
+        eventManager.registerInstanceProcessor(getConsumer(null, fastReceived, null));
+        eventManager.start();
+
+        for (int i = 0; i < 10; i++)
+        {
+            eventManager.sendInstanceEvent("Test", getEvent("guid" + i, 1));
+        }
+
+        assertTrue(fastReceived.await(10, TimeUnit.SECONDS));
+        assertEquals(slowReceived.getCount(), 10);
+
+        /*
+         * The dispatcher counts an event once the consumer has returned, which may be just after the latch
+         * is counted down.
+         */
+        List<OMRSInstanceEventConsumerMetrics> metrics  = eventManager.getInstanceEventConsumerMetrics();
+        long                                   deadline = System.currentTimeMillis() + 10000;
+
+        while ((metrics.get(1).getEventsDispatched() < 10) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+            metrics = eventManager.getInstanceEventConsumerMetrics();
+        }
+
+        assertEquals(metrics.size(), 2);
+        assertEquals(metrics.get(0).getEventsQueued(), 10);
+        assertTrue(metrics.get(0).getQueueDepth() >= 8);
+        assertEquals(metrics.get(1).getEventsDispatched(), 10);
+        assertEquals(metrics.get(1).getQueueDepth(), 0);
+
+        release.countDown();
+
+        assertTrue(slowReceived.await(10, TimeUnit.SECONDS));
+        eventManager.shutdown();
+    }
+
+
+    @Test public void testEventsOrderedPerInstance() throws Exception
+    {
+        OMRSRepositoryEventManager eventManager   = getEventManager(4, 10);
+        CountDownLatch             received       = new CountDownLatch(500);
+        List<OMRSInstanceEvent>    receivedEvents = Collections.synchronizedList(new ArrayList<>());
+
+        eventManager.registerInstanceProcessor(getConsumer(null, received, receivedEvents));
+        eventManager.start();
+
+        for (int version = 1; version <= 50; version++)
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                eventManager.sendInstanceEvent("Test", getEvent("guid" + i, version));
+            }
+        }
+
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+
+        Map<String, Long> lastVersions = new ConcurrentHashMap<>();
+
+        for (OMRSInstanceEvent event : receivedEvents)
+        {
+            String guid        = event.getEntity().getGUID();
+            long   lastVersion = lastVersions.getOrDefault(guid, 0L);
+
+            assertEquals(event.getEntity().getVersion(), lastVersion + 1);
+            lastVersions.put(guid, event.getEntity().getVersion());
+        }
+
+        assertEquals(lastVersions.size(), 10);
+        eventManager.shutdown();
+    }
+
+
+    @Test public void testBackPressure() throws Exception
+    {
+        OMRSRepositoryEventManager eventManager = getEventManager(1, 1);
+        CountDownLatch             release      = new CountDownLatch(1);
+        CountDownLatch             received     = new CountDownLatch(3);
+        CountDownLatch             allSent      = new CountDownLatch(1);
+
+        eventManager.registerInstanceProcessor(getConsumer(release, received, null));
+        eventManager.start();
+
+        /*
+         * The first event is held by the consumer, the second waits on the queue and the third has to wait
+         * for space on the queue.
+         */
+        Thread sender = new Thread(() ->
+                                   {
+                                       for (int i = 0; i < 3; i++)
+                                       {
+                                           eventManager.sendInstanceEvent("Test", getEvent("guid", i));
+                                       }
+                                       allSent.countDown();
+                                   });
+        sender.start();
+
+        assertFalse(allSent.await(300, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        assertTrue(allSent.await(10, TimeUnit.SECONDS));
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        eventManager.shutdown();
+    }
+
+
+    @Test public void testConsumerException() throws Exception
+    {
+        List<OMRSAuditLogRecord> logRecords    = Collections.synchronizedList(new ArrayList<>());
+        OMRSAuditLogStore        auditLogStore = mock(OMRSAuditLogStore.class);
+
+        doAnswer((invocation) ->
+                 {
+                     logRecords.add(invocation.getArgument(0));
+                     return null;
+                 }).when(auditLogStore).storeLogRecord(any(OMRSAuditLogRecord.class));
+
+        OMRSAuditLog.initialize("TestServer", "TestType", "TestOrganization", Collections.singletonList(auditLogStore));
+
+        try
+        {
+            OMRSRepositoryEventManager eventManager   = getEventManager(2, 10);
+            OMRSInstanceEventProcessor consumer       = mock(OMRSInstanceEventProcessor.class);
+            CountDownLatch             received       = new CountDownLatch(4);
+            List<OMRSInstanceEvent>    receivedEvents = Collections.synchronizedList(new ArrayList<>());
+
+            doAnswer((invocation) ->
+                     {
+                         OMRSInstanceEvent event = invocation.getArgument(1);
+
+                         if (event.getEntity().getVersion() == 1)
+                         {
+                             throw new IllegalStateException("Test consumer failure");
+                         }
+
+                         receivedEvents.add(event);
+                         received.countDown();
+                         return null;
+                     }).when(consumer).sendInstanceEvent(anyString(), any(OMRSInstanceEvent.class));
+
+            eventManager.registerInstanceProcessor(consumer);
+            eventManager.start();
+
+            /*
+             * The later versions of the instance are on the same shard as the event that fails.
+             */
+            for (int version = 1; version <= 5; version++)
+            {
+                eventManager.sendInstanceEvent("Test", getEvent("guid", version));
+            }
+
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            eventManager.shutdown();
+
+            assertEquals(receivedEvents.size(), 4);
+
+            for (int i = 0; i < 4; i++)
+            {
+                assertEquals(receivedEvents.get(i).getEntity().getVersion(), i + 2);
+            }
+
+            List<OMRSInstanceEventConsumerMetrics> metrics = eventManager.getInstanceEventConsumerMetrics();
+
+            assertEquals(metrics.get(0).getEventsFailed(), 1);
+
+            int errorRecords = 0;
+
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                if (OMRSAuditCode.INSTANCE_EVENT_DISPATCH_ERROR.getLogMessageId().equals(logRecord.getMessageId()))
+                {
+                    errorRecords++;
+                }
+            }
+
+            assertEquals(errorRecords, 1);
+        }
+        finally
+        {
+            OMRSAuditLog.initialize("TestServer", "TestType", "TestOrganization", new ArrayList<>());
+        }
+    }
+
+
+    @Test public void testDirectDispatch()
+    {
+        OMRSRepositoryEventManager eventManager = getEventManager(0, 0);
+        CountDownLatch             received     = new CountDownLatch(1);
+
+        eventManager.registerInstanceProcessor(getConsumer(null, received, null));
+        eventManager.start();
+        eventManager.sendInstanceEvent("Test", getEvent("guid", 1));
+
+        assertEquals(received.getCount(), 0);
+        assertTrue(eventManager.getInstanceEventConsumerMetrics().isEmpty());
+    }
+}
@@ -0,0 +1,237 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnector;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.List;
+
+/**
+ * InMemoryRepositoryFixture starts an in-memory repository connector that knows the open metadata types, with the
+ * real repository helper and validator, so that tests can drive a metadata collection end to end.
+ */
+class InMemoryRepositoryFixture
+{
+    static final String userId               = "testUser";
+    static final String metadataCollectionId = "testMetadataCollectionId";
+    static final String repositoryName       = "testRepository";
+
+    private OMRSRepositoryContentManager    contentManager = new OMRSRepositoryContentManager();
+    private OMRSRepositoryContentHelper     repositoryHelper;
+    private OMRSRepositoryContentValidator  repositoryValidator;
+    private InMemoryOMRSRepositoryConnector repositoryConnector = new InMemoryOMRSRepositoryConnector();
+
+
+    /**
+     * Start the connector and add the open metadata types to both the content manager and the metadata collection.
+     *
+     * @throws Exception the connector could not be started
+     */
+    InMemoryRepositoryFixture() throws Exception
+    {
+        repositoryHelper    = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        repositoryConnector.initialize("testConnector", new ConnectionProperties(new Connection()));
+        repositoryConnector.setServerName("testServer");
+        repositoryConnector.setRepositoryName(repositoryName);
+        repositoryConnector.setRepositoryHelper(repositoryHelper);
+        repositoryConnector.setRepositoryValidator(repositoryValidator);
+        repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+        repositoryConnector.start();
+
+        OMRSMetadataCollection       metadataCollection = repositoryConnector.getMetadataCollection();
+        OpenMetadataArchiveTypeStore typeStore          = new OpenMetadataTypesArchive().getOpenMetadataArchive()
+                                                                                        .getArchiveTypeStore();
+
+        /*
+         * Each type is added to the metadata collection before the content manager since the collection only
+         * accepts types that are not yet known.
+         */
+        for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs())
+        {
+            metadataCollection.addAttributeTypeDef(userId, attributeTypeDef);
+            contentManager.addAttributeTypeDef(repositoryName, attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : typeStore.getNewTypeDefs())
+        {
+            metadataCollection.addTypeDef(userId, typeDef);
+            contentManager.addTypeDef(repositoryName, typeDef);
+        }
+    }
+
+
+    OMRSMetadataCollection getMetadataCollection() throws Exception
+    {
+        return repositoryConnector.getMetadataCollection();
+    }
+
+
+    InMemoryOMRSRepositoryConnector getRepositoryConnector()
+    {
+        return repositoryConnector;
+    }
+
+
+    OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    OMRSRepositoryContentValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    String getTypeDefGUID(String typeDefName)
+    {
+        return contentManager.getTypeDefByName(repositoryName, typeDefName).getGUID();
+    }
+
+
+    /**
+     * Return the properties for a new entity.
+     *
+     * @param qualifiedName unique name of the entity
+     * @return properties
+     */
+    InstanceProperties getEntityProperties(String qualifiedName)
+    {
+        return repositoryHelper.addStringPropertyToInstance(repositoryName, null, "qualifiedName", qualifiedName, "test");
+    }
+
+
+    /**
+     * Add an entity to the metadata collection.
+     *
+     * @param typeDefName type of the entity
+     * @param qualifiedName unique name of the entity
+     * @return new entity
+     * @throws Exception the entity could not be added
+     */
+    EntityDetail addEntity(String typeDefName,
+                           String qualifiedName) throws Exception
+    {
+        return getMetadataCollection().addEntity(userId,
+                                                 getTypeDefGUID(typeDefName),
+                                                 getEntityProperties(qualifiedName),
+                                                 null,
+                                                 null);
+    }
+
+
+    /**
+     * Add a relationship to the metadata collection.
+     *
+     * @param typeDefName type of the relationship
+     * @param entityOneGUID entity at end one
+     * @param entityTwoGUID entity at end two
+     * @return new relationship
+     * @throws Exception the relationship could not be added
+     */
+    Relationship addRelationship(String typeDefName,
+                                 String entityOneGUID,
+                                 String entityTwoGUID) throws Exception
+    {
+        return getMetadataCollection().addRelationship(userId,
+                                                       getTypeDefGUID(typeDefName),
+                                                       null,
+                                                       entityOneGUID,
+                                                       entityTwoGUID,
+                                                       null);
+    }
+
+
+    /**
+     * Return a template for a new entity, as used by addEntities.
+     *
+     * @param typeDefName type of the entity
+     * @param qualifiedName unique name of the entity
+     * @return template
+     */
+    EntityDetail getEntityTemplate(String typeDefName,
+                                   String qualifiedName)
+    {
+        EntityDetail template = new EntityDetail();
+        InstanceType type     = new InstanceType();
+
+        type.setTypeDefGUID(getTypeDefGUID(typeDefName));
+        type.setTypeDefName(typeDefName);
+        template.setType(type);
+        template.setProperties(getEntityProperties(qualifiedName));
+
+        return template;
+    }
+
+
+    /**
+     * Return a template for a new relationship, as used by addRelationships.
+     *
+     * @param typeDefName type of the relationship
+     * @param entityOneGUID entity at end one
+     * @param entityTwoGUID entity at end two
+     * @return template
+     */
+    Relationship getRelationshipTemplate(String typeDefName,
+                                         String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship template  = new Relationship();
+        InstanceType type      = new InstanceType();
+        EntityProxy  entityOne = new EntityProxy();
+        EntityProxy  entityTwo = new EntityProxy();
+
+        type.setTypeDefGUID(getTypeDefGUID(typeDefName));
+        type.setTypeDefName(typeDefName);
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+        template.setType(type);
+        template.setEntityOneProxy(entityOne);
+        template.setEntityTwoProxy(entityTwo);
+
+        return template;
+    }
+
+
+    /**
+     * Return the entities of a type (or its sub-types) with a matching qualified name.
+     *
+     * @param typeDefName type of the entities
+     * @param qualifiedName qualified name to match
+     * @return matching entities or null
+     * @throws Exception the search failed
+     */
+    List<EntityDetail> findEntities(String typeDefName,
+                                    String qualifiedName) throws Exception
+    {
+        return getMetadataCollection().findEntitiesByProperty(userId,
+                                                              getTypeDefGUID(typeDefName),
+                                                              getEntityProperties(qualifiedName),
+                                                              MatchCriteria.ALL,
+                                                              0,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              100);
+    }
+}
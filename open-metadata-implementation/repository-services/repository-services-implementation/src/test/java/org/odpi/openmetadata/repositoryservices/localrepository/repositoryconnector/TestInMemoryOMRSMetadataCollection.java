@@ -0,0 +1,246 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.TypeErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Drive the InMemoryOMRSMetadataCollection through its public interface with the real repository helper and
+ * validator.
+ */
+public class TestInMemoryOMRSMetadataCollection
+{
+    private static final int deleteRounds        = 10;
+    private static final int relationshipsPerEnd = 100;
+
+
+    /**
+     * Delete an entity.
+     *
+     * @param metadataCollection collection holding the entity
+     * @param entity entity to delete
+     * @return deleted entity
+     * @throws Exception the delete failed
+     */
+    private EntityDetail deleteEntity(OMRSMetadataCollection metadataCollection,
+                                      EntityDetail           entity) throws Exception
+    {
+        InstanceType type = entity.getType();
+
+        return metadataCollection.deleteEntity(InMemoryRepositoryFixture.userId,
+                                               type.getTypeDefGUID(),
+                                               type.getTypeDefName(),
+                                               entity.getGUID());
+    }
+
+
+    /**
+     * Entities and relationships created through the in-memory repository have its metadata collection as their
+     * home, so they pass the home validation in getRelationship and can be deleted.
+     *
+     * @throws Exception the test failed
+     */
+    @Test public void testLocalInstancesHaveLocalHome() throws Exception
+    {
+        InMemoryRepositoryFixture fixture            = new InMemoryRepositoryFixture();
+        OMRSMetadataCollection    metadataCollection = fixture.getMetadataCollection();
+        EntityDetail              term               = fixture.addEntity("GlossaryTerm", "homeTerm");
+        EntityDetail              synonym            = fixture.addEntity("GlossaryTerm", "homeSynonym");
+        Relationship              relationship       = fixture.addRelationship("Synonym", term.getGUID(), synonym.getGUID());
+
+        assertEquals(term.getMetadataCollectionId(), InMemoryRepositoryFixture.metadataCollectionId);
+        assertEquals(relationship.getMetadataCollectionId(), InMemoryRepositoryFixture.metadataCollectionId);
+        assertEquals(metadataCollection.getRelationship(InMemoryRepositoryFixture.userId,
+                                                        relationship.getGUID()).getGUID(),
+                     relationship.getGUID());
+
+        InstanceType type = relationship.getType();
+
+        assertEquals(metadataCollection.deleteRelationship(InMemoryRepositoryFixture.userId,
+                                                           type.getTypeDefGUID(),
+                                                           type.getTypeDefName(),
+                                                           relationship.getGUID()).getStatus(),
+                     InstanceStatus.DELETED);
+    }
+
+
+    /**
+     * Two threads delete the two ends of a relationship at the same time.  Each delete also works through all of
+     * its entity's relationships, taking their locks, so the deletes must not hold their entity's lock while they do
+     * this.  A deadlock shows up as a timeout.
+     *
+     * @throws Exception the test failed
+     */
+    @Test public void testConcurrentDeleteOfBothEnds() throws Exception
+    {
+        InMemoryRepositoryFixture fixture            = new InMemoryRepositoryFixture();
+        OMRSMetadataCollection    metadataCollection = fixture.getMetadataCollection();
+        ExecutorService           executor           = Executors.newFixedThreadPool(2);
+
+        try
+        {
+            for (int round = 0; round < deleteRounds; round++)
+            {
+                EntityDetail       term          = fixture.addEntity("GlossaryTerm", "term" + round);
+                EntityDetail       synonym       = fixture.addEntity("GlossaryTerm", "synonym" + round);
+                List<Relationship> relationships = new ArrayList<>();
+
+                relationships.add(fixture.addRelationship("Synonym", term.getGUID(), synonym.getGUID()));
+
+                for (int i = 0; i < relationshipsPerEnd; i++)
+                {
+                    EntityDetail termNeighbour    = fixture.addEntity("GlossaryTerm", "term" + round + "-" + i);
+                    EntityDetail synonymNeighbour = fixture.addEntity("GlossaryTerm", "synonym" + round + "-" + i);
+
+                    relationships.add(fixture.addRelationship("Synonym", term.getGUID(), termNeighbour.getGUID()));
+                    relationships.add(fixture.addRelationship("Synonym", synonym.getGUID(), synonymNeighbour.getGUID()));
+                }
+
+                CyclicBarrier        barrier        = new CyclicBarrier(2);
+                Future<EntityDetail> deletedTerm    = executor.submit(() ->
+                                                                      {
+                                                                          barrier.await();
+                                                                          return deleteEntity(metadataCollection, term);
+                                                                      });
+                Future<EntityDetail> deletedSynonym = executor.submit(() ->
+                                                                      {
+                                                                          barrier.await();
+                                                                          return deleteEntity(metadataCollection, synonym);
+                                                                      });
+
+                assertEquals(deletedTerm.get(30, TimeUnit.SECONDS).getStatus(), InstanceStatus.DELETED);
+                assertEquals(deletedSynonym.get(30, TimeUnit.SECONDS).getStatus(), InstanceStatus.DELETED);
+
+                for (Relationship relationship : relationships)
+                {
+                    assertNull(metadataCollection.isRelationshipKnown(InMemoryRepositoryFixture.userId,
+                                                                      relationship.getGUID()));
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * The in-memory repository creates batches through the default implementation that adds each instance in turn.
+     *
+     * @throws Exception the test failed
+     */
+    @Test public void testAddEntitiesAndRelationships() throws Exception
+    {
+        InMemoryRepositoryFixture fixture            = new InMemoryRepositoryFixture();
+        OMRSMetadataCollection    metadataCollection = fixture.getMetadataCollection();
+        List<EntityDetail>        templates          = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            templates.add(fixture.getEntityTemplate("GlossaryTerm", "batchTerm" + i));
+        }
+
+        List<EntityDetail> entities = metadataCollection.addEntities(InMemoryRepositoryFixture.userId, templates);
+
+        assertEquals(entities.size(), 3);
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(fixture.getRepositoryHelper().getStringProperty(InMemoryRepositoryFixture.repositoryName,
+                                                                          "qualifiedName",
+                                                                          entities.get(i).getProperties(),
+                                                                          "test"),
+                         "batchTerm" + i);
+            assertEquals(fixture.findEntities("GlossaryTerm", "batchTerm" + i).size(), 1);
+        }
+
+        List<Relationship> relationships = metadataCollection.addRelationships(
+                InMemoryRepositoryFixture.userId,
+                Arrays.asList(fixture.getRelationshipTemplate("Synonym", entities.get(0).getGUID(), entities.get(1).getGUID()),
+                              fixture.getRelationshipTemplate("Synonym", entities.get(1).getGUID(), entities.get(2).getGUID())));
+
+        assertEquals(relationships.size(), 2);
+        assertEquals(relationships.get(0).getEntityOneProxy().getGUID(), entities.get(0).getGUID());
+        assertEquals(relationships.get(1).getEntityTwoProxy().getGUID(), entities.get(2).getGUID());
+
+        for (Relationship relationship : relationships)
+        {
+            assertNotNull(metadataCollection.isRelationshipKnown(InMemoryRepositoryFixture.userId,
+                                                                 relationship.getGUID()));
+        }
+    }
+
+
+    /**
+     * When one template in a batch is rejected, the instances before it remain and the ones after it are not created.
+     *
+     * @throws Exception the test failed
+     */
+    @Test public void testAddEntitiesPartialFailure() throws Exception
+    {
+        InMemoryRepositoryFixture fixture            = new InMemoryRepositoryFixture();
+        OMRSMetadataCollection    metadataCollection = fixture.getMetadataCollection();
+        EntityDetail              badTemplate        = fixture.getEntityTemplate("GlossaryTerm", "partialTerm1");
+        InstanceType              unknownType        = new InstanceType();
+
+        unknownType.setTypeDefGUID("unknownTypeGUID");
+        badTemplate.setType(unknownType);
+
+        try
+        {
+            metadataCollection.addEntities(InMemoryRepositoryFixture.userId,
+                                           Arrays.asList(fixture.getEntityTemplate("GlossaryTerm", "partialTerm0"),
+                                                         badTemplate,
+                                                         fixture.getEntityTemplate("GlossaryTerm", "partialTerm2")));
+            fail("An unknown type was accepted");
+        }
+        catch (TypeErrorException error)
+        {
+            // expected
+        }
+
+        assertEquals(fixture.findEntities("GlossaryTerm", "partialTerm0").size(), 1);
+        assertNull(fixture.findEntities("GlossaryTerm", "partialTerm2"));
+    }
+
+
+    /**
+     * A search for a type also returns the entities of its sub types.
+     *
+     * @throws Exception the test failed
+     */
+    @Test public void testFindEntitiesBySuperType() throws Exception
+    {
+        InMemoryRepositoryFixture fixture   = new InMemoryRepositoryFixture();
+        EntityDetail              dataStore = fixture.addEntity("DataStore", "subTypeDataStore");
+
+        fixture.addEntity("GlossaryTerm", "subTypeDataStore");
+
+        List<EntityDetail> assets = fixture.findEntities("Asset", "subTypeDataStore");
+
+        assertNotNull(assets);
+        assertEquals(assets.size(), 1);
+        assertEquals(assets.get(0).getGUID(), dataStore.getGUID());
+        assertEquals(assets.get(0).getType().getTypeDefName(), "DataStore");
+    }
+}
@@ -0,0 +1,205 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.mockito.ArgumentCaptor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventProcessor;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the LocalOMRSMetadataCollection sends a new instance event for every instance it creates in a batch,
+ * including the instances created before a failure part way through the batch.
+ */
+public class TestLocalOMRSMetadataCollection
+{
+    private static final String localServerName       = "testServer";
+    private static final String localServerType       = "testServerType";
+    private static final String localOrganizationName = "testOrganization";
+
+    private InMemoryRepositoryFixture    fixture;
+    private OMRSMetadataCollection       realMetadataCollection;
+    private OMRSRepositoryEventProcessor outboundEventProcessor;
+
+
+    @BeforeMethod
+    public void setUp() throws Exception
+    {
+        fixture                = new InMemoryRepositoryFixture();
+        realMetadataCollection = spy(fixture.getMetadataCollection());
+        outboundEventProcessor = mock(OMRSRepositoryEventProcessor.class);
+    }
+
+
+    private LocalOMRSMetadataCollection getLocalMetadataCollection()
+    {
+        return new LocalOMRSMetadataCollection(mock(LocalOMRSRepositoryConnector.class),
+                                               InMemoryRepositoryFixture.repositoryName,
+                                               fixture.getRepositoryHelper(),
+                                               fixture.getRepositoryValidator(),
+                                               InMemoryRepositoryFixture.metadataCollectionId,
+                                               localServerName,
+                                               localServerType,
+                                               localOrganizationName,
+                                               realMetadataCollection,
+                                               outboundEventProcessor,
+                                               mock(OMRSTypeDefManager.class));
+    }
+
+
+    /**
+     * Return the entities announced through the outbound event processor.
+     *
+     * @param expectedCount number of events that should have been sent
+     * @return announced entities in the order they were sent
+     */
+    private List<EntityDetail> getAnnouncedEntities(int expectedCount)
+    {
+        ArgumentCaptor<EntityDetail> captor = ArgumentCaptor.forClass(EntityDetail.class);
+
+        verify(outboundEventProcessor, times(expectedCount)).processNewEntityEvent(eq(InMemoryRepositoryFixture.repositoryName),
+                                                                                   eq(InMemoryRepositoryFixture.metadataCollectionId),
+                                                                                   eq(localServerName),
+                                                                                   eq(localServerType),
+                                                                                   eq(localOrganizationName),
+                                                                                   captor.capture());
+        return captor.getAllValues();
+    }
+
+
+    /**
+     * Return the relationships announced through the outbound event processor.
+     *
+     * @param expectedCount number of events that should have been sent
+     * @return announced relationships in the order they were sent
+     */
+    private List<Relationship> getAnnouncedRelationships(int expectedCount)
+    {
+        ArgumentCaptor<Relationship> captor = ArgumentCaptor.forClass(Relationship.class);
+
+        verify(outboundEventProcessor, times(expectedCount)).processNewRelationshipEvent(eq(InMemoryRepositoryFixture.repositoryName),
+                                                                                         eq(InMemoryRepositoryFixture.metadataCollectionId),
+                                                                                         eq(localServerName),
+                                                                                         eq(localServerType),
+                                                                                         eq(localOrganizationName),
+                                                                                         captor.capture());
+        return captor.getAllValues();
+    }
+
+
+    @Test public void testAddEntitiesSendsEvents() throws Exception
+    {
+        List<EntityDetail> templates = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            templates.add(fixture.getEntityTemplate("GlossaryTerm", "localTerm" + i));
+        }
+
+        List<EntityDetail> entities  = getLocalMetadataCollection().addEntities(InMemoryRepositoryFixture.userId,
+                                                                                templates);
+        List<EntityDetail> announced = getAnnouncedEntities(3);
+
+        assertEquals(entities.size(), 3);
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertEquals(announced.get(i).getGUID(), entities.get(i).getGUID());
+            assertEquals(entities.get(i).getMetadataCollectionId(), InMemoryRepositoryFixture.metadataCollectionId);
+        }
+    }
+
+
+    @Test public void testAddEntitiesPartialFailure() throws Exception
+    {
+        final String methodName = "addEntity";
+
+        /*
+         * The real repository fails to create the second entity.  The templates are all valid so the local
+         * collection has already started creating entities when the failure happens.
+         */
+        doCallRealMethod().doThrow(new RepositoryErrorException(500,
+                                                                this.getClass().getName(),
+                                                                methodName,
+                                                                "Test failure",
+                                                                "None",
+                                                                "None"))
+                          .doCallRealMethod()
+                          .when(realMetadataCollection).addEntity(anyString(), anyString(), any(), any(), any());
+
+        try
+        {
+            getLocalMetadataCollection().addEntities(InMemoryRepositoryFixture.userId,
+                                                     Arrays.asList(fixture.getEntityTemplate("GlossaryTerm", "localTerm0"),
+                                                                   fixture.getEntityTemplate("GlossaryTerm", "localTerm1"),
+                                                                   fixture.getEntityTemplate("GlossaryTerm", "localTerm2")));
+            fail("The failure of the real repository was not returned");
+        }
+        catch (RepositoryErrorException error)
+        {
+            // expected
+        }
+
+        List<EntityDetail> created = fixture.findEntities("GlossaryTerm", "localTerm0");
+
+        assertEquals(created.size(), 1);
+        assertEquals(getAnnouncedEntities(1).get(0).getGUID(), created.get(0).getGUID());
+        assertNull(fixture.findEntities("GlossaryTerm", "localTerm1"));
+        assertNull(fixture.findEntities("GlossaryTerm", "localTerm2"));
+    }
+
+
+    @Test public void testAddRelationshipsPartialFailure() throws Exception
+    {
+        EntityDetail term1 = fixture.addEntity("GlossaryTerm", "relatedTerm1");
+        EntityDetail term2 = fixture.addEntity("GlossaryTerm", "relatedTerm2");
+
+        /*
+         * The second relationship refers to an entity that does not exist, which only the real repository detects.
+         */
+        try
+        {
+            getLocalMetadataCollection().addRelationships(InMemoryRepositoryFixture.userId,
+                                                          Arrays.asList(fixture.getRelationshipTemplate("Synonym",
+                                                                                                        term1.getGUID(),
+                                                                                                        term2.getGUID()),
+                                                                        fixture.getRelationshipTemplate("Synonym",
+                                                                                                        term1.getGUID(),
+                                                                                                        "unknownEntityGUID")));
+            fail("A relationship to an unknown entity was created");
+        }
+        catch (EntityNotKnownException error)
+        {
+            // expected
+        }
+
+        Relationship announced = getAnnouncedRelationships(1).get(0);
+
+        assertEquals(announced.getEntityOneProxy().getGUID(), term1.getGUID());
+        assertEquals(announced.getEntityTwoProxy().getGUID(), term2.getGUID());
+        assertEquals(realMetadataCollection.getRelationship(InMemoryRepositoryFixture.userId,
+                                                            announced.getGUID()).getGUID(),
+                     announced.getGUID());
+    }
+}
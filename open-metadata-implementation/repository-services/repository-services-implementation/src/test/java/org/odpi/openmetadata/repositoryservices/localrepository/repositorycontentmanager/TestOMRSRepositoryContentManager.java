@@ -0,0 +1,210 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Verify that the cached type hierarchy in OMRSRepositoryContentManager gives the same answers as walking the
+ * TypeDefs and is rebuilt when the TypeDefs change.
+ */
+public class TestOMRSRepositoryContentManager
+{
+    private static final String sourceName = "TestSource";
+    private static final String methodName = "TestMethod";
+
+    private OMRSRepositoryContentManager contentManager;
+
+
+    @BeforeMethod
+    public void loadOpenMetadataTypes()
+    {
+        OpenMetadataArchiveTypeStore typeStore = new OpenMetadataTypesArchive().getOpenMetadataArchive()
+                                                                               .getArchiveTypeStore();
+
+        contentManager = new OMRSRepositoryContentManager();
+
+        for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs())
+        {
+            contentManager.addAttributeTypeDef(sourceName, attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : typeStore.getNewTypeDefs())
+        {
+            contentManager.addTypeDef(sourceName, typeDef);
+        }
+    }
+
+
+    private TypeDef addSubType(String superTypeName, String typeName, String propertyName)
+    {
+        TypeDef          superType = contentManager.getTypeDefByName(sourceName, superTypeName);
+        EntityDef        subType   = new EntityDef(TypeDefCategory.ENTITY_DEF, typeName + "GUID", typeName, 1L, "1.0");
+        TypeDefAttribute property  = new TypeDefAttribute();
+
+        property.setAttributeName(propertyName);
+        subType.setSuperType(new TypeDefLink(superType.getGUID(), superType.getName()));
+        subType.setPropertiesDefinition(Collections.singletonList(property));
+
+        contentManager.addTypeDef(sourceName, subType);
+
+        return subType;
+    }
+
+
+    @Test
+    public void testInstanceTypeMatchesTypeDefs() throws Exception
+    {
+        InstanceType      instanceType  = contentManager.getInstanceType(sourceName, TypeDefCategory.ENTITY_DEF,
+                                                                          "GlossaryTerm", methodName);
+        List<String>      superTypes    = new ArrayList<>();
+        List<String>      propertyNames = new ArrayList<>();
+        TypeDef           typeDef       = contentManager.getTypeDefByName(sourceName, "GlossaryTerm");
+
+        while (typeDef != null)
+        {
+            if (typeDef.getPropertiesDefinition() != null)
+            {
+                List<String> typeDefPropertyNames = new ArrayList<>();
+
+                for (TypeDefAttribute attribute : typeDef.getPropertiesDefinition())
+                {
+                    typeDefPropertyNames.add(attribute.getAttributeName());
+                }
+
+                propertyNames.addAll(0, typeDefPropertyNames);
+            }
+
+            if (typeDef.getSuperType() == null)
+            {
+                typeDef = null;
+            }
+            else
+            {
+                superTypes.add(typeDef.getSuperType().getName());
+                typeDef = contentManager.getTypeDefByName(sourceName, typeDef.getSuperType().getName());
+            }
+        }
+
+        List<String> instanceSuperTypes = new ArrayList<>();
+
+        for (TypeDefLink superType : instanceType.getTypeDefSuperTypes())
+        {
+            instanceSuperTypes.add(superType.getName());
+        }
+
+        assertFalse(superTypes.isEmpty());
+        assertEquals(instanceSuperTypes, superTypes);
+        assertEquals(instanceType.getValidInstanceProperties(), propertyNames);
+    }
+
+
+    @Test
+    public void testAllPropertiesLeavesTypeDefUnchanged()
+    {
+        TypeDef typeDef           = contentManager.getTypeDefByName(sourceName, "GlossaryTerm");
+        int     ownPropertyCount  = typeDef.getPropertiesDefinition().size();
+
+        List<TypeDefAttribute> firstProperties  = contentManager.getAllPropertiesForTypeDef(sourceName, typeDef, methodName);
+        List<TypeDefAttribute> secondProperties = contentManager.getAllPropertiesForTypeDef(sourceName, typeDef, methodName);
+
+        assertEquals(secondProperties, firstProperties);
+        assertTrue(firstProperties.size() > ownPropertyCount);
+        assertEquals(typeDef.getPropertiesDefinition().size(), ownPropertyCount);
+        assertNotNull(contentManager.getAllPropertiesByNameForTypeDef(sourceName, typeDef, methodName).get("qualifiedName"));
+    }
+
+
+    @Test
+    public void testCacheRebuiltForNewType() throws Exception
+    {
+        OMRSRepositoryContentValidator validator = new OMRSRepositoryContentValidator(contentManager);
+
+        contentManager.getInstanceType(sourceName, TypeDefCategory.ENTITY_DEF, "GlossaryTerm", methodName);
+
+        addSubType("GlossaryTerm", "TestTerm", "testProperty");
+
+        InstanceType instanceType = contentManager.getInstanceType(sourceName, TypeDefCategory.ENTITY_DEF,
+                                                                   "TestTerm", methodName);
+        EntityDetail entity       = new EntityDetail();
+
+        entity.setType(instanceType);
+
+        assertEquals(instanceType.getTypeDefSuperTypes().get(0).getName(), "GlossaryTerm");
+        assertTrue(instanceType.getValidInstanceProperties().contains("testProperty"));
+        assertTrue(instanceType.getValidInstanceProperties().contains("qualifiedName"));
+        assertTrue(validator.isATypeOf(sourceName, entity, "Referenceable", methodName));
+        assertFalse(validator.isATypeOf(sourceName, entity, "Asset", methodName));
+    }
+
+
+    @Test
+    public void testTypeAndSubTypeGUIDs() throws Exception
+    {
+        OMRSRepositoryContentValidator validator = new OMRSRepositoryContentValidator(contentManager);
+
+        TypeDef asset     = contentManager.getTypeDefByName(sourceName, "Asset");
+        TypeDef dataStore = contentManager.getTypeDefByName(sourceName, "DataStore");
+        TypeDef term      = contentManager.getTypeDefByName(sourceName, "GlossaryTerm");
+
+        Set<String> assetTypes = contentManager.getTypeAndSubTypeGUIDs(sourceName, asset.getGUID());
+
+        assertTrue(assetTypes.contains(asset.getGUID()));
+        assertTrue(assetTypes.contains(dataStore.getGUID()));
+        assertFalse(assetTypes.contains(term.getGUID()));
+        assertEquals(contentManager.getTypeAndSubTypeGUIDs(sourceName, "UnknownGUID"), Collections.singleton("UnknownGUID"));
+
+        TypeDef testAsset = addSubType("DataStore", "TestStore", "testProperty");
+
+        assertTrue(contentManager.getTypeAndSubTypeGUIDs(sourceName, asset.getGUID()).contains(testAsset.getGUID()));
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setType(contentManager.getInstanceType(sourceName, TypeDefCategory.ENTITY_DEF, "TestStore", methodName));
+
+        assertTrue(validator.verifyInstanceTypeOrSubType(asset.getGUID(), entity));
+        assertTrue(validator.verifyInstanceTypeOrSubType(testAsset.getGUID(), entity));
+        assertTrue(validator.verifyInstanceTypeOrSubType(null, entity));
+        assertFalse(validator.verifyInstanceTypeOrSubType(term.getGUID(), entity));
+        assertFalse(validator.verifyInstanceType(asset.getGUID(), entity));
+    }
+
+
+    @Test
+    public void testClassificationValidForSubType()
+    {
+        ClassificationDef classificationDef = new ClassificationDef(TypeDefCategory.CLASSIFICATION_DEF,
+                                                                    "TestClassificationGUID",
+                                                                    "TestClassification",
+                                                                    1L,
+                                                                    "1.0");
+        TypeDef           glossaryTerm      = contentManager.getTypeDefByName(sourceName, "GlossaryTerm");
+
+        classificationDef.setValidEntityDefs(Collections.singletonList(new TypeDefLink(glossaryTerm.getGUID(),
+                                                                                       glossaryTerm.getName())));
+        contentManager.addTypeDef(sourceName, classificationDef);
+        addSubType("GlossaryTerm", "TestTerm", "testProperty");
+
+        assertTrue(contentManager.isValidClassificationForEntity(sourceName, "TestClassification", "GlossaryTerm", methodName));
+        assertTrue(contentManager.isValidClassificationForEntity(sourceName, "TestClassification", "TestTerm", methodName));
+        assertFalse(contentManager.isValidClassificationForEntity(sourceName, "TestClassification", "Asset", methodName));
+    }
+}
@@ -0,0 +1,182 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the property matching of OMRSRepositoryContentValidator and that it allocates little memory while
+ * matching a large number of instances.  The allocation is only checked on JVMs that report it.
+ */
+public class TestOMRSRepositoryContentValidator
+{
+    private static final int scanEntityCount   = 100000;
+    private static final int maxBytesPerEntity = 200;
+
+
+    private PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+
+
+    private EntityDetail getEntity(int index)
+    {
+        EntityDetail       entity     = new EntityDetail();
+        InstanceType       type       = new InstanceType();
+        InstanceProperties properties = new InstanceProperties();
+
+        type.setTypeDefName("Asset");
+        type.setTypeDefGUID("896d14c2-7522-4f6c-8519-757711943fe6");
+
+        properties.setProperty("qualifiedName", getStringValue("asset" + index));
+        properties.setProperty("name", getStringValue("Asset " + (index % 10)));
+        properties.setProperty("owner", getStringValue("owner" + (index % 3)));
+        properties.setProperty("description", getStringValue("Test asset"));
+
+        entity.setGUID("guid" + index);
+        entity.setType(type);
+        entity.setCreatedBy("user" + (index % 2));
+        entity.setCreateTime(new Date(index));
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    @Test public void testCountMatchingPropertyValues()
+    {
+        OMRSRepositoryContentValidator validator       = new OMRSRepositoryContentValidator();
+        EntityDetail                   entity          = getEntity(13);
+        InstanceProperties             matchProperties = new InstanceProperties();
+
+        matchProperties.setProperty("name", getStringValue("Asset 3"));
+        matchProperties.setProperty("owner", getStringValue("owner0"));
+        matchProperties.setProperty("createdBy", getStringValue("user1"));
+        matchProperties.setProperty("typeName", getStringValue("Process"));
+        matchProperties.setProperty("missing", getStringValue("Asset 3"));
+
+        assertEquals(validator.countMatchingPropertyValues(matchProperties, entity.getProperties()), 1);
+        assertEquals(validator.countMatchingPropertyValues(matchProperties, entity, null), 1);
+        assertEquals(validator.countMatchingPropertyValues(matchProperties, new InstanceProperties()), 0);
+        assertEquals(validator.countMatchingPropertyValues(null, entity.getProperties()), 0);
+
+        assertTrue(validator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                  null,
+                                                                  entity,
+                                                                  entity.getProperties(),
+                                                                  MatchCriteria.ANY));
+        assertFalse(validator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                   null,
+                                                                   entity,
+                                                                   entity.getProperties(),
+                                                                   MatchCriteria.ALL));
+
+        matchProperties.setProperty("owner", getStringValue("owner1"));
+        matchProperties.setProperty("typeName", getStringValue("Asset"));
+        matchProperties.setProperty("missing", null);
+
+        assertTrue(validator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                  null,
+                                                                  entity,
+                                                                  entity.getProperties(),
+                                                                  MatchCriteria.ALL));
+    }
+
+
+    @Test public void testMatchingAllocation()
+    {
+        OMRSRepositoryContentValidator validator       = new OMRSRepositoryContentValidator();
+        InstanceProperties             matchProperties = new InstanceProperties();
+        List<EntityDetail>             entities        = new ArrayList<>();
+        List<InstanceProperties>       properties      = new ArrayList<>();
+
+        matchProperties.setProperty("name", getStringValue("Asset 3"));
+        matchProperties.setProperty("owner", getStringValue("owner1"));
+        matchProperties.setProperty("createdBy", getStringValue("user1"));
+
+        for (int i = 0; i < scanEntityCount; i++)
+        {
+            EntityDetail entity = getEntity(i);
+
+            entities.add(entity);
+            properties.add(entity.getProperties());
+        }
+
+        ThreadMXBean threadMXBean   = ManagementFactory.getThreadMXBean();
+        long         leastAllocated = Long.MAX_VALUE;
+
+        /*
+         * The least allocation of several runs is checked so that the compiler has had a chance to optimize the
+         * matching.
+         */
+        for (int run = 0; run < 3; run++)
+        {
+            long startAllocated = getAllocatedBytes(threadMXBean);
+            int  matches        = 0;
+
+            for (int i = 0; i < scanEntityCount; i++)
+            {
+                if (validator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                   null,
+                                                                   entities.get(i),
+                                                                   properties.get(i),
+                                                                   MatchCriteria.ALL))
+                {
+                    matches++;
+                }
+            }
+
+            if (startAllocated >= 0)
+            {
+                leastAllocated = Math.min(leastAllocated, getAllocatedBytes(threadMXBean) - startAllocated);
+            }
+
+            assertEquals(matches, scanEntityCount / 30 + ((scanEntityCount % 30 > 13) ? 1 : 0));
+        }
+
+        if (leastAllocated != Long.MAX_VALUE)
+        {
+            assertTrue(leastAllocated / scanEntityCount < maxBytesPerEntity,
+                       "Matching allocated " + (leastAllocated / scanEntityCount) + " bytes per entity");
+        }
+    }
+
+
+    /**
+     * Return the bytes allocated by the current thread, or -1 if the JVM does not report it.
+     *
+     * @param threadMXBean thread management bean
+     * @return byte count
+     */
+    private long getAllocatedBytes(ThreadMXBean threadMXBean)
+    {
+        if ((threadMXBean instanceof com.sun.management.ThreadMXBean) &&
+            (((com.sun.management.ThreadMXBean)threadMXBean).isThreadAllocatedMemoryEnabled()))
+        {
+            return ((com.sun.management.ThreadMXBean)threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return -1;
+    }
+}
@@ -726,6 +726,28 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Return the current version of each of the requested entities.  The entities are returned in the order
+     * of the requested GUIDs.  GUIDs for entities that are not known are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of entities or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/entities/by-guids")
+
+    public EntityListResponse getEntitiesByGUID(@PathVariable String          userId,
+                                                @RequestBody  GUIDListRequest guids)
+    {
+        return restAPI.getEntitiesByGUID(userId, guids);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1054,6 +1076,28 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Return the current version of each of the requested relationships.  The relationships are returned in
+     * the order of the requested GUIDs.  GUIDs for relationships that are not known are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/relationships/by-guids")
+
+    public RelationshipListResponse getRelationshipsByGUID(@PathVariable String          userId,
+                                                           @RequestBody  GUIDListRequest guids)
+    {
+        return restAPI.getRelationshipsByGUID(userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -1381,6 +1425,36 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Create a number of new entities.  Each entity in the request is a template that supplies the type,
+     * initial properties, initial classifications and initial status of a new entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new entities.
+     * @return EntityListResponse:
+     * list of the new entities or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the entity's type or
+     * ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for the entity type or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/entities")
+
+    public EntityListResponse addEntities(@PathVariable  String                userId,
+                                          @RequestBody   InstanceGraphRequest  requestBody)
+    {
+        return restAPI.addEntities(userId, requestBody);
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -1679,6 +1753,35 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Create a number of new relationships.  Each relationship in the request is a template that supplies the type,
+     * initial properties, the guids of the entities at each end and initial status of a new relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param requestBody templates for the new relationships.
+     * @return RelationshipListResponse:
+     * list of the new relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * TypeErrorException one of the requested types is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection or
+     * PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for the relationship's type or
+     * EntityNotKnownException one of the requested entities is not known in the metadata collection or
+     * StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/relationships")
+
+    public RelationshipListResponse addRelationships(@PathVariable  String                userId,
+                                                     @RequestBody   InstanceGraphRequest  requestBody)
+    {
+        return restAPI.addRelationships(userId, requestBody);
+    }
+
+
     /**
      * Update the status of a specific relationship.
      *